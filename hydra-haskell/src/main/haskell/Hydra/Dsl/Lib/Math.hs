@@ -20,8 +20,14 @@ mul = Datum $ Terms.primitive _math_mul
 neg :: Datum (Int -> Int)
 neg = Datum $ Terms.primitive _math_neg
 
+product :: Datum ([Int] -> Int)
+product = Datum $ Terms.primitive _math_product
+
 rem :: Datum (Int -> Int -> Int)
 rem = Datum $ Terms.primitive _math_rem
 
 sub :: Datum (Int -> Int -> Int)
 sub = Datum $ Terms.primitive _math_sub
+
+sum :: Datum ([Int] -> Int)
+sum = Datum $ Terms.primitive _math_sum
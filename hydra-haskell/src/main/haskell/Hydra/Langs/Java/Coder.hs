@@ -166,9 +166,16 @@ declarationForRecordType isInner aliases tparams elName fields = do
     tn <- if isInner then pure [] else do
       d <- typeNameDecl aliases elName
       return [d]
-    let bodyDecls = tn ++ memberVars' ++ (noComment <$> [cons, equalsMethod, hashCodeMethod] ++ withMethods)
+    let bodyDecls = tn ++ memberVars' ++ (noComment <$> hashCodeVar ++ [cons, equalsMethod, hashCodeMethod] ++ withMethods)
     return $ javaClassDeclaration aliases tparams elName classModsPublic Nothing bodyDecls
   where
+    -- Hash codes are memoized, so that hashing a term or type does not repeatedly traverse its subterms
+    hashCodeVar = if L.null fields
+      then []
+      else [javaMemberField [Java.FieldModifierPrivate] javaIntType $ javaVariableDeclarator hashCodeId Nothing]
+
+    hashCodeId = Java.Identifier hashCodeFieldName
+
     constructor = do
       params <- CM.mapM (fieldTypeToFormalParam aliases) fields
       let stmts = Java.BlockStatementStatement . toAssignStmt . fieldTypeName <$> fields
@@ -194,7 +201,8 @@ declarationForRecordType isInner aliases tparams elName fields = do
       return $ methodDeclaration mods [] anns methodName [param] result (Just [returnStmt])
 
     equalsMethod = methodDeclaration mods [] anns equalsMethodName [param] result $
-        Just [instanceOfStmt,
+        Just [identityStmt,
+          instanceOfStmt,
           castStmt,
           returnAllFieldsEqual]
       where
@@ -204,6 +212,16 @@ declarationForRecordType isInner aliases tparams elName fields = do
         result = javaTypeToJavaResult javaBooleanType
         tmpName = "o"
 
+        identityStmt = Java.BlockStatementStatement $ Java.StatementIfThen $
+            Java.IfThenStatement cond returnTrue
+          where
+            cond = javaEqualityExpressionToJavaExpression $ Java.EqualityExpressionEqual $
+              Java.EqualityExpression_Binary (Java.EqualityExpressionUnary self) other
+            self = javaUnaryExpressionToJavaRelationalExpression $ javaPrimaryToJavaUnaryExpression $
+              Java.PrimaryNoNewArray Java.PrimaryNoNewArrayThis
+            other = javaIdentifierToJavaRelationalExpression $ javaIdentifier otherInstanceName
+            returnTrue = javaReturnStatement $ Just $ javaBooleanExpression True
+
         instanceOfStmt = Java.BlockStatementStatement $ Java.StatementIfThen $
             Java.IfThenStatement cond returnFalse
           where
@@ -229,8 +247,17 @@ declarationForRecordType isInner aliases tparams elName fields = do
         returnAllFieldsEqual = Java.BlockStatementStatement $ javaReturnStatement $ Just $ if L.null fields
             then javaBooleanExpression True
             else javaConditionalAndExpressionToJavaExpression $
-              Java.ConditionalAndExpression (eqClause . fieldTypeName <$> fields)
+              Java.ConditionalAndExpression (hashClause : (eqClause . fieldTypeName <$> fields))
           where
+            -- Unequal hash codes rule out equality without a traversal of the fields
+            hashClause = javaEqualityExpressionToJavaInclusiveOrExpression $ Java.EqualityExpressionEqual $
+                Java.EqualityExpression_Binary lhs rhs
+              where
+                lhs = javaPostfixExpressionToJavaEqualityExpression $ javaMethodInvocationToJavaPostfixExpression $
+                  methodInvocation Nothing (Java.Identifier hashCodeMethodName) []
+                rhs = javaPostfixExpressionToJavaRelationalExpression $ javaMethodInvocationToJavaPostfixExpression $
+                  methodInvocationStatic (javaIdentifier tmpName) (Java.Identifier hashCodeMethodName) []
+
             eqClause (FieldName fname) = javaPostfixExpressionToJavaInclusiveOrExpression $
                 javaMethodInvocationToJavaPostfixExpression $ Java.MethodInvocation header [arg]
               where
@@ -240,20 +267,42 @@ declarationForRecordType isInner aliases tparams elName fields = do
                 var = Java.MethodInvocation_VariantExpression $ Java.ExpressionName Nothing $ Java.Identifier $
                   sanitizeJavaName fname
 
-    hashCodeMethod = methodDeclaration mods [] anns hashCodeMethodName [] result $ Just [returnSum]
+    hashCodeMethod = methodDeclaration mods [] anns hashCodeMethodName [] result $ Just $ if L.null fields
+        then [Java.BlockStatementStatement returnZero]
+        else [readStmt, memoizeStmt, Java.BlockStatementStatement $ javaReturnStatement $ Just $
+          javaIdentifierToJavaExpression localId]
       where
         anns = [overrideAnnotation]
         mods = [Java.MethodModifierPublic]
         result = javaTypeToJavaResult javaIntType
 
-        returnSum = Java.BlockStatementStatement $ if L.null fields
-          then returnZero
-          else javaReturnStatement $ Just $
-            javaAdditiveExpressionToJavaExpression $ addExpressions $
-              L.zipWith multPair multipliers (fieldTypeName <$> fields)
-          where
-            returnZero = javaReturnStatement $ Just $ javaIntExpression 0
+        returnZero = javaReturnStatement $ Just $ javaIntExpression 0
 
+        -- The memoized hash code is read into a local variable once, and written once, so that the method returns
+        -- the same value even if another thread computes the hash code at the same time
+        localId = Java.Identifier hashCodeMethodName
+
+        readStmt = variableDeclarationStatement aliases javaIntType localId $ javaIdentifierToJavaExpression hashCodeId
+
+        -- Zero marks a hash code which has not been computed yet, so a computed hash code of zero is stored as one
+        memoizeStmt = Java.BlockStatementStatement $ Java.StatementIfThen $ Java.IfThenStatement (isZero localId) $
+            Java.StatementWithoutTrailing $ Java.StatementWithoutTrailingSubstatementBlock $ Java.Block $
+              Java.BlockStatementStatement <$> [
+                assign localId sumOfFields,
+                Java.StatementIfThen $ Java.IfThenStatement (isZero localId) $ assign localId $ javaIntExpression 1,
+                assign hashCodeId $ javaIdentifierToJavaExpression localId]
+
+        isZero id = javaEqualityExpressionToJavaExpression $ Java.EqualityExpressionEqual $
+          Java.EqualityExpression_Binary
+            (Java.EqualityExpressionUnary $ javaIdentifierToJavaRelationalExpression id)
+            (javaUnaryExpressionToJavaRelationalExpression $ javaPrimaryToJavaUnaryExpression $
+              javaLiteralToJavaPrimary $ javaInt 0)
+
+        assign id = javaAssignmentStatement (Java.LeftHandSideExpressionName $ javaIdentifierToJavaExpressionName id)
+
+        sumOfFields = javaAdditiveExpressionToJavaExpression $ addExpressions $
+            L.zipWith multPair multipliers (fieldTypeName <$> fields)
+          where
             multPair :: Int -> FieldName -> Java.MultiplicativeExpression
             multPair i (FieldName fname) = Java.MultiplicativeExpressionTimes $
                 Java.MultiplicativeExpression_Binary lhs rhs
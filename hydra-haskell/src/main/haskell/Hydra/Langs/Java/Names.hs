@@ -9,6 +9,7 @@ acceptMethodName = "accept" :: String
 applyMethodName = "apply" :: String
 equalsMethodName = "equals" :: String
 getMethodName = "get" :: String
+hashCodeFieldName = "hashCode_" :: String
 hashCodeMethodName = "hashCode" :: String
 instanceName = "instance" :: String
 otherInstanceName = "other" :: String
@@ -371,9 +371,13 @@ writeIdentifier (Java.Identifier s) = cst s
 
 writeIfThenStatement :: Java.IfThenStatement -> CT.Expr
 writeIfThenStatement (Java.IfThenStatement cond thn) = spaceSep [
-  cst "if",
-  parenList False [writeExpression cond],
-  writeBlock (Java.Block [Java.BlockStatementStatement thn])]
+    cst "if",
+    parenList False [writeExpression cond],
+    writeBlock block]
+  where
+    block = case thn of
+      Java.StatementWithoutTrailing (Java.StatementWithoutTrailingSubstatementBlock b) -> b
+      _ -> Java.Block [Java.BlockStatementStatement thn]
 
 writeIfThenElseStatement :: Java.IfThenElseStatement -> CT.Expr
 writeIfThenElseStatement _ = cst "TODO:IfThenElseStatement"
@@ -133,6 +133,10 @@ javaDeclName = Java.TypeIdentifier . javaVariableName
 javaEmptyStatement :: Java.Statement
 javaEmptyStatement = Java.StatementWithoutTrailing $ Java.StatementWithoutTrailingSubstatementEmpty Java.EmptyStatement
 
+javaEqualityExpressionToJavaExpression :: Java.EqualityExpression -> Java.Expression
+javaEqualityExpressionToJavaExpression eq = javaConditionalAndExpressionToJavaExpression $
+  Java.ConditionalAndExpression [javaEqualityExpressionToJavaInclusiveOrExpression eq]
+
 javaEqualityExpressionToJavaInclusiveOrExpression :: Java.EqualityExpression -> Java.InclusiveOrExpression
 javaEqualityExpressionToJavaInclusiveOrExpression eq = Java.InclusiveOrExpression [
   Java.ExclusiveOrExpression [Java.AndExpression [eq]]]
@@ -15,6 +15,9 @@ sub x y = x - y
 mul :: Int -> Int -> Int
 mul x y = x * y
 
+product :: [Int] -> Int
+product = Prelude.product
+
 div :: Int -> Int -> Int
 div = Prelude.div
 
@@ -23,3 +26,6 @@ mod = Prelude.mod
 
 rem :: Int -> Int -> Int
 rem = Prelude.rem
+
+sum :: [Int] -> Int
+sum = Prelude.sum
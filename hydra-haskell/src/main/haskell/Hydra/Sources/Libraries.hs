@@ -141,8 +141,10 @@ _math_div = qname _hydra_lib_math "div" :: Name
 _math_mod = qname _hydra_lib_math "mod" :: Name
 _math_mul = qname _hydra_lib_math "mul" :: Name
 _math_neg = qname _hydra_lib_math "neg" :: Name
+_math_product = qname _hydra_lib_math "product" :: Name
 _math_rem = qname _hydra_lib_math "rem" :: Name
 _math_sub = qname _hydra_lib_math "sub" :: Name
+_math_sum = qname _hydra_lib_math "sum" :: Name
 
 _hydra_lib_optionals :: Namespace
 _hydra_lib_optionals = Namespace "hydra/lib/optionals"
@@ -331,8 +333,10 @@ hydraLibMathInt32Primitives = [
   prim2 _math_mod int32 int32 int32 Math.mod,
   prim2 _math_mul int32 int32 int32 Math.mul,
   prim1 _math_neg int32 int32 Math.neg,
+  prim1 _math_product (list int32) int32 Math.product,
   prim2 _math_rem int32 int32 int32 Math.rem,
-  prim2 _math_sub int32 int32 int32 Math.sub]
+  prim2 _math_sub int32 int32 int32 Math.sub,
+  prim1 _math_sum (list int32) int32 Math.sum]
 
 hydraLibOptionalsPrimitives :: (Ord a, Show a) => [Primitive a]
 hydraLibOptionalsPrimitives = [
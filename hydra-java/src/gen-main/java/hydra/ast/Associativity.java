@@ -51,6 +51,9 @@ public abstract class Associativity {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof None)) {
         return false;
       }
@@ -76,6 +79,9 @@ public abstract class Associativity {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Left)) {
         return false;
       }
@@ -101,6 +107,9 @@ public abstract class Associativity {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Right)) {
         return false;
       }
@@ -126,6 +135,9 @@ public abstract class Associativity {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Both)) {
         return false;
       }
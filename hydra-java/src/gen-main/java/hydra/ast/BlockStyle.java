@@ -12,6 +12,8 @@ public class BlockStyle {
   
   public final Boolean newlineAfterContent;
   
+  private int hashCode_;
+  
   public BlockStyle (java.util.Optional<String> indent, Boolean newlineBeforeContent, Boolean newlineAfterContent) {
     this.indent = indent;
     this.newlineBeforeContent = newlineBeforeContent;
@@ -20,16 +22,27 @@ public class BlockStyle {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof BlockStyle)) {
       return false;
     }
     BlockStyle o = (BlockStyle) (other);
-    return indent.equals(o.indent) && newlineBeforeContent.equals(o.newlineBeforeContent) && newlineAfterContent.equals(o.newlineAfterContent);
+    return hashCode() == o.hashCode() && indent.equals(o.indent) && newlineBeforeContent.equals(o.newlineBeforeContent) && newlineAfterContent.equals(o.newlineAfterContent);
   }
   
   @Override
   public int hashCode() {
-    return 2 * indent.hashCode() + 3 * newlineBeforeContent.hashCode() + 5 * newlineAfterContent.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * indent.hashCode() + 3 * newlineBeforeContent.hashCode() + 5 * newlineAfterContent.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public BlockStyle withIndent(java.util.Optional<String> indent) {
@@ -12,6 +12,8 @@ public class BracketExpr {
   
   public final hydra.ast.BlockStyle style;
   
+  private int hashCode_;
+  
   public BracketExpr (hydra.ast.Brackets brackets, hydra.ast.Expr enclosed, hydra.ast.BlockStyle style) {
     this.brackets = brackets;
     this.enclosed = enclosed;
@@ -20,16 +22,27 @@ public class BracketExpr {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof BracketExpr)) {
       return false;
     }
     BracketExpr o = (BracketExpr) (other);
-    return brackets.equals(o.brackets) && enclosed.equals(o.enclosed) && style.equals(o.style);
+    return hashCode() == o.hashCode() && brackets.equals(o.brackets) && enclosed.equals(o.enclosed) && style.equals(o.style);
   }
   
   @Override
   public int hashCode() {
-    return 2 * brackets.hashCode() + 3 * enclosed.hashCode() + 5 * style.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * brackets.hashCode() + 3 * enclosed.hashCode() + 5 * style.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public BracketExpr withBrackets(hydra.ast.Brackets brackets) {
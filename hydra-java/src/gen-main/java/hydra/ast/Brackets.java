@@ -10,6 +10,8 @@ public class Brackets {
   
   public final hydra.ast.Symbol close;
   
+  private int hashCode_;
+  
   public Brackets (hydra.ast.Symbol open, hydra.ast.Symbol close) {
     this.open = open;
     this.close = close;
@@ -17,16 +19,27 @@ public class Brackets {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Brackets)) {
       return false;
     }
     Brackets o = (Brackets) (other);
-    return open.equals(o.open) && close.equals(o.close);
+    return hashCode() == o.hashCode() && open.equals(o.open) && close.equals(o.close);
   }
   
   @Override
   public int hashCode() {
-    return 2 * open.hashCode() + 3 * close.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * open.hashCode() + 3 * close.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Brackets withOpen(hydra.ast.Symbol open) {
@@ -47,22 +47,35 @@ public abstract class Expr {
   public static final class Const extends hydra.ast.Expr {
     public final hydra.ast.Symbol value;
     
+    private int hashCode_;
+    
     public Const (hydra.ast.Symbol value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Const)) {
         return false;
       }
       Const o = (Const) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -74,22 +87,35 @@ public abstract class Expr {
   public static final class Indent extends hydra.ast.Expr {
     public final hydra.ast.IndentedExpression value;
     
+    private int hashCode_;
+    
     public Indent (hydra.ast.IndentedExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Indent)) {
         return false;
       }
       Indent o = (Indent) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -101,22 +127,35 @@ public abstract class Expr {
   public static final class Op extends hydra.ast.Expr {
     public final hydra.ast.OpExpr value;
     
+    private int hashCode_;
+    
     public Op (hydra.ast.OpExpr value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Op)) {
         return false;
       }
       Op o = (Op) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -128,22 +167,35 @@ public abstract class Expr {
   public static final class Brackets extends hydra.ast.Expr {
     public final hydra.ast.BracketExpr value;
     
+    private int hashCode_;
+    
     public Brackets (hydra.ast.BracketExpr value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Brackets)) {
         return false;
       }
       Brackets o = (Brackets) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
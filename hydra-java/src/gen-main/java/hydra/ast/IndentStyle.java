@@ -35,22 +35,35 @@ public abstract class IndentStyle {
   public static final class AllLines extends hydra.ast.IndentStyle {
     public final String value;
     
+    private int hashCode_;
+    
     public AllLines (String value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof AllLines)) {
         return false;
       }
       AllLines o = (AllLines) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -62,22 +75,35 @@ public abstract class IndentStyle {
   public static final class SubsequentLines extends hydra.ast.IndentStyle {
     public final String value;
     
+    private int hashCode_;
+    
     public SubsequentLines (String value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof SubsequentLines)) {
         return false;
       }
       SubsequentLines o = (SubsequentLines) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
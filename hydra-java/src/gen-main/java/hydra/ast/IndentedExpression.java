@@ -10,6 +10,8 @@ public class IndentedExpression {
   
   public final hydra.ast.Expr expr;
   
+  private int hashCode_;
+  
   public IndentedExpression (hydra.ast.IndentStyle style, hydra.ast.Expr expr) {
     this.style = style;
     this.expr = expr;
@@ -17,16 +19,27 @@ public class IndentedExpression {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof IndentedExpression)) {
       return false;
     }
     IndentedExpression o = (IndentedExpression) (other);
-    return style.equals(o.style) && expr.equals(o.expr);
+    return hashCode() == o.hashCode() && style.equals(o.style) && expr.equals(o.expr);
   }
   
   @Override
   public int hashCode() {
-    return 2 * style.hashCode() + 3 * expr.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * style.hashCode() + 3 * expr.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public IndentedExpression withStyle(hydra.ast.IndentStyle style) {
@@ -14,6 +14,8 @@ public class Op {
   
   public final hydra.ast.Associativity associativity;
   
+  private int hashCode_;
+  
   public Op (hydra.ast.Symbol symbol, hydra.ast.Padding padding, hydra.ast.Precedence precedence, hydra.ast.Associativity associativity) {
     this.symbol = symbol;
     this.padding = padding;
@@ -23,16 +25,27 @@ public class Op {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Op)) {
       return false;
     }
     Op o = (Op) (other);
-    return symbol.equals(o.symbol) && padding.equals(o.padding) && precedence.equals(o.precedence) && associativity.equals(o.associativity);
+    return hashCode() == o.hashCode() && symbol.equals(o.symbol) && padding.equals(o.padding) && precedence.equals(o.precedence) && associativity.equals(o.associativity);
   }
   
   @Override
   public int hashCode() {
-    return 2 * symbol.hashCode() + 3 * padding.hashCode() + 5 * precedence.hashCode() + 7 * associativity.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * symbol.hashCode() + 3 * padding.hashCode() + 5 * precedence.hashCode() + 7 * associativity.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Op withSymbol(hydra.ast.Symbol symbol) {
@@ -12,6 +12,8 @@ public class OpExpr {
   
   public final hydra.ast.Expr rhs;
   
+  private int hashCode_;
+  
   public OpExpr (hydra.ast.Op op, hydra.ast.Expr lhs, hydra.ast.Expr rhs) {
     this.op = op;
     this.lhs = lhs;
@@ -20,16 +22,27 @@ public class OpExpr {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof OpExpr)) {
       return false;
     }
     OpExpr o = (OpExpr) (other);
-    return op.equals(o.op) && lhs.equals(o.lhs) && rhs.equals(o.rhs);
+    return hashCode() == o.hashCode() && op.equals(o.op) && lhs.equals(o.lhs) && rhs.equals(o.rhs);
   }
   
   @Override
   public int hashCode() {
-    return 2 * op.hashCode() + 3 * lhs.hashCode() + 5 * rhs.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * op.hashCode() + 3 * lhs.hashCode() + 5 * rhs.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public OpExpr withOp(hydra.ast.Op op) {
@@ -57,6 +57,9 @@ public abstract class Ws {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof None)) {
         return false;
       }
@@ -82,6 +85,9 @@ public abstract class Ws {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Space)) {
         return false;
       }
@@ -107,6 +113,9 @@ public abstract class Ws {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Break)) {
         return false;
       }
@@ -128,22 +137,35 @@ public abstract class Ws {
   public static final class BreakAndIndent extends hydra.ast.Ws {
     public final String value;
     
+    private int hashCode_;
+    
     public BreakAndIndent (String value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof BreakAndIndent)) {
         return false;
       }
       BreakAndIndent o = (BreakAndIndent) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -159,6 +181,9 @@ public abstract class Ws {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DoubleBreak)) {
         return false;
       }
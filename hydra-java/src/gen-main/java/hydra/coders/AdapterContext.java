@@ -12,6 +12,8 @@ public class AdapterContext<A> {
   
   public final java.util.Map<hydra.core.Name, hydra.compute.Adapter<hydra.coders.AdapterContext<A>, hydra.coders.AdapterContext<A>, hydra.core.Type<A>, hydra.core.Type<A>, hydra.core.Term<A>, hydra.core.Term<A>>> adapters;
   
+  private int hashCode_;
+  
   public AdapterContext (hydra.graph.Graph<A> graph, hydra.coders.Language<A> language, java.util.Map<hydra.core.Name, hydra.compute.Adapter<hydra.coders.AdapterContext<A>, hydra.coders.AdapterContext<A>, hydra.core.Type<A>, hydra.core.Type<A>, hydra.core.Term<A>, hydra.core.Term<A>>> adapters) {
     this.graph = graph;
     this.language = language;
@@ -20,16 +22,27 @@ public class AdapterContext<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof AdapterContext)) {
       return false;
     }
     AdapterContext o = (AdapterContext) (other);
-    return graph.equals(o.graph) && language.equals(o.language) && adapters.equals(o.adapters);
+    return hashCode() == o.hashCode() && graph.equals(o.graph) && language.equals(o.language) && adapters.equals(o.adapters);
   }
   
   @Override
   public int hashCode() {
-    return 2 * graph.hashCode() + 3 * language.hashCode() + 5 * adapters.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * graph.hashCode() + 3 * language.hashCode() + 5 * adapters.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public AdapterContext withGraph(hydra.graph.Graph<A> graph) {
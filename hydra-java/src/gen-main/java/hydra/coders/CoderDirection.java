@@ -39,6 +39,9 @@ public abstract class CoderDirection {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Encode)) {
         return false;
       }
@@ -64,6 +67,9 @@ public abstract class CoderDirection {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Decode)) {
         return false;
       }
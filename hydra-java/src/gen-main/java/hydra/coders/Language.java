@@ -10,6 +10,8 @@ public class Language<A> {
   
   public final hydra.coders.LanguageConstraints<A> constraints;
   
+  private int hashCode_;
+  
   public Language (hydra.coders.LanguageName name, hydra.coders.LanguageConstraints<A> constraints) {
     this.name = name;
     this.constraints = constraints;
@@ -17,16 +19,27 @@ public class Language<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Language)) {
       return false;
     }
     Language o = (Language) (other);
-    return name.equals(o.name) && constraints.equals(o.constraints);
+    return hashCode() == o.hashCode() && name.equals(o.name) && constraints.equals(o.constraints);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * constraints.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * constraints.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Language withName(hydra.coders.LanguageName name) {
@@ -42,6 +42,9 @@ public abstract class TraversalOrder {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Pre)) {
         return false;
       }
@@ -70,6 +73,9 @@ public abstract class TraversalOrder {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Post)) {
         return false;
       }
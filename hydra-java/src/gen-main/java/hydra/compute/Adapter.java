@@ -14,6 +14,8 @@ public class Adapter<S1, S2, T1, T2, V1, V2> {
   
   public final hydra.compute.Coder<S1, S2, V1, V2> coder;
   
+  private int hashCode_;
+  
   public Adapter (Boolean isLossy, T1 source, T2 target, hydra.compute.Coder<S1, S2, V1, V2> coder) {
     this.isLossy = isLossy;
     this.source = source;
@@ -23,16 +25,27 @@ public class Adapter<S1, S2, T1, T2, V1, V2> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Adapter)) {
       return false;
     }
     Adapter o = (Adapter) (other);
-    return isLossy.equals(o.isLossy) && source.equals(o.source) && target.equals(o.target) && coder.equals(o.coder);
+    return hashCode() == o.hashCode() && isLossy.equals(o.isLossy) && source.equals(o.source) && target.equals(o.target) && coder.equals(o.coder);
   }
   
   @Override
   public int hashCode() {
-    return 2 * isLossy.hashCode() + 3 * source.hashCode() + 5 * target.hashCode() + 7 * coder.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * isLossy.hashCode() + 3 * source.hashCode() + 5 * target.hashCode() + 7 * coder.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Adapter withIsLossy(Boolean isLossy) {
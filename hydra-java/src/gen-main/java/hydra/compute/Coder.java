@@ -10,6 +10,8 @@ public class Coder<S1, S2, V1, V2> {
   
   public final java.util.function.Function<V2, hydra.compute.Flow<S2, V1>> decode;
   
+  private int hashCode_;
+  
   public Coder (java.util.function.Function<V1, hydra.compute.Flow<S1, V2>> encode, java.util.function.Function<V2, hydra.compute.Flow<S2, V1>> decode) {
     this.encode = encode;
     this.decode = decode;
@@ -17,16 +19,27 @@ public class Coder<S1, S2, V1, V2> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Coder)) {
       return false;
     }
     Coder o = (Coder) (other);
-    return encode.equals(o.encode) && decode.equals(o.decode);
+    return hashCode() == o.hashCode() && encode.equals(o.encode) && decode.equals(o.decode);
   }
   
   @Override
   public int hashCode() {
-    return 2 * encode.hashCode() + 3 * decode.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * encode.hashCode() + 3 * decode.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Coder withEncode(java.util.function.Function<V1, hydra.compute.Flow<S1, V2>> encode) {
@@ -12,6 +12,8 @@ public class FlowState<S, X> {
   
   public final hydra.compute.Trace trace;
   
+  private int hashCode_;
+  
   public FlowState (java.util.Optional<X> value, S state, hydra.compute.Trace trace) {
     this.value = value;
     this.state = state;
@@ -20,16 +22,27 @@ public class FlowState<S, X> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof FlowState)) {
       return false;
     }
     FlowState o = (FlowState) (other);
-    return value.equals(o.value) && state.equals(o.state) && trace.equals(o.trace);
+    return hashCode() == o.hashCode() && value.equals(o.value) && state.equals(o.state) && trace.equals(o.trace);
   }
   
   @Override
   public int hashCode() {
-    return 2 * value.hashCode() + 3 * state.hashCode() + 5 * trace.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * value.hashCode() + 3 * state.hashCode() + 5 * trace.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public FlowState withValue(java.util.Optional<X> value) {
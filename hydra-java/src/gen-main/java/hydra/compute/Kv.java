@@ -11,21 +11,34 @@ public class Kv {
    */
   public final java.util.Map<String, hydra.core.Term<hydra.compute.Kv>> annotations;
   
+  private int hashCode_;
+  
   public Kv (java.util.Map<String, hydra.core.Term<hydra.compute.Kv>> annotations) {
     this.annotations = annotations;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Kv)) {
       return false;
     }
     Kv o = (Kv) (other);
-    return annotations.equals(o.annotations);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
@@ -15,6 +15,8 @@ public class Trace {
    */
   public final java.util.Map<String, hydra.core.Term<hydra.compute.Kv>> other;
   
+  private int hashCode_;
+  
   public Trace (java.util.List<String> stack, java.util.List<String> messages, java.util.Map<String, hydra.core.Term<hydra.compute.Kv>> other) {
     this.stack = stack;
     this.messages = messages;
@@ -23,16 +25,27 @@ public class Trace {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Trace)) {
       return false;
     }
     Trace o = (Trace) (other);
-    return stack.equals(o.stack) && messages.equals(o.messages) && other.equals(o.other);
+    return hashCode() == o.hashCode() && stack.equals(o.stack) && messages.equals(o.messages) && other.equals(o.other);
   }
   
   @Override
   public int hashCode() {
-    return 2 * stack.hashCode() + 3 * messages.hashCode() + 5 * other.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * stack.hashCode() + 3 * messages.hashCode() + 5 * other.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Trace withStack(java.util.List<String> stack) {
@@ -10,6 +10,8 @@ public class PathEquation {
   
   public final hydra.query.Path right;
   
+  private int hashCode_;
+  
   public PathEquation (hydra.query.Path left, hydra.query.Path right) {
     this.left = left;
     this.right = right;
@@ -17,16 +19,27 @@ public class PathEquation {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof PathEquation)) {
       return false;
     }
     PathEquation o = (PathEquation) (other);
-    return left.equals(o.left) && right.equals(o.right);
+    return hashCode() == o.hashCode() && left.equals(o.left) && right.equals(o.right);
   }
   
   @Override
   public int hashCode() {
-    return 2 * left.hashCode() + 3 * right.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * left.hashCode() + 3 * right.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public PathEquation withLeft(hydra.query.Path left) {
@@ -10,6 +10,8 @@ public class PatternImplication<A> {
   
   public final hydra.query.Pattern<A> consequent;
   
+  private int hashCode_;
+  
   public PatternImplication (hydra.query.Pattern<A> antecedent, hydra.query.Pattern<A> consequent) {
     this.antecedent = antecedent;
     this.consequent = consequent;
@@ -17,16 +19,27 @@ public class PatternImplication<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof PatternImplication)) {
       return false;
     }
     PatternImplication o = (PatternImplication) (other);
-    return antecedent.equals(o.antecedent) && consequent.equals(o.consequent);
+    return hashCode() == o.hashCode() && antecedent.equals(o.antecedent) && consequent.equals(o.consequent);
   }
   
   @Override
   public int hashCode() {
-    return 2 * antecedent.hashCode() + 3 * consequent.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * antecedent.hashCode() + 3 * consequent.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public PatternImplication withAntecedent(hydra.query.Pattern<A> antecedent) {
@@ -10,6 +10,8 @@ public class Annotated<X, A> {
   
   public final A annotation;
   
+  private int hashCode_;
+  
   public Annotated (X subject, A annotation) {
     this.subject = subject;
     this.annotation = annotation;
@@ -17,16 +19,27 @@ public class Annotated<X, A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Annotated)) {
       return false;
     }
     Annotated o = (Annotated) (other);
-    return subject.equals(o.subject) && annotation.equals(o.annotation);
+    return hashCode() == o.hashCode() && subject.equals(o.subject) && annotation.equals(o.annotation);
   }
   
   @Override
   public int hashCode() {
-    return 2 * subject.hashCode() + 3 * annotation.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * subject.hashCode() + 3 * annotation.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Annotated withSubject(X subject) {
@@ -16,6 +16,8 @@ public class Application<A> {
    */
   public final hydra.core.Term<A> argument;
   
+  private int hashCode_;
+  
   public Application (hydra.core.Term<A> function, hydra.core.Term<A> argument) {
     this.function = function;
     this.argument = argument;
@@ -23,16 +25,27 @@ public class Application<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Application)) {
       return false;
     }
     Application o = (Application) (other);
-    return function.equals(o.function) && argument.equals(o.argument);
+    return hashCode() == o.hashCode() && function.equals(o.function) && argument.equals(o.argument);
   }
   
   @Override
   public int hashCode() {
-    return 2 * function.hashCode() + 3 * argument.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * function.hashCode() + 3 * argument.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Application withFunction(hydra.core.Term<A> function) {
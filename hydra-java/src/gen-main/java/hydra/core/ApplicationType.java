@@ -16,6 +16,8 @@ public class ApplicationType<A> {
    */
   public final hydra.core.Type<A> argument;
   
+  private int hashCode_;
+  
   public ApplicationType (hydra.core.Type<A> function, hydra.core.Type<A> argument) {
     this.function = function;
     this.argument = argument;
@@ -23,16 +25,27 @@ public class ApplicationType<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ApplicationType)) {
       return false;
     }
     ApplicationType o = (ApplicationType) (other);
-    return function.equals(o.function) && argument.equals(o.argument);
+    return hashCode() == o.hashCode() && function.equals(o.function) && argument.equals(o.argument);
   }
   
   @Override
   public int hashCode() {
-    return 2 * function.hashCode() + 3 * argument.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * function.hashCode() + 3 * argument.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ApplicationType withFunction(hydra.core.Type<A> function) {
@@ -12,6 +12,8 @@ public class CaseStatement<A> {
   
   public final java.util.List<hydra.core.Field<A>> cases;
   
+  private int hashCode_;
+  
   public CaseStatement (hydra.core.Name typeName, java.util.Optional<hydra.core.Term<A>> default_, java.util.List<hydra.core.Field<A>> cases) {
     this.typeName = typeName;
     this.default_ = default_;
@@ -20,16 +22,27 @@ public class CaseStatement<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof CaseStatement)) {
       return false;
     }
     CaseStatement o = (CaseStatement) (other);
-    return typeName.equals(o.typeName) && default_.equals(o.default_) && cases.equals(o.cases);
+    return hashCode() == o.hashCode() && typeName.equals(o.typeName) && default_.equals(o.default_) && cases.equals(o.cases);
   }
   
   @Override
   public int hashCode() {
-    return 2 * typeName.hashCode() + 3 * default_.hashCode() + 5 * cases.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * typeName.hashCode() + 3 * default_.hashCode() + 5 * cases.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public CaseStatement withTypeName(hydra.core.Name typeName) {
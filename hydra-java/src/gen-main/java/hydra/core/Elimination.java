@@ -59,22 +59,35 @@ public abstract class Elimination<A> {
      */
     public final hydra.core.Term<A> value;
     
+    private int hashCode_;
+    
     public List (hydra.core.Term<A> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof List)) {
         return false;
       }
       List o = (List) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +105,35 @@ public abstract class Elimination<A> {
      */
     public final hydra.core.OptionalCases<A> value;
     
+    private int hashCode_;
+    
     public Optional (hydra.core.OptionalCases<A> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Optional)) {
         return false;
       }
       Optional o = (Optional) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -125,22 +151,35 @@ public abstract class Elimination<A> {
      */
     public final hydra.core.Projection value;
     
+    private int hashCode_;
+    
     public Record (hydra.core.Projection value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Record)) {
         return false;
       }
       Record o = (Record) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -158,22 +197,35 @@ public abstract class Elimination<A> {
      */
     public final hydra.core.CaseStatement<A> value;
     
+    private int hashCode_;
+    
     public Union (hydra.core.CaseStatement<A> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Union)) {
         return false;
       }
       Union o = (Union) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -191,22 +243,35 @@ public abstract class Elimination<A> {
      */
     public final hydra.core.Name value;
     
+    private int hashCode_;
+    
     public Wrap (hydra.core.Name value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Wrap)) {
         return false;
       }
       Wrap o = (Wrap) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
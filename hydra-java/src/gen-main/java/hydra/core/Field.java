@@ -10,6 +10,8 @@ public class Field<A> {
   
   public final hydra.core.Term<A> term;
   
+  private int hashCode_;
+  
   public Field (hydra.core.FieldName name, hydra.core.Term<A> term) {
     this.name = name;
     this.term = term;
@@ -17,16 +19,27 @@ public class Field<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Field)) {
       return false;
     }
     Field o = (Field) (other);
-    return name.equals(o.name) && term.equals(o.term);
+    return hashCode() == o.hashCode() && name.equals(o.name) && term.equals(o.term);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * term.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * term.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Field withName(hydra.core.FieldName name) {
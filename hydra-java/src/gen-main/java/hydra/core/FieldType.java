@@ -10,6 +10,8 @@ public class FieldType<A> {
   
   public final hydra.core.Type<A> type;
   
+  private int hashCode_;
+  
   public FieldType (hydra.core.FieldName name, hydra.core.Type<A> type) {
     this.name = name;
     this.type = type;
@@ -17,16 +19,27 @@ public class FieldType<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof FieldType)) {
       return false;
     }
     FieldType o = (FieldType) (other);
-    return name.equals(o.name) && type.equals(o.type);
+    return hashCode() == o.hashCode() && name.equals(o.name) && type.equals(o.type);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * type.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * type.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public FieldType withName(hydra.core.FieldName name) {
@@ -45,6 +45,9 @@ public abstract class FloatType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Bigfloat)) {
         return false;
       }
@@ -70,6 +73,9 @@ public abstract class FloatType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Float32)) {
         return false;
       }
@@ -95,6 +101,9 @@ public abstract class FloatType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Float64)) {
         return false;
       }
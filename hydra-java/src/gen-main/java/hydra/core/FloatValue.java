@@ -41,22 +41,35 @@ public abstract class FloatValue {
   public static final class Bigfloat extends hydra.core.FloatValue {
     public final Double value;
     
+    private int hashCode_;
+    
     public Bigfloat (Double value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Bigfloat)) {
         return false;
       }
       Bigfloat o = (Bigfloat) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -74,22 +87,35 @@ public abstract class FloatValue {
      */
     public final Float value;
     
+    private int hashCode_;
+    
     public Float32 (Float value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Float32)) {
         return false;
       }
       Float32 o = (Float32) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -107,22 +133,35 @@ public abstract class FloatValue {
      */
     public final Double value;
     
+    private int hashCode_;
+    
     public Float64 (Double value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Float64)) {
         return false;
       }
       Float64 o = (Float64) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -10,6 +10,8 @@ public class FunctionType<A> {
   
   public final hydra.core.Type<A> codomain;
   
+  private int hashCode_;
+  
   public FunctionType (hydra.core.Type<A> domain, hydra.core.Type<A> codomain) {
     this.domain = domain;
     this.codomain = codomain;
@@ -17,16 +19,27 @@ public class FunctionType<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof FunctionType)) {
       return false;
     }
     FunctionType o = (FunctionType) (other);
-    return domain.equals(o.domain) && codomain.equals(o.codomain);
+    return hashCode() == o.hashCode() && domain.equals(o.domain) && codomain.equals(o.codomain);
   }
   
   @Override
   public int hashCode() {
-    return 2 * domain.hashCode() + 3 * codomain.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * domain.hashCode() + 3 * codomain.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public FunctionType withDomain(hydra.core.Type<A> domain) {
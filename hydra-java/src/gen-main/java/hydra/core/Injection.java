@@ -10,6 +10,8 @@ public class Injection<A> {
   
   public final hydra.core.Field<A> field;
   
+  private int hashCode_;
+  
   public Injection (hydra.core.Name typeName, hydra.core.Field<A> field) {
     this.typeName = typeName;
     this.field = field;
@@ -17,16 +19,27 @@ public class Injection<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Injection)) {
       return false;
     }
     Injection o = (Injection) (other);
-    return typeName.equals(o.typeName) && field.equals(o.field);
+    return hashCode() == o.hashCode() && typeName.equals(o.typeName) && field.equals(o.field);
   }
   
   @Override
   public int hashCode() {
-    return 2 * typeName.hashCode() + 3 * field.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * typeName.hashCode() + 3 * field.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Injection withTypeName(hydra.core.Name typeName) {
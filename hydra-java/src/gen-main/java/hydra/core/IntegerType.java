@@ -81,6 +81,9 @@ public abstract class IntegerType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Bigint)) {
         return false;
       }
@@ -106,6 +109,9 @@ public abstract class IntegerType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Int8)) {
         return false;
       }
@@ -131,6 +137,9 @@ public abstract class IntegerType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Int16)) {
         return false;
       }
@@ -156,6 +165,9 @@ public abstract class IntegerType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Int32)) {
         return false;
       }
@@ -181,6 +193,9 @@ public abstract class IntegerType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Int64)) {
         return false;
       }
@@ -206,6 +221,9 @@ public abstract class IntegerType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Uint8)) {
         return false;
       }
@@ -231,6 +249,9 @@ public abstract class IntegerType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Uint16)) {
         return false;
       }
@@ -256,6 +277,9 @@ public abstract class IntegerType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Uint32)) {
         return false;
       }
@@ -281,6 +305,9 @@ public abstract class IntegerType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Uint64)) {
         return false;
       }
@@ -16,6 +16,8 @@ public class Lambda<A> {
    */
   public final hydra.core.Term<A> body;
   
+  private int hashCode_;
+  
   public Lambda (hydra.core.Name parameter, hydra.core.Term<A> body) {
     this.parameter = parameter;
     this.body = body;
@@ -23,16 +25,27 @@ public class Lambda<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Lambda)) {
       return false;
     }
     Lambda o = (Lambda) (other);
-    return parameter.equals(o.parameter) && body.equals(o.body);
+    return hashCode() == o.hashCode() && parameter.equals(o.parameter) && body.equals(o.body);
   }
   
   @Override
   public int hashCode() {
-    return 2 * parameter.hashCode() + 3 * body.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * parameter.hashCode() + 3 * body.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Lambda withParameter(hydra.core.Name parameter) {
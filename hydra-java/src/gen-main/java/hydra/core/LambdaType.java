@@ -16,6 +16,8 @@ public class LambdaType<A> {
    */
   public final hydra.core.Type<A> body;
   
+  private int hashCode_;
+  
   public LambdaType (hydra.core.Name parameter, hydra.core.Type<A> body) {
     this.parameter = parameter;
     this.body = body;
@@ -23,16 +25,27 @@ public class LambdaType<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof LambdaType)) {
       return false;
     }
     LambdaType o = (LambdaType) (other);
-    return parameter.equals(o.parameter) && body.equals(o.body);
+    return hashCode() == o.hashCode() && parameter.equals(o.parameter) && body.equals(o.body);
   }
   
   @Override
   public int hashCode() {
-    return 2 * parameter.hashCode() + 3 * body.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * parameter.hashCode() + 3 * body.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public LambdaType withParameter(hydra.core.Name parameter) {
@@ -10,6 +10,8 @@ public class Let<A> {
   
   public final hydra.core.Term<A> environment;
   
+  private int hashCode_;
+  
   public Let (java.util.Map<hydra.core.Name, hydra.core.Term<A>> bindings, hydra.core.Term<A> environment) {
     this.bindings = bindings;
     this.environment = environment;
@@ -17,16 +19,27 @@ public class Let<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Let)) {
       return false;
     }
     Let o = (Let) (other);
-    return bindings.equals(o.bindings) && environment.equals(o.environment);
+    return hashCode() == o.hashCode() && bindings.equals(o.bindings) && environment.equals(o.environment);
   }
   
   @Override
   public int hashCode() {
-    return 2 * bindings.hashCode() + 3 * environment.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * bindings.hashCode() + 3 * environment.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Let withBindings(java.util.Map<hydra.core.Name, hydra.core.Term<A>> bindings) {
@@ -57,6 +57,9 @@ public abstract class LiteralType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Binary)) {
         return false;
       }
@@ -82,6 +85,9 @@ public abstract class LiteralType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Boolean_)) {
         return false;
       }
@@ -103,22 +109,35 @@ public abstract class LiteralType {
   public static final class Float_ extends hydra.core.LiteralType {
     public final hydra.core.FloatType value;
     
+    private int hashCode_;
+    
     public Float_ (hydra.core.FloatType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Float_)) {
         return false;
       }
       Float_ o = (Float_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -130,22 +149,35 @@ public abstract class LiteralType {
   public static final class Integer_ extends hydra.core.LiteralType {
     public final hydra.core.IntegerType value;
     
+    private int hashCode_;
+    
     public Integer_ (hydra.core.IntegerType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Integer_)) {
         return false;
       }
       Integer_ o = (Integer_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -161,6 +193,9 @@ public abstract class LiteralType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof String_)) {
         return false;
       }
@@ -10,6 +10,8 @@ public class MapType<A> {
   
   public final hydra.core.Type<A> values;
   
+  private int hashCode_;
+  
   public MapType (hydra.core.Type<A> keys, hydra.core.Type<A> values) {
     this.keys = keys;
     this.values = values;
@@ -17,16 +19,27 @@ public class MapType<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof MapType)) {
       return false;
     }
     MapType o = (MapType) (other);
-    return keys.equals(o.keys) && values.equals(o.values);
+    return hashCode() == o.hashCode() && keys.equals(o.keys) && values.equals(o.values);
   }
   
   @Override
   public int hashCode() {
-    return 2 * keys.hashCode() + 3 * values.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * keys.hashCode() + 3 * values.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public MapType withKeys(hydra.core.Type<A> keys) {
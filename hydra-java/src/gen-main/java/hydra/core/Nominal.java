@@ -10,6 +10,8 @@ public class Nominal<X> {
   
   public final X object;
   
+  private int hashCode_;
+  
   public Nominal (hydra.core.Name typeName, X object) {
     this.typeName = typeName;
     this.object = object;
@@ -17,16 +19,27 @@ public class Nominal<X> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Nominal)) {
       return false;
     }
     Nominal o = (Nominal) (other);
-    return typeName.equals(o.typeName) && object.equals(o.object);
+    return hashCode() == o.hashCode() && typeName.equals(o.typeName) && object.equals(o.object);
   }
   
   @Override
   public int hashCode() {
-    return 2 * typeName.hashCode() + 3 * object.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * typeName.hashCode() + 3 * object.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Nominal withTypeName(hydra.core.Name typeName) {
@@ -16,6 +16,8 @@ public class OptionalCases<A> {
    */
   public final hydra.core.Term<A> just;
   
+  private int hashCode_;
+  
   public OptionalCases (hydra.core.Term<A> nothing, hydra.core.Term<A> just) {
     this.nothing = nothing;
     this.just = just;
@@ -23,16 +25,27 @@ public class OptionalCases<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof OptionalCases)) {
       return false;
     }
     OptionalCases o = (OptionalCases) (other);
-    return nothing.equals(o.nothing) && just.equals(o.just);
+    return hashCode() == o.hashCode() && nothing.equals(o.nothing) && just.equals(o.just);
   }
   
   @Override
   public int hashCode() {
-    return 2 * nothing.hashCode() + 3 * just.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * nothing.hashCode() + 3 * just.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public OptionalCases withNothing(hydra.core.Term<A> nothing) {
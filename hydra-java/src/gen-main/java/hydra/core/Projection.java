@@ -10,6 +10,8 @@ public class Projection {
   
   public final hydra.core.FieldName field;
   
+  private int hashCode_;
+  
   public Projection (hydra.core.Name typeName, hydra.core.FieldName field) {
     this.typeName = typeName;
     this.field = field;
@@ -17,16 +19,27 @@ public class Projection {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Projection)) {
       return false;
     }
     Projection o = (Projection) (other);
-    return typeName.equals(o.typeName) && field.equals(o.field);
+    return hashCode() == o.hashCode() && typeName.equals(o.typeName) && field.equals(o.field);
   }
   
   @Override
   public int hashCode() {
-    return 2 * typeName.hashCode() + 3 * field.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * typeName.hashCode() + 3 * field.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Projection withTypeName(hydra.core.Name typeName) {
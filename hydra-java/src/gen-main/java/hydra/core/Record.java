@@ -10,6 +10,8 @@ public class Record<A> {
   
   public final java.util.List<hydra.core.Field<A>> fields;
   
+  private int hashCode_;
+  
   public Record (hydra.core.Name typeName, java.util.List<hydra.core.Field<A>> fields) {
     this.typeName = typeName;
     this.fields = fields;
@@ -17,16 +19,27 @@ public class Record<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Record)) {
       return false;
     }
     Record o = (Record) (other);
-    return typeName.equals(o.typeName) && fields.equals(o.fields);
+    return hashCode() == o.hashCode() && typeName.equals(o.typeName) && fields.equals(o.fields);
   }
   
   @Override
   public int hashCode() {
-    return 2 * typeName.hashCode() + 3 * fields.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * typeName.hashCode() + 3 * fields.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Record withTypeName(hydra.core.Name typeName) {
@@ -21,6 +21,8 @@ public class RowType<A> {
    */
   public final java.util.List<hydra.core.FieldType<A>> fields;
   
+  private int hashCode_;
+  
   public RowType (hydra.core.Name typeName, java.util.Optional<hydra.core.Name> extends_, java.util.List<hydra.core.FieldType<A>> fields) {
     this.typeName = typeName;
     this.extends_ = extends_;
@@ -29,16 +31,27 @@ public class RowType<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof RowType)) {
       return false;
     }
     RowType o = (RowType) (other);
-    return typeName.equals(o.typeName) && extends_.equals(o.extends_) && fields.equals(o.fields);
+    return hashCode() == o.hashCode() && typeName.equals(o.typeName) && extends_.equals(o.extends_) && fields.equals(o.fields);
   }
   
   @Override
   public int hashCode() {
-    return 2 * typeName.hashCode() + 3 * extends_.hashCode() + 5 * fields.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * typeName.hashCode() + 3 * extends_.hashCode() + 5 * fields.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public RowType withTypeName(hydra.core.Name typeName) {
@@ -10,6 +10,8 @@ public class Stream<A> {
   
   public final hydra.core.Stream<A> rest;
   
+  private int hashCode_;
+  
   public Stream (hydra.core.Term<A> first, hydra.core.Stream<A> rest) {
     this.first = first;
     this.rest = rest;
@@ -17,16 +19,27 @@ public class Stream<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Stream)) {
       return false;
     }
     Stream o = (Stream) (other);
-    return first.equals(o.first) && rest.equals(o.rest);
+    return hashCode() == o.hashCode() && first.equals(o.first) && rest.equals(o.rest);
   }
   
   @Override
   public int hashCode() {
-    return 2 * first.hashCode() + 3 * rest.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * first.hashCode() + 3 * rest.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Stream withFirst(hydra.core.Term<A> first) {
@@ -12,6 +12,8 @@ public class Sum<A> {
   
   public final hydra.core.Term<A> term;
   
+  private int hashCode_;
+  
   public Sum (Integer index, Integer size, hydra.core.Term<A> term) {
     this.index = index;
     this.size = size;
@@ -20,16 +22,27 @@ public class Sum<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Sum)) {
       return false;
     }
     Sum o = (Sum) (other);
-    return index.equals(o.index) && size.equals(o.size) && term.equals(o.term);
+    return hashCode() == o.hashCode() && index.equals(o.index) && size.equals(o.size) && term.equals(o.term);
   }
   
   @Override
   public int hashCode() {
-    return 2 * index.hashCode() + 3 * size.hashCode() + 5 * term.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * index.hashCode() + 3 * size.hashCode() + 5 * term.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Sum withIndex(Integer index) {
@@ -125,22 +125,35 @@ public abstract class Type<A> {
      */
     public final hydra.core.Annotated<hydra.core.Type<A>, A> value;
     
+    private int hashCode_;
+    
     public Annotated (hydra.core.Annotated<hydra.core.Type<A>, A> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Annotated)) {
         return false;
       }
       Annotated o = (Annotated) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -152,22 +165,35 @@ public abstract class Type<A> {
   public static final class Application<A> extends hydra.core.Type<A> {
     public final hydra.core.ApplicationType<A> value;
     
+    private int hashCode_;
+    
     public Application (hydra.core.ApplicationType<A> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Application)) {
         return false;
       }
       Application o = (Application) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -179,22 +205,35 @@ public abstract class Type<A> {
   public static final class Function<A> extends hydra.core.Type<A> {
     public final hydra.core.FunctionType<A> value;
     
+    private int hashCode_;
+    
     public Function (hydra.core.FunctionType<A> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Function)) {
         return false;
       }
       Function o = (Function) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -206,22 +245,35 @@ public abstract class Type<A> {
   public static final class Lambda<A> extends hydra.core.Type<A> {
     public final hydra.core.LambdaType<A> value;
     
+    private int hashCode_;
+    
     public Lambda (hydra.core.LambdaType<A> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Lambda)) {
         return false;
       }
       Lambda o = (Lambda) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -233,22 +285,35 @@ public abstract class Type<A> {
   public static final class List<A> extends hydra.core.Type<A> {
     public final hydra.core.Type<A> value;
     
+    private int hashCode_;
+    
     public List (hydra.core.Type<A> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof List)) {
         return false;
       }
       List o = (List) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -260,22 +325,35 @@ public abstract class Type<A> {
   public static final class Literal<A> extends hydra.core.Type<A> {
     public final hydra.core.LiteralType value;
     
+    private int hashCode_;
+    
     public Literal (hydra.core.LiteralType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Literal)) {
         return false;
       }
       Literal o = (Literal) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -287,22 +365,35 @@ public abstract class Type<A> {
   public static final class Map<A> extends hydra.core.Type<A> {
     public final hydra.core.MapType<A> value;
     
+    private int hashCode_;
+    
     public Map (hydra.core.MapType<A> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Map)) {
         return false;
       }
       Map o = (Map) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -314,22 +405,35 @@ public abstract class Type<A> {
   public static final class Optional<A> extends hydra.core.Type<A> {
     public final hydra.core.Type<A> value;
     
+    private int hashCode_;
+    
     public Optional (hydra.core.Type<A> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Optional)) {
         return false;
       }
       Optional o = (Optional) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -341,22 +445,35 @@ public abstract class Type<A> {
   public static final class Product<A> extends hydra.core.Type<A> {
     public final java.util.List<hydra.core.Type<A>> value;
     
+    private int hashCode_;
+    
     public Product (java.util.List<hydra.core.Type<A>> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Product)) {
         return false;
       }
       Product o = (Product) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -368,22 +485,35 @@ public abstract class Type<A> {
   public static final class Record<A> extends hydra.core.Type<A> {
     public final hydra.core.RowType<A> value;
     
+    private int hashCode_;
+    
     public Record (hydra.core.RowType<A> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Record)) {
         return false;
       }
       Record o = (Record) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -395,22 +525,35 @@ public abstract class Type<A> {
   public static final class Set<A> extends hydra.core.Type<A> {
     public final hydra.core.Type<A> value;
     
+    private int hashCode_;
+    
     public Set (hydra.core.Type<A> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Set)) {
         return false;
       }
       Set o = (Set) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -422,22 +565,35 @@ public abstract class Type<A> {
   public static final class Stream<A> extends hydra.core.Type<A> {
     public final hydra.core.Type<A> value;
     
+    private int hashCode_;
+    
     public Stream (hydra.core.Type<A> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Stream)) {
         return false;
       }
       Stream o = (Stream) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -449,22 +605,35 @@ public abstract class Type<A> {
   public static final class Sum<A> extends hydra.core.Type<A> {
     public final java.util.List<hydra.core.Type<A>> value;
     
+    private int hashCode_;
+    
     public Sum (java.util.List<hydra.core.Type<A>> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Sum)) {
         return false;
       }
       Sum o = (Sum) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -476,22 +645,35 @@ public abstract class Type<A> {
   public static final class Union<A> extends hydra.core.Type<A> {
     public final hydra.core.RowType<A> value;
     
+    private int hashCode_;
+    
     public Union (hydra.core.RowType<A> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Union)) {
         return false;
       }
       Union o = (Union) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -503,22 +685,35 @@ public abstract class Type<A> {
   public static final class Variable<A> extends hydra.core.Type<A> {
     public final hydra.core.Name value;
     
+    private int hashCode_;
+    
     public Variable (hydra.core.Name value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Variable)) {
         return false;
       }
       Variable o = (Variable) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -530,22 +725,35 @@ public abstract class Type<A> {
   public static final class Wrap<A> extends hydra.core.Type<A> {
     public final hydra.core.Nominal<hydra.core.Type<A>> value;
     
+    private int hashCode_;
+    
     public Wrap (hydra.core.Nominal<hydra.core.Type<A>> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Wrap)) {
         return false;
       }
       Wrap o = (Wrap) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -12,6 +12,9 @@ public class UnitType {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof UnitType)) {
       return false;
     }
@@ -11,21 +11,34 @@ public class Grammar {
    */
   public final java.util.List<hydra.grammar.Production> value;
   
+  private int hashCode_;
+  
   public Grammar (java.util.List<hydra.grammar.Production> value) {
     this.value = value;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Grammar)) {
       return false;
     }
     Grammar o = (Grammar) (other);
-    return value.equals(o.value);
+    return hashCode() == o.hashCode() && value.equals(o.value);
   }
   
   @Override
   public int hashCode() {
-    return 2 * value.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * value.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
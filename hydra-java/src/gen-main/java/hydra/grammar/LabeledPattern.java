@@ -10,6 +10,8 @@ public class LabeledPattern {
   
   public final hydra.grammar.Pattern pattern;
   
+  private int hashCode_;
+  
   public LabeledPattern (hydra.grammar.Label label, hydra.grammar.Pattern pattern) {
     this.label = label;
     this.pattern = pattern;
@@ -17,16 +19,27 @@ public class LabeledPattern {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof LabeledPattern)) {
       return false;
     }
     LabeledPattern o = (LabeledPattern) (other);
-    return label.equals(o.label) && pattern.equals(o.pattern);
+    return hashCode() == o.hashCode() && label.equals(o.label) && pattern.equals(o.pattern);
   }
   
   @Override
   public int hashCode() {
-    return 2 * label.hashCode() + 3 * pattern.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * label.hashCode() + 3 * pattern.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public LabeledPattern withLabel(hydra.grammar.Label label) {
@@ -93,6 +93,9 @@ public abstract class Pattern {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Nil)) {
         return false;
       }
@@ -114,22 +117,35 @@ public abstract class Pattern {
   public static final class Ignored extends hydra.grammar.Pattern {
     public final hydra.grammar.Pattern value;
     
+    private int hashCode_;
+    
     public Ignored (hydra.grammar.Pattern value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Ignored)) {
         return false;
       }
       Ignored o = (Ignored) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -141,22 +157,35 @@ public abstract class Pattern {
   public static final class Labeled extends hydra.grammar.Pattern {
     public final hydra.grammar.LabeledPattern value;
     
+    private int hashCode_;
+    
     public Labeled (hydra.grammar.LabeledPattern value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Labeled)) {
         return false;
       }
       Labeled o = (Labeled) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -168,22 +197,35 @@ public abstract class Pattern {
   public static final class Constant extends hydra.grammar.Pattern {
     public final hydra.grammar.Constant value;
     
+    private int hashCode_;
+    
     public Constant (hydra.grammar.Constant value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Constant)) {
         return false;
       }
       Constant o = (Constant) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -195,22 +237,35 @@ public abstract class Pattern {
   public static final class Regex extends hydra.grammar.Pattern {
     public final hydra.grammar.Regex value;
     
+    private int hashCode_;
+    
     public Regex (hydra.grammar.Regex value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Regex)) {
         return false;
       }
       Regex o = (Regex) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -222,22 +277,35 @@ public abstract class Pattern {
   public static final class Nonterminal extends hydra.grammar.Pattern {
     public final hydra.grammar.Symbol value;
     
+    private int hashCode_;
+    
     public Nonterminal (hydra.grammar.Symbol value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Nonterminal)) {
         return false;
       }
       Nonterminal o = (Nonterminal) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -249,22 +317,35 @@ public abstract class Pattern {
   public static final class Sequence extends hydra.grammar.Pattern {
     public final java.util.List<hydra.grammar.Pattern> value;
     
+    private int hashCode_;
+    
     public Sequence (java.util.List<hydra.grammar.Pattern> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Sequence)) {
         return false;
       }
       Sequence o = (Sequence) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -276,22 +357,35 @@ public abstract class Pattern {
   public static final class Alternatives extends hydra.grammar.Pattern {
     public final java.util.List<hydra.grammar.Pattern> value;
     
+    private int hashCode_;
+    
     public Alternatives (java.util.List<hydra.grammar.Pattern> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Alternatives)) {
         return false;
       }
       Alternatives o = (Alternatives) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -303,22 +397,35 @@ public abstract class Pattern {
   public static final class Option extends hydra.grammar.Pattern {
     public final hydra.grammar.Pattern value;
     
+    private int hashCode_;
+    
     public Option (hydra.grammar.Pattern value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Option)) {
         return false;
       }
       Option o = (Option) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -330,22 +437,35 @@ public abstract class Pattern {
   public static final class Star extends hydra.grammar.Pattern {
     public final hydra.grammar.Pattern value;
     
+    private int hashCode_;
+    
     public Star (hydra.grammar.Pattern value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Star)) {
         return false;
       }
       Star o = (Star) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -357,22 +477,35 @@ public abstract class Pattern {
   public static final class Plus extends hydra.grammar.Pattern {
     public final hydra.grammar.Pattern value;
     
+    private int hashCode_;
+    
     public Plus (hydra.grammar.Pattern value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Plus)) {
         return false;
       }
       Plus o = (Plus) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -10,6 +10,8 @@ public class Production {
   
   public final hydra.grammar.Pattern pattern;
   
+  private int hashCode_;
+  
   public Production (hydra.grammar.Symbol symbol, hydra.grammar.Pattern pattern) {
     this.symbol = symbol;
     this.pattern = pattern;
@@ -17,16 +19,27 @@ public class Production {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Production)) {
       return false;
     }
     Production o = (Production) (other);
-    return symbol.equals(o.symbol) && pattern.equals(o.pattern);
+    return hashCode() == o.hashCode() && symbol.equals(o.symbol) && pattern.equals(o.pattern);
   }
   
   @Override
   public int hashCode() {
-    return 2 * symbol.hashCode() + 3 * pattern.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * symbol.hashCode() + 3 * pattern.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Production withSymbol(hydra.grammar.Symbol symbol) {
@@ -38,6 +38,8 @@ public class AnnotationClass<A> {
   
   public final java.util.function.Function<java.util.Optional<hydra.core.Type<A>>, java.util.function.Function<A, A>> setTypeOf;
   
+  private int hashCode_;
+  
   public AnnotationClass (A default_, java.util.function.Function<A, java.util.function.Function<A, Boolean>> equal, java.util.function.Function<A, java.util.function.Function<A, hydra.graph.Comparison>> compare, java.util.function.Function<A, String> show, java.util.function.Function<String, java.util.Optional<A>> read, java.util.function.Function<hydra.core.Term<A>, A> termAnnotation, java.util.function.Function<hydra.core.Type<A>, A> typeAnnotation, java.util.function.Function<hydra.core.Term<A>, hydra.compute.Flow<hydra.graph.Graph<A>, java.util.Optional<String>>> termDescription, java.util.function.Function<hydra.core.Type<A>, hydra.compute.Flow<hydra.graph.Graph<A>, java.util.Optional<String>>> typeDescription, java.util.function.Function<hydra.core.Type<A>, hydra.compute.Flow<hydra.graph.Graph<A>, java.util.Map<hydra.core.Name, java.util.Set<hydra.graph.TypeClass>>>> typeClasses, java.util.function.Function<hydra.core.Term<A>, hydra.compute.Flow<hydra.graph.Graph<A>, java.util.Optional<hydra.core.Type<A>>>> termType, java.util.function.Function<java.util.Optional<String>, java.util.function.Function<hydra.core.Term<A>, hydra.core.Term<A>>> setTermDescription, java.util.function.Function<java.util.Optional<hydra.core.Type<A>>, java.util.function.Function<hydra.core.Term<A>, hydra.core.Term<A>>> setTermType, java.util.function.Function<java.util.Map<hydra.core.Name, java.util.Set<hydra.graph.TypeClass>>, java.util.function.Function<hydra.core.Type<A>, hydra.core.Type<A>>> setTypeClasses, java.util.function.Function<A, hydra.compute.Flow<hydra.graph.Graph<A>, java.util.Optional<hydra.core.Type<A>>>> typeOf, java.util.function.Function<java.util.Optional<hydra.core.Type<A>>, java.util.function.Function<A, A>> setTypeOf) {
     this.default_ = default_;
     this.equal = equal;
@@ -59,16 +61,27 @@ public class AnnotationClass<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof AnnotationClass)) {
       return false;
     }
     AnnotationClass o = (AnnotationClass) (other);
-    return default_.equals(o.default_) && equal.equals(o.equal) && compare.equals(o.compare) && show.equals(o.show) && read.equals(o.read) && termAnnotation.equals(o.termAnnotation) && typeAnnotation.equals(o.typeAnnotation) && termDescription.equals(o.termDescription) && typeDescription.equals(o.typeDescription) && typeClasses.equals(o.typeClasses) && termType.equals(o.termType) && setTermDescription.equals(o.setTermDescription) && setTermType.equals(o.setTermType) && setTypeClasses.equals(o.setTypeClasses) && typeOf.equals(o.typeOf) && setTypeOf.equals(o.setTypeOf);
+    return hashCode() == o.hashCode() && default_.equals(o.default_) && equal.equals(o.equal) && compare.equals(o.compare) && show.equals(o.show) && read.equals(o.read) && termAnnotation.equals(o.termAnnotation) && typeAnnotation.equals(o.typeAnnotation) && termDescription.equals(o.termDescription) && typeDescription.equals(o.typeDescription) && typeClasses.equals(o.typeClasses) && termType.equals(o.termType) && setTermDescription.equals(o.setTermDescription) && setTermType.equals(o.setTermType) && setTypeClasses.equals(o.setTypeClasses) && typeOf.equals(o.typeOf) && setTypeOf.equals(o.setTypeOf);
   }
   
   @Override
   public int hashCode() {
-    return 2 * default_.hashCode() + 3 * equal.hashCode() + 5 * compare.hashCode() + 7 * show.hashCode() + 11 * read.hashCode() + 13 * termAnnotation.hashCode() + 17 * typeAnnotation.hashCode() + 19 * termDescription.hashCode() + 23 * typeDescription.hashCode() + 29 * typeClasses.hashCode() + 31 * termType.hashCode() + 37 * setTermDescription.hashCode() + 41 * setTermType.hashCode() + 43 * setTypeClasses.hashCode() + 47 * typeOf.hashCode() + 53 * setTypeOf.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * default_.hashCode() + 3 * equal.hashCode() + 5 * compare.hashCode() + 7 * show.hashCode() + 11 * read.hashCode() + 13 * termAnnotation.hashCode() + 17 * typeAnnotation.hashCode() + 19 * termDescription.hashCode() + 23 * typeDescription.hashCode() + 29 * typeClasses.hashCode() + 31 * termType.hashCode() + 37 * setTermDescription.hashCode() + 41 * setTermType.hashCode() + 43 * setTypeClasses.hashCode() + 47 * typeOf.hashCode() + 53 * setTypeOf.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public AnnotationClass withDefault(A default_) {
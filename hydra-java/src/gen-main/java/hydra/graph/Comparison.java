@@ -45,6 +45,9 @@ public abstract class Comparison {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof LessThan)) {
         return false;
       }
@@ -70,6 +73,9 @@ public abstract class Comparison {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof EqualTo)) {
         return false;
       }
@@ -95,6 +101,9 @@ public abstract class Comparison {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof GreaterThan)) {
         return false;
       }
@@ -10,6 +10,8 @@ public class Element<A> {
   
   public final hydra.core.Term<A> data;
   
+  private int hashCode_;
+  
   public Element (hydra.core.Name name, hydra.core.Term<A> data) {
     this.name = name;
     this.data = data;
@@ -17,16 +19,27 @@ public class Element<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Element)) {
       return false;
     }
     Element o = (Element) (other);
-    return name.equals(o.name) && data.equals(o.data);
+    return hashCode() == o.hashCode() && name.equals(o.name) && data.equals(o.data);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * data.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * data.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Element withName(hydra.core.Name name) {
@@ -36,6 +36,8 @@ public class Graph<A> {
    */
   public final java.util.Optional<hydra.graph.Graph<A>> schema;
   
+  private int hashCode_;
+  
   public Graph (java.util.Map<hydra.core.Name, hydra.graph.Element<A>> elements, java.util.Map<hydra.core.Name, java.util.Optional<hydra.core.Term<A>>> environment, hydra.core.Term<A> body, java.util.Map<hydra.core.Name, hydra.graph.Primitive<A>> primitives, hydra.graph.AnnotationClass<A> annotations, java.util.Optional<hydra.graph.Graph<A>> schema) {
     this.elements = elements;
     this.environment = environment;
@@ -47,16 +49,27 @@ public class Graph<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Graph)) {
       return false;
     }
     Graph o = (Graph) (other);
-    return elements.equals(o.elements) && environment.equals(o.environment) && body.equals(o.body) && primitives.equals(o.primitives) && annotations.equals(o.annotations) && schema.equals(o.schema);
+    return hashCode() == o.hashCode() && elements.equals(o.elements) && environment.equals(o.environment) && body.equals(o.body) && primitives.equals(o.primitives) && annotations.equals(o.annotations) && schema.equals(o.schema);
   }
   
   @Override
   public int hashCode() {
-    return 2 * elements.hashCode() + 3 * environment.hashCode() + 5 * body.hashCode() + 7 * primitives.hashCode() + 11 * annotations.hashCode() + 13 * schema.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * elements.hashCode() + 3 * environment.hashCode() + 5 * body.hashCode() + 7 * primitives.hashCode() + 11 * annotations.hashCode() + 13 * schema.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Graph withElements(java.util.Map<hydra.core.Name, hydra.graph.Element<A>> elements) {
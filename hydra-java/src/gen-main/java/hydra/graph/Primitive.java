@@ -21,6 +21,8 @@ public class Primitive<A> {
    */
   public final java.util.function.Function<java.util.List<hydra.core.Term<A>>, hydra.compute.Flow<hydra.graph.Graph<A>, hydra.core.Term<A>>> implementation;
   
+  private int hashCode_;
+  
   public Primitive (hydra.core.Name name, hydra.core.Type<A> type, java.util.function.Function<java.util.List<hydra.core.Term<A>>, hydra.compute.Flow<hydra.graph.Graph<A>, hydra.core.Term<A>>> implementation) {
     this.name = name;
     this.type = type;
@@ -29,16 +31,27 @@ public class Primitive<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Primitive)) {
       return false;
     }
     Primitive o = (Primitive) (other);
-    return name.equals(o.name) && type.equals(o.type) && implementation.equals(o.implementation);
+    return hashCode() == o.hashCode() && name.equals(o.name) && type.equals(o.type) && implementation.equals(o.implementation);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * type.hashCode() + 5 * implementation.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * type.hashCode() + 5 * implementation.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Primitive withName(hydra.core.Name name) {
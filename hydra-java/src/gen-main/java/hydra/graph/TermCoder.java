@@ -10,6 +10,8 @@ public class TermCoder<A, X> {
   
   public final hydra.compute.Coder<hydra.graph.Graph<A>, hydra.graph.Graph<A>, hydra.core.Term<A>, X> coder;
   
+  private int hashCode_;
+  
   public TermCoder (hydra.core.Type<A> type, hydra.compute.Coder<hydra.graph.Graph<A>, hydra.graph.Graph<A>, hydra.core.Term<A>, X> coder) {
     this.type = type;
     this.coder = coder;
@@ -17,16 +19,27 @@ public class TermCoder<A, X> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof TermCoder)) {
       return false;
     }
     TermCoder o = (TermCoder) (other);
-    return type.equals(o.type) && coder.equals(o.coder);
+    return hashCode() == o.hashCode() && type.equals(o.type) && coder.equals(o.coder);
   }
   
   @Override
   public int hashCode() {
-    return 2 * type.hashCode() + 3 * coder.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * type.hashCode() + 3 * coder.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public TermCoder withType(hydra.core.Type<A> type) {
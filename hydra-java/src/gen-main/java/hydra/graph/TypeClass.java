@@ -39,6 +39,9 @@ public abstract class TypeClass {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Equality)) {
         return false;
       }
@@ -64,6 +67,9 @@ public abstract class TypeClass {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Ordering)) {
         return false;
       }
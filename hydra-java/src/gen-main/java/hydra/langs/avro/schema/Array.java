@@ -5,21 +5,34 @@ public class Array {
   
   public final hydra.langs.avro.schema.Schema items;
   
+  private int hashCode_;
+  
   public Array (hydra.langs.avro.schema.Schema items) {
     this.items = items;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Array)) {
       return false;
     }
     Array o = (Array) (other);
-    return items.equals(o.items);
+    return hashCode() == o.hashCode() && items.equals(o.items);
   }
   
   @Override
   public int hashCode() {
-    return 2 * items.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * items.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
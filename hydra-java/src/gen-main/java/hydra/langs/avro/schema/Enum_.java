@@ -13,6 +13,8 @@ public class Enum_ {
    */
   public final java.util.Optional<String> default_;
   
+  private int hashCode_;
+  
   public Enum_ (java.util.List<String> symbols, java.util.Optional<String> default_) {
     this.symbols = symbols;
     this.default_ = default_;
@@ -20,16 +22,27 @@ public class Enum_ {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Enum_)) {
       return false;
     }
     Enum_ o = (Enum_) (other);
-    return symbols.equals(o.symbols) && default_.equals(o.default_);
+    return hashCode() == o.hashCode() && symbols.equals(o.symbols) && default_.equals(o.default_);
   }
   
   @Override
   public int hashCode() {
-    return 2 * symbols.hashCode() + 3 * default_.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * symbols.hashCode() + 3 * default_.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Enum_ withSymbols(java.util.List<String> symbols) {
@@ -38,6 +38,8 @@ public class Field {
    */
   public final java.util.Map<String, hydra.langs.json.model.Value> annotations;
   
+  private int hashCode_;
+  
   public Field (String name, java.util.Optional<String> doc, hydra.langs.avro.schema.Schema type, java.util.Optional<hydra.langs.json.model.Value> default_, java.util.Optional<hydra.langs.avro.schema.Order> order, java.util.Optional<java.util.List<String>> aliases, java.util.Map<String, hydra.langs.json.model.Value> annotations) {
     this.name = name;
     this.doc = doc;
@@ -50,16 +52,27 @@ public class Field {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Field)) {
       return false;
     }
     Field o = (Field) (other);
-    return name.equals(o.name) && doc.equals(o.doc) && type.equals(o.type) && default_.equals(o.default_) && order.equals(o.order) && aliases.equals(o.aliases) && annotations.equals(o.annotations);
+    return hashCode() == o.hashCode() && name.equals(o.name) && doc.equals(o.doc) && type.equals(o.type) && default_.equals(o.default_) && order.equals(o.order) && aliases.equals(o.aliases) && annotations.equals(o.annotations);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * doc.hashCode() + 5 * type.hashCode() + 7 * default_.hashCode() + 11 * order.hashCode() + 13 * aliases.hashCode() + 17 * annotations.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * doc.hashCode() + 5 * type.hashCode() + 7 * default_.hashCode() + 11 * order.hashCode() + 13 * aliases.hashCode() + 17 * annotations.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Field withName(String name) {
@@ -8,21 +8,34 @@ public class Fixed {
    */
   public final Integer size;
   
+  private int hashCode_;
+  
   public Fixed (Integer size) {
     this.size = size;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Fixed)) {
       return false;
     }
     Fixed o = (Fixed) (other);
-    return size.equals(o.size);
+    return hashCode() == o.hashCode() && size.equals(o.size);
   }
   
   @Override
   public int hashCode() {
-    return 2 * size.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * size.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
@@ -5,21 +5,34 @@ public class Map {
   
   public final hydra.langs.avro.schema.Schema values;
   
+  private int hashCode_;
+  
   public Map (hydra.langs.avro.schema.Schema values) {
     this.values = values;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Map)) {
       return false;
     }
     Map o = (Map) (other);
-    return values.equals(o.values);
+    return hashCode() == o.hashCode() && values.equals(o.values);
   }
   
   @Override
   public int hashCode() {
-    return 2 * values.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * values.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
@@ -30,6 +30,8 @@ public class Named {
    */
   public final java.util.Map<String, hydra.langs.json.model.Value> annotations;
   
+  private int hashCode_;
+  
   public Named (String name, java.util.Optional<String> namespace, java.util.Optional<java.util.List<String>> aliases, java.util.Optional<String> doc, hydra.langs.avro.schema.NamedType type, java.util.Map<String, hydra.langs.json.model.Value> annotations) {
     this.name = name;
     this.namespace = namespace;
@@ -41,16 +43,27 @@ public class Named {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Named)) {
       return false;
     }
     Named o = (Named) (other);
-    return name.equals(o.name) && namespace.equals(o.namespace) && aliases.equals(o.aliases) && doc.equals(o.doc) && type.equals(o.type) && annotations.equals(o.annotations);
+    return hashCode() == o.hashCode() && name.equals(o.name) && namespace.equals(o.namespace) && aliases.equals(o.aliases) && doc.equals(o.doc) && type.equals(o.type) && annotations.equals(o.annotations);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * namespace.hashCode() + 5 * aliases.hashCode() + 7 * doc.hashCode() + 11 * type.hashCode() + 13 * annotations.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * namespace.hashCode() + 5 * aliases.hashCode() + 7 * doc.hashCode() + 11 * type.hashCode() + 13 * annotations.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Named withName(String name) {
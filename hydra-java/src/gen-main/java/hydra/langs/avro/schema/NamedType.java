@@ -38,22 +38,35 @@ public abstract class NamedType {
   public static final class Enum_ extends hydra.langs.avro.schema.NamedType {
     public final hydra.langs.avro.schema.Enum_ value;
     
+    private int hashCode_;
+    
     public Enum_ (hydra.langs.avro.schema.Enum_ value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Enum_)) {
         return false;
       }
       Enum_ o = (Enum_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class NamedType {
   public static final class Fixed extends hydra.langs.avro.schema.NamedType {
     public final hydra.langs.avro.schema.Fixed value;
     
+    private int hashCode_;
+    
     public Fixed (hydra.langs.avro.schema.Fixed value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Fixed)) {
         return false;
       }
       Fixed o = (Fixed) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +118,35 @@ public abstract class NamedType {
   public static final class Record extends hydra.langs.avro.schema.NamedType {
     public final hydra.langs.avro.schema.Record value;
     
+    private int hashCode_;
+    
     public Record (hydra.langs.avro.schema.Record value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Record)) {
         return false;
       }
       Record o = (Record) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -42,6 +42,9 @@ public abstract class Order {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Ascending)) {
         return false;
       }
@@ -67,6 +70,9 @@ public abstract class Order {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Descending)) {
         return false;
       }
@@ -92,6 +98,9 @@ public abstract class Order {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Ignore)) {
         return false;
       }
@@ -75,6 +75,9 @@ public abstract class Primitive {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Null)) {
         return false;
       }
@@ -103,6 +106,9 @@ public abstract class Primitive {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Boolean_)) {
         return false;
       }
@@ -131,6 +137,9 @@ public abstract class Primitive {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Int)) {
         return false;
       }
@@ -159,6 +168,9 @@ public abstract class Primitive {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Long_)) {
         return false;
       }
@@ -187,6 +199,9 @@ public abstract class Primitive {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Float_)) {
         return false;
       }
@@ -215,6 +230,9 @@ public abstract class Primitive {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Double_)) {
         return false;
       }
@@ -243,6 +261,9 @@ public abstract class Primitive {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Bytes)) {
         return false;
       }
@@ -271,6 +292,9 @@ public abstract class Primitive {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof String_)) {
         return false;
       }
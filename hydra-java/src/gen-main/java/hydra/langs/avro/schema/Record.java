@@ -8,21 +8,34 @@ public class Record {
    */
   public final java.util.List<hydra.langs.avro.schema.Field> fields;
   
+  private int hashCode_;
+  
   public Record (java.util.List<hydra.langs.avro.schema.Field> fields) {
     this.fields = fields;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Record)) {
       return false;
     }
     Record o = (Record) (other);
-    return fields.equals(o.fields);
+    return hashCode() == o.hashCode() && fields.equals(o.fields);
   }
   
   @Override
   public int hashCode() {
-    return 2 * fields.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * fields.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
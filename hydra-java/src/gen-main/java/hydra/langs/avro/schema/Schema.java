@@ -56,22 +56,35 @@ public abstract class Schema {
   public static final class Array extends hydra.langs.avro.schema.Schema {
     public final hydra.langs.avro.schema.Array value;
     
+    private int hashCode_;
+    
     public Array (hydra.langs.avro.schema.Array value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Array)) {
         return false;
       }
       Array o = (Array) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -83,22 +96,35 @@ public abstract class Schema {
   public static final class Map extends hydra.langs.avro.schema.Schema {
     public final hydra.langs.avro.schema.Map value;
     
+    private int hashCode_;
+    
     public Map (hydra.langs.avro.schema.Map value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Map)) {
         return false;
       }
       Map o = (Map) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -110,22 +136,35 @@ public abstract class Schema {
   public static final class Named extends hydra.langs.avro.schema.Schema {
     public final hydra.langs.avro.schema.Named value;
     
+    private int hashCode_;
+    
     public Named (hydra.langs.avro.schema.Named value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Named)) {
         return false;
       }
       Named o = (Named) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -137,22 +176,35 @@ public abstract class Schema {
   public static final class Primitive extends hydra.langs.avro.schema.Schema {
     public final hydra.langs.avro.schema.Primitive value;
     
+    private int hashCode_;
+    
     public Primitive (hydra.langs.avro.schema.Primitive value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Primitive)) {
         return false;
       }
       Primitive o = (Primitive) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -170,22 +222,35 @@ public abstract class Schema {
      */
     public final String value;
     
+    private int hashCode_;
+    
     public Reference (String value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Reference)) {
         return false;
       }
       Reference o = (Reference) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -197,22 +262,35 @@ public abstract class Schema {
   public static final class Union extends hydra.langs.avro.schema.Schema {
     public final hydra.langs.avro.schema.Union value;
     
+    private int hashCode_;
+    
     public Union (hydra.langs.avro.schema.Union value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Union)) {
         return false;
       }
       Union o = (Union) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -32,22 +32,35 @@ public abstract class Alias {
   public static final class Name extends hydra.langs.graphql.syntax.Alias {
     public final hydra.langs.graphql.syntax.Name value;
     
+    private int hashCode_;
+    
     public Name (hydra.langs.graphql.syntax.Name value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Name)) {
         return false;
       }
       Name o = (Name) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -63,6 +76,9 @@ public abstract class Alias {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Colon)) {
         return false;
       }
@@ -7,6 +7,8 @@ public class Argument {
   
   public final hydra.langs.graphql.syntax.Value value;
   
+  private int hashCode_;
+  
   public Argument (hydra.langs.graphql.syntax.Name name, hydra.langs.graphql.syntax.Value value) {
     this.name = name;
     this.value = value;
@@ -14,16 +16,27 @@ public class Argument {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Argument)) {
       return false;
     }
     Argument o = (Argument) (other);
-    return name.equals(o.name) && value.equals(o.value);
+    return hashCode() == o.hashCode() && name.equals(o.name) && value.equals(o.value);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * value.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * value.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Argument withName(hydra.langs.graphql.syntax.Name name) {
@@ -32,22 +32,35 @@ public abstract class Definition {
   public static final class Executable extends hydra.langs.graphql.syntax.Definition {
     public final hydra.langs.graphql.syntax.ExecutableDefinition value;
     
+    private int hashCode_;
+    
     public Executable (hydra.langs.graphql.syntax.ExecutableDefinition value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Executable)) {
         return false;
       }
       Executable o = (Executable) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class Definition {
   public static final class TypeSystem extends hydra.langs.graphql.syntax.Definition {
     public final hydra.langs.graphql.syntax.TypeSystemDefinitionOrExtension value;
     
+    private int hashCode_;
+    
     public TypeSystem (hydra.langs.graphql.syntax.TypeSystemDefinitionOrExtension value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof TypeSystem)) {
         return false;
       }
       TypeSystem o = (TypeSystem) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -7,6 +7,8 @@ public class Directive {
   
   public final java.util.Optional<hydra.langs.graphql.syntax.Arguments> arguments;
   
+  private int hashCode_;
+  
   public Directive (hydra.langs.graphql.syntax.Name name, java.util.Optional<hydra.langs.graphql.syntax.Arguments> arguments) {
     this.name = name;
     this.arguments = arguments;
@@ -14,16 +16,27 @@ public class Directive {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Directive)) {
       return false;
     }
     Directive o = (Directive) (other);
-    return name.equals(o.name) && arguments.equals(o.arguments);
+    return hashCode() == o.hashCode() && name.equals(o.name) && arguments.equals(o.arguments);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * arguments.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * arguments.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Directive withName(hydra.langs.graphql.syntax.Name name) {
@@ -13,6 +13,8 @@ public class DirectiveDefinition {
   
   public final hydra.langs.graphql.syntax.DirectiveLocations directiveLocations;
   
+  private int hashCode_;
+  
   public DirectiveDefinition (java.util.Optional<hydra.langs.graphql.syntax.Description> description, hydra.langs.graphql.syntax.Name name, java.util.Optional<hydra.langs.graphql.syntax.ArgumentsDefinition> argumentsDefinition, java.util.Optional<java.lang.Void> repeatable, hydra.langs.graphql.syntax.DirectiveLocations directiveLocations) {
     this.description = description;
     this.name = name;
@@ -23,16 +25,27 @@ public class DirectiveDefinition {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DirectiveDefinition)) {
       return false;
     }
     DirectiveDefinition o = (DirectiveDefinition) (other);
-    return description.equals(o.description) && name.equals(o.name) && argumentsDefinition.equals(o.argumentsDefinition) && repeatable.equals(o.repeatable) && directiveLocations.equals(o.directiveLocations);
+    return hashCode() == o.hashCode() && description.equals(o.description) && name.equals(o.name) && argumentsDefinition.equals(o.argumentsDefinition) && repeatable.equals(o.repeatable) && directiveLocations.equals(o.directiveLocations);
   }
   
   @Override
   public int hashCode() {
-    return 2 * description.hashCode() + 3 * name.hashCode() + 5 * argumentsDefinition.hashCode() + 7 * repeatable.hashCode() + 11 * directiveLocations.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * description.hashCode() + 3 * name.hashCode() + 5 * argumentsDefinition.hashCode() + 7 * repeatable.hashCode() + 11 * directiveLocations.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public DirectiveDefinition withDescription(java.util.Optional<hydra.langs.graphql.syntax.Description> description) {
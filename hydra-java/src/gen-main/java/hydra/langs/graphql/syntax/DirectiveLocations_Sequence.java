@@ -7,6 +7,8 @@ public class DirectiveLocations_Sequence {
   
   public final hydra.langs.graphql.syntax.DirectiveLocation directiveLocation;
   
+  private int hashCode_;
+  
   public DirectiveLocations_Sequence (hydra.langs.graphql.syntax.DirectiveLocations directiveLocations, hydra.langs.graphql.syntax.DirectiveLocation directiveLocation) {
     this.directiveLocations = directiveLocations;
     this.directiveLocation = directiveLocation;
@@ -14,16 +16,27 @@ public class DirectiveLocations_Sequence {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DirectiveLocations_Sequence)) {
       return false;
     }
     DirectiveLocations_Sequence o = (DirectiveLocations_Sequence) (other);
-    return directiveLocations.equals(o.directiveLocations) && directiveLocation.equals(o.directiveLocation);
+    return hashCode() == o.hashCode() && directiveLocations.equals(o.directiveLocations) && directiveLocation.equals(o.directiveLocation);
   }
   
   @Override
   public int hashCode() {
-    return 2 * directiveLocations.hashCode() + 3 * directiveLocation.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * directiveLocations.hashCode() + 3 * directiveLocation.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public DirectiveLocations_Sequence withDirectiveLocations(hydra.langs.graphql.syntax.DirectiveLocations directiveLocations) {
@@ -7,6 +7,8 @@ public class DirectiveLocations_Sequence2 {
   
   public final hydra.langs.graphql.syntax.DirectiveLocation directiveLocation;
   
+  private int hashCode_;
+  
   public DirectiveLocations_Sequence2 (java.util.Optional<java.lang.Void> or, hydra.langs.graphql.syntax.DirectiveLocation directiveLocation) {
     this.or = or;
     this.directiveLocation = directiveLocation;
@@ -14,16 +16,27 @@ public class DirectiveLocations_Sequence2 {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DirectiveLocations_Sequence2)) {
       return false;
     }
     DirectiveLocations_Sequence2 o = (DirectiveLocations_Sequence2) (other);
-    return or.equals(o.or) && directiveLocation.equals(o.directiveLocation);
+    return hashCode() == o.hashCode() && or.equals(o.or) && directiveLocation.equals(o.directiveLocation);
   }
   
   @Override
   public int hashCode() {
-    return 2 * or.hashCode() + 3 * directiveLocation.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * or.hashCode() + 3 * directiveLocation.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public DirectiveLocations_Sequence2 withOr(java.util.Optional<java.lang.Void> or) {
@@ -11,6 +11,8 @@ public class EnumTypeDefinition {
   
   public final java.util.Optional<hydra.langs.graphql.syntax.EnumValuesDefinition> enumValuesDefinition;
   
+  private int hashCode_;
+  
   public EnumTypeDefinition (java.util.Optional<hydra.langs.graphql.syntax.Description> description, hydra.langs.graphql.syntax.Name name, java.util.Optional<hydra.langs.graphql.syntax.Directives> directives, java.util.Optional<hydra.langs.graphql.syntax.EnumValuesDefinition> enumValuesDefinition) {
     this.description = description;
     this.name = name;
@@ -20,16 +22,27 @@ public class EnumTypeDefinition {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof EnumTypeDefinition)) {
       return false;
     }
     EnumTypeDefinition o = (EnumTypeDefinition) (other);
-    return description.equals(o.description) && name.equals(o.name) && directives.equals(o.directives) && enumValuesDefinition.equals(o.enumValuesDefinition);
+    return hashCode() == o.hashCode() && description.equals(o.description) && name.equals(o.name) && directives.equals(o.directives) && enumValuesDefinition.equals(o.enumValuesDefinition);
   }
   
   @Override
   public int hashCode() {
-    return 2 * description.hashCode() + 3 * name.hashCode() + 5 * directives.hashCode() + 7 * enumValuesDefinition.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * description.hashCode() + 3 * name.hashCode() + 5 * directives.hashCode() + 7 * enumValuesDefinition.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public EnumTypeDefinition withDescription(java.util.Optional<hydra.langs.graphql.syntax.Description> description) {
@@ -9,6 +9,8 @@ public class EnumTypeExtension_Sequence {
   
   public final hydra.langs.graphql.syntax.EnumValuesDefinition enumValuesDefinition;
   
+  private int hashCode_;
+  
   public EnumTypeExtension_Sequence (hydra.langs.graphql.syntax.Name name, java.util.Optional<hydra.langs.graphql.syntax.Directives> directives, hydra.langs.graphql.syntax.EnumValuesDefinition enumValuesDefinition) {
     this.name = name;
     this.directives = directives;
@@ -17,16 +19,27 @@ public class EnumTypeExtension_Sequence {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof EnumTypeExtension_Sequence)) {
       return false;
     }
     EnumTypeExtension_Sequence o = (EnumTypeExtension_Sequence) (other);
-    return name.equals(o.name) && directives.equals(o.directives) && enumValuesDefinition.equals(o.enumValuesDefinition);
+    return hashCode() == o.hashCode() && name.equals(o.name) && directives.equals(o.directives) && enumValuesDefinition.equals(o.enumValuesDefinition);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * directives.hashCode() + 5 * enumValuesDefinition.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * directives.hashCode() + 5 * enumValuesDefinition.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public EnumTypeExtension_Sequence withName(hydra.langs.graphql.syntax.Name name) {
@@ -9,6 +9,8 @@ public class EnumValueDefinition {
   
   public final java.util.Optional<hydra.langs.graphql.syntax.Directives> directives;
   
+  private int hashCode_;
+  
   public EnumValueDefinition (java.util.Optional<hydra.langs.graphql.syntax.Description> description, hydra.langs.graphql.syntax.EnumValue enumValue, java.util.Optional<hydra.langs.graphql.syntax.Directives> directives) {
     this.description = description;
     this.enumValue = enumValue;
@@ -17,16 +19,27 @@ public class EnumValueDefinition {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof EnumValueDefinition)) {
       return false;
     }
     EnumValueDefinition o = (EnumValueDefinition) (other);
-    return description.equals(o.description) && enumValue.equals(o.enumValue) && directives.equals(o.directives);
+    return hashCode() == o.hashCode() && description.equals(o.description) && enumValue.equals(o.enumValue) && directives.equals(o.directives);
   }
   
   @Override
   public int hashCode() {
-    return 2 * description.hashCode() + 3 * enumValue.hashCode() + 5 * directives.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * description.hashCode() + 3 * enumValue.hashCode() + 5 * directives.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public EnumValueDefinition withDescription(java.util.Optional<hydra.langs.graphql.syntax.Description> description) {
@@ -32,22 +32,35 @@ public abstract class ExecutableDefinition {
   public static final class Operation extends hydra.langs.graphql.syntax.ExecutableDefinition {
     public final hydra.langs.graphql.syntax.OperationDefinition value;
     
+    private int hashCode_;
+    
     public Operation (hydra.langs.graphql.syntax.OperationDefinition value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Operation)) {
         return false;
       }
       Operation o = (Operation) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class ExecutableDefinition {
   public static final class Fragment extends hydra.langs.graphql.syntax.ExecutableDefinition {
     public final hydra.langs.graphql.syntax.FragmentDefinition value;
     
+    private int hashCode_;
+    
     public Fragment (hydra.langs.graphql.syntax.FragmentDefinition value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Fragment)) {
         return false;
       }
       Fragment o = (Fragment) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
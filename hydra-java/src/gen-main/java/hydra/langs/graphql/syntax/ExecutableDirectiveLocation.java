@@ -72,6 +72,9 @@ public abstract class ExecutableDirectiveLocation {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof QUERY)) {
         return false;
       }
@@ -97,6 +100,9 @@ public abstract class ExecutableDirectiveLocation {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof MUTATION)) {
         return false;
       }
@@ -122,6 +128,9 @@ public abstract class ExecutableDirectiveLocation {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof SUBSCRIPTION)) {
         return false;
       }
@@ -147,6 +156,9 @@ public abstract class ExecutableDirectiveLocation {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof FIELD)) {
         return false;
       }
@@ -172,6 +184,9 @@ public abstract class ExecutableDirectiveLocation {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof FRAGMENTLowbarDEFINITION)) {
         return false;
       }
@@ -197,6 +212,9 @@ public abstract class ExecutableDirectiveLocation {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof FRAGMENTLowbarSPREAD)) {
         return false;
       }
@@ -222,6 +240,9 @@ public abstract class ExecutableDirectiveLocation {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof INLINELowbarFRAGMENT)) {
         return false;
       }
@@ -247,6 +268,9 @@ public abstract class ExecutableDirectiveLocation {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof VARIABLELowbarDEFINITION)) {
         return false;
       }
@@ -13,6 +13,8 @@ public class Field {
   
   public final java.util.Optional<hydra.langs.graphql.syntax.SelectionSet> selectionSet;
   
+  private int hashCode_;
+  
   public Field (java.util.Optional<hydra.langs.graphql.syntax.Alias> alias, hydra.langs.graphql.syntax.Name name, java.util.Optional<hydra.langs.graphql.syntax.Arguments> arguments, java.util.Optional<hydra.langs.graphql.syntax.Directives> directives, java.util.Optional<hydra.langs.graphql.syntax.SelectionSet> selectionSet) {
     this.alias = alias;
     this.name = name;
@@ -23,16 +25,27 @@ public class Field {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Field)) {
       return false;
     }
     Field o = (Field) (other);
-    return alias.equals(o.alias) && name.equals(o.name) && arguments.equals(o.arguments) && directives.equals(o.directives) && selectionSet.equals(o.selectionSet);
+    return hashCode() == o.hashCode() && alias.equals(o.alias) && name.equals(o.name) && arguments.equals(o.arguments) && directives.equals(o.directives) && selectionSet.equals(o.selectionSet);
   }
   
   @Override
   public int hashCode() {
-    return 2 * alias.hashCode() + 3 * name.hashCode() + 5 * arguments.hashCode() + 7 * directives.hashCode() + 11 * selectionSet.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * alias.hashCode() + 3 * name.hashCode() + 5 * arguments.hashCode() + 7 * directives.hashCode() + 11 * selectionSet.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Field withAlias(java.util.Optional<hydra.langs.graphql.syntax.Alias> alias) {
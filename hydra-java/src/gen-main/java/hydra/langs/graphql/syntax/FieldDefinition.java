@@ -13,6 +13,8 @@ public class FieldDefinition {
   
   public final java.util.Optional<hydra.langs.graphql.syntax.Directives> directives;
   
+  private int hashCode_;
+  
   public FieldDefinition (java.util.Optional<hydra.langs.graphql.syntax.Description> description, hydra.langs.graphql.syntax.Name name, java.util.Optional<hydra.langs.graphql.syntax.ArgumentsDefinition> argumentsDefinition, hydra.langs.graphql.syntax.Type type, java.util.Optional<hydra.langs.graphql.syntax.Directives> directives) {
     this.description = description;
     this.name = name;
@@ -23,16 +25,27 @@ public class FieldDefinition {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof FieldDefinition)) {
       return false;
     }
     FieldDefinition o = (FieldDefinition) (other);
-    return description.equals(o.description) && name.equals(o.name) && argumentsDefinition.equals(o.argumentsDefinition) && type.equals(o.type) && directives.equals(o.directives);
+    return hashCode() == o.hashCode() && description.equals(o.description) && name.equals(o.name) && argumentsDefinition.equals(o.argumentsDefinition) && type.equals(o.type) && directives.equals(o.directives);
   }
   
   @Override
   public int hashCode() {
-    return 2 * description.hashCode() + 3 * name.hashCode() + 5 * argumentsDefinition.hashCode() + 7 * type.hashCode() + 11 * directives.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * description.hashCode() + 3 * name.hashCode() + 5 * argumentsDefinition.hashCode() + 7 * type.hashCode() + 11 * directives.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public FieldDefinition withDescription(java.util.Optional<hydra.langs.graphql.syntax.Description> description) {
@@ -11,6 +11,8 @@ public class FragmentDefinition {
   
   public final hydra.langs.graphql.syntax.SelectionSet selectionSet;
   
+  private int hashCode_;
+  
   public FragmentDefinition (hydra.langs.graphql.syntax.FragmentName fragmentName, hydra.langs.graphql.syntax.TypeCondition typeCondition, java.util.Optional<hydra.langs.graphql.syntax.Directives> directives, hydra.langs.graphql.syntax.SelectionSet selectionSet) {
     this.fragmentName = fragmentName;
     this.typeCondition = typeCondition;
@@ -20,16 +22,27 @@ public class FragmentDefinition {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof FragmentDefinition)) {
       return false;
     }
     FragmentDefinition o = (FragmentDefinition) (other);
-    return fragmentName.equals(o.fragmentName) && typeCondition.equals(o.typeCondition) && directives.equals(o.directives) && selectionSet.equals(o.selectionSet);
+    return hashCode() == o.hashCode() && fragmentName.equals(o.fragmentName) && typeCondition.equals(o.typeCondition) && directives.equals(o.directives) && selectionSet.equals(o.selectionSet);
   }
   
   @Override
   public int hashCode() {
-    return 2 * fragmentName.hashCode() + 3 * typeCondition.hashCode() + 5 * directives.hashCode() + 7 * selectionSet.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * fragmentName.hashCode() + 3 * typeCondition.hashCode() + 5 * directives.hashCode() + 7 * selectionSet.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public FragmentDefinition withFragmentName(hydra.langs.graphql.syntax.FragmentName fragmentName) {
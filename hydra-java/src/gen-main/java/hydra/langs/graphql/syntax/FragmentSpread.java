@@ -7,6 +7,8 @@ public class FragmentSpread {
   
   public final java.util.Optional<hydra.langs.graphql.syntax.Directives> directives;
   
+  private int hashCode_;
+  
   public FragmentSpread (hydra.langs.graphql.syntax.FragmentName fragmentName, java.util.Optional<hydra.langs.graphql.syntax.Directives> directives) {
     this.fragmentName = fragmentName;
     this.directives = directives;
@@ -14,16 +16,27 @@ public class FragmentSpread {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof FragmentSpread)) {
       return false;
     }
     FragmentSpread o = (FragmentSpread) (other);
-    return fragmentName.equals(o.fragmentName) && directives.equals(o.directives);
+    return hashCode() == o.hashCode() && fragmentName.equals(o.fragmentName) && directives.equals(o.directives);
   }
   
   @Override
   public int hashCode() {
-    return 2 * fragmentName.hashCode() + 3 * directives.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * fragmentName.hashCode() + 3 * directives.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public FragmentSpread withFragmentName(hydra.langs.graphql.syntax.FragmentName fragmentName) {
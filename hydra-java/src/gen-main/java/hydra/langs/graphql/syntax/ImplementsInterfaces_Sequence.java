@@ -7,6 +7,8 @@ public class ImplementsInterfaces_Sequence {
   
   public final hydra.langs.graphql.syntax.NamedType namedType;
   
+  private int hashCode_;
+  
   public ImplementsInterfaces_Sequence (hydra.langs.graphql.syntax.ImplementsInterfaces implementsInterfaces, hydra.langs.graphql.syntax.NamedType namedType) {
     this.implementsInterfaces = implementsInterfaces;
     this.namedType = namedType;
@@ -14,16 +16,27 @@ public class ImplementsInterfaces_Sequence {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ImplementsInterfaces_Sequence)) {
       return false;
     }
     ImplementsInterfaces_Sequence o = (ImplementsInterfaces_Sequence) (other);
-    return implementsInterfaces.equals(o.implementsInterfaces) && namedType.equals(o.namedType);
+    return hashCode() == o.hashCode() && implementsInterfaces.equals(o.implementsInterfaces) && namedType.equals(o.namedType);
   }
   
   @Override
   public int hashCode() {
-    return 2 * implementsInterfaces.hashCode() + 3 * namedType.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * implementsInterfaces.hashCode() + 3 * namedType.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ImplementsInterfaces_Sequence withImplementsInterfaces(hydra.langs.graphql.syntax.ImplementsInterfaces implementsInterfaces) {
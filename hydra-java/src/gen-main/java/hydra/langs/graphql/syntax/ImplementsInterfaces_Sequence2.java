@@ -7,6 +7,8 @@ public class ImplementsInterfaces_Sequence2 {
   
   public final hydra.langs.graphql.syntax.NamedType namedType;
   
+  private int hashCode_;
+  
   public ImplementsInterfaces_Sequence2 (java.util.Optional<java.lang.Void> amp, hydra.langs.graphql.syntax.NamedType namedType) {
     this.amp = amp;
     this.namedType = namedType;
@@ -14,16 +16,27 @@ public class ImplementsInterfaces_Sequence2 {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ImplementsInterfaces_Sequence2)) {
       return false;
     }
     ImplementsInterfaces_Sequence2 o = (ImplementsInterfaces_Sequence2) (other);
-    return amp.equals(o.amp) && namedType.equals(o.namedType);
+    return hashCode() == o.hashCode() && amp.equals(o.amp) && namedType.equals(o.namedType);
   }
   
   @Override
   public int hashCode() {
-    return 2 * amp.hashCode() + 3 * namedType.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * amp.hashCode() + 3 * namedType.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ImplementsInterfaces_Sequence2 withAmp(java.util.Optional<java.lang.Void> amp) {
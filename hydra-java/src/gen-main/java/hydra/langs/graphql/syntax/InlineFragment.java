@@ -9,6 +9,8 @@ public class InlineFragment {
   
   public final hydra.langs.graphql.syntax.SelectionSet selectionSet;
   
+  private int hashCode_;
+  
   public InlineFragment (java.util.Optional<hydra.langs.graphql.syntax.TypeCondition> typeCondition, java.util.Optional<hydra.langs.graphql.syntax.Directives> directives, hydra.langs.graphql.syntax.SelectionSet selectionSet) {
     this.typeCondition = typeCondition;
     this.directives = directives;
@@ -17,16 +19,27 @@ public class InlineFragment {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof InlineFragment)) {
       return false;
     }
     InlineFragment o = (InlineFragment) (other);
-    return typeCondition.equals(o.typeCondition) && directives.equals(o.directives) && selectionSet.equals(o.selectionSet);
+    return hashCode() == o.hashCode() && typeCondition.equals(o.typeCondition) && directives.equals(o.directives) && selectionSet.equals(o.selectionSet);
   }
   
   @Override
   public int hashCode() {
-    return 2 * typeCondition.hashCode() + 3 * directives.hashCode() + 5 * selectionSet.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * typeCondition.hashCode() + 3 * directives.hashCode() + 5 * selectionSet.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public InlineFragment withTypeCondition(java.util.Optional<hydra.langs.graphql.syntax.TypeCondition> typeCondition) {
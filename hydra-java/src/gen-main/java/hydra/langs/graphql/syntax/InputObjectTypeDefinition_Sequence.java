@@ -11,6 +11,8 @@ public class InputObjectTypeDefinition_Sequence {
   
   public final hydra.langs.graphql.syntax.InputFieldsDefinition inputFieldsDefinition;
   
+  private int hashCode_;
+  
   public InputObjectTypeDefinition_Sequence (java.util.Optional<hydra.langs.graphql.syntax.Description> description, hydra.langs.graphql.syntax.Name name, java.util.Optional<hydra.langs.graphql.syntax.Directives> directives, hydra.langs.graphql.syntax.InputFieldsDefinition inputFieldsDefinition) {
     this.description = description;
     this.name = name;
@@ -20,16 +22,27 @@ public class InputObjectTypeDefinition_Sequence {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof InputObjectTypeDefinition_Sequence)) {
       return false;
     }
     InputObjectTypeDefinition_Sequence o = (InputObjectTypeDefinition_Sequence) (other);
-    return description.equals(o.description) && name.equals(o.name) && directives.equals(o.directives) && inputFieldsDefinition.equals(o.inputFieldsDefinition);
+    return hashCode() == o.hashCode() && description.equals(o.description) && name.equals(o.name) && directives.equals(o.directives) && inputFieldsDefinition.equals(o.inputFieldsDefinition);
   }
   
   @Override
   public int hashCode() {
-    return 2 * description.hashCode() + 3 * name.hashCode() + 5 * directives.hashCode() + 7 * inputFieldsDefinition.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * description.hashCode() + 3 * name.hashCode() + 5 * directives.hashCode() + 7 * inputFieldsDefinition.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public InputObjectTypeDefinition_Sequence withDescription(java.util.Optional<hydra.langs.graphql.syntax.Description> description) {
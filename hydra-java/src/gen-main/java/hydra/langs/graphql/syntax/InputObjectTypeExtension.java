@@ -32,22 +32,35 @@ public abstract class InputObjectTypeExtension {
   public static final class Sequence extends hydra.langs.graphql.syntax.InputObjectTypeExtension {
     public final hydra.langs.graphql.syntax.InputObjectTypeExtension_Sequence value;
     
+    private int hashCode_;
+    
     public Sequence (hydra.langs.graphql.syntax.InputObjectTypeExtension_Sequence value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Sequence)) {
         return false;
       }
       Sequence o = (Sequence) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class InputObjectTypeExtension {
   public static final class Sequence2 extends hydra.langs.graphql.syntax.InputObjectTypeExtension {
     public final hydra.langs.graphql.syntax.InputObjectTypeExtension_Sequence2 value;
     
+    private int hashCode_;
+    
     public Sequence2 (hydra.langs.graphql.syntax.InputObjectTypeExtension_Sequence2 value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Sequence2)) {
         return false;
       }
       Sequence2 o = (Sequence2) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -9,6 +9,8 @@ public class InputObjectTypeExtension_Sequence {
   
   public final hydra.langs.graphql.syntax.InputFieldsDefinition inputFieldsDefinition;
   
+  private int hashCode_;
+  
   public InputObjectTypeExtension_Sequence (hydra.langs.graphql.syntax.Name name, java.util.Optional<hydra.langs.graphql.syntax.Directives> directives, hydra.langs.graphql.syntax.InputFieldsDefinition inputFieldsDefinition) {
     this.name = name;
     this.directives = directives;
@@ -17,16 +19,27 @@ public class InputObjectTypeExtension_Sequence {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof InputObjectTypeExtension_Sequence)) {
       return false;
     }
     InputObjectTypeExtension_Sequence o = (InputObjectTypeExtension_Sequence) (other);
-    return name.equals(o.name) && directives.equals(o.directives) && inputFieldsDefinition.equals(o.inputFieldsDefinition);
+    return hashCode() == o.hashCode() && name.equals(o.name) && directives.equals(o.directives) && inputFieldsDefinition.equals(o.inputFieldsDefinition);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * directives.hashCode() + 5 * inputFieldsDefinition.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * directives.hashCode() + 5 * inputFieldsDefinition.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public InputObjectTypeExtension_Sequence withName(hydra.langs.graphql.syntax.Name name) {
@@ -38,22 +38,35 @@ public abstract class InterfaceTypeExtension {
   public static final class Sequence extends hydra.langs.graphql.syntax.InterfaceTypeExtension {
     public final hydra.langs.graphql.syntax.InterfaceTypeExtension_Sequence value;
     
+    private int hashCode_;
+    
     public Sequence (hydra.langs.graphql.syntax.InterfaceTypeExtension_Sequence value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Sequence)) {
         return false;
       }
       Sequence o = (Sequence) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class InterfaceTypeExtension {
   public static final class Sequence2 extends hydra.langs.graphql.syntax.InterfaceTypeExtension {
     public final hydra.langs.graphql.syntax.InterfaceTypeExtension_Sequence2 value;
     
+    private int hashCode_;
+    
     public Sequence2 (hydra.langs.graphql.syntax.InterfaceTypeExtension_Sequence2 value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Sequence2)) {
         return false;
       }
       Sequence2 o = (Sequence2) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +118,35 @@ public abstract class InterfaceTypeExtension {
   public static final class Sequence3 extends hydra.langs.graphql.syntax.InterfaceTypeExtension {
     public final hydra.langs.graphql.syntax.InterfaceTypeExtension_Sequence3 value;
     
+    private int hashCode_;
+    
     public Sequence3 (hydra.langs.graphql.syntax.InterfaceTypeExtension_Sequence3 value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Sequence3)) {
         return false;
       }
       Sequence3 o = (Sequence3) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
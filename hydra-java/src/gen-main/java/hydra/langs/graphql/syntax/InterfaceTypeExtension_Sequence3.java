@@ -7,6 +7,8 @@ public class InterfaceTypeExtension_Sequence3 {
   
   public final hydra.langs.graphql.syntax.ImplementsInterfaces implementsInterfaces;
   
+  private int hashCode_;
+  
   public InterfaceTypeExtension_Sequence3 (hydra.langs.graphql.syntax.Name name, hydra.langs.graphql.syntax.ImplementsInterfaces implementsInterfaces) {
     this.name = name;
     this.implementsInterfaces = implementsInterfaces;
@@ -14,16 +16,27 @@ public class InterfaceTypeExtension_Sequence3 {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof InterfaceTypeExtension_Sequence3)) {
       return false;
     }
     InterfaceTypeExtension_Sequence3 o = (InterfaceTypeExtension_Sequence3) (other);
-    return name.equals(o.name) && implementsInterfaces.equals(o.implementsInterfaces);
+    return hashCode() == o.hashCode() && name.equals(o.name) && implementsInterfaces.equals(o.implementsInterfaces);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * implementsInterfaces.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * implementsInterfaces.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public InterfaceTypeExtension_Sequence3 withName(hydra.langs.graphql.syntax.Name name) {
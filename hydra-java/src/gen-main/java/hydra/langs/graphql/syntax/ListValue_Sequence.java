@@ -9,6 +9,9 @@ public class ListValue_Sequence {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ListValue_Sequence)) {
       return false;
     }
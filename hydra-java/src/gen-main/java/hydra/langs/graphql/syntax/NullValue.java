@@ -9,6 +9,9 @@ public class NullValue {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof NullValue)) {
       return false;
     }
@@ -7,6 +7,8 @@ public class ObjectField {
   
   public final hydra.langs.graphql.syntax.Value value;
   
+  private int hashCode_;
+  
   public ObjectField (hydra.langs.graphql.syntax.Name name, hydra.langs.graphql.syntax.Value value) {
     this.name = name;
     this.value = value;
@@ -14,16 +16,27 @@ public class ObjectField {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ObjectField)) {
       return false;
     }
     ObjectField o = (ObjectField) (other);
-    return name.equals(o.name) && value.equals(o.value);
+    return hashCode() == o.hashCode() && name.equals(o.name) && value.equals(o.value);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * value.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * value.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ObjectField withName(hydra.langs.graphql.syntax.Name name) {
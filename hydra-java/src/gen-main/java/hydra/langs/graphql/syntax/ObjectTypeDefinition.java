@@ -13,6 +13,8 @@ public class ObjectTypeDefinition {
   
   public final java.util.Optional<hydra.langs.graphql.syntax.FieldsDefinition> fieldsDefinition;
   
+  private int hashCode_;
+  
   public ObjectTypeDefinition (java.util.Optional<hydra.langs.graphql.syntax.Description> description, hydra.langs.graphql.syntax.Name name, java.util.Optional<hydra.langs.graphql.syntax.ImplementsInterfaces> implementsInterfaces, java.util.Optional<hydra.langs.graphql.syntax.Directives> directives, java.util.Optional<hydra.langs.graphql.syntax.FieldsDefinition> fieldsDefinition) {
     this.description = description;
     this.name = name;
@@ -23,16 +25,27 @@ public class ObjectTypeDefinition {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ObjectTypeDefinition)) {
       return false;
     }
     ObjectTypeDefinition o = (ObjectTypeDefinition) (other);
-    return description.equals(o.description) && name.equals(o.name) && implementsInterfaces.equals(o.implementsInterfaces) && directives.equals(o.directives) && fieldsDefinition.equals(o.fieldsDefinition);
+    return hashCode() == o.hashCode() && description.equals(o.description) && name.equals(o.name) && implementsInterfaces.equals(o.implementsInterfaces) && directives.equals(o.directives) && fieldsDefinition.equals(o.fieldsDefinition);
   }
   
   @Override
   public int hashCode() {
-    return 2 * description.hashCode() + 3 * name.hashCode() + 5 * implementsInterfaces.hashCode() + 7 * directives.hashCode() + 11 * fieldsDefinition.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * description.hashCode() + 3 * name.hashCode() + 5 * implementsInterfaces.hashCode() + 7 * directives.hashCode() + 11 * fieldsDefinition.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ObjectTypeDefinition withDescription(java.util.Optional<hydra.langs.graphql.syntax.Description> description) {
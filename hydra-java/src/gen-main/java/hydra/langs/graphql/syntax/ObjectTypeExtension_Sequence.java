@@ -11,6 +11,8 @@ public class ObjectTypeExtension_Sequence {
   
   public final hydra.langs.graphql.syntax.FieldsDefinition fieldsDefinition;
   
+  private int hashCode_;
+  
   public ObjectTypeExtension_Sequence (hydra.langs.graphql.syntax.Name name, java.util.Optional<hydra.langs.graphql.syntax.ImplementsInterfaces> implementsInterfaces, java.util.Optional<hydra.langs.graphql.syntax.Directives> directives, hydra.langs.graphql.syntax.FieldsDefinition fieldsDefinition) {
     this.name = name;
     this.implementsInterfaces = implementsInterfaces;
@@ -20,16 +22,27 @@ public class ObjectTypeExtension_Sequence {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ObjectTypeExtension_Sequence)) {
       return false;
     }
     ObjectTypeExtension_Sequence o = (ObjectTypeExtension_Sequence) (other);
-    return name.equals(o.name) && implementsInterfaces.equals(o.implementsInterfaces) && directives.equals(o.directives) && fieldsDefinition.equals(o.fieldsDefinition);
+    return hashCode() == o.hashCode() && name.equals(o.name) && implementsInterfaces.equals(o.implementsInterfaces) && directives.equals(o.directives) && fieldsDefinition.equals(o.fieldsDefinition);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * implementsInterfaces.hashCode() + 5 * directives.hashCode() + 7 * fieldsDefinition.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * implementsInterfaces.hashCode() + 5 * directives.hashCode() + 7 * fieldsDefinition.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ObjectTypeExtension_Sequence withName(hydra.langs.graphql.syntax.Name name) {
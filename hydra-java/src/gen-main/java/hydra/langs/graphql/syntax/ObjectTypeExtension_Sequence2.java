@@ -9,6 +9,8 @@ public class ObjectTypeExtension_Sequence2 {
   
   public final java.util.Optional<hydra.langs.graphql.syntax.Directives> directives;
   
+  private int hashCode_;
+  
   public ObjectTypeExtension_Sequence2 (hydra.langs.graphql.syntax.Name name, java.util.Optional<hydra.langs.graphql.syntax.ImplementsInterfaces> implementsInterfaces, java.util.Optional<hydra.langs.graphql.syntax.Directives> directives) {
     this.name = name;
     this.implementsInterfaces = implementsInterfaces;
@@ -17,16 +19,27 @@ public class ObjectTypeExtension_Sequence2 {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ObjectTypeExtension_Sequence2)) {
       return false;
     }
     ObjectTypeExtension_Sequence2 o = (ObjectTypeExtension_Sequence2) (other);
-    return name.equals(o.name) && implementsInterfaces.equals(o.implementsInterfaces) && directives.equals(o.directives);
+    return hashCode() == o.hashCode() && name.equals(o.name) && implementsInterfaces.equals(o.implementsInterfaces) && directives.equals(o.directives);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * implementsInterfaces.hashCode() + 5 * directives.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * implementsInterfaces.hashCode() + 5 * directives.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ObjectTypeExtension_Sequence2 withName(hydra.langs.graphql.syntax.Name name) {
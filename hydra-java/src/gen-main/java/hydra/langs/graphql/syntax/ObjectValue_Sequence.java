@@ -9,6 +9,9 @@ public class ObjectValue_Sequence {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ObjectValue_Sequence)) {
       return false;
     }
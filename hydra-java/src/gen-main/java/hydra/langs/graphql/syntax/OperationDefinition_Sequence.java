@@ -13,6 +13,8 @@ public class OperationDefinition_Sequence {
   
   public final hydra.langs.graphql.syntax.SelectionSet selectionSet;
   
+  private int hashCode_;
+  
   public OperationDefinition_Sequence (hydra.langs.graphql.syntax.OperationType operationType, java.util.Optional<hydra.langs.graphql.syntax.Name> name, java.util.Optional<hydra.langs.graphql.syntax.VariablesDefinition> variablesDefinition, java.util.Optional<hydra.langs.graphql.syntax.Directives> directives, hydra.langs.graphql.syntax.SelectionSet selectionSet) {
     this.operationType = operationType;
     this.name = name;
@@ -23,16 +25,27 @@ public class OperationDefinition_Sequence {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof OperationDefinition_Sequence)) {
       return false;
     }
     OperationDefinition_Sequence o = (OperationDefinition_Sequence) (other);
-    return operationType.equals(o.operationType) && name.equals(o.name) && variablesDefinition.equals(o.variablesDefinition) && directives.equals(o.directives) && selectionSet.equals(o.selectionSet);
+    return hashCode() == o.hashCode() && operationType.equals(o.operationType) && name.equals(o.name) && variablesDefinition.equals(o.variablesDefinition) && directives.equals(o.directives) && selectionSet.equals(o.selectionSet);
   }
   
   @Override
   public int hashCode() {
-    return 2 * operationType.hashCode() + 3 * name.hashCode() + 5 * variablesDefinition.hashCode() + 7 * directives.hashCode() + 11 * selectionSet.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * operationType.hashCode() + 3 * name.hashCode() + 5 * variablesDefinition.hashCode() + 7 * directives.hashCode() + 11 * selectionSet.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public OperationDefinition_Sequence withOperationType(hydra.langs.graphql.syntax.OperationType operationType) {
@@ -42,6 +42,9 @@ public abstract class OperationType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Query)) {
         return false;
       }
@@ -67,6 +70,9 @@ public abstract class OperationType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Mutation)) {
         return false;
       }
@@ -92,6 +98,9 @@ public abstract class OperationType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Subscription)) {
         return false;
       }
@@ -7,6 +7,8 @@ public class RootOperationTypeDefinition {
   
   public final hydra.langs.graphql.syntax.NamedType namedType;
   
+  private int hashCode_;
+  
   public RootOperationTypeDefinition (hydra.langs.graphql.syntax.OperationType operationType, hydra.langs.graphql.syntax.NamedType namedType) {
     this.operationType = operationType;
     this.namedType = namedType;
@@ -14,16 +16,27 @@ public class RootOperationTypeDefinition {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof RootOperationTypeDefinition)) {
       return false;
     }
     RootOperationTypeDefinition o = (RootOperationTypeDefinition) (other);
-    return operationType.equals(o.operationType) && namedType.equals(o.namedType);
+    return hashCode() == o.hashCode() && operationType.equals(o.operationType) && namedType.equals(o.namedType);
   }
   
   @Override
   public int hashCode() {
-    return 2 * operationType.hashCode() + 3 * namedType.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * operationType.hashCode() + 3 * namedType.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public RootOperationTypeDefinition withOperationType(hydra.langs.graphql.syntax.OperationType operationType) {
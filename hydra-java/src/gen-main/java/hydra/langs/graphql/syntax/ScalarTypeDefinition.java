@@ -9,6 +9,8 @@ public class ScalarTypeDefinition {
   
   public final java.util.Optional<hydra.langs.graphql.syntax.Directives> directives;
   
+  private int hashCode_;
+  
   public ScalarTypeDefinition (java.util.Optional<hydra.langs.graphql.syntax.Description> description, hydra.langs.graphql.syntax.Name name, java.util.Optional<hydra.langs.graphql.syntax.Directives> directives) {
     this.description = description;
     this.name = name;
@@ -17,16 +19,27 @@ public class ScalarTypeDefinition {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ScalarTypeDefinition)) {
       return false;
     }
     ScalarTypeDefinition o = (ScalarTypeDefinition) (other);
-    return description.equals(o.description) && name.equals(o.name) && directives.equals(o.directives);
+    return hashCode() == o.hashCode() && description.equals(o.description) && name.equals(o.name) && directives.equals(o.directives);
   }
   
   @Override
   public int hashCode() {
-    return 2 * description.hashCode() + 3 * name.hashCode() + 5 * directives.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * description.hashCode() + 3 * name.hashCode() + 5 * directives.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ScalarTypeDefinition withDescription(java.util.Optional<hydra.langs.graphql.syntax.Description> description) {
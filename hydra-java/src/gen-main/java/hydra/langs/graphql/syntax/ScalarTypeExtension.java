@@ -7,6 +7,8 @@ public class ScalarTypeExtension {
   
   public final hydra.langs.graphql.syntax.Directives directives;
   
+  private int hashCode_;
+  
   public ScalarTypeExtension (hydra.langs.graphql.syntax.Name name, hydra.langs.graphql.syntax.Directives directives) {
     this.name = name;
     this.directives = directives;
@@ -14,16 +16,27 @@ public class ScalarTypeExtension {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ScalarTypeExtension)) {
       return false;
     }
     ScalarTypeExtension o = (ScalarTypeExtension) (other);
-    return name.equals(o.name) && directives.equals(o.directives);
+    return hashCode() == o.hashCode() && name.equals(o.name) && directives.equals(o.directives);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * directives.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * directives.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ScalarTypeExtension withName(hydra.langs.graphql.syntax.Name name) {
@@ -9,6 +9,8 @@ public class SchemaDefinition {
   
   public final hydra.langs.graphql.syntax.RootOperationTypeDefinition rootOperationTypeDefinition;
   
+  private int hashCode_;
+  
   public SchemaDefinition (java.util.Optional<hydra.langs.graphql.syntax.Description> description, java.util.Optional<hydra.langs.graphql.syntax.Directives> directives, hydra.langs.graphql.syntax.RootOperationTypeDefinition rootOperationTypeDefinition) {
     this.description = description;
     this.directives = directives;
@@ -17,16 +19,27 @@ public class SchemaDefinition {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof SchemaDefinition)) {
       return false;
     }
     SchemaDefinition o = (SchemaDefinition) (other);
-    return description.equals(o.description) && directives.equals(o.directives) && rootOperationTypeDefinition.equals(o.rootOperationTypeDefinition);
+    return hashCode() == o.hashCode() && description.equals(o.description) && directives.equals(o.directives) && rootOperationTypeDefinition.equals(o.rootOperationTypeDefinition);
   }
   
   @Override
   public int hashCode() {
-    return 2 * description.hashCode() + 3 * directives.hashCode() + 5 * rootOperationTypeDefinition.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * description.hashCode() + 3 * directives.hashCode() + 5 * rootOperationTypeDefinition.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public SchemaDefinition withDescription(java.util.Optional<hydra.langs.graphql.syntax.Description> description) {
@@ -7,6 +7,8 @@ public class SchemaExtension_Sequence {
   
   public final hydra.langs.graphql.syntax.RootOperationTypeDefinition rootOperationTypeDefinition;
   
+  private int hashCode_;
+  
   public SchemaExtension_Sequence (java.util.Optional<hydra.langs.graphql.syntax.Directives> directives, hydra.langs.graphql.syntax.RootOperationTypeDefinition rootOperationTypeDefinition) {
     this.directives = directives;
     this.rootOperationTypeDefinition = rootOperationTypeDefinition;
@@ -14,16 +16,27 @@ public class SchemaExtension_Sequence {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof SchemaExtension_Sequence)) {
       return false;
     }
     SchemaExtension_Sequence o = (SchemaExtension_Sequence) (other);
-    return directives.equals(o.directives) && rootOperationTypeDefinition.equals(o.rootOperationTypeDefinition);
+    return hashCode() == o.hashCode() && directives.equals(o.directives) && rootOperationTypeDefinition.equals(o.rootOperationTypeDefinition);
   }
   
   @Override
   public int hashCode() {
-    return 2 * directives.hashCode() + 3 * rootOperationTypeDefinition.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * directives.hashCode() + 3 * rootOperationTypeDefinition.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public SchemaExtension_Sequence withDirectives(java.util.Optional<hydra.langs.graphql.syntax.Directives> directives) {
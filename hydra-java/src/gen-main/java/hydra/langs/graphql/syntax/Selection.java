@@ -38,22 +38,35 @@ public abstract class Selection {
   public static final class Field extends hydra.langs.graphql.syntax.Selection {
     public final hydra.langs.graphql.syntax.Field value;
     
+    private int hashCode_;
+    
     public Field (hydra.langs.graphql.syntax.Field value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Field)) {
         return false;
       }
       Field o = (Field) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class Selection {
   public static final class FragmentSpread extends hydra.langs.graphql.syntax.Selection {
     public final hydra.langs.graphql.syntax.FragmentSpread value;
     
+    private int hashCode_;
+    
     public FragmentSpread (hydra.langs.graphql.syntax.FragmentSpread value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof FragmentSpread)) {
         return false;
       }
       FragmentSpread o = (FragmentSpread) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +118,35 @@ public abstract class Selection {
   public static final class InlineFragment extends hydra.langs.graphql.syntax.Selection {
     public final hydra.langs.graphql.syntax.InlineFragment value;
     
+    private int hashCode_;
+    
     public InlineFragment (hydra.langs.graphql.syntax.InlineFragment value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof InlineFragment)) {
         return false;
       }
       InlineFragment o = (InlineFragment) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -38,22 +38,35 @@ public abstract class Type {
   public static final class Named extends hydra.langs.graphql.syntax.Type {
     public final hydra.langs.graphql.syntax.NamedType value;
     
+    private int hashCode_;
+    
     public Named (hydra.langs.graphql.syntax.NamedType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Named)) {
         return false;
       }
       Named o = (Named) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class Type {
   public static final class List extends hydra.langs.graphql.syntax.Type {
     public final hydra.langs.graphql.syntax.ListType value;
     
+    private int hashCode_;
+    
     public List (hydra.langs.graphql.syntax.ListType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof List)) {
         return false;
       }
       List o = (List) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +118,35 @@ public abstract class Type {
   public static final class NonNull extends hydra.langs.graphql.syntax.Type {
     public final hydra.langs.graphql.syntax.NonNullType value;
     
+    private int hashCode_;
+    
     public NonNull (hydra.langs.graphql.syntax.NonNullType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof NonNull)) {
         return false;
       }
       NonNull o = (NonNull) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
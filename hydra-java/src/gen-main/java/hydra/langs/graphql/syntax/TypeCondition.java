@@ -36,6 +36,9 @@ public abstract class TypeCondition {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof On)) {
         return false;
       }
@@ -57,22 +60,35 @@ public abstract class TypeCondition {
   public static final class NamedType extends hydra.langs.graphql.syntax.TypeCondition {
     public final hydra.langs.graphql.syntax.NamedType value;
     
+    private int hashCode_;
+    
     public NamedType (hydra.langs.graphql.syntax.NamedType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof NamedType)) {
         return false;
       }
       NamedType o = (NamedType) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
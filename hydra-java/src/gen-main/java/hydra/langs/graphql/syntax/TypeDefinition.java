@@ -56,22 +56,35 @@ public abstract class TypeDefinition {
   public static final class Scalar extends hydra.langs.graphql.syntax.TypeDefinition {
     public final hydra.langs.graphql.syntax.ScalarTypeDefinition value;
     
+    private int hashCode_;
+    
     public Scalar (hydra.langs.graphql.syntax.ScalarTypeDefinition value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Scalar)) {
         return false;
       }
       Scalar o = (Scalar) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -83,22 +96,35 @@ public abstract class TypeDefinition {
   public static final class Object_ extends hydra.langs.graphql.syntax.TypeDefinition {
     public final hydra.langs.graphql.syntax.ObjectTypeDefinition value;
     
+    private int hashCode_;
+    
     public Object_ (hydra.langs.graphql.syntax.ObjectTypeDefinition value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Object_)) {
         return false;
       }
       Object_ o = (Object_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -110,22 +136,35 @@ public abstract class TypeDefinition {
   public static final class Interface extends hydra.langs.graphql.syntax.TypeDefinition {
     public final hydra.langs.graphql.syntax.InterfaceTypeDefinition value;
     
+    private int hashCode_;
+    
     public Interface (hydra.langs.graphql.syntax.InterfaceTypeDefinition value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Interface)) {
         return false;
       }
       Interface o = (Interface) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -137,22 +176,35 @@ public abstract class TypeDefinition {
   public static final class Union extends hydra.langs.graphql.syntax.TypeDefinition {
     public final hydra.langs.graphql.syntax.UnionTypeDefinition value;
     
+    private int hashCode_;
+    
     public Union (hydra.langs.graphql.syntax.UnionTypeDefinition value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Union)) {
         return false;
       }
       Union o = (Union) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -164,22 +216,35 @@ public abstract class TypeDefinition {
   public static final class Enum_ extends hydra.langs.graphql.syntax.TypeDefinition {
     public final hydra.langs.graphql.syntax.EnumTypeDefinition value;
     
+    private int hashCode_;
+    
     public Enum_ (hydra.langs.graphql.syntax.EnumTypeDefinition value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Enum_)) {
         return false;
       }
       Enum_ o = (Enum_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -191,22 +256,35 @@ public abstract class TypeDefinition {
   public static final class InputObject extends hydra.langs.graphql.syntax.TypeDefinition {
     public final hydra.langs.graphql.syntax.InputObjectTypeDefinition value;
     
+    private int hashCode_;
+    
     public InputObject (hydra.langs.graphql.syntax.InputObjectTypeDefinition value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof InputObject)) {
         return false;
       }
       InputObject o = (InputObject) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
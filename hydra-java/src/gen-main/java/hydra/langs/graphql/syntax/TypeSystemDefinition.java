@@ -38,22 +38,35 @@ public abstract class TypeSystemDefinition {
   public static final class Schema extends hydra.langs.graphql.syntax.TypeSystemDefinition {
     public final hydra.langs.graphql.syntax.SchemaDefinition value;
     
+    private int hashCode_;
+    
     public Schema (hydra.langs.graphql.syntax.SchemaDefinition value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Schema)) {
         return false;
       }
       Schema o = (Schema) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class TypeSystemDefinition {
   public static final class Type extends hydra.langs.graphql.syntax.TypeSystemDefinition {
     public final hydra.langs.graphql.syntax.TypeDefinition value;
     
+    private int hashCode_;
+    
     public Type (hydra.langs.graphql.syntax.TypeDefinition value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Type)) {
         return false;
       }
       Type o = (Type) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +118,35 @@ public abstract class TypeSystemDefinition {
   public static final class Directive extends hydra.langs.graphql.syntax.TypeSystemDefinition {
     public final hydra.langs.graphql.syntax.DirectiveDefinition value;
     
+    private int hashCode_;
+    
     public Directive (hydra.langs.graphql.syntax.DirectiveDefinition value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Directive)) {
         return false;
       }
       Directive o = (Directive) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -32,22 +32,35 @@ public abstract class TypeSystemDefinitionOrExtension {
   public static final class Definition extends hydra.langs.graphql.syntax.TypeSystemDefinitionOrExtension {
     public final hydra.langs.graphql.syntax.TypeSystemDefinition value;
     
+    private int hashCode_;
+    
     public Definition (hydra.langs.graphql.syntax.TypeSystemDefinition value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Definition)) {
         return false;
       }
       Definition o = (Definition) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class TypeSystemDefinitionOrExtension {
   public static final class Extension extends hydra.langs.graphql.syntax.TypeSystemDefinitionOrExtension {
     public final hydra.langs.graphql.syntax.TypeSystemExtension value;
     
+    private int hashCode_;
+    
     public Extension (hydra.langs.graphql.syntax.TypeSystemExtension value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Extension)) {
         return false;
       }
       Extension o = (Extension) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -90,6 +90,9 @@ public abstract class TypeSystemDirectiveLocation {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof SCHEMA)) {
         return false;
       }
@@ -115,6 +118,9 @@ public abstract class TypeSystemDirectiveLocation {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof SCALAR)) {
         return false;
       }
@@ -140,6 +146,9 @@ public abstract class TypeSystemDirectiveLocation {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof OBJECT)) {
         return false;
       }
@@ -165,6 +174,9 @@ public abstract class TypeSystemDirectiveLocation {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof FIELDLowbarDEFINITION)) {
         return false;
       }
@@ -190,6 +202,9 @@ public abstract class TypeSystemDirectiveLocation {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ARGUMENTLowbarDEFINITION)) {
         return false;
       }
@@ -215,6 +230,9 @@ public abstract class TypeSystemDirectiveLocation {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof INTERFACE)) {
         return false;
       }
@@ -240,6 +258,9 @@ public abstract class TypeSystemDirectiveLocation {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof UNION)) {
         return false;
       }
@@ -265,6 +286,9 @@ public abstract class TypeSystemDirectiveLocation {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ENUM)) {
         return false;
       }
@@ -290,6 +314,9 @@ public abstract class TypeSystemDirectiveLocation {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ENUMLowbarVALUE)) {
         return false;
       }
@@ -315,6 +342,9 @@ public abstract class TypeSystemDirectiveLocation {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof INPUTLowbarOBJECT)) {
         return false;
       }
@@ -340,6 +370,9 @@ public abstract class TypeSystemDirectiveLocation {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof INPUTLowbarFIELDLowbarDEFINITION)) {
         return false;
       }
@@ -32,22 +32,35 @@ public abstract class TypeSystemExtension {
   public static final class Schema extends hydra.langs.graphql.syntax.TypeSystemExtension {
     public final hydra.langs.graphql.syntax.SchemaExtension value;
     
+    private int hashCode_;
+    
     public Schema (hydra.langs.graphql.syntax.SchemaExtension value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Schema)) {
         return false;
       }
       Schema o = (Schema) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class TypeSystemExtension {
   public static final class Type extends hydra.langs.graphql.syntax.TypeSystemExtension {
     public final hydra.langs.graphql.syntax.TypeExtension value;
     
+    private int hashCode_;
+    
     public Type (hydra.langs.graphql.syntax.TypeExtension value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Type)) {
         return false;
       }
       Type o = (Type) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
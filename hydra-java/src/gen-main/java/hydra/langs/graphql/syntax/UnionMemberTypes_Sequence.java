@@ -7,6 +7,8 @@ public class UnionMemberTypes_Sequence {
   
   public final hydra.langs.graphql.syntax.NamedType namedType;
   
+  private int hashCode_;
+  
   public UnionMemberTypes_Sequence (hydra.langs.graphql.syntax.UnionMemberTypes unionMemberTypes, hydra.langs.graphql.syntax.NamedType namedType) {
     this.unionMemberTypes = unionMemberTypes;
     this.namedType = namedType;
@@ -14,16 +16,27 @@ public class UnionMemberTypes_Sequence {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof UnionMemberTypes_Sequence)) {
       return false;
     }
     UnionMemberTypes_Sequence o = (UnionMemberTypes_Sequence) (other);
-    return unionMemberTypes.equals(o.unionMemberTypes) && namedType.equals(o.namedType);
+    return hashCode() == o.hashCode() && unionMemberTypes.equals(o.unionMemberTypes) && namedType.equals(o.namedType);
   }
   
   @Override
   public int hashCode() {
-    return 2 * unionMemberTypes.hashCode() + 3 * namedType.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * unionMemberTypes.hashCode() + 3 * namedType.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public UnionMemberTypes_Sequence withUnionMemberTypes(hydra.langs.graphql.syntax.UnionMemberTypes unionMemberTypes) {
@@ -7,6 +7,8 @@ public class UnionMemberTypes_Sequence2 {
   
   public final hydra.langs.graphql.syntax.NamedType namedType;
   
+  private int hashCode_;
+  
   public UnionMemberTypes_Sequence2 (java.util.Optional<java.lang.Void> or, hydra.langs.graphql.syntax.NamedType namedType) {
     this.or = or;
     this.namedType = namedType;
@@ -14,16 +16,27 @@ public class UnionMemberTypes_Sequence2 {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof UnionMemberTypes_Sequence2)) {
       return false;
     }
     UnionMemberTypes_Sequence2 o = (UnionMemberTypes_Sequence2) (other);
-    return or.equals(o.or) && namedType.equals(o.namedType);
+    return hashCode() == o.hashCode() && or.equals(o.or) && namedType.equals(o.namedType);
   }
   
   @Override
   public int hashCode() {
-    return 2 * or.hashCode() + 3 * namedType.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * or.hashCode() + 3 * namedType.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public UnionMemberTypes_Sequence2 withOr(java.util.Optional<java.lang.Void> or) {
@@ -11,6 +11,8 @@ public class UnionTypeDefinition {
   
   public final java.util.Optional<hydra.langs.graphql.syntax.UnionMemberTypes> unionMemberTypes;
   
+  private int hashCode_;
+  
   public UnionTypeDefinition (java.util.Optional<hydra.langs.graphql.syntax.Description> description, hydra.langs.graphql.syntax.Name name, java.util.Optional<hydra.langs.graphql.syntax.Directives> directives, java.util.Optional<hydra.langs.graphql.syntax.UnionMemberTypes> unionMemberTypes) {
     this.description = description;
     this.name = name;
@@ -20,16 +22,27 @@ public class UnionTypeDefinition {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof UnionTypeDefinition)) {
       return false;
     }
     UnionTypeDefinition o = (UnionTypeDefinition) (other);
-    return description.equals(o.description) && name.equals(o.name) && directives.equals(o.directives) && unionMemberTypes.equals(o.unionMemberTypes);
+    return hashCode() == o.hashCode() && description.equals(o.description) && name.equals(o.name) && directives.equals(o.directives) && unionMemberTypes.equals(o.unionMemberTypes);
   }
   
   @Override
   public int hashCode() {
-    return 2 * description.hashCode() + 3 * name.hashCode() + 5 * directives.hashCode() + 7 * unionMemberTypes.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * description.hashCode() + 3 * name.hashCode() + 5 * directives.hashCode() + 7 * unionMemberTypes.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public UnionTypeDefinition withDescription(java.util.Optional<hydra.langs.graphql.syntax.Description> description) {
@@ -9,6 +9,8 @@ public class UnionTypeExtension_Sequence {
   
   public final hydra.langs.graphql.syntax.UnionMemberTypes unionMemberTypes;
   
+  private int hashCode_;
+  
   public UnionTypeExtension_Sequence (hydra.langs.graphql.syntax.Name name, java.util.Optional<hydra.langs.graphql.syntax.Directives> directives, hydra.langs.graphql.syntax.UnionMemberTypes unionMemberTypes) {
     this.name = name;
     this.directives = directives;
@@ -17,16 +19,27 @@ public class UnionTypeExtension_Sequence {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof UnionTypeExtension_Sequence)) {
       return false;
     }
     UnionTypeExtension_Sequence o = (UnionTypeExtension_Sequence) (other);
-    return name.equals(o.name) && directives.equals(o.directives) && unionMemberTypes.equals(o.unionMemberTypes);
+    return hashCode() == o.hashCode() && name.equals(o.name) && directives.equals(o.directives) && unionMemberTypes.equals(o.unionMemberTypes);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * directives.hashCode() + 5 * unionMemberTypes.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * directives.hashCode() + 5 * unionMemberTypes.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public UnionTypeExtension_Sequence withName(hydra.langs.graphql.syntax.Name name) {
@@ -7,6 +7,8 @@ public class UnionTypeExtension_Sequence2 {
   
   public final hydra.langs.graphql.syntax.Directives directives;
   
+  private int hashCode_;
+  
   public UnionTypeExtension_Sequence2 (hydra.langs.graphql.syntax.Name name, hydra.langs.graphql.syntax.Directives directives) {
     this.name = name;
     this.directives = directives;
@@ -14,16 +16,27 @@ public class UnionTypeExtension_Sequence2 {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof UnionTypeExtension_Sequence2)) {
       return false;
     }
     UnionTypeExtension_Sequence2 o = (UnionTypeExtension_Sequence2) (other);
-    return name.equals(o.name) && directives.equals(o.directives);
+    return hashCode() == o.hashCode() && name.equals(o.name) && directives.equals(o.directives);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * directives.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * directives.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public UnionTypeExtension_Sequence2 withName(hydra.langs.graphql.syntax.Name name) {
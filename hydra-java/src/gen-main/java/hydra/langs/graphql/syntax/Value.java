@@ -74,22 +74,35 @@ public abstract class Value {
   public static final class Variable extends hydra.langs.graphql.syntax.Value {
     public final hydra.langs.graphql.syntax.Variable value;
     
+    private int hashCode_;
+    
     public Variable (hydra.langs.graphql.syntax.Variable value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Variable)) {
         return false;
       }
       Variable o = (Variable) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -101,22 +114,35 @@ public abstract class Value {
   public static final class Int extends hydra.langs.graphql.syntax.Value {
     public final hydra.langs.graphql.syntax.IntValue value;
     
+    private int hashCode_;
+    
     public Int (hydra.langs.graphql.syntax.IntValue value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Int)) {
         return false;
       }
       Int o = (Int) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -128,22 +154,35 @@ public abstract class Value {
   public static final class Float_ extends hydra.langs.graphql.syntax.Value {
     public final hydra.langs.graphql.syntax.FloatValue value;
     
+    private int hashCode_;
+    
     public Float_ (hydra.langs.graphql.syntax.FloatValue value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Float_)) {
         return false;
       }
       Float_ o = (Float_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -155,22 +194,35 @@ public abstract class Value {
   public static final class String_ extends hydra.langs.graphql.syntax.Value {
     public final hydra.langs.graphql.syntax.StringValue value;
     
+    private int hashCode_;
+    
     public String_ (hydra.langs.graphql.syntax.StringValue value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof String_)) {
         return false;
       }
       String_ o = (String_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -182,22 +234,35 @@ public abstract class Value {
   public static final class Boolean_ extends hydra.langs.graphql.syntax.Value {
     public final hydra.langs.graphql.syntax.BooleanValue value;
     
+    private int hashCode_;
+    
     public Boolean_ (hydra.langs.graphql.syntax.BooleanValue value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Boolean_)) {
         return false;
       }
       Boolean_ o = (Boolean_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -209,22 +274,35 @@ public abstract class Value {
   public static final class Null extends hydra.langs.graphql.syntax.Value {
     public final hydra.langs.graphql.syntax.NullValue value;
     
+    private int hashCode_;
+    
     public Null (hydra.langs.graphql.syntax.NullValue value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Null)) {
         return false;
       }
       Null o = (Null) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -236,22 +314,35 @@ public abstract class Value {
   public static final class Enum_ extends hydra.langs.graphql.syntax.Value {
     public final hydra.langs.graphql.syntax.EnumValue value;
     
+    private int hashCode_;
+    
     public Enum_ (hydra.langs.graphql.syntax.EnumValue value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Enum_)) {
         return false;
       }
       Enum_ o = (Enum_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -263,22 +354,35 @@ public abstract class Value {
   public static final class List extends hydra.langs.graphql.syntax.Value {
     public final hydra.langs.graphql.syntax.ListValue value;
     
+    private int hashCode_;
+    
     public List (hydra.langs.graphql.syntax.ListValue value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof List)) {
         return false;
       }
       List o = (List) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -290,22 +394,35 @@ public abstract class Value {
   public static final class Object_ extends hydra.langs.graphql.syntax.Value {
     public final hydra.langs.graphql.syntax.ObjectValue value;
     
+    private int hashCode_;
+    
     public Object_ (hydra.langs.graphql.syntax.ObjectValue value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Object_)) {
         return false;
       }
       Object_ o = (Object_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
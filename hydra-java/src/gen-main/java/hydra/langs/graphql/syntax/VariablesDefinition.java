@@ -11,6 +11,8 @@ public class VariablesDefinition {
   
   public final java.util.Optional<hydra.langs.graphql.syntax.Directives> directives;
   
+  private int hashCode_;
+  
   public VariablesDefinition (hydra.langs.graphql.syntax.Variable variable, hydra.langs.graphql.syntax.Type type, java.util.Optional<hydra.langs.graphql.syntax.DefaultValue> defaultValue, java.util.Optional<hydra.langs.graphql.syntax.Directives> directives) {
     this.variable = variable;
     this.type = type;
@@ -20,16 +22,27 @@ public class VariablesDefinition {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof VariablesDefinition)) {
       return false;
     }
     VariablesDefinition o = (VariablesDefinition) (other);
-    return variable.equals(o.variable) && type.equals(o.type) && defaultValue.equals(o.defaultValue) && directives.equals(o.directives);
+    return hashCode() == o.hashCode() && variable.equals(o.variable) && type.equals(o.type) && defaultValue.equals(o.defaultValue) && directives.equals(o.directives);
   }
   
   @Override
   public int hashCode() {
-    return 2 * variable.hashCode() + 3 * type.hashCode() + 5 * defaultValue.hashCode() + 7 * directives.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * variable.hashCode() + 3 * type.hashCode() + 5 * defaultValue.hashCode() + 7 * directives.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public VariablesDefinition withVariable(hydra.langs.graphql.syntax.Variable variable) {
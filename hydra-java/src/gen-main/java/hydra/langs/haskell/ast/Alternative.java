@@ -12,6 +12,8 @@ public class Alternative {
   
   public final java.util.Optional<hydra.langs.haskell.ast.LocalBindings> binds;
   
+  private int hashCode_;
+  
   public Alternative (hydra.langs.haskell.ast.Pattern pattern, hydra.langs.haskell.ast.CaseRhs rhs, java.util.Optional<hydra.langs.haskell.ast.LocalBindings> binds) {
     this.pattern = pattern;
     this.rhs = rhs;
@@ -20,16 +22,27 @@ public class Alternative {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Alternative)) {
       return false;
     }
     Alternative o = (Alternative) (other);
-    return pattern.equals(o.pattern) && rhs.equals(o.rhs) && binds.equals(o.binds);
+    return hashCode() == o.hashCode() && pattern.equals(o.pattern) && rhs.equals(o.rhs) && binds.equals(o.binds);
   }
   
   @Override
   public int hashCode() {
-    return 2 * pattern.hashCode() + 3 * rhs.hashCode() + 5 * binds.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * pattern.hashCode() + 3 * rhs.hashCode() + 5 * binds.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Alternative withPattern(hydra.langs.haskell.ast.Pattern pattern) {
@@ -35,22 +35,35 @@ public abstract class Assertion {
   public static final class Class_ extends hydra.langs.haskell.ast.Assertion {
     public final hydra.langs.haskell.ast.Assertion_Class value;
     
+    private int hashCode_;
+    
     public Class_ (hydra.langs.haskell.ast.Assertion_Class value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Class_)) {
         return false;
       }
       Class_ o = (Class_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -62,22 +75,35 @@ public abstract class Assertion {
   public static final class Tuple extends hydra.langs.haskell.ast.Assertion {
     public final java.util.List<hydra.langs.haskell.ast.Assertion> value;
     
+    private int hashCode_;
+    
     public Tuple (java.util.List<hydra.langs.haskell.ast.Assertion> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Tuple)) {
         return false;
       }
       Tuple o = (Tuple) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
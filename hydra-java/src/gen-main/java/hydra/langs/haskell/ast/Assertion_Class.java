@@ -7,6 +7,8 @@ public class Assertion_Class {
   
   public final java.util.List<hydra.langs.haskell.ast.Type> types;
   
+  private int hashCode_;
+  
   public Assertion_Class (hydra.langs.haskell.ast.Name name, java.util.List<hydra.langs.haskell.ast.Type> types) {
     this.name = name;
     this.types = types;
@@ -14,16 +16,27 @@ public class Assertion_Class {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Assertion_Class)) {
       return false;
     }
     Assertion_Class o = (Assertion_Class) (other);
-    return name.equals(o.name) && types.equals(o.types);
+    return hashCode() == o.hashCode() && name.equals(o.name) && types.equals(o.types);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * types.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * types.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Assertion_Class withName(hydra.langs.haskell.ast.Name name) {
@@ -35,22 +35,35 @@ public abstract class Constructor {
   public static final class Ordinary extends hydra.langs.haskell.ast.Constructor {
     public final hydra.langs.haskell.ast.Constructor_Ordinary value;
     
+    private int hashCode_;
+    
     public Ordinary (hydra.langs.haskell.ast.Constructor_Ordinary value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Ordinary)) {
         return false;
       }
       Ordinary o = (Ordinary) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -62,22 +75,35 @@ public abstract class Constructor {
   public static final class Record extends hydra.langs.haskell.ast.Constructor {
     public final hydra.langs.haskell.ast.Constructor_Record value;
     
+    private int hashCode_;
+    
     public Record (hydra.langs.haskell.ast.Constructor_Record value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Record)) {
         return false;
       }
       Record o = (Record) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -10,6 +10,8 @@ public class ConstructorWithComments {
   
   public final java.util.Optional<String> comments;
   
+  private int hashCode_;
+  
   public ConstructorWithComments (hydra.langs.haskell.ast.Constructor body, java.util.Optional<String> comments) {
     this.body = body;
     this.comments = comments;
@@ -17,16 +19,27 @@ public class ConstructorWithComments {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ConstructorWithComments)) {
       return false;
     }
     ConstructorWithComments o = (ConstructorWithComments) (other);
-    return body.equals(o.body) && comments.equals(o.comments);
+    return hashCode() == o.hashCode() && body.equals(o.body) && comments.equals(o.comments);
   }
   
   @Override
   public int hashCode() {
-    return 2 * body.hashCode() + 3 * comments.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * body.hashCode() + 3 * comments.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ConstructorWithComments withBody(hydra.langs.haskell.ast.Constructor body) {
@@ -10,6 +10,8 @@ public class Constructor_Ordinary {
   
   public final java.util.List<hydra.langs.haskell.ast.Type> fields;
   
+  private int hashCode_;
+  
   public Constructor_Ordinary (hydra.langs.haskell.ast.Name name, java.util.List<hydra.langs.haskell.ast.Type> fields) {
     this.name = name;
     this.fields = fields;
@@ -17,16 +19,27 @@ public class Constructor_Ordinary {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Constructor_Ordinary)) {
       return false;
     }
     Constructor_Ordinary o = (Constructor_Ordinary) (other);
-    return name.equals(o.name) && fields.equals(o.fields);
+    return hashCode() == o.hashCode() && name.equals(o.name) && fields.equals(o.fields);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * fields.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * fields.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Constructor_Ordinary withName(hydra.langs.haskell.ast.Name name) {
@@ -10,6 +10,8 @@ public class Constructor_Record {
   
   public final java.util.List<hydra.langs.haskell.ast.FieldWithComments> fields;
   
+  private int hashCode_;
+  
   public Constructor_Record (hydra.langs.haskell.ast.Name name, java.util.List<hydra.langs.haskell.ast.FieldWithComments> fields) {
     this.name = name;
     this.fields = fields;
@@ -17,16 +19,27 @@ public class Constructor_Record {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Constructor_Record)) {
       return false;
     }
     Constructor_Record o = (Constructor_Record) (other);
-    return name.equals(o.name) && fields.equals(o.fields);
+    return hashCode() == o.hashCode() && name.equals(o.name) && fields.equals(o.fields);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * fields.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * fields.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Constructor_Record withName(hydra.langs.haskell.ast.Name name) {
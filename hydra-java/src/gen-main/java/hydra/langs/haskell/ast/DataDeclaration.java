@@ -16,6 +16,8 @@ public class DataDeclaration {
   
   public final java.util.List<hydra.langs.haskell.ast.Deriving> deriving;
   
+  private int hashCode_;
+  
   public DataDeclaration (hydra.langs.haskell.ast.DataDeclaration_Keyword keyword, java.util.List<hydra.langs.haskell.ast.Assertion> context, hydra.langs.haskell.ast.DeclarationHead head, java.util.List<hydra.langs.haskell.ast.ConstructorWithComments> constructors, java.util.List<hydra.langs.haskell.ast.Deriving> deriving) {
     this.keyword = keyword;
     this.context = context;
@@ -26,16 +28,27 @@ public class DataDeclaration {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DataDeclaration)) {
       return false;
     }
     DataDeclaration o = (DataDeclaration) (other);
-    return keyword.equals(o.keyword) && context.equals(o.context) && head.equals(o.head) && constructors.equals(o.constructors) && deriving.equals(o.deriving);
+    return hashCode() == o.hashCode() && keyword.equals(o.keyword) && context.equals(o.context) && head.equals(o.head) && constructors.equals(o.constructors) && deriving.equals(o.deriving);
   }
   
   @Override
   public int hashCode() {
-    return 2 * keyword.hashCode() + 3 * context.hashCode() + 5 * head.hashCode() + 7 * constructors.hashCode() + 11 * deriving.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * keyword.hashCode() + 3 * context.hashCode() + 5 * head.hashCode() + 7 * constructors.hashCode() + 11 * deriving.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public DataDeclaration withKeyword(hydra.langs.haskell.ast.DataDeclaration_Keyword keyword) {
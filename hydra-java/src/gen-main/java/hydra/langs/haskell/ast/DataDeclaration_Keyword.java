@@ -39,6 +39,9 @@ public abstract class DataDeclaration_Keyword {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Data)) {
         return false;
       }
@@ -64,6 +67,9 @@ public abstract class DataDeclaration_Keyword {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Newtype)) {
         return false;
       }
@@ -47,22 +47,35 @@ public abstract class Declaration {
   public static final class Data extends hydra.langs.haskell.ast.Declaration {
     public final hydra.langs.haskell.ast.DataDeclaration value;
     
+    private int hashCode_;
+    
     public Data (hydra.langs.haskell.ast.DataDeclaration value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Data)) {
         return false;
       }
       Data o = (Data) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -74,22 +87,35 @@ public abstract class Declaration {
   public static final class Type extends hydra.langs.haskell.ast.Declaration {
     public final hydra.langs.haskell.ast.TypeDeclaration value;
     
+    private int hashCode_;
+    
     public Type (hydra.langs.haskell.ast.TypeDeclaration value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Type)) {
         return false;
       }
       Type o = (Type) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -101,22 +127,35 @@ public abstract class Declaration {
   public static final class ValueBinding extends hydra.langs.haskell.ast.Declaration {
     public final hydra.langs.haskell.ast.ValueBinding value;
     
+    private int hashCode_;
+    
     public ValueBinding (hydra.langs.haskell.ast.ValueBinding value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ValueBinding)) {
         return false;
       }
       ValueBinding o = (ValueBinding) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -128,22 +167,35 @@ public abstract class Declaration {
   public static final class TypedBinding extends hydra.langs.haskell.ast.Declaration {
     public final hydra.langs.haskell.ast.TypedBinding value;
     
+    private int hashCode_;
+    
     public TypedBinding (hydra.langs.haskell.ast.TypedBinding value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof TypedBinding)) {
         return false;
       }
       TypedBinding o = (TypedBinding) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -41,22 +41,35 @@ public abstract class DeclarationHead {
   public static final class Application extends hydra.langs.haskell.ast.DeclarationHead {
     public final hydra.langs.haskell.ast.DeclarationHead_Application value;
     
+    private int hashCode_;
+    
     public Application (hydra.langs.haskell.ast.DeclarationHead_Application value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Application)) {
         return false;
       }
       Application o = (Application) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -68,22 +81,35 @@ public abstract class DeclarationHead {
   public static final class Parens extends hydra.langs.haskell.ast.DeclarationHead {
     public final hydra.langs.haskell.ast.DeclarationHead value;
     
+    private int hashCode_;
+    
     public Parens (hydra.langs.haskell.ast.DeclarationHead value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Parens)) {
         return false;
       }
       Parens o = (Parens) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -95,22 +121,35 @@ public abstract class DeclarationHead {
   public static final class Simple extends hydra.langs.haskell.ast.DeclarationHead {
     public final hydra.langs.haskell.ast.Name value;
     
+    private int hashCode_;
+    
     public Simple (hydra.langs.haskell.ast.Name value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Simple)) {
         return false;
       }
       Simple o = (Simple) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
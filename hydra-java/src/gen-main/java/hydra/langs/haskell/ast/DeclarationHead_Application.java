@@ -10,6 +10,8 @@ public class DeclarationHead_Application {
   
   public final hydra.langs.haskell.ast.Variable operand;
   
+  private int hashCode_;
+  
   public DeclarationHead_Application (hydra.langs.haskell.ast.DeclarationHead function, hydra.langs.haskell.ast.Variable operand) {
     this.function = function;
     this.operand = operand;
@@ -17,16 +19,27 @@ public class DeclarationHead_Application {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DeclarationHead_Application)) {
       return false;
     }
     DeclarationHead_Application o = (DeclarationHead_Application) (other);
-    return function.equals(o.function) && operand.equals(o.operand);
+    return hashCode() == o.hashCode() && function.equals(o.function) && operand.equals(o.operand);
   }
   
   @Override
   public int hashCode() {
-    return 2 * function.hashCode() + 3 * operand.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * function.hashCode() + 3 * operand.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public DeclarationHead_Application withFunction(hydra.langs.haskell.ast.DeclarationHead function) {
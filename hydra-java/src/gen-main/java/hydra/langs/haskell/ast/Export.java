@@ -35,22 +35,35 @@ public abstract class Export {
   public static final class Declaration extends hydra.langs.haskell.ast.Export {
     public final hydra.langs.haskell.ast.ImportExportSpec value;
     
+    private int hashCode_;
+    
     public Declaration (hydra.langs.haskell.ast.ImportExportSpec value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Declaration)) {
         return false;
       }
       Declaration o = (Declaration) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -62,22 +75,35 @@ public abstract class Export {
   public static final class Module extends hydra.langs.haskell.ast.Export {
     public final hydra.langs.haskell.ast.ModuleName value;
     
+    private int hashCode_;
+    
     public Module (hydra.langs.haskell.ast.ModuleName value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Module)) {
         return false;
       }
       Module o = (Module) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -131,22 +131,35 @@ public abstract class Expression {
   public static final class Application extends hydra.langs.haskell.ast.Expression {
     public final hydra.langs.haskell.ast.Expression_Application value;
     
+    private int hashCode_;
+    
     public Application (hydra.langs.haskell.ast.Expression_Application value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Application)) {
         return false;
       }
       Application o = (Application) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -158,22 +171,35 @@ public abstract class Expression {
   public static final class Case extends hydra.langs.haskell.ast.Expression {
     public final hydra.langs.haskell.ast.Expression_Case value;
     
+    private int hashCode_;
+    
     public Case (hydra.langs.haskell.ast.Expression_Case value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Case)) {
         return false;
       }
       Case o = (Case) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -185,22 +211,35 @@ public abstract class Expression {
   public static final class ConstructRecord extends hydra.langs.haskell.ast.Expression {
     public final hydra.langs.haskell.ast.Expression_ConstructRecord value;
     
+    private int hashCode_;
+    
     public ConstructRecord (hydra.langs.haskell.ast.Expression_ConstructRecord value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ConstructRecord)) {
         return false;
       }
       ConstructRecord o = (ConstructRecord) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -212,22 +251,35 @@ public abstract class Expression {
   public static final class Do extends hydra.langs.haskell.ast.Expression {
     public final java.util.List<hydra.langs.haskell.ast.Statement> value;
     
+    private int hashCode_;
+    
     public Do (java.util.List<hydra.langs.haskell.ast.Statement> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Do)) {
         return false;
       }
       Do o = (Do) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -239,22 +291,35 @@ public abstract class Expression {
   public static final class If extends hydra.langs.haskell.ast.Expression {
     public final hydra.langs.haskell.ast.Expression_If value;
     
+    private int hashCode_;
+    
     public If (hydra.langs.haskell.ast.Expression_If value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof If)) {
         return false;
       }
       If o = (If) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -266,22 +331,35 @@ public abstract class Expression {
   public static final class InfixApplication extends hydra.langs.haskell.ast.Expression {
     public final hydra.langs.haskell.ast.Expression_InfixApplication value;
     
+    private int hashCode_;
+    
     public InfixApplication (hydra.langs.haskell.ast.Expression_InfixApplication value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof InfixApplication)) {
         return false;
       }
       InfixApplication o = (InfixApplication) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -293,22 +371,35 @@ public abstract class Expression {
   public static final class Literal extends hydra.langs.haskell.ast.Expression {
     public final hydra.langs.haskell.ast.Literal value;
     
+    private int hashCode_;
+    
     public Literal (hydra.langs.haskell.ast.Literal value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Literal)) {
         return false;
       }
       Literal o = (Literal) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -320,22 +411,35 @@ public abstract class Expression {
   public static final class Lambda extends hydra.langs.haskell.ast.Expression {
     public final hydra.langs.haskell.ast.Expression_Lambda value;
     
+    private int hashCode_;
+    
     public Lambda (hydra.langs.haskell.ast.Expression_Lambda value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Lambda)) {
         return false;
       }
       Lambda o = (Lambda) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -347,22 +451,35 @@ public abstract class Expression {
   public static final class LeftSection extends hydra.langs.haskell.ast.Expression {
     public final hydra.langs.haskell.ast.Expression_Section value;
     
+    private int hashCode_;
+    
     public LeftSection (hydra.langs.haskell.ast.Expression_Section value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof LeftSection)) {
         return false;
       }
       LeftSection o = (LeftSection) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -374,22 +491,35 @@ public abstract class Expression {
   public static final class Let extends hydra.langs.haskell.ast.Expression {
     public final hydra.langs.haskell.ast.Expression_Let value;
     
+    private int hashCode_;
+    
     public Let (hydra.langs.haskell.ast.Expression_Let value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Let)) {
         return false;
       }
       Let o = (Let) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -401,22 +531,35 @@ public abstract class Expression {
   public static final class List extends hydra.langs.haskell.ast.Expression {
     public final java.util.List<hydra.langs.haskell.ast.Expression> value;
     
+    private int hashCode_;
+    
     public List (java.util.List<hydra.langs.haskell.ast.Expression> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof List)) {
         return false;
       }
       List o = (List) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -428,22 +571,35 @@ public abstract class Expression {
   public static final class Parens extends hydra.langs.haskell.ast.Expression {
     public final hydra.langs.haskell.ast.Expression value;
     
+    private int hashCode_;
+    
     public Parens (hydra.langs.haskell.ast.Expression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Parens)) {
         return false;
       }
       Parens o = (Parens) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -455,22 +611,35 @@ public abstract class Expression {
   public static final class PrefixApplication extends hydra.langs.haskell.ast.Expression {
     public final hydra.langs.haskell.ast.Expression_PrefixApplication value;
     
+    private int hashCode_;
+    
     public PrefixApplication (hydra.langs.haskell.ast.Expression_PrefixApplication value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof PrefixApplication)) {
         return false;
       }
       PrefixApplication o = (PrefixApplication) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -482,22 +651,35 @@ public abstract class Expression {
   public static final class RightSection extends hydra.langs.haskell.ast.Expression {
     public final hydra.langs.haskell.ast.Expression_Section value;
     
+    private int hashCode_;
+    
     public RightSection (hydra.langs.haskell.ast.Expression_Section value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof RightSection)) {
         return false;
       }
       RightSection o = (RightSection) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -509,22 +691,35 @@ public abstract class Expression {
   public static final class Tuple extends hydra.langs.haskell.ast.Expression {
     public final java.util.List<hydra.langs.haskell.ast.Expression> value;
     
+    private int hashCode_;
+    
     public Tuple (java.util.List<hydra.langs.haskell.ast.Expression> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Tuple)) {
         return false;
       }
       Tuple o = (Tuple) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -536,22 +731,35 @@ public abstract class Expression {
   public static final class TypeSignature extends hydra.langs.haskell.ast.Expression {
     public final hydra.langs.haskell.ast.Expression_TypeSignature value;
     
+    private int hashCode_;
+    
     public TypeSignature (hydra.langs.haskell.ast.Expression_TypeSignature value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof TypeSignature)) {
         return false;
       }
       TypeSignature o = (TypeSignature) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -563,22 +771,35 @@ public abstract class Expression {
   public static final class UpdateRecord extends hydra.langs.haskell.ast.Expression {
     public final hydra.langs.haskell.ast.Expression_UpdateRecord value;
     
+    private int hashCode_;
+    
     public UpdateRecord (hydra.langs.haskell.ast.Expression_UpdateRecord value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof UpdateRecord)) {
         return false;
       }
       UpdateRecord o = (UpdateRecord) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -590,22 +811,35 @@ public abstract class Expression {
   public static final class Variable extends hydra.langs.haskell.ast.Expression {
     public final hydra.langs.haskell.ast.Name value;
     
+    private int hashCode_;
+    
     public Variable (hydra.langs.haskell.ast.Name value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Variable)) {
         return false;
       }
       Variable o = (Variable) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -10,6 +10,8 @@ public class Expression_Application {
   
   public final hydra.langs.haskell.ast.Expression argument;
   
+  private int hashCode_;
+  
   public Expression_Application (hydra.langs.haskell.ast.Expression function, hydra.langs.haskell.ast.Expression argument) {
     this.function = function;
     this.argument = argument;
@@ -17,16 +19,27 @@ public class Expression_Application {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Expression_Application)) {
       return false;
     }
     Expression_Application o = (Expression_Application) (other);
-    return function.equals(o.function) && argument.equals(o.argument);
+    return hashCode() == o.hashCode() && function.equals(o.function) && argument.equals(o.argument);
   }
   
   @Override
   public int hashCode() {
-    return 2 * function.hashCode() + 3 * argument.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * function.hashCode() + 3 * argument.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Expression_Application withFunction(hydra.langs.haskell.ast.Expression function) {
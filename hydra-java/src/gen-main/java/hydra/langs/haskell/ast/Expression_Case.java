@@ -10,6 +10,8 @@ public class Expression_Case {
   
   public final java.util.List<hydra.langs.haskell.ast.Alternative> alternatives;
   
+  private int hashCode_;
+  
   public Expression_Case (hydra.langs.haskell.ast.Expression case_, java.util.List<hydra.langs.haskell.ast.Alternative> alternatives) {
     this.case_ = case_;
     this.alternatives = alternatives;
@@ -17,16 +19,27 @@ public class Expression_Case {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Expression_Case)) {
       return false;
     }
     Expression_Case o = (Expression_Case) (other);
-    return case_.equals(o.case_) && alternatives.equals(o.alternatives);
+    return hashCode() == o.hashCode() && case_.equals(o.case_) && alternatives.equals(o.alternatives);
   }
   
   @Override
   public int hashCode() {
-    return 2 * case_.hashCode() + 3 * alternatives.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * case_.hashCode() + 3 * alternatives.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Expression_Case withCase(hydra.langs.haskell.ast.Expression case_) {
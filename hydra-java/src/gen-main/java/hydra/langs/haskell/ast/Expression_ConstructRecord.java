@@ -10,6 +10,8 @@ public class Expression_ConstructRecord {
   
   public final java.util.List<hydra.langs.haskell.ast.FieldUpdate> fields;
   
+  private int hashCode_;
+  
   public Expression_ConstructRecord (hydra.langs.haskell.ast.Name name, java.util.List<hydra.langs.haskell.ast.FieldUpdate> fields) {
     this.name = name;
     this.fields = fields;
@@ -17,16 +19,27 @@ public class Expression_ConstructRecord {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Expression_ConstructRecord)) {
       return false;
     }
     Expression_ConstructRecord o = (Expression_ConstructRecord) (other);
-    return name.equals(o.name) && fields.equals(o.fields);
+    return hashCode() == o.hashCode() && name.equals(o.name) && fields.equals(o.fields);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * fields.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * fields.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Expression_ConstructRecord withName(hydra.langs.haskell.ast.Name name) {
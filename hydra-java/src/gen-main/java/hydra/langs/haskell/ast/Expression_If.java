@@ -12,6 +12,8 @@ public class Expression_If {
   
   public final hydra.langs.haskell.ast.Expression else_;
   
+  private int hashCode_;
+  
   public Expression_If (hydra.langs.haskell.ast.Expression condition, hydra.langs.haskell.ast.Expression then, hydra.langs.haskell.ast.Expression else_) {
     this.condition = condition;
     this.then = then;
@@ -20,16 +22,27 @@ public class Expression_If {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Expression_If)) {
       return false;
     }
     Expression_If o = (Expression_If) (other);
-    return condition.equals(o.condition) && then.equals(o.then) && else_.equals(o.else_);
+    return hashCode() == o.hashCode() && condition.equals(o.condition) && then.equals(o.then) && else_.equals(o.else_);
   }
   
   @Override
   public int hashCode() {
-    return 2 * condition.hashCode() + 3 * then.hashCode() + 5 * else_.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * condition.hashCode() + 3 * then.hashCode() + 5 * else_.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Expression_If withCondition(hydra.langs.haskell.ast.Expression condition) {
@@ -12,6 +12,8 @@ public class Expression_InfixApplication {
   
   public final hydra.langs.haskell.ast.Expression rhs;
   
+  private int hashCode_;
+  
   public Expression_InfixApplication (hydra.langs.haskell.ast.Expression lhs, hydra.langs.haskell.ast.Operator operator, hydra.langs.haskell.ast.Expression rhs) {
     this.lhs = lhs;
     this.operator = operator;
@@ -20,16 +22,27 @@ public class Expression_InfixApplication {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Expression_InfixApplication)) {
       return false;
     }
     Expression_InfixApplication o = (Expression_InfixApplication) (other);
-    return lhs.equals(o.lhs) && operator.equals(o.operator) && rhs.equals(o.rhs);
+    return hashCode() == o.hashCode() && lhs.equals(o.lhs) && operator.equals(o.operator) && rhs.equals(o.rhs);
   }
   
   @Override
   public int hashCode() {
-    return 2 * lhs.hashCode() + 3 * operator.hashCode() + 5 * rhs.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * lhs.hashCode() + 3 * operator.hashCode() + 5 * rhs.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Expression_InfixApplication withLhs(hydra.langs.haskell.ast.Expression lhs) {
@@ -10,6 +10,8 @@ public class Expression_Let {
   
   public final hydra.langs.haskell.ast.Expression inner;
   
+  private int hashCode_;
+  
   public Expression_Let (java.util.List<hydra.langs.haskell.ast.LocalBinding> bindings, hydra.langs.haskell.ast.Expression inner) {
     this.bindings = bindings;
     this.inner = inner;
@@ -17,16 +19,27 @@ public class Expression_Let {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Expression_Let)) {
       return false;
     }
     Expression_Let o = (Expression_Let) (other);
-    return bindings.equals(o.bindings) && inner.equals(o.inner);
+    return hashCode() == o.hashCode() && bindings.equals(o.bindings) && inner.equals(o.inner);
   }
   
   @Override
   public int hashCode() {
-    return 2 * bindings.hashCode() + 3 * inner.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * bindings.hashCode() + 3 * inner.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Expression_Let withBindings(java.util.List<hydra.langs.haskell.ast.LocalBinding> bindings) {
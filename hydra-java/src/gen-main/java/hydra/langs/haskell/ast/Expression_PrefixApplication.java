@@ -10,6 +10,8 @@ public class Expression_PrefixApplication {
   
   public final hydra.langs.haskell.ast.Expression rhs;
   
+  private int hashCode_;
+  
   public Expression_PrefixApplication (hydra.langs.haskell.ast.Operator operator, hydra.langs.haskell.ast.Expression rhs) {
     this.operator = operator;
     this.rhs = rhs;
@@ -17,16 +19,27 @@ public class Expression_PrefixApplication {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Expression_PrefixApplication)) {
       return false;
     }
     Expression_PrefixApplication o = (Expression_PrefixApplication) (other);
-    return operator.equals(o.operator) && rhs.equals(o.rhs);
+    return hashCode() == o.hashCode() && operator.equals(o.operator) && rhs.equals(o.rhs);
   }
   
   @Override
   public int hashCode() {
-    return 2 * operator.hashCode() + 3 * rhs.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * operator.hashCode() + 3 * rhs.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Expression_PrefixApplication withOperator(hydra.langs.haskell.ast.Operator operator) {
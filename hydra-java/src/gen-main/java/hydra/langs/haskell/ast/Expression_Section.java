@@ -10,6 +10,8 @@ public class Expression_Section {
   
   public final hydra.langs.haskell.ast.Expression expression;
   
+  private int hashCode_;
+  
   public Expression_Section (hydra.langs.haskell.ast.Operator operator, hydra.langs.haskell.ast.Expression expression) {
     this.operator = operator;
     this.expression = expression;
@@ -17,16 +19,27 @@ public class Expression_Section {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Expression_Section)) {
       return false;
     }
     Expression_Section o = (Expression_Section) (other);
-    return operator.equals(o.operator) && expression.equals(o.expression);
+    return hashCode() == o.hashCode() && operator.equals(o.operator) && expression.equals(o.expression);
   }
   
   @Override
   public int hashCode() {
-    return 2 * operator.hashCode() + 3 * expression.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * operator.hashCode() + 3 * expression.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Expression_Section withOperator(hydra.langs.haskell.ast.Operator operator) {
@@ -10,6 +10,8 @@ public class Expression_TypeSignature {
   
   public final hydra.langs.haskell.ast.Type type;
   
+  private int hashCode_;
+  
   public Expression_TypeSignature (hydra.langs.haskell.ast.Expression inner, hydra.langs.haskell.ast.Type type) {
     this.inner = inner;
     this.type = type;
@@ -17,16 +19,27 @@ public class Expression_TypeSignature {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Expression_TypeSignature)) {
       return false;
     }
     Expression_TypeSignature o = (Expression_TypeSignature) (other);
-    return inner.equals(o.inner) && type.equals(o.type);
+    return hashCode() == o.hashCode() && inner.equals(o.inner) && type.equals(o.type);
   }
   
   @Override
   public int hashCode() {
-    return 2 * inner.hashCode() + 3 * type.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * inner.hashCode() + 3 * type.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Expression_TypeSignature withInner(hydra.langs.haskell.ast.Expression inner) {
@@ -10,6 +10,8 @@ public class Expression_UpdateRecord {
   
   public final java.util.List<hydra.langs.haskell.ast.FieldUpdate> fields;
   
+  private int hashCode_;
+  
   public Expression_UpdateRecord (hydra.langs.haskell.ast.Expression inner, java.util.List<hydra.langs.haskell.ast.FieldUpdate> fields) {
     this.inner = inner;
     this.fields = fields;
@@ -17,16 +19,27 @@ public class Expression_UpdateRecord {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Expression_UpdateRecord)) {
       return false;
     }
     Expression_UpdateRecord o = (Expression_UpdateRecord) (other);
-    return inner.equals(o.inner) && fields.equals(o.fields);
+    return hashCode() == o.hashCode() && inner.equals(o.inner) && fields.equals(o.fields);
   }
   
   @Override
   public int hashCode() {
-    return 2 * inner.hashCode() + 3 * fields.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * inner.hashCode() + 3 * fields.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Expression_UpdateRecord withInner(hydra.langs.haskell.ast.Expression inner) {
@@ -10,6 +10,8 @@ public class Field {
   
   public final hydra.langs.haskell.ast.Type type;
   
+  private int hashCode_;
+  
   public Field (hydra.langs.haskell.ast.Name name, hydra.langs.haskell.ast.Type type) {
     this.name = name;
     this.type = type;
@@ -17,16 +19,27 @@ public class Field {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Field)) {
       return false;
     }
     Field o = (Field) (other);
-    return name.equals(o.name) && type.equals(o.type);
+    return hashCode() == o.hashCode() && name.equals(o.name) && type.equals(o.type);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * type.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * type.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Field withName(hydra.langs.haskell.ast.Name name) {
@@ -10,6 +10,8 @@ public class FieldUpdate {
   
   public final hydra.langs.haskell.ast.Expression value;
   
+  private int hashCode_;
+  
   public FieldUpdate (hydra.langs.haskell.ast.Name name, hydra.langs.haskell.ast.Expression value) {
     this.name = name;
     this.value = value;
@@ -17,16 +19,27 @@ public class FieldUpdate {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof FieldUpdate)) {
       return false;
     }
     FieldUpdate o = (FieldUpdate) (other);
-    return name.equals(o.name) && value.equals(o.value);
+    return hashCode() == o.hashCode() && name.equals(o.name) && value.equals(o.value);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * value.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * value.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public FieldUpdate withName(hydra.langs.haskell.ast.Name name) {
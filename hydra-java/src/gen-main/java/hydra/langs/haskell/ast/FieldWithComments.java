@@ -10,6 +10,8 @@ public class FieldWithComments {
   
   public final java.util.Optional<String> comments;
   
+  private int hashCode_;
+  
   public FieldWithComments (hydra.langs.haskell.ast.Field field, java.util.Optional<String> comments) {
     this.field = field;
     this.comments = comments;
@@ -17,16 +19,27 @@ public class FieldWithComments {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof FieldWithComments)) {
       return false;
     }
     FieldWithComments o = (FieldWithComments) (other);
-    return field.equals(o.field) && comments.equals(o.comments);
+    return hashCode() == o.hashCode() && field.equals(o.field) && comments.equals(o.comments);
   }
   
   @Override
   public int hashCode() {
-    return 2 * field.hashCode() + 3 * comments.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * field.hashCode() + 3 * comments.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public FieldWithComments withField(hydra.langs.haskell.ast.Field field) {
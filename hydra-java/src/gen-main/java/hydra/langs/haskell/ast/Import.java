@@ -14,6 +14,8 @@ public class Import {
   
   public final java.util.Optional<hydra.langs.haskell.ast.Import_Spec> spec;
   
+  private int hashCode_;
+  
   public Import (Boolean qualified, hydra.langs.haskell.ast.ModuleName module, java.util.Optional<hydra.langs.haskell.ast.ModuleName> as, java.util.Optional<hydra.langs.haskell.ast.Import_Spec> spec) {
     this.qualified = qualified;
     this.module = module;
@@ -23,16 +25,27 @@ public class Import {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Import)) {
       return false;
     }
     Import o = (Import) (other);
-    return qualified.equals(o.qualified) && module.equals(o.module) && as.equals(o.as) && spec.equals(o.spec);
+    return hashCode() == o.hashCode() && qualified.equals(o.qualified) && module.equals(o.module) && as.equals(o.as) && spec.equals(o.spec);
   }
   
   @Override
   public int hashCode() {
-    return 2 * qualified.hashCode() + 3 * module.hashCode() + 5 * as.hashCode() + 7 * spec.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * qualified.hashCode() + 3 * module.hashCode() + 5 * as.hashCode() + 7 * spec.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Import withQualified(Boolean qualified) {
@@ -12,6 +12,8 @@ public class ImportExportSpec {
   
   public final java.util.Optional<hydra.langs.haskell.ast.ImportExportSpec_Subspec> subspec;
   
+  private int hashCode_;
+  
   public ImportExportSpec (java.util.Optional<hydra.langs.haskell.ast.ImportModifier> modifier, hydra.langs.haskell.ast.Name name, java.util.Optional<hydra.langs.haskell.ast.ImportExportSpec_Subspec> subspec) {
     this.modifier = modifier;
     this.name = name;
@@ -20,16 +22,27 @@ public class ImportExportSpec {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ImportExportSpec)) {
       return false;
     }
     ImportExportSpec o = (ImportExportSpec) (other);
-    return modifier.equals(o.modifier) && name.equals(o.name) && subspec.equals(o.subspec);
+    return hashCode() == o.hashCode() && modifier.equals(o.modifier) && name.equals(o.name) && subspec.equals(o.subspec);
   }
   
   @Override
   public int hashCode() {
-    return 2 * modifier.hashCode() + 3 * name.hashCode() + 5 * subspec.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * modifier.hashCode() + 3 * name.hashCode() + 5 * subspec.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ImportExportSpec withModifier(java.util.Optional<hydra.langs.haskell.ast.ImportModifier> modifier) {
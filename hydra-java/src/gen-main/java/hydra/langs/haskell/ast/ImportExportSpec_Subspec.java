@@ -36,6 +36,9 @@ public abstract class ImportExportSpec_Subspec {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof All)) {
         return false;
       }
@@ -57,22 +60,35 @@ public abstract class ImportExportSpec_Subspec {
   public static final class List extends hydra.langs.haskell.ast.ImportExportSpec_Subspec {
     public final java.util.List<hydra.langs.haskell.ast.Name> value;
     
+    private int hashCode_;
+    
     public List (java.util.List<hydra.langs.haskell.ast.Name> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof List)) {
         return false;
       }
       List o = (List) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -39,6 +39,9 @@ public abstract class ImportModifier {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Pattern)) {
         return false;
       }
@@ -64,6 +67,9 @@ public abstract class ImportModifier {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Type)) {
         return false;
       }
@@ -35,22 +35,35 @@ public abstract class Import_Spec {
   public static final class List extends hydra.langs.haskell.ast.Import_Spec {
     public final java.util.List<hydra.langs.haskell.ast.ImportExportSpec> value;
     
+    private int hashCode_;
+    
     public List (java.util.List<hydra.langs.haskell.ast.ImportExportSpec> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof List)) {
         return false;
       }
       List o = (List) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -62,22 +75,35 @@ public abstract class Import_Spec {
   public static final class Hiding extends hydra.langs.haskell.ast.Import_Spec {
     public final java.util.List<hydra.langs.haskell.ast.ImportExportSpec> value;
     
+    private int hashCode_;
+    
     public Hiding (java.util.List<hydra.langs.haskell.ast.ImportExportSpec> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Hiding)) {
         return false;
       }
       Hiding o = (Hiding) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -32,22 +32,35 @@ public abstract class LocalBinding {
   public static final class Signature extends hydra.langs.haskell.ast.LocalBinding {
     public final hydra.langs.haskell.ast.TypeSignature value;
     
+    private int hashCode_;
+    
     public Signature (hydra.langs.haskell.ast.TypeSignature value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Signature)) {
         return false;
       }
       Signature o = (Signature) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class LocalBinding {
   public static final class Value extends hydra.langs.haskell.ast.LocalBinding {
     public final hydra.langs.haskell.ast.ValueBinding value;
     
+    private int hashCode_;
+    
     public Value (hydra.langs.haskell.ast.ValueBinding value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Value)) {
         return false;
       }
       Value o = (Value) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
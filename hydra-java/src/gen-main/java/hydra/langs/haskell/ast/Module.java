@@ -9,6 +9,8 @@ public class Module {
   
   public final java.util.List<hydra.langs.haskell.ast.DeclarationWithComments> declarations;
   
+  private int hashCode_;
+  
   public Module (java.util.Optional<hydra.langs.haskell.ast.ModuleHead> head, java.util.List<hydra.langs.haskell.ast.Import> imports, java.util.List<hydra.langs.haskell.ast.DeclarationWithComments> declarations) {
     this.head = head;
     this.imports = imports;
@@ -17,16 +19,27 @@ public class Module {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Module)) {
       return false;
     }
     Module o = (Module) (other);
-    return head.equals(o.head) && imports.equals(o.imports) && declarations.equals(o.declarations);
+    return hashCode() == o.hashCode() && head.equals(o.head) && imports.equals(o.imports) && declarations.equals(o.declarations);
   }
   
   @Override
   public int hashCode() {
-    return 2 * head.hashCode() + 3 * imports.hashCode() + 5 * declarations.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * head.hashCode() + 3 * imports.hashCode() + 5 * declarations.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Module withHead(java.util.Optional<hydra.langs.haskell.ast.ModuleHead> head) {
@@ -9,6 +9,8 @@ public class ModuleHead {
   
   public final java.util.List<hydra.langs.haskell.ast.Export> exports;
   
+  private int hashCode_;
+  
   public ModuleHead (java.util.Optional<String> comments, hydra.langs.haskell.ast.ModuleName name, java.util.List<hydra.langs.haskell.ast.Export> exports) {
     this.comments = comments;
     this.name = name;
@@ -17,16 +19,27 @@ public class ModuleHead {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ModuleHead)) {
       return false;
     }
     ModuleHead o = (ModuleHead) (other);
-    return comments.equals(o.comments) && name.equals(o.name) && exports.equals(o.exports);
+    return hashCode() == o.hashCode() && comments.equals(o.comments) && name.equals(o.name) && exports.equals(o.exports);
   }
   
   @Override
   public int hashCode() {
-    return 2 * comments.hashCode() + 3 * name.hashCode() + 5 * exports.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * comments.hashCode() + 3 * name.hashCode() + 5 * exports.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ModuleHead withComments(java.util.Optional<String> comments) {
@@ -38,22 +38,35 @@ public abstract class Name {
   public static final class Implicit extends hydra.langs.haskell.ast.Name {
     public final hydra.langs.haskell.ast.QualifiedName value;
     
+    private int hashCode_;
+    
     public Implicit (hydra.langs.haskell.ast.QualifiedName value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Implicit)) {
         return false;
       }
       Implicit o = (Implicit) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class Name {
   public static final class Normal extends hydra.langs.haskell.ast.Name {
     public final hydra.langs.haskell.ast.QualifiedName value;
     
+    private int hashCode_;
+    
     public Normal (hydra.langs.haskell.ast.QualifiedName value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Normal)) {
         return false;
       }
       Normal o = (Normal) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +118,35 @@ public abstract class Name {
   public static final class Parens extends hydra.langs.haskell.ast.Name {
     public final hydra.langs.haskell.ast.QualifiedName value;
     
+    private int hashCode_;
+    
     public Parens (hydra.langs.haskell.ast.QualifiedName value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Parens)) {
         return false;
       }
       Parens o = (Parens) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
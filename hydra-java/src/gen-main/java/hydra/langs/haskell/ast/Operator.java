@@ -32,22 +32,35 @@ public abstract class Operator {
   public static final class Backtick extends hydra.langs.haskell.ast.Operator {
     public final hydra.langs.haskell.ast.QualifiedName value;
     
+    private int hashCode_;
+    
     public Backtick (hydra.langs.haskell.ast.QualifiedName value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Backtick)) {
         return false;
       }
       Backtick o = (Backtick) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class Operator {
   public static final class Normal extends hydra.langs.haskell.ast.Operator {
     public final hydra.langs.haskell.ast.QualifiedName value;
     
+    private int hashCode_;
+    
     public Normal (hydra.langs.haskell.ast.QualifiedName value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Normal)) {
         return false;
       }
       Normal o = (Normal) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
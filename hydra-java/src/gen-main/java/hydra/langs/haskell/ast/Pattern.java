@@ -80,22 +80,35 @@ public abstract class Pattern {
   public static final class Application extends hydra.langs.haskell.ast.Pattern {
     public final hydra.langs.haskell.ast.Pattern_Application value;
     
+    private int hashCode_;
+    
     public Application (hydra.langs.haskell.ast.Pattern_Application value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Application)) {
         return false;
       }
       Application o = (Application) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -107,22 +120,35 @@ public abstract class Pattern {
   public static final class As extends hydra.langs.haskell.ast.Pattern {
     public final hydra.langs.haskell.ast.Pattern_As value;
     
+    private int hashCode_;
+    
     public As (hydra.langs.haskell.ast.Pattern_As value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof As)) {
         return false;
       }
       As o = (As) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -134,22 +160,35 @@ public abstract class Pattern {
   public static final class List extends hydra.langs.haskell.ast.Pattern {
     public final java.util.List<hydra.langs.haskell.ast.Pattern> value;
     
+    private int hashCode_;
+    
     public List (java.util.List<hydra.langs.haskell.ast.Pattern> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof List)) {
         return false;
       }
       List o = (List) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -161,22 +200,35 @@ public abstract class Pattern {
   public static final class Literal extends hydra.langs.haskell.ast.Pattern {
     public final hydra.langs.haskell.ast.Literal value;
     
+    private int hashCode_;
+    
     public Literal (hydra.langs.haskell.ast.Literal value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Literal)) {
         return false;
       }
       Literal o = (Literal) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -188,22 +240,35 @@ public abstract class Pattern {
   public static final class Name extends hydra.langs.haskell.ast.Pattern {
     public final hydra.langs.haskell.ast.Name value;
     
+    private int hashCode_;
+    
     public Name (hydra.langs.haskell.ast.Name value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Name)) {
         return false;
       }
       Name o = (Name) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -215,22 +280,35 @@ public abstract class Pattern {
   public static final class Parens extends hydra.langs.haskell.ast.Pattern {
     public final hydra.langs.haskell.ast.Pattern value;
     
+    private int hashCode_;
+    
     public Parens (hydra.langs.haskell.ast.Pattern value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Parens)) {
         return false;
       }
       Parens o = (Parens) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -242,22 +320,35 @@ public abstract class Pattern {
   public static final class Record extends hydra.langs.haskell.ast.Pattern {
     public final hydra.langs.haskell.ast.Pattern_Record value;
     
+    private int hashCode_;
+    
     public Record (hydra.langs.haskell.ast.Pattern_Record value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Record)) {
         return false;
       }
       Record o = (Record) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -269,22 +360,35 @@ public abstract class Pattern {
   public static final class Tuple extends hydra.langs.haskell.ast.Pattern {
     public final java.util.List<hydra.langs.haskell.ast.Pattern> value;
     
+    private int hashCode_;
+    
     public Tuple (java.util.List<hydra.langs.haskell.ast.Pattern> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Tuple)) {
         return false;
       }
       Tuple o = (Tuple) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -296,22 +400,35 @@ public abstract class Pattern {
   public static final class Typed extends hydra.langs.haskell.ast.Pattern {
     public final hydra.langs.haskell.ast.Pattern_Typed value;
     
+    private int hashCode_;
+    
     public Typed (hydra.langs.haskell.ast.Pattern_Typed value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Typed)) {
         return false;
       }
       Typed o = (Typed) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -327,6 +444,9 @@ public abstract class Pattern {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Wildcard)) {
         return false;
       }
@@ -7,6 +7,8 @@ public class PatternField {
   
   public final hydra.langs.haskell.ast.Pattern pattern;
   
+  private int hashCode_;
+  
   public PatternField (hydra.langs.haskell.ast.Name name, hydra.langs.haskell.ast.Pattern pattern) {
     this.name = name;
     this.pattern = pattern;
@@ -14,16 +16,27 @@ public class PatternField {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof PatternField)) {
       return false;
     }
     PatternField o = (PatternField) (other);
-    return name.equals(o.name) && pattern.equals(o.pattern);
+    return hashCode() == o.hashCode() && name.equals(o.name) && pattern.equals(o.pattern);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * pattern.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * pattern.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public PatternField withName(hydra.langs.haskell.ast.Name name) {
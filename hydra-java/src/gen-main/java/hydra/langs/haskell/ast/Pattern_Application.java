@@ -7,6 +7,8 @@ public class Pattern_Application {
   
   public final java.util.List<hydra.langs.haskell.ast.Pattern> args;
   
+  private int hashCode_;
+  
   public Pattern_Application (hydra.langs.haskell.ast.Name name, java.util.List<hydra.langs.haskell.ast.Pattern> args) {
     this.name = name;
     this.args = args;
@@ -14,16 +16,27 @@ public class Pattern_Application {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Pattern_Application)) {
       return false;
     }
     Pattern_Application o = (Pattern_Application) (other);
-    return name.equals(o.name) && args.equals(o.args);
+    return hashCode() == o.hashCode() && name.equals(o.name) && args.equals(o.args);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * args.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * args.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Pattern_Application withName(hydra.langs.haskell.ast.Name name) {
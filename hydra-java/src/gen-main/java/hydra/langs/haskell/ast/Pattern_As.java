@@ -7,6 +7,8 @@ public class Pattern_As {
   
   public final hydra.langs.haskell.ast.Pattern inner;
   
+  private int hashCode_;
+  
   public Pattern_As (hydra.langs.haskell.ast.Name name, hydra.langs.haskell.ast.Pattern inner) {
     this.name = name;
     this.inner = inner;
@@ -14,16 +16,27 @@ public class Pattern_As {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Pattern_As)) {
       return false;
     }
     Pattern_As o = (Pattern_As) (other);
-    return name.equals(o.name) && inner.equals(o.inner);
+    return hashCode() == o.hashCode() && name.equals(o.name) && inner.equals(o.inner);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * inner.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * inner.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Pattern_As withName(hydra.langs.haskell.ast.Name name) {
@@ -7,6 +7,8 @@ public class Pattern_Record {
   
   public final java.util.List<hydra.langs.haskell.ast.PatternField> fields;
   
+  private int hashCode_;
+  
   public Pattern_Record (hydra.langs.haskell.ast.Name name, java.util.List<hydra.langs.haskell.ast.PatternField> fields) {
     this.name = name;
     this.fields = fields;
@@ -14,16 +16,27 @@ public class Pattern_Record {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Pattern_Record)) {
       return false;
     }
     Pattern_Record o = (Pattern_Record) (other);
-    return name.equals(o.name) && fields.equals(o.fields);
+    return hashCode() == o.hashCode() && name.equals(o.name) && fields.equals(o.fields);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * fields.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * fields.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Pattern_Record withName(hydra.langs.haskell.ast.Name name) {
@@ -7,6 +7,8 @@ public class Pattern_Typed {
   
   public final hydra.langs.haskell.ast.Type type;
   
+  private int hashCode_;
+  
   public Pattern_Typed (hydra.langs.haskell.ast.Pattern inner, hydra.langs.haskell.ast.Type type) {
     this.inner = inner;
     this.type = type;
@@ -14,16 +16,27 @@ public class Pattern_Typed {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Pattern_Typed)) {
       return false;
     }
     Pattern_Typed o = (Pattern_Typed) (other);
-    return inner.equals(o.inner) && type.equals(o.type);
+    return hashCode() == o.hashCode() && inner.equals(o.inner) && type.equals(o.type);
   }
   
   @Override
   public int hashCode() {
-    return 2 * inner.hashCode() + 3 * type.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * inner.hashCode() + 3 * type.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Pattern_Typed withInner(hydra.langs.haskell.ast.Pattern inner) {
@@ -7,6 +7,8 @@ public class QualifiedName {
   
   public final hydra.langs.haskell.ast.NamePart unqualified;
   
+  private int hashCode_;
+  
   public QualifiedName (java.util.List<hydra.langs.haskell.ast.NamePart> qualifiers, hydra.langs.haskell.ast.NamePart unqualified) {
     this.qualifiers = qualifiers;
     this.unqualified = unqualified;
@@ -14,16 +16,27 @@ public class QualifiedName {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof QualifiedName)) {
       return false;
     }
     QualifiedName o = (QualifiedName) (other);
-    return qualifiers.equals(o.qualifiers) && unqualified.equals(o.unqualified);
+    return hashCode() == o.hashCode() && qualifiers.equals(o.qualifiers) && unqualified.equals(o.unqualified);
   }
   
   @Override
   public int hashCode() {
-    return 2 * qualifiers.hashCode() + 3 * unqualified.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * qualifiers.hashCode() + 3 * unqualified.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public QualifiedName withQualifiers(java.util.List<hydra.langs.haskell.ast.NamePart> qualifiers) {
@@ -68,22 +68,35 @@ public abstract class Type {
   public static final class Application extends hydra.langs.haskell.ast.Type {
     public final hydra.langs.haskell.ast.Type_Application value;
     
+    private int hashCode_;
+    
     public Application (hydra.langs.haskell.ast.Type_Application value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Application)) {
         return false;
       }
       Application o = (Application) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -95,22 +108,35 @@ public abstract class Type {
   public static final class Ctx extends hydra.langs.haskell.ast.Type {
     public final hydra.langs.haskell.ast.Type_Context value;
     
+    private int hashCode_;
+    
     public Ctx (hydra.langs.haskell.ast.Type_Context value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Ctx)) {
         return false;
       }
       Ctx o = (Ctx) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -122,22 +148,35 @@ public abstract class Type {
   public static final class Function extends hydra.langs.haskell.ast.Type {
     public final hydra.langs.haskell.ast.Type_Function value;
     
+    private int hashCode_;
+    
     public Function (hydra.langs.haskell.ast.Type_Function value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Function)) {
         return false;
       }
       Function o = (Function) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -149,22 +188,35 @@ public abstract class Type {
   public static final class Infix extends hydra.langs.haskell.ast.Type {
     public final hydra.langs.haskell.ast.Type_Infix value;
     
+    private int hashCode_;
+    
     public Infix (hydra.langs.haskell.ast.Type_Infix value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Infix)) {
         return false;
       }
       Infix o = (Infix) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -176,22 +228,35 @@ public abstract class Type {
   public static final class List extends hydra.langs.haskell.ast.Type {
     public final hydra.langs.haskell.ast.Type value;
     
+    private int hashCode_;
+    
     public List (hydra.langs.haskell.ast.Type value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof List)) {
         return false;
       }
       List o = (List) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -203,22 +268,35 @@ public abstract class Type {
   public static final class Parens extends hydra.langs.haskell.ast.Type {
     public final hydra.langs.haskell.ast.Type value;
     
+    private int hashCode_;
+    
     public Parens (hydra.langs.haskell.ast.Type value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Parens)) {
         return false;
       }
       Parens o = (Parens) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -230,22 +308,35 @@ public abstract class Type {
   public static final class Tuple extends hydra.langs.haskell.ast.Type {
     public final java.util.List<hydra.langs.haskell.ast.Type> value;
     
+    private int hashCode_;
+    
     public Tuple (java.util.List<hydra.langs.haskell.ast.Type> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Tuple)) {
         return false;
       }
       Tuple o = (Tuple) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -257,22 +348,35 @@ public abstract class Type {
   public static final class Variable extends hydra.langs.haskell.ast.Type {
     public final hydra.langs.haskell.ast.Name value;
     
+    private int hashCode_;
+    
     public Variable (hydra.langs.haskell.ast.Name value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Variable)) {
         return false;
       }
       Variable o = (Variable) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -7,6 +7,8 @@ public class TypeDeclaration {
   
   public final hydra.langs.haskell.ast.Type type;
   
+  private int hashCode_;
+  
   public TypeDeclaration (hydra.langs.haskell.ast.DeclarationHead name, hydra.langs.haskell.ast.Type type) {
     this.name = name;
     this.type = type;
@@ -14,16 +16,27 @@ public class TypeDeclaration {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof TypeDeclaration)) {
       return false;
     }
     TypeDeclaration o = (TypeDeclaration) (other);
-    return name.equals(o.name) && type.equals(o.type);
+    return hashCode() == o.hashCode() && name.equals(o.name) && type.equals(o.type);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * type.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * type.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public TypeDeclaration withName(hydra.langs.haskell.ast.DeclarationHead name) {
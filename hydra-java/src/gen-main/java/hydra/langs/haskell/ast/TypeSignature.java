@@ -7,6 +7,8 @@ public class TypeSignature {
   
   public final hydra.langs.haskell.ast.Type type;
   
+  private int hashCode_;
+  
   public TypeSignature (hydra.langs.haskell.ast.Name name, hydra.langs.haskell.ast.Type type) {
     this.name = name;
     this.type = type;
@@ -14,16 +16,27 @@ public class TypeSignature {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof TypeSignature)) {
       return false;
     }
     TypeSignature o = (TypeSignature) (other);
-    return name.equals(o.name) && type.equals(o.type);
+    return hashCode() == o.hashCode() && name.equals(o.name) && type.equals(o.type);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * type.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * type.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public TypeSignature withName(hydra.langs.haskell.ast.Name name) {
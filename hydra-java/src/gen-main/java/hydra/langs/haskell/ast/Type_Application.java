@@ -7,6 +7,8 @@ public class Type_Application {
   
   public final hydra.langs.haskell.ast.Type argument;
   
+  private int hashCode_;
+  
   public Type_Application (hydra.langs.haskell.ast.Type context, hydra.langs.haskell.ast.Type argument) {
     this.context = context;
     this.argument = argument;
@@ -14,16 +16,27 @@ public class Type_Application {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Type_Application)) {
       return false;
     }
     Type_Application o = (Type_Application) (other);
-    return context.equals(o.context) && argument.equals(o.argument);
+    return hashCode() == o.hashCode() && context.equals(o.context) && argument.equals(o.argument);
   }
   
   @Override
   public int hashCode() {
-    return 2 * context.hashCode() + 3 * argument.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * context.hashCode() + 3 * argument.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Type_Application withContext(hydra.langs.haskell.ast.Type context) {
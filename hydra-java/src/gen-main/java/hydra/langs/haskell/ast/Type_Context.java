@@ -7,6 +7,8 @@ public class Type_Context {
   
   public final hydra.langs.haskell.ast.Type type;
   
+  private int hashCode_;
+  
   public Type_Context (hydra.langs.haskell.ast.Assertion ctx, hydra.langs.haskell.ast.Type type) {
     this.ctx = ctx;
     this.type = type;
@@ -14,16 +16,27 @@ public class Type_Context {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Type_Context)) {
       return false;
     }
     Type_Context o = (Type_Context) (other);
-    return ctx.equals(o.ctx) && type.equals(o.type);
+    return hashCode() == o.hashCode() && ctx.equals(o.ctx) && type.equals(o.type);
   }
   
   @Override
   public int hashCode() {
-    return 2 * ctx.hashCode() + 3 * type.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * ctx.hashCode() + 3 * type.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Type_Context withCtx(hydra.langs.haskell.ast.Assertion ctx) {
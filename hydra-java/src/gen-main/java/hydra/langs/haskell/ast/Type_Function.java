@@ -7,6 +7,8 @@ public class Type_Function {
   
   public final hydra.langs.haskell.ast.Type codomain;
   
+  private int hashCode_;
+  
   public Type_Function (hydra.langs.haskell.ast.Type domain, hydra.langs.haskell.ast.Type codomain) {
     this.domain = domain;
     this.codomain = codomain;
@@ -14,16 +16,27 @@ public class Type_Function {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Type_Function)) {
       return false;
     }
     Type_Function o = (Type_Function) (other);
-    return domain.equals(o.domain) && codomain.equals(o.codomain);
+    return hashCode() == o.hashCode() && domain.equals(o.domain) && codomain.equals(o.codomain);
   }
   
   @Override
   public int hashCode() {
-    return 2 * domain.hashCode() + 3 * codomain.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * domain.hashCode() + 3 * codomain.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Type_Function withDomain(hydra.langs.haskell.ast.Type domain) {
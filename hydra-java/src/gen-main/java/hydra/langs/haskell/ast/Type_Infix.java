@@ -9,6 +9,8 @@ public class Type_Infix {
   
   public final hydra.langs.haskell.ast.Operator rhs;
   
+  private int hashCode_;
+  
   public Type_Infix (hydra.langs.haskell.ast.Type lhs, hydra.langs.haskell.ast.Operator operator, hydra.langs.haskell.ast.Operator rhs) {
     this.lhs = lhs;
     this.operator = operator;
@@ -17,16 +19,27 @@ public class Type_Infix {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Type_Infix)) {
       return false;
     }
     Type_Infix o = (Type_Infix) (other);
-    return lhs.equals(o.lhs) && operator.equals(o.operator) && rhs.equals(o.rhs);
+    return hashCode() == o.hashCode() && lhs.equals(o.lhs) && operator.equals(o.operator) && rhs.equals(o.rhs);
   }
   
   @Override
   public int hashCode() {
-    return 2 * lhs.hashCode() + 3 * operator.hashCode() + 5 * rhs.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * lhs.hashCode() + 3 * operator.hashCode() + 5 * rhs.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Type_Infix withLhs(hydra.langs.haskell.ast.Type lhs) {
@@ -7,6 +7,8 @@ public class TypedBinding {
   
   public final hydra.langs.haskell.ast.ValueBinding valueBinding;
   
+  private int hashCode_;
+  
   public TypedBinding (hydra.langs.haskell.ast.TypeSignature typeSignature, hydra.langs.haskell.ast.ValueBinding valueBinding) {
     this.typeSignature = typeSignature;
     this.valueBinding = valueBinding;
@@ -14,16 +16,27 @@ public class TypedBinding {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof TypedBinding)) {
       return false;
     }
     TypedBinding o = (TypedBinding) (other);
-    return typeSignature.equals(o.typeSignature) && valueBinding.equals(o.valueBinding);
+    return hashCode() == o.hashCode() && typeSignature.equals(o.typeSignature) && valueBinding.equals(o.valueBinding);
   }
   
   @Override
   public int hashCode() {
-    return 2 * typeSignature.hashCode() + 3 * valueBinding.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * typeSignature.hashCode() + 3 * valueBinding.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public TypedBinding withTypeSignature(hydra.langs.haskell.ast.TypeSignature typeSignature) {
@@ -26,22 +26,35 @@ public abstract class ValueBinding {
   public static final class Simple extends hydra.langs.haskell.ast.ValueBinding {
     public final hydra.langs.haskell.ast.ValueBinding_Simple value;
     
+    private int hashCode_;
+    
     public Simple (hydra.langs.haskell.ast.ValueBinding_Simple value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Simple)) {
         return false;
       }
       Simple o = (Simple) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -9,6 +9,8 @@ public class ValueBinding_Simple {
   
   public final java.util.Optional<hydra.langs.haskell.ast.LocalBindings> localBindings;
   
+  private int hashCode_;
+  
   public ValueBinding_Simple (hydra.langs.haskell.ast.Pattern pattern, hydra.langs.haskell.ast.RightHandSide rhs, java.util.Optional<hydra.langs.haskell.ast.LocalBindings> localBindings) {
     this.pattern = pattern;
     this.rhs = rhs;
@@ -17,16 +19,27 @@ public class ValueBinding_Simple {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ValueBinding_Simple)) {
       return false;
     }
     ValueBinding_Simple o = (ValueBinding_Simple) (other);
-    return pattern.equals(o.pattern) && rhs.equals(o.rhs) && localBindings.equals(o.localBindings);
+    return hashCode() == o.hashCode() && pattern.equals(o.pattern) && rhs.equals(o.rhs) && localBindings.equals(o.localBindings);
   }
   
   @Override
   public int hashCode() {
-    return 2 * pattern.hashCode() + 3 * rhs.hashCode() + 5 * localBindings.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * pattern.hashCode() + 3 * rhs.hashCode() + 5 * localBindings.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ValueBinding_Simple withPattern(hydra.langs.haskell.ast.Pattern pattern) {
@@ -38,22 +38,35 @@ public abstract class AdditiveExpression {
   public static final class Unary extends hydra.langs.java.syntax.AdditiveExpression {
     public final hydra.langs.java.syntax.MultiplicativeExpression value;
     
+    private int hashCode_;
+    
     public Unary (hydra.langs.java.syntax.MultiplicativeExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Unary)) {
         return false;
       }
       Unary o = (Unary) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class AdditiveExpression {
   public static final class Plus extends hydra.langs.java.syntax.AdditiveExpression {
     public final hydra.langs.java.syntax.AdditiveExpression_Binary value;
     
+    private int hashCode_;
+    
     public Plus (hydra.langs.java.syntax.AdditiveExpression_Binary value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Plus)) {
         return false;
       }
       Plus o = (Plus) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +118,35 @@ public abstract class AdditiveExpression {
   public static final class Minus extends hydra.langs.java.syntax.AdditiveExpression {
     public final hydra.langs.java.syntax.AdditiveExpression_Binary value;
     
+    private int hashCode_;
+    
     public Minus (hydra.langs.java.syntax.AdditiveExpression_Binary value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Minus)) {
         return false;
       }
       Minus o = (Minus) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -7,6 +7,8 @@ public class AdditiveExpression_Binary {
   
   public final hydra.langs.java.syntax.MultiplicativeExpression rhs;
   
+  private int hashCode_;
+  
   public AdditiveExpression_Binary (hydra.langs.java.syntax.AdditiveExpression lhs, hydra.langs.java.syntax.MultiplicativeExpression rhs) {
     this.lhs = lhs;
     this.rhs = rhs;
@@ -14,16 +16,27 @@ public class AdditiveExpression_Binary {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof AdditiveExpression_Binary)) {
       return false;
     }
     AdditiveExpression_Binary o = (AdditiveExpression_Binary) (other);
-    return lhs.equals(o.lhs) && rhs.equals(o.rhs);
+    return hashCode() == o.hashCode() && lhs.equals(o.lhs) && rhs.equals(o.rhs);
   }
   
   @Override
   public int hashCode() {
-    return 2 * lhs.hashCode() + 3 * rhs.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * lhs.hashCode() + 3 * rhs.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public AdditiveExpression_Binary withLhs(hydra.langs.java.syntax.AdditiveExpression lhs) {
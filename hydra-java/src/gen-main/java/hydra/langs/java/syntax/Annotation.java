@@ -38,22 +38,35 @@ public abstract class Annotation {
   public static final class Normal extends hydra.langs.java.syntax.Annotation {
     public final hydra.langs.java.syntax.NormalAnnotation value;
     
+    private int hashCode_;
+    
     public Normal (hydra.langs.java.syntax.NormalAnnotation value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Normal)) {
         return false;
       }
       Normal o = (Normal) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class Annotation {
   public static final class Marker extends hydra.langs.java.syntax.Annotation {
     public final hydra.langs.java.syntax.MarkerAnnotation value;
     
+    private int hashCode_;
+    
     public Marker (hydra.langs.java.syntax.MarkerAnnotation value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Marker)) {
         return false;
       }
       Marker o = (Marker) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +118,35 @@ public abstract class Annotation {
   public static final class SingleElement extends hydra.langs.java.syntax.Annotation {
     public final hydra.langs.java.syntax.SingleElementAnnotation value;
     
+    private int hashCode_;
+    
     public SingleElement (hydra.langs.java.syntax.SingleElementAnnotation value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof SingleElement)) {
         return false;
       }
       SingleElement o = (SingleElement) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -9,6 +9,8 @@ public class AnnotationTypeDeclaration {
   
   public final hydra.langs.java.syntax.AnnotationTypeBody body;
   
+  private int hashCode_;
+  
   public AnnotationTypeDeclaration (java.util.List<hydra.langs.java.syntax.InterfaceModifier> modifiers, hydra.langs.java.syntax.TypeIdentifier identifier, hydra.langs.java.syntax.AnnotationTypeBody body) {
     this.modifiers = modifiers;
     this.identifier = identifier;
@@ -17,16 +19,27 @@ public class AnnotationTypeDeclaration {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof AnnotationTypeDeclaration)) {
       return false;
     }
     AnnotationTypeDeclaration o = (AnnotationTypeDeclaration) (other);
-    return modifiers.equals(o.modifiers) && identifier.equals(o.identifier) && body.equals(o.body);
+    return hashCode() == o.hashCode() && modifiers.equals(o.modifiers) && identifier.equals(o.identifier) && body.equals(o.body);
   }
   
   @Override
   public int hashCode() {
-    return 2 * modifiers.hashCode() + 3 * identifier.hashCode() + 5 * body.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * modifiers.hashCode() + 3 * identifier.hashCode() + 5 * body.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public AnnotationTypeDeclaration withModifiers(java.util.List<hydra.langs.java.syntax.InterfaceModifier> modifiers) {
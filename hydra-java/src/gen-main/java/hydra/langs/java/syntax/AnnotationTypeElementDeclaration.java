@@ -13,6 +13,8 @@ public class AnnotationTypeElementDeclaration {
   
   public final java.util.Optional<hydra.langs.java.syntax.DefaultValue> default_;
   
+  private int hashCode_;
+  
   public AnnotationTypeElementDeclaration (java.util.List<hydra.langs.java.syntax.AnnotationTypeElementModifier> modifiers, hydra.langs.java.syntax.UnannType type, hydra.langs.java.syntax.Identifier identifier, java.util.Optional<hydra.langs.java.syntax.Dims> dims, java.util.Optional<hydra.langs.java.syntax.DefaultValue> default_) {
     this.modifiers = modifiers;
     this.type = type;
@@ -23,16 +25,27 @@ public class AnnotationTypeElementDeclaration {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof AnnotationTypeElementDeclaration)) {
       return false;
     }
     AnnotationTypeElementDeclaration o = (AnnotationTypeElementDeclaration) (other);
-    return modifiers.equals(o.modifiers) && type.equals(o.type) && identifier.equals(o.identifier) && dims.equals(o.dims) && default_.equals(o.default_);
+    return hashCode() == o.hashCode() && modifiers.equals(o.modifiers) && type.equals(o.type) && identifier.equals(o.identifier) && dims.equals(o.dims) && default_.equals(o.default_);
   }
   
   @Override
   public int hashCode() {
-    return 2 * modifiers.hashCode() + 3 * type.hashCode() + 5 * identifier.hashCode() + 7 * dims.hashCode() + 11 * default_.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * modifiers.hashCode() + 3 * type.hashCode() + 5 * identifier.hashCode() + 7 * dims.hashCode() + 11 * default_.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public AnnotationTypeElementDeclaration withModifiers(java.util.List<hydra.langs.java.syntax.AnnotationTypeElementModifier> modifiers) {
@@ -32,22 +32,35 @@ public abstract class AnnotationTypeElementModifier {
   public static final class Public extends hydra.langs.java.syntax.AnnotationTypeElementModifier {
     public final hydra.langs.java.syntax.Annotation value;
     
+    private int hashCode_;
+    
     public Public (hydra.langs.java.syntax.Annotation value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Public)) {
         return false;
       }
       Public o = (Public) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -63,6 +76,9 @@ public abstract class AnnotationTypeElementModifier {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Abstract)) {
         return false;
       }
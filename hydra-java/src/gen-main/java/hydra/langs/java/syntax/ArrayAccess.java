@@ -7,6 +7,8 @@ public class ArrayAccess {
   
   public final hydra.langs.java.syntax.ArrayAccess_Variant variant;
   
+  private int hashCode_;
+  
   public ArrayAccess (java.util.Optional<hydra.langs.java.syntax.Expression> expression, hydra.langs.java.syntax.ArrayAccess_Variant variant) {
     this.expression = expression;
     this.variant = variant;
@@ -14,16 +16,27 @@ public class ArrayAccess {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ArrayAccess)) {
       return false;
     }
     ArrayAccess o = (ArrayAccess) (other);
-    return expression.equals(o.expression) && variant.equals(o.variant);
+    return hashCode() == o.hashCode() && expression.equals(o.expression) && variant.equals(o.variant);
   }
   
   @Override
   public int hashCode() {
-    return 2 * expression.hashCode() + 3 * variant.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * expression.hashCode() + 3 * variant.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ArrayAccess withExpression(java.util.Optional<hydra.langs.java.syntax.Expression> expression) {
@@ -32,22 +32,35 @@ public abstract class ArrayAccess_Variant {
   public static final class Name extends hydra.langs.java.syntax.ArrayAccess_Variant {
     public final hydra.langs.java.syntax.ExpressionName value;
     
+    private int hashCode_;
+    
     public Name (hydra.langs.java.syntax.ExpressionName value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Name)) {
         return false;
       }
       Name o = (Name) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class ArrayAccess_Variant {
   public static final class Primary extends hydra.langs.java.syntax.ArrayAccess_Variant {
     public final hydra.langs.java.syntax.PrimaryNoNewArray value;
     
+    private int hashCode_;
+    
     public Primary (hydra.langs.java.syntax.PrimaryNoNewArray value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Primary)) {
         return false;
       }
       Primary o = (Primary) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -44,22 +44,35 @@ public abstract class ArrayCreationExpression {
   public static final class Primitive extends hydra.langs.java.syntax.ArrayCreationExpression {
     public final hydra.langs.java.syntax.ArrayCreationExpression_Primitive value;
     
+    private int hashCode_;
+    
     public Primitive (hydra.langs.java.syntax.ArrayCreationExpression_Primitive value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Primitive)) {
         return false;
       }
       Primitive o = (Primitive) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -71,22 +84,35 @@ public abstract class ArrayCreationExpression {
   public static final class ClassOrInterface extends hydra.langs.java.syntax.ArrayCreationExpression {
     public final hydra.langs.java.syntax.ArrayCreationExpression_ClassOrInterface value;
     
+    private int hashCode_;
+    
     public ClassOrInterface (hydra.langs.java.syntax.ArrayCreationExpression_ClassOrInterface value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ClassOrInterface)) {
         return false;
       }
       ClassOrInterface o = (ClassOrInterface) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -98,22 +124,35 @@ public abstract class ArrayCreationExpression {
   public static final class PrimitiveArray extends hydra.langs.java.syntax.ArrayCreationExpression {
     public final hydra.langs.java.syntax.ArrayCreationExpression_PrimitiveArray value;
     
+    private int hashCode_;
+    
     public PrimitiveArray (hydra.langs.java.syntax.ArrayCreationExpression_PrimitiveArray value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof PrimitiveArray)) {
         return false;
       }
       PrimitiveArray o = (PrimitiveArray) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -125,22 +164,35 @@ public abstract class ArrayCreationExpression {
   public static final class ClassOrInterfaceArray extends hydra.langs.java.syntax.ArrayCreationExpression {
     public final hydra.langs.java.syntax.ArrayCreationExpression_ClassOrInterfaceArray value;
     
+    private int hashCode_;
+    
     public ClassOrInterfaceArray (hydra.langs.java.syntax.ArrayCreationExpression_ClassOrInterfaceArray value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ClassOrInterfaceArray)) {
         return false;
       }
       ClassOrInterfaceArray o = (ClassOrInterfaceArray) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
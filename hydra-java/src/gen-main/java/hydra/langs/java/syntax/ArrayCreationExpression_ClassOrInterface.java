@@ -9,6 +9,8 @@ public class ArrayCreationExpression_ClassOrInterface {
   
   public final java.util.Optional<hydra.langs.java.syntax.Dims> dims;
   
+  private int hashCode_;
+  
   public ArrayCreationExpression_ClassOrInterface (hydra.langs.java.syntax.ClassOrInterfaceType type, java.util.List<hydra.langs.java.syntax.DimExpr> dimExprs, java.util.Optional<hydra.langs.java.syntax.Dims> dims) {
     this.type = type;
     this.dimExprs = dimExprs;
@@ -17,16 +19,27 @@ public class ArrayCreationExpression_ClassOrInterface {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ArrayCreationExpression_ClassOrInterface)) {
       return false;
     }
     ArrayCreationExpression_ClassOrInterface o = (ArrayCreationExpression_ClassOrInterface) (other);
-    return type.equals(o.type) && dimExprs.equals(o.dimExprs) && dims.equals(o.dims);
+    return hashCode() == o.hashCode() && type.equals(o.type) && dimExprs.equals(o.dimExprs) && dims.equals(o.dims);
   }
   
   @Override
   public int hashCode() {
-    return 2 * type.hashCode() + 3 * dimExprs.hashCode() + 5 * dims.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * type.hashCode() + 3 * dimExprs.hashCode() + 5 * dims.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ArrayCreationExpression_ClassOrInterface withType(hydra.langs.java.syntax.ClassOrInterfaceType type) {
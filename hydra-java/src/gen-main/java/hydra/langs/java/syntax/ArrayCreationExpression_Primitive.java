@@ -9,6 +9,8 @@ public class ArrayCreationExpression_Primitive {
   
   public final java.util.Optional<hydra.langs.java.syntax.Dims> dims;
   
+  private int hashCode_;
+  
   public ArrayCreationExpression_Primitive (hydra.langs.java.syntax.PrimitiveTypeWithAnnotations type, java.util.List<hydra.langs.java.syntax.DimExpr> dimExprs, java.util.Optional<hydra.langs.java.syntax.Dims> dims) {
     this.type = type;
     this.dimExprs = dimExprs;
@@ -17,16 +19,27 @@ public class ArrayCreationExpression_Primitive {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ArrayCreationExpression_Primitive)) {
       return false;
     }
     ArrayCreationExpression_Primitive o = (ArrayCreationExpression_Primitive) (other);
-    return type.equals(o.type) && dimExprs.equals(o.dimExprs) && dims.equals(o.dims);
+    return hashCode() == o.hashCode() && type.equals(o.type) && dimExprs.equals(o.dimExprs) && dims.equals(o.dims);
   }
   
   @Override
   public int hashCode() {
-    return 2 * type.hashCode() + 3 * dimExprs.hashCode() + 5 * dims.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * type.hashCode() + 3 * dimExprs.hashCode() + 5 * dims.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ArrayCreationExpression_Primitive withType(hydra.langs.java.syntax.PrimitiveTypeWithAnnotations type) {
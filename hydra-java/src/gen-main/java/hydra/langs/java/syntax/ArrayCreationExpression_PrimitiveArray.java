@@ -9,6 +9,8 @@ public class ArrayCreationExpression_PrimitiveArray {
   
   public final hydra.langs.java.syntax.ArrayInitializer array;
   
+  private int hashCode_;
+  
   public ArrayCreationExpression_PrimitiveArray (hydra.langs.java.syntax.PrimitiveTypeWithAnnotations type, java.util.List<hydra.langs.java.syntax.Dims> dims, hydra.langs.java.syntax.ArrayInitializer array) {
     this.type = type;
     this.dims = dims;
@@ -17,16 +19,27 @@ public class ArrayCreationExpression_PrimitiveArray {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ArrayCreationExpression_PrimitiveArray)) {
       return false;
     }
     ArrayCreationExpression_PrimitiveArray o = (ArrayCreationExpression_PrimitiveArray) (other);
-    return type.equals(o.type) && dims.equals(o.dims) && array.equals(o.array);
+    return hashCode() == o.hashCode() && type.equals(o.type) && dims.equals(o.dims) && array.equals(o.array);
   }
   
   @Override
   public int hashCode() {
-    return 2 * type.hashCode() + 3 * dims.hashCode() + 5 * array.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * type.hashCode() + 3 * dims.hashCode() + 5 * array.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ArrayCreationExpression_PrimitiveArray withType(hydra.langs.java.syntax.PrimitiveTypeWithAnnotations type) {
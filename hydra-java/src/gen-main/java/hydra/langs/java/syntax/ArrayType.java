@@ -7,6 +7,8 @@ public class ArrayType {
   
   public final hydra.langs.java.syntax.ArrayType_Variant variant;
   
+  private int hashCode_;
+  
   public ArrayType (hydra.langs.java.syntax.Dims dims, hydra.langs.java.syntax.ArrayType_Variant variant) {
     this.dims = dims;
     this.variant = variant;
@@ -14,16 +16,27 @@ public class ArrayType {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ArrayType)) {
       return false;
     }
     ArrayType o = (ArrayType) (other);
-    return dims.equals(o.dims) && variant.equals(o.variant);
+    return hashCode() == o.hashCode() && dims.equals(o.dims) && variant.equals(o.variant);
   }
   
   @Override
   public int hashCode() {
-    return 2 * dims.hashCode() + 3 * variant.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * dims.hashCode() + 3 * variant.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ArrayType withDims(hydra.langs.java.syntax.Dims dims) {
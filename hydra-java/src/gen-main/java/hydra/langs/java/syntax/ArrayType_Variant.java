@@ -38,22 +38,35 @@ public abstract class ArrayType_Variant {
   public static final class Primitive extends hydra.langs.java.syntax.ArrayType_Variant {
     public final hydra.langs.java.syntax.PrimitiveTypeWithAnnotations value;
     
+    private int hashCode_;
+    
     public Primitive (hydra.langs.java.syntax.PrimitiveTypeWithAnnotations value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Primitive)) {
         return false;
       }
       Primitive o = (Primitive) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class ArrayType_Variant {
   public static final class ClassOrInterface extends hydra.langs.java.syntax.ArrayType_Variant {
     public final hydra.langs.java.syntax.ClassOrInterfaceType value;
     
+    private int hashCode_;
+    
     public ClassOrInterface (hydra.langs.java.syntax.ClassOrInterfaceType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ClassOrInterface)) {
         return false;
       }
       ClassOrInterface o = (ClassOrInterface) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +118,35 @@ public abstract class ArrayType_Variant {
   public static final class Variable extends hydra.langs.java.syntax.ArrayType_Variant {
     public final hydra.langs.java.syntax.TypeVariable value;
     
+    private int hashCode_;
+    
     public Variable (hydra.langs.java.syntax.TypeVariable value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Variable)) {
         return false;
       }
       Variable o = (Variable) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -32,22 +32,35 @@ public abstract class AssertStatement {
   public static final class Single extends hydra.langs.java.syntax.AssertStatement {
     public final hydra.langs.java.syntax.Expression value;
     
+    private int hashCode_;
+    
     public Single (hydra.langs.java.syntax.Expression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Single)) {
         return false;
       }
       Single o = (Single) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class AssertStatement {
   public static final class Pair extends hydra.langs.java.syntax.AssertStatement {
     public final hydra.langs.java.syntax.AssertStatement_Pair value;
     
+    private int hashCode_;
+    
     public Pair (hydra.langs.java.syntax.AssertStatement_Pair value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Pair)) {
         return false;
       }
       Pair o = (Pair) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -7,6 +7,8 @@ public class AssertStatement_Pair {
   
   public final hydra.langs.java.syntax.Expression second;
   
+  private int hashCode_;
+  
   public AssertStatement_Pair (hydra.langs.java.syntax.Expression first, hydra.langs.java.syntax.Expression second) {
     this.first = first;
     this.second = second;
@@ -14,16 +16,27 @@ public class AssertStatement_Pair {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof AssertStatement_Pair)) {
       return false;
     }
     AssertStatement_Pair o = (AssertStatement_Pair) (other);
-    return first.equals(o.first) && second.equals(o.second);
+    return hashCode() == o.hashCode() && first.equals(o.first) && second.equals(o.second);
   }
   
   @Override
   public int hashCode() {
-    return 2 * first.hashCode() + 3 * second.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * first.hashCode() + 3 * second.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public AssertStatement_Pair withFirst(hydra.langs.java.syntax.Expression first) {
@@ -9,6 +9,8 @@ public class Assignment {
   
   public final hydra.langs.java.syntax.Expression expression;
   
+  private int hashCode_;
+  
   public Assignment (hydra.langs.java.syntax.LeftHandSide lhs, hydra.langs.java.syntax.AssignmentOperator op, hydra.langs.java.syntax.Expression expression) {
     this.lhs = lhs;
     this.op = op;
@@ -17,16 +19,27 @@ public class Assignment {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Assignment)) {
       return false;
     }
     Assignment o = (Assignment) (other);
-    return lhs.equals(o.lhs) && op.equals(o.op) && expression.equals(o.expression);
+    return hashCode() == o.hashCode() && lhs.equals(o.lhs) && op.equals(o.op) && expression.equals(o.expression);
   }
   
   @Override
   public int hashCode() {
-    return 2 * lhs.hashCode() + 3 * op.hashCode() + 5 * expression.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * lhs.hashCode() + 3 * op.hashCode() + 5 * expression.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Assignment withLhs(hydra.langs.java.syntax.LeftHandSide lhs) {
@@ -96,6 +96,9 @@ public abstract class AssignmentOperator {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Simple)) {
         return false;
       }
@@ -121,6 +124,9 @@ public abstract class AssignmentOperator {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Times)) {
         return false;
       }
@@ -146,6 +152,9 @@ public abstract class AssignmentOperator {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Div)) {
         return false;
       }
@@ -171,6 +180,9 @@ public abstract class AssignmentOperator {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Mod)) {
         return false;
       }
@@ -196,6 +208,9 @@ public abstract class AssignmentOperator {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Plus)) {
         return false;
       }
@@ -221,6 +236,9 @@ public abstract class AssignmentOperator {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Minus)) {
         return false;
       }
@@ -246,6 +264,9 @@ public abstract class AssignmentOperator {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ShiftLeft)) {
         return false;
       }
@@ -271,6 +292,9 @@ public abstract class AssignmentOperator {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ShiftRight)) {
         return false;
       }
@@ -296,6 +320,9 @@ public abstract class AssignmentOperator {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ShiftRightZeroFill)) {
         return false;
       }
@@ -321,6 +348,9 @@ public abstract class AssignmentOperator {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof And)) {
         return false;
       }
@@ -346,6 +376,9 @@ public abstract class AssignmentOperator {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Xor)) {
         return false;
       }
@@ -371,6 +404,9 @@ public abstract class AssignmentOperator {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Or)) {
         return false;
       }
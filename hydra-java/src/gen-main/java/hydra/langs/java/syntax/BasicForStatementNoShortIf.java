@@ -7,6 +7,8 @@ public class BasicForStatementNoShortIf {
   
   public final hydra.langs.java.syntax.StatementNoShortIf body;
   
+  private int hashCode_;
+  
   public BasicForStatementNoShortIf (hydra.langs.java.syntax.ForCond cond, hydra.langs.java.syntax.StatementNoShortIf body) {
     this.cond = cond;
     this.body = body;
@@ -14,16 +16,27 @@ public class BasicForStatementNoShortIf {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof BasicForStatementNoShortIf)) {
       return false;
     }
     BasicForStatementNoShortIf o = (BasicForStatementNoShortIf) (other);
-    return cond.equals(o.cond) && body.equals(o.body);
+    return hashCode() == o.hashCode() && cond.equals(o.cond) && body.equals(o.body);
   }
   
   @Override
   public int hashCode() {
-    return 2 * cond.hashCode() + 3 * body.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * cond.hashCode() + 3 * body.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public BasicForStatementNoShortIf withCond(hydra.langs.java.syntax.ForCond cond) {
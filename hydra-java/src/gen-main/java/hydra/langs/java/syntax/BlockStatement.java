@@ -38,22 +38,35 @@ public abstract class BlockStatement {
   public static final class LocalVariableDeclaration extends hydra.langs.java.syntax.BlockStatement {
     public final hydra.langs.java.syntax.LocalVariableDeclarationStatement value;
     
+    private int hashCode_;
+    
     public LocalVariableDeclaration (hydra.langs.java.syntax.LocalVariableDeclarationStatement value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof LocalVariableDeclaration)) {
         return false;
       }
       LocalVariableDeclaration o = (LocalVariableDeclaration) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class BlockStatement {
   public static final class Class_ extends hydra.langs.java.syntax.BlockStatement {
     public final hydra.langs.java.syntax.ClassDeclaration value;
     
+    private int hashCode_;
+    
     public Class_ (hydra.langs.java.syntax.ClassDeclaration value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Class_)) {
         return false;
       }
       Class_ o = (Class_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +118,35 @@ public abstract class BlockStatement {
   public static final class Statement extends hydra.langs.java.syntax.BlockStatement {
     public final hydra.langs.java.syntax.Statement value;
     
+    private int hashCode_;
+    
     public Statement (hydra.langs.java.syntax.Statement value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Statement)) {
         return false;
       }
       Statement o = (Statement) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -36,6 +36,9 @@ public abstract class BooleanArray {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Simple)) {
         return false;
       }
@@ -57,22 +60,35 @@ public abstract class BooleanArray {
   public static final class Array extends hydra.langs.java.syntax.BooleanArray {
     public final hydra.langs.java.syntax.BooleanArray value;
     
+    private int hashCode_;
+    
     public Array (hydra.langs.java.syntax.BooleanArray value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Array)) {
         return false;
       }
       Array o = (Array) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -38,22 +38,35 @@ public abstract class CastExpression {
   public static final class Primitive extends hydra.langs.java.syntax.CastExpression {
     public final hydra.langs.java.syntax.CastExpression_Primitive value;
     
+    private int hashCode_;
+    
     public Primitive (hydra.langs.java.syntax.CastExpression_Primitive value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Primitive)) {
         return false;
       }
       Primitive o = (Primitive) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class CastExpression {
   public static final class NotPlusMinus extends hydra.langs.java.syntax.CastExpression {
     public final hydra.langs.java.syntax.CastExpression_NotPlusMinus value;
     
+    private int hashCode_;
+    
     public NotPlusMinus (hydra.langs.java.syntax.CastExpression_NotPlusMinus value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof NotPlusMinus)) {
         return false;
       }
       NotPlusMinus o = (NotPlusMinus) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +118,35 @@ public abstract class CastExpression {
   public static final class Lambda extends hydra.langs.java.syntax.CastExpression {
     public final hydra.langs.java.syntax.CastExpression_Lambda value;
     
+    private int hashCode_;
+    
     public Lambda (hydra.langs.java.syntax.CastExpression_Lambda value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Lambda)) {
         return false;
       }
       Lambda o = (Lambda) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -7,6 +7,8 @@ public class CastExpression_Lambda {
   
   public final hydra.langs.java.syntax.LambdaExpression expression;
   
+  private int hashCode_;
+  
   public CastExpression_Lambda (hydra.langs.java.syntax.CastExpression_RefAndBounds refAndBounds, hydra.langs.java.syntax.LambdaExpression expression) {
     this.refAndBounds = refAndBounds;
     this.expression = expression;
@@ -14,16 +16,27 @@ public class CastExpression_Lambda {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof CastExpression_Lambda)) {
       return false;
     }
     CastExpression_Lambda o = (CastExpression_Lambda) (other);
-    return refAndBounds.equals(o.refAndBounds) && expression.equals(o.expression);
+    return hashCode() == o.hashCode() && refAndBounds.equals(o.refAndBounds) && expression.equals(o.expression);
   }
   
   @Override
   public int hashCode() {
-    return 2 * refAndBounds.hashCode() + 3 * expression.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * refAndBounds.hashCode() + 3 * expression.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public CastExpression_Lambda withRefAndBounds(hydra.langs.java.syntax.CastExpression_RefAndBounds refAndBounds) {
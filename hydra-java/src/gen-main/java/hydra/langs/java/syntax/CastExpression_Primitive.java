@@ -7,6 +7,8 @@ public class CastExpression_Primitive {
   
   public final hydra.langs.java.syntax.UnaryExpression expression;
   
+  private int hashCode_;
+  
   public CastExpression_Primitive (hydra.langs.java.syntax.PrimitiveTypeWithAnnotations type, hydra.langs.java.syntax.UnaryExpression expression) {
     this.type = type;
     this.expression = expression;
@@ -14,16 +16,27 @@ public class CastExpression_Primitive {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof CastExpression_Primitive)) {
       return false;
     }
     CastExpression_Primitive o = (CastExpression_Primitive) (other);
-    return type.equals(o.type) && expression.equals(o.expression);
+    return hashCode() == o.hashCode() && type.equals(o.type) && expression.equals(o.expression);
   }
   
   @Override
   public int hashCode() {
-    return 2 * type.hashCode() + 3 * expression.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * type.hashCode() + 3 * expression.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public CastExpression_Primitive withType(hydra.langs.java.syntax.PrimitiveTypeWithAnnotations type) {
@@ -7,6 +7,8 @@ public class CastExpression_RefAndBounds {
   
   public final java.util.List<hydra.langs.java.syntax.AdditionalBound> bounds;
   
+  private int hashCode_;
+  
   public CastExpression_RefAndBounds (hydra.langs.java.syntax.ReferenceType type, java.util.List<hydra.langs.java.syntax.AdditionalBound> bounds) {
     this.type = type;
     this.bounds = bounds;
@@ -14,16 +16,27 @@ public class CastExpression_RefAndBounds {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof CastExpression_RefAndBounds)) {
       return false;
     }
     CastExpression_RefAndBounds o = (CastExpression_RefAndBounds) (other);
-    return type.equals(o.type) && bounds.equals(o.bounds);
+    return hashCode() == o.hashCode() && type.equals(o.type) && bounds.equals(o.bounds);
   }
   
   @Override
   public int hashCode() {
-    return 2 * type.hashCode() + 3 * bounds.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * type.hashCode() + 3 * bounds.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public CastExpression_RefAndBounds withType(hydra.langs.java.syntax.ReferenceType type) {
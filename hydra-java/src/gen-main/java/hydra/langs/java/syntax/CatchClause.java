@@ -7,6 +7,8 @@ public class CatchClause {
   
   public final hydra.langs.java.syntax.Block block;
   
+  private int hashCode_;
+  
   public CatchClause (java.util.Optional<hydra.langs.java.syntax.CatchFormalParameter> parameter, hydra.langs.java.syntax.Block block) {
     this.parameter = parameter;
     this.block = block;
@@ -14,16 +16,27 @@ public class CatchClause {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof CatchClause)) {
       return false;
     }
     CatchClause o = (CatchClause) (other);
-    return parameter.equals(o.parameter) && block.equals(o.block);
+    return hashCode() == o.hashCode() && parameter.equals(o.parameter) && block.equals(o.block);
   }
   
   @Override
   public int hashCode() {
-    return 2 * parameter.hashCode() + 3 * block.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * parameter.hashCode() + 3 * block.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public CatchClause withParameter(java.util.Optional<hydra.langs.java.syntax.CatchFormalParameter> parameter) {
@@ -9,6 +9,8 @@ public class CatchFormalParameter {
   
   public final hydra.langs.java.syntax.VariableDeclaratorId id;
   
+  private int hashCode_;
+  
   public CatchFormalParameter (java.util.List<hydra.langs.java.syntax.VariableModifier> modifiers, hydra.langs.java.syntax.CatchType type, hydra.langs.java.syntax.VariableDeclaratorId id) {
     this.modifiers = modifiers;
     this.type = type;
@@ -17,16 +19,27 @@ public class CatchFormalParameter {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof CatchFormalParameter)) {
       return false;
     }
     CatchFormalParameter o = (CatchFormalParameter) (other);
-    return modifiers.equals(o.modifiers) && type.equals(o.type) && id.equals(o.id);
+    return hashCode() == o.hashCode() && modifiers.equals(o.modifiers) && type.equals(o.type) && id.equals(o.id);
   }
   
   @Override
   public int hashCode() {
-    return 2 * modifiers.hashCode() + 3 * type.hashCode() + 5 * id.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * modifiers.hashCode() + 3 * type.hashCode() + 5 * id.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public CatchFormalParameter withModifiers(java.util.List<hydra.langs.java.syntax.VariableModifier> modifiers) {
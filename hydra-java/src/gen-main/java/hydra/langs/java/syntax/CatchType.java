@@ -7,6 +7,8 @@ public class CatchType {
   
   public final java.util.List<hydra.langs.java.syntax.ClassType> types;
   
+  private int hashCode_;
+  
   public CatchType (hydra.langs.java.syntax.UnannClassType type, java.util.List<hydra.langs.java.syntax.ClassType> types) {
     this.type = type;
     this.types = types;
@@ -14,16 +16,27 @@ public class CatchType {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof CatchType)) {
       return false;
     }
     CatchType o = (CatchType) (other);
-    return type.equals(o.type) && types.equals(o.types);
+    return hashCode() == o.hashCode() && type.equals(o.type) && types.equals(o.types);
   }
   
   @Override
   public int hashCode() {
-    return 2 * type.hashCode() + 3 * types.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * type.hashCode() + 3 * types.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public CatchType withType(hydra.langs.java.syntax.UnannClassType type) {
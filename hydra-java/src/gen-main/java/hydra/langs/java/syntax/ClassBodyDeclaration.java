@@ -44,22 +44,35 @@ public abstract class ClassBodyDeclaration {
   public static final class ClassMember extends hydra.langs.java.syntax.ClassBodyDeclaration {
     public final hydra.langs.java.syntax.ClassMemberDeclaration value;
     
+    private int hashCode_;
+    
     public ClassMember (hydra.langs.java.syntax.ClassMemberDeclaration value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ClassMember)) {
         return false;
       }
       ClassMember o = (ClassMember) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -71,22 +84,35 @@ public abstract class ClassBodyDeclaration {
   public static final class InstanceInitializer extends hydra.langs.java.syntax.ClassBodyDeclaration {
     public final hydra.langs.java.syntax.InstanceInitializer value;
     
+    private int hashCode_;
+    
     public InstanceInitializer (hydra.langs.java.syntax.InstanceInitializer value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof InstanceInitializer)) {
         return false;
       }
       InstanceInitializer o = (InstanceInitializer) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -98,22 +124,35 @@ public abstract class ClassBodyDeclaration {
   public static final class StaticInitializer extends hydra.langs.java.syntax.ClassBodyDeclaration {
     public final hydra.langs.java.syntax.StaticInitializer value;
     
+    private int hashCode_;
+    
     public StaticInitializer (hydra.langs.java.syntax.StaticInitializer value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof StaticInitializer)) {
         return false;
       }
       StaticInitializer o = (StaticInitializer) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -125,22 +164,35 @@ public abstract class ClassBodyDeclaration {
   public static final class ConstructorDeclaration extends hydra.langs.java.syntax.ClassBodyDeclaration {
     public final hydra.langs.java.syntax.ConstructorDeclaration value;
     
+    private int hashCode_;
+    
     public ConstructorDeclaration (hydra.langs.java.syntax.ConstructorDeclaration value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ConstructorDeclaration)) {
         return false;
       }
       ConstructorDeclaration o = (ConstructorDeclaration) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -32,22 +32,35 @@ public abstract class ClassDeclaration {
   public static final class Normal extends hydra.langs.java.syntax.ClassDeclaration {
     public final hydra.langs.java.syntax.NormalClassDeclaration value;
     
+    private int hashCode_;
+    
     public Normal (hydra.langs.java.syntax.NormalClassDeclaration value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Normal)) {
         return false;
       }
       Normal o = (Normal) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class ClassDeclaration {
   public static final class Enum_ extends hydra.langs.java.syntax.ClassDeclaration {
     public final hydra.langs.java.syntax.EnumDeclaration value;
     
+    private int hashCode_;
+    
     public Enum_ (hydra.langs.java.syntax.EnumDeclaration value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Enum_)) {
         return false;
       }
       Enum_ o = (Enum_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -7,6 +7,8 @@ public class ClassInstanceCreationExpression {
   
   public final hydra.langs.java.syntax.UnqualifiedClassInstanceCreationExpression expression;
   
+  private int hashCode_;
+  
   public ClassInstanceCreationExpression (java.util.Optional<hydra.langs.java.syntax.ClassInstanceCreationExpression_Qualifier> qualifier, hydra.langs.java.syntax.UnqualifiedClassInstanceCreationExpression expression) {
     this.qualifier = qualifier;
     this.expression = expression;
@@ -14,16 +16,27 @@ public class ClassInstanceCreationExpression {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ClassInstanceCreationExpression)) {
       return false;
     }
     ClassInstanceCreationExpression o = (ClassInstanceCreationExpression) (other);
-    return qualifier.equals(o.qualifier) && expression.equals(o.expression);
+    return hashCode() == o.hashCode() && qualifier.equals(o.qualifier) && expression.equals(o.expression);
   }
   
   @Override
   public int hashCode() {
-    return 2 * qualifier.hashCode() + 3 * expression.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * qualifier.hashCode() + 3 * expression.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ClassInstanceCreationExpression withQualifier(java.util.Optional<hydra.langs.java.syntax.ClassInstanceCreationExpression_Qualifier> qualifier) {
@@ -32,22 +32,35 @@ public abstract class ClassInstanceCreationExpression_Qualifier {
   public static final class Expression extends hydra.langs.java.syntax.ClassInstanceCreationExpression_Qualifier {
     public final hydra.langs.java.syntax.ExpressionName value;
     
+    private int hashCode_;
+    
     public Expression (hydra.langs.java.syntax.ExpressionName value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Expression)) {
         return false;
       }
       Expression o = (Expression) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class ClassInstanceCreationExpression_Qualifier {
   public static final class Primary extends hydra.langs.java.syntax.ClassInstanceCreationExpression_Qualifier {
     public final hydra.langs.java.syntax.Primary value;
     
+    private int hashCode_;
+    
     public Primary (hydra.langs.java.syntax.Primary value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Primary)) {
         return false;
       }
       Primary o = (Primary) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
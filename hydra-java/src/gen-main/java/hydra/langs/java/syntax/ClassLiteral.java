@@ -44,22 +44,35 @@ public abstract class ClassLiteral {
   public static final class Type extends hydra.langs.java.syntax.ClassLiteral {
     public final hydra.langs.java.syntax.TypeNameArray value;
     
+    private int hashCode_;
+    
     public Type (hydra.langs.java.syntax.TypeNameArray value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Type)) {
         return false;
       }
       Type o = (Type) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -71,22 +84,35 @@ public abstract class ClassLiteral {
   public static final class NumericType extends hydra.langs.java.syntax.ClassLiteral {
     public final hydra.langs.java.syntax.NumericTypeArray value;
     
+    private int hashCode_;
+    
     public NumericType (hydra.langs.java.syntax.NumericTypeArray value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof NumericType)) {
         return false;
       }
       NumericType o = (NumericType) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -98,22 +124,35 @@ public abstract class ClassLiteral {
   public static final class Boolean_ extends hydra.langs.java.syntax.ClassLiteral {
     public final hydra.langs.java.syntax.BooleanArray value;
     
+    private int hashCode_;
+    
     public Boolean_ (hydra.langs.java.syntax.BooleanArray value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Boolean_)) {
         return false;
       }
       Boolean_ o = (Boolean_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -129,6 +168,9 @@ public abstract class ClassLiteral {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Void_)) {
         return false;
       }
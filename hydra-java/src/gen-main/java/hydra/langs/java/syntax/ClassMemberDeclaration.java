@@ -50,22 +50,35 @@ public abstract class ClassMemberDeclaration {
   public static final class Field extends hydra.langs.java.syntax.ClassMemberDeclaration {
     public final hydra.langs.java.syntax.FieldDeclaration value;
     
+    private int hashCode_;
+    
     public Field (hydra.langs.java.syntax.FieldDeclaration value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Field)) {
         return false;
       }
       Field o = (Field) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -77,22 +90,35 @@ public abstract class ClassMemberDeclaration {
   public static final class Method extends hydra.langs.java.syntax.ClassMemberDeclaration {
     public final hydra.langs.java.syntax.MethodDeclaration value;
     
+    private int hashCode_;
+    
     public Method (hydra.langs.java.syntax.MethodDeclaration value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Method)) {
         return false;
       }
       Method o = (Method) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -104,22 +130,35 @@ public abstract class ClassMemberDeclaration {
   public static final class Class_ extends hydra.langs.java.syntax.ClassMemberDeclaration {
     public final hydra.langs.java.syntax.ClassDeclaration value;
     
+    private int hashCode_;
+    
     public Class_ (hydra.langs.java.syntax.ClassDeclaration value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Class_)) {
         return false;
       }
       Class_ o = (Class_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -131,22 +170,35 @@ public abstract class ClassMemberDeclaration {
   public static final class Interface extends hydra.langs.java.syntax.ClassMemberDeclaration {
     public final hydra.langs.java.syntax.InterfaceDeclaration value;
     
+    private int hashCode_;
+    
     public Interface (hydra.langs.java.syntax.InterfaceDeclaration value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Interface)) {
         return false;
       }
       Interface o = (Interface) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -162,6 +214,9 @@ public abstract class ClassMemberDeclaration {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof None)) {
         return false;
       }
@@ -32,22 +32,35 @@ public abstract class ClassOrInterfaceType {
   public static final class Class_ extends hydra.langs.java.syntax.ClassOrInterfaceType {
     public final hydra.langs.java.syntax.ClassType value;
     
+    private int hashCode_;
+    
     public Class_ (hydra.langs.java.syntax.ClassType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Class_)) {
         return false;
       }
       Class_ o = (Class_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class ClassOrInterfaceType {
   public static final class Interface extends hydra.langs.java.syntax.ClassOrInterfaceType {
     public final hydra.langs.java.syntax.InterfaceType value;
     
+    private int hashCode_;
+    
     public Interface (hydra.langs.java.syntax.InterfaceType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Interface)) {
         return false;
       }
       Interface o = (Interface) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
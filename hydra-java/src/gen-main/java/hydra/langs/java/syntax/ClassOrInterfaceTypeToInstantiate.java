@@ -7,6 +7,8 @@ public class ClassOrInterfaceTypeToInstantiate {
   
   public final java.util.Optional<hydra.langs.java.syntax.TypeArgumentsOrDiamond> typeArguments;
   
+  private int hashCode_;
+  
   public ClassOrInterfaceTypeToInstantiate (java.util.List<hydra.langs.java.syntax.AnnotatedIdentifier> identifiers, java.util.Optional<hydra.langs.java.syntax.TypeArgumentsOrDiamond> typeArguments) {
     this.identifiers = identifiers;
     this.typeArguments = typeArguments;
@@ -14,16 +16,27 @@ public class ClassOrInterfaceTypeToInstantiate {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ClassOrInterfaceTypeToInstantiate)) {
       return false;
     }
     ClassOrInterfaceTypeToInstantiate o = (ClassOrInterfaceTypeToInstantiate) (other);
-    return identifiers.equals(o.identifiers) && typeArguments.equals(o.typeArguments);
+    return hashCode() == o.hashCode() && identifiers.equals(o.identifiers) && typeArguments.equals(o.typeArguments);
   }
   
   @Override
   public int hashCode() {
-    return 2 * identifiers.hashCode() + 3 * typeArguments.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * identifiers.hashCode() + 3 * typeArguments.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ClassOrInterfaceTypeToInstantiate withIdentifiers(java.util.List<hydra.langs.java.syntax.AnnotatedIdentifier> identifiers) {
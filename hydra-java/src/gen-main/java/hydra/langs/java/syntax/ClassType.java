@@ -11,6 +11,8 @@ public class ClassType {
   
   public final java.util.List<hydra.langs.java.syntax.TypeArgument> arguments;
   
+  private int hashCode_;
+  
   public ClassType (java.util.List<hydra.langs.java.syntax.Annotation> annotations, hydra.langs.java.syntax.ClassTypeQualifier qualifier, hydra.langs.java.syntax.TypeIdentifier identifier, java.util.List<hydra.langs.java.syntax.TypeArgument> arguments) {
     this.annotations = annotations;
     this.qualifier = qualifier;
@@ -20,16 +22,27 @@ public class ClassType {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ClassType)) {
       return false;
     }
     ClassType o = (ClassType) (other);
-    return annotations.equals(o.annotations) && qualifier.equals(o.qualifier) && identifier.equals(o.identifier) && arguments.equals(o.arguments);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && qualifier.equals(o.qualifier) && identifier.equals(o.identifier) && arguments.equals(o.arguments);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * qualifier.hashCode() + 5 * identifier.hashCode() + 7 * arguments.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * qualifier.hashCode() + 5 * identifier.hashCode() + 7 * arguments.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ClassType withAnnotations(java.util.List<hydra.langs.java.syntax.Annotation> annotations) {
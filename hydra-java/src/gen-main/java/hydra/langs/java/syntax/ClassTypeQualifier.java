@@ -42,6 +42,9 @@ public abstract class ClassTypeQualifier {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof None)) {
         return false;
       }
@@ -63,22 +66,35 @@ public abstract class ClassTypeQualifier {
   public static final class Package_ extends hydra.langs.java.syntax.ClassTypeQualifier {
     public final hydra.langs.java.syntax.PackageName value;
     
+    private int hashCode_;
+    
     public Package_ (hydra.langs.java.syntax.PackageName value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Package_)) {
         return false;
       }
       Package_ o = (Package_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -90,22 +106,35 @@ public abstract class ClassTypeQualifier {
   public static final class Parent extends hydra.langs.java.syntax.ClassTypeQualifier {
     public final hydra.langs.java.syntax.ClassOrInterfaceType value;
     
+    private int hashCode_;
+    
     public Parent (hydra.langs.java.syntax.ClassOrInterfaceType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Parent)) {
         return false;
       }
       Parent o = (Parent) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
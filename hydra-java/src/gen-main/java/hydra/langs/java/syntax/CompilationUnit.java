@@ -32,22 +32,35 @@ public abstract class CompilationUnit {
   public static final class Ordinary extends hydra.langs.java.syntax.CompilationUnit {
     public final hydra.langs.java.syntax.OrdinaryCompilationUnit value;
     
+    private int hashCode_;
+    
     public Ordinary (hydra.langs.java.syntax.OrdinaryCompilationUnit value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Ordinary)) {
         return false;
       }
       Ordinary o = (Ordinary) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class CompilationUnit {
   public static final class Modular extends hydra.langs.java.syntax.CompilationUnit {
     public final hydra.langs.java.syntax.ModularCompilationUnit value;
     
+    private int hashCode_;
+    
     public Modular (hydra.langs.java.syntax.ModularCompilationUnit value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Modular)) {
         return false;
       }
       Modular o = (Modular) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
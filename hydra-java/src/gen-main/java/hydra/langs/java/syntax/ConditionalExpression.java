@@ -38,22 +38,35 @@ public abstract class ConditionalExpression {
   public static final class Simple extends hydra.langs.java.syntax.ConditionalExpression {
     public final hydra.langs.java.syntax.ConditionalOrExpression value;
     
+    private int hashCode_;
+    
     public Simple (hydra.langs.java.syntax.ConditionalOrExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Simple)) {
         return false;
       }
       Simple o = (Simple) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class ConditionalExpression {
   public static final class TernaryCond extends hydra.langs.java.syntax.ConditionalExpression {
     public final hydra.langs.java.syntax.ConditionalExpression_TernaryCond value;
     
+    private int hashCode_;
+    
     public TernaryCond (hydra.langs.java.syntax.ConditionalExpression_TernaryCond value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof TernaryCond)) {
         return false;
       }
       TernaryCond o = (TernaryCond) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +118,35 @@ public abstract class ConditionalExpression {
   public static final class TernaryLambda extends hydra.langs.java.syntax.ConditionalExpression {
     public final hydra.langs.java.syntax.ConditionalExpression_TernaryLambda value;
     
+    private int hashCode_;
+    
     public TernaryLambda (hydra.langs.java.syntax.ConditionalExpression_TernaryLambda value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof TernaryLambda)) {
         return false;
       }
       TernaryLambda o = (TernaryLambda) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -9,6 +9,8 @@ public class ConditionalExpression_TernaryCond {
   
   public final hydra.langs.java.syntax.ConditionalExpression ifFalse;
   
+  private int hashCode_;
+  
   public ConditionalExpression_TernaryCond (hydra.langs.java.syntax.ConditionalOrExpression cond, hydra.langs.java.syntax.Expression ifTrue, hydra.langs.java.syntax.ConditionalExpression ifFalse) {
     this.cond = cond;
     this.ifTrue = ifTrue;
@@ -17,16 +19,27 @@ public class ConditionalExpression_TernaryCond {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ConditionalExpression_TernaryCond)) {
       return false;
     }
     ConditionalExpression_TernaryCond o = (ConditionalExpression_TernaryCond) (other);
-    return cond.equals(o.cond) && ifTrue.equals(o.ifTrue) && ifFalse.equals(o.ifFalse);
+    return hashCode() == o.hashCode() && cond.equals(o.cond) && ifTrue.equals(o.ifTrue) && ifFalse.equals(o.ifFalse);
   }
   
   @Override
   public int hashCode() {
-    return 2 * cond.hashCode() + 3 * ifTrue.hashCode() + 5 * ifFalse.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * cond.hashCode() + 3 * ifTrue.hashCode() + 5 * ifFalse.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ConditionalExpression_TernaryCond withCond(hydra.langs.java.syntax.ConditionalOrExpression cond) {
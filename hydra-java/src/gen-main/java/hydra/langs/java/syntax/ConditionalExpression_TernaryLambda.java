@@ -9,6 +9,8 @@ public class ConditionalExpression_TernaryLambda {
   
   public final hydra.langs.java.syntax.LambdaExpression ifFalse;
   
+  private int hashCode_;
+  
   public ConditionalExpression_TernaryLambda (hydra.langs.java.syntax.ConditionalOrExpression cond, hydra.langs.java.syntax.Expression ifTrue, hydra.langs.java.syntax.LambdaExpression ifFalse) {
     this.cond = cond;
     this.ifTrue = ifTrue;
@@ -17,16 +19,27 @@ public class ConditionalExpression_TernaryLambda {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ConditionalExpression_TernaryLambda)) {
       return false;
     }
     ConditionalExpression_TernaryLambda o = (ConditionalExpression_TernaryLambda) (other);
-    return cond.equals(o.cond) && ifTrue.equals(o.ifTrue) && ifFalse.equals(o.ifFalse);
+    return hashCode() == o.hashCode() && cond.equals(o.cond) && ifTrue.equals(o.ifTrue) && ifFalse.equals(o.ifFalse);
   }
   
   @Override
   public int hashCode() {
-    return 2 * cond.hashCode() + 3 * ifTrue.hashCode() + 5 * ifFalse.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * cond.hashCode() + 3 * ifTrue.hashCode() + 5 * ifFalse.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ConditionalExpression_TernaryLambda withCond(hydra.langs.java.syntax.ConditionalOrExpression cond) {
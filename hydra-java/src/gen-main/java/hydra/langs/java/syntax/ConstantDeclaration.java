@@ -9,6 +9,8 @@ public class ConstantDeclaration {
   
   public final java.util.List<hydra.langs.java.syntax.VariableDeclarator> variables;
   
+  private int hashCode_;
+  
   public ConstantDeclaration (java.util.List<hydra.langs.java.syntax.ConstantModifier> modifiers, hydra.langs.java.syntax.UnannType type, java.util.List<hydra.langs.java.syntax.VariableDeclarator> variables) {
     this.modifiers = modifiers;
     this.type = type;
@@ -17,16 +19,27 @@ public class ConstantDeclaration {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ConstantDeclaration)) {
       return false;
     }
     ConstantDeclaration o = (ConstantDeclaration) (other);
-    return modifiers.equals(o.modifiers) && type.equals(o.type) && variables.equals(o.variables);
+    return hashCode() == o.hashCode() && modifiers.equals(o.modifiers) && type.equals(o.type) && variables.equals(o.variables);
   }
   
   @Override
   public int hashCode() {
-    return 2 * modifiers.hashCode() + 3 * type.hashCode() + 5 * variables.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * modifiers.hashCode() + 3 * type.hashCode() + 5 * variables.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ConstantDeclaration withModifiers(java.util.List<hydra.langs.java.syntax.ConstantModifier> modifiers) {
@@ -5,21 +5,34 @@ public class ConstantExpression {
   
   public final hydra.langs.java.syntax.Expression value;
   
+  private int hashCode_;
+  
   public ConstantExpression (hydra.langs.java.syntax.Expression value) {
     this.value = value;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ConstantExpression)) {
       return false;
     }
     ConstantExpression o = (ConstantExpression) (other);
-    return value.equals(o.value);
+    return hashCode() == o.hashCode() && value.equals(o.value);
   }
   
   @Override
   public int hashCode() {
-    return 2 * value.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * value.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
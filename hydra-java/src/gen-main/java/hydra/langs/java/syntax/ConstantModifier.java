@@ -44,22 +44,35 @@ public abstract class ConstantModifier {
   public static final class Annotation extends hydra.langs.java.syntax.ConstantModifier {
     public final hydra.langs.java.syntax.Annotation value;
     
+    private int hashCode_;
+    
     public Annotation (hydra.langs.java.syntax.Annotation value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Annotation)) {
         return false;
       }
       Annotation o = (Annotation) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -75,6 +88,9 @@ public abstract class ConstantModifier {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Public)) {
         return false;
       }
@@ -100,6 +116,9 @@ public abstract class ConstantModifier {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Static)) {
         return false;
       }
@@ -125,6 +144,9 @@ public abstract class ConstantModifier {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Final)) {
         return false;
       }
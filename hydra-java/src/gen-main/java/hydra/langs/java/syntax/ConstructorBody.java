@@ -7,6 +7,8 @@ public class ConstructorBody {
   
   public final java.util.List<hydra.langs.java.syntax.BlockStatement> statements;
   
+  private int hashCode_;
+  
   public ConstructorBody (java.util.Optional<hydra.langs.java.syntax.ExplicitConstructorInvocation> invocation, java.util.List<hydra.langs.java.syntax.BlockStatement> statements) {
     this.invocation = invocation;
     this.statements = statements;
@@ -14,16 +16,27 @@ public class ConstructorBody {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ConstructorBody)) {
       return false;
     }
     ConstructorBody o = (ConstructorBody) (other);
-    return invocation.equals(o.invocation) && statements.equals(o.statements);
+    return hashCode() == o.hashCode() && invocation.equals(o.invocation) && statements.equals(o.statements);
   }
   
   @Override
   public int hashCode() {
-    return 2 * invocation.hashCode() + 3 * statements.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * invocation.hashCode() + 3 * statements.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ConstructorBody withInvocation(java.util.Optional<hydra.langs.java.syntax.ExplicitConstructorInvocation> invocation) {
@@ -11,6 +11,8 @@ public class ConstructorDeclaration {
   
   public final hydra.langs.java.syntax.ConstructorBody body;
   
+  private int hashCode_;
+  
   public ConstructorDeclaration (java.util.List<hydra.langs.java.syntax.ConstructorModifier> modifiers, hydra.langs.java.syntax.ConstructorDeclarator constructor, java.util.Optional<hydra.langs.java.syntax.Throws> throws_, hydra.langs.java.syntax.ConstructorBody body) {
     this.modifiers = modifiers;
     this.constructor = constructor;
@@ -20,16 +22,27 @@ public class ConstructorDeclaration {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ConstructorDeclaration)) {
       return false;
     }
     ConstructorDeclaration o = (ConstructorDeclaration) (other);
-    return modifiers.equals(o.modifiers) && constructor.equals(o.constructor) && throws_.equals(o.throws_) && body.equals(o.body);
+    return hashCode() == o.hashCode() && modifiers.equals(o.modifiers) && constructor.equals(o.constructor) && throws_.equals(o.throws_) && body.equals(o.body);
   }
   
   @Override
   public int hashCode() {
-    return 2 * modifiers.hashCode() + 3 * constructor.hashCode() + 5 * throws_.hashCode() + 7 * body.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * modifiers.hashCode() + 3 * constructor.hashCode() + 5 * throws_.hashCode() + 7 * body.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ConstructorDeclaration withModifiers(java.util.List<hydra.langs.java.syntax.ConstructorModifier> modifiers) {
@@ -7,6 +7,8 @@ public class DimExpr {
   
   public final java.util.Optional<hydra.langs.java.syntax.Expression> expression;
   
+  private int hashCode_;
+  
   public DimExpr (java.util.List<hydra.langs.java.syntax.Annotation> annotations, java.util.Optional<hydra.langs.java.syntax.Expression> expression) {
     this.annotations = annotations;
     this.expression = expression;
@@ -14,16 +16,27 @@ public class DimExpr {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DimExpr)) {
       return false;
     }
     DimExpr o = (DimExpr) (other);
-    return annotations.equals(o.annotations) && expression.equals(o.expression);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && expression.equals(o.expression);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * expression.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * expression.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public DimExpr withAnnotations(java.util.List<hydra.langs.java.syntax.Annotation> annotations) {
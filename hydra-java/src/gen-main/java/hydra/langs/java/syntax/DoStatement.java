@@ -7,6 +7,8 @@ public class DoStatement {
   
   public final java.util.Optional<hydra.langs.java.syntax.Expression> conde;
   
+  private int hashCode_;
+  
   public DoStatement (hydra.langs.java.syntax.Statement body, java.util.Optional<hydra.langs.java.syntax.Expression> conde) {
     this.body = body;
     this.conde = conde;
@@ -14,16 +16,27 @@ public class DoStatement {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DoStatement)) {
       return false;
     }
     DoStatement o = (DoStatement) (other);
-    return body.equals(o.body) && conde.equals(o.conde);
+    return hashCode() == o.hashCode() && body.equals(o.body) && conde.equals(o.conde);
   }
   
   @Override
   public int hashCode() {
-    return 2 * body.hashCode() + 3 * conde.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * body.hashCode() + 3 * conde.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public DoStatement withBody(hydra.langs.java.syntax.Statement body) {
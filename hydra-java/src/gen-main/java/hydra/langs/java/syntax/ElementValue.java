@@ -38,22 +38,35 @@ public abstract class ElementValue {
   public static final class ConditionalExpression extends hydra.langs.java.syntax.ElementValue {
     public final hydra.langs.java.syntax.ConditionalExpression value;
     
+    private int hashCode_;
+    
     public ConditionalExpression (hydra.langs.java.syntax.ConditionalExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ConditionalExpression)) {
         return false;
       }
       ConditionalExpression o = (ConditionalExpression) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class ElementValue {
   public static final class ElementValueArrayInitializer extends hydra.langs.java.syntax.ElementValue {
     public final hydra.langs.java.syntax.ElementValueArrayInitializer value;
     
+    private int hashCode_;
+    
     public ElementValueArrayInitializer (hydra.langs.java.syntax.ElementValueArrayInitializer value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ElementValueArrayInitializer)) {
         return false;
       }
       ElementValueArrayInitializer o = (ElementValueArrayInitializer) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +118,35 @@ public abstract class ElementValue {
   public static final class Annotation extends hydra.langs.java.syntax.ElementValue {
     public final hydra.langs.java.syntax.Annotation value;
     
+    private int hashCode_;
+    
     public Annotation (hydra.langs.java.syntax.Annotation value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Annotation)) {
         return false;
       }
       Annotation o = (Annotation) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -7,6 +7,8 @@ public class ElementValuePair {
   
   public final hydra.langs.java.syntax.ElementValue value;
   
+  private int hashCode_;
+  
   public ElementValuePair (hydra.langs.java.syntax.Identifier key, hydra.langs.java.syntax.ElementValue value) {
     this.key = key;
     this.value = value;
@@ -14,16 +16,27 @@ public class ElementValuePair {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ElementValuePair)) {
       return false;
     }
     ElementValuePair o = (ElementValuePair) (other);
-    return key.equals(o.key) && value.equals(o.value);
+    return hashCode() == o.hashCode() && key.equals(o.key) && value.equals(o.value);
   }
   
   @Override
   public int hashCode() {
-    return 2 * key.hashCode() + 3 * value.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * key.hashCode() + 3 * value.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ElementValuePair withKey(hydra.langs.java.syntax.Identifier key) {
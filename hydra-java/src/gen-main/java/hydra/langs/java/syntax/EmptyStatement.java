@@ -9,6 +9,9 @@ public class EmptyStatement {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof EmptyStatement)) {
       return false;
     }
@@ -11,6 +11,8 @@ public class EnhancedForCond {
   
   public final hydra.langs.java.syntax.Expression expression;
   
+  private int hashCode_;
+  
   public EnhancedForCond (java.util.List<hydra.langs.java.syntax.VariableModifier> modifiers, hydra.langs.java.syntax.LocalVariableType type, hydra.langs.java.syntax.VariableDeclaratorId id, hydra.langs.java.syntax.Expression expression) {
     this.modifiers = modifiers;
     this.type = type;
@@ -20,16 +22,27 @@ public class EnhancedForCond {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof EnhancedForCond)) {
       return false;
     }
     EnhancedForCond o = (EnhancedForCond) (other);
-    return modifiers.equals(o.modifiers) && type.equals(o.type) && id.equals(o.id) && expression.equals(o.expression);
+    return hashCode() == o.hashCode() && modifiers.equals(o.modifiers) && type.equals(o.type) && id.equals(o.id) && expression.equals(o.expression);
   }
   
   @Override
   public int hashCode() {
-    return 2 * modifiers.hashCode() + 3 * type.hashCode() + 5 * id.hashCode() + 7 * expression.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * modifiers.hashCode() + 3 * type.hashCode() + 5 * id.hashCode() + 7 * expression.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public EnhancedForCond withModifiers(java.util.List<hydra.langs.java.syntax.VariableModifier> modifiers) {
@@ -7,6 +7,8 @@ public class EnhancedForStatement {
   
   public final hydra.langs.java.syntax.Statement body;
   
+  private int hashCode_;
+  
   public EnhancedForStatement (hydra.langs.java.syntax.EnhancedForCond cond, hydra.langs.java.syntax.Statement body) {
     this.cond = cond;
     this.body = body;
@@ -14,16 +16,27 @@ public class EnhancedForStatement {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof EnhancedForStatement)) {
       return false;
     }
     EnhancedForStatement o = (EnhancedForStatement) (other);
-    return cond.equals(o.cond) && body.equals(o.body);
+    return hashCode() == o.hashCode() && cond.equals(o.cond) && body.equals(o.body);
   }
   
   @Override
   public int hashCode() {
-    return 2 * cond.hashCode() + 3 * body.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * cond.hashCode() + 3 * body.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public EnhancedForStatement withCond(hydra.langs.java.syntax.EnhancedForCond cond) {
@@ -7,6 +7,8 @@ public class EnhancedForStatementNoShortIf {
   
   public final hydra.langs.java.syntax.StatementNoShortIf body;
   
+  private int hashCode_;
+  
   public EnhancedForStatementNoShortIf (hydra.langs.java.syntax.EnhancedForCond cond, hydra.langs.java.syntax.StatementNoShortIf body) {
     this.cond = cond;
     this.body = body;
@@ -14,16 +16,27 @@ public class EnhancedForStatementNoShortIf {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof EnhancedForStatementNoShortIf)) {
       return false;
     }
     EnhancedForStatementNoShortIf o = (EnhancedForStatementNoShortIf) (other);
-    return cond.equals(o.cond) && body.equals(o.body);
+    return hashCode() == o.hashCode() && cond.equals(o.cond) && body.equals(o.body);
   }
   
   @Override
   public int hashCode() {
-    return 2 * cond.hashCode() + 3 * body.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * cond.hashCode() + 3 * body.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public EnhancedForStatementNoShortIf withCond(hydra.langs.java.syntax.EnhancedForCond cond) {
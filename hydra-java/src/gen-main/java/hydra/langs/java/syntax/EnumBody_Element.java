@@ -7,6 +7,8 @@ public class EnumBody_Element {
   
   public final java.util.List<hydra.langs.java.syntax.ClassBodyDeclaration> bodyDeclarations;
   
+  private int hashCode_;
+  
   public EnumBody_Element (java.util.List<hydra.langs.java.syntax.EnumConstant> constants, java.util.List<hydra.langs.java.syntax.ClassBodyDeclaration> bodyDeclarations) {
     this.constants = constants;
     this.bodyDeclarations = bodyDeclarations;
@@ -14,16 +16,27 @@ public class EnumBody_Element {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof EnumBody_Element)) {
       return false;
     }
     EnumBody_Element o = (EnumBody_Element) (other);
-    return constants.equals(o.constants) && bodyDeclarations.equals(o.bodyDeclarations);
+    return hashCode() == o.hashCode() && constants.equals(o.constants) && bodyDeclarations.equals(o.bodyDeclarations);
   }
   
   @Override
   public int hashCode() {
-    return 2 * constants.hashCode() + 3 * bodyDeclarations.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * constants.hashCode() + 3 * bodyDeclarations.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public EnumBody_Element withConstants(java.util.List<hydra.langs.java.syntax.EnumConstant> constants) {
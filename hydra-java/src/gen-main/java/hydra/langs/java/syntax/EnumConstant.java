@@ -11,6 +11,8 @@ public class EnumConstant {
   
   public final java.util.Optional<hydra.langs.java.syntax.ClassBody> body;
   
+  private int hashCode_;
+  
   public EnumConstant (java.util.List<hydra.langs.java.syntax.EnumConstantModifier> modifiers, hydra.langs.java.syntax.Identifier identifier, java.util.List<java.util.List<hydra.langs.java.syntax.Expression>> arguments, java.util.Optional<hydra.langs.java.syntax.ClassBody> body) {
     this.modifiers = modifiers;
     this.identifier = identifier;
@@ -20,16 +22,27 @@ public class EnumConstant {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof EnumConstant)) {
       return false;
     }
     EnumConstant o = (EnumConstant) (other);
-    return modifiers.equals(o.modifiers) && identifier.equals(o.identifier) && arguments.equals(o.arguments) && body.equals(o.body);
+    return hashCode() == o.hashCode() && modifiers.equals(o.modifiers) && identifier.equals(o.identifier) && arguments.equals(o.arguments) && body.equals(o.body);
   }
   
   @Override
   public int hashCode() {
-    return 2 * modifiers.hashCode() + 3 * identifier.hashCode() + 5 * arguments.hashCode() + 7 * body.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * modifiers.hashCode() + 3 * identifier.hashCode() + 5 * arguments.hashCode() + 7 * body.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public EnumConstant withModifiers(java.util.List<hydra.langs.java.syntax.EnumConstantModifier> modifiers) {
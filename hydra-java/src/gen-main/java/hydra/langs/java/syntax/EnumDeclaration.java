@@ -11,6 +11,8 @@ public class EnumDeclaration {
   
   public final hydra.langs.java.syntax.EnumBody body;
   
+  private int hashCode_;
+  
   public EnumDeclaration (java.util.List<hydra.langs.java.syntax.ClassModifier> modifiers, hydra.langs.java.syntax.TypeIdentifier identifier, java.util.List<hydra.langs.java.syntax.InterfaceType> implements_, hydra.langs.java.syntax.EnumBody body) {
     this.modifiers = modifiers;
     this.identifier = identifier;
@@ -20,16 +22,27 @@ public class EnumDeclaration {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof EnumDeclaration)) {
       return false;
     }
     EnumDeclaration o = (EnumDeclaration) (other);
-    return modifiers.equals(o.modifiers) && identifier.equals(o.identifier) && implements_.equals(o.implements_) && body.equals(o.body);
+    return hashCode() == o.hashCode() && modifiers.equals(o.modifiers) && identifier.equals(o.identifier) && implements_.equals(o.implements_) && body.equals(o.body);
   }
   
   @Override
   public int hashCode() {
-    return 2 * modifiers.hashCode() + 3 * identifier.hashCode() + 5 * implements_.hashCode() + 7 * body.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * modifiers.hashCode() + 3 * identifier.hashCode() + 5 * implements_.hashCode() + 7 * body.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public EnumDeclaration withModifiers(java.util.List<hydra.langs.java.syntax.ClassModifier> modifiers) {
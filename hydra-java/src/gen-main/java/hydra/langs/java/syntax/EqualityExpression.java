@@ -38,22 +38,35 @@ public abstract class EqualityExpression {
   public static final class Unary extends hydra.langs.java.syntax.EqualityExpression {
     public final hydra.langs.java.syntax.RelationalExpression value;
     
+    private int hashCode_;
+    
     public Unary (hydra.langs.java.syntax.RelationalExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Unary)) {
         return false;
       }
       Unary o = (Unary) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class EqualityExpression {
   public static final class Equal extends hydra.langs.java.syntax.EqualityExpression {
     public final hydra.langs.java.syntax.EqualityExpression_Binary value;
     
+    private int hashCode_;
+    
     public Equal (hydra.langs.java.syntax.EqualityExpression_Binary value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Equal)) {
         return false;
       }
       Equal o = (Equal) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +118,35 @@ public abstract class EqualityExpression {
   public static final class NotEqual extends hydra.langs.java.syntax.EqualityExpression {
     public final hydra.langs.java.syntax.EqualityExpression_Binary value;
     
+    private int hashCode_;
+    
     public NotEqual (hydra.langs.java.syntax.EqualityExpression_Binary value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof NotEqual)) {
         return false;
       }
       NotEqual o = (NotEqual) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -7,6 +7,8 @@ public class EqualityExpression_Binary {
   
   public final hydra.langs.java.syntax.RelationalExpression rhs;
   
+  private int hashCode_;
+  
   public EqualityExpression_Binary (hydra.langs.java.syntax.EqualityExpression lhs, hydra.langs.java.syntax.RelationalExpression rhs) {
     this.lhs = lhs;
     this.rhs = rhs;
@@ -14,16 +16,27 @@ public class EqualityExpression_Binary {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof EqualityExpression_Binary)) {
       return false;
     }
     EqualityExpression_Binary o = (EqualityExpression_Binary) (other);
-    return lhs.equals(o.lhs) && rhs.equals(o.rhs);
+    return hashCode() == o.hashCode() && lhs.equals(o.lhs) && rhs.equals(o.rhs);
   }
   
   @Override
   public int hashCode() {
-    return 2 * lhs.hashCode() + 3 * rhs.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * lhs.hashCode() + 3 * rhs.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public EqualityExpression_Binary withLhs(hydra.langs.java.syntax.EqualityExpression lhs) {
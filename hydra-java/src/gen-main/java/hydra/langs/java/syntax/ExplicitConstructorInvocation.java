@@ -9,6 +9,8 @@ public class ExplicitConstructorInvocation {
   
   public final hydra.langs.java.syntax.ExplicitConstructorInvocation_Variant variant;
   
+  private int hashCode_;
+  
   public ExplicitConstructorInvocation (java.util.List<hydra.langs.java.syntax.TypeArgument> typeArguments, java.util.List<hydra.langs.java.syntax.Expression> arguments, hydra.langs.java.syntax.ExplicitConstructorInvocation_Variant variant) {
     this.typeArguments = typeArguments;
     this.arguments = arguments;
@@ -17,16 +19,27 @@ public class ExplicitConstructorInvocation {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ExplicitConstructorInvocation)) {
       return false;
     }
     ExplicitConstructorInvocation o = (ExplicitConstructorInvocation) (other);
-    return typeArguments.equals(o.typeArguments) && arguments.equals(o.arguments) && variant.equals(o.variant);
+    return hashCode() == o.hashCode() && typeArguments.equals(o.typeArguments) && arguments.equals(o.arguments) && variant.equals(o.variant);
   }
   
   @Override
   public int hashCode() {
-    return 2 * typeArguments.hashCode() + 3 * arguments.hashCode() + 5 * variant.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * typeArguments.hashCode() + 3 * arguments.hashCode() + 5 * variant.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ExplicitConstructorInvocation withTypeArguments(java.util.List<hydra.langs.java.syntax.TypeArgument> typeArguments) {
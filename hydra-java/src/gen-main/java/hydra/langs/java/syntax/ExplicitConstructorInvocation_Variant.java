@@ -42,6 +42,9 @@ public abstract class ExplicitConstructorInvocation_Variant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof This)) {
         return false;
       }
@@ -63,22 +66,35 @@ public abstract class ExplicitConstructorInvocation_Variant {
   public static final class Super extends hydra.langs.java.syntax.ExplicitConstructorInvocation_Variant {
     public final java.util.Optional<hydra.langs.java.syntax.ExpressionName> value;
     
+    private int hashCode_;
+    
     public Super (java.util.Optional<hydra.langs.java.syntax.ExpressionName> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Super)) {
         return false;
       }
       Super o = (Super) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -90,22 +106,35 @@ public abstract class ExplicitConstructorInvocation_Variant {
   public static final class Primary extends hydra.langs.java.syntax.ExplicitConstructorInvocation_Variant {
     public final hydra.langs.java.syntax.Primary value;
     
+    private int hashCode_;
+    
     public Primary (hydra.langs.java.syntax.Primary value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Primary)) {
         return false;
       }
       Primary o = (Primary) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -32,22 +32,35 @@ public abstract class Expression {
   public static final class Lambda extends hydra.langs.java.syntax.Expression {
     public final hydra.langs.java.syntax.LambdaExpression value;
     
+    private int hashCode_;
+    
     public Lambda (hydra.langs.java.syntax.LambdaExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Lambda)) {
         return false;
       }
       Lambda o = (Lambda) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class Expression {
   public static final class Assignment extends hydra.langs.java.syntax.Expression {
     public final hydra.langs.java.syntax.AssignmentExpression value;
     
+    private int hashCode_;
+    
     public Assignment (hydra.langs.java.syntax.AssignmentExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Assignment)) {
         return false;
       }
       Assignment o = (Assignment) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -7,6 +7,8 @@ public class ExpressionName {
   
   public final hydra.langs.java.syntax.Identifier identifier;
   
+  private int hashCode_;
+  
   public ExpressionName (java.util.Optional<hydra.langs.java.syntax.AmbiguousName> qualifier, hydra.langs.java.syntax.Identifier identifier) {
     this.qualifier = qualifier;
     this.identifier = identifier;
@@ -14,16 +16,27 @@ public class ExpressionName {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ExpressionName)) {
       return false;
     }
     ExpressionName o = (ExpressionName) (other);
-    return qualifier.equals(o.qualifier) && identifier.equals(o.identifier);
+    return hashCode() == o.hashCode() && qualifier.equals(o.qualifier) && identifier.equals(o.identifier);
   }
   
   @Override
   public int hashCode() {
-    return 2 * qualifier.hashCode() + 3 * identifier.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * qualifier.hashCode() + 3 * identifier.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ExpressionName withQualifier(java.util.Optional<hydra.langs.java.syntax.AmbiguousName> qualifier) {
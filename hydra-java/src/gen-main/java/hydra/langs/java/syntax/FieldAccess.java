@@ -7,6 +7,8 @@ public class FieldAccess {
   
   public final hydra.langs.java.syntax.Identifier identifier;
   
+  private int hashCode_;
+  
   public FieldAccess (hydra.langs.java.syntax.FieldAccess_Qualifier qualifier, hydra.langs.java.syntax.Identifier identifier) {
     this.qualifier = qualifier;
     this.identifier = identifier;
@@ -14,16 +16,27 @@ public class FieldAccess {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof FieldAccess)) {
       return false;
     }
     FieldAccess o = (FieldAccess) (other);
-    return qualifier.equals(o.qualifier) && identifier.equals(o.identifier);
+    return hashCode() == o.hashCode() && qualifier.equals(o.qualifier) && identifier.equals(o.identifier);
   }
   
   @Override
   public int hashCode() {
-    return 2 * qualifier.hashCode() + 3 * identifier.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * qualifier.hashCode() + 3 * identifier.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public FieldAccess withQualifier(hydra.langs.java.syntax.FieldAccess_Qualifier qualifier) {
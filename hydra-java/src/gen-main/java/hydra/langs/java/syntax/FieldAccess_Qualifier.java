@@ -38,22 +38,35 @@ public abstract class FieldAccess_Qualifier {
   public static final class Primary extends hydra.langs.java.syntax.FieldAccess_Qualifier {
     public final hydra.langs.java.syntax.Primary value;
     
+    private int hashCode_;
+    
     public Primary (hydra.langs.java.syntax.Primary value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Primary)) {
         return false;
       }
       Primary o = (Primary) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -69,6 +82,9 @@ public abstract class FieldAccess_Qualifier {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Super)) {
         return false;
       }
@@ -90,22 +106,35 @@ public abstract class FieldAccess_Qualifier {
   public static final class Typed extends hydra.langs.java.syntax.FieldAccess_Qualifier {
     public final hydra.langs.java.syntax.TypeName value;
     
+    private int hashCode_;
+    
     public Typed (hydra.langs.java.syntax.TypeName value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Typed)) {
         return false;
       }
       Typed o = (Typed) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
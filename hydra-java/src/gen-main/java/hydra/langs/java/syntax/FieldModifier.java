@@ -68,22 +68,35 @@ public abstract class FieldModifier {
   public static final class Annotation extends hydra.langs.java.syntax.FieldModifier {
     public final hydra.langs.java.syntax.Annotation value;
     
+    private int hashCode_;
+    
     public Annotation (hydra.langs.java.syntax.Annotation value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Annotation)) {
         return false;
       }
       Annotation o = (Annotation) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -99,6 +112,9 @@ public abstract class FieldModifier {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Public)) {
         return false;
       }
@@ -124,6 +140,9 @@ public abstract class FieldModifier {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Protected)) {
         return false;
       }
@@ -149,6 +168,9 @@ public abstract class FieldModifier {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Private)) {
         return false;
       }
@@ -174,6 +196,9 @@ public abstract class FieldModifier {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Static)) {
         return false;
       }
@@ -199,6 +224,9 @@ public abstract class FieldModifier {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Final)) {
         return false;
       }
@@ -224,6 +252,9 @@ public abstract class FieldModifier {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Transient)) {
         return false;
       }
@@ -249,6 +280,9 @@ public abstract class FieldModifier {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Volatile)) {
         return false;
       }
@@ -36,6 +36,9 @@ public abstract class FloatingPointType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Float_)) {
         return false;
       }
@@ -61,6 +64,9 @@ public abstract class FloatingPointType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Double_)) {
         return false;
       }
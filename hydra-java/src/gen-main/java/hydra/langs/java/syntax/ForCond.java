@@ -9,6 +9,8 @@ public class ForCond {
   
   public final java.util.Optional<hydra.langs.java.syntax.ForUpdate> update;
   
+  private int hashCode_;
+  
   public ForCond (java.util.Optional<hydra.langs.java.syntax.ForInit> init, java.util.Optional<hydra.langs.java.syntax.Expression> cond, java.util.Optional<hydra.langs.java.syntax.ForUpdate> update) {
     this.init = init;
     this.cond = cond;
@@ -17,16 +19,27 @@ public class ForCond {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ForCond)) {
       return false;
     }
     ForCond o = (ForCond) (other);
-    return init.equals(o.init) && cond.equals(o.cond) && update.equals(o.update);
+    return hashCode() == o.hashCode() && init.equals(o.init) && cond.equals(o.cond) && update.equals(o.update);
   }
   
   @Override
   public int hashCode() {
-    return 2 * init.hashCode() + 3 * cond.hashCode() + 5 * update.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * init.hashCode() + 3 * cond.hashCode() + 5 * update.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ForCond withInit(java.util.Optional<hydra.langs.java.syntax.ForInit> init) {
@@ -32,22 +32,35 @@ public abstract class ForInit {
   public static final class Statements extends hydra.langs.java.syntax.ForInit {
     public final java.util.List<hydra.langs.java.syntax.StatementExpression> value;
     
+    private int hashCode_;
+    
     public Statements (java.util.List<hydra.langs.java.syntax.StatementExpression> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Statements)) {
         return false;
       }
       Statements o = (Statements) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class ForInit {
   public static final class LocalVariable extends hydra.langs.java.syntax.ForInit {
     public final hydra.langs.java.syntax.LocalVariableDeclaration value;
     
+    private int hashCode_;
+    
     public LocalVariable (hydra.langs.java.syntax.LocalVariableDeclaration value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof LocalVariable)) {
         return false;
       }
       LocalVariable o = (LocalVariable) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
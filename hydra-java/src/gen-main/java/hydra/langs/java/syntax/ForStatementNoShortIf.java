@@ -32,22 +32,35 @@ public abstract class ForStatementNoShortIf {
   public static final class Basic extends hydra.langs.java.syntax.ForStatementNoShortIf {
     public final hydra.langs.java.syntax.BasicForStatementNoShortIf value;
     
+    private int hashCode_;
+    
     public Basic (hydra.langs.java.syntax.BasicForStatementNoShortIf value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Basic)) {
         return false;
       }
       Basic o = (Basic) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class ForStatementNoShortIf {
   public static final class Enhanced extends hydra.langs.java.syntax.ForStatementNoShortIf {
     public final hydra.langs.java.syntax.EnhancedForStatementNoShortIf value;
     
+    private int hashCode_;
+    
     public Enhanced (hydra.langs.java.syntax.EnhancedForStatementNoShortIf value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Enhanced)) {
         return false;
       }
       Enhanced o = (Enhanced) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
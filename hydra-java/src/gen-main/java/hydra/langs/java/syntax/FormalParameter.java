@@ -32,22 +32,35 @@ public abstract class FormalParameter {
   public static final class Simple extends hydra.langs.java.syntax.FormalParameter {
     public final hydra.langs.java.syntax.FormalParameter_Simple value;
     
+    private int hashCode_;
+    
     public Simple (hydra.langs.java.syntax.FormalParameter_Simple value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Simple)) {
         return false;
       }
       Simple o = (Simple) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class FormalParameter {
   public static final class VariableArity extends hydra.langs.java.syntax.FormalParameter {
     public final hydra.langs.java.syntax.VariableArityParameter value;
     
+    private int hashCode_;
+    
     public VariableArity (hydra.langs.java.syntax.VariableArityParameter value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof VariableArity)) {
         return false;
       }
       VariableArity o = (VariableArity) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -9,6 +9,8 @@ public class IfThenElseStatementNoShortIf {
   
   public final hydra.langs.java.syntax.StatementNoShortIf else_;
   
+  private int hashCode_;
+  
   public IfThenElseStatementNoShortIf (java.util.Optional<hydra.langs.java.syntax.Expression> cond, hydra.langs.java.syntax.StatementNoShortIf then, hydra.langs.java.syntax.StatementNoShortIf else_) {
     this.cond = cond;
     this.then = then;
@@ -17,16 +19,27 @@ public class IfThenElseStatementNoShortIf {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof IfThenElseStatementNoShortIf)) {
       return false;
     }
     IfThenElseStatementNoShortIf o = (IfThenElseStatementNoShortIf) (other);
-    return cond.equals(o.cond) && then.equals(o.then) && else_.equals(o.else_);
+    return hashCode() == o.hashCode() && cond.equals(o.cond) && then.equals(o.then) && else_.equals(o.else_);
   }
   
   @Override
   public int hashCode() {
-    return 2 * cond.hashCode() + 3 * then.hashCode() + 5 * else_.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * cond.hashCode() + 3 * then.hashCode() + 5 * else_.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public IfThenElseStatementNoShortIf withCond(java.util.Optional<hydra.langs.java.syntax.Expression> cond) {
@@ -7,6 +7,8 @@ public class IfThenStatement {
   
   public final hydra.langs.java.syntax.Statement statement;
   
+  private int hashCode_;
+  
   public IfThenStatement (hydra.langs.java.syntax.Expression expression, hydra.langs.java.syntax.Statement statement) {
     this.expression = expression;
     this.statement = statement;
@@ -14,16 +16,27 @@ public class IfThenStatement {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof IfThenStatement)) {
       return false;
     }
     IfThenStatement o = (IfThenStatement) (other);
-    return expression.equals(o.expression) && statement.equals(o.statement);
+    return hashCode() == o.hashCode() && expression.equals(o.expression) && statement.equals(o.statement);
   }
   
   @Override
   public int hashCode() {
-    return 2 * expression.hashCode() + 3 * statement.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * expression.hashCode() + 3 * statement.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public IfThenStatement withExpression(hydra.langs.java.syntax.Expression expression) {
@@ -44,22 +44,35 @@ public abstract class ImportDeclaration {
   public static final class SingleType extends hydra.langs.java.syntax.ImportDeclaration {
     public final hydra.langs.java.syntax.SingleTypeImportDeclaration value;
     
+    private int hashCode_;
+    
     public SingleType (hydra.langs.java.syntax.SingleTypeImportDeclaration value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof SingleType)) {
         return false;
       }
       SingleType o = (SingleType) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -71,22 +84,35 @@ public abstract class ImportDeclaration {
   public static final class TypeImportOnDemand extends hydra.langs.java.syntax.ImportDeclaration {
     public final hydra.langs.java.syntax.TypeImportOnDemandDeclaration value;
     
+    private int hashCode_;
+    
     public TypeImportOnDemand (hydra.langs.java.syntax.TypeImportOnDemandDeclaration value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof TypeImportOnDemand)) {
         return false;
       }
       TypeImportOnDemand o = (TypeImportOnDemand) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -98,22 +124,35 @@ public abstract class ImportDeclaration {
   public static final class SingleStaticImport extends hydra.langs.java.syntax.ImportDeclaration {
     public final hydra.langs.java.syntax.SingleStaticImportDeclaration value;
     
+    private int hashCode_;
+    
     public SingleStaticImport (hydra.langs.java.syntax.SingleStaticImportDeclaration value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof SingleStaticImport)) {
         return false;
       }
       SingleStaticImport o = (SingleStaticImport) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -125,22 +164,35 @@ public abstract class ImportDeclaration {
   public static final class StaticImportOnDemand extends hydra.langs.java.syntax.ImportDeclaration {
     public final hydra.langs.java.syntax.StaticImportOnDemandDeclaration value;
     
+    private int hashCode_;
+    
     public StaticImportOnDemand (hydra.langs.java.syntax.StaticImportOnDemandDeclaration value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof StaticImportOnDemand)) {
         return false;
       }
       StaticImportOnDemand o = (StaticImportOnDemand) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
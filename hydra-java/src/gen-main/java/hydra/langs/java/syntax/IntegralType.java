@@ -54,6 +54,9 @@ public abstract class IntegralType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Byte_)) {
         return false;
       }
@@ -79,6 +82,9 @@ public abstract class IntegralType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Short_)) {
         return false;
       }
@@ -104,6 +110,9 @@ public abstract class IntegralType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Int)) {
         return false;
       }
@@ -129,6 +138,9 @@ public abstract class IntegralType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Long_)) {
         return false;
       }
@@ -154,6 +166,9 @@ public abstract class IntegralType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Char)) {
         return false;
       }
@@ -32,22 +32,35 @@ public abstract class InterfaceDeclaration {
   public static final class NormalInterface extends hydra.langs.java.syntax.InterfaceDeclaration {
     public final hydra.langs.java.syntax.NormalInterfaceDeclaration value;
     
+    private int hashCode_;
+    
     public NormalInterface (hydra.langs.java.syntax.NormalInterfaceDeclaration value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof NormalInterface)) {
         return false;
       }
       NormalInterface o = (NormalInterface) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class InterfaceDeclaration {
   public static final class AnnotationType extends hydra.langs.java.syntax.InterfaceDeclaration {
     public final hydra.langs.java.syntax.AnnotationTypeDeclaration value;
     
+    private int hashCode_;
+    
     public AnnotationType (hydra.langs.java.syntax.AnnotationTypeDeclaration value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof AnnotationType)) {
         return false;
       }
       AnnotationType o = (AnnotationType) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -44,22 +44,35 @@ public abstract class InterfaceMemberDeclaration {
   public static final class Constant extends hydra.langs.java.syntax.InterfaceMemberDeclaration {
     public final hydra.langs.java.syntax.ConstantDeclaration value;
     
+    private int hashCode_;
+    
     public Constant (hydra.langs.java.syntax.ConstantDeclaration value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Constant)) {
         return false;
       }
       Constant o = (Constant) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -71,22 +84,35 @@ public abstract class InterfaceMemberDeclaration {
   public static final class InterfaceMethod extends hydra.langs.java.syntax.InterfaceMemberDeclaration {
     public final hydra.langs.java.syntax.InterfaceMethodDeclaration value;
     
+    private int hashCode_;
+    
     public InterfaceMethod (hydra.langs.java.syntax.InterfaceMethodDeclaration value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof InterfaceMethod)) {
         return false;
       }
       InterfaceMethod o = (InterfaceMethod) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -98,22 +124,35 @@ public abstract class InterfaceMemberDeclaration {
   public static final class Class_ extends hydra.langs.java.syntax.InterfaceMemberDeclaration {
     public final hydra.langs.java.syntax.ClassDeclaration value;
     
+    private int hashCode_;
+    
     public Class_ (hydra.langs.java.syntax.ClassDeclaration value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Class_)) {
         return false;
       }
       Class_ o = (Class_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -125,22 +164,35 @@ public abstract class InterfaceMemberDeclaration {
   public static final class Interface extends hydra.langs.java.syntax.InterfaceMemberDeclaration {
     public final hydra.langs.java.syntax.InterfaceDeclaration value;
     
+    private int hashCode_;
+    
     public Interface (hydra.langs.java.syntax.InterfaceDeclaration value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Interface)) {
         return false;
       }
       Interface o = (Interface) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -9,6 +9,8 @@ public class InterfaceMethodDeclaration {
   
   public final hydra.langs.java.syntax.MethodBody body;
   
+  private int hashCode_;
+  
   public InterfaceMethodDeclaration (java.util.List<hydra.langs.java.syntax.InterfaceMethodModifier> modifiers, hydra.langs.java.syntax.MethodHeader header, hydra.langs.java.syntax.MethodBody body) {
     this.modifiers = modifiers;
     this.header = header;
@@ -17,16 +19,27 @@ public class InterfaceMethodDeclaration {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof InterfaceMethodDeclaration)) {
       return false;
     }
     InterfaceMethodDeclaration o = (InterfaceMethodDeclaration) (other);
-    return modifiers.equals(o.modifiers) && header.equals(o.header) && body.equals(o.body);
+    return hashCode() == o.hashCode() && modifiers.equals(o.modifiers) && header.equals(o.header) && body.equals(o.body);
   }
   
   @Override
   public int hashCode() {
-    return 2 * modifiers.hashCode() + 3 * header.hashCode() + 5 * body.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * modifiers.hashCode() + 3 * header.hashCode() + 5 * body.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public InterfaceMethodDeclaration withModifiers(java.util.List<hydra.langs.java.syntax.InterfaceMethodModifier> modifiers) {
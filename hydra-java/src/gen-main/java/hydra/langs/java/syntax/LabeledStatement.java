@@ -7,6 +7,8 @@ public class LabeledStatement {
   
   public final hydra.langs.java.syntax.Statement statement;
   
+  private int hashCode_;
+  
   public LabeledStatement (hydra.langs.java.syntax.Identifier identifier, hydra.langs.java.syntax.Statement statement) {
     this.identifier = identifier;
     this.statement = statement;
@@ -14,16 +16,27 @@ public class LabeledStatement {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof LabeledStatement)) {
       return false;
     }
     LabeledStatement o = (LabeledStatement) (other);
-    return identifier.equals(o.identifier) && statement.equals(o.statement);
+    return hashCode() == o.hashCode() && identifier.equals(o.identifier) && statement.equals(o.statement);
   }
   
   @Override
   public int hashCode() {
-    return 2 * identifier.hashCode() + 3 * statement.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * identifier.hashCode() + 3 * statement.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public LabeledStatement withIdentifier(hydra.langs.java.syntax.Identifier identifier) {
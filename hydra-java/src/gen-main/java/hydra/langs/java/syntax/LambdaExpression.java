@@ -7,6 +7,8 @@ public class LambdaExpression {
   
   public final hydra.langs.java.syntax.LambdaBody body;
   
+  private int hashCode_;
+  
   public LambdaExpression (hydra.langs.java.syntax.LambdaParameters parameters, hydra.langs.java.syntax.LambdaBody body) {
     this.parameters = parameters;
     this.body = body;
@@ -14,16 +16,27 @@ public class LambdaExpression {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof LambdaExpression)) {
       return false;
     }
     LambdaExpression o = (LambdaExpression) (other);
-    return parameters.equals(o.parameters) && body.equals(o.body);
+    return hashCode() == o.hashCode() && parameters.equals(o.parameters) && body.equals(o.body);
   }
   
   @Override
   public int hashCode() {
-    return 2 * parameters.hashCode() + 3 * body.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * parameters.hashCode() + 3 * body.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public LambdaExpression withParameters(hydra.langs.java.syntax.LambdaParameters parameters) {
@@ -32,22 +32,35 @@ public abstract class LambdaParameter {
   public static final class Normal extends hydra.langs.java.syntax.LambdaParameter {
     public final hydra.langs.java.syntax.LambdaParameter_Normal value;
     
+    private int hashCode_;
+    
     public Normal (hydra.langs.java.syntax.LambdaParameter_Normal value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Normal)) {
         return false;
       }
       Normal o = (Normal) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class LambdaParameter {
   public static final class VariableArity extends hydra.langs.java.syntax.LambdaParameter {
     public final hydra.langs.java.syntax.VariableArityParameter value;
     
+    private int hashCode_;
+    
     public VariableArity (hydra.langs.java.syntax.VariableArityParameter value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof VariableArity)) {
         return false;
       }
       VariableArity o = (VariableArity) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -32,22 +32,35 @@ public abstract class LambdaParameterType {
   public static final class Type extends hydra.langs.java.syntax.LambdaParameterType {
     public final hydra.langs.java.syntax.UnannType value;
     
+    private int hashCode_;
+    
     public Type (hydra.langs.java.syntax.UnannType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Type)) {
         return false;
       }
       Type o = (Type) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -63,6 +76,9 @@ public abstract class LambdaParameterType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Var)) {
         return false;
       }
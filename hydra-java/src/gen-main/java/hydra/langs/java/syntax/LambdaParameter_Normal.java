@@ -9,6 +9,8 @@ public class LambdaParameter_Normal {
   
   public final hydra.langs.java.syntax.VariableDeclaratorId id;
   
+  private int hashCode_;
+  
   public LambdaParameter_Normal (java.util.List<hydra.langs.java.syntax.VariableModifier> modifiers, hydra.langs.java.syntax.LambdaParameterType type, hydra.langs.java.syntax.VariableDeclaratorId id) {
     this.modifiers = modifiers;
     this.type = type;
@@ -17,16 +19,27 @@ public class LambdaParameter_Normal {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof LambdaParameter_Normal)) {
       return false;
     }
     LambdaParameter_Normal o = (LambdaParameter_Normal) (other);
-    return modifiers.equals(o.modifiers) && type.equals(o.type) && id.equals(o.id);
+    return hashCode() == o.hashCode() && modifiers.equals(o.modifiers) && type.equals(o.type) && id.equals(o.id);
   }
   
   @Override
   public int hashCode() {
-    return 2 * modifiers.hashCode() + 3 * type.hashCode() + 5 * id.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * modifiers.hashCode() + 3 * type.hashCode() + 5 * id.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public LambdaParameter_Normal withModifiers(java.util.List<hydra.langs.java.syntax.VariableModifier> modifiers) {
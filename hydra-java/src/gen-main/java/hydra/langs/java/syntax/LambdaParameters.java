@@ -32,22 +32,35 @@ public abstract class LambdaParameters {
   public static final class Tuple extends hydra.langs.java.syntax.LambdaParameters {
     public final java.util.List<hydra.langs.java.syntax.LambdaParameters> value;
     
+    private int hashCode_;
+    
     public Tuple (java.util.List<hydra.langs.java.syntax.LambdaParameters> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Tuple)) {
         return false;
       }
       Tuple o = (Tuple) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class LambdaParameters {
   public static final class Single extends hydra.langs.java.syntax.LambdaParameters {
     public final hydra.langs.java.syntax.Identifier value;
     
+    private int hashCode_;
+    
     public Single (hydra.langs.java.syntax.Identifier value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Single)) {
         return false;
       }
       Single o = (Single) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
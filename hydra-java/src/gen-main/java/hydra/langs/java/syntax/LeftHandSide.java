@@ -38,22 +38,35 @@ public abstract class LeftHandSide {
   public static final class ExpressionName extends hydra.langs.java.syntax.LeftHandSide {
     public final hydra.langs.java.syntax.ExpressionName value;
     
+    private int hashCode_;
+    
     public ExpressionName (hydra.langs.java.syntax.ExpressionName value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ExpressionName)) {
         return false;
       }
       ExpressionName o = (ExpressionName) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class LeftHandSide {
   public static final class FieldAccess extends hydra.langs.java.syntax.LeftHandSide {
     public final hydra.langs.java.syntax.FieldAccess value;
     
+    private int hashCode_;
+    
     public FieldAccess (hydra.langs.java.syntax.FieldAccess value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof FieldAccess)) {
         return false;
       }
       FieldAccess o = (FieldAccess) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +118,35 @@ public abstract class LeftHandSide {
   public static final class ArrayAccess extends hydra.langs.java.syntax.LeftHandSide {
     public final hydra.langs.java.syntax.ArrayAccess value;
     
+    private int hashCode_;
+    
     public ArrayAccess (hydra.langs.java.syntax.ArrayAccess value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ArrayAccess)) {
         return false;
       }
       ArrayAccess o = (ArrayAccess) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -60,6 +60,9 @@ public abstract class Literal {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Null)) {
         return false;
       }
@@ -81,22 +84,35 @@ public abstract class Literal {
   public static final class Integer_ extends hydra.langs.java.syntax.Literal {
     public final hydra.langs.java.syntax.IntegerLiteral value;
     
+    private int hashCode_;
+    
     public Integer_ (hydra.langs.java.syntax.IntegerLiteral value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Integer_)) {
         return false;
       }
       Integer_ o = (Integer_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -108,22 +124,35 @@ public abstract class Literal {
   public static final class FloatingPoint extends hydra.langs.java.syntax.Literal {
     public final hydra.langs.java.syntax.FloatingPointLiteral value;
     
+    private int hashCode_;
+    
     public FloatingPoint (hydra.langs.java.syntax.FloatingPointLiteral value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof FloatingPoint)) {
         return false;
       }
       FloatingPoint o = (FloatingPoint) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -135,22 +164,35 @@ public abstract class Literal {
   public static final class Boolean_ extends hydra.langs.java.syntax.Literal {
     public final Boolean value;
     
+    private int hashCode_;
+    
     public Boolean_ (Boolean value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Boolean_)) {
         return false;
       }
       Boolean_ o = (Boolean_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -162,22 +204,35 @@ public abstract class Literal {
   public static final class Character_ extends hydra.langs.java.syntax.Literal {
     public final Character value;
     
+    private int hashCode_;
+    
     public Character_ (Character value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Character_)) {
         return false;
       }
       Character_ o = (Character_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -189,22 +244,35 @@ public abstract class Literal {
   public static final class String_ extends hydra.langs.java.syntax.Literal {
     public final hydra.langs.java.syntax.StringLiteral value;
     
+    private int hashCode_;
+    
     public String_ (hydra.langs.java.syntax.StringLiteral value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof String_)) {
         return false;
       }
       String_ o = (String_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -9,6 +9,8 @@ public class LocalVariableDeclaration {
   
   public final java.util.List<hydra.langs.java.syntax.VariableDeclarator> declarators;
   
+  private int hashCode_;
+  
   public LocalVariableDeclaration (java.util.List<hydra.langs.java.syntax.VariableModifier> modifiers, hydra.langs.java.syntax.LocalVariableType type, java.util.List<hydra.langs.java.syntax.VariableDeclarator> declarators) {
     this.modifiers = modifiers;
     this.type = type;
@@ -17,16 +19,27 @@ public class LocalVariableDeclaration {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof LocalVariableDeclaration)) {
       return false;
     }
     LocalVariableDeclaration o = (LocalVariableDeclaration) (other);
-    return modifiers.equals(o.modifiers) && type.equals(o.type) && declarators.equals(o.declarators);
+    return hashCode() == o.hashCode() && modifiers.equals(o.modifiers) && type.equals(o.type) && declarators.equals(o.declarators);
   }
   
   @Override
   public int hashCode() {
-    return 2 * modifiers.hashCode() + 3 * type.hashCode() + 5 * declarators.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * modifiers.hashCode() + 3 * type.hashCode() + 5 * declarators.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public LocalVariableDeclaration withModifiers(java.util.List<hydra.langs.java.syntax.VariableModifier> modifiers) {
@@ -32,22 +32,35 @@ public abstract class MethodBody {
   public static final class Block extends hydra.langs.java.syntax.MethodBody {
     public final hydra.langs.java.syntax.Block value;
     
+    private int hashCode_;
+    
     public Block (hydra.langs.java.syntax.Block value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Block)) {
         return false;
       }
       Block o = (Block) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -63,6 +76,9 @@ public abstract class MethodBody {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof None)) {
         return false;
       }
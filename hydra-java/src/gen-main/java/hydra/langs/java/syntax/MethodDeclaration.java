@@ -14,6 +14,8 @@ public class MethodDeclaration {
   
   public final hydra.langs.java.syntax.MethodBody body;
   
+  private int hashCode_;
+  
   public MethodDeclaration (java.util.List<hydra.langs.java.syntax.Annotation> annotations, java.util.List<hydra.langs.java.syntax.MethodModifier> modifiers, hydra.langs.java.syntax.MethodHeader header, hydra.langs.java.syntax.MethodBody body) {
     this.annotations = annotations;
     this.modifiers = modifiers;
@@ -23,16 +25,27 @@ public class MethodDeclaration {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof MethodDeclaration)) {
       return false;
     }
     MethodDeclaration o = (MethodDeclaration) (other);
-    return annotations.equals(o.annotations) && modifiers.equals(o.modifiers) && header.equals(o.header) && body.equals(o.body);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && modifiers.equals(o.modifiers) && header.equals(o.header) && body.equals(o.body);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * modifiers.hashCode() + 5 * header.hashCode() + 7 * body.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * modifiers.hashCode() + 5 * header.hashCode() + 7 * body.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public MethodDeclaration withAnnotations(java.util.List<hydra.langs.java.syntax.Annotation> annotations) {
@@ -9,6 +9,8 @@ public class MethodDeclarator {
   
   public final java.util.List<hydra.langs.java.syntax.FormalParameter> formalParameters;
   
+  private int hashCode_;
+  
   public MethodDeclarator (hydra.langs.java.syntax.Identifier identifier, java.util.Optional<hydra.langs.java.syntax.ReceiverParameter> receiverParameter, java.util.List<hydra.langs.java.syntax.FormalParameter> formalParameters) {
     this.identifier = identifier;
     this.receiverParameter = receiverParameter;
@@ -17,16 +19,27 @@ public class MethodDeclarator {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof MethodDeclarator)) {
       return false;
     }
     MethodDeclarator o = (MethodDeclarator) (other);
-    return identifier.equals(o.identifier) && receiverParameter.equals(o.receiverParameter) && formalParameters.equals(o.formalParameters);
+    return hashCode() == o.hashCode() && identifier.equals(o.identifier) && receiverParameter.equals(o.receiverParameter) && formalParameters.equals(o.formalParameters);
   }
   
   @Override
   public int hashCode() {
-    return 2 * identifier.hashCode() + 3 * receiverParameter.hashCode() + 5 * formalParameters.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * identifier.hashCode() + 3 * receiverParameter.hashCode() + 5 * formalParameters.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public MethodDeclarator withIdentifier(hydra.langs.java.syntax.Identifier identifier) {
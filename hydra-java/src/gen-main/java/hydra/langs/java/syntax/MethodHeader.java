@@ -11,6 +11,8 @@ public class MethodHeader {
   
   public final java.util.Optional<hydra.langs.java.syntax.Throws> throws_;
   
+  private int hashCode_;
+  
   public MethodHeader (java.util.List<hydra.langs.java.syntax.TypeParameter> parameters, hydra.langs.java.syntax.Result result, hydra.langs.java.syntax.MethodDeclarator declarator, java.util.Optional<hydra.langs.java.syntax.Throws> throws_) {
     this.parameters = parameters;
     this.result = result;
@@ -20,16 +22,27 @@ public class MethodHeader {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof MethodHeader)) {
       return false;
     }
     MethodHeader o = (MethodHeader) (other);
-    return parameters.equals(o.parameters) && result.equals(o.result) && declarator.equals(o.declarator) && throws_.equals(o.throws_);
+    return hashCode() == o.hashCode() && parameters.equals(o.parameters) && result.equals(o.result) && declarator.equals(o.declarator) && throws_.equals(o.throws_);
   }
   
   @Override
   public int hashCode() {
-    return 2 * parameters.hashCode() + 3 * result.hashCode() + 5 * declarator.hashCode() + 7 * throws_.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * parameters.hashCode() + 3 * result.hashCode() + 5 * declarator.hashCode() + 7 * throws_.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public MethodHeader withParameters(java.util.List<hydra.langs.java.syntax.TypeParameter> parameters) {
@@ -7,6 +7,8 @@ public class MethodInvocation {
   
   public final java.util.List<hydra.langs.java.syntax.Expression> arguments;
   
+  private int hashCode_;
+  
   public MethodInvocation (hydra.langs.java.syntax.MethodInvocation_Header header, java.util.List<hydra.langs.java.syntax.Expression> arguments) {
     this.header = header;
     this.arguments = arguments;
@@ -14,16 +16,27 @@ public class MethodInvocation {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof MethodInvocation)) {
       return false;
     }
     MethodInvocation o = (MethodInvocation) (other);
-    return header.equals(o.header) && arguments.equals(o.arguments);
+    return hashCode() == o.hashCode() && header.equals(o.header) && arguments.equals(o.arguments);
   }
   
   @Override
   public int hashCode() {
-    return 2 * header.hashCode() + 3 * arguments.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * header.hashCode() + 3 * arguments.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public MethodInvocation withHeader(hydra.langs.java.syntax.MethodInvocation_Header header) {
@@ -9,6 +9,8 @@ public class MethodInvocation_Complex {
   
   public final hydra.langs.java.syntax.Identifier identifier;
   
+  private int hashCode_;
+  
   public MethodInvocation_Complex (hydra.langs.java.syntax.MethodInvocation_Variant variant, java.util.List<hydra.langs.java.syntax.TypeArgument> typeArguments, hydra.langs.java.syntax.Identifier identifier) {
     this.variant = variant;
     this.typeArguments = typeArguments;
@@ -17,16 +19,27 @@ public class MethodInvocation_Complex {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof MethodInvocation_Complex)) {
       return false;
     }
     MethodInvocation_Complex o = (MethodInvocation_Complex) (other);
-    return variant.equals(o.variant) && typeArguments.equals(o.typeArguments) && identifier.equals(o.identifier);
+    return hashCode() == o.hashCode() && variant.equals(o.variant) && typeArguments.equals(o.typeArguments) && identifier.equals(o.identifier);
   }
   
   @Override
   public int hashCode() {
-    return 2 * variant.hashCode() + 3 * typeArguments.hashCode() + 5 * identifier.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * variant.hashCode() + 3 * typeArguments.hashCode() + 5 * identifier.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public MethodInvocation_Complex withVariant(hydra.langs.java.syntax.MethodInvocation_Variant variant) {
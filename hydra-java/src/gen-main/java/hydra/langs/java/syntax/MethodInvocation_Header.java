@@ -32,22 +32,35 @@ public abstract class MethodInvocation_Header {
   public static final class Simple extends hydra.langs.java.syntax.MethodInvocation_Header {
     public final hydra.langs.java.syntax.MethodName value;
     
+    private int hashCode_;
+    
     public Simple (hydra.langs.java.syntax.MethodName value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Simple)) {
         return false;
       }
       Simple o = (Simple) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class MethodInvocation_Header {
   public static final class Complex extends hydra.langs.java.syntax.MethodInvocation_Header {
     public final hydra.langs.java.syntax.MethodInvocation_Complex value;
     
+    private int hashCode_;
+    
     public Complex (hydra.langs.java.syntax.MethodInvocation_Complex value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Complex)) {
         return false;
       }
       Complex o = (Complex) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
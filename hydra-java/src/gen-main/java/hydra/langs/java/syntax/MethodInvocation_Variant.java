@@ -50,22 +50,35 @@ public abstract class MethodInvocation_Variant {
   public static final class Type extends hydra.langs.java.syntax.MethodInvocation_Variant {
     public final hydra.langs.java.syntax.TypeName value;
     
+    private int hashCode_;
+    
     public Type (hydra.langs.java.syntax.TypeName value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Type)) {
         return false;
       }
       Type o = (Type) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -77,22 +90,35 @@ public abstract class MethodInvocation_Variant {
   public static final class Expression extends hydra.langs.java.syntax.MethodInvocation_Variant {
     public final hydra.langs.java.syntax.ExpressionName value;
     
+    private int hashCode_;
+    
     public Expression (hydra.langs.java.syntax.ExpressionName value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Expression)) {
         return false;
       }
       Expression o = (Expression) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -104,22 +130,35 @@ public abstract class MethodInvocation_Variant {
   public static final class Primary extends hydra.langs.java.syntax.MethodInvocation_Variant {
     public final hydra.langs.java.syntax.Primary value;
     
+    private int hashCode_;
+    
     public Primary (hydra.langs.java.syntax.Primary value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Primary)) {
         return false;
       }
       Primary o = (Primary) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -135,6 +174,9 @@ public abstract class MethodInvocation_Variant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Super)) {
         return false;
       }
@@ -156,22 +198,35 @@ public abstract class MethodInvocation_Variant {
   public static final class TypeSuper extends hydra.langs.java.syntax.MethodInvocation_Variant {
     public final hydra.langs.java.syntax.TypeName value;
     
+    private int hashCode_;
+    
     public TypeSuper (hydra.langs.java.syntax.TypeName value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof TypeSuper)) {
         return false;
       }
       TypeSuper o = (TypeSuper) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -56,22 +56,35 @@ public abstract class MethodReference {
   public static final class Expression extends hydra.langs.java.syntax.MethodReference {
     public final hydra.langs.java.syntax.MethodReference_Expression value;
     
+    private int hashCode_;
+    
     public Expression (hydra.langs.java.syntax.MethodReference_Expression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Expression)) {
         return false;
       }
       Expression o = (Expression) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -83,22 +96,35 @@ public abstract class MethodReference {
   public static final class Primary extends hydra.langs.java.syntax.MethodReference {
     public final hydra.langs.java.syntax.MethodReference_Primary value;
     
+    private int hashCode_;
+    
     public Primary (hydra.langs.java.syntax.MethodReference_Primary value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Primary)) {
         return false;
       }
       Primary o = (Primary) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -110,22 +136,35 @@ public abstract class MethodReference {
   public static final class ReferenceType extends hydra.langs.java.syntax.MethodReference {
     public final hydra.langs.java.syntax.MethodReference_ReferenceType value;
     
+    private int hashCode_;
+    
     public ReferenceType (hydra.langs.java.syntax.MethodReference_ReferenceType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ReferenceType)) {
         return false;
       }
       ReferenceType o = (ReferenceType) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -137,22 +176,35 @@ public abstract class MethodReference {
   public static final class Super extends hydra.langs.java.syntax.MethodReference {
     public final hydra.langs.java.syntax.MethodReference_Super value;
     
+    private int hashCode_;
+    
     public Super (hydra.langs.java.syntax.MethodReference_Super value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Super)) {
         return false;
       }
       Super o = (Super) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -164,22 +216,35 @@ public abstract class MethodReference {
   public static final class New extends hydra.langs.java.syntax.MethodReference {
     public final hydra.langs.java.syntax.MethodReference_New value;
     
+    private int hashCode_;
+    
     public New (hydra.langs.java.syntax.MethodReference_New value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof New)) {
         return false;
       }
       New o = (New) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -191,22 +256,35 @@ public abstract class MethodReference {
   public static final class Array extends hydra.langs.java.syntax.MethodReference {
     public final hydra.langs.java.syntax.MethodReference_Array value;
     
+    private int hashCode_;
+    
     public Array (hydra.langs.java.syntax.MethodReference_Array value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Array)) {
         return false;
       }
       Array o = (Array) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
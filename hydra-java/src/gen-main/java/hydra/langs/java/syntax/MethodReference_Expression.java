@@ -9,6 +9,8 @@ public class MethodReference_Expression {
   
   public final hydra.langs.java.syntax.Identifier identifier;
   
+  private int hashCode_;
+  
   public MethodReference_Expression (hydra.langs.java.syntax.ExpressionName name, java.util.List<hydra.langs.java.syntax.TypeArgument> typeArguments, hydra.langs.java.syntax.Identifier identifier) {
     this.name = name;
     this.typeArguments = typeArguments;
@@ -17,16 +19,27 @@ public class MethodReference_Expression {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof MethodReference_Expression)) {
       return false;
     }
     MethodReference_Expression o = (MethodReference_Expression) (other);
-    return name.equals(o.name) && typeArguments.equals(o.typeArguments) && identifier.equals(o.identifier);
+    return hashCode() == o.hashCode() && name.equals(o.name) && typeArguments.equals(o.typeArguments) && identifier.equals(o.identifier);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * typeArguments.hashCode() + 5 * identifier.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * typeArguments.hashCode() + 5 * identifier.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public MethodReference_Expression withName(hydra.langs.java.syntax.ExpressionName name) {
@@ -7,6 +7,8 @@ public class MethodReference_New {
   
   public final java.util.List<hydra.langs.java.syntax.TypeArgument> typeArguments;
   
+  private int hashCode_;
+  
   public MethodReference_New (hydra.langs.java.syntax.ClassType classType, java.util.List<hydra.langs.java.syntax.TypeArgument> typeArguments) {
     this.classType = classType;
     this.typeArguments = typeArguments;
@@ -14,16 +16,27 @@ public class MethodReference_New {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof MethodReference_New)) {
       return false;
     }
     MethodReference_New o = (MethodReference_New) (other);
-    return classType.equals(o.classType) && typeArguments.equals(o.typeArguments);
+    return hashCode() == o.hashCode() && classType.equals(o.classType) && typeArguments.equals(o.typeArguments);
   }
   
   @Override
   public int hashCode() {
-    return 2 * classType.hashCode() + 3 * typeArguments.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * classType.hashCode() + 3 * typeArguments.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public MethodReference_New withClassType(hydra.langs.java.syntax.ClassType classType) {
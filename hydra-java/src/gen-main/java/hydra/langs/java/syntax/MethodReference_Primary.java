@@ -9,6 +9,8 @@ public class MethodReference_Primary {
   
   public final hydra.langs.java.syntax.Identifier identifier;
   
+  private int hashCode_;
+  
   public MethodReference_Primary (hydra.langs.java.syntax.Primary primary, java.util.List<hydra.langs.java.syntax.TypeArgument> typeArguments, hydra.langs.java.syntax.Identifier identifier) {
     this.primary = primary;
     this.typeArguments = typeArguments;
@@ -17,16 +19,27 @@ public class MethodReference_Primary {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof MethodReference_Primary)) {
       return false;
     }
     MethodReference_Primary o = (MethodReference_Primary) (other);
-    return primary.equals(o.primary) && typeArguments.equals(o.typeArguments) && identifier.equals(o.identifier);
+    return hashCode() == o.hashCode() && primary.equals(o.primary) && typeArguments.equals(o.typeArguments) && identifier.equals(o.identifier);
   }
   
   @Override
   public int hashCode() {
-    return 2 * primary.hashCode() + 3 * typeArguments.hashCode() + 5 * identifier.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * primary.hashCode() + 3 * typeArguments.hashCode() + 5 * identifier.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public MethodReference_Primary withPrimary(hydra.langs.java.syntax.Primary primary) {
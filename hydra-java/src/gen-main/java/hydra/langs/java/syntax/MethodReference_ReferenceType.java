@@ -9,6 +9,8 @@ public class MethodReference_ReferenceType {
   
   public final hydra.langs.java.syntax.Identifier identifier;
   
+  private int hashCode_;
+  
   public MethodReference_ReferenceType (hydra.langs.java.syntax.ReferenceType referenceType, java.util.List<hydra.langs.java.syntax.TypeArgument> typeArguments, hydra.langs.java.syntax.Identifier identifier) {
     this.referenceType = referenceType;
     this.typeArguments = typeArguments;
@@ -17,16 +19,27 @@ public class MethodReference_ReferenceType {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof MethodReference_ReferenceType)) {
       return false;
     }
     MethodReference_ReferenceType o = (MethodReference_ReferenceType) (other);
-    return referenceType.equals(o.referenceType) && typeArguments.equals(o.typeArguments) && identifier.equals(o.identifier);
+    return hashCode() == o.hashCode() && referenceType.equals(o.referenceType) && typeArguments.equals(o.typeArguments) && identifier.equals(o.identifier);
   }
   
   @Override
   public int hashCode() {
-    return 2 * referenceType.hashCode() + 3 * typeArguments.hashCode() + 5 * identifier.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * referenceType.hashCode() + 3 * typeArguments.hashCode() + 5 * identifier.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public MethodReference_ReferenceType withReferenceType(hydra.langs.java.syntax.ReferenceType referenceType) {
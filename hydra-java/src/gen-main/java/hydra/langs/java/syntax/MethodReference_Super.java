@@ -9,6 +9,8 @@ public class MethodReference_Super {
   
   public final Boolean super_;
   
+  private int hashCode_;
+  
   public MethodReference_Super (java.util.List<hydra.langs.java.syntax.TypeArgument> typeArguments, hydra.langs.java.syntax.Identifier identifier, Boolean super_) {
     this.typeArguments = typeArguments;
     this.identifier = identifier;
@@ -17,16 +19,27 @@ public class MethodReference_Super {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof MethodReference_Super)) {
       return false;
     }
     MethodReference_Super o = (MethodReference_Super) (other);
-    return typeArguments.equals(o.typeArguments) && identifier.equals(o.identifier) && super_.equals(o.super_);
+    return hashCode() == o.hashCode() && typeArguments.equals(o.typeArguments) && identifier.equals(o.identifier) && super_.equals(o.super_);
   }
   
   @Override
   public int hashCode() {
-    return 2 * typeArguments.hashCode() + 3 * identifier.hashCode() + 5 * super_.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * typeArguments.hashCode() + 3 * identifier.hashCode() + 5 * super_.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public MethodReference_Super withTypeArguments(java.util.List<hydra.langs.java.syntax.TypeArgument> typeArguments) {
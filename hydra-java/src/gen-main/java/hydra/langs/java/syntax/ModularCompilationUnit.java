@@ -7,6 +7,8 @@ public class ModularCompilationUnit {
   
   public final hydra.langs.java.syntax.ModuleDeclaration module;
   
+  private int hashCode_;
+  
   public ModularCompilationUnit (java.util.List<hydra.langs.java.syntax.ImportDeclaration> imports, hydra.langs.java.syntax.ModuleDeclaration module) {
     this.imports = imports;
     this.module = module;
@@ -14,16 +16,27 @@ public class ModularCompilationUnit {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ModularCompilationUnit)) {
       return false;
     }
     ModularCompilationUnit o = (ModularCompilationUnit) (other);
-    return imports.equals(o.imports) && module.equals(o.module);
+    return hashCode() == o.hashCode() && imports.equals(o.imports) && module.equals(o.module);
   }
   
   @Override
   public int hashCode() {
-    return 2 * imports.hashCode() + 3 * module.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * imports.hashCode() + 3 * module.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ModularCompilationUnit withImports(java.util.List<hydra.langs.java.syntax.ImportDeclaration> imports) {
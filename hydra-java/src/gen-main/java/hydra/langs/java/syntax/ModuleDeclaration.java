@@ -11,6 +11,8 @@ public class ModuleDeclaration {
   
   public final java.util.List<java.util.List<hydra.langs.java.syntax.ModuleDirective>> directives;
   
+  private int hashCode_;
+  
   public ModuleDeclaration (java.util.List<hydra.langs.java.syntax.Annotation> annotations, Boolean open, java.util.List<hydra.langs.java.syntax.Identifier> identifiers, java.util.List<java.util.List<hydra.langs.java.syntax.ModuleDirective>> directives) {
     this.annotations = annotations;
     this.open = open;
@@ -20,16 +22,27 @@ public class ModuleDeclaration {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ModuleDeclaration)) {
       return false;
     }
     ModuleDeclaration o = (ModuleDeclaration) (other);
-    return annotations.equals(o.annotations) && open.equals(o.open) && identifiers.equals(o.identifiers) && directives.equals(o.directives);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && open.equals(o.open) && identifiers.equals(o.identifiers) && directives.equals(o.directives);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * open.hashCode() + 5 * identifiers.hashCode() + 7 * directives.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * open.hashCode() + 5 * identifiers.hashCode() + 7 * directives.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ModuleDeclaration withAnnotations(java.util.List<hydra.langs.java.syntax.Annotation> annotations) {
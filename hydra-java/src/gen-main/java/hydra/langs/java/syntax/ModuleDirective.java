@@ -50,22 +50,35 @@ public abstract class ModuleDirective {
   public static final class Requires extends hydra.langs.java.syntax.ModuleDirective {
     public final hydra.langs.java.syntax.ModuleDirective_Requires value;
     
+    private int hashCode_;
+    
     public Requires (hydra.langs.java.syntax.ModuleDirective_Requires value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Requires)) {
         return false;
       }
       Requires o = (Requires) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -77,22 +90,35 @@ public abstract class ModuleDirective {
   public static final class Exports extends hydra.langs.java.syntax.ModuleDirective {
     public final hydra.langs.java.syntax.ModuleDirective_ExportsOrOpens value;
     
+    private int hashCode_;
+    
     public Exports (hydra.langs.java.syntax.ModuleDirective_ExportsOrOpens value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Exports)) {
         return false;
       }
       Exports o = (Exports) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -104,22 +130,35 @@ public abstract class ModuleDirective {
   public static final class Opens extends hydra.langs.java.syntax.ModuleDirective {
     public final hydra.langs.java.syntax.ModuleDirective_ExportsOrOpens value;
     
+    private int hashCode_;
+    
     public Opens (hydra.langs.java.syntax.ModuleDirective_ExportsOrOpens value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Opens)) {
         return false;
       }
       Opens o = (Opens) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -131,22 +170,35 @@ public abstract class ModuleDirective {
   public static final class Uses extends hydra.langs.java.syntax.ModuleDirective {
     public final hydra.langs.java.syntax.TypeName value;
     
+    private int hashCode_;
+    
     public Uses (hydra.langs.java.syntax.TypeName value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Uses)) {
         return false;
       }
       Uses o = (Uses) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -158,22 +210,35 @@ public abstract class ModuleDirective {
   public static final class Provides extends hydra.langs.java.syntax.ModuleDirective {
     public final hydra.langs.java.syntax.ModuleDirective_Provides value;
     
+    private int hashCode_;
+    
     public Provides (hydra.langs.java.syntax.ModuleDirective_Provides value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Provides)) {
         return false;
       }
       Provides o = (Provides) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
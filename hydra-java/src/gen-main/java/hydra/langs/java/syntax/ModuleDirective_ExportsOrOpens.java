@@ -10,6 +10,8 @@ public class ModuleDirective_ExportsOrOpens {
    */
   public final java.util.List<hydra.langs.java.syntax.ModuleName> modules;
   
+  private int hashCode_;
+  
   public ModuleDirective_ExportsOrOpens (hydra.langs.java.syntax.PackageName package_, java.util.List<hydra.langs.java.syntax.ModuleName> modules) {
     this.package_ = package_;
     this.modules = modules;
@@ -17,16 +19,27 @@ public class ModuleDirective_ExportsOrOpens {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ModuleDirective_ExportsOrOpens)) {
       return false;
     }
     ModuleDirective_ExportsOrOpens o = (ModuleDirective_ExportsOrOpens) (other);
-    return package_.equals(o.package_) && modules.equals(o.modules);
+    return hashCode() == o.hashCode() && package_.equals(o.package_) && modules.equals(o.modules);
   }
   
   @Override
   public int hashCode() {
-    return 2 * package_.hashCode() + 3 * modules.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * package_.hashCode() + 3 * modules.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ModuleDirective_ExportsOrOpens withPackage(hydra.langs.java.syntax.PackageName package_) {
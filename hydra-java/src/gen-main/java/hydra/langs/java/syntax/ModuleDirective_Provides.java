@@ -10,6 +10,8 @@ public class ModuleDirective_Provides {
    */
   public final java.util.List<hydra.langs.java.syntax.TypeName> with;
   
+  private int hashCode_;
+  
   public ModuleDirective_Provides (hydra.langs.java.syntax.TypeName to, java.util.List<hydra.langs.java.syntax.TypeName> with) {
     this.to = to;
     this.with = with;
@@ -17,16 +19,27 @@ public class ModuleDirective_Provides {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ModuleDirective_Provides)) {
       return false;
     }
     ModuleDirective_Provides o = (ModuleDirective_Provides) (other);
-    return to.equals(o.to) && with.equals(o.with);
+    return hashCode() == o.hashCode() && to.equals(o.to) && with.equals(o.with);
   }
   
   @Override
   public int hashCode() {
-    return 2 * to.hashCode() + 3 * with.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * to.hashCode() + 3 * with.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ModuleDirective_Provides withTo(hydra.langs.java.syntax.TypeName to) {
@@ -7,6 +7,8 @@ public class ModuleDirective_Requires {
   
   public final hydra.langs.java.syntax.ModuleName module;
   
+  private int hashCode_;
+  
   public ModuleDirective_Requires (java.util.List<hydra.langs.java.syntax.RequiresModifier> modifiers, hydra.langs.java.syntax.ModuleName module) {
     this.modifiers = modifiers;
     this.module = module;
@@ -14,16 +16,27 @@ public class ModuleDirective_Requires {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ModuleDirective_Requires)) {
       return false;
     }
     ModuleDirective_Requires o = (ModuleDirective_Requires) (other);
-    return modifiers.equals(o.modifiers) && module.equals(o.module);
+    return hashCode() == o.hashCode() && modifiers.equals(o.modifiers) && module.equals(o.module);
   }
   
   @Override
   public int hashCode() {
-    return 2 * modifiers.hashCode() + 3 * module.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * modifiers.hashCode() + 3 * module.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ModuleDirective_Requires withModifiers(java.util.List<hydra.langs.java.syntax.RequiresModifier> modifiers) {
@@ -7,6 +7,8 @@ public class ModuleName {
   
   public final java.util.Optional<hydra.langs.java.syntax.ModuleName> name;
   
+  private int hashCode_;
+  
   public ModuleName (hydra.langs.java.syntax.Identifier identifier, java.util.Optional<hydra.langs.java.syntax.ModuleName> name) {
     this.identifier = identifier;
     this.name = name;
@@ -14,16 +16,27 @@ public class ModuleName {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ModuleName)) {
       return false;
     }
     ModuleName o = (ModuleName) (other);
-    return identifier.equals(o.identifier) && name.equals(o.name);
+    return hashCode() == o.hashCode() && identifier.equals(o.identifier) && name.equals(o.name);
   }
   
   @Override
   public int hashCode() {
-    return 2 * identifier.hashCode() + 3 * name.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * identifier.hashCode() + 3 * name.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ModuleName withIdentifier(hydra.langs.java.syntax.Identifier identifier) {
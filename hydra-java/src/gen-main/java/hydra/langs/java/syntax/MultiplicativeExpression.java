@@ -44,22 +44,35 @@ public abstract class MultiplicativeExpression {
   public static final class Unary extends hydra.langs.java.syntax.MultiplicativeExpression {
     public final hydra.langs.java.syntax.UnaryExpression value;
     
+    private int hashCode_;
+    
     public Unary (hydra.langs.java.syntax.UnaryExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Unary)) {
         return false;
       }
       Unary o = (Unary) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -71,22 +84,35 @@ public abstract class MultiplicativeExpression {
   public static final class Times extends hydra.langs.java.syntax.MultiplicativeExpression {
     public final hydra.langs.java.syntax.MultiplicativeExpression_Binary value;
     
+    private int hashCode_;
+    
     public Times (hydra.langs.java.syntax.MultiplicativeExpression_Binary value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Times)) {
         return false;
       }
       Times o = (Times) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -98,22 +124,35 @@ public abstract class MultiplicativeExpression {
   public static final class Divide extends hydra.langs.java.syntax.MultiplicativeExpression {
     public final hydra.langs.java.syntax.MultiplicativeExpression_Binary value;
     
+    private int hashCode_;
+    
     public Divide (hydra.langs.java.syntax.MultiplicativeExpression_Binary value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Divide)) {
         return false;
       }
       Divide o = (Divide) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -125,22 +164,35 @@ public abstract class MultiplicativeExpression {
   public static final class Mod extends hydra.langs.java.syntax.MultiplicativeExpression {
     public final hydra.langs.java.syntax.MultiplicativeExpression_Binary value;
     
+    private int hashCode_;
+    
     public Mod (hydra.langs.java.syntax.MultiplicativeExpression_Binary value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Mod)) {
         return false;
       }
       Mod o = (Mod) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
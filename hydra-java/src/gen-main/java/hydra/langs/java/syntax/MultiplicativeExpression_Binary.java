@@ -7,6 +7,8 @@ public class MultiplicativeExpression_Binary {
   
   public final hydra.langs.java.syntax.UnaryExpression rhs;
   
+  private int hashCode_;
+  
   public MultiplicativeExpression_Binary (hydra.langs.java.syntax.MultiplicativeExpression lhs, hydra.langs.java.syntax.UnaryExpression rhs) {
     this.lhs = lhs;
     this.rhs = rhs;
@@ -14,16 +16,27 @@ public class MultiplicativeExpression_Binary {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof MultiplicativeExpression_Binary)) {
       return false;
     }
     MultiplicativeExpression_Binary o = (MultiplicativeExpression_Binary) (other);
-    return lhs.equals(o.lhs) && rhs.equals(o.rhs);
+    return hashCode() == o.hashCode() && lhs.equals(o.lhs) && rhs.equals(o.rhs);
   }
   
   @Override
   public int hashCode() {
-    return 2 * lhs.hashCode() + 3 * rhs.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * lhs.hashCode() + 3 * rhs.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public MultiplicativeExpression_Binary withLhs(hydra.langs.java.syntax.MultiplicativeExpression lhs) {
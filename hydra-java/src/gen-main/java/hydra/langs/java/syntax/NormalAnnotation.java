@@ -7,6 +7,8 @@ public class NormalAnnotation {
   
   public final java.util.List<hydra.langs.java.syntax.ElementValuePair> pairs;
   
+  private int hashCode_;
+  
   public NormalAnnotation (hydra.langs.java.syntax.TypeName typeName, java.util.List<hydra.langs.java.syntax.ElementValuePair> pairs) {
     this.typeName = typeName;
     this.pairs = pairs;
@@ -14,16 +16,27 @@ public class NormalAnnotation {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof NormalAnnotation)) {
       return false;
     }
     NormalAnnotation o = (NormalAnnotation) (other);
-    return typeName.equals(o.typeName) && pairs.equals(o.pairs);
+    return hashCode() == o.hashCode() && typeName.equals(o.typeName) && pairs.equals(o.pairs);
   }
   
   @Override
   public int hashCode() {
-    return 2 * typeName.hashCode() + 3 * pairs.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * typeName.hashCode() + 3 * pairs.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public NormalAnnotation withTypeName(hydra.langs.java.syntax.TypeName typeName) {
@@ -32,22 +32,35 @@ public abstract class NumericType {
   public static final class Integral extends hydra.langs.java.syntax.NumericType {
     public final hydra.langs.java.syntax.IntegralType value;
     
+    private int hashCode_;
+    
     public Integral (hydra.langs.java.syntax.IntegralType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Integral)) {
         return false;
       }
       Integral o = (Integral) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class NumericType {
   public static final class FloatingPoint extends hydra.langs.java.syntax.NumericType {
     public final hydra.langs.java.syntax.FloatingPointType value;
     
+    private int hashCode_;
+    
     public FloatingPoint (hydra.langs.java.syntax.FloatingPointType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof FloatingPoint)) {
         return false;
       }
       FloatingPoint o = (FloatingPoint) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
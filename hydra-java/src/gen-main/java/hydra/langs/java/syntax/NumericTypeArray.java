@@ -32,22 +32,35 @@ public abstract class NumericTypeArray {
   public static final class Simple extends hydra.langs.java.syntax.NumericTypeArray {
     public final hydra.langs.java.syntax.NumericType value;
     
+    private int hashCode_;
+    
     public Simple (hydra.langs.java.syntax.NumericType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Simple)) {
         return false;
       }
       Simple o = (Simple) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class NumericTypeArray {
   public static final class Array extends hydra.langs.java.syntax.NumericTypeArray {
     public final hydra.langs.java.syntax.NumericTypeArray value;
     
+    private int hashCode_;
+    
     public Array (hydra.langs.java.syntax.NumericTypeArray value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Array)) {
         return false;
       }
       Array o = (Array) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -9,6 +9,8 @@ public class OrdinaryCompilationUnit {
   
   public final java.util.List<hydra.langs.java.syntax.TypeDeclarationWithComments> types;
   
+  private int hashCode_;
+  
   public OrdinaryCompilationUnit (java.util.Optional<hydra.langs.java.syntax.PackageDeclaration> package_, java.util.List<hydra.langs.java.syntax.ImportDeclaration> imports, java.util.List<hydra.langs.java.syntax.TypeDeclarationWithComments> types) {
     this.package_ = package_;
     this.imports = imports;
@@ -17,16 +19,27 @@ public class OrdinaryCompilationUnit {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof OrdinaryCompilationUnit)) {
       return false;
     }
     OrdinaryCompilationUnit o = (OrdinaryCompilationUnit) (other);
-    return package_.equals(o.package_) && imports.equals(o.imports) && types.equals(o.types);
+    return hashCode() == o.hashCode() && package_.equals(o.package_) && imports.equals(o.imports) && types.equals(o.types);
   }
   
   @Override
   public int hashCode() {
-    return 2 * package_.hashCode() + 3 * imports.hashCode() + 5 * types.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * package_.hashCode() + 3 * imports.hashCode() + 5 * types.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public OrdinaryCompilationUnit withPackage(java.util.Optional<hydra.langs.java.syntax.PackageDeclaration> package_) {
@@ -7,6 +7,8 @@ public class PackageDeclaration {
   
   public final java.util.List<hydra.langs.java.syntax.Identifier> identifiers;
   
+  private int hashCode_;
+  
   public PackageDeclaration (java.util.List<hydra.langs.java.syntax.PackageModifier> modifiers, java.util.List<hydra.langs.java.syntax.Identifier> identifiers) {
     this.modifiers = modifiers;
     this.identifiers = identifiers;
@@ -14,16 +16,27 @@ public class PackageDeclaration {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof PackageDeclaration)) {
       return false;
     }
     PackageDeclaration o = (PackageDeclaration) (other);
-    return modifiers.equals(o.modifiers) && identifiers.equals(o.identifiers);
+    return hashCode() == o.hashCode() && modifiers.equals(o.modifiers) && identifiers.equals(o.identifiers);
   }
   
   @Override
   public int hashCode() {
-    return 2 * modifiers.hashCode() + 3 * identifiers.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * modifiers.hashCode() + 3 * identifiers.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public PackageDeclaration withModifiers(java.util.List<hydra.langs.java.syntax.PackageModifier> modifiers) {
@@ -44,22 +44,35 @@ public abstract class PostfixExpression {
   public static final class Primary extends hydra.langs.java.syntax.PostfixExpression {
     public final hydra.langs.java.syntax.Primary value;
     
+    private int hashCode_;
+    
     public Primary (hydra.langs.java.syntax.Primary value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Primary)) {
         return false;
       }
       Primary o = (Primary) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -71,22 +84,35 @@ public abstract class PostfixExpression {
   public static final class Name extends hydra.langs.java.syntax.PostfixExpression {
     public final hydra.langs.java.syntax.ExpressionName value;
     
+    private int hashCode_;
+    
     public Name (hydra.langs.java.syntax.ExpressionName value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Name)) {
         return false;
       }
       Name o = (Name) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -98,22 +124,35 @@ public abstract class PostfixExpression {
   public static final class PostIncrement extends hydra.langs.java.syntax.PostfixExpression {
     public final hydra.langs.java.syntax.PostIncrementExpression value;
     
+    private int hashCode_;
+    
     public PostIncrement (hydra.langs.java.syntax.PostIncrementExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof PostIncrement)) {
         return false;
       }
       PostIncrement o = (PostIncrement) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -125,22 +164,35 @@ public abstract class PostfixExpression {
   public static final class PostDecrement extends hydra.langs.java.syntax.PostfixExpression {
     public final hydra.langs.java.syntax.PostDecrementExpression value;
     
+    private int hashCode_;
+    
     public PostDecrement (hydra.langs.java.syntax.PostDecrementExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof PostDecrement)) {
         return false;
       }
       PostDecrement o = (PostDecrement) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
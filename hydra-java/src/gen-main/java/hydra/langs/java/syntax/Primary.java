@@ -32,22 +32,35 @@ public abstract class Primary {
   public static final class NoNewArray extends hydra.langs.java.syntax.Primary {
     public final hydra.langs.java.syntax.PrimaryNoNewArray value;
     
+    private int hashCode_;
+    
     public NoNewArray (hydra.langs.java.syntax.PrimaryNoNewArray value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof NoNewArray)) {
         return false;
       }
       NoNewArray o = (NoNewArray) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class Primary {
   public static final class ArrayCreation extends hydra.langs.java.syntax.Primary {
     public final hydra.langs.java.syntax.ArrayCreationExpression value;
     
+    private int hashCode_;
+    
     public ArrayCreation (hydra.langs.java.syntax.ArrayCreationExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ArrayCreation)) {
         return false;
       }
       ArrayCreation o = (ArrayCreation) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
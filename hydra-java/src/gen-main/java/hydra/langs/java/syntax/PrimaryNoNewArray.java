@@ -80,22 +80,35 @@ public abstract class PrimaryNoNewArray {
   public static final class Literal extends hydra.langs.java.syntax.PrimaryNoNewArray {
     public final hydra.langs.java.syntax.Literal value;
     
+    private int hashCode_;
+    
     public Literal (hydra.langs.java.syntax.Literal value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Literal)) {
         return false;
       }
       Literal o = (Literal) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -107,22 +120,35 @@ public abstract class PrimaryNoNewArray {
   public static final class ClassLiteral extends hydra.langs.java.syntax.PrimaryNoNewArray {
     public final hydra.langs.java.syntax.ClassLiteral value;
     
+    private int hashCode_;
+    
     public ClassLiteral (hydra.langs.java.syntax.ClassLiteral value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ClassLiteral)) {
         return false;
       }
       ClassLiteral o = (ClassLiteral) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -138,6 +164,9 @@ public abstract class PrimaryNoNewArray {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof This)) {
         return false;
       }
@@ -159,22 +188,35 @@ public abstract class PrimaryNoNewArray {
   public static final class DotThis extends hydra.langs.java.syntax.PrimaryNoNewArray {
     public final hydra.langs.java.syntax.TypeName value;
     
+    private int hashCode_;
+    
     public DotThis (hydra.langs.java.syntax.TypeName value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DotThis)) {
         return false;
       }
       DotThis o = (DotThis) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -186,22 +228,35 @@ public abstract class PrimaryNoNewArray {
   public static final class Parens extends hydra.langs.java.syntax.PrimaryNoNewArray {
     public final hydra.langs.java.syntax.Expression value;
     
+    private int hashCode_;
+    
     public Parens (hydra.langs.java.syntax.Expression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Parens)) {
         return false;
       }
       Parens o = (Parens) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -213,22 +268,35 @@ public abstract class PrimaryNoNewArray {
   public static final class ClassInstance extends hydra.langs.java.syntax.PrimaryNoNewArray {
     public final hydra.langs.java.syntax.ClassInstanceCreationExpression value;
     
+    private int hashCode_;
+    
     public ClassInstance (hydra.langs.java.syntax.ClassInstanceCreationExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ClassInstance)) {
         return false;
       }
       ClassInstance o = (ClassInstance) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -240,22 +308,35 @@ public abstract class PrimaryNoNewArray {
   public static final class FieldAccess extends hydra.langs.java.syntax.PrimaryNoNewArray {
     public final hydra.langs.java.syntax.FieldAccess value;
     
+    private int hashCode_;
+    
     public FieldAccess (hydra.langs.java.syntax.FieldAccess value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof FieldAccess)) {
         return false;
       }
       FieldAccess o = (FieldAccess) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -267,22 +348,35 @@ public abstract class PrimaryNoNewArray {
   public static final class ArrayAccess extends hydra.langs.java.syntax.PrimaryNoNewArray {
     public final hydra.langs.java.syntax.ArrayAccess value;
     
+    private int hashCode_;
+    
     public ArrayAccess (hydra.langs.java.syntax.ArrayAccess value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ArrayAccess)) {
         return false;
       }
       ArrayAccess o = (ArrayAccess) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -294,22 +388,35 @@ public abstract class PrimaryNoNewArray {
   public static final class MethodInvocation extends hydra.langs.java.syntax.PrimaryNoNewArray {
     public final hydra.langs.java.syntax.MethodInvocation value;
     
+    private int hashCode_;
+    
     public MethodInvocation (hydra.langs.java.syntax.MethodInvocation value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof MethodInvocation)) {
         return false;
       }
       MethodInvocation o = (MethodInvocation) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -321,22 +428,35 @@ public abstract class PrimaryNoNewArray {
   public static final class MethodReference extends hydra.langs.java.syntax.PrimaryNoNewArray {
     public final hydra.langs.java.syntax.MethodReference value;
     
+    private int hashCode_;
+    
     public MethodReference (hydra.langs.java.syntax.MethodReference value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof MethodReference)) {
         return false;
       }
       MethodReference o = (MethodReference) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -32,22 +32,35 @@ public abstract class PrimitiveType {
   public static final class Numeric extends hydra.langs.java.syntax.PrimitiveType {
     public final hydra.langs.java.syntax.NumericType value;
     
+    private int hashCode_;
+    
     public Numeric (hydra.langs.java.syntax.NumericType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Numeric)) {
         return false;
       }
       Numeric o = (Numeric) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -63,6 +76,9 @@ public abstract class PrimitiveType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Boolean_)) {
         return false;
       }
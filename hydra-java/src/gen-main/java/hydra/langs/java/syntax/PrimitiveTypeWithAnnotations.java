@@ -7,6 +7,8 @@ public class PrimitiveTypeWithAnnotations {
   
   public final java.util.List<hydra.langs.java.syntax.Annotation> annotations;
   
+  private int hashCode_;
+  
   public PrimitiveTypeWithAnnotations (hydra.langs.java.syntax.PrimitiveType type, java.util.List<hydra.langs.java.syntax.Annotation> annotations) {
     this.type = type;
     this.annotations = annotations;
@@ -14,16 +16,27 @@ public class PrimitiveTypeWithAnnotations {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof PrimitiveTypeWithAnnotations)) {
       return false;
     }
     PrimitiveTypeWithAnnotations o = (PrimitiveTypeWithAnnotations) (other);
-    return type.equals(o.type) && annotations.equals(o.annotations);
+    return hashCode() == o.hashCode() && type.equals(o.type) && annotations.equals(o.annotations);
   }
   
   @Override
   public int hashCode() {
-    return 2 * type.hashCode() + 3 * annotations.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * type.hashCode() + 3 * annotations.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public PrimitiveTypeWithAnnotations withType(hydra.langs.java.syntax.PrimitiveType type) {
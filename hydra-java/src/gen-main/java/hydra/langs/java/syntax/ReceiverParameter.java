@@ -9,6 +9,8 @@ public class ReceiverParameter {
   
   public final java.util.Optional<hydra.langs.java.syntax.Identifier> identifier;
   
+  private int hashCode_;
+  
   public ReceiverParameter (java.util.List<hydra.langs.java.syntax.Annotation> annotations, hydra.langs.java.syntax.UnannType unannType, java.util.Optional<hydra.langs.java.syntax.Identifier> identifier) {
     this.annotations = annotations;
     this.unannType = unannType;
@@ -17,16 +19,27 @@ public class ReceiverParameter {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ReceiverParameter)) {
       return false;
     }
     ReceiverParameter o = (ReceiverParameter) (other);
-    return annotations.equals(o.annotations) && unannType.equals(o.unannType) && identifier.equals(o.identifier);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && unannType.equals(o.unannType) && identifier.equals(o.identifier);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * unannType.hashCode() + 5 * identifier.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * unannType.hashCode() + 5 * identifier.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ReceiverParameter withAnnotations(java.util.List<hydra.langs.java.syntax.Annotation> annotations) {
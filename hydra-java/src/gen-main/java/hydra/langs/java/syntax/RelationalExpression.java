@@ -56,22 +56,35 @@ public abstract class RelationalExpression {
   public static final class Simple extends hydra.langs.java.syntax.RelationalExpression {
     public final hydra.langs.java.syntax.ShiftExpression value;
     
+    private int hashCode_;
+    
     public Simple (hydra.langs.java.syntax.ShiftExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Simple)) {
         return false;
       }
       Simple o = (Simple) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -83,22 +96,35 @@ public abstract class RelationalExpression {
   public static final class LessThan extends hydra.langs.java.syntax.RelationalExpression {
     public final hydra.langs.java.syntax.RelationalExpression_LessThan value;
     
+    private int hashCode_;
+    
     public LessThan (hydra.langs.java.syntax.RelationalExpression_LessThan value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof LessThan)) {
         return false;
       }
       LessThan o = (LessThan) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -110,22 +136,35 @@ public abstract class RelationalExpression {
   public static final class GreaterThan extends hydra.langs.java.syntax.RelationalExpression {
     public final hydra.langs.java.syntax.RelationalExpression_GreaterThan value;
     
+    private int hashCode_;
+    
     public GreaterThan (hydra.langs.java.syntax.RelationalExpression_GreaterThan value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof GreaterThan)) {
         return false;
       }
       GreaterThan o = (GreaterThan) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -137,22 +176,35 @@ public abstract class RelationalExpression {
   public static final class LessThanEqual extends hydra.langs.java.syntax.RelationalExpression {
     public final hydra.langs.java.syntax.RelationalExpression_LessThanEqual value;
     
+    private int hashCode_;
+    
     public LessThanEqual (hydra.langs.java.syntax.RelationalExpression_LessThanEqual value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof LessThanEqual)) {
         return false;
       }
       LessThanEqual o = (LessThanEqual) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -164,22 +216,35 @@ public abstract class RelationalExpression {
   public static final class GreaterThanEqual extends hydra.langs.java.syntax.RelationalExpression {
     public final hydra.langs.java.syntax.RelationalExpression_GreaterThanEqual value;
     
+    private int hashCode_;
+    
     public GreaterThanEqual (hydra.langs.java.syntax.RelationalExpression_GreaterThanEqual value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof GreaterThanEqual)) {
         return false;
       }
       GreaterThanEqual o = (GreaterThanEqual) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -191,22 +256,35 @@ public abstract class RelationalExpression {
   public static final class Instanceof extends hydra.langs.java.syntax.RelationalExpression {
     public final hydra.langs.java.syntax.RelationalExpression_InstanceOf value;
     
+    private int hashCode_;
+    
     public Instanceof (hydra.langs.java.syntax.RelationalExpression_InstanceOf value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Instanceof)) {
         return false;
       }
       Instanceof o = (Instanceof) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
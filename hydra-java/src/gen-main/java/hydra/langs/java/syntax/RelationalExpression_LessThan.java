@@ -7,6 +7,8 @@ public class RelationalExpression_LessThan {
   
   public final hydra.langs.java.syntax.ShiftExpression rhs;
   
+  private int hashCode_;
+  
   public RelationalExpression_LessThan (hydra.langs.java.syntax.RelationalExpression lhs, hydra.langs.java.syntax.ShiftExpression rhs) {
     this.lhs = lhs;
     this.rhs = rhs;
@@ -14,16 +16,27 @@ public class RelationalExpression_LessThan {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof RelationalExpression_LessThan)) {
       return false;
     }
     RelationalExpression_LessThan o = (RelationalExpression_LessThan) (other);
-    return lhs.equals(o.lhs) && rhs.equals(o.rhs);
+    return hashCode() == o.hashCode() && lhs.equals(o.lhs) && rhs.equals(o.rhs);
   }
   
   @Override
   public int hashCode() {
-    return 2 * lhs.hashCode() + 3 * rhs.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * lhs.hashCode() + 3 * rhs.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public RelationalExpression_LessThan withLhs(hydra.langs.java.syntax.RelationalExpression lhs) {
@@ -7,6 +7,8 @@ public class RelationalExpression_LessThanEqual {
   
   public final hydra.langs.java.syntax.ShiftExpression rhs;
   
+  private int hashCode_;
+  
   public RelationalExpression_LessThanEqual (hydra.langs.java.syntax.RelationalExpression lhs, hydra.langs.java.syntax.ShiftExpression rhs) {
     this.lhs = lhs;
     this.rhs = rhs;
@@ -14,16 +16,27 @@ public class RelationalExpression_LessThanEqual {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof RelationalExpression_LessThanEqual)) {
       return false;
     }
     RelationalExpression_LessThanEqual o = (RelationalExpression_LessThanEqual) (other);
-    return lhs.equals(o.lhs) && rhs.equals(o.rhs);
+    return hashCode() == o.hashCode() && lhs.equals(o.lhs) && rhs.equals(o.rhs);
   }
   
   @Override
   public int hashCode() {
-    return 2 * lhs.hashCode() + 3 * rhs.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * lhs.hashCode() + 3 * rhs.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public RelationalExpression_LessThanEqual withLhs(hydra.langs.java.syntax.RelationalExpression lhs) {
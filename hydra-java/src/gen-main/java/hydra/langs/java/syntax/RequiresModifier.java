@@ -36,6 +36,9 @@ public abstract class RequiresModifier {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Transitive)) {
         return false;
       }
@@ -61,6 +64,9 @@ public abstract class RequiresModifier {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Static)) {
         return false;
       }
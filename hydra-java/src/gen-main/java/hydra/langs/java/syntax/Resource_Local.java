@@ -11,6 +11,8 @@ public class Resource_Local {
   
   public final hydra.langs.java.syntax.Expression expression;
   
+  private int hashCode_;
+  
   public Resource_Local (java.util.List<hydra.langs.java.syntax.VariableModifier> modifiers, hydra.langs.java.syntax.LocalVariableType type, hydra.langs.java.syntax.Identifier identifier, hydra.langs.java.syntax.Expression expression) {
     this.modifiers = modifiers;
     this.type = type;
@@ -20,16 +22,27 @@ public class Resource_Local {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Resource_Local)) {
       return false;
     }
     Resource_Local o = (Resource_Local) (other);
-    return modifiers.equals(o.modifiers) && type.equals(o.type) && identifier.equals(o.identifier) && expression.equals(o.expression);
+    return hashCode() == o.hashCode() && modifiers.equals(o.modifiers) && type.equals(o.type) && identifier.equals(o.identifier) && expression.equals(o.expression);
   }
   
   @Override
   public int hashCode() {
-    return 2 * modifiers.hashCode() + 3 * type.hashCode() + 5 * identifier.hashCode() + 7 * expression.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * modifiers.hashCode() + 3 * type.hashCode() + 5 * identifier.hashCode() + 7 * expression.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Resource_Local withModifiers(java.util.List<hydra.langs.java.syntax.VariableModifier> modifiers) {
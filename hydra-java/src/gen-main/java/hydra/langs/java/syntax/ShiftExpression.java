@@ -44,22 +44,35 @@ public abstract class ShiftExpression {
   public static final class Unary extends hydra.langs.java.syntax.ShiftExpression {
     public final hydra.langs.java.syntax.AdditiveExpression value;
     
+    private int hashCode_;
+    
     public Unary (hydra.langs.java.syntax.AdditiveExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Unary)) {
         return false;
       }
       Unary o = (Unary) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -71,22 +84,35 @@ public abstract class ShiftExpression {
   public static final class ShiftLeft extends hydra.langs.java.syntax.ShiftExpression {
     public final hydra.langs.java.syntax.ShiftExpression_Binary value;
     
+    private int hashCode_;
+    
     public ShiftLeft (hydra.langs.java.syntax.ShiftExpression_Binary value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ShiftLeft)) {
         return false;
       }
       ShiftLeft o = (ShiftLeft) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -98,22 +124,35 @@ public abstract class ShiftExpression {
   public static final class ShiftRight extends hydra.langs.java.syntax.ShiftExpression {
     public final hydra.langs.java.syntax.ShiftExpression_Binary value;
     
+    private int hashCode_;
+    
     public ShiftRight (hydra.langs.java.syntax.ShiftExpression_Binary value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ShiftRight)) {
         return false;
       }
       ShiftRight o = (ShiftRight) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -125,22 +164,35 @@ public abstract class ShiftExpression {
   public static final class ShiftRightZeroFill extends hydra.langs.java.syntax.ShiftExpression {
     public final hydra.langs.java.syntax.ShiftExpression_Binary value;
     
+    private int hashCode_;
+    
     public ShiftRightZeroFill (hydra.langs.java.syntax.ShiftExpression_Binary value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ShiftRightZeroFill)) {
         return false;
       }
       ShiftRightZeroFill o = (ShiftRightZeroFill) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -7,6 +7,8 @@ public class SingleElementAnnotation {
   
   public final java.util.Optional<hydra.langs.java.syntax.ElementValue> value;
   
+  private int hashCode_;
+  
   public SingleElementAnnotation (hydra.langs.java.syntax.TypeName name, java.util.Optional<hydra.langs.java.syntax.ElementValue> value) {
     this.name = name;
     this.value = value;
@@ -14,16 +16,27 @@ public class SingleElementAnnotation {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof SingleElementAnnotation)) {
       return false;
     }
     SingleElementAnnotation o = (SingleElementAnnotation) (other);
-    return name.equals(o.name) && value.equals(o.value);
+    return hashCode() == o.hashCode() && name.equals(o.name) && value.equals(o.value);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * value.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * value.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public SingleElementAnnotation withName(hydra.langs.java.syntax.TypeName name) {
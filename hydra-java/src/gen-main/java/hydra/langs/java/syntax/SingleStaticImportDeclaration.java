@@ -7,6 +7,8 @@ public class SingleStaticImportDeclaration {
   
   public final hydra.langs.java.syntax.Identifier identifier;
   
+  private int hashCode_;
+  
   public SingleStaticImportDeclaration (hydra.langs.java.syntax.TypeName typeName, hydra.langs.java.syntax.Identifier identifier) {
     this.typeName = typeName;
     this.identifier = identifier;
@@ -14,16 +16,27 @@ public class SingleStaticImportDeclaration {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof SingleStaticImportDeclaration)) {
       return false;
     }
     SingleStaticImportDeclaration o = (SingleStaticImportDeclaration) (other);
-    return typeName.equals(o.typeName) && identifier.equals(o.identifier);
+    return hashCode() == o.hashCode() && typeName.equals(o.typeName) && identifier.equals(o.identifier);
   }
   
   @Override
   public int hashCode() {
-    return 2 * typeName.hashCode() + 3 * identifier.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * typeName.hashCode() + 3 * identifier.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public SingleStaticImportDeclaration withTypeName(hydra.langs.java.syntax.TypeName typeName) {
@@ -56,22 +56,35 @@ public abstract class Statement {
   public static final class WithoutTrailing extends hydra.langs.java.syntax.Statement {
     public final hydra.langs.java.syntax.StatementWithoutTrailingSubstatement value;
     
+    private int hashCode_;
+    
     public WithoutTrailing (hydra.langs.java.syntax.StatementWithoutTrailingSubstatement value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof WithoutTrailing)) {
         return false;
       }
       WithoutTrailing o = (WithoutTrailing) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -83,22 +96,35 @@ public abstract class Statement {
   public static final class Labeled extends hydra.langs.java.syntax.Statement {
     public final hydra.langs.java.syntax.LabeledStatement value;
     
+    private int hashCode_;
+    
     public Labeled (hydra.langs.java.syntax.LabeledStatement value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Labeled)) {
         return false;
       }
       Labeled o = (Labeled) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -110,22 +136,35 @@ public abstract class Statement {
   public static final class IfThen extends hydra.langs.java.syntax.Statement {
     public final hydra.langs.java.syntax.IfThenStatement value;
     
+    private int hashCode_;
+    
     public IfThen (hydra.langs.java.syntax.IfThenStatement value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof IfThen)) {
         return false;
       }
       IfThen o = (IfThen) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -137,22 +176,35 @@ public abstract class Statement {
   public static final class IfThenElse extends hydra.langs.java.syntax.Statement {
     public final hydra.langs.java.syntax.IfThenElseStatement value;
     
+    private int hashCode_;
+    
     public IfThenElse (hydra.langs.java.syntax.IfThenElseStatement value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof IfThenElse)) {
         return false;
       }
       IfThenElse o = (IfThenElse) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -164,22 +216,35 @@ public abstract class Statement {
   public static final class While extends hydra.langs.java.syntax.Statement {
     public final hydra.langs.java.syntax.WhileStatement value;
     
+    private int hashCode_;
+    
     public While (hydra.langs.java.syntax.WhileStatement value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof While)) {
         return false;
       }
       While o = (While) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -191,22 +256,35 @@ public abstract class Statement {
   public static final class For extends hydra.langs.java.syntax.Statement {
     public final hydra.langs.java.syntax.ForStatement value;
     
+    private int hashCode_;
+    
     public For (hydra.langs.java.syntax.ForStatement value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof For)) {
         return false;
       }
       For o = (For) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
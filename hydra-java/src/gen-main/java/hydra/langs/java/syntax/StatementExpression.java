@@ -62,22 +62,35 @@ public abstract class StatementExpression {
   public static final class Assignment extends hydra.langs.java.syntax.StatementExpression {
     public final hydra.langs.java.syntax.Assignment value;
     
+    private int hashCode_;
+    
     public Assignment (hydra.langs.java.syntax.Assignment value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Assignment)) {
         return false;
       }
       Assignment o = (Assignment) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -89,22 +102,35 @@ public abstract class StatementExpression {
   public static final class PreIncrement extends hydra.langs.java.syntax.StatementExpression {
     public final hydra.langs.java.syntax.PreIncrementExpression value;
     
+    private int hashCode_;
+    
     public PreIncrement (hydra.langs.java.syntax.PreIncrementExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof PreIncrement)) {
         return false;
       }
       PreIncrement o = (PreIncrement) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -116,22 +142,35 @@ public abstract class StatementExpression {
   public static final class PreDecrement extends hydra.langs.java.syntax.StatementExpression {
     public final hydra.langs.java.syntax.PreDecrementExpression value;
     
+    private int hashCode_;
+    
     public PreDecrement (hydra.langs.java.syntax.PreDecrementExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof PreDecrement)) {
         return false;
       }
       PreDecrement o = (PreDecrement) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -143,22 +182,35 @@ public abstract class StatementExpression {
   public static final class PostIncrement extends hydra.langs.java.syntax.StatementExpression {
     public final hydra.langs.java.syntax.PostIncrementExpression value;
     
+    private int hashCode_;
+    
     public PostIncrement (hydra.langs.java.syntax.PostIncrementExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof PostIncrement)) {
         return false;
       }
       PostIncrement o = (PostIncrement) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -170,22 +222,35 @@ public abstract class StatementExpression {
   public static final class PostDecrement extends hydra.langs.java.syntax.StatementExpression {
     public final hydra.langs.java.syntax.PostDecrementExpression value;
     
+    private int hashCode_;
+    
     public PostDecrement (hydra.langs.java.syntax.PostDecrementExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof PostDecrement)) {
         return false;
       }
       PostDecrement o = (PostDecrement) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -197,22 +262,35 @@ public abstract class StatementExpression {
   public static final class MethodInvocation extends hydra.langs.java.syntax.StatementExpression {
     public final hydra.langs.java.syntax.MethodInvocation value;
     
+    private int hashCode_;
+    
     public MethodInvocation (hydra.langs.java.syntax.MethodInvocation value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof MethodInvocation)) {
         return false;
       }
       MethodInvocation o = (MethodInvocation) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -224,22 +302,35 @@ public abstract class StatementExpression {
   public static final class ClassInstanceCreation extends hydra.langs.java.syntax.StatementExpression {
     public final hydra.langs.java.syntax.ClassInstanceCreationExpression value;
     
+    private int hashCode_;
+    
     public ClassInstanceCreation (hydra.langs.java.syntax.ClassInstanceCreationExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ClassInstanceCreation)) {
         return false;
       }
       ClassInstanceCreation o = (ClassInstanceCreation) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
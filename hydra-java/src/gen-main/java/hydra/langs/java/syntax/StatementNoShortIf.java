@@ -50,22 +50,35 @@ public abstract class StatementNoShortIf {
   public static final class WithoutTrailing extends hydra.langs.java.syntax.StatementNoShortIf {
     public final hydra.langs.java.syntax.StatementWithoutTrailingSubstatement value;
     
+    private int hashCode_;
+    
     public WithoutTrailing (hydra.langs.java.syntax.StatementWithoutTrailingSubstatement value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof WithoutTrailing)) {
         return false;
       }
       WithoutTrailing o = (WithoutTrailing) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -77,22 +90,35 @@ public abstract class StatementNoShortIf {
   public static final class Labeled extends hydra.langs.java.syntax.StatementNoShortIf {
     public final hydra.langs.java.syntax.LabeledStatementNoShortIf value;
     
+    private int hashCode_;
+    
     public Labeled (hydra.langs.java.syntax.LabeledStatementNoShortIf value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Labeled)) {
         return false;
       }
       Labeled o = (Labeled) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -104,22 +130,35 @@ public abstract class StatementNoShortIf {
   public static final class IfThenElse extends hydra.langs.java.syntax.StatementNoShortIf {
     public final hydra.langs.java.syntax.IfThenElseStatementNoShortIf value;
     
+    private int hashCode_;
+    
     public IfThenElse (hydra.langs.java.syntax.IfThenElseStatementNoShortIf value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof IfThenElse)) {
         return false;
       }
       IfThenElse o = (IfThenElse) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -131,22 +170,35 @@ public abstract class StatementNoShortIf {
   public static final class While extends hydra.langs.java.syntax.StatementNoShortIf {
     public final hydra.langs.java.syntax.WhileStatementNoShortIf value;
     
+    private int hashCode_;
+    
     public While (hydra.langs.java.syntax.WhileStatementNoShortIf value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof While)) {
         return false;
       }
       While o = (While) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -158,22 +210,35 @@ public abstract class StatementNoShortIf {
   public static final class For extends hydra.langs.java.syntax.StatementNoShortIf {
     public final hydra.langs.java.syntax.ForStatementNoShortIf value;
     
+    private int hashCode_;
+    
     public For (hydra.langs.java.syntax.ForStatementNoShortIf value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof For)) {
         return false;
       }
       For o = (For) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +92,35 @@ public abstract class StatementWithoutTrailingSubstatement {
   public static final class Block extends hydra.langs.java.syntax.StatementWithoutTrailingSubstatement {
     public final hydra.langs.java.syntax.Block value;
     
+    private int hashCode_;
+    
     public Block (hydra.langs.java.syntax.Block value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Block)) {
         return false;
       }
       Block o = (Block) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -119,22 +132,35 @@ public abstract class StatementWithoutTrailingSubstatement {
   public static final class Empty extends hydra.langs.java.syntax.StatementWithoutTrailingSubstatement {
     public final hydra.langs.java.syntax.EmptyStatement value;
     
+    private int hashCode_;
+    
     public Empty (hydra.langs.java.syntax.EmptyStatement value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Empty)) {
         return false;
       }
       Empty o = (Empty) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -146,22 +172,35 @@ public abstract class StatementWithoutTrailingSubstatement {
   public static final class Expression extends hydra.langs.java.syntax.StatementWithoutTrailingSubstatement {
     public final hydra.langs.java.syntax.ExpressionStatement value;
     
+    private int hashCode_;
+    
     public Expression (hydra.langs.java.syntax.ExpressionStatement value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Expression)) {
         return false;
       }
       Expression o = (Expression) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -173,22 +212,35 @@ public abstract class StatementWithoutTrailingSubstatement {
   public static final class Assert extends hydra.langs.java.syntax.StatementWithoutTrailingSubstatement {
     public final hydra.langs.java.syntax.AssertStatement value;
     
+    private int hashCode_;
+    
     public Assert (hydra.langs.java.syntax.AssertStatement value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Assert)) {
         return false;
       }
       Assert o = (Assert) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -200,22 +252,35 @@ public abstract class StatementWithoutTrailingSubstatement {
   public static final class Switch extends hydra.langs.java.syntax.StatementWithoutTrailingSubstatement {
     public final hydra.langs.java.syntax.SwitchStatement value;
     
+    private int hashCode_;
+    
     public Switch (hydra.langs.java.syntax.SwitchStatement value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Switch)) {
         return false;
       }
       Switch o = (Switch) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -227,22 +292,35 @@ public abstract class StatementWithoutTrailingSubstatement {
   public static final class Do extends hydra.langs.java.syntax.StatementWithoutTrailingSubstatement {
     public final hydra.langs.java.syntax.DoStatement value;
     
+    private int hashCode_;
+    
     public Do (hydra.langs.java.syntax.DoStatement value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Do)) {
         return false;
       }
       Do o = (Do) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -254,22 +332,35 @@ public abstract class StatementWithoutTrailingSubstatement {
   public static final class Break extends hydra.langs.java.syntax.StatementWithoutTrailingSubstatement {
     public final hydra.langs.java.syntax.BreakStatement value;
     
+    private int hashCode_;
+    
     public Break (hydra.langs.java.syntax.BreakStatement value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Break)) {
         return false;
       }
       Break o = (Break) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -281,22 +372,35 @@ public abstract class StatementWithoutTrailingSubstatement {
   public static final class Continue extends hydra.langs.java.syntax.StatementWithoutTrailingSubstatement {
     public final hydra.langs.java.syntax.ContinueStatement value;
     
+    private int hashCode_;
+    
     public Continue (hydra.langs.java.syntax.ContinueStatement value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Continue)) {
         return false;
       }
       Continue o = (Continue) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -308,22 +412,35 @@ public abstract class StatementWithoutTrailingSubstatement {
   public static final class Return extends hydra.langs.java.syntax.StatementWithoutTrailingSubstatement {
     public final hydra.langs.java.syntax.ReturnStatement value;
     
+    private int hashCode_;
+    
     public Return (hydra.langs.java.syntax.ReturnStatement value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Return)) {
         return false;
       }
       Return o = (Return) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -335,22 +452,35 @@ public abstract class StatementWithoutTrailingSubstatement {
   public static final class Synchronized extends hydra.langs.java.syntax.StatementWithoutTrailingSubstatement {
     public final hydra.langs.java.syntax.SynchronizedStatement value;
     
+    private int hashCode_;
+    
     public Synchronized (hydra.langs.java.syntax.SynchronizedStatement value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Synchronized)) {
         return false;
       }
       Synchronized o = (Synchronized) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -362,22 +492,35 @@ public abstract class StatementWithoutTrailingSubstatement {
   public static final class Throw extends hydra.langs.java.syntax.StatementWithoutTrailingSubstatement {
     public final hydra.langs.java.syntax.ThrowStatement value;
     
+    private int hashCode_;
+    
     public Throw (hydra.langs.java.syntax.ThrowStatement value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Throw)) {
         return false;
       }
       Throw o = (Throw) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -389,22 +532,35 @@ public abstract class StatementWithoutTrailingSubstatement {
   public static final class Try extends hydra.langs.java.syntax.StatementWithoutTrailingSubstatement {
     public final hydra.langs.java.syntax.TryStatement value;
     
+    private int hashCode_;
+    
     public Try (hydra.langs.java.syntax.TryStatement value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Try)) {
         return false;
       }
       Try o = (Try) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -7,6 +7,8 @@ public class SwitchBlockStatementGroup {
   
   public final java.util.List<hydra.langs.java.syntax.BlockStatement> statements;
   
+  private int hashCode_;
+  
   public SwitchBlockStatementGroup (java.util.List<hydra.langs.java.syntax.SwitchLabel> labels, java.util.List<hydra.langs.java.syntax.BlockStatement> statements) {
     this.labels = labels;
     this.statements = statements;
@@ -14,16 +16,27 @@ public class SwitchBlockStatementGroup {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof SwitchBlockStatementGroup)) {
       return false;
     }
     SwitchBlockStatementGroup o = (SwitchBlockStatementGroup) (other);
-    return labels.equals(o.labels) && statements.equals(o.statements);
+    return hashCode() == o.hashCode() && labels.equals(o.labels) && statements.equals(o.statements);
   }
   
   @Override
   public int hashCode() {
-    return 2 * labels.hashCode() + 3 * statements.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * labels.hashCode() + 3 * statements.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public SwitchBlockStatementGroup withLabels(java.util.List<hydra.langs.java.syntax.SwitchLabel> labels) {
@@ -7,6 +7,8 @@ public class SwitchBlock_Pair {
   
   public final java.util.List<hydra.langs.java.syntax.SwitchLabel> labels;
   
+  private int hashCode_;
+  
   public SwitchBlock_Pair (java.util.List<hydra.langs.java.syntax.SwitchBlockStatementGroup> statements, java.util.List<hydra.langs.java.syntax.SwitchLabel> labels) {
     this.statements = statements;
     this.labels = labels;
@@ -14,16 +16,27 @@ public class SwitchBlock_Pair {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof SwitchBlock_Pair)) {
       return false;
     }
     SwitchBlock_Pair o = (SwitchBlock_Pair) (other);
-    return statements.equals(o.statements) && labels.equals(o.labels);
+    return hashCode() == o.hashCode() && statements.equals(o.statements) && labels.equals(o.labels);
   }
   
   @Override
   public int hashCode() {
-    return 2 * statements.hashCode() + 3 * labels.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * statements.hashCode() + 3 * labels.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public SwitchBlock_Pair withStatements(java.util.List<hydra.langs.java.syntax.SwitchBlockStatementGroup> statements) {
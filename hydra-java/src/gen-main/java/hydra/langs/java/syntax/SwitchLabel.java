@@ -38,22 +38,35 @@ public abstract class SwitchLabel {
   public static final class Constant extends hydra.langs.java.syntax.SwitchLabel {
     public final hydra.langs.java.syntax.ConstantExpression value;
     
+    private int hashCode_;
+    
     public Constant (hydra.langs.java.syntax.ConstantExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Constant)) {
         return false;
       }
       Constant o = (Constant) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class SwitchLabel {
   public static final class EnumConstant extends hydra.langs.java.syntax.SwitchLabel {
     public final hydra.langs.java.syntax.EnumConstantName value;
     
+    private int hashCode_;
+    
     public EnumConstant (hydra.langs.java.syntax.EnumConstantName value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof EnumConstant)) {
         return false;
       }
       EnumConstant o = (EnumConstant) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -96,6 +122,9 @@ public abstract class SwitchLabel {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Default)) {
         return false;
       }
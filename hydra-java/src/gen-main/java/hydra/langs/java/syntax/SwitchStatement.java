@@ -7,6 +7,8 @@ public class SwitchStatement {
   
   public final hydra.langs.java.syntax.SwitchBlock block;
   
+  private int hashCode_;
+  
   public SwitchStatement (hydra.langs.java.syntax.Expression cond, hydra.langs.java.syntax.SwitchBlock block) {
     this.cond = cond;
     this.block = block;
@@ -14,16 +16,27 @@ public class SwitchStatement {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof SwitchStatement)) {
       return false;
     }
     SwitchStatement o = (SwitchStatement) (other);
-    return cond.equals(o.cond) && block.equals(o.block);
+    return hashCode() == o.hashCode() && cond.equals(o.cond) && block.equals(o.block);
   }
   
   @Override
   public int hashCode() {
-    return 2 * cond.hashCode() + 3 * block.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * cond.hashCode() + 3 * block.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public SwitchStatement withCond(hydra.langs.java.syntax.Expression cond) {
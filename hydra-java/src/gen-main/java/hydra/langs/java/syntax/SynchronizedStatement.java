@@ -7,6 +7,8 @@ public class SynchronizedStatement {
   
   public final hydra.langs.java.syntax.Block block;
   
+  private int hashCode_;
+  
   public SynchronizedStatement (hydra.langs.java.syntax.Expression expression, hydra.langs.java.syntax.Block block) {
     this.expression = expression;
     this.block = block;
@@ -14,16 +16,27 @@ public class SynchronizedStatement {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof SynchronizedStatement)) {
       return false;
     }
     SynchronizedStatement o = (SynchronizedStatement) (other);
-    return expression.equals(o.expression) && block.equals(o.block);
+    return hashCode() == o.hashCode() && expression.equals(o.expression) && block.equals(o.block);
   }
   
   @Override
   public int hashCode() {
-    return 2 * expression.hashCode() + 3 * block.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * expression.hashCode() + 3 * block.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public SynchronizedStatement withExpression(hydra.langs.java.syntax.Expression expression) {
@@ -5,21 +5,34 @@ public class Throws {
   
   public final java.util.List<hydra.langs.java.syntax.ExceptionType> value;
   
+  private int hashCode_;
+  
   public Throws (java.util.List<hydra.langs.java.syntax.ExceptionType> value) {
     this.value = value;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Throws)) {
       return false;
     }
     Throws o = (Throws) (other);
-    return value.equals(o.value);
+    return hashCode() == o.hashCode() && value.equals(o.value);
   }
   
   @Override
   public int hashCode() {
-    return 2 * value.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * value.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
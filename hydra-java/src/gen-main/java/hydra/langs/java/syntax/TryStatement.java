@@ -38,22 +38,35 @@ public abstract class TryStatement {
   public static final class Simple extends hydra.langs.java.syntax.TryStatement {
     public final hydra.langs.java.syntax.TryStatement_Simple value;
     
+    private int hashCode_;
+    
     public Simple (hydra.langs.java.syntax.TryStatement_Simple value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Simple)) {
         return false;
       }
       Simple o = (Simple) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class TryStatement {
   public static final class WithFinally extends hydra.langs.java.syntax.TryStatement {
     public final hydra.langs.java.syntax.TryStatement_WithFinally value;
     
+    private int hashCode_;
+    
     public WithFinally (hydra.langs.java.syntax.TryStatement_WithFinally value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof WithFinally)) {
         return false;
       }
       WithFinally o = (WithFinally) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +118,35 @@ public abstract class TryStatement {
   public static final class WithResources extends hydra.langs.java.syntax.TryStatement {
     public final hydra.langs.java.syntax.TryWithResourcesStatement value;
     
+    private int hashCode_;
+    
     public WithResources (hydra.langs.java.syntax.TryWithResourcesStatement value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof WithResources)) {
         return false;
       }
       WithResources o = (WithResources) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
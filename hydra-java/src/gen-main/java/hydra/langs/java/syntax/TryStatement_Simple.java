@@ -7,6 +7,8 @@ public class TryStatement_Simple {
   
   public final hydra.langs.java.syntax.Catches catches;
   
+  private int hashCode_;
+  
   public TryStatement_Simple (hydra.langs.java.syntax.Block block, hydra.langs.java.syntax.Catches catches) {
     this.block = block;
     this.catches = catches;
@@ -14,16 +16,27 @@ public class TryStatement_Simple {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof TryStatement_Simple)) {
       return false;
     }
     TryStatement_Simple o = (TryStatement_Simple) (other);
-    return block.equals(o.block) && catches.equals(o.catches);
+    return hashCode() == o.hashCode() && block.equals(o.block) && catches.equals(o.catches);
   }
   
   @Override
   public int hashCode() {
-    return 2 * block.hashCode() + 3 * catches.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * block.hashCode() + 3 * catches.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public TryStatement_Simple withBlock(hydra.langs.java.syntax.Block block) {
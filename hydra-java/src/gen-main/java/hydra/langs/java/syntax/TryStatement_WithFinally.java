@@ -9,6 +9,8 @@ public class TryStatement_WithFinally {
   
   public final hydra.langs.java.syntax.Finally finally_;
   
+  private int hashCode_;
+  
   public TryStatement_WithFinally (hydra.langs.java.syntax.Block block, java.util.Optional<hydra.langs.java.syntax.Catches> catches, hydra.langs.java.syntax.Finally finally_) {
     this.block = block;
     this.catches = catches;
@@ -17,16 +19,27 @@ public class TryStatement_WithFinally {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof TryStatement_WithFinally)) {
       return false;
     }
     TryStatement_WithFinally o = (TryStatement_WithFinally) (other);
-    return block.equals(o.block) && catches.equals(o.catches) && finally_.equals(o.finally_);
+    return hashCode() == o.hashCode() && block.equals(o.block) && catches.equals(o.catches) && finally_.equals(o.finally_);
   }
   
   @Override
   public int hashCode() {
-    return 2 * block.hashCode() + 3 * catches.hashCode() + 5 * finally_.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * block.hashCode() + 3 * catches.hashCode() + 5 * finally_.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public TryStatement_WithFinally withBlock(hydra.langs.java.syntax.Block block) {
@@ -11,6 +11,8 @@ public class TryWithResourcesStatement {
   
   public final java.util.Optional<hydra.langs.java.syntax.Finally> finally_;
   
+  private int hashCode_;
+  
   public TryWithResourcesStatement (hydra.langs.java.syntax.ResourceSpecification resourceSpecification, hydra.langs.java.syntax.Block block, java.util.Optional<hydra.langs.java.syntax.Catches> catches, java.util.Optional<hydra.langs.java.syntax.Finally> finally_) {
     this.resourceSpecification = resourceSpecification;
     this.block = block;
@@ -20,16 +22,27 @@ public class TryWithResourcesStatement {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof TryWithResourcesStatement)) {
       return false;
     }
     TryWithResourcesStatement o = (TryWithResourcesStatement) (other);
-    return resourceSpecification.equals(o.resourceSpecification) && block.equals(o.block) && catches.equals(o.catches) && finally_.equals(o.finally_);
+    return hashCode() == o.hashCode() && resourceSpecification.equals(o.resourceSpecification) && block.equals(o.block) && catches.equals(o.catches) && finally_.equals(o.finally_);
   }
   
   @Override
   public int hashCode() {
-    return 2 * resourceSpecification.hashCode() + 3 * block.hashCode() + 5 * catches.hashCode() + 7 * finally_.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * resourceSpecification.hashCode() + 3 * block.hashCode() + 5 * catches.hashCode() + 7 * finally_.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public TryWithResourcesStatement withResourceSpecification(hydra.langs.java.syntax.ResourceSpecification resourceSpecification) {
@@ -32,22 +32,35 @@ public abstract class Type {
   public static final class Primitive extends hydra.langs.java.syntax.Type {
     public final hydra.langs.java.syntax.PrimitiveTypeWithAnnotations value;
     
+    private int hashCode_;
+    
     public Primitive (hydra.langs.java.syntax.PrimitiveTypeWithAnnotations value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Primitive)) {
         return false;
       }
       Primitive o = (Primitive) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class Type {
   public static final class Reference extends hydra.langs.java.syntax.Type {
     public final hydra.langs.java.syntax.ReferenceType value;
     
+    private int hashCode_;
+    
     public Reference (hydra.langs.java.syntax.ReferenceType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Reference)) {
         return false;
       }
       Reference o = (Reference) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -32,22 +32,35 @@ public abstract class TypeArgumentsOrDiamond {
   public static final class Arguments extends hydra.langs.java.syntax.TypeArgumentsOrDiamond {
     public final java.util.List<hydra.langs.java.syntax.TypeArgument> value;
     
+    private int hashCode_;
+    
     public Arguments (java.util.List<hydra.langs.java.syntax.TypeArgument> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Arguments)) {
         return false;
       }
       Arguments o = (Arguments) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -63,6 +76,9 @@ public abstract class TypeArgumentsOrDiamond {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Diamond)) {
         return false;
       }
@@ -7,6 +7,8 @@ public class TypeBound_ClassOrInterface {
   
   public final java.util.List<hydra.langs.java.syntax.AdditionalBound> additional;
   
+  private int hashCode_;
+  
   public TypeBound_ClassOrInterface (hydra.langs.java.syntax.ClassOrInterfaceType type, java.util.List<hydra.langs.java.syntax.AdditionalBound> additional) {
     this.type = type;
     this.additional = additional;
@@ -14,16 +16,27 @@ public class TypeBound_ClassOrInterface {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof TypeBound_ClassOrInterface)) {
       return false;
     }
     TypeBound_ClassOrInterface o = (TypeBound_ClassOrInterface) (other);
-    return type.equals(o.type) && additional.equals(o.additional);
+    return hashCode() == o.hashCode() && type.equals(o.type) && additional.equals(o.additional);
   }
   
   @Override
   public int hashCode() {
-    return 2 * type.hashCode() + 3 * additional.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * type.hashCode() + 3 * additional.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public TypeBound_ClassOrInterface withType(hydra.langs.java.syntax.ClassOrInterfaceType type) {
@@ -7,6 +7,8 @@ public class TypeDeclarationWithComments {
   
   public final java.util.Optional<String> comments;
   
+  private int hashCode_;
+  
   public TypeDeclarationWithComments (hydra.langs.java.syntax.TypeDeclaration value, java.util.Optional<String> comments) {
     this.value = value;
     this.comments = comments;
@@ -14,16 +16,27 @@ public class TypeDeclarationWithComments {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof TypeDeclarationWithComments)) {
       return false;
     }
     TypeDeclarationWithComments o = (TypeDeclarationWithComments) (other);
-    return value.equals(o.value) && comments.equals(o.comments);
+    return hashCode() == o.hashCode() && value.equals(o.value) && comments.equals(o.comments);
   }
   
   @Override
   public int hashCode() {
-    return 2 * value.hashCode() + 3 * comments.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * value.hashCode() + 3 * comments.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public TypeDeclarationWithComments withValue(hydra.langs.java.syntax.TypeDeclaration value) {
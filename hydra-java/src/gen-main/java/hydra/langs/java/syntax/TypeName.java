@@ -7,6 +7,8 @@ public class TypeName {
   
   public final java.util.Optional<hydra.langs.java.syntax.PackageOrTypeName> qualifier;
   
+  private int hashCode_;
+  
   public TypeName (hydra.langs.java.syntax.TypeIdentifier identifier, java.util.Optional<hydra.langs.java.syntax.PackageOrTypeName> qualifier) {
     this.identifier = identifier;
     this.qualifier = qualifier;
@@ -14,16 +16,27 @@ public class TypeName {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof TypeName)) {
       return false;
     }
     TypeName o = (TypeName) (other);
-    return identifier.equals(o.identifier) && qualifier.equals(o.qualifier);
+    return hashCode() == o.hashCode() && identifier.equals(o.identifier) && qualifier.equals(o.qualifier);
   }
   
   @Override
   public int hashCode() {
-    return 2 * identifier.hashCode() + 3 * qualifier.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * identifier.hashCode() + 3 * qualifier.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public TypeName withIdentifier(hydra.langs.java.syntax.TypeIdentifier identifier) {
@@ -9,6 +9,8 @@ public class TypeParameter {
   
   public final java.util.Optional<hydra.langs.java.syntax.TypeBound> bound;
   
+  private int hashCode_;
+  
   public TypeParameter (java.util.List<hydra.langs.java.syntax.TypeParameterModifier> modifiers, hydra.langs.java.syntax.TypeIdentifier identifier, java.util.Optional<hydra.langs.java.syntax.TypeBound> bound) {
     this.modifiers = modifiers;
     this.identifier = identifier;
@@ -17,16 +19,27 @@ public class TypeParameter {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof TypeParameter)) {
       return false;
     }
     TypeParameter o = (TypeParameter) (other);
-    return modifiers.equals(o.modifiers) && identifier.equals(o.identifier) && bound.equals(o.bound);
+    return hashCode() == o.hashCode() && modifiers.equals(o.modifiers) && identifier.equals(o.identifier) && bound.equals(o.bound);
   }
   
   @Override
   public int hashCode() {
-    return 2 * modifiers.hashCode() + 3 * identifier.hashCode() + 5 * bound.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * modifiers.hashCode() + 3 * identifier.hashCode() + 5 * bound.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public TypeParameter withModifiers(java.util.List<hydra.langs.java.syntax.TypeParameterModifier> modifiers) {
@@ -7,6 +7,8 @@ public class TypeVariable {
   
   public final hydra.langs.java.syntax.TypeIdentifier identifier;
   
+  private int hashCode_;
+  
   public TypeVariable (java.util.List<hydra.langs.java.syntax.Annotation> annotations, hydra.langs.java.syntax.TypeIdentifier identifier) {
     this.annotations = annotations;
     this.identifier = identifier;
@@ -14,16 +16,27 @@ public class TypeVariable {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof TypeVariable)) {
       return false;
     }
     TypeVariable o = (TypeVariable) (other);
-    return annotations.equals(o.annotations) && identifier.equals(o.identifier);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && identifier.equals(o.identifier);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * identifier.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * identifier.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public TypeVariable withAnnotations(java.util.List<hydra.langs.java.syntax.Annotation> annotations) {
@@ -50,22 +50,35 @@ public abstract class UnaryExpression {
   public static final class PreIncrement extends hydra.langs.java.syntax.UnaryExpression {
     public final hydra.langs.java.syntax.PreIncrementExpression value;
     
+    private int hashCode_;
+    
     public PreIncrement (hydra.langs.java.syntax.PreIncrementExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof PreIncrement)) {
         return false;
       }
       PreIncrement o = (PreIncrement) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -77,22 +90,35 @@ public abstract class UnaryExpression {
   public static final class PreDecrement extends hydra.langs.java.syntax.UnaryExpression {
     public final hydra.langs.java.syntax.PreDecrementExpression value;
     
+    private int hashCode_;
+    
     public PreDecrement (hydra.langs.java.syntax.PreDecrementExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof PreDecrement)) {
         return false;
       }
       PreDecrement o = (PreDecrement) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -104,22 +130,35 @@ public abstract class UnaryExpression {
   public static final class Plus extends hydra.langs.java.syntax.UnaryExpression {
     public final hydra.langs.java.syntax.UnaryExpression value;
     
+    private int hashCode_;
+    
     public Plus (hydra.langs.java.syntax.UnaryExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Plus)) {
         return false;
       }
       Plus o = (Plus) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -131,22 +170,35 @@ public abstract class UnaryExpression {
   public static final class Minus extends hydra.langs.java.syntax.UnaryExpression {
     public final hydra.langs.java.syntax.UnaryExpression value;
     
+    private int hashCode_;
+    
     public Minus (hydra.langs.java.syntax.UnaryExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Minus)) {
         return false;
       }
       Minus o = (Minus) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -158,22 +210,35 @@ public abstract class UnaryExpression {
   public static final class Other extends hydra.langs.java.syntax.UnaryExpression {
     public final hydra.langs.java.syntax.UnaryExpressionNotPlusMinus value;
     
+    private int hashCode_;
+    
     public Other (hydra.langs.java.syntax.UnaryExpressionNotPlusMinus value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Other)) {
         return false;
       }
       Other o = (Other) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
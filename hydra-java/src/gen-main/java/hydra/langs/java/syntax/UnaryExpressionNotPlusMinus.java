@@ -44,22 +44,35 @@ public abstract class UnaryExpressionNotPlusMinus {
   public static final class Postfix extends hydra.langs.java.syntax.UnaryExpressionNotPlusMinus {
     public final hydra.langs.java.syntax.PostfixExpression value;
     
+    private int hashCode_;
+    
     public Postfix (hydra.langs.java.syntax.PostfixExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Postfix)) {
         return false;
       }
       Postfix o = (Postfix) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -71,22 +84,35 @@ public abstract class UnaryExpressionNotPlusMinus {
   public static final class Tilde extends hydra.langs.java.syntax.UnaryExpressionNotPlusMinus {
     public final hydra.langs.java.syntax.UnaryExpression value;
     
+    private int hashCode_;
+    
     public Tilde (hydra.langs.java.syntax.UnaryExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Tilde)) {
         return false;
       }
       Tilde o = (Tilde) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -98,22 +124,35 @@ public abstract class UnaryExpressionNotPlusMinus {
   public static final class Not extends hydra.langs.java.syntax.UnaryExpressionNotPlusMinus {
     public final hydra.langs.java.syntax.UnaryExpression value;
     
+    private int hashCode_;
+    
     public Not (hydra.langs.java.syntax.UnaryExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Not)) {
         return false;
       }
       Not o = (Not) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -125,22 +164,35 @@ public abstract class UnaryExpressionNotPlusMinus {
   public static final class Cast extends hydra.langs.java.syntax.UnaryExpressionNotPlusMinus {
     public final hydra.langs.java.syntax.CastExpression value;
     
+    private int hashCode_;
+    
     public Cast (hydra.langs.java.syntax.CastExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Cast)) {
         return false;
       }
       Cast o = (Cast) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
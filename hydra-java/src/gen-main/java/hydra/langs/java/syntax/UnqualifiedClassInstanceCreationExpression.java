@@ -11,6 +11,8 @@ public class UnqualifiedClassInstanceCreationExpression {
   
   public final java.util.Optional<hydra.langs.java.syntax.ClassBody> body;
   
+  private int hashCode_;
+  
   public UnqualifiedClassInstanceCreationExpression (java.util.List<hydra.langs.java.syntax.TypeArgument> typeArguments, hydra.langs.java.syntax.ClassOrInterfaceTypeToInstantiate classOrInterface, java.util.List<hydra.langs.java.syntax.Expression> arguments, java.util.Optional<hydra.langs.java.syntax.ClassBody> body) {
     this.typeArguments = typeArguments;
     this.classOrInterface = classOrInterface;
@@ -20,16 +22,27 @@ public class UnqualifiedClassInstanceCreationExpression {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof UnqualifiedClassInstanceCreationExpression)) {
       return false;
     }
     UnqualifiedClassInstanceCreationExpression o = (UnqualifiedClassInstanceCreationExpression) (other);
-    return typeArguments.equals(o.typeArguments) && classOrInterface.equals(o.classOrInterface) && arguments.equals(o.arguments) && body.equals(o.body);
+    return hashCode() == o.hashCode() && typeArguments.equals(o.typeArguments) && classOrInterface.equals(o.classOrInterface) && arguments.equals(o.arguments) && body.equals(o.body);
   }
   
   @Override
   public int hashCode() {
-    return 2 * typeArguments.hashCode() + 3 * classOrInterface.hashCode() + 5 * arguments.hashCode() + 7 * body.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * typeArguments.hashCode() + 3 * classOrInterface.hashCode() + 5 * arguments.hashCode() + 7 * body.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public UnqualifiedClassInstanceCreationExpression withTypeArguments(java.util.List<hydra.langs.java.syntax.TypeArgument> typeArguments) {
@@ -7,6 +7,8 @@ public class VariableDeclarator {
   
   public final java.util.Optional<hydra.langs.java.syntax.VariableInitializer> initializer;
   
+  private int hashCode_;
+  
   public VariableDeclarator (hydra.langs.java.syntax.VariableDeclaratorId id, java.util.Optional<hydra.langs.java.syntax.VariableInitializer> initializer) {
     this.id = id;
     this.initializer = initializer;
@@ -14,16 +16,27 @@ public class VariableDeclarator {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof VariableDeclarator)) {
       return false;
     }
     VariableDeclarator o = (VariableDeclarator) (other);
-    return id.equals(o.id) && initializer.equals(o.initializer);
+    return hashCode() == o.hashCode() && id.equals(o.id) && initializer.equals(o.initializer);
   }
   
   @Override
   public int hashCode() {
-    return 2 * id.hashCode() + 3 * initializer.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * id.hashCode() + 3 * initializer.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public VariableDeclarator withId(hydra.langs.java.syntax.VariableDeclaratorId id) {
@@ -7,6 +7,8 @@ public class VariableDeclaratorId {
   
   public final java.util.Optional<hydra.langs.java.syntax.Dims> dims;
   
+  private int hashCode_;
+  
   public VariableDeclaratorId (hydra.langs.java.syntax.Identifier identifier, java.util.Optional<hydra.langs.java.syntax.Dims> dims) {
     this.identifier = identifier;
     this.dims = dims;
@@ -14,16 +16,27 @@ public class VariableDeclaratorId {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof VariableDeclaratorId)) {
       return false;
     }
     VariableDeclaratorId o = (VariableDeclaratorId) (other);
-    return identifier.equals(o.identifier) && dims.equals(o.dims);
+    return hashCode() == o.hashCode() && identifier.equals(o.identifier) && dims.equals(o.dims);
   }
   
   @Override
   public int hashCode() {
-    return 2 * identifier.hashCode() + 3 * dims.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * identifier.hashCode() + 3 * dims.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public VariableDeclaratorId withIdentifier(hydra.langs.java.syntax.Identifier identifier) {
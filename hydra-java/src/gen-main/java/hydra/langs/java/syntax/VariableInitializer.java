@@ -32,22 +32,35 @@ public abstract class VariableInitializer {
   public static final class Expression extends hydra.langs.java.syntax.VariableInitializer {
     public final hydra.langs.java.syntax.Expression value;
     
+    private int hashCode_;
+    
     public Expression (hydra.langs.java.syntax.Expression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Expression)) {
         return false;
       }
       Expression o = (Expression) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class VariableInitializer {
   public static final class ArrayInitializer extends hydra.langs.java.syntax.VariableInitializer {
     public final hydra.langs.java.syntax.ArrayInitializer value;
     
+    private int hashCode_;
+    
     public ArrayInitializer (hydra.langs.java.syntax.ArrayInitializer value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ArrayInitializer)) {
         return false;
       }
       ArrayInitializer o = (ArrayInitializer) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
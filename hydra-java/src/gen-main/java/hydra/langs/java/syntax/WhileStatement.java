@@ -7,6 +7,8 @@ public class WhileStatement {
   
   public final hydra.langs.java.syntax.Statement body;
   
+  private int hashCode_;
+  
   public WhileStatement (java.util.Optional<hydra.langs.java.syntax.Expression> cond, hydra.langs.java.syntax.Statement body) {
     this.cond = cond;
     this.body = body;
@@ -14,16 +16,27 @@ public class WhileStatement {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof WhileStatement)) {
       return false;
     }
     WhileStatement o = (WhileStatement) (other);
-    return cond.equals(o.cond) && body.equals(o.body);
+    return hashCode() == o.hashCode() && cond.equals(o.cond) && body.equals(o.body);
   }
   
   @Override
   public int hashCode() {
-    return 2 * cond.hashCode() + 3 * body.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * cond.hashCode() + 3 * body.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public WhileStatement withCond(java.util.Optional<hydra.langs.java.syntax.Expression> cond) {
@@ -7,6 +7,8 @@ public class WhileStatementNoShortIf {
   
   public final hydra.langs.java.syntax.StatementNoShortIf body;
   
+  private int hashCode_;
+  
   public WhileStatementNoShortIf (java.util.Optional<hydra.langs.java.syntax.Expression> cond, hydra.langs.java.syntax.StatementNoShortIf body) {
     this.cond = cond;
     this.body = body;
@@ -14,16 +16,27 @@ public class WhileStatementNoShortIf {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof WhileStatementNoShortIf)) {
       return false;
     }
     WhileStatementNoShortIf o = (WhileStatementNoShortIf) (other);
-    return cond.equals(o.cond) && body.equals(o.body);
+    return hashCode() == o.hashCode() && cond.equals(o.cond) && body.equals(o.body);
   }
   
   @Override
   public int hashCode() {
-    return 2 * cond.hashCode() + 3 * body.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * cond.hashCode() + 3 * body.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public WhileStatementNoShortIf withCond(java.util.Optional<hydra.langs.java.syntax.Expression> cond) {
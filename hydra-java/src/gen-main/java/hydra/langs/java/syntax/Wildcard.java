@@ -7,6 +7,8 @@ public class Wildcard {
   
   public final java.util.Optional<hydra.langs.java.syntax.WildcardBounds> wildcard;
   
+  private int hashCode_;
+  
   public Wildcard (java.util.List<hydra.langs.java.syntax.Annotation> annotations, java.util.Optional<hydra.langs.java.syntax.WildcardBounds> wildcard) {
     this.annotations = annotations;
     this.wildcard = wildcard;
@@ -14,16 +16,27 @@ public class Wildcard {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Wildcard)) {
       return false;
     }
     Wildcard o = (Wildcard) (other);
-    return annotations.equals(o.annotations) && wildcard.equals(o.wildcard);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && wildcard.equals(o.wildcard);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * wildcard.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * wildcard.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Wildcard withAnnotations(java.util.List<hydra.langs.java.syntax.Annotation> annotations) {
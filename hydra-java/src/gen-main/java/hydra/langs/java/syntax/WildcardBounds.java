@@ -32,22 +32,35 @@ public abstract class WildcardBounds {
   public static final class Extends extends hydra.langs.java.syntax.WildcardBounds {
     public final hydra.langs.java.syntax.ReferenceType value;
     
+    private int hashCode_;
+    
     public Extends (hydra.langs.java.syntax.ReferenceType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Extends)) {
         return false;
       }
       Extends o = (Extends) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class WildcardBounds {
   public static final class Super extends hydra.langs.java.syntax.WildcardBounds {
     public final hydra.langs.java.syntax.ReferenceType value;
     
+    private int hashCode_;
+    
     public Super (hydra.langs.java.syntax.ReferenceType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Super)) {
         return false;
       }
       Super o = (Super) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
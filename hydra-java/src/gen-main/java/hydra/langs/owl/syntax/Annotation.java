@@ -9,6 +9,8 @@ public class Annotation {
   
   public final hydra.langs.owl.syntax.AnnotationValue value;
   
+  private int hashCode_;
+  
   public Annotation (java.util.List<hydra.langs.owl.syntax.Annotation> annotations, hydra.langs.owl.syntax.AnnotationProperty property, hydra.langs.owl.syntax.AnnotationValue value) {
     this.annotations = annotations;
     this.property = property;
@@ -17,16 +19,27 @@ public class Annotation {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Annotation)) {
       return false;
     }
     Annotation o = (Annotation) (other);
-    return annotations.equals(o.annotations) && property.equals(o.property) && value.equals(o.value);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && property.equals(o.property) && value.equals(o.value);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * property.hashCode() + 5 * value.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * property.hashCode() + 5 * value.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Annotation withAnnotations(java.util.List<hydra.langs.owl.syntax.Annotation> annotations) {
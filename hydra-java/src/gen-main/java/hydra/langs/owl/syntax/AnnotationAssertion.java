@@ -11,6 +11,8 @@ public class AnnotationAssertion {
   
   public final hydra.langs.owl.syntax.AnnotationValue value;
   
+  private int hashCode_;
+  
   public AnnotationAssertion (java.util.List<hydra.langs.owl.syntax.Annotation> annotations, hydra.langs.owl.syntax.AnnotationProperty property, hydra.langs.owl.syntax.AnnotationSubject subject, hydra.langs.owl.syntax.AnnotationValue value) {
     this.annotations = annotations;
     this.property = property;
@@ -20,16 +22,27 @@ public class AnnotationAssertion {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof AnnotationAssertion)) {
       return false;
     }
     AnnotationAssertion o = (AnnotationAssertion) (other);
-    return annotations.equals(o.annotations) && property.equals(o.property) && subject.equals(o.subject) && value.equals(o.value);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && property.equals(o.property) && subject.equals(o.subject) && value.equals(o.value);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * property.hashCode() + 5 * subject.hashCode() + 7 * value.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * property.hashCode() + 5 * subject.hashCode() + 7 * value.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public AnnotationAssertion withAnnotations(java.util.List<hydra.langs.owl.syntax.Annotation> annotations) {
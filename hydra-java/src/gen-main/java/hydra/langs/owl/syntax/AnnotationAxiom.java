@@ -44,22 +44,35 @@ public abstract class AnnotationAxiom {
   public static final class AnnotationAssertion extends hydra.langs.owl.syntax.AnnotationAxiom {
     public final hydra.langs.owl.syntax.AnnotationAssertion value;
     
+    private int hashCode_;
+    
     public AnnotationAssertion (hydra.langs.owl.syntax.AnnotationAssertion value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof AnnotationAssertion)) {
         return false;
       }
       AnnotationAssertion o = (AnnotationAssertion) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -71,22 +84,35 @@ public abstract class AnnotationAxiom {
   public static final class AnnotationPropertyDomain extends hydra.langs.owl.syntax.AnnotationAxiom {
     public final hydra.langs.owl.syntax.AnnotationPropertyDomain value;
     
+    private int hashCode_;
+    
     public AnnotationPropertyDomain (hydra.langs.owl.syntax.AnnotationPropertyDomain value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof AnnotationPropertyDomain)) {
         return false;
       }
       AnnotationPropertyDomain o = (AnnotationPropertyDomain) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -98,22 +124,35 @@ public abstract class AnnotationAxiom {
   public static final class AnnotationPropertyRange extends hydra.langs.owl.syntax.AnnotationAxiom {
     public final hydra.langs.owl.syntax.AnnotationPropertyRange value;
     
+    private int hashCode_;
+    
     public AnnotationPropertyRange (hydra.langs.owl.syntax.AnnotationPropertyRange value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof AnnotationPropertyRange)) {
         return false;
       }
       AnnotationPropertyRange o = (AnnotationPropertyRange) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -125,22 +164,35 @@ public abstract class AnnotationAxiom {
   public static final class SubAnnotationPropertyOf extends hydra.langs.owl.syntax.AnnotationAxiom {
     public final hydra.langs.owl.syntax.SubAnnotationPropertyOf value;
     
+    private int hashCode_;
+    
     public SubAnnotationPropertyOf (hydra.langs.owl.syntax.SubAnnotationPropertyOf value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof SubAnnotationPropertyOf)) {
         return false;
       }
       SubAnnotationPropertyOf o = (SubAnnotationPropertyOf) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
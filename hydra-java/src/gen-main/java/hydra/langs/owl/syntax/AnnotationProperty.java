@@ -9,6 +9,9 @@ public class AnnotationProperty {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof AnnotationProperty)) {
       return false;
     }
@@ -9,6 +9,8 @@ public class AnnotationPropertyRange {
   
   public final hydra.langs.rdf.syntax.Iri iri;
   
+  private int hashCode_;
+  
   public AnnotationPropertyRange (java.util.List<hydra.langs.owl.syntax.Annotation> annotations, hydra.langs.owl.syntax.AnnotationProperty property, hydra.langs.rdf.syntax.Iri iri) {
     this.annotations = annotations;
     this.property = property;
@@ -17,16 +19,27 @@ public class AnnotationPropertyRange {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof AnnotationPropertyRange)) {
       return false;
     }
     AnnotationPropertyRange o = (AnnotationPropertyRange) (other);
-    return annotations.equals(o.annotations) && property.equals(o.property) && iri.equals(o.iri);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && property.equals(o.property) && iri.equals(o.iri);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * property.hashCode() + 5 * iri.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * property.hashCode() + 5 * iri.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public AnnotationPropertyRange withAnnotations(java.util.List<hydra.langs.owl.syntax.Annotation> annotations) {
@@ -38,22 +38,35 @@ public abstract class AnnotationValue {
   public static final class AnonymousIndividual extends hydra.langs.owl.syntax.AnnotationValue {
     public final hydra.langs.owl.syntax.AnonymousIndividual value;
     
+    private int hashCode_;
+    
     public AnonymousIndividual (hydra.langs.owl.syntax.AnonymousIndividual value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof AnonymousIndividual)) {
         return false;
       }
       AnonymousIndividual o = (AnonymousIndividual) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class AnnotationValue {
   public static final class Iri extends hydra.langs.owl.syntax.AnnotationValue {
     public final hydra.langs.rdf.syntax.Iri value;
     
+    private int hashCode_;
+    
     public Iri (hydra.langs.rdf.syntax.Iri value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Iri)) {
         return false;
       }
       Iri o = (Iri) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +118,35 @@ public abstract class AnnotationValue {
   public static final class Literal extends hydra.langs.owl.syntax.AnnotationValue {
     public final hydra.langs.rdf.syntax.Literal value;
     
+    private int hashCode_;
+    
     public Literal (hydra.langs.rdf.syntax.Literal value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Literal)) {
         return false;
       }
       Literal o = (Literal) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -9,6 +9,9 @@ public class AnonymousIndividual {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof AnonymousIndividual)) {
       return false;
     }
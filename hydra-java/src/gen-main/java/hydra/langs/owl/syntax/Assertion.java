@@ -62,22 +62,35 @@ public abstract class Assertion {
   public static final class ClassAssertion extends hydra.langs.owl.syntax.Assertion {
     public final hydra.langs.owl.syntax.ClassAssertion value;
     
+    private int hashCode_;
+    
     public ClassAssertion (hydra.langs.owl.syntax.ClassAssertion value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ClassAssertion)) {
         return false;
       }
       ClassAssertion o = (ClassAssertion) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -89,22 +102,35 @@ public abstract class Assertion {
   public static final class DataPropertyAssertion extends hydra.langs.owl.syntax.Assertion {
     public final hydra.langs.owl.syntax.DataPropertyAssertion value;
     
+    private int hashCode_;
+    
     public DataPropertyAssertion (hydra.langs.owl.syntax.DataPropertyAssertion value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DataPropertyAssertion)) {
         return false;
       }
       DataPropertyAssertion o = (DataPropertyAssertion) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -116,22 +142,35 @@ public abstract class Assertion {
   public static final class DifferentIndividuals extends hydra.langs.owl.syntax.Assertion {
     public final hydra.langs.owl.syntax.DifferentIndividuals value;
     
+    private int hashCode_;
+    
     public DifferentIndividuals (hydra.langs.owl.syntax.DifferentIndividuals value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DifferentIndividuals)) {
         return false;
       }
       DifferentIndividuals o = (DifferentIndividuals) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -143,22 +182,35 @@ public abstract class Assertion {
   public static final class ObjectPropertyAssertion extends hydra.langs.owl.syntax.Assertion {
     public final hydra.langs.owl.syntax.ObjectPropertyAssertion value;
     
+    private int hashCode_;
+    
     public ObjectPropertyAssertion (hydra.langs.owl.syntax.ObjectPropertyAssertion value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ObjectPropertyAssertion)) {
         return false;
       }
       ObjectPropertyAssertion o = (ObjectPropertyAssertion) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -170,22 +222,35 @@ public abstract class Assertion {
   public static final class NegativeDataPropertyAssertion extends hydra.langs.owl.syntax.Assertion {
     public final hydra.langs.owl.syntax.NegativeDataPropertyAssertion value;
     
+    private int hashCode_;
+    
     public NegativeDataPropertyAssertion (hydra.langs.owl.syntax.NegativeDataPropertyAssertion value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof NegativeDataPropertyAssertion)) {
         return false;
       }
       NegativeDataPropertyAssertion o = (NegativeDataPropertyAssertion) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -197,22 +262,35 @@ public abstract class Assertion {
   public static final class NegativeObjectPropertyAssertion extends hydra.langs.owl.syntax.Assertion {
     public final hydra.langs.owl.syntax.NegativeObjectPropertyAssertion value;
     
+    private int hashCode_;
+    
     public NegativeObjectPropertyAssertion (hydra.langs.owl.syntax.NegativeObjectPropertyAssertion value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof NegativeObjectPropertyAssertion)) {
         return false;
       }
       NegativeObjectPropertyAssertion o = (NegativeObjectPropertyAssertion) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -224,22 +302,35 @@ public abstract class Assertion {
   public static final class SameIndividual extends hydra.langs.owl.syntax.Assertion {
     public final hydra.langs.owl.syntax.SameIndividual value;
     
+    private int hashCode_;
+    
     public SameIndividual (hydra.langs.owl.syntax.SameIndividual value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof SameIndividual)) {
         return false;
       }
       SameIndividual o = (SameIndividual) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -7,6 +7,8 @@ public class AsymmetricObjectProperty {
   
   public final hydra.langs.owl.syntax.ObjectPropertyExpression property;
   
+  private int hashCode_;
+  
   public AsymmetricObjectProperty (java.util.List<hydra.langs.owl.syntax.Annotation> annotations, hydra.langs.owl.syntax.ObjectPropertyExpression property) {
     this.annotations = annotations;
     this.property = property;
@@ -14,16 +16,27 @@ public class AsymmetricObjectProperty {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof AsymmetricObjectProperty)) {
       return false;
     }
     AsymmetricObjectProperty o = (AsymmetricObjectProperty) (other);
-    return annotations.equals(o.annotations) && property.equals(o.property);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && property.equals(o.property);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * property.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * property.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public AsymmetricObjectProperty withAnnotations(java.util.List<hydra.langs.owl.syntax.Annotation> annotations) {
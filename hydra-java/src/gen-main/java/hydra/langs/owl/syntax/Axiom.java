@@ -71,22 +71,35 @@ public abstract class Axiom {
   public static final class AnnotationAxiom extends hydra.langs.owl.syntax.Axiom {
     public final hydra.langs.owl.syntax.AnnotationAxiom value;
     
+    private int hashCode_;
+    
     public AnnotationAxiom (hydra.langs.owl.syntax.AnnotationAxiom value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof AnnotationAxiom)) {
         return false;
       }
       AnnotationAxiom o = (AnnotationAxiom) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -98,22 +111,35 @@ public abstract class Axiom {
   public static final class Assertion extends hydra.langs.owl.syntax.Axiom {
     public final hydra.langs.owl.syntax.Assertion value;
     
+    private int hashCode_;
+    
     public Assertion (hydra.langs.owl.syntax.Assertion value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Assertion)) {
         return false;
       }
       Assertion o = (Assertion) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -125,22 +151,35 @@ public abstract class Axiom {
   public static final class ClassAxiom extends hydra.langs.owl.syntax.Axiom {
     public final hydra.langs.owl.syntax.ClassAxiom value;
     
+    private int hashCode_;
+    
     public ClassAxiom (hydra.langs.owl.syntax.ClassAxiom value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ClassAxiom)) {
         return false;
       }
       ClassAxiom o = (ClassAxiom) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -152,22 +191,35 @@ public abstract class Axiom {
   public static final class DataPropertyAxiom extends hydra.langs.owl.syntax.Axiom {
     public final hydra.langs.owl.syntax.DataPropertyAxiom value;
     
+    private int hashCode_;
+    
     public DataPropertyAxiom (hydra.langs.owl.syntax.DataPropertyAxiom value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DataPropertyAxiom)) {
         return false;
       }
       DataPropertyAxiom o = (DataPropertyAxiom) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -179,22 +231,35 @@ public abstract class Axiom {
   public static final class DatatypeDefinition extends hydra.langs.owl.syntax.Axiom {
     public final hydra.langs.owl.syntax.DatatypeDefinition value;
     
+    private int hashCode_;
+    
     public DatatypeDefinition (hydra.langs.owl.syntax.DatatypeDefinition value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DatatypeDefinition)) {
         return false;
       }
       DatatypeDefinition o = (DatatypeDefinition) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -206,22 +271,35 @@ public abstract class Axiom {
   public static final class Declaration extends hydra.langs.owl.syntax.Axiom {
     public final hydra.langs.owl.syntax.Declaration value;
     
+    private int hashCode_;
+    
     public Declaration (hydra.langs.owl.syntax.Declaration value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Declaration)) {
         return false;
       }
       Declaration o = (Declaration) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -233,22 +311,35 @@ public abstract class Axiom {
   public static final class HasKey extends hydra.langs.owl.syntax.Axiom {
     public final hydra.langs.owl.syntax.HasKey value;
     
+    private int hashCode_;
+    
     public HasKey (hydra.langs.owl.syntax.HasKey value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof HasKey)) {
         return false;
       }
       HasKey o = (HasKey) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -260,22 +351,35 @@ public abstract class Axiom {
   public static final class ObjectPropertyAxiom extends hydra.langs.owl.syntax.Axiom {
     public final hydra.langs.owl.syntax.ObjectPropertyAxiom value;
     
+    private int hashCode_;
+    
     public ObjectPropertyAxiom (hydra.langs.owl.syntax.ObjectPropertyAxiom value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ObjectPropertyAxiom)) {
         return false;
       }
       ObjectPropertyAxiom o = (ObjectPropertyAxiom) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
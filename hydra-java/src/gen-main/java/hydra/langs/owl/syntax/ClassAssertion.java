@@ -9,6 +9,8 @@ public class ClassAssertion {
   
   public final hydra.langs.owl.syntax.Individual individual;
   
+  private int hashCode_;
+  
   public ClassAssertion (java.util.List<hydra.langs.owl.syntax.Annotation> annotations, hydra.langs.owl.syntax.ClassExpression class_, hydra.langs.owl.syntax.Individual individual) {
     this.annotations = annotations;
     this.class_ = class_;
@@ -17,16 +19,27 @@ public class ClassAssertion {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ClassAssertion)) {
       return false;
     }
     ClassAssertion o = (ClassAssertion) (other);
-    return annotations.equals(o.annotations) && class_.equals(o.class_) && individual.equals(o.individual);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && class_.equals(o.class_) && individual.equals(o.individual);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * class_.hashCode() + 5 * individual.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * class_.hashCode() + 5 * individual.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ClassAssertion withAnnotations(java.util.List<hydra.langs.owl.syntax.Annotation> annotations) {
@@ -44,22 +44,35 @@ public abstract class ClassAxiom {
   public static final class DisjointClasses extends hydra.langs.owl.syntax.ClassAxiom {
     public final hydra.langs.owl.syntax.DisjointClasses value;
     
+    private int hashCode_;
+    
     public DisjointClasses (hydra.langs.owl.syntax.DisjointClasses value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DisjointClasses)) {
         return false;
       }
       DisjointClasses o = (DisjointClasses) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -71,22 +84,35 @@ public abstract class ClassAxiom {
   public static final class DisjointUnion extends hydra.langs.owl.syntax.ClassAxiom {
     public final hydra.langs.owl.syntax.DisjointUnion value;
     
+    private int hashCode_;
+    
     public DisjointUnion (hydra.langs.owl.syntax.DisjointUnion value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DisjointUnion)) {
         return false;
       }
       DisjointUnion o = (DisjointUnion) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -98,22 +124,35 @@ public abstract class ClassAxiom {
   public static final class EquivalentClasses extends hydra.langs.owl.syntax.ClassAxiom {
     public final hydra.langs.owl.syntax.EquivalentClasses value;
     
+    private int hashCode_;
+    
     public EquivalentClasses (hydra.langs.owl.syntax.EquivalentClasses value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof EquivalentClasses)) {
         return false;
       }
       EquivalentClasses o = (EquivalentClasses) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -125,22 +164,35 @@ public abstract class ClassAxiom {
   public static final class SubClassOf extends hydra.langs.owl.syntax.ClassAxiom {
     public final hydra.langs.owl.syntax.SubClassOf value;
     
+    private int hashCode_;
+    
     public SubClassOf (hydra.langs.owl.syntax.SubClassOf value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof SubClassOf)) {
         return false;
       }
       SubClassOf o = (SubClassOf) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
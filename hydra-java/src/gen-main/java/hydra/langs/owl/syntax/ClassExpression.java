@@ -122,22 +122,35 @@ public abstract class ClassExpression {
   public static final class Class_ extends hydra.langs.owl.syntax.ClassExpression {
     public final hydra.langs.owl.syntax.Class_ value;
     
+    private int hashCode_;
+    
     public Class_ (hydra.langs.owl.syntax.Class_ value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Class_)) {
         return false;
       }
       Class_ o = (Class_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -149,22 +162,35 @@ public abstract class ClassExpression {
   public static final class DataSomeValuesFrom extends hydra.langs.owl.syntax.ClassExpression {
     public final hydra.langs.owl.syntax.DataSomeValuesFrom value;
     
+    private int hashCode_;
+    
     public DataSomeValuesFrom (hydra.langs.owl.syntax.DataSomeValuesFrom value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DataSomeValuesFrom)) {
         return false;
       }
       DataSomeValuesFrom o = (DataSomeValuesFrom) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -176,22 +202,35 @@ public abstract class ClassExpression {
   public static final class DataAllValuesFrom extends hydra.langs.owl.syntax.ClassExpression {
     public final hydra.langs.owl.syntax.DataAllValuesFrom value;
     
+    private int hashCode_;
+    
     public DataAllValuesFrom (hydra.langs.owl.syntax.DataAllValuesFrom value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DataAllValuesFrom)) {
         return false;
       }
       DataAllValuesFrom o = (DataAllValuesFrom) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -203,22 +242,35 @@ public abstract class ClassExpression {
   public static final class DataHasValue extends hydra.langs.owl.syntax.ClassExpression {
     public final hydra.langs.owl.syntax.DataHasValue value;
     
+    private int hashCode_;
+    
     public DataHasValue (hydra.langs.owl.syntax.DataHasValue value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DataHasValue)) {
         return false;
       }
       DataHasValue o = (DataHasValue) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -230,22 +282,35 @@ public abstract class ClassExpression {
   public static final class DataMinCardinality extends hydra.langs.owl.syntax.ClassExpression {
     public final hydra.langs.owl.syntax.DataMinCardinality value;
     
+    private int hashCode_;
+    
     public DataMinCardinality (hydra.langs.owl.syntax.DataMinCardinality value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DataMinCardinality)) {
         return false;
       }
       DataMinCardinality o = (DataMinCardinality) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -257,22 +322,35 @@ public abstract class ClassExpression {
   public static final class DataMaxCardinality extends hydra.langs.owl.syntax.ClassExpression {
     public final hydra.langs.owl.syntax.DataMaxCardinality value;
     
+    private int hashCode_;
+    
     public DataMaxCardinality (hydra.langs.owl.syntax.DataMaxCardinality value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DataMaxCardinality)) {
         return false;
       }
       DataMaxCardinality o = (DataMaxCardinality) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -284,22 +362,35 @@ public abstract class ClassExpression {
   public static final class DataExactCardinality extends hydra.langs.owl.syntax.ClassExpression {
     public final hydra.langs.owl.syntax.DataExactCardinality value;
     
+    private int hashCode_;
+    
     public DataExactCardinality (hydra.langs.owl.syntax.DataExactCardinality value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DataExactCardinality)) {
         return false;
       }
       DataExactCardinality o = (DataExactCardinality) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -311,22 +402,35 @@ public abstract class ClassExpression {
   public static final class ObjectAllValuesFrom extends hydra.langs.owl.syntax.ClassExpression {
     public final hydra.langs.owl.syntax.ObjectAllValuesFrom value;
     
+    private int hashCode_;
+    
     public ObjectAllValuesFrom (hydra.langs.owl.syntax.ObjectAllValuesFrom value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ObjectAllValuesFrom)) {
         return false;
       }
       ObjectAllValuesFrom o = (ObjectAllValuesFrom) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -338,22 +442,35 @@ public abstract class ClassExpression {
   public static final class ObjectExactCardinality extends hydra.langs.owl.syntax.ClassExpression {
     public final hydra.langs.owl.syntax.ObjectExactCardinality value;
     
+    private int hashCode_;
+    
     public ObjectExactCardinality (hydra.langs.owl.syntax.ObjectExactCardinality value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ObjectExactCardinality)) {
         return false;
       }
       ObjectExactCardinality o = (ObjectExactCardinality) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -365,22 +482,35 @@ public abstract class ClassExpression {
   public static final class ObjectHasSelf extends hydra.langs.owl.syntax.ClassExpression {
     public final hydra.langs.owl.syntax.ObjectHasSelf value;
     
+    private int hashCode_;
+    
     public ObjectHasSelf (hydra.langs.owl.syntax.ObjectHasSelf value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ObjectHasSelf)) {
         return false;
       }
       ObjectHasSelf o = (ObjectHasSelf) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -392,22 +522,35 @@ public abstract class ClassExpression {
   public static final class ObjectHasValue extends hydra.langs.owl.syntax.ClassExpression {
     public final hydra.langs.owl.syntax.ObjectHasValue value;
     
+    private int hashCode_;
+    
     public ObjectHasValue (hydra.langs.owl.syntax.ObjectHasValue value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ObjectHasValue)) {
         return false;
       }
       ObjectHasValue o = (ObjectHasValue) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -419,22 +562,35 @@ public abstract class ClassExpression {
   public static final class ObjectIntersectionOf extends hydra.langs.owl.syntax.ClassExpression {
     public final hydra.langs.owl.syntax.ObjectIntersectionOf value;
     
+    private int hashCode_;
+    
     public ObjectIntersectionOf (hydra.langs.owl.syntax.ObjectIntersectionOf value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ObjectIntersectionOf)) {
         return false;
       }
       ObjectIntersectionOf o = (ObjectIntersectionOf) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -446,22 +602,35 @@ public abstract class ClassExpression {
   public static final class ObjectMaxCardinality extends hydra.langs.owl.syntax.ClassExpression {
     public final hydra.langs.owl.syntax.ObjectMaxCardinality value;
     
+    private int hashCode_;
+    
     public ObjectMaxCardinality (hydra.langs.owl.syntax.ObjectMaxCardinality value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ObjectMaxCardinality)) {
         return false;
       }
       ObjectMaxCardinality o = (ObjectMaxCardinality) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -473,22 +642,35 @@ public abstract class ClassExpression {
   public static final class ObjectMinCardinality extends hydra.langs.owl.syntax.ClassExpression {
     public final hydra.langs.owl.syntax.ObjectMinCardinality value;
     
+    private int hashCode_;
+    
     public ObjectMinCardinality (hydra.langs.owl.syntax.ObjectMinCardinality value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ObjectMinCardinality)) {
         return false;
       }
       ObjectMinCardinality o = (ObjectMinCardinality) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -500,22 +682,35 @@ public abstract class ClassExpression {
   public static final class ObjectOneOf extends hydra.langs.owl.syntax.ClassExpression {
     public final hydra.langs.owl.syntax.ObjectOneOf value;
     
+    private int hashCode_;
+    
     public ObjectOneOf (hydra.langs.owl.syntax.ObjectOneOf value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ObjectOneOf)) {
         return false;
       }
       ObjectOneOf o = (ObjectOneOf) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -527,22 +722,35 @@ public abstract class ClassExpression {
   public static final class ObjectSomeValuesFrom extends hydra.langs.owl.syntax.ClassExpression {
     public final hydra.langs.owl.syntax.ObjectSomeValuesFrom value;
     
+    private int hashCode_;
+    
     public ObjectSomeValuesFrom (hydra.langs.owl.syntax.ObjectSomeValuesFrom value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ObjectSomeValuesFrom)) {
         return false;
       }
       ObjectSomeValuesFrom o = (ObjectSomeValuesFrom) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -554,22 +762,35 @@ public abstract class ClassExpression {
   public static final class ObjectUnionOf extends hydra.langs.owl.syntax.ClassExpression {
     public final hydra.langs.owl.syntax.ObjectUnionOf value;
     
+    private int hashCode_;
+    
     public ObjectUnionOf (hydra.langs.owl.syntax.ObjectUnionOf value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ObjectUnionOf)) {
         return false;
       }
       ObjectUnionOf o = (ObjectUnionOf) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
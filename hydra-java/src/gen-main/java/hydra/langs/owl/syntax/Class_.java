@@ -12,6 +12,9 @@ public class Class_ {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Class_)) {
       return false;
     }
@@ -7,6 +7,8 @@ public class DataHasValue {
   
   public final hydra.langs.rdf.syntax.Literal value;
   
+  private int hashCode_;
+  
   public DataHasValue (hydra.langs.owl.syntax.DataPropertyExpression property, hydra.langs.rdf.syntax.Literal value) {
     this.property = property;
     this.value = value;
@@ -14,16 +16,27 @@ public class DataHasValue {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DataHasValue)) {
       return false;
     }
     DataHasValue o = (DataHasValue) (other);
-    return property.equals(o.property) && value.equals(o.value);
+    return hashCode() == o.hashCode() && property.equals(o.property) && value.equals(o.value);
   }
   
   @Override
   public int hashCode() {
-    return 2 * property.hashCode() + 3 * value.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * property.hashCode() + 3 * value.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public DataHasValue withProperty(hydra.langs.owl.syntax.DataPropertyExpression property) {
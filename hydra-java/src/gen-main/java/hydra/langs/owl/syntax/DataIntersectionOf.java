@@ -11,21 +11,34 @@ public class DataIntersectionOf {
    */
   public final java.util.List<hydra.langs.owl.syntax.DataRange> value;
   
+  private int hashCode_;
+  
   public DataIntersectionOf (java.util.List<hydra.langs.owl.syntax.DataRange> value) {
     this.value = value;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DataIntersectionOf)) {
       return false;
     }
     DataIntersectionOf o = (DataIntersectionOf) (other);
-    return value.equals(o.value);
+    return hashCode() == o.hashCode() && value.equals(o.value);
   }
   
   @Override
   public int hashCode() {
-    return 2 * value.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * value.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
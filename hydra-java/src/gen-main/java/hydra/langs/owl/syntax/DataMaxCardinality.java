@@ -9,6 +9,8 @@ public class DataMaxCardinality {
   
   public final java.util.List<hydra.langs.owl.syntax.DataRange> range;
   
+  private int hashCode_;
+  
   public DataMaxCardinality (java.math.BigInteger bound, hydra.langs.owl.syntax.DataPropertyExpression property, java.util.List<hydra.langs.owl.syntax.DataRange> range) {
     this.bound = bound;
     this.property = property;
@@ -17,16 +19,27 @@ public class DataMaxCardinality {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DataMaxCardinality)) {
       return false;
     }
     DataMaxCardinality o = (DataMaxCardinality) (other);
-    return bound.equals(o.bound) && property.equals(o.property) && range.equals(o.range);
+    return hashCode() == o.hashCode() && bound.equals(o.bound) && property.equals(o.property) && range.equals(o.range);
   }
   
   @Override
   public int hashCode() {
-    return 2 * bound.hashCode() + 3 * property.hashCode() + 5 * range.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * bound.hashCode() + 3 * property.hashCode() + 5 * range.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public DataMaxCardinality withBound(java.math.BigInteger bound) {
@@ -9,6 +9,9 @@ public class DataProperty {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DataProperty)) {
       return false;
     }
@@ -56,22 +56,35 @@ public abstract class DataPropertyAxiom {
   public static final class DataPropertyAxiom_ extends hydra.langs.owl.syntax.DataPropertyAxiom {
     public final hydra.langs.owl.syntax.DataPropertyAxiom value;
     
+    private int hashCode_;
+    
     public DataPropertyAxiom_ (hydra.langs.owl.syntax.DataPropertyAxiom value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DataPropertyAxiom_)) {
         return false;
       }
       DataPropertyAxiom_ o = (DataPropertyAxiom_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -83,22 +96,35 @@ public abstract class DataPropertyAxiom {
   public static final class DataPropertyRange extends hydra.langs.owl.syntax.DataPropertyAxiom {
     public final hydra.langs.owl.syntax.DataPropertyRange value;
     
+    private int hashCode_;
+    
     public DataPropertyRange (hydra.langs.owl.syntax.DataPropertyRange value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DataPropertyRange)) {
         return false;
       }
       DataPropertyRange o = (DataPropertyRange) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -110,22 +136,35 @@ public abstract class DataPropertyAxiom {
   public static final class DisjointDataProperties extends hydra.langs.owl.syntax.DataPropertyAxiom {
     public final hydra.langs.owl.syntax.DisjointDataProperties value;
     
+    private int hashCode_;
+    
     public DisjointDataProperties (hydra.langs.owl.syntax.DisjointDataProperties value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DisjointDataProperties)) {
         return false;
       }
       DisjointDataProperties o = (DisjointDataProperties) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -137,22 +176,35 @@ public abstract class DataPropertyAxiom {
   public static final class EquivalentDataProperties extends hydra.langs.owl.syntax.DataPropertyAxiom {
     public final hydra.langs.owl.syntax.EquivalentDataProperties value;
     
+    private int hashCode_;
+    
     public EquivalentDataProperties (hydra.langs.owl.syntax.EquivalentDataProperties value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof EquivalentDataProperties)) {
         return false;
       }
       EquivalentDataProperties o = (EquivalentDataProperties) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -164,22 +216,35 @@ public abstract class DataPropertyAxiom {
   public static final class FunctionalDataProperty extends hydra.langs.owl.syntax.DataPropertyAxiom {
     public final hydra.langs.owl.syntax.FunctionalDataProperty value;
     
+    private int hashCode_;
+    
     public FunctionalDataProperty (hydra.langs.owl.syntax.FunctionalDataProperty value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof FunctionalDataProperty)) {
         return false;
       }
       FunctionalDataProperty o = (FunctionalDataProperty) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -191,22 +256,35 @@ public abstract class DataPropertyAxiom {
   public static final class SubDataPropertyOf extends hydra.langs.owl.syntax.DataPropertyAxiom {
     public final hydra.langs.owl.syntax.SubDataPropertyOf value;
     
+    private int hashCode_;
+    
     public SubDataPropertyOf (hydra.langs.owl.syntax.SubDataPropertyOf value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof SubDataPropertyOf)) {
         return false;
       }
       SubDataPropertyOf o = (SubDataPropertyOf) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
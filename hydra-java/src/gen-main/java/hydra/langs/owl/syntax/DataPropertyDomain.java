@@ -9,6 +9,8 @@ public class DataPropertyDomain {
   
   public final hydra.langs.owl.syntax.ClassExpression domain;
   
+  private int hashCode_;
+  
   public DataPropertyDomain (java.util.List<hydra.langs.owl.syntax.Annotation> annotations, hydra.langs.owl.syntax.DataPropertyExpression property, hydra.langs.owl.syntax.ClassExpression domain) {
     this.annotations = annotations;
     this.property = property;
@@ -17,16 +19,27 @@ public class DataPropertyDomain {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DataPropertyDomain)) {
       return false;
     }
     DataPropertyDomain o = (DataPropertyDomain) (other);
-    return annotations.equals(o.annotations) && property.equals(o.property) && domain.equals(o.domain);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && property.equals(o.property) && domain.equals(o.domain);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * property.hashCode() + 5 * domain.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * property.hashCode() + 5 * domain.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public DataPropertyDomain withAnnotations(java.util.List<hydra.langs.owl.syntax.Annotation> annotations) {
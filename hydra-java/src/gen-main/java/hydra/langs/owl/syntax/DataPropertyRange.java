@@ -9,6 +9,8 @@ public class DataPropertyRange {
   
   public final hydra.langs.owl.syntax.ClassExpression range;
   
+  private int hashCode_;
+  
   public DataPropertyRange (java.util.List<hydra.langs.owl.syntax.Annotation> annotations, hydra.langs.owl.syntax.DataPropertyExpression property, hydra.langs.owl.syntax.ClassExpression range) {
     this.annotations = annotations;
     this.property = property;
@@ -17,16 +19,27 @@ public class DataPropertyRange {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DataPropertyRange)) {
       return false;
     }
     DataPropertyRange o = (DataPropertyRange) (other);
-    return annotations.equals(o.annotations) && property.equals(o.property) && range.equals(o.range);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && property.equals(o.property) && range.equals(o.range);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * property.hashCode() + 5 * range.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * property.hashCode() + 5 * range.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public DataPropertyRange withAnnotations(java.util.List<hydra.langs.owl.syntax.Annotation> annotations) {
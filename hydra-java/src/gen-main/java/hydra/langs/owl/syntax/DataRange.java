@@ -59,22 +59,35 @@ public abstract class DataRange {
   public static final class DataComplementOf extends hydra.langs.owl.syntax.DataRange {
     public final hydra.langs.owl.syntax.DataComplementOf value;
     
+    private int hashCode_;
+    
     public DataComplementOf (hydra.langs.owl.syntax.DataComplementOf value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DataComplementOf)) {
         return false;
       }
       DataComplementOf o = (DataComplementOf) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -86,22 +99,35 @@ public abstract class DataRange {
   public static final class DataIntersectionOf extends hydra.langs.owl.syntax.DataRange {
     public final hydra.langs.owl.syntax.DataIntersectionOf value;
     
+    private int hashCode_;
+    
     public DataIntersectionOf (hydra.langs.owl.syntax.DataIntersectionOf value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DataIntersectionOf)) {
         return false;
       }
       DataIntersectionOf o = (DataIntersectionOf) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -113,22 +139,35 @@ public abstract class DataRange {
   public static final class DataOneOf extends hydra.langs.owl.syntax.DataRange {
     public final hydra.langs.owl.syntax.DataOneOf value;
     
+    private int hashCode_;
+    
     public DataOneOf (hydra.langs.owl.syntax.DataOneOf value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DataOneOf)) {
         return false;
       }
       DataOneOf o = (DataOneOf) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -140,22 +179,35 @@ public abstract class DataRange {
   public static final class DataUnionOf extends hydra.langs.owl.syntax.DataRange {
     public final hydra.langs.owl.syntax.DataUnionOf value;
     
+    private int hashCode_;
+    
     public DataUnionOf (hydra.langs.owl.syntax.DataUnionOf value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DataUnionOf)) {
         return false;
       }
       DataUnionOf o = (DataUnionOf) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -167,22 +219,35 @@ public abstract class DataRange {
   public static final class Datatype extends hydra.langs.owl.syntax.DataRange {
     public final hydra.langs.owl.syntax.Datatype value;
     
+    private int hashCode_;
+    
     public Datatype (hydra.langs.owl.syntax.Datatype value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Datatype)) {
         return false;
       }
       Datatype o = (Datatype) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -194,22 +259,35 @@ public abstract class DataRange {
   public static final class DatatypeRestriction extends hydra.langs.owl.syntax.DataRange {
     public final hydra.langs.owl.syntax.DatatypeRestriction value;
     
+    private int hashCode_;
+    
     public DatatypeRestriction (hydra.langs.owl.syntax.DatatypeRestriction value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DatatypeRestriction)) {
         return false;
       }
       DatatypeRestriction o = (DatatypeRestriction) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
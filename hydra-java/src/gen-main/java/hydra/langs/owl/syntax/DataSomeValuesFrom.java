@@ -7,6 +7,8 @@ public class DataSomeValuesFrom {
   
   public final hydra.langs.owl.syntax.DataRange range;
   
+  private int hashCode_;
+  
   public DataSomeValuesFrom (java.util.List<hydra.langs.owl.syntax.DataPropertyExpression> property, hydra.langs.owl.syntax.DataRange range) {
     this.property = property;
     this.range = range;
@@ -14,16 +16,27 @@ public class DataSomeValuesFrom {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DataSomeValuesFrom)) {
       return false;
     }
     DataSomeValuesFrom o = (DataSomeValuesFrom) (other);
-    return property.equals(o.property) && range.equals(o.range);
+    return hashCode() == o.hashCode() && property.equals(o.property) && range.equals(o.range);
   }
   
   @Override
   public int hashCode() {
-    return 2 * property.hashCode() + 3 * range.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * property.hashCode() + 3 * range.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public DataSomeValuesFrom withProperty(java.util.List<hydra.langs.owl.syntax.DataPropertyExpression> property) {
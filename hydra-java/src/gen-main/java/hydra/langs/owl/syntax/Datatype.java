@@ -41,22 +41,35 @@ public abstract class Datatype {
      */
     public final hydra.langs.xml.schema.Datatype value;
     
+    private int hashCode_;
+    
     public XmlSchema (hydra.langs.xml.schema.Datatype value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof XmlSchema)) {
         return false;
       }
       XmlSchema o = (XmlSchema) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -68,22 +81,35 @@ public abstract class Datatype {
   public static final class Other extends hydra.langs.owl.syntax.Datatype {
     public final hydra.langs.rdf.syntax.Iri value;
     
+    private int hashCode_;
+    
     public Other (hydra.langs.rdf.syntax.Iri value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Other)) {
         return false;
       }
       Other o = (Other) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -9,6 +9,8 @@ public class DatatypeDefinition {
   
   public final hydra.langs.owl.syntax.DataRange range;
   
+  private int hashCode_;
+  
   public DatatypeDefinition (java.util.List<hydra.langs.owl.syntax.Annotation> annotations, hydra.langs.owl.syntax.Datatype datatype, hydra.langs.owl.syntax.DataRange range) {
     this.annotations = annotations;
     this.datatype = datatype;
@@ -17,16 +19,27 @@ public class DatatypeDefinition {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DatatypeDefinition)) {
       return false;
     }
     DatatypeDefinition o = (DatatypeDefinition) (other);
-    return annotations.equals(o.annotations) && datatype.equals(o.datatype) && range.equals(o.range);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && datatype.equals(o.datatype) && range.equals(o.range);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * datatype.hashCode() + 5 * range.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * datatype.hashCode() + 5 * range.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public DatatypeDefinition withAnnotations(java.util.List<hydra.langs.owl.syntax.Annotation> annotations) {
@@ -10,6 +10,8 @@ public class DatatypeRestriction {
   
   public final java.util.List<hydra.langs.owl.syntax.DatatypeRestriction_Constraint> constraints;
   
+  private int hashCode_;
+  
   public DatatypeRestriction (hydra.langs.owl.syntax.Datatype datatype, java.util.List<hydra.langs.owl.syntax.DatatypeRestriction_Constraint> constraints) {
     this.datatype = datatype;
     this.constraints = constraints;
@@ -17,16 +19,27 @@ public class DatatypeRestriction {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DatatypeRestriction)) {
       return false;
     }
     DatatypeRestriction o = (DatatypeRestriction) (other);
-    return datatype.equals(o.datatype) && constraints.equals(o.constraints);
+    return hashCode() == o.hashCode() && datatype.equals(o.datatype) && constraints.equals(o.constraints);
   }
   
   @Override
   public int hashCode() {
-    return 2 * datatype.hashCode() + 3 * constraints.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * datatype.hashCode() + 3 * constraints.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public DatatypeRestriction withDatatype(hydra.langs.owl.syntax.Datatype datatype) {
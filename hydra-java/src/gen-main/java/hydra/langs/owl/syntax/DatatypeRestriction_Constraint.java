@@ -7,6 +7,8 @@ public class DatatypeRestriction_Constraint {
   
   public final hydra.langs.rdf.syntax.Literal restrictionValue;
   
+  private int hashCode_;
+  
   public DatatypeRestriction_Constraint (hydra.langs.owl.syntax.DatatypeRestriction_ConstrainingFacet constrainingFacet, hydra.langs.rdf.syntax.Literal restrictionValue) {
     this.constrainingFacet = constrainingFacet;
     this.restrictionValue = restrictionValue;
@@ -14,16 +16,27 @@ public class DatatypeRestriction_Constraint {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DatatypeRestriction_Constraint)) {
       return false;
     }
     DatatypeRestriction_Constraint o = (DatatypeRestriction_Constraint) (other);
-    return constrainingFacet.equals(o.constrainingFacet) && restrictionValue.equals(o.restrictionValue);
+    return hashCode() == o.hashCode() && constrainingFacet.equals(o.constrainingFacet) && restrictionValue.equals(o.restrictionValue);
   }
   
   @Override
   public int hashCode() {
-    return 2 * constrainingFacet.hashCode() + 3 * restrictionValue.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * constrainingFacet.hashCode() + 3 * restrictionValue.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public DatatypeRestriction_Constraint withConstrainingFacet(hydra.langs.owl.syntax.DatatypeRestriction_ConstrainingFacet constrainingFacet) {
@@ -7,6 +7,8 @@ public class Declaration {
   
   public final hydra.langs.owl.syntax.Entity entity;
   
+  private int hashCode_;
+  
   public Declaration (java.util.List<hydra.langs.owl.syntax.Annotation> annotations, hydra.langs.owl.syntax.Entity entity) {
     this.annotations = annotations;
     this.entity = entity;
@@ -14,16 +16,27 @@ public class Declaration {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Declaration)) {
       return false;
     }
     Declaration o = (Declaration) (other);
-    return annotations.equals(o.annotations) && entity.equals(o.entity);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && entity.equals(o.entity);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * entity.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * entity.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Declaration withAnnotations(java.util.List<hydra.langs.owl.syntax.Annotation> annotations) {
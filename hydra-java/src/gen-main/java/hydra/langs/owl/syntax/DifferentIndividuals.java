@@ -7,6 +7,8 @@ public class DifferentIndividuals {
   
   public final java.util.List<hydra.langs.owl.syntax.Individual> individuals;
   
+  private int hashCode_;
+  
   public DifferentIndividuals (java.util.List<hydra.langs.owl.syntax.Annotation> annotations, java.util.List<hydra.langs.owl.syntax.Individual> individuals) {
     this.annotations = annotations;
     this.individuals = individuals;
@@ -14,16 +16,27 @@ public class DifferentIndividuals {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DifferentIndividuals)) {
       return false;
     }
     DifferentIndividuals o = (DifferentIndividuals) (other);
-    return annotations.equals(o.annotations) && individuals.equals(o.individuals);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && individuals.equals(o.individuals);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * individuals.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * individuals.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public DifferentIndividuals withAnnotations(java.util.List<hydra.langs.owl.syntax.Annotation> annotations) {
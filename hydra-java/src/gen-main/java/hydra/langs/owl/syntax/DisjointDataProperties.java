@@ -7,6 +7,8 @@ public class DisjointDataProperties {
   
   public final java.util.List<hydra.langs.owl.syntax.DataPropertyExpression> properties;
   
+  private int hashCode_;
+  
   public DisjointDataProperties (java.util.List<hydra.langs.owl.syntax.Annotation> annotations, java.util.List<hydra.langs.owl.syntax.DataPropertyExpression> properties) {
     this.annotations = annotations;
     this.properties = properties;
@@ -14,16 +16,27 @@ public class DisjointDataProperties {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DisjointDataProperties)) {
       return false;
     }
     DisjointDataProperties o = (DisjointDataProperties) (other);
-    return annotations.equals(o.annotations) && properties.equals(o.properties);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && properties.equals(o.properties);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * properties.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * properties.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public DisjointDataProperties withAnnotations(java.util.List<hydra.langs.owl.syntax.Annotation> annotations) {
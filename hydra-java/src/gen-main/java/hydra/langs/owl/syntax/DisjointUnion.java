@@ -12,6 +12,8 @@ public class DisjointUnion {
   
   public final java.util.List<hydra.langs.owl.syntax.ClassExpression> classes;
   
+  private int hashCode_;
+  
   public DisjointUnion (java.util.List<hydra.langs.owl.syntax.Annotation> annotations, hydra.langs.owl.syntax.Class_ class_, java.util.List<hydra.langs.owl.syntax.ClassExpression> classes) {
     this.annotations = annotations;
     this.class_ = class_;
@@ -20,16 +22,27 @@ public class DisjointUnion {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DisjointUnion)) {
       return false;
     }
     DisjointUnion o = (DisjointUnion) (other);
-    return annotations.equals(o.annotations) && class_.equals(o.class_) && classes.equals(o.classes);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && class_.equals(o.class_) && classes.equals(o.classes);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * class_.hashCode() + 5 * classes.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * class_.hashCode() + 5 * classes.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public DisjointUnion withAnnotations(java.util.List<hydra.langs.owl.syntax.Annotation> annotations) {
@@ -56,22 +56,35 @@ public abstract class Entity {
   public static final class AnnotationProperty extends hydra.langs.owl.syntax.Entity {
     public final hydra.langs.owl.syntax.AnnotationProperty value;
     
+    private int hashCode_;
+    
     public AnnotationProperty (hydra.langs.owl.syntax.AnnotationProperty value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof AnnotationProperty)) {
         return false;
       }
       AnnotationProperty o = (AnnotationProperty) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -83,22 +96,35 @@ public abstract class Entity {
   public static final class Class_ extends hydra.langs.owl.syntax.Entity {
     public final hydra.langs.owl.syntax.Class_ value;
     
+    private int hashCode_;
+    
     public Class_ (hydra.langs.owl.syntax.Class_ value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Class_)) {
         return false;
       }
       Class_ o = (Class_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -110,22 +136,35 @@ public abstract class Entity {
   public static final class DataProperty extends hydra.langs.owl.syntax.Entity {
     public final hydra.langs.owl.syntax.DataProperty value;
     
+    private int hashCode_;
+    
     public DataProperty (hydra.langs.owl.syntax.DataProperty value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DataProperty)) {
         return false;
       }
       DataProperty o = (DataProperty) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -137,22 +176,35 @@ public abstract class Entity {
   public static final class Datatype extends hydra.langs.owl.syntax.Entity {
     public final hydra.langs.owl.syntax.Datatype value;
     
+    private int hashCode_;
+    
     public Datatype (hydra.langs.owl.syntax.Datatype value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Datatype)) {
         return false;
       }
       Datatype o = (Datatype) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -164,22 +216,35 @@ public abstract class Entity {
   public static final class NamedIndividual extends hydra.langs.owl.syntax.Entity {
     public final hydra.langs.owl.syntax.NamedIndividual value;
     
+    private int hashCode_;
+    
     public NamedIndividual (hydra.langs.owl.syntax.NamedIndividual value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof NamedIndividual)) {
         return false;
       }
       NamedIndividual o = (NamedIndividual) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -191,22 +256,35 @@ public abstract class Entity {
   public static final class ObjectProperty extends hydra.langs.owl.syntax.Entity {
     public final hydra.langs.owl.syntax.ObjectProperty value;
     
+    private int hashCode_;
+    
     public ObjectProperty (hydra.langs.owl.syntax.ObjectProperty value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ObjectProperty)) {
         return false;
       }
       ObjectProperty o = (ObjectProperty) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
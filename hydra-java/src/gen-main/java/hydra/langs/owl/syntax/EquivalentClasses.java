@@ -7,6 +7,8 @@ public class EquivalentClasses {
   
   public final java.util.List<hydra.langs.owl.syntax.ClassExpression> classes;
   
+  private int hashCode_;
+  
   public EquivalentClasses (java.util.List<hydra.langs.owl.syntax.Annotation> annotations, java.util.List<hydra.langs.owl.syntax.ClassExpression> classes) {
     this.annotations = annotations;
     this.classes = classes;
@@ -14,16 +16,27 @@ public class EquivalentClasses {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof EquivalentClasses)) {
       return false;
     }
     EquivalentClasses o = (EquivalentClasses) (other);
-    return annotations.equals(o.annotations) && classes.equals(o.classes);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && classes.equals(o.classes);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * classes.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * classes.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public EquivalentClasses withAnnotations(java.util.List<hydra.langs.owl.syntax.Annotation> annotations) {
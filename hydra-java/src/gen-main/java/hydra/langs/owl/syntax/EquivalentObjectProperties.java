@@ -7,6 +7,8 @@ public class EquivalentObjectProperties {
   
   public final java.util.List<hydra.langs.owl.syntax.ObjectPropertyExpression> properties;
   
+  private int hashCode_;
+  
   public EquivalentObjectProperties (java.util.List<hydra.langs.owl.syntax.Annotation> annotations, java.util.List<hydra.langs.owl.syntax.ObjectPropertyExpression> properties) {
     this.annotations = annotations;
     this.properties = properties;
@@ -14,16 +16,27 @@ public class EquivalentObjectProperties {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof EquivalentObjectProperties)) {
       return false;
     }
     EquivalentObjectProperties o = (EquivalentObjectProperties) (other);
-    return annotations.equals(o.annotations) && properties.equals(o.properties);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && properties.equals(o.properties);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * properties.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * properties.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public EquivalentObjectProperties withAnnotations(java.util.List<hydra.langs.owl.syntax.Annotation> annotations) {
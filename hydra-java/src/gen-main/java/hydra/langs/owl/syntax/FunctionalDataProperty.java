@@ -7,6 +7,8 @@ public class FunctionalDataProperty {
   
   public final hydra.langs.owl.syntax.DataPropertyExpression property;
   
+  private int hashCode_;
+  
   public FunctionalDataProperty (java.util.List<hydra.langs.owl.syntax.Annotation> annotations, hydra.langs.owl.syntax.DataPropertyExpression property) {
     this.annotations = annotations;
     this.property = property;
@@ -14,16 +16,27 @@ public class FunctionalDataProperty {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof FunctionalDataProperty)) {
       return false;
     }
     FunctionalDataProperty o = (FunctionalDataProperty) (other);
-    return annotations.equals(o.annotations) && property.equals(o.property);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && property.equals(o.property);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * property.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * property.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public FunctionalDataProperty withAnnotations(java.util.List<hydra.langs.owl.syntax.Annotation> annotations) {
@@ -14,6 +14,8 @@ public class HasKey {
   
   public final java.util.List<hydra.langs.owl.syntax.DataPropertyExpression> dataProperties;
   
+  private int hashCode_;
+  
   public HasKey (java.util.List<hydra.langs.owl.syntax.Annotation> annotations, hydra.langs.owl.syntax.ClassExpression class_, java.util.List<hydra.langs.owl.syntax.ObjectPropertyExpression> objectProperties, java.util.List<hydra.langs.owl.syntax.DataPropertyExpression> dataProperties) {
     this.annotations = annotations;
     this.class_ = class_;
@@ -23,16 +25,27 @@ public class HasKey {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof HasKey)) {
       return false;
     }
     HasKey o = (HasKey) (other);
-    return annotations.equals(o.annotations) && class_.equals(o.class_) && objectProperties.equals(o.objectProperties) && dataProperties.equals(o.dataProperties);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && class_.equals(o.class_) && objectProperties.equals(o.objectProperties) && dataProperties.equals(o.dataProperties);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * class_.hashCode() + 5 * objectProperties.hashCode() + 7 * dataProperties.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * class_.hashCode() + 5 * objectProperties.hashCode() + 7 * dataProperties.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public HasKey withAnnotations(java.util.List<hydra.langs.owl.syntax.Annotation> annotations) {
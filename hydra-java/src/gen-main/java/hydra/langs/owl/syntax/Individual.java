@@ -32,22 +32,35 @@ public abstract class Individual {
   public static final class Named extends hydra.langs.owl.syntax.Individual {
     public final hydra.langs.owl.syntax.NamedIndividual value;
     
+    private int hashCode_;
+    
     public Named (hydra.langs.owl.syntax.NamedIndividual value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Named)) {
         return false;
       }
       Named o = (Named) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class Individual {
   public static final class Anonymous extends hydra.langs.owl.syntax.Individual {
     public final hydra.langs.owl.syntax.AnonymousIndividual value;
     
+    private int hashCode_;
+    
     public Anonymous (hydra.langs.owl.syntax.AnonymousIndividual value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Anonymous)) {
         return false;
       }
       Anonymous o = (Anonymous) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -7,6 +7,8 @@ public class InverseFunctionalObjectProperty {
   
   public final hydra.langs.owl.syntax.ObjectPropertyExpression property;
   
+  private int hashCode_;
+  
   public InverseFunctionalObjectProperty (java.util.List<hydra.langs.owl.syntax.Annotation> annotations, hydra.langs.owl.syntax.ObjectPropertyExpression property) {
     this.annotations = annotations;
     this.property = property;
@@ -14,16 +16,27 @@ public class InverseFunctionalObjectProperty {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof InverseFunctionalObjectProperty)) {
       return false;
     }
     InverseFunctionalObjectProperty o = (InverseFunctionalObjectProperty) (other);
-    return annotations.equals(o.annotations) && property.equals(o.property);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && property.equals(o.property);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * property.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * property.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public InverseFunctionalObjectProperty withAnnotations(java.util.List<hydra.langs.owl.syntax.Annotation> annotations) {
@@ -9,6 +9,8 @@ public class InverseObjectProperties {
   
   public final hydra.langs.owl.syntax.ObjectPropertyExpression property2;
   
+  private int hashCode_;
+  
   public InverseObjectProperties (java.util.List<hydra.langs.owl.syntax.Annotation> annotations, hydra.langs.owl.syntax.ObjectPropertyExpression property1, hydra.langs.owl.syntax.ObjectPropertyExpression property2) {
     this.annotations = annotations;
     this.property1 = property1;
@@ -17,16 +19,27 @@ public class InverseObjectProperties {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof InverseObjectProperties)) {
       return false;
     }
     InverseObjectProperties o = (InverseObjectProperties) (other);
-    return annotations.equals(o.annotations) && property1.equals(o.property1) && property2.equals(o.property2);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && property1.equals(o.property1) && property2.equals(o.property2);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * property1.hashCode() + 5 * property2.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * property1.hashCode() + 5 * property2.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public InverseObjectProperties withAnnotations(java.util.List<hydra.langs.owl.syntax.Annotation> annotations) {
@@ -9,6 +9,9 @@ public class NamedIndividual {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof NamedIndividual)) {
       return false;
     }
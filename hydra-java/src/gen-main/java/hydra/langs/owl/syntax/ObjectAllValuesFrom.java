@@ -7,6 +7,8 @@ public class ObjectAllValuesFrom {
   
   public final hydra.langs.owl.syntax.ClassExpression class_;
   
+  private int hashCode_;
+  
   public ObjectAllValuesFrom (hydra.langs.owl.syntax.ObjectPropertyExpression property, hydra.langs.owl.syntax.ClassExpression class_) {
     this.property = property;
     this.class_ = class_;
@@ -14,16 +16,27 @@ public class ObjectAllValuesFrom {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ObjectAllValuesFrom)) {
       return false;
     }
     ObjectAllValuesFrom o = (ObjectAllValuesFrom) (other);
-    return property.equals(o.property) && class_.equals(o.class_);
+    return hashCode() == o.hashCode() && property.equals(o.property) && class_.equals(o.class_);
   }
   
   @Override
   public int hashCode() {
-    return 2 * property.hashCode() + 3 * class_.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * property.hashCode() + 3 * class_.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ObjectAllValuesFrom withProperty(hydra.langs.owl.syntax.ObjectPropertyExpression property) {
@@ -7,6 +7,8 @@ public class ObjectHasValue {
   
   public final hydra.langs.owl.syntax.Individual individual;
   
+  private int hashCode_;
+  
   public ObjectHasValue (hydra.langs.owl.syntax.ObjectPropertyExpression property, hydra.langs.owl.syntax.Individual individual) {
     this.property = property;
     this.individual = individual;
@@ -14,16 +16,27 @@ public class ObjectHasValue {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ObjectHasValue)) {
       return false;
     }
     ObjectHasValue o = (ObjectHasValue) (other);
-    return property.equals(o.property) && individual.equals(o.individual);
+    return hashCode() == o.hashCode() && property.equals(o.property) && individual.equals(o.individual);
   }
   
   @Override
   public int hashCode() {
-    return 2 * property.hashCode() + 3 * individual.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * property.hashCode() + 3 * individual.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ObjectHasValue withProperty(hydra.langs.owl.syntax.ObjectPropertyExpression property) {
@@ -12,6 +12,8 @@ public class ObjectMaxCardinality {
   
   public final java.util.List<hydra.langs.owl.syntax.ClassExpression> class_;
   
+  private int hashCode_;
+  
   public ObjectMaxCardinality (java.math.BigInteger bound, hydra.langs.owl.syntax.ObjectPropertyExpression property, java.util.List<hydra.langs.owl.syntax.ClassExpression> class_) {
     this.bound = bound;
     this.property = property;
@@ -20,16 +22,27 @@ public class ObjectMaxCardinality {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ObjectMaxCardinality)) {
       return false;
     }
     ObjectMaxCardinality o = (ObjectMaxCardinality) (other);
-    return bound.equals(o.bound) && property.equals(o.property) && class_.equals(o.class_);
+    return hashCode() == o.hashCode() && bound.equals(o.bound) && property.equals(o.property) && class_.equals(o.class_);
   }
   
   @Override
   public int hashCode() {
-    return 2 * bound.hashCode() + 3 * property.hashCode() + 5 * class_.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * bound.hashCode() + 3 * property.hashCode() + 5 * class_.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ObjectMaxCardinality withBound(java.math.BigInteger bound) {
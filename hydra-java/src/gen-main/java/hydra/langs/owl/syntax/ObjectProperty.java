@@ -12,6 +12,9 @@ public class ObjectProperty {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ObjectProperty)) {
       return false;
     }
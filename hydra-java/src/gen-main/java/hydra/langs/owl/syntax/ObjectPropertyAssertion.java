@@ -11,6 +11,8 @@ public class ObjectPropertyAssertion {
   
   public final hydra.langs.owl.syntax.Individual target;
   
+  private int hashCode_;
+  
   public ObjectPropertyAssertion (java.util.List<hydra.langs.owl.syntax.Annotation> annotations, hydra.langs.owl.syntax.ObjectPropertyExpression property, hydra.langs.owl.syntax.Individual source, hydra.langs.owl.syntax.Individual target) {
     this.annotations = annotations;
     this.property = property;
@@ -20,16 +22,27 @@ public class ObjectPropertyAssertion {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ObjectPropertyAssertion)) {
       return false;
     }
     ObjectPropertyAssertion o = (ObjectPropertyAssertion) (other);
-    return annotations.equals(o.annotations) && property.equals(o.property) && source.equals(o.source) && target.equals(o.target);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && property.equals(o.property) && source.equals(o.source) && target.equals(o.target);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * property.hashCode() + 5 * source.hashCode() + 7 * target.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * property.hashCode() + 5 * source.hashCode() + 7 * target.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ObjectPropertyAssertion withAnnotations(java.util.List<hydra.langs.owl.syntax.Annotation> annotations) {
@@ -98,22 +98,35 @@ public abstract class ObjectPropertyAxiom {
   public static final class AsymmetricObjectProperty extends hydra.langs.owl.syntax.ObjectPropertyAxiom {
     public final hydra.langs.owl.syntax.AsymmetricObjectProperty value;
     
+    private int hashCode_;
+    
     public AsymmetricObjectProperty (hydra.langs.owl.syntax.AsymmetricObjectProperty value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof AsymmetricObjectProperty)) {
         return false;
       }
       AsymmetricObjectProperty o = (AsymmetricObjectProperty) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -125,22 +138,35 @@ public abstract class ObjectPropertyAxiom {
   public static final class DisjointObjectProperties extends hydra.langs.owl.syntax.ObjectPropertyAxiom {
     public final hydra.langs.owl.syntax.DisjointObjectProperties value;
     
+    private int hashCode_;
+    
     public DisjointObjectProperties (hydra.langs.owl.syntax.DisjointObjectProperties value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DisjointObjectProperties)) {
         return false;
       }
       DisjointObjectProperties o = (DisjointObjectProperties) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -152,22 +178,35 @@ public abstract class ObjectPropertyAxiom {
   public static final class EquivalentObjectProperties extends hydra.langs.owl.syntax.ObjectPropertyAxiom {
     public final hydra.langs.owl.syntax.EquivalentObjectProperties value;
     
+    private int hashCode_;
+    
     public EquivalentObjectProperties (hydra.langs.owl.syntax.EquivalentObjectProperties value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof EquivalentObjectProperties)) {
         return false;
       }
       EquivalentObjectProperties o = (EquivalentObjectProperties) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -179,22 +218,35 @@ public abstract class ObjectPropertyAxiom {
   public static final class FunctionalObjectProperty extends hydra.langs.owl.syntax.ObjectPropertyAxiom {
     public final hydra.langs.owl.syntax.FunctionalObjectProperty value;
     
+    private int hashCode_;
+    
     public FunctionalObjectProperty (hydra.langs.owl.syntax.FunctionalObjectProperty value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof FunctionalObjectProperty)) {
         return false;
       }
       FunctionalObjectProperty o = (FunctionalObjectProperty) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -206,22 +258,35 @@ public abstract class ObjectPropertyAxiom {
   public static final class InverseFunctionalObjectProperty extends hydra.langs.owl.syntax.ObjectPropertyAxiom {
     public final hydra.langs.owl.syntax.InverseFunctionalObjectProperty value;
     
+    private int hashCode_;
+    
     public InverseFunctionalObjectProperty (hydra.langs.owl.syntax.InverseFunctionalObjectProperty value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof InverseFunctionalObjectProperty)) {
         return false;
       }
       InverseFunctionalObjectProperty o = (InverseFunctionalObjectProperty) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -233,22 +298,35 @@ public abstract class ObjectPropertyAxiom {
   public static final class InverseObjectProperties extends hydra.langs.owl.syntax.ObjectPropertyAxiom {
     public final hydra.langs.owl.syntax.InverseObjectProperties value;
     
+    private int hashCode_;
+    
     public InverseObjectProperties (hydra.langs.owl.syntax.InverseObjectProperties value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof InverseObjectProperties)) {
         return false;
       }
       InverseObjectProperties o = (InverseObjectProperties) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -260,22 +338,35 @@ public abstract class ObjectPropertyAxiom {
   public static final class IrreflexiveObjectProperty extends hydra.langs.owl.syntax.ObjectPropertyAxiom {
     public final hydra.langs.owl.syntax.IrreflexiveObjectProperty value;
     
+    private int hashCode_;
+    
     public IrreflexiveObjectProperty (hydra.langs.owl.syntax.IrreflexiveObjectProperty value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof IrreflexiveObjectProperty)) {
         return false;
       }
       IrreflexiveObjectProperty o = (IrreflexiveObjectProperty) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -287,22 +378,35 @@ public abstract class ObjectPropertyAxiom {
   public static final class ObjectPropertyDomain extends hydra.langs.owl.syntax.ObjectPropertyAxiom {
     public final hydra.langs.owl.syntax.ObjectPropertyDomain value;
     
+    private int hashCode_;
+    
     public ObjectPropertyDomain (hydra.langs.owl.syntax.ObjectPropertyDomain value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ObjectPropertyDomain)) {
         return false;
       }
       ObjectPropertyDomain o = (ObjectPropertyDomain) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -314,22 +418,35 @@ public abstract class ObjectPropertyAxiom {
   public static final class ObjectPropertyRange extends hydra.langs.owl.syntax.ObjectPropertyAxiom {
     public final hydra.langs.owl.syntax.ObjectPropertyRange value;
     
+    private int hashCode_;
+    
     public ObjectPropertyRange (hydra.langs.owl.syntax.ObjectPropertyRange value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ObjectPropertyRange)) {
         return false;
       }
       ObjectPropertyRange o = (ObjectPropertyRange) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -341,22 +458,35 @@ public abstract class ObjectPropertyAxiom {
   public static final class ReflexiveObjectProperty extends hydra.langs.owl.syntax.ObjectPropertyAxiom {
     public final hydra.langs.owl.syntax.ReflexiveObjectProperty value;
     
+    private int hashCode_;
+    
     public ReflexiveObjectProperty (hydra.langs.owl.syntax.ReflexiveObjectProperty value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ReflexiveObjectProperty)) {
         return false;
       }
       ReflexiveObjectProperty o = (ReflexiveObjectProperty) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -368,22 +498,35 @@ public abstract class ObjectPropertyAxiom {
   public static final class SubObjectPropertyOf extends hydra.langs.owl.syntax.ObjectPropertyAxiom {
     public final hydra.langs.owl.syntax.SubObjectPropertyOf value;
     
+    private int hashCode_;
+    
     public SubObjectPropertyOf (hydra.langs.owl.syntax.SubObjectPropertyOf value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof SubObjectPropertyOf)) {
         return false;
       }
       SubObjectPropertyOf o = (SubObjectPropertyOf) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -395,22 +538,35 @@ public abstract class ObjectPropertyAxiom {
   public static final class SymmetricObjectProperty extends hydra.langs.owl.syntax.ObjectPropertyAxiom {
     public final hydra.langs.owl.syntax.SymmetricObjectProperty value;
     
+    private int hashCode_;
+    
     public SymmetricObjectProperty (hydra.langs.owl.syntax.SymmetricObjectProperty value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof SymmetricObjectProperty)) {
         return false;
       }
       SymmetricObjectProperty o = (SymmetricObjectProperty) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -422,22 +578,35 @@ public abstract class ObjectPropertyAxiom {
   public static final class TransitiveObjectProperty extends hydra.langs.owl.syntax.ObjectPropertyAxiom {
     public final hydra.langs.owl.syntax.TransitiveObjectProperty value;
     
+    private int hashCode_;
+    
     public TransitiveObjectProperty (hydra.langs.owl.syntax.TransitiveObjectProperty value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof TransitiveObjectProperty)) {
         return false;
       }
       TransitiveObjectProperty o = (TransitiveObjectProperty) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -32,22 +32,35 @@ public abstract class ObjectPropertyExpression {
   public static final class Object_ extends hydra.langs.owl.syntax.ObjectPropertyExpression {
     public final hydra.langs.owl.syntax.ObjectProperty value;
     
+    private int hashCode_;
+    
     public Object_ (hydra.langs.owl.syntax.ObjectProperty value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Object_)) {
         return false;
       }
       Object_ o = (Object_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class ObjectPropertyExpression {
   public static final class InverseObject extends hydra.langs.owl.syntax.ObjectPropertyExpression {
     public final hydra.langs.owl.syntax.InverseObjectProperty value;
     
+    private int hashCode_;
+    
     public InverseObject (hydra.langs.owl.syntax.InverseObjectProperty value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof InverseObject)) {
         return false;
       }
       InverseObject o = (InverseObject) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
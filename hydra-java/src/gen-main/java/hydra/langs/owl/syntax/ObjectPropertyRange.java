@@ -12,6 +12,8 @@ public class ObjectPropertyRange {
   
   public final hydra.langs.owl.syntax.ClassExpression range;
   
+  private int hashCode_;
+  
   public ObjectPropertyRange (java.util.List<hydra.langs.owl.syntax.Annotation> annotations, hydra.langs.owl.syntax.ObjectPropertyExpression property, hydra.langs.owl.syntax.ClassExpression range) {
     this.annotations = annotations;
     this.property = property;
@@ -20,16 +22,27 @@ public class ObjectPropertyRange {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ObjectPropertyRange)) {
       return false;
     }
     ObjectPropertyRange o = (ObjectPropertyRange) (other);
-    return annotations.equals(o.annotations) && property.equals(o.property) && range.equals(o.range);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && property.equals(o.property) && range.equals(o.range);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * property.hashCode() + 5 * range.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * property.hashCode() + 5 * range.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ObjectPropertyRange withAnnotations(java.util.List<hydra.langs.owl.syntax.Annotation> annotations) {
@@ -9,6 +9,8 @@ public class Ontology {
   
   public final java.util.List<hydra.langs.owl.syntax.Axiom> axioms;
   
+  private int hashCode_;
+  
   public Ontology (java.util.List<hydra.langs.owl.syntax.Ontology> directImports, java.util.List<hydra.langs.owl.syntax.Annotation> annotations, java.util.List<hydra.langs.owl.syntax.Axiom> axioms) {
     this.directImports = directImports;
     this.annotations = annotations;
@@ -17,16 +19,27 @@ public class Ontology {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Ontology)) {
       return false;
     }
     Ontology o = (Ontology) (other);
-    return directImports.equals(o.directImports) && annotations.equals(o.annotations) && axioms.equals(o.axioms);
+    return hashCode() == o.hashCode() && directImports.equals(o.directImports) && annotations.equals(o.annotations) && axioms.equals(o.axioms);
   }
   
   @Override
   public int hashCode() {
-    return 2 * directImports.hashCode() + 3 * annotations.hashCode() + 5 * axioms.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * directImports.hashCode() + 3 * annotations.hashCode() + 5 * axioms.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Ontology withDirectImports(java.util.List<hydra.langs.owl.syntax.Ontology> directImports) {
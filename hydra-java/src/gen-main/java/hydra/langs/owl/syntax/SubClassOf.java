@@ -9,6 +9,8 @@ public class SubClassOf {
   
   public final hydra.langs.owl.syntax.ClassExpression superClass;
   
+  private int hashCode_;
+  
   public SubClassOf (java.util.List<hydra.langs.owl.syntax.Annotation> annotations, hydra.langs.owl.syntax.ClassExpression subClass, hydra.langs.owl.syntax.ClassExpression superClass) {
     this.annotations = annotations;
     this.subClass = subClass;
@@ -17,16 +19,27 @@ public class SubClassOf {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof SubClassOf)) {
       return false;
     }
     SubClassOf o = (SubClassOf) (other);
-    return annotations.equals(o.annotations) && subClass.equals(o.subClass) && superClass.equals(o.superClass);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && subClass.equals(o.subClass) && superClass.equals(o.superClass);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * subClass.hashCode() + 5 * superClass.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * subClass.hashCode() + 5 * superClass.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public SubClassOf withAnnotations(java.util.List<hydra.langs.owl.syntax.Annotation> annotations) {
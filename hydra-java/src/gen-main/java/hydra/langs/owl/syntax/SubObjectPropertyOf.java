@@ -9,6 +9,8 @@ public class SubObjectPropertyOf {
   
   public final hydra.langs.owl.syntax.ObjectPropertyExpression superProperty;
   
+  private int hashCode_;
+  
   public SubObjectPropertyOf (java.util.List<hydra.langs.owl.syntax.Annotation> annotations, java.util.List<hydra.langs.owl.syntax.ObjectPropertyExpression> subProperty, hydra.langs.owl.syntax.ObjectPropertyExpression superProperty) {
     this.annotations = annotations;
     this.subProperty = subProperty;
@@ -17,16 +19,27 @@ public class SubObjectPropertyOf {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof SubObjectPropertyOf)) {
       return false;
     }
     SubObjectPropertyOf o = (SubObjectPropertyOf) (other);
-    return annotations.equals(o.annotations) && subProperty.equals(o.subProperty) && superProperty.equals(o.superProperty);
+    return hashCode() == o.hashCode() && annotations.equals(o.annotations) && subProperty.equals(o.subProperty) && superProperty.equals(o.superProperty);
   }
   
   @Override
   public int hashCode() {
-    return 2 * annotations.hashCode() + 3 * subProperty.hashCode() + 5 * superProperty.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * annotations.hashCode() + 3 * subProperty.hashCode() + 5 * superProperty.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public SubObjectPropertyOf withAnnotations(java.util.List<hydra.langs.owl.syntax.Annotation> annotations) {
@@ -12,6 +12,8 @@ public class AesGcmV1 {
    */
   public final java.util.Optional<Boolean> supplyAadPrefix;
   
+  private int hashCode_;
+  
   public AesGcmV1 (java.util.Optional<String> aadPrefix, java.util.Optional<String> aadFileUnique, java.util.Optional<Boolean> supplyAadPrefix) {
     this.aadPrefix = aadPrefix;
     this.aadFileUnique = aadFileUnique;
@@ -20,16 +22,27 @@ public class AesGcmV1 {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof AesGcmV1)) {
       return false;
     }
     AesGcmV1 o = (AesGcmV1) (other);
-    return aadPrefix.equals(o.aadPrefix) && aadFileUnique.equals(o.aadFileUnique) && supplyAadPrefix.equals(o.supplyAadPrefix);
+    return hashCode() == o.hashCode() && aadPrefix.equals(o.aadPrefix) && aadFileUnique.equals(o.aadFileUnique) && supplyAadPrefix.equals(o.supplyAadPrefix);
   }
   
   @Override
   public int hashCode() {
-    return 2 * aadPrefix.hashCode() + 3 * aadFileUnique.hashCode() + 5 * supplyAadPrefix.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * aadPrefix.hashCode() + 3 * aadFileUnique.hashCode() + 5 * supplyAadPrefix.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public AesGcmV1 withAadPrefix(java.util.Optional<String> aadPrefix) {
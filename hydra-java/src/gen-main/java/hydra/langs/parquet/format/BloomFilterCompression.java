@@ -33,6 +33,9 @@ public abstract class BloomFilterCompression {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Uncompressed)) {
         return false;
       }
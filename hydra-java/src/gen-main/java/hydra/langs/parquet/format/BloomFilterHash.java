@@ -36,6 +36,9 @@ public abstract class BloomFilterHash {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Xxhash)) {
         return false;
       }
@@ -26,6 +26,8 @@ public class BloomFilterHeader {
    */
   public final hydra.langs.parquet.format.BloomFilterCompression compression;
   
+  private int hashCode_;
+  
   public BloomFilterHeader (Integer numBytes, hydra.langs.parquet.format.BloomFilterAlgorithm algorithm, hydra.langs.parquet.format.BloomFilterHash hash, hydra.langs.parquet.format.BloomFilterCompression compression) {
     this.numBytes = numBytes;
     this.algorithm = algorithm;
@@ -35,16 +37,27 @@ public class BloomFilterHeader {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof BloomFilterHeader)) {
       return false;
     }
     BloomFilterHeader o = (BloomFilterHeader) (other);
-    return numBytes.equals(o.numBytes) && algorithm.equals(o.algorithm) && hash.equals(o.hash) && compression.equals(o.compression);
+    return hashCode() == o.hashCode() && numBytes.equals(o.numBytes) && algorithm.equals(o.algorithm) && hash.equals(o.hash) && compression.equals(o.compression);
   }
   
   @Override
   public int hashCode() {
-    return 2 * numBytes.hashCode() + 3 * algorithm.hashCode() + 5 * hash.hashCode() + 7 * compression.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * numBytes.hashCode() + 3 * algorithm.hashCode() + 5 * hash.hashCode() + 7 * compression.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public BloomFilterHeader withNumBytes(Integer numBytes) {
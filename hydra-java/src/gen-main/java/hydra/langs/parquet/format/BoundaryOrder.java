@@ -45,6 +45,9 @@ public abstract class BoundaryOrder {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Unordered)) {
         return false;
       }
@@ -70,6 +73,9 @@ public abstract class BoundaryOrder {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Ascending)) {
         return false;
       }
@@ -95,6 +101,9 @@ public abstract class BoundaryOrder {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Descending)) {
         return false;
       }
@@ -45,6 +45,8 @@ public class ColumnChunk {
   
   public final java.util.Optional<String> encryptedColumnMetadata;
   
+  private int hashCode_;
+  
   public ColumnChunk (java.util.Optional<String> filePath, Long fileOffset, java.util.Optional<hydra.langs.parquet.format.ColumnMetaData> metaData, java.util.Optional<Long> offsetIndexOffset, java.util.Optional<Integer> offsetIndexLength, java.util.Optional<Long> columnIndexOffset, java.util.Optional<Integer> columnIndexLength, java.util.Optional<hydra.langs.parquet.format.ColumnCryptoMetaData> cryptoMetadata, java.util.Optional<String> encryptedColumnMetadata) {
     this.filePath = filePath;
     this.fileOffset = fileOffset;
@@ -59,16 +61,27 @@ public class ColumnChunk {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ColumnChunk)) {
       return false;
     }
     ColumnChunk o = (ColumnChunk) (other);
-    return filePath.equals(o.filePath) && fileOffset.equals(o.fileOffset) && metaData.equals(o.metaData) && offsetIndexOffset.equals(o.offsetIndexOffset) && offsetIndexLength.equals(o.offsetIndexLength) && columnIndexOffset.equals(o.columnIndexOffset) && columnIndexLength.equals(o.columnIndexLength) && cryptoMetadata.equals(o.cryptoMetadata) && encryptedColumnMetadata.equals(o.encryptedColumnMetadata);
+    return hashCode() == o.hashCode() && filePath.equals(o.filePath) && fileOffset.equals(o.fileOffset) && metaData.equals(o.metaData) && offsetIndexOffset.equals(o.offsetIndexOffset) && offsetIndexLength.equals(o.offsetIndexLength) && columnIndexOffset.equals(o.columnIndexOffset) && columnIndexLength.equals(o.columnIndexLength) && cryptoMetadata.equals(o.cryptoMetadata) && encryptedColumnMetadata.equals(o.encryptedColumnMetadata);
   }
   
   @Override
   public int hashCode() {
-    return 2 * filePath.hashCode() + 3 * fileOffset.hashCode() + 5 * metaData.hashCode() + 7 * offsetIndexOffset.hashCode() + 11 * offsetIndexLength.hashCode() + 13 * columnIndexOffset.hashCode() + 17 * columnIndexLength.hashCode() + 19 * cryptoMetadata.hashCode() + 23 * encryptedColumnMetadata.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * filePath.hashCode() + 3 * fileOffset.hashCode() + 5 * metaData.hashCode() + 7 * offsetIndexOffset.hashCode() + 11 * offsetIndexLength.hashCode() + 13 * columnIndexOffset.hashCode() + 17 * columnIndexLength.hashCode() + 19 * cryptoMetadata.hashCode() + 23 * encryptedColumnMetadata.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ColumnChunk withFilePath(java.util.Optional<String> filePath) {
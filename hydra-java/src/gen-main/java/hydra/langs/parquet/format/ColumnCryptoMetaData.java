@@ -32,22 +32,35 @@ public abstract class ColumnCryptoMetaData {
   public static final class EncryptionWithFooterKey extends hydra.langs.parquet.format.ColumnCryptoMetaData {
     public final hydra.langs.parquet.format.EncryptionWithFooterKey value;
     
+    private int hashCode_;
+    
     public EncryptionWithFooterKey (hydra.langs.parquet.format.EncryptionWithFooterKey value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof EncryptionWithFooterKey)) {
         return false;
       }
       EncryptionWithFooterKey o = (EncryptionWithFooterKey) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class ColumnCryptoMetaData {
   public static final class EncryptionWithColumnKey extends hydra.langs.parquet.format.ColumnCryptoMetaData {
     public final hydra.langs.parquet.format.EncryptionWithColumnKey value;
     
+    private int hashCode_;
+    
     public EncryptionWithColumnKey (hydra.langs.parquet.format.EncryptionWithColumnKey value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof EncryptionWithColumnKey)) {
         return false;
       }
       EncryptionWithColumnKey o = (EncryptionWithColumnKey) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
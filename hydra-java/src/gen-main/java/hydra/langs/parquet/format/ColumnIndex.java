@@ -25,6 +25,8 @@ public class ColumnIndex {
    */
   public final java.util.Optional<java.util.List<Long>> nullCounts;
   
+  private int hashCode_;
+  
   public ColumnIndex (java.util.List<Boolean> nullPages, java.util.List<String> minValues, java.util.List<String> maxValues, hydra.langs.parquet.format.BoundaryOrder boundaryOrder, java.util.Optional<java.util.List<Long>> nullCounts) {
     this.nullPages = nullPages;
     this.minValues = minValues;
@@ -35,16 +37,27 @@ public class ColumnIndex {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ColumnIndex)) {
       return false;
     }
     ColumnIndex o = (ColumnIndex) (other);
-    return nullPages.equals(o.nullPages) && minValues.equals(o.minValues) && maxValues.equals(o.maxValues) && boundaryOrder.equals(o.boundaryOrder) && nullCounts.equals(o.nullCounts);
+    return hashCode() == o.hashCode() && nullPages.equals(o.nullPages) && minValues.equals(o.minValues) && maxValues.equals(o.maxValues) && boundaryOrder.equals(o.boundaryOrder) && nullCounts.equals(o.nullCounts);
   }
   
   @Override
   public int hashCode() {
-    return 2 * nullPages.hashCode() + 3 * minValues.hashCode() + 5 * maxValues.hashCode() + 7 * boundaryOrder.hashCode() + 11 * nullCounts.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * nullPages.hashCode() + 3 * minValues.hashCode() + 5 * maxValues.hashCode() + 7 * boundaryOrder.hashCode() + 11 * nullCounts.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ColumnIndex withNullPages(java.util.List<Boolean> nullPages) {
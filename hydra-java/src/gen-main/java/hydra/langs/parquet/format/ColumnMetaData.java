@@ -76,6 +76,8 @@ public class ColumnMetaData {
    */
   public final java.util.Optional<Long> bloomFilterOffset;
   
+  private int hashCode_;
+  
   public ColumnMetaData (hydra.langs.parquet.format.Type type, java.util.List<hydra.langs.parquet.format.Encoding> encodings, java.util.List<String> pathInSchema, hydra.langs.parquet.format.CompressionCodec codec, Long numValues, Long totalUncompressedSize, Long totalCompressedSize, java.util.Optional<java.util.List<hydra.langs.parquet.format.KeyValue>> keyValueMetadata, Long dataPageOffset, java.util.Optional<Long> indexPageOffset, java.util.Optional<Long> dictionaryPageOffset, java.util.Optional<hydra.langs.parquet.format.Statistics> statistics, java.util.Optional<java.util.List<hydra.langs.parquet.format.PageEncodingStats>> encodingStats, java.util.Optional<Long> bloomFilterOffset) {
     this.type = type;
     this.encodings = encodings;
@@ -95,16 +97,27 @@ public class ColumnMetaData {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ColumnMetaData)) {
       return false;
     }
     ColumnMetaData o = (ColumnMetaData) (other);
-    return type.equals(o.type) && encodings.equals(o.encodings) && pathInSchema.equals(o.pathInSchema) && codec.equals(o.codec) && numValues.equals(o.numValues) && totalUncompressedSize.equals(o.totalUncompressedSize) && totalCompressedSize.equals(o.totalCompressedSize) && keyValueMetadata.equals(o.keyValueMetadata) && dataPageOffset.equals(o.dataPageOffset) && indexPageOffset.equals(o.indexPageOffset) && dictionaryPageOffset.equals(o.dictionaryPageOffset) && statistics.equals(o.statistics) && encodingStats.equals(o.encodingStats) && bloomFilterOffset.equals(o.bloomFilterOffset);
+    return hashCode() == o.hashCode() && type.equals(o.type) && encodings.equals(o.encodings) && pathInSchema.equals(o.pathInSchema) && codec.equals(o.codec) && numValues.equals(o.numValues) && totalUncompressedSize.equals(o.totalUncompressedSize) && totalCompressedSize.equals(o.totalCompressedSize) && keyValueMetadata.equals(o.keyValueMetadata) && dataPageOffset.equals(o.dataPageOffset) && indexPageOffset.equals(o.indexPageOffset) && dictionaryPageOffset.equals(o.dictionaryPageOffset) && statistics.equals(o.statistics) && encodingStats.equals(o.encodingStats) && bloomFilterOffset.equals(o.bloomFilterOffset);
   }
   
   @Override
   public int hashCode() {
-    return 2 * type.hashCode() + 3 * encodings.hashCode() + 5 * pathInSchema.hashCode() + 7 * codec.hashCode() + 11 * numValues.hashCode() + 13 * totalUncompressedSize.hashCode() + 17 * totalCompressedSize.hashCode() + 19 * keyValueMetadata.hashCode() + 23 * dataPageOffset.hashCode() + 29 * indexPageOffset.hashCode() + 31 * dictionaryPageOffset.hashCode() + 37 * statistics.hashCode() + 41 * encodingStats.hashCode() + 43 * bloomFilterOffset.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * type.hashCode() + 3 * encodings.hashCode() + 5 * pathInSchema.hashCode() + 7 * codec.hashCode() + 11 * numValues.hashCode() + 13 * totalUncompressedSize.hashCode() + 17 * totalCompressedSize.hashCode() + 19 * keyValueMetadata.hashCode() + 23 * dataPageOffset.hashCode() + 29 * indexPageOffset.hashCode() + 31 * dictionaryPageOffset.hashCode() + 37 * statistics.hashCode() + 41 * encodingStats.hashCode() + 43 * bloomFilterOffset.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ColumnMetaData withType(hydra.langs.parquet.format.Type type) {
@@ -76,6 +76,9 @@ public abstract class ColumnOrder {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof TypeOrder)) {
         return false;
       }
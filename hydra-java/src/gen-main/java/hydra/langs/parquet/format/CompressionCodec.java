@@ -69,6 +69,9 @@ public abstract class CompressionCodec {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Uncompressed)) {
         return false;
       }
@@ -94,6 +97,9 @@ public abstract class CompressionCodec {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Snappy)) {
         return false;
       }
@@ -119,6 +125,9 @@ public abstract class CompressionCodec {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Gzip)) {
         return false;
       }
@@ -144,6 +153,9 @@ public abstract class CompressionCodec {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Lzo)) {
         return false;
       }
@@ -172,6 +184,9 @@ public abstract class CompressionCodec {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Brotli)) {
         return false;
       }
@@ -200,6 +215,9 @@ public abstract class CompressionCodec {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Zstd)) {
         return false;
       }
@@ -228,6 +246,9 @@ public abstract class CompressionCodec {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Lz4Raw)) {
         return false;
       }
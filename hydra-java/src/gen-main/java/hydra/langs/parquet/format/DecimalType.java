@@ -10,6 +10,8 @@ public class DecimalType {
   
   public final Integer precision;
   
+  private int hashCode_;
+  
   public DecimalType (Integer scale, Integer precision) {
     this.scale = scale;
     this.precision = precision;
@@ -17,16 +19,27 @@ public class DecimalType {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DecimalType)) {
       return false;
     }
     DecimalType o = (DecimalType) (other);
-    return scale.equals(o.scale) && precision.equals(o.precision);
+    return hashCode() == o.hashCode() && scale.equals(o.scale) && precision.equals(o.precision);
   }
   
   @Override
   public int hashCode() {
-    return 2 * scale.hashCode() + 3 * precision.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * scale.hashCode() + 3 * precision.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public DecimalType withScale(Integer scale) {
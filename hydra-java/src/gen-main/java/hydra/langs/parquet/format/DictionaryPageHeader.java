@@ -21,6 +21,8 @@ public class DictionaryPageHeader {
    */
   public final java.util.Optional<Boolean> isSorted;
   
+  private int hashCode_;
+  
   public DictionaryPageHeader (Integer numValues, hydra.langs.parquet.format.Encoding encoding, java.util.Optional<Boolean> isSorted) {
     this.numValues = numValues;
     this.encoding = encoding;
@@ -29,16 +31,27 @@ public class DictionaryPageHeader {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DictionaryPageHeader)) {
       return false;
     }
     DictionaryPageHeader o = (DictionaryPageHeader) (other);
-    return numValues.equals(o.numValues) && encoding.equals(o.encoding) && isSorted.equals(o.isSorted);
+    return hashCode() == o.hashCode() && numValues.equals(o.numValues) && encoding.equals(o.encoding) && isSorted.equals(o.isSorted);
   }
   
   @Override
   public int hashCode() {
-    return 2 * numValues.hashCode() + 3 * encoding.hashCode() + 5 * isSorted.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * numValues.hashCode() + 3 * encoding.hashCode() + 5 * isSorted.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public DictionaryPageHeader withNumValues(Integer numValues) {
@@ -85,6 +85,9 @@ public abstract class Encoding {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Plain)) {
         return false;
       }
@@ -113,6 +116,9 @@ public abstract class Encoding {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Rle)) {
         return false;
       }
@@ -141,6 +147,9 @@ public abstract class Encoding {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof BitPacked)) {
         return false;
       }
@@ -169,6 +178,9 @@ public abstract class Encoding {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DeltaBinaryPacked)) {
         return false;
       }
@@ -197,6 +209,9 @@ public abstract class Encoding {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DeltaLengthByteArray)) {
         return false;
       }
@@ -225,6 +240,9 @@ public abstract class Encoding {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DeltaByteArray)) {
         return false;
       }
@@ -253,6 +271,9 @@ public abstract class Encoding {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof RleDictionary)) {
         return false;
       }
@@ -281,6 +302,9 @@ public abstract class Encoding {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ByteStreamSplit)) {
         return false;
       }
@@ -32,22 +32,35 @@ public abstract class EncryptionAlgorithm {
   public static final class AesGcmV1 extends hydra.langs.parquet.format.EncryptionAlgorithm {
     public final hydra.langs.parquet.format.AesGcmV1 value;
     
+    private int hashCode_;
+    
     public AesGcmV1 (hydra.langs.parquet.format.AesGcmV1 value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof AesGcmV1)) {
         return false;
       }
       AesGcmV1 o = (AesGcmV1) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class EncryptionAlgorithm {
   public static final class AesGcmCtrV1 extends hydra.langs.parquet.format.EncryptionAlgorithm {
     public final hydra.langs.parquet.format.AesGcmCtrV1 value;
     
+    private int hashCode_;
+    
     public AesGcmCtrV1 (hydra.langs.parquet.format.AesGcmCtrV1 value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof AesGcmCtrV1)) {
         return false;
       }
       AesGcmCtrV1 o = (AesGcmCtrV1) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
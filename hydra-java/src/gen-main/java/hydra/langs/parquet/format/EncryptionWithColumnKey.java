@@ -10,6 +10,8 @@ public class EncryptionWithColumnKey {
   
   public final java.util.Optional<String> keyMetadata;
   
+  private int hashCode_;
+  
   public EncryptionWithColumnKey (java.util.List<String> pathInSchema, java.util.Optional<String> keyMetadata) {
     this.pathInSchema = pathInSchema;
     this.keyMetadata = keyMetadata;
@@ -17,16 +19,27 @@ public class EncryptionWithColumnKey {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof EncryptionWithColumnKey)) {
       return false;
     }
     EncryptionWithColumnKey o = (EncryptionWithColumnKey) (other);
-    return pathInSchema.equals(o.pathInSchema) && keyMetadata.equals(o.keyMetadata);
+    return hashCode() == o.hashCode() && pathInSchema.equals(o.pathInSchema) && keyMetadata.equals(o.keyMetadata);
   }
   
   @Override
   public int hashCode() {
-    return 2 * pathInSchema.hashCode() + 3 * keyMetadata.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * pathInSchema.hashCode() + 3 * keyMetadata.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public EncryptionWithColumnKey withPathInSchema(java.util.List<String> pathInSchema) {
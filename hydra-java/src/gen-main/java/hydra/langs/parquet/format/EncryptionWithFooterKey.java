@@ -9,6 +9,9 @@ public class EncryptionWithFooterKey {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof EncryptionWithFooterKey)) {
       return false;
     }
@@ -48,6 +48,9 @@ public abstract class FieldRepetitionType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Required)) {
         return false;
       }
@@ -76,6 +79,9 @@ public abstract class FieldRepetitionType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Optional)) {
         return false;
       }
@@ -104,6 +110,9 @@ public abstract class FieldRepetitionType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Repeated)) {
         return false;
       }
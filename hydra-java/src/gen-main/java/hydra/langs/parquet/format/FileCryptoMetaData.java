@@ -13,6 +13,8 @@ public class FileCryptoMetaData {
   
   public final java.util.Optional<String> keyMetadata;
   
+  private int hashCode_;
+  
   public FileCryptoMetaData (hydra.langs.parquet.format.EncryptionAlgorithm encryptionAlgorithm, java.util.Optional<String> keyMetadata) {
     this.encryptionAlgorithm = encryptionAlgorithm;
     this.keyMetadata = keyMetadata;
@@ -20,16 +22,27 @@ public class FileCryptoMetaData {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof FileCryptoMetaData)) {
       return false;
     }
     FileCryptoMetaData o = (FileCryptoMetaData) (other);
-    return encryptionAlgorithm.equals(o.encryptionAlgorithm) && keyMetadata.equals(o.keyMetadata);
+    return hashCode() == o.hashCode() && encryptionAlgorithm.equals(o.encryptionAlgorithm) && keyMetadata.equals(o.keyMetadata);
   }
   
   @Override
   public int hashCode() {
-    return 2 * encryptionAlgorithm.hashCode() + 3 * keyMetadata.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * encryptionAlgorithm.hashCode() + 3 * keyMetadata.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public FileCryptoMetaData withEncryptionAlgorithm(hydra.langs.parquet.format.EncryptionAlgorithm encryptionAlgorithm) {
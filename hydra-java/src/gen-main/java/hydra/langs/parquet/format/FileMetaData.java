@@ -50,6 +50,8 @@ public class FileMetaData {
   
   public final java.util.Optional<String> footerSigningKeyMetadata;
   
+  private int hashCode_;
+  
   public FileMetaData (Integer version, java.util.List<hydra.langs.parquet.format.SchemaElement> schema, Long numRows, java.util.List<hydra.langs.parquet.format.RowGroup> rowGroups, java.util.Optional<java.util.List<hydra.langs.parquet.format.KeyValue>> keyValueMetadata, java.util.Optional<String> createdBy, java.util.Optional<java.util.List<hydra.langs.parquet.format.ColumnOrder>> columnOrders, java.util.Optional<hydra.langs.parquet.format.EncryptionAlgorithm> encryptionAlgorithm, java.util.Optional<String> footerSigningKeyMetadata) {
     this.version = version;
     this.schema = schema;
@@ -64,16 +66,27 @@ public class FileMetaData {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof FileMetaData)) {
       return false;
     }
     FileMetaData o = (FileMetaData) (other);
-    return version.equals(o.version) && schema.equals(o.schema) && numRows.equals(o.numRows) && rowGroups.equals(o.rowGroups) && keyValueMetadata.equals(o.keyValueMetadata) && createdBy.equals(o.createdBy) && columnOrders.equals(o.columnOrders) && encryptionAlgorithm.equals(o.encryptionAlgorithm) && footerSigningKeyMetadata.equals(o.footerSigningKeyMetadata);
+    return hashCode() == o.hashCode() && version.equals(o.version) && schema.equals(o.schema) && numRows.equals(o.numRows) && rowGroups.equals(o.rowGroups) && keyValueMetadata.equals(o.keyValueMetadata) && createdBy.equals(o.createdBy) && columnOrders.equals(o.columnOrders) && encryptionAlgorithm.equals(o.encryptionAlgorithm) && footerSigningKeyMetadata.equals(o.footerSigningKeyMetadata);
   }
   
   @Override
   public int hashCode() {
-    return 2 * version.hashCode() + 3 * schema.hashCode() + 5 * numRows.hashCode() + 7 * rowGroups.hashCode() + 11 * keyValueMetadata.hashCode() + 13 * createdBy.hashCode() + 17 * columnOrders.hashCode() + 19 * encryptionAlgorithm.hashCode() + 23 * footerSigningKeyMetadata.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * version.hashCode() + 3 * schema.hashCode() + 5 * numRows.hashCode() + 7 * rowGroups.hashCode() + 11 * keyValueMetadata.hashCode() + 13 * createdBy.hashCode() + 17 * columnOrders.hashCode() + 19 * encryptionAlgorithm.hashCode() + 23 * footerSigningKeyMetadata.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public FileMetaData withVersion(Integer version) {
@@ -9,6 +9,9 @@ public class IndexPageHeader {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof IndexPageHeader)) {
       return false;
     }
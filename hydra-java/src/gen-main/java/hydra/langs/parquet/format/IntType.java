@@ -10,6 +10,8 @@ public class IntType {
   
   public final Boolean isSigned;
   
+  private int hashCode_;
+  
   public IntType (Byte bitWidth, Boolean isSigned) {
     this.bitWidth = bitWidth;
     this.isSigned = isSigned;
@@ -17,16 +19,27 @@ public class IntType {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof IntType)) {
       return false;
     }
     IntType o = (IntType) (other);
-    return bitWidth.equals(o.bitWidth) && isSigned.equals(o.isSigned);
+    return hashCode() == o.hashCode() && bitWidth.equals(o.bitWidth) && isSigned.equals(o.isSigned);
   }
   
   @Override
   public int hashCode() {
-    return 2 * bitWidth.hashCode() + 3 * isSigned.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * bitWidth.hashCode() + 3 * isSigned.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public IntType withBitWidth(Byte bitWidth) {
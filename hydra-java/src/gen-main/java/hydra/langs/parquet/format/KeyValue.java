@@ -10,6 +10,8 @@ public class KeyValue {
   
   public final java.util.Optional<String> value;
   
+  private int hashCode_;
+  
   public KeyValue (String key, java.util.Optional<String> value) {
     this.key = key;
     this.value = value;
@@ -17,16 +19,27 @@ public class KeyValue {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof KeyValue)) {
       return false;
     }
     KeyValue o = (KeyValue) (other);
-    return key.equals(o.key) && value.equals(o.value);
+    return hashCode() == o.hashCode() && key.equals(o.key) && value.equals(o.value);
   }
   
   @Override
   public int hashCode() {
-    return 2 * key.hashCode() + 3 * value.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * key.hashCode() + 3 * value.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public KeyValue withKey(String key) {
@@ -108,6 +108,9 @@ public abstract class LogicalType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof String_)) {
         return false;
       }
@@ -136,6 +139,9 @@ public abstract class LogicalType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Map)) {
         return false;
       }
@@ -164,6 +170,9 @@ public abstract class LogicalType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof List)) {
         return false;
       }
@@ -192,6 +201,9 @@ public abstract class LogicalType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Enum_)) {
         return false;
       }
@@ -219,22 +231,35 @@ public abstract class LogicalType {
      */
     public final hydra.langs.parquet.format.DecimalType value;
     
+    private int hashCode_;
+    
     public Decimal (hydra.langs.parquet.format.DecimalType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Decimal)) {
         return false;
       }
       Decimal o = (Decimal) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -253,6 +278,9 @@ public abstract class LogicalType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Date)) {
         return false;
       }
@@ -280,22 +308,35 @@ public abstract class LogicalType {
      */
     public final hydra.langs.parquet.format.TimeType value;
     
+    private int hashCode_;
+    
     public Time (hydra.langs.parquet.format.TimeType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Time)) {
         return false;
       }
       Time o = (Time) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -313,22 +354,35 @@ public abstract class LogicalType {
      */
     public final hydra.langs.parquet.format.TimestampType value;
     
+    private int hashCode_;
+    
     public Timestamp (hydra.langs.parquet.format.TimestampType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Timestamp)) {
         return false;
       }
       Timestamp o = (Timestamp) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -346,22 +400,35 @@ public abstract class LogicalType {
      */
     public final hydra.langs.parquet.format.IntType value;
     
+    private int hashCode_;
+    
     public Integer_ (hydra.langs.parquet.format.IntType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Integer_)) {
         return false;
       }
       Integer_ o = (Integer_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -380,6 +447,9 @@ public abstract class LogicalType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Unknown)) {
         return false;
       }
@@ -408,6 +478,9 @@ public abstract class LogicalType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Json)) {
         return false;
       }
@@ -436,6 +509,9 @@ public abstract class LogicalType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Bson)) {
         return false;
       }
@@ -464,6 +540,9 @@ public abstract class LogicalType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Uuid)) {
         return false;
       }
@@ -8,21 +8,34 @@ public class OffsetIndex {
    */
   public final java.util.List<hydra.langs.parquet.format.PageLocation> pageLocations;
   
+  private int hashCode_;
+  
   public OffsetIndex (java.util.List<hydra.langs.parquet.format.PageLocation> pageLocations) {
     this.pageLocations = pageLocations;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof OffsetIndex)) {
       return false;
     }
     OffsetIndex o = (OffsetIndex) (other);
-    return pageLocations.equals(o.pageLocations);
+    return hashCode() == o.hashCode() && pageLocations.equals(o.pageLocations);
   }
   
   @Override
   public int hashCode() {
-    return 2 * pageLocations.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * pageLocations.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
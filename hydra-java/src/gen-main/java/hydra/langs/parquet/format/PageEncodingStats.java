@@ -21,6 +21,8 @@ public class PageEncodingStats {
    */
   public final Integer count;
   
+  private int hashCode_;
+  
   public PageEncodingStats (hydra.langs.parquet.format.PageType pageType, hydra.langs.parquet.format.Encoding encoding, Integer count) {
     this.pageType = pageType;
     this.encoding = encoding;
@@ -29,16 +31,27 @@ public class PageEncodingStats {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof PageEncodingStats)) {
       return false;
     }
     PageEncodingStats o = (PageEncodingStats) (other);
-    return pageType.equals(o.pageType) && encoding.equals(o.encoding) && count.equals(o.count);
+    return hashCode() == o.hashCode() && pageType.equals(o.pageType) && encoding.equals(o.encoding) && count.equals(o.count);
   }
   
   @Override
   public int hashCode() {
-    return 2 * pageType.hashCode() + 3 * encoding.hashCode() + 5 * count.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * pageType.hashCode() + 3 * encoding.hashCode() + 5 * count.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public PageEncodingStats withPageType(hydra.langs.parquet.format.PageType pageType) {
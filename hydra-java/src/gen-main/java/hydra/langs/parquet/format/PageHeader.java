@@ -54,6 +54,8 @@ public class PageHeader {
   
   public final java.util.Optional<hydra.langs.parquet.format.DataPageHeaderV2> dataPageHeaderV2;
   
+  private int hashCode_;
+  
   public PageHeader (hydra.langs.parquet.format.PageType type, Integer uncompressedPageSize, Integer compressedPageSize, java.util.Optional<Integer> crc, java.util.Optional<hydra.langs.parquet.format.DataPageHeader> dataPageHeader, java.util.Optional<hydra.langs.parquet.format.IndexPageHeader> indexPageHeader, java.util.Optional<hydra.langs.parquet.format.DictionaryPageHeader> dictionaryPageHeader, java.util.Optional<hydra.langs.parquet.format.DataPageHeaderV2> dataPageHeaderV2) {
     this.type = type;
     this.uncompressedPageSize = uncompressedPageSize;
@@ -67,16 +69,27 @@ public class PageHeader {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof PageHeader)) {
       return false;
     }
     PageHeader o = (PageHeader) (other);
-    return type.equals(o.type) && uncompressedPageSize.equals(o.uncompressedPageSize) && compressedPageSize.equals(o.compressedPageSize) && crc.equals(o.crc) && dataPageHeader.equals(o.dataPageHeader) && indexPageHeader.equals(o.indexPageHeader) && dictionaryPageHeader.equals(o.dictionaryPageHeader) && dataPageHeaderV2.equals(o.dataPageHeaderV2);
+    return hashCode() == o.hashCode() && type.equals(o.type) && uncompressedPageSize.equals(o.uncompressedPageSize) && compressedPageSize.equals(o.compressedPageSize) && crc.equals(o.crc) && dataPageHeader.equals(o.dataPageHeader) && indexPageHeader.equals(o.indexPageHeader) && dictionaryPageHeader.equals(o.dictionaryPageHeader) && dataPageHeaderV2.equals(o.dataPageHeaderV2);
   }
   
   @Override
   public int hashCode() {
-    return 2 * type.hashCode() + 3 * uncompressedPageSize.hashCode() + 5 * compressedPageSize.hashCode() + 7 * crc.hashCode() + 11 * dataPageHeader.hashCode() + 13 * indexPageHeader.hashCode() + 17 * dictionaryPageHeader.hashCode() + 19 * dataPageHeaderV2.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * type.hashCode() + 3 * uncompressedPageSize.hashCode() + 5 * compressedPageSize.hashCode() + 7 * crc.hashCode() + 11 * dataPageHeader.hashCode() + 13 * indexPageHeader.hashCode() + 17 * dictionaryPageHeader.hashCode() + 19 * dataPageHeaderV2.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public PageHeader withType(hydra.langs.parquet.format.PageType type) {
@@ -18,6 +18,8 @@ public class PageLocation {
    */
   public final Long firstRowIndex;
   
+  private int hashCode_;
+  
   public PageLocation (Long offset, Integer compressedPageSize, Long firstRowIndex) {
     this.offset = offset;
     this.compressedPageSize = compressedPageSize;
@@ -26,16 +28,27 @@ public class PageLocation {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof PageLocation)) {
       return false;
     }
     PageLocation o = (PageLocation) (other);
-    return offset.equals(o.offset) && compressedPageSize.equals(o.compressedPageSize) && firstRowIndex.equals(o.firstRowIndex);
+    return hashCode() == o.hashCode() && offset.equals(o.offset) && compressedPageSize.equals(o.compressedPageSize) && firstRowIndex.equals(o.firstRowIndex);
   }
   
   @Override
   public int hashCode() {
-    return 2 * offset.hashCode() + 3 * compressedPageSize.hashCode() + 5 * firstRowIndex.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * offset.hashCode() + 3 * compressedPageSize.hashCode() + 5 * firstRowIndex.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public PageLocation withOffset(Long offset) {
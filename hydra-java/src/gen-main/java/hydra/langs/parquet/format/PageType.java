@@ -48,6 +48,9 @@ public abstract class PageType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DataPage)) {
         return false;
       }
@@ -73,6 +76,9 @@ public abstract class PageType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof IndexPage)) {
         return false;
       }
@@ -98,6 +104,9 @@ public abstract class PageType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DictionaryPage)) {
         return false;
       }
@@ -123,6 +132,9 @@ public abstract class PageType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DataPageV2)) {
         return false;
       }
@@ -38,6 +38,8 @@ public class RowGroup {
    */
   public final java.util.Optional<Short> ordinal;
   
+  private int hashCode_;
+  
   public RowGroup (java.util.List<hydra.langs.parquet.format.ColumnChunk> columns, Long totalByteSize, Long numRows, java.util.Optional<java.util.List<hydra.langs.parquet.format.SortingColumn>> sortingColumns, java.util.Optional<Long> fileOffset, java.util.Optional<Long> totalCompressedSize, java.util.Optional<Short> ordinal) {
     this.columns = columns;
     this.totalByteSize = totalByteSize;
@@ -50,16 +52,27 @@ public class RowGroup {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof RowGroup)) {
       return false;
     }
     RowGroup o = (RowGroup) (other);
-    return columns.equals(o.columns) && totalByteSize.equals(o.totalByteSize) && numRows.equals(o.numRows) && sortingColumns.equals(o.sortingColumns) && fileOffset.equals(o.fileOffset) && totalCompressedSize.equals(o.totalCompressedSize) && ordinal.equals(o.ordinal);
+    return hashCode() == o.hashCode() && columns.equals(o.columns) && totalByteSize.equals(o.totalByteSize) && numRows.equals(o.numRows) && sortingColumns.equals(o.sortingColumns) && fileOffset.equals(o.fileOffset) && totalCompressedSize.equals(o.totalCompressedSize) && ordinal.equals(o.ordinal);
   }
   
   @Override
   public int hashCode() {
-    return 2 * columns.hashCode() + 3 * totalByteSize.hashCode() + 5 * numRows.hashCode() + 7 * sortingColumns.hashCode() + 11 * fileOffset.hashCode() + 13 * totalCompressedSize.hashCode() + 17 * ordinal.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * columns.hashCode() + 3 * totalByteSize.hashCode() + 5 * numRows.hashCode() + 7 * sortingColumns.hashCode() + 11 * fileOffset.hashCode() + 13 * totalCompressedSize.hashCode() + 17 * ordinal.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public RowGroup withColumns(java.util.List<hydra.langs.parquet.format.ColumnChunk> columns) {
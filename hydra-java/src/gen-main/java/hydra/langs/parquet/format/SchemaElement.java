@@ -44,6 +44,8 @@ public class SchemaElement {
    */
   public final java.util.Optional<hydra.langs.parquet.format.LogicalType> logicalType;
   
+  private int hashCode_;
+  
   public SchemaElement (java.util.Optional<hydra.langs.parquet.format.Type> type, java.util.Optional<Integer> typeLength, java.util.Optional<hydra.langs.parquet.format.FieldRepetitionType> repetitionType, String name, java.util.Optional<Integer> numChildren, java.util.Optional<Integer> fieldId, java.util.Optional<hydra.langs.parquet.format.LogicalType> logicalType) {
     this.type = type;
     this.typeLength = typeLength;
@@ -56,16 +58,27 @@ public class SchemaElement {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof SchemaElement)) {
       return false;
     }
     SchemaElement o = (SchemaElement) (other);
-    return type.equals(o.type) && typeLength.equals(o.typeLength) && repetitionType.equals(o.repetitionType) && name.equals(o.name) && numChildren.equals(o.numChildren) && fieldId.equals(o.fieldId) && logicalType.equals(o.logicalType);
+    return hashCode() == o.hashCode() && type.equals(o.type) && typeLength.equals(o.typeLength) && repetitionType.equals(o.repetitionType) && name.equals(o.name) && numChildren.equals(o.numChildren) && fieldId.equals(o.fieldId) && logicalType.equals(o.logicalType);
   }
   
   @Override
   public int hashCode() {
-    return 2 * type.hashCode() + 3 * typeLength.hashCode() + 5 * repetitionType.hashCode() + 7 * name.hashCode() + 11 * numChildren.hashCode() + 13 * fieldId.hashCode() + 17 * logicalType.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * type.hashCode() + 3 * typeLength.hashCode() + 5 * repetitionType.hashCode() + 7 * name.hashCode() + 11 * numChildren.hashCode() + 13 * fieldId.hashCode() + 17 * logicalType.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public SchemaElement withType(java.util.Optional<hydra.langs.parquet.format.Type> type) {
@@ -21,6 +21,8 @@ public class SortingColumn {
    */
   public final Boolean nullsFirst;
   
+  private int hashCode_;
+  
   public SortingColumn (Integer columnIdx, Boolean descending, Boolean nullsFirst) {
     this.columnIdx = columnIdx;
     this.descending = descending;
@@ -29,16 +31,27 @@ public class SortingColumn {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof SortingColumn)) {
       return false;
     }
     SortingColumn o = (SortingColumn) (other);
-    return columnIdx.equals(o.columnIdx) && descending.equals(o.descending) && nullsFirst.equals(o.nullsFirst);
+    return hashCode() == o.hashCode() && columnIdx.equals(o.columnIdx) && descending.equals(o.descending) && nullsFirst.equals(o.nullsFirst);
   }
   
   @Override
   public int hashCode() {
-    return 2 * columnIdx.hashCode() + 3 * descending.hashCode() + 5 * nullsFirst.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * columnIdx.hashCode() + 3 * descending.hashCode() + 5 * nullsFirst.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public SortingColumn withColumnIdx(Integer columnIdx) {
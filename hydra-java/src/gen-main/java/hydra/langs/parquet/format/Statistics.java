@@ -14,6 +14,8 @@ public class Statistics {
   
   public final java.util.Optional<String> minValue;
   
+  private int hashCode_;
+  
   public Statistics (java.util.Optional<java.math.BigInteger> nullCount, java.util.Optional<java.math.BigInteger> distinctCount, java.util.Optional<String> maxValue, java.util.Optional<String> minValue) {
     this.nullCount = nullCount;
     this.distinctCount = distinctCount;
@@ -23,16 +25,27 @@ public class Statistics {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Statistics)) {
       return false;
     }
     Statistics o = (Statistics) (other);
-    return nullCount.equals(o.nullCount) && distinctCount.equals(o.distinctCount) && maxValue.equals(o.maxValue) && minValue.equals(o.minValue);
+    return hashCode() == o.hashCode() && nullCount.equals(o.nullCount) && distinctCount.equals(o.distinctCount) && maxValue.equals(o.maxValue) && minValue.equals(o.minValue);
   }
   
   @Override
   public int hashCode() {
-    return 2 * nullCount.hashCode() + 3 * distinctCount.hashCode() + 5 * maxValue.hashCode() + 7 * minValue.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * nullCount.hashCode() + 3 * distinctCount.hashCode() + 5 * maxValue.hashCode() + 7 * minValue.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Statistics withNullCount(java.util.Optional<java.math.BigInteger> nullCount) {
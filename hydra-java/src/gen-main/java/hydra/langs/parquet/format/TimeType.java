@@ -10,6 +10,8 @@ public class TimeType {
   
   public final hydra.langs.parquet.format.TimeUnit unit;
   
+  private int hashCode_;
+  
   public TimeType (Boolean isAdjustedToUtc, hydra.langs.parquet.format.TimeUnit unit) {
     this.isAdjustedToUtc = isAdjustedToUtc;
     this.unit = unit;
@@ -17,16 +19,27 @@ public class TimeType {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof TimeType)) {
       return false;
     }
     TimeType o = (TimeType) (other);
-    return isAdjustedToUtc.equals(o.isAdjustedToUtc) && unit.equals(o.unit);
+    return hashCode() == o.hashCode() && isAdjustedToUtc.equals(o.isAdjustedToUtc) && unit.equals(o.unit);
   }
   
   @Override
   public int hashCode() {
-    return 2 * isAdjustedToUtc.hashCode() + 3 * unit.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * isAdjustedToUtc.hashCode() + 3 * unit.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public TimeType withIsAdjustedToUtc(Boolean isAdjustedToUtc) {
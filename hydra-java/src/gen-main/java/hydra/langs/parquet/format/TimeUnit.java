@@ -42,6 +42,9 @@ public abstract class TimeUnit {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Millis)) {
         return false;
       }
@@ -67,6 +70,9 @@ public abstract class TimeUnit {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Micros)) {
         return false;
       }
@@ -92,6 +98,9 @@ public abstract class TimeUnit {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Nanos)) {
         return false;
       }
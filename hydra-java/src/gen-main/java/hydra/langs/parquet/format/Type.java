@@ -69,6 +69,9 @@ public abstract class Type {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Boolean_)) {
         return false;
       }
@@ -94,6 +97,9 @@ public abstract class Type {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Int32)) {
         return false;
       }
@@ -119,6 +125,9 @@ public abstract class Type {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Int64)) {
         return false;
       }
@@ -144,6 +153,9 @@ public abstract class Type {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Float_)) {
         return false;
       }
@@ -169,6 +181,9 @@ public abstract class Type {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Double_)) {
         return false;
       }
@@ -194,6 +209,9 @@ public abstract class Type {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ByteArray)) {
         return false;
       }
@@ -219,6 +237,9 @@ public abstract class Type {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof FixedLenByteArray)) {
         return false;
       }
@@ -10,6 +10,8 @@ public class Annotations {
   
   public final Boolean deprecated;
   
+  private int hashCode_;
+  
   public Annotations (java.util.Optional<String> doc, Boolean deprecated) {
     this.doc = doc;
     this.deprecated = deprecated;
@@ -17,16 +19,27 @@ public class Annotations {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Annotations)) {
       return false;
     }
     Annotations o = (Annotations) (other);
-    return doc.equals(o.doc) && deprecated.equals(o.deprecated);
+    return hashCode() == o.hashCode() && doc.equals(o.doc) && deprecated.equals(o.deprecated);
   }
   
   @Override
   public int hashCode() {
-    return 2 * doc.hashCode() + 3 * deprecated.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * doc.hashCode() + 3 * deprecated.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Annotations withDoc(java.util.Optional<String> doc) {
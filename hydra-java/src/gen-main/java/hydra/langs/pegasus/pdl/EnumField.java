@@ -7,6 +7,8 @@ public class EnumField {
   
   public final hydra.langs.pegasus.pdl.Annotations annotations;
   
+  private int hashCode_;
+  
   public EnumField (hydra.langs.pegasus.pdl.EnumFieldName name, hydra.langs.pegasus.pdl.Annotations annotations) {
     this.name = name;
     this.annotations = annotations;
@@ -14,16 +16,27 @@ public class EnumField {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof EnumField)) {
       return false;
     }
     EnumField o = (EnumField) (other);
-    return name.equals(o.name) && annotations.equals(o.annotations);
+    return hashCode() == o.hashCode() && name.equals(o.name) && annotations.equals(o.annotations);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * annotations.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * annotations.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public EnumField withName(hydra.langs.pegasus.pdl.EnumFieldName name) {
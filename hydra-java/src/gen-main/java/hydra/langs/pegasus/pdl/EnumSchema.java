@@ -5,21 +5,34 @@ public class EnumSchema {
   
   public final java.util.List<hydra.langs.pegasus.pdl.EnumField> fields;
   
+  private int hashCode_;
+  
   public EnumSchema (java.util.List<hydra.langs.pegasus.pdl.EnumField> fields) {
     this.fields = fields;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof EnumSchema)) {
       return false;
     }
     EnumSchema o = (EnumSchema) (other);
-    return fields.equals(o.fields);
+    return hashCode() == o.hashCode() && fields.equals(o.fields);
   }
   
   @Override
   public int hashCode() {
-    return 2 * fields.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * fields.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
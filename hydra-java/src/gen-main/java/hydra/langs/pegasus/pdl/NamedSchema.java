@@ -9,6 +9,8 @@ public class NamedSchema {
   
   public final hydra.langs.pegasus.pdl.Annotations annotations;
   
+  private int hashCode_;
+  
   public NamedSchema (hydra.langs.pegasus.pdl.QualifiedName qualifiedName, hydra.langs.pegasus.pdl.NamedSchema_Type type, hydra.langs.pegasus.pdl.Annotations annotations) {
     this.qualifiedName = qualifiedName;
     this.type = type;
@@ -17,16 +19,27 @@ public class NamedSchema {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof NamedSchema)) {
       return false;
     }
     NamedSchema o = (NamedSchema) (other);
-    return qualifiedName.equals(o.qualifiedName) && type.equals(o.type) && annotations.equals(o.annotations);
+    return hashCode() == o.hashCode() && qualifiedName.equals(o.qualifiedName) && type.equals(o.type) && annotations.equals(o.annotations);
   }
   
   @Override
   public int hashCode() {
-    return 2 * qualifiedName.hashCode() + 3 * type.hashCode() + 5 * annotations.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * qualifiedName.hashCode() + 3 * type.hashCode() + 5 * annotations.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public NamedSchema withQualifiedName(hydra.langs.pegasus.pdl.QualifiedName qualifiedName) {
@@ -38,22 +38,35 @@ public abstract class NamedSchema_Type {
   public static final class Record extends hydra.langs.pegasus.pdl.NamedSchema_Type {
     public final hydra.langs.pegasus.pdl.RecordSchema value;
     
+    private int hashCode_;
+    
     public Record (hydra.langs.pegasus.pdl.RecordSchema value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Record)) {
         return false;
       }
       Record o = (Record) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class NamedSchema_Type {
   public static final class Enum_ extends hydra.langs.pegasus.pdl.NamedSchema_Type {
     public final hydra.langs.pegasus.pdl.EnumSchema value;
     
+    private int hashCode_;
+    
     public Enum_ (hydra.langs.pegasus.pdl.EnumSchema value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Enum_)) {
         return false;
       }
       Enum_ o = (Enum_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +118,35 @@ public abstract class NamedSchema_Type {
   public static final class Typeref extends hydra.langs.pegasus.pdl.NamedSchema_Type {
     public final hydra.langs.pegasus.pdl.Schema value;
     
+    private int hashCode_;
+    
     public Typeref (hydra.langs.pegasus.pdl.Schema value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Typeref)) {
         return false;
       }
       Typeref o = (Typeref) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -66,6 +66,9 @@ public abstract class PrimitiveType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Boolean_)) {
         return false;
       }
@@ -91,6 +94,9 @@ public abstract class PrimitiveType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Bytes)) {
         return false;
       }
@@ -116,6 +122,9 @@ public abstract class PrimitiveType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Double_)) {
         return false;
       }
@@ -141,6 +150,9 @@ public abstract class PrimitiveType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Float_)) {
         return false;
       }
@@ -166,6 +178,9 @@ public abstract class PrimitiveType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Int)) {
         return false;
       }
@@ -191,6 +206,9 @@ public abstract class PrimitiveType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Long_)) {
         return false;
       }
@@ -216,6 +234,9 @@ public abstract class PrimitiveType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof String_)) {
         return false;
       }
@@ -7,6 +7,8 @@ public class Property {
   
   public final java.util.Optional<hydra.langs.json.model.Value> value;
   
+  private int hashCode_;
+  
   public Property (hydra.langs.pegasus.pdl.PropertyKey key, java.util.Optional<hydra.langs.json.model.Value> value) {
     this.key = key;
     this.value = value;
@@ -14,16 +16,27 @@ public class Property {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Property)) {
       return false;
     }
     Property o = (Property) (other);
-    return key.equals(o.key) && value.equals(o.value);
+    return hashCode() == o.hashCode() && key.equals(o.key) && value.equals(o.value);
   }
   
   @Override
   public int hashCode() {
-    return 2 * key.hashCode() + 3 * value.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * key.hashCode() + 3 * value.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Property withKey(hydra.langs.pegasus.pdl.PropertyKey key) {
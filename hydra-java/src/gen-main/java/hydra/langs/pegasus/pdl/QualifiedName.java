@@ -7,6 +7,8 @@ public class QualifiedName {
   
   public final java.util.Optional<hydra.langs.pegasus.pdl.Namespace> namespace;
   
+  private int hashCode_;
+  
   public QualifiedName (hydra.langs.pegasus.pdl.Name name, java.util.Optional<hydra.langs.pegasus.pdl.Namespace> namespace) {
     this.name = name;
     this.namespace = namespace;
@@ -14,16 +16,27 @@ public class QualifiedName {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof QualifiedName)) {
       return false;
     }
     QualifiedName o = (QualifiedName) (other);
-    return name.equals(o.name) && namespace.equals(o.namespace);
+    return hashCode() == o.hashCode() && name.equals(o.name) && namespace.equals(o.namespace);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * namespace.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * namespace.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public QualifiedName withName(hydra.langs.pegasus.pdl.Name name) {
@@ -13,6 +13,8 @@ public class RecordField {
   
   public final hydra.langs.pegasus.pdl.Annotations annotations;
   
+  private int hashCode_;
+  
   public RecordField (hydra.langs.pegasus.pdl.FieldName name, hydra.langs.pegasus.pdl.Schema value, Boolean optional, java.util.Optional<hydra.langs.json.model.Value> default_, hydra.langs.pegasus.pdl.Annotations annotations) {
     this.name = name;
     this.value = value;
@@ -23,16 +25,27 @@ public class RecordField {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof RecordField)) {
       return false;
     }
     RecordField o = (RecordField) (other);
-    return name.equals(o.name) && value.equals(o.value) && optional.equals(o.optional) && default_.equals(o.default_) && annotations.equals(o.annotations);
+    return hashCode() == o.hashCode() && name.equals(o.name) && value.equals(o.value) && optional.equals(o.optional) && default_.equals(o.default_) && annotations.equals(o.annotations);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * value.hashCode() + 5 * optional.hashCode() + 7 * default_.hashCode() + 11 * annotations.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * value.hashCode() + 5 * optional.hashCode() + 7 * default_.hashCode() + 11 * annotations.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public RecordField withName(hydra.langs.pegasus.pdl.FieldName name) {
@@ -7,6 +7,8 @@ public class RecordSchema {
   
   public final java.util.List<hydra.langs.pegasus.pdl.NamedSchema> includes;
   
+  private int hashCode_;
+  
   public RecordSchema (java.util.List<hydra.langs.pegasus.pdl.RecordField> fields, java.util.List<hydra.langs.pegasus.pdl.NamedSchema> includes) {
     this.fields = fields;
     this.includes = includes;
@@ -14,16 +16,27 @@ public class RecordSchema {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof RecordSchema)) {
       return false;
     }
     RecordSchema o = (RecordSchema) (other);
-    return fields.equals(o.fields) && includes.equals(o.includes);
+    return hashCode() == o.hashCode() && fields.equals(o.fields) && includes.equals(o.includes);
   }
   
   @Override
   public int hashCode() {
-    return 2 * fields.hashCode() + 3 * includes.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * fields.hashCode() + 3 * includes.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public RecordSchema withFields(java.util.List<hydra.langs.pegasus.pdl.RecordField> fields) {
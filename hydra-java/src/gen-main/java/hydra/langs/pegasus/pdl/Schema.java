@@ -68,22 +68,35 @@ public abstract class Schema {
   public static final class Array extends hydra.langs.pegasus.pdl.Schema {
     public final hydra.langs.pegasus.pdl.Schema value;
     
+    private int hashCode_;
+    
     public Array (hydra.langs.pegasus.pdl.Schema value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Array)) {
         return false;
       }
       Array o = (Array) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -95,22 +108,35 @@ public abstract class Schema {
   public static final class Fixed extends hydra.langs.pegasus.pdl.Schema {
     public final Integer value;
     
+    private int hashCode_;
+    
     public Fixed (Integer value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Fixed)) {
         return false;
       }
       Fixed o = (Fixed) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -122,22 +148,35 @@ public abstract class Schema {
   public static final class Inline extends hydra.langs.pegasus.pdl.Schema {
     public final hydra.langs.pegasus.pdl.NamedSchema value;
     
+    private int hashCode_;
+    
     public Inline (hydra.langs.pegasus.pdl.NamedSchema value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Inline)) {
         return false;
       }
       Inline o = (Inline) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -149,22 +188,35 @@ public abstract class Schema {
   public static final class Map extends hydra.langs.pegasus.pdl.Schema {
     public final hydra.langs.pegasus.pdl.Schema value;
     
+    private int hashCode_;
+    
     public Map (hydra.langs.pegasus.pdl.Schema value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Map)) {
         return false;
       }
       Map o = (Map) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -176,22 +228,35 @@ public abstract class Schema {
   public static final class Named extends hydra.langs.pegasus.pdl.Schema {
     public final hydra.langs.pegasus.pdl.QualifiedName value;
     
+    private int hashCode_;
+    
     public Named (hydra.langs.pegasus.pdl.QualifiedName value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Named)) {
         return false;
       }
       Named o = (Named) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -207,6 +272,9 @@ public abstract class Schema {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Null)) {
         return false;
       }
@@ -228,22 +296,35 @@ public abstract class Schema {
   public static final class Primitive extends hydra.langs.pegasus.pdl.Schema {
     public final hydra.langs.pegasus.pdl.PrimitiveType value;
     
+    private int hashCode_;
+    
     public Primitive (hydra.langs.pegasus.pdl.PrimitiveType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Primitive)) {
         return false;
       }
       Primitive o = (Primitive) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -255,22 +336,35 @@ public abstract class Schema {
   public static final class Union extends hydra.langs.pegasus.pdl.Schema {
     public final hydra.langs.pegasus.pdl.UnionSchema value;
     
+    private int hashCode_;
+    
     public Union (hydra.langs.pegasus.pdl.UnionSchema value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Union)) {
         return false;
       }
       Union o = (Union) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -11,6 +11,8 @@ public class SchemaFile {
   
   public final java.util.List<hydra.langs.pegasus.pdl.NamedSchema> schemas;
   
+  private int hashCode_;
+  
   public SchemaFile (hydra.langs.pegasus.pdl.Namespace namespace, java.util.Optional<hydra.langs.pegasus.pdl.Package_> package_, java.util.List<hydra.langs.pegasus.pdl.QualifiedName> imports, java.util.List<hydra.langs.pegasus.pdl.NamedSchema> schemas) {
     this.namespace = namespace;
     this.package_ = package_;
@@ -20,16 +22,27 @@ public class SchemaFile {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof SchemaFile)) {
       return false;
     }
     SchemaFile o = (SchemaFile) (other);
-    return namespace.equals(o.namespace) && package_.equals(o.package_) && imports.equals(o.imports) && schemas.equals(o.schemas);
+    return hashCode() == o.hashCode() && namespace.equals(o.namespace) && package_.equals(o.package_) && imports.equals(o.imports) && schemas.equals(o.schemas);
   }
   
   @Override
   public int hashCode() {
-    return 2 * namespace.hashCode() + 3 * package_.hashCode() + 5 * imports.hashCode() + 7 * schemas.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * namespace.hashCode() + 3 * package_.hashCode() + 5 * imports.hashCode() + 7 * schemas.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public SchemaFile withNamespace(hydra.langs.pegasus.pdl.Namespace namespace) {
@@ -9,6 +9,8 @@ public class UnionMember {
   
   public final hydra.langs.pegasus.pdl.Annotations annotations;
   
+  private int hashCode_;
+  
   public UnionMember (java.util.Optional<hydra.langs.pegasus.pdl.FieldName> alias, hydra.langs.pegasus.pdl.Schema value, hydra.langs.pegasus.pdl.Annotations annotations) {
     this.alias = alias;
     this.value = value;
@@ -17,16 +19,27 @@ public class UnionMember {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof UnionMember)) {
       return false;
     }
     UnionMember o = (UnionMember) (other);
-    return alias.equals(o.alias) && value.equals(o.value) && annotations.equals(o.annotations);
+    return hashCode() == o.hashCode() && alias.equals(o.alias) && value.equals(o.value) && annotations.equals(o.annotations);
   }
   
   @Override
   public int hashCode() {
-    return 2 * alias.hashCode() + 3 * value.hashCode() + 5 * annotations.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * alias.hashCode() + 3 * value.hashCode() + 5 * annotations.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public UnionMember withAlias(java.util.Optional<hydra.langs.pegasus.pdl.FieldName> alias) {
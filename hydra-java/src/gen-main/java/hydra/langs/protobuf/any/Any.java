@@ -13,6 +13,8 @@ public class Any {
   
   public final String value;
   
+  private int hashCode_;
+  
   public Any (String typeUrl, String value) {
     this.typeUrl = typeUrl;
     this.value = value;
@@ -20,16 +22,27 @@ public class Any {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Any)) {
       return false;
     }
     Any o = (Any) (other);
-    return typeUrl.equals(o.typeUrl) && value.equals(o.value);
+    return hashCode() == o.hashCode() && typeUrl.equals(o.typeUrl) && value.equals(o.value);
   }
   
   @Override
   public int hashCode() {
-    return 2 * typeUrl.hashCode() + 3 * value.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * typeUrl.hashCode() + 3 * value.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Any withTypeUrl(String typeUrl) {
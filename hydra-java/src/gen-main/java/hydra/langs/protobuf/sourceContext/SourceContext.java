@@ -11,21 +11,34 @@ public class SourceContext {
    */
   public final String fileName;
   
+  private int hashCode_;
+  
   public SourceContext (String fileName) {
     this.fileName = fileName;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof SourceContext)) {
       return false;
     }
     SourceContext o = (SourceContext) (other);
-    return fileName.equals(o.fileName);
+    return hashCode() == o.hashCode() && fileName.equals(o.fileName);
   }
   
   @Override
   public int hashCode() {
-    return 2 * fileName.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * fileName.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
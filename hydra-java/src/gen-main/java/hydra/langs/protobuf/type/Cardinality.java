@@ -54,6 +54,9 @@ public abstract class Cardinality {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Unknown)) {
         return false;
       }
@@ -82,6 +85,9 @@ public abstract class Cardinality {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Optional)) {
         return false;
       }
@@ -110,6 +116,9 @@ public abstract class Cardinality {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Required)) {
         return false;
       }
@@ -138,6 +147,9 @@ public abstract class Cardinality {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Repeated)) {
         return false;
       }
@@ -21,6 +21,8 @@ public class EnumValue {
    */
   public final java.util.List<hydra.langs.protobuf.type.Option> options;
   
+  private int hashCode_;
+  
   public EnumValue (String name, Integer number, java.util.List<hydra.langs.protobuf.type.Option> options) {
     this.name = name;
     this.number = number;
@@ -29,16 +31,27 @@ public class EnumValue {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof EnumValue)) {
       return false;
     }
     EnumValue o = (EnumValue) (other);
-    return name.equals(o.name) && number.equals(o.number) && options.equals(o.options);
+    return hashCode() == o.hashCode() && name.equals(o.name) && number.equals(o.number) && options.equals(o.options);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * number.hashCode() + 5 * options.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * number.hashCode() + 5 * options.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public EnumValue withName(String name) {
@@ -31,6 +31,8 @@ public class Enum_ {
    */
   public final hydra.langs.protobuf.type.Syntax syntax;
   
+  private int hashCode_;
+  
   public Enum_ (String name, java.util.List<hydra.langs.protobuf.type.EnumValue> enumvalue, java.util.List<hydra.langs.protobuf.type.Option> options, hydra.langs.protobuf.sourceContext.SourceContext sourceContext, hydra.langs.protobuf.type.Syntax syntax) {
     this.name = name;
     this.enumvalue = enumvalue;
@@ -41,16 +43,27 @@ public class Enum_ {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Enum_)) {
       return false;
     }
     Enum_ o = (Enum_) (other);
-    return name.equals(o.name) && enumvalue.equals(o.enumvalue) && options.equals(o.options) && sourceContext.equals(o.sourceContext) && syntax.equals(o.syntax);
+    return hashCode() == o.hashCode() && name.equals(o.name) && enumvalue.equals(o.enumvalue) && options.equals(o.options) && sourceContext.equals(o.sourceContext) && syntax.equals(o.syntax);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * enumvalue.hashCode() + 5 * options.hashCode() + 7 * sourceContext.hashCode() + 11 * syntax.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * enumvalue.hashCode() + 5 * options.hashCode() + 7 * sourceContext.hashCode() + 11 * syntax.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Enum_ withName(String name) {
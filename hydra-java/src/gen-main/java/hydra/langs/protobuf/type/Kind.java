@@ -144,6 +144,9 @@ public abstract class Kind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Unknown)) {
         return false;
       }
@@ -172,6 +175,9 @@ public abstract class Kind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Double_)) {
         return false;
       }
@@ -200,6 +206,9 @@ public abstract class Kind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Float_)) {
         return false;
       }
@@ -228,6 +237,9 @@ public abstract class Kind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Int64)) {
         return false;
       }
@@ -256,6 +268,9 @@ public abstract class Kind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Uint64)) {
         return false;
       }
@@ -284,6 +299,9 @@ public abstract class Kind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Int32)) {
         return false;
       }
@@ -312,6 +330,9 @@ public abstract class Kind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Fixed64)) {
         return false;
       }
@@ -340,6 +361,9 @@ public abstract class Kind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Fixed32)) {
         return false;
       }
@@ -368,6 +392,9 @@ public abstract class Kind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Bool)) {
         return false;
       }
@@ -396,6 +423,9 @@ public abstract class Kind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof String_)) {
         return false;
       }
@@ -424,6 +454,9 @@ public abstract class Kind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Group)) {
         return false;
       }
@@ -452,6 +485,9 @@ public abstract class Kind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Message)) {
         return false;
       }
@@ -480,6 +516,9 @@ public abstract class Kind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Bytes)) {
         return false;
       }
@@ -508,6 +547,9 @@ public abstract class Kind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Uint32)) {
         return false;
       }
@@ -536,6 +578,9 @@ public abstract class Kind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Enum_)) {
         return false;
       }
@@ -564,6 +609,9 @@ public abstract class Kind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Sfixed32)) {
         return false;
       }
@@ -592,6 +640,9 @@ public abstract class Kind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Sfixed64)) {
         return false;
       }
@@ -620,6 +671,9 @@ public abstract class Kind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Sint32)) {
         return false;
       }
@@ -648,6 +702,9 @@ public abstract class Kind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Sint64)) {
         return false;
       }
@@ -16,6 +16,8 @@ public class Option {
    */
   public final hydra.langs.protobuf.any.Any value;
   
+  private int hashCode_;
+  
   public Option (String name, hydra.langs.protobuf.any.Any value) {
     this.name = name;
     this.value = value;
@@ -23,16 +25,27 @@ public class Option {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Option)) {
       return false;
     }
     Option o = (Option) (other);
-    return name.equals(o.name) && value.equals(o.value);
+    return hashCode() == o.hashCode() && name.equals(o.name) && value.equals(o.value);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * value.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * value.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Option withName(String name) {
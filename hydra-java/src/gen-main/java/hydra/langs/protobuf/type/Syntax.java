@@ -42,6 +42,9 @@ public abstract class Syntax {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Proto2)) {
         return false;
       }
@@ -70,6 +73,9 @@ public abstract class Syntax {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Proto3)) {
         return false;
       }
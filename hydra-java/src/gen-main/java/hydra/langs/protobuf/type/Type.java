@@ -36,6 +36,8 @@ public class Type {
    */
   public final hydra.langs.protobuf.type.Syntax syntax;
   
+  private int hashCode_;
+  
   public Type (String name, java.util.List<hydra.langs.protobuf.type.Field> fields, java.util.List<String> oneofs, java.util.List<hydra.langs.protobuf.type.Option> options, hydra.langs.protobuf.sourceContext.SourceContext sourceContext, hydra.langs.protobuf.type.Syntax syntax) {
     this.name = name;
     this.fields = fields;
@@ -47,16 +49,27 @@ public class Type {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Type)) {
       return false;
     }
     Type o = (Type) (other);
-    return name.equals(o.name) && fields.equals(o.fields) && oneofs.equals(o.oneofs) && options.equals(o.options) && sourceContext.equals(o.sourceContext) && syntax.equals(o.syntax);
+    return hashCode() == o.hashCode() && name.equals(o.name) && fields.equals(o.fields) && oneofs.equals(o.oneofs) && options.equals(o.options) && sourceContext.equals(o.sourceContext) && syntax.equals(o.syntax);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * fields.hashCode() + 5 * oneofs.hashCode() + 7 * options.hashCode() + 11 * sourceContext.hashCode() + 13 * syntax.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * fields.hashCode() + 5 * oneofs.hashCode() + 7 * options.hashCode() + 11 * sourceContext.hashCode() + 13 * syntax.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Type withName(String name) {
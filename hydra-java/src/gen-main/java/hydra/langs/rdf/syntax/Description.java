@@ -10,6 +10,8 @@ public class Description {
   
   public final hydra.langs.rdf.syntax.Graph graph;
   
+  private int hashCode_;
+  
   public Description (hydra.langs.rdf.syntax.Node subject, hydra.langs.rdf.syntax.Graph graph) {
     this.subject = subject;
     this.graph = graph;
@@ -17,16 +19,27 @@ public class Description {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Description)) {
       return false;
     }
     Description o = (Description) (other);
-    return subject.equals(o.subject) && graph.equals(o.graph);
+    return hashCode() == o.hashCode() && subject.equals(o.subject) && graph.equals(o.graph);
   }
   
   @Override
   public int hashCode() {
-    return 2 * subject.hashCode() + 3 * graph.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * subject.hashCode() + 3 * graph.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Description withSubject(hydra.langs.rdf.syntax.Node subject) {
@@ -11,21 +11,34 @@ public class LangStrings {
    */
   public final java.util.Map<java.util.Optional<hydra.langs.rdf.syntax.LanguageTag>, String> value;
   
+  private int hashCode_;
+  
   public LangStrings (java.util.Map<java.util.Optional<hydra.langs.rdf.syntax.LanguageTag>, String> value) {
     this.value = value;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof LangStrings)) {
       return false;
     }
     LangStrings o = (LangStrings) (other);
-    return value.equals(o.value);
+    return hashCode() == o.hashCode() && value.equals(o.value);
   }
   
   @Override
   public int hashCode() {
-    return 2 * value.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * value.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
@@ -21,6 +21,8 @@ public class Literal {
    */
   public final java.util.Optional<hydra.langs.rdf.syntax.LanguageTag> languageTag;
   
+  private int hashCode_;
+  
   public Literal (String lexicalForm, hydra.langs.rdf.syntax.Iri datatypeIri, java.util.Optional<hydra.langs.rdf.syntax.LanguageTag> languageTag) {
     this.lexicalForm = lexicalForm;
     this.datatypeIri = datatypeIri;
@@ -29,16 +31,27 @@ public class Literal {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Literal)) {
       return false;
     }
     Literal o = (Literal) (other);
-    return lexicalForm.equals(o.lexicalForm) && datatypeIri.equals(o.datatypeIri) && languageTag.equals(o.languageTag);
+    return hashCode() == o.hashCode() && lexicalForm.equals(o.lexicalForm) && datatypeIri.equals(o.datatypeIri) && languageTag.equals(o.languageTag);
   }
   
   @Override
   public int hashCode() {
-    return 2 * lexicalForm.hashCode() + 3 * datatypeIri.hashCode() + 5 * languageTag.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * lexicalForm.hashCode() + 3 * datatypeIri.hashCode() + 5 * languageTag.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Literal withLexicalForm(String lexicalForm) {
@@ -18,6 +18,8 @@ public class Property {
   
   public final java.util.Set<hydra.langs.rdf.syntax.Property> subPropertyOf;
   
+  private int hashCode_;
+  
   public Property (java.util.Set<hydra.langs.rdf.syntax.RdfsClass> domain, java.util.Set<hydra.langs.rdf.syntax.RdfsClass> range, java.util.Set<hydra.langs.rdf.syntax.Property> subPropertyOf) {
     this.domain = domain;
     this.range = range;
@@ -26,16 +28,27 @@ public class Property {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Property)) {
       return false;
     }
     Property o = (Property) (other);
-    return domain.equals(o.domain) && range.equals(o.range) && subPropertyOf.equals(o.subPropertyOf);
+    return hashCode() == o.hashCode() && domain.equals(o.domain) && range.equals(o.range) && subPropertyOf.equals(o.subPropertyOf);
   }
   
   @Override
   public int hashCode() {
-    return 2 * domain.hashCode() + 3 * range.hashCode() + 5 * subPropertyOf.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * domain.hashCode() + 3 * range.hashCode() + 5 * subPropertyOf.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Property withDomain(java.util.Set<hydra.langs.rdf.syntax.RdfsClass> domain) {
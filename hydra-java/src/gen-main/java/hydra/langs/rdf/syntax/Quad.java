@@ -14,6 +14,8 @@ public class Quad {
   
   public final java.util.Optional<hydra.langs.rdf.syntax.Iri> graph;
   
+  private int hashCode_;
+  
   public Quad (hydra.langs.rdf.syntax.Resource subject, hydra.langs.rdf.syntax.Iri predicate, hydra.langs.rdf.syntax.Node object, java.util.Optional<hydra.langs.rdf.syntax.Iri> graph) {
     this.subject = subject;
     this.predicate = predicate;
@@ -23,16 +25,27 @@ public class Quad {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Quad)) {
       return false;
     }
     Quad o = (Quad) (other);
-    return subject.equals(o.subject) && predicate.equals(o.predicate) && object.equals(o.object) && graph.equals(o.graph);
+    return hashCode() == o.hashCode() && subject.equals(o.subject) && predicate.equals(o.predicate) && object.equals(o.object) && graph.equals(o.graph);
   }
   
   @Override
   public int hashCode() {
-    return 2 * subject.hashCode() + 3 * predicate.hashCode() + 5 * object.hashCode() + 7 * graph.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * subject.hashCode() + 3 * predicate.hashCode() + 5 * object.hashCode() + 7 * graph.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Quad withSubject(hydra.langs.rdf.syntax.Resource subject) {
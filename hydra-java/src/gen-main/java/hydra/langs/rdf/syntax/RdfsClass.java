@@ -12,6 +12,9 @@ public class RdfsClass {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof RdfsClass)) {
       return false;
     }
@@ -12,6 +12,8 @@ public class Triple {
   
   public final hydra.langs.rdf.syntax.Node object;
   
+  private int hashCode_;
+  
   public Triple (hydra.langs.rdf.syntax.Resource subject, hydra.langs.rdf.syntax.Iri predicate, hydra.langs.rdf.syntax.Node object) {
     this.subject = subject;
     this.predicate = predicate;
@@ -20,16 +22,27 @@ public class Triple {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Triple)) {
       return false;
     }
     Triple o = (Triple) (other);
-    return subject.equals(o.subject) && predicate.equals(o.predicate) && object.equals(o.object);
+    return hashCode() == o.hashCode() && subject.equals(o.subject) && predicate.equals(o.predicate) && object.equals(o.object);
   }
   
   @Override
   public int hashCode() {
-    return 2 * subject.hashCode() + 3 * predicate.hashCode() + 5 * object.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * subject.hashCode() + 3 * predicate.hashCode() + 5 * object.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Triple withSubject(hydra.langs.rdf.syntax.Resource subject) {
@@ -21,6 +21,8 @@ public class ColumnSchema<T> {
    */
   public final Boolean isPrimaryKey;
   
+  private int hashCode_;
+  
   public ColumnSchema (hydra.langs.relationalModel.ColumnName name, T domain, Boolean isPrimaryKey) {
     this.name = name;
     this.domain = domain;
@@ -29,16 +31,27 @@ public class ColumnSchema<T> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ColumnSchema)) {
       return false;
     }
     ColumnSchema o = (ColumnSchema) (other);
-    return name.equals(o.name) && domain.equals(o.domain) && isPrimaryKey.equals(o.isPrimaryKey);
+    return hashCode() == o.hashCode() && name.equals(o.name) && domain.equals(o.domain) && isPrimaryKey.equals(o.isPrimaryKey);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * domain.hashCode() + 5 * isPrimaryKey.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * domain.hashCode() + 5 * isPrimaryKey.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ColumnSchema withName(hydra.langs.relationalModel.ColumnName name) {
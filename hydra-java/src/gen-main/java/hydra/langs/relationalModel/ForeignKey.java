@@ -13,6 +13,8 @@ public class ForeignKey {
   
   public final java.util.Map<hydra.langs.relationalModel.ColumnName, hydra.langs.relationalModel.ColumnName> keys;
   
+  private int hashCode_;
+  
   public ForeignKey (hydra.langs.relationalModel.RelationName foreignRelation, java.util.Map<hydra.langs.relationalModel.ColumnName, hydra.langs.relationalModel.ColumnName> keys) {
     this.foreignRelation = foreignRelation;
     this.keys = keys;
@@ -20,16 +22,27 @@ public class ForeignKey {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ForeignKey)) {
       return false;
     }
     ForeignKey o = (ForeignKey) (other);
-    return foreignRelation.equals(o.foreignRelation) && keys.equals(o.keys);
+    return hashCode() == o.hashCode() && foreignRelation.equals(o.foreignRelation) && keys.equals(o.keys);
   }
   
   @Override
   public int hashCode() {
-    return 2 * foreignRelation.hashCode() + 3 * keys.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * foreignRelation.hashCode() + 3 * keys.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ForeignKey withForeignRelation(hydra.langs.relationalModel.RelationName foreignRelation) {
@@ -26,6 +26,8 @@ public class RelationSchema<T> {
    */
   public final java.util.List<hydra.langs.relationalModel.ForeignKey> foreignKeys;
   
+  private int hashCode_;
+  
   public RelationSchema (hydra.langs.relationalModel.RelationName name, java.util.List<hydra.langs.relationalModel.ColumnSchema<T>> columns, java.util.List<hydra.langs.relationalModel.PrimaryKey> primaryKeys, java.util.List<hydra.langs.relationalModel.ForeignKey> foreignKeys) {
     this.name = name;
     this.columns = columns;
@@ -35,16 +37,27 @@ public class RelationSchema<T> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof RelationSchema)) {
       return false;
     }
     RelationSchema o = (RelationSchema) (other);
-    return name.equals(o.name) && columns.equals(o.columns) && primaryKeys.equals(o.primaryKeys) && foreignKeys.equals(o.foreignKeys);
+    return hashCode() == o.hashCode() && name.equals(o.name) && columns.equals(o.columns) && primaryKeys.equals(o.primaryKeys) && foreignKeys.equals(o.foreignKeys);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * columns.hashCode() + 5 * primaryKeys.hashCode() + 7 * foreignKeys.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * columns.hashCode() + 5 * primaryKeys.hashCode() + 7 * foreignKeys.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public RelationSchema withName(hydra.langs.relationalModel.RelationName name) {
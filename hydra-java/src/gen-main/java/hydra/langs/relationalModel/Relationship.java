@@ -8,21 +8,34 @@ public class Relationship<V> {
   
   public final java.util.Set<java.util.Map<hydra.langs.relationalModel.ColumnName, V>> value;
   
+  private int hashCode_;
+  
   public Relationship (java.util.Set<java.util.Map<hydra.langs.relationalModel.ColumnName, V>> value) {
     this.value = value;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Relationship)) {
       return false;
     }
     Relationship o = (Relationship) (other);
-    return value.equals(o.value);
+    return hashCode() == o.hashCode() && value.equals(o.value);
   }
   
   @Override
   public int hashCode() {
-    return 2 * value.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * value.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
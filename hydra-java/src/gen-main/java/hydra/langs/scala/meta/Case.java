@@ -9,6 +9,8 @@ public class Case {
   
   public final hydra.langs.scala.meta.Data body;
   
+  private int hashCode_;
+  
   public Case (hydra.langs.scala.meta.Pat pat, java.util.Optional<hydra.langs.scala.meta.Data> cond, hydra.langs.scala.meta.Data body) {
     this.pat = pat;
     this.cond = cond;
@@ -17,16 +19,27 @@ public class Case {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Case)) {
       return false;
     }
     Case o = (Case) (other);
-    return pat.equals(o.pat) && cond.equals(o.cond) && body.equals(o.body);
+    return hashCode() == o.hashCode() && pat.equals(o.pat) && cond.equals(o.cond) && body.equals(o.body);
   }
   
   @Override
   public int hashCode() {
-    return 2 * pat.hashCode() + 3 * cond.hashCode() + 5 * body.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * pat.hashCode() + 3 * cond.hashCode() + 5 * body.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Case withPat(hydra.langs.scala.meta.Pat pat) {
@@ -32,22 +32,35 @@ public abstract class CaseTree {
   public static final class Case extends hydra.langs.scala.meta.CaseTree {
     public final hydra.langs.scala.meta.Case value;
     
+    private int hashCode_;
+    
     public Case (hydra.langs.scala.meta.Case value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Case)) {
         return false;
       }
       Case o = (Case) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class CaseTree {
   public static final class TypeCase extends hydra.langs.scala.meta.CaseTree {
     public final hydra.langs.scala.meta.TypeCase value;
     
+    private int hashCode_;
+    
     public TypeCase (hydra.langs.scala.meta.TypeCase value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof TypeCase)) {
         return false;
       }
       TypeCase o = (TypeCase) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -32,22 +32,35 @@ public abstract class Ctor {
   public static final class Primary extends hydra.langs.scala.meta.Ctor {
     public final hydra.langs.scala.meta.Ctor_Primary value;
     
+    private int hashCode_;
+    
     public Primary (hydra.langs.scala.meta.Ctor_Primary value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Primary)) {
         return false;
       }
       Primary o = (Primary) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class Ctor {
   public static final class Secondary extends hydra.langs.scala.meta.Ctor {
     public final hydra.langs.scala.meta.Ctor_Secondary value;
     
+    private int hashCode_;
+    
     public Secondary (hydra.langs.scala.meta.Ctor_Secondary value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Secondary)) {
         return false;
       }
       Secondary o = (Secondary) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -9,6 +9,8 @@ public class Ctor_Primary {
   
   public final java.util.List<java.util.List<hydra.langs.scala.meta.Data_Param>> paramss;
   
+  private int hashCode_;
+  
   public Ctor_Primary (java.util.List<hydra.langs.scala.meta.Mod> mods, hydra.langs.scala.meta.Name name, java.util.List<java.util.List<hydra.langs.scala.meta.Data_Param>> paramss) {
     this.mods = mods;
     this.name = name;
@@ -17,16 +19,27 @@ public class Ctor_Primary {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Ctor_Primary)) {
       return false;
     }
     Ctor_Primary o = (Ctor_Primary) (other);
-    return mods.equals(o.mods) && name.equals(o.name) && paramss.equals(o.paramss);
+    return hashCode() == o.hashCode() && mods.equals(o.mods) && name.equals(o.name) && paramss.equals(o.paramss);
   }
   
   @Override
   public int hashCode() {
-    return 2 * mods.hashCode() + 3 * name.hashCode() + 5 * paramss.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * mods.hashCode() + 3 * name.hashCode() + 5 * paramss.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Ctor_Primary withMods(java.util.List<hydra.langs.scala.meta.Mod> mods) {
@@ -13,6 +13,8 @@ public class Ctor_Secondary {
   
   public final java.util.List<hydra.langs.scala.meta.Stat> stats;
   
+  private int hashCode_;
+  
   public Ctor_Secondary (java.util.List<hydra.langs.scala.meta.Mod> mods, hydra.langs.scala.meta.Name name, java.util.List<java.util.List<hydra.langs.scala.meta.Data_Param>> paramss, hydra.langs.scala.meta.Init init, java.util.List<hydra.langs.scala.meta.Stat> stats) {
     this.mods = mods;
     this.name = name;
@@ -23,16 +25,27 @@ public class Ctor_Secondary {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Ctor_Secondary)) {
       return false;
     }
     Ctor_Secondary o = (Ctor_Secondary) (other);
-    return mods.equals(o.mods) && name.equals(o.name) && paramss.equals(o.paramss) && init.equals(o.init) && stats.equals(o.stats);
+    return hashCode() == o.hashCode() && mods.equals(o.mods) && name.equals(o.name) && paramss.equals(o.paramss) && init.equals(o.init) && stats.equals(o.stats);
   }
   
   @Override
   public int hashCode() {
-    return 2 * mods.hashCode() + 3 * name.hashCode() + 5 * paramss.hashCode() + 7 * init.hashCode() + 11 * stats.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * mods.hashCode() + 3 * name.hashCode() + 5 * paramss.hashCode() + 7 * init.hashCode() + 11 * stats.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Ctor_Secondary withMods(java.util.List<hydra.langs.scala.meta.Mod> mods) {
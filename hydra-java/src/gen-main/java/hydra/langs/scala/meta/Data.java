@@ -230,22 +230,35 @@ public abstract class Data {
   public static final class Lit extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Lit value;
     
+    private int hashCode_;
+    
     public Lit (hydra.langs.scala.meta.Lit value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Lit)) {
         return false;
       }
       Lit o = (Lit) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -257,22 +270,35 @@ public abstract class Data {
   public static final class Ref extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_Ref value;
     
+    private int hashCode_;
+    
     public Ref (hydra.langs.scala.meta.Data_Ref value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Ref)) {
         return false;
       }
       Ref o = (Ref) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -284,22 +310,35 @@ public abstract class Data {
   public static final class Interpolate extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_Interpolate value;
     
+    private int hashCode_;
+    
     public Interpolate (hydra.langs.scala.meta.Data_Interpolate value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Interpolate)) {
         return false;
       }
       Interpolate o = (Interpolate) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -311,22 +350,35 @@ public abstract class Data {
   public static final class Xml extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_Xml value;
     
+    private int hashCode_;
+    
     public Xml (hydra.langs.scala.meta.Data_Xml value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Xml)) {
         return false;
       }
       Xml o = (Xml) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -338,22 +390,35 @@ public abstract class Data {
   public static final class Apply extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_Apply value;
     
+    private int hashCode_;
+    
     public Apply (hydra.langs.scala.meta.Data_Apply value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Apply)) {
         return false;
       }
       Apply o = (Apply) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -365,22 +430,35 @@ public abstract class Data {
   public static final class ApplyUsing extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_ApplyUsing value;
     
+    private int hashCode_;
+    
     public ApplyUsing (hydra.langs.scala.meta.Data_ApplyUsing value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ApplyUsing)) {
         return false;
       }
       ApplyUsing o = (ApplyUsing) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -392,22 +470,35 @@ public abstract class Data {
   public static final class ApplyType extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_ApplyType value;
     
+    private int hashCode_;
+    
     public ApplyType (hydra.langs.scala.meta.Data_ApplyType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ApplyType)) {
         return false;
       }
       ApplyType o = (ApplyType) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -419,22 +510,35 @@ public abstract class Data {
   public static final class Assign extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_Assign value;
     
+    private int hashCode_;
+    
     public Assign (hydra.langs.scala.meta.Data_Assign value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Assign)) {
         return false;
       }
       Assign o = (Assign) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -446,22 +550,35 @@ public abstract class Data {
   public static final class Return extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_Return value;
     
+    private int hashCode_;
+    
     public Return (hydra.langs.scala.meta.Data_Return value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Return)) {
         return false;
       }
       Return o = (Return) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -473,22 +590,35 @@ public abstract class Data {
   public static final class Throw extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_Throw value;
     
+    private int hashCode_;
+    
     public Throw (hydra.langs.scala.meta.Data_Throw value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Throw)) {
         return false;
       }
       Throw o = (Throw) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -500,22 +630,35 @@ public abstract class Data {
   public static final class Ascribe extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_Ascribe value;
     
+    private int hashCode_;
+    
     public Ascribe (hydra.langs.scala.meta.Data_Ascribe value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Ascribe)) {
         return false;
       }
       Ascribe o = (Ascribe) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -527,22 +670,35 @@ public abstract class Data {
   public static final class Annotate extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_Annotate value;
     
+    private int hashCode_;
+    
     public Annotate (hydra.langs.scala.meta.Data_Annotate value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Annotate)) {
         return false;
       }
       Annotate o = (Annotate) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -554,22 +710,35 @@ public abstract class Data {
   public static final class Tuple extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_Tuple value;
     
+    private int hashCode_;
+    
     public Tuple (hydra.langs.scala.meta.Data_Tuple value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Tuple)) {
         return false;
       }
       Tuple o = (Tuple) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -581,22 +750,35 @@ public abstract class Data {
   public static final class Block extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_Block value;
     
+    private int hashCode_;
+    
     public Block (hydra.langs.scala.meta.Data_Block value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Block)) {
         return false;
       }
       Block o = (Block) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -608,22 +790,35 @@ public abstract class Data {
   public static final class EndMarker extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_EndMarker value;
     
+    private int hashCode_;
+    
     public EndMarker (hydra.langs.scala.meta.Data_EndMarker value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof EndMarker)) {
         return false;
       }
       EndMarker o = (EndMarker) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -635,22 +830,35 @@ public abstract class Data {
   public static final class If extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_If value;
     
+    private int hashCode_;
+    
     public If (hydra.langs.scala.meta.Data_If value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof If)) {
         return false;
       }
       If o = (If) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -662,22 +870,35 @@ public abstract class Data {
   public static final class QuotedMacroExpr extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_QuotedMacroExpr value;
     
+    private int hashCode_;
+    
     public QuotedMacroExpr (hydra.langs.scala.meta.Data_QuotedMacroExpr value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof QuotedMacroExpr)) {
         return false;
       }
       QuotedMacroExpr o = (QuotedMacroExpr) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -689,22 +910,35 @@ public abstract class Data {
   public static final class QuotedMacroType extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_QuotedMacroType value;
     
+    private int hashCode_;
+    
     public QuotedMacroType (hydra.langs.scala.meta.Data_QuotedMacroType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof QuotedMacroType)) {
         return false;
       }
       QuotedMacroType o = (QuotedMacroType) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -716,22 +950,35 @@ public abstract class Data {
   public static final class SplicedMacroExpr extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_SplicedMacroExpr value;
     
+    private int hashCode_;
+    
     public SplicedMacroExpr (hydra.langs.scala.meta.Data_SplicedMacroExpr value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof SplicedMacroExpr)) {
         return false;
       }
       SplicedMacroExpr o = (SplicedMacroExpr) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -743,22 +990,35 @@ public abstract class Data {
   public static final class Match extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_Match value;
     
+    private int hashCode_;
+    
     public Match (hydra.langs.scala.meta.Data_Match value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Match)) {
         return false;
       }
       Match o = (Match) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -770,22 +1030,35 @@ public abstract class Data {
   public static final class Try extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_Try value;
     
+    private int hashCode_;
+    
     public Try (hydra.langs.scala.meta.Data_Try value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Try)) {
         return false;
       }
       Try o = (Try) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -797,22 +1070,35 @@ public abstract class Data {
   public static final class TryWithHandler extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_TryWithHandler value;
     
+    private int hashCode_;
+    
     public TryWithHandler (hydra.langs.scala.meta.Data_TryWithHandler value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof TryWithHandler)) {
         return false;
       }
       TryWithHandler o = (TryWithHandler) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -824,22 +1110,35 @@ public abstract class Data {
   public static final class FunctionData extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_FunctionData value;
     
+    private int hashCode_;
+    
     public FunctionData (hydra.langs.scala.meta.Data_FunctionData value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof FunctionData)) {
         return false;
       }
       FunctionData o = (FunctionData) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -851,22 +1150,35 @@ public abstract class Data {
   public static final class PolyFunction extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_PolyFunction value;
     
+    private int hashCode_;
+    
     public PolyFunction (hydra.langs.scala.meta.Data_PolyFunction value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof PolyFunction)) {
         return false;
       }
       PolyFunction o = (PolyFunction) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -878,22 +1190,35 @@ public abstract class Data {
   public static final class PartialFunction extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_PartialFunction value;
     
+    private int hashCode_;
+    
     public PartialFunction (hydra.langs.scala.meta.Data_PartialFunction value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof PartialFunction)) {
         return false;
       }
       PartialFunction o = (PartialFunction) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -905,22 +1230,35 @@ public abstract class Data {
   public static final class While extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_While value;
     
+    private int hashCode_;
+    
     public While (hydra.langs.scala.meta.Data_While value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof While)) {
         return false;
       }
       While o = (While) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -932,22 +1270,35 @@ public abstract class Data {
   public static final class Do extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_Do value;
     
+    private int hashCode_;
+    
     public Do (hydra.langs.scala.meta.Data_Do value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Do)) {
         return false;
       }
       Do o = (Do) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -959,22 +1310,35 @@ public abstract class Data {
   public static final class For extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_For value;
     
+    private int hashCode_;
+    
     public For (hydra.langs.scala.meta.Data_For value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof For)) {
         return false;
       }
       For o = (For) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -986,22 +1350,35 @@ public abstract class Data {
   public static final class ForYield extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_ForYield value;
     
+    private int hashCode_;
+    
     public ForYield (hydra.langs.scala.meta.Data_ForYield value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ForYield)) {
         return false;
       }
       ForYield o = (ForYield) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -1013,22 +1390,35 @@ public abstract class Data {
   public static final class New extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_New value;
     
+    private int hashCode_;
+    
     public New (hydra.langs.scala.meta.Data_New value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof New)) {
         return false;
       }
       New o = (New) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -1040,22 +1430,35 @@ public abstract class Data {
   public static final class NewAnonymous extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_NewAnonymous value;
     
+    private int hashCode_;
+    
     public NewAnonymous (hydra.langs.scala.meta.Data_NewAnonymous value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof NewAnonymous)) {
         return false;
       }
       NewAnonymous o = (NewAnonymous) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -1067,22 +1470,35 @@ public abstract class Data {
   public static final class Placeholder extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_Placeholder value;
     
+    private int hashCode_;
+    
     public Placeholder (hydra.langs.scala.meta.Data_Placeholder value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Placeholder)) {
         return false;
       }
       Placeholder o = (Placeholder) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -1094,22 +1510,35 @@ public abstract class Data {
   public static final class Eta extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_Eta value;
     
+    private int hashCode_;
+    
     public Eta (hydra.langs.scala.meta.Data_Eta value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Eta)) {
         return false;
       }
       Eta o = (Eta) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -1121,22 +1550,35 @@ public abstract class Data {
   public static final class Repeated extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_Repeated value;
     
+    private int hashCode_;
+    
     public Repeated (hydra.langs.scala.meta.Data_Repeated value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Repeated)) {
         return false;
       }
       Repeated o = (Repeated) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -1148,22 +1590,35 @@ public abstract class Data {
   public static final class Param extends hydra.langs.scala.meta.Data {
     public final hydra.langs.scala.meta.Data_Param value;
     
+    private int hashCode_;
+    
     public Param (hydra.langs.scala.meta.Data_Param value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Param)) {
         return false;
       }
       Param o = (Param) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
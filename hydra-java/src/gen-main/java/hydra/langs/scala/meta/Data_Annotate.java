@@ -7,6 +7,8 @@ public class Data_Annotate {
   
   public final java.util.List<hydra.langs.scala.meta.Mod_Annot> annots;
   
+  private int hashCode_;
+  
   public Data_Annotate (hydra.langs.scala.meta.Data expr, java.util.List<hydra.langs.scala.meta.Mod_Annot> annots) {
     this.expr = expr;
     this.annots = annots;
@@ -14,16 +16,27 @@ public class Data_Annotate {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_Annotate)) {
       return false;
     }
     Data_Annotate o = (Data_Annotate) (other);
-    return expr.equals(o.expr) && annots.equals(o.annots);
+    return hashCode() == o.hashCode() && expr.equals(o.expr) && annots.equals(o.annots);
   }
   
   @Override
   public int hashCode() {
-    return 2 * expr.hashCode() + 3 * annots.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * expr.hashCode() + 3 * annots.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Data_Annotate withExpr(hydra.langs.scala.meta.Data expr) {
@@ -9,6 +9,9 @@ public class Data_Anonymous {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_Anonymous)) {
       return false;
     }
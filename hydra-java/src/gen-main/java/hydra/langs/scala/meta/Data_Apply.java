@@ -7,6 +7,8 @@ public class Data_Apply {
   
   public final java.util.List<hydra.langs.scala.meta.Data> args;
   
+  private int hashCode_;
+  
   public Data_Apply (hydra.langs.scala.meta.Data fun, java.util.List<hydra.langs.scala.meta.Data> args) {
     this.fun = fun;
     this.args = args;
@@ -14,16 +16,27 @@ public class Data_Apply {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_Apply)) {
       return false;
     }
     Data_Apply o = (Data_Apply) (other);
-    return fun.equals(o.fun) && args.equals(o.args);
+    return hashCode() == o.hashCode() && fun.equals(o.fun) && args.equals(o.args);
   }
   
   @Override
   public int hashCode() {
-    return 2 * fun.hashCode() + 3 * args.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * fun.hashCode() + 3 * args.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Data_Apply withFun(hydra.langs.scala.meta.Data fun) {
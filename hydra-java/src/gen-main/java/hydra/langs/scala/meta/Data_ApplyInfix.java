@@ -11,6 +11,8 @@ public class Data_ApplyInfix {
   
   public final java.util.List<hydra.langs.scala.meta.Data> args;
   
+  private int hashCode_;
+  
   public Data_ApplyInfix (hydra.langs.scala.meta.Data lhs, hydra.langs.scala.meta.Data_Name op, java.util.List<hydra.langs.scala.meta.Type> targs, java.util.List<hydra.langs.scala.meta.Data> args) {
     this.lhs = lhs;
     this.op = op;
@@ -20,16 +22,27 @@ public class Data_ApplyInfix {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_ApplyInfix)) {
       return false;
     }
     Data_ApplyInfix o = (Data_ApplyInfix) (other);
-    return lhs.equals(o.lhs) && op.equals(o.op) && targs.equals(o.targs) && args.equals(o.args);
+    return hashCode() == o.hashCode() && lhs.equals(o.lhs) && op.equals(o.op) && targs.equals(o.targs) && args.equals(o.args);
   }
   
   @Override
   public int hashCode() {
-    return 2 * lhs.hashCode() + 3 * op.hashCode() + 5 * targs.hashCode() + 7 * args.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * lhs.hashCode() + 3 * op.hashCode() + 5 * targs.hashCode() + 7 * args.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Data_ApplyInfix withLhs(hydra.langs.scala.meta.Data lhs) {
@@ -7,6 +7,8 @@ public class Data_ApplyUnary {
   
   public final hydra.langs.scala.meta.Data arg;
   
+  private int hashCode_;
+  
   public Data_ApplyUnary (hydra.langs.scala.meta.Data_Name op, hydra.langs.scala.meta.Data arg) {
     this.op = op;
     this.arg = arg;
@@ -14,16 +16,27 @@ public class Data_ApplyUnary {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_ApplyUnary)) {
       return false;
     }
     Data_ApplyUnary o = (Data_ApplyUnary) (other);
-    return op.equals(o.op) && arg.equals(o.arg);
+    return hashCode() == o.hashCode() && op.equals(o.op) && arg.equals(o.arg);
   }
   
   @Override
   public int hashCode() {
-    return 2 * op.hashCode() + 3 * arg.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * op.hashCode() + 3 * arg.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Data_ApplyUnary withOp(hydra.langs.scala.meta.Data_Name op) {
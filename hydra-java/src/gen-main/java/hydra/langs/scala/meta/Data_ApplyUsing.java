@@ -7,6 +7,8 @@ public class Data_ApplyUsing {
   
   public final java.util.List<hydra.langs.scala.meta.Data> targs;
   
+  private int hashCode_;
+  
   public Data_ApplyUsing (hydra.langs.scala.meta.Data fun, java.util.List<hydra.langs.scala.meta.Data> targs) {
     this.fun = fun;
     this.targs = targs;
@@ -14,16 +16,27 @@ public class Data_ApplyUsing {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_ApplyUsing)) {
       return false;
     }
     Data_ApplyUsing o = (Data_ApplyUsing) (other);
-    return fun.equals(o.fun) && targs.equals(o.targs);
+    return hashCode() == o.hashCode() && fun.equals(o.fun) && targs.equals(o.targs);
   }
   
   @Override
   public int hashCode() {
-    return 2 * fun.hashCode() + 3 * targs.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * fun.hashCode() + 3 * targs.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Data_ApplyUsing withFun(hydra.langs.scala.meta.Data fun) {
@@ -7,6 +7,8 @@ public class Data_Ascribe {
   
   public final hydra.langs.scala.meta.Type tpe;
   
+  private int hashCode_;
+  
   public Data_Ascribe (hydra.langs.scala.meta.Data expr, hydra.langs.scala.meta.Type tpe) {
     this.expr = expr;
     this.tpe = tpe;
@@ -14,16 +16,27 @@ public class Data_Ascribe {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_Ascribe)) {
       return false;
     }
     Data_Ascribe o = (Data_Ascribe) (other);
-    return expr.equals(o.expr) && tpe.equals(o.tpe);
+    return hashCode() == o.hashCode() && expr.equals(o.expr) && tpe.equals(o.tpe);
   }
   
   @Override
   public int hashCode() {
-    return 2 * expr.hashCode() + 3 * tpe.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * expr.hashCode() + 3 * tpe.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Data_Ascribe withExpr(hydra.langs.scala.meta.Data expr) {
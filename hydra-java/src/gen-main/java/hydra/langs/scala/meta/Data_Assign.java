@@ -7,6 +7,8 @@ public class Data_Assign {
   
   public final hydra.langs.scala.meta.Data rhs;
   
+  private int hashCode_;
+  
   public Data_Assign (hydra.langs.scala.meta.Data lhs, hydra.langs.scala.meta.Data rhs) {
     this.lhs = lhs;
     this.rhs = rhs;
@@ -14,16 +16,27 @@ public class Data_Assign {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_Assign)) {
       return false;
     }
     Data_Assign o = (Data_Assign) (other);
-    return lhs.equals(o.lhs) && rhs.equals(o.rhs);
+    return hashCode() == o.hashCode() && lhs.equals(o.lhs) && rhs.equals(o.rhs);
   }
   
   @Override
   public int hashCode() {
-    return 2 * lhs.hashCode() + 3 * rhs.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * lhs.hashCode() + 3 * rhs.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Data_Assign withLhs(hydra.langs.scala.meta.Data lhs) {
@@ -7,6 +7,8 @@ public class Data_ContextFunction {
   
   public final hydra.langs.scala.meta.Data body;
   
+  private int hashCode_;
+  
   public Data_ContextFunction (java.util.List<hydra.langs.scala.meta.Data_Param> params, hydra.langs.scala.meta.Data body) {
     this.params = params;
     this.body = body;
@@ -14,16 +16,27 @@ public class Data_ContextFunction {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_ContextFunction)) {
       return false;
     }
     Data_ContextFunction o = (Data_ContextFunction) (other);
-    return params.equals(o.params) && body.equals(o.body);
+    return hashCode() == o.hashCode() && params.equals(o.params) && body.equals(o.body);
   }
   
   @Override
   public int hashCode() {
-    return 2 * params.hashCode() + 3 * body.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * params.hashCode() + 3 * body.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Data_ContextFunction withParams(java.util.List<hydra.langs.scala.meta.Data_Param> params) {
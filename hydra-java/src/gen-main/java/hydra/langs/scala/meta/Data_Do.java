@@ -7,6 +7,8 @@ public class Data_Do {
   
   public final hydra.langs.scala.meta.Data expr;
   
+  private int hashCode_;
+  
   public Data_Do (hydra.langs.scala.meta.Data body, hydra.langs.scala.meta.Data expr) {
     this.body = body;
     this.expr = expr;
@@ -14,16 +16,27 @@ public class Data_Do {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_Do)) {
       return false;
     }
     Data_Do o = (Data_Do) (other);
-    return body.equals(o.body) && expr.equals(o.expr);
+    return hashCode() == o.hashCode() && body.equals(o.body) && expr.equals(o.expr);
   }
   
   @Override
   public int hashCode() {
-    return 2 * body.hashCode() + 3 * expr.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * body.hashCode() + 3 * expr.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Data_Do withBody(hydra.langs.scala.meta.Data body) {
@@ -5,21 +5,34 @@ public class Data_ForYield {
   
   public final java.util.List<hydra.langs.scala.meta.Enumerator> enums;
   
+  private int hashCode_;
+  
   public Data_ForYield (java.util.List<hydra.langs.scala.meta.Enumerator> enums) {
     this.enums = enums;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_ForYield)) {
       return false;
     }
     Data_ForYield o = (Data_ForYield) (other);
-    return enums.equals(o.enums);
+    return hashCode() == o.hashCode() && enums.equals(o.enums);
   }
   
   @Override
   public int hashCode() {
-    return 2 * enums.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * enums.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
@@ -9,6 +9,8 @@ public class Data_If {
   
   public final hydra.langs.scala.meta.Data elsep;
   
+  private int hashCode_;
+  
   public Data_If (hydra.langs.scala.meta.Data cond, hydra.langs.scala.meta.Data thenp, hydra.langs.scala.meta.Data elsep) {
     this.cond = cond;
     this.thenp = thenp;
@@ -17,16 +19,27 @@ public class Data_If {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_If)) {
       return false;
     }
     Data_If o = (Data_If) (other);
-    return cond.equals(o.cond) && thenp.equals(o.thenp) && elsep.equals(o.elsep);
+    return hashCode() == o.hashCode() && cond.equals(o.cond) && thenp.equals(o.thenp) && elsep.equals(o.elsep);
   }
   
   @Override
   public int hashCode() {
-    return 2 * cond.hashCode() + 3 * thenp.hashCode() + 5 * elsep.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * cond.hashCode() + 3 * thenp.hashCode() + 5 * elsep.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Data_If withCond(hydra.langs.scala.meta.Data cond) {
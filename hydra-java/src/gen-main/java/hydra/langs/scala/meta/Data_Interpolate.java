@@ -9,6 +9,8 @@ public class Data_Interpolate {
   
   public final java.util.List<hydra.langs.scala.meta.Data> args;
   
+  private int hashCode_;
+  
   public Data_Interpolate (hydra.langs.scala.meta.Data_Name prefix, java.util.List<hydra.langs.scala.meta.Lit> parts, java.util.List<hydra.langs.scala.meta.Data> args) {
     this.prefix = prefix;
     this.parts = parts;
@@ -17,16 +19,27 @@ public class Data_Interpolate {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_Interpolate)) {
       return false;
     }
     Data_Interpolate o = (Data_Interpolate) (other);
-    return prefix.equals(o.prefix) && parts.equals(o.parts) && args.equals(o.args);
+    return hashCode() == o.hashCode() && prefix.equals(o.prefix) && parts.equals(o.parts) && args.equals(o.args);
   }
   
   @Override
   public int hashCode() {
-    return 2 * prefix.hashCode() + 3 * parts.hashCode() + 5 * args.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * prefix.hashCode() + 3 * parts.hashCode() + 5 * args.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Data_Interpolate withPrefix(hydra.langs.scala.meta.Data_Name prefix) {
@@ -7,6 +7,8 @@ public class Data_Match {
   
   public final java.util.List<hydra.langs.scala.meta.Case> cases;
   
+  private int hashCode_;
+  
   public Data_Match (hydra.langs.scala.meta.Data expr, java.util.List<hydra.langs.scala.meta.Case> cases) {
     this.expr = expr;
     this.cases = cases;
@@ -14,16 +16,27 @@ public class Data_Match {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_Match)) {
       return false;
     }
     Data_Match o = (Data_Match) (other);
-    return expr.equals(o.expr) && cases.equals(o.cases);
+    return hashCode() == o.hashCode() && expr.equals(o.expr) && cases.equals(o.cases);
   }
   
   @Override
   public int hashCode() {
-    return 2 * expr.hashCode() + 3 * cases.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * expr.hashCode() + 3 * cases.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Data_Match withExpr(hydra.langs.scala.meta.Data expr) {
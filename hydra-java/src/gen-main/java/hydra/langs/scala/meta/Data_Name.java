@@ -5,21 +5,34 @@ public class Data_Name {
   
   public final hydra.langs.scala.meta.PredefString value;
   
+  private int hashCode_;
+  
   public Data_Name (hydra.langs.scala.meta.PredefString value) {
     this.value = value;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_Name)) {
       return false;
     }
     Data_Name o = (Data_Name) (other);
-    return value.equals(o.value);
+    return hashCode() == o.hashCode() && value.equals(o.value);
   }
   
   @Override
   public int hashCode() {
-    return 2 * value.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * value.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
@@ -5,21 +5,34 @@ public class Data_New {
   
   public final hydra.langs.scala.meta.Init init;
   
+  private int hashCode_;
+  
   public Data_New (hydra.langs.scala.meta.Init init) {
     this.init = init;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_New)) {
       return false;
     }
     Data_New o = (Data_New) (other);
-    return init.equals(o.init);
+    return hashCode() == o.hashCode() && init.equals(o.init);
   }
   
   @Override
   public int hashCode() {
-    return 2 * init.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * init.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
@@ -5,21 +5,34 @@ public class Data_NewAnonymous {
   
   public final hydra.langs.scala.meta.Template templ;
   
+  private int hashCode_;
+  
   public Data_NewAnonymous (hydra.langs.scala.meta.Template templ) {
     this.templ = templ;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_NewAnonymous)) {
       return false;
     }
     Data_NewAnonymous o = (Data_NewAnonymous) (other);
-    return templ.equals(o.templ);
+    return hashCode() == o.hashCode() && templ.equals(o.templ);
   }
   
   @Override
   public int hashCode() {
-    return 2 * templ.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * templ.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
@@ -11,6 +11,8 @@ public class Data_Param {
   
   public final java.util.Optional<hydra.langs.scala.meta.Data> default_;
   
+  private int hashCode_;
+  
   public Data_Param (java.util.List<hydra.langs.scala.meta.Mod> mods, hydra.langs.scala.meta.Name name, java.util.Optional<hydra.langs.scala.meta.Type> decltpe, java.util.Optional<hydra.langs.scala.meta.Data> default_) {
     this.mods = mods;
     this.name = name;
@@ -20,16 +22,27 @@ public class Data_Param {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_Param)) {
       return false;
     }
     Data_Param o = (Data_Param) (other);
-    return mods.equals(o.mods) && name.equals(o.name) && decltpe.equals(o.decltpe) && default_.equals(o.default_);
+    return hashCode() == o.hashCode() && mods.equals(o.mods) && name.equals(o.name) && decltpe.equals(o.decltpe) && default_.equals(o.default_);
   }
   
   @Override
   public int hashCode() {
-    return 2 * mods.hashCode() + 3 * name.hashCode() + 5 * decltpe.hashCode() + 7 * default_.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * mods.hashCode() + 3 * name.hashCode() + 5 * decltpe.hashCode() + 7 * default_.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Data_Param withMods(java.util.List<hydra.langs.scala.meta.Mod> mods) {
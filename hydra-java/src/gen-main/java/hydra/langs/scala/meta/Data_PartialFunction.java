@@ -5,21 +5,34 @@ public class Data_PartialFunction {
   
   public final java.util.List<hydra.langs.scala.meta.Case> cases;
   
+  private int hashCode_;
+  
   public Data_PartialFunction (java.util.List<hydra.langs.scala.meta.Case> cases) {
     this.cases = cases;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_PartialFunction)) {
       return false;
     }
     Data_PartialFunction o = (Data_PartialFunction) (other);
-    return cases.equals(o.cases);
+    return hashCode() == o.hashCode() && cases.equals(o.cases);
   }
   
   @Override
   public int hashCode() {
-    return 2 * cases.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * cases.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
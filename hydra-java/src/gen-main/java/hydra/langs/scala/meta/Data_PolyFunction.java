@@ -7,6 +7,8 @@ public class Data_PolyFunction {
   
   public final hydra.langs.scala.meta.Data body;
   
+  private int hashCode_;
+  
   public Data_PolyFunction (java.util.List<hydra.langs.scala.meta.Type_Param> tparams, hydra.langs.scala.meta.Data body) {
     this.tparams = tparams;
     this.body = body;
@@ -14,16 +16,27 @@ public class Data_PolyFunction {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_PolyFunction)) {
       return false;
     }
     Data_PolyFunction o = (Data_PolyFunction) (other);
-    return tparams.equals(o.tparams) && body.equals(o.body);
+    return hashCode() == o.hashCode() && tparams.equals(o.tparams) && body.equals(o.body);
   }
   
   @Override
   public int hashCode() {
-    return 2 * tparams.hashCode() + 3 * body.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * tparams.hashCode() + 3 * body.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Data_PolyFunction withTparams(java.util.List<hydra.langs.scala.meta.Type_Param> tparams) {
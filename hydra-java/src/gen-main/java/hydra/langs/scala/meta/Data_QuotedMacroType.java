@@ -5,21 +5,34 @@ public class Data_QuotedMacroType {
   
   public final hydra.langs.scala.meta.Type tpe;
   
+  private int hashCode_;
+  
   public Data_QuotedMacroType (hydra.langs.scala.meta.Type tpe) {
     this.tpe = tpe;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_QuotedMacroType)) {
       return false;
     }
     Data_QuotedMacroType o = (Data_QuotedMacroType) (other);
-    return tpe.equals(o.tpe);
+    return hashCode() == o.hashCode() && tpe.equals(o.tpe);
   }
   
   @Override
   public int hashCode() {
-    return 2 * tpe.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * tpe.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
@@ -56,22 +56,35 @@ public abstract class Data_Ref {
   public static final class This extends hydra.langs.scala.meta.Data_Ref {
     public final hydra.langs.scala.meta.Data_This value;
     
+    private int hashCode_;
+    
     public This (hydra.langs.scala.meta.Data_This value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof This)) {
         return false;
       }
       This o = (This) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -83,22 +96,35 @@ public abstract class Data_Ref {
   public static final class Super extends hydra.langs.scala.meta.Data_Ref {
     public final hydra.langs.scala.meta.Data_Super value;
     
+    private int hashCode_;
+    
     public Super (hydra.langs.scala.meta.Data_Super value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Super)) {
         return false;
       }
       Super o = (Super) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -110,22 +136,35 @@ public abstract class Data_Ref {
   public static final class Name extends hydra.langs.scala.meta.Data_Ref {
     public final hydra.langs.scala.meta.Data_Name value;
     
+    private int hashCode_;
+    
     public Name (hydra.langs.scala.meta.Data_Name value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Name)) {
         return false;
       }
       Name o = (Name) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -137,22 +176,35 @@ public abstract class Data_Ref {
   public static final class Anonymous extends hydra.langs.scala.meta.Data_Ref {
     public final hydra.langs.scala.meta.Data_Anonymous value;
     
+    private int hashCode_;
+    
     public Anonymous (hydra.langs.scala.meta.Data_Anonymous value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Anonymous)) {
         return false;
       }
       Anonymous o = (Anonymous) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -164,22 +216,35 @@ public abstract class Data_Ref {
   public static final class Select extends hydra.langs.scala.meta.Data_Ref {
     public final hydra.langs.scala.meta.Data_Select value;
     
+    private int hashCode_;
+    
     public Select (hydra.langs.scala.meta.Data_Select value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Select)) {
         return false;
       }
       Select o = (Select) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -191,22 +256,35 @@ public abstract class Data_Ref {
   public static final class ApplyUnary extends hydra.langs.scala.meta.Data_Ref {
     public final hydra.langs.scala.meta.Data_ApplyUnary value;
     
+    private int hashCode_;
+    
     public ApplyUnary (hydra.langs.scala.meta.Data_ApplyUnary value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ApplyUnary)) {
         return false;
       }
       ApplyUnary o = (ApplyUnary) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -5,21 +5,34 @@ public class Data_Return {
   
   public final hydra.langs.scala.meta.Data expr;
   
+  private int hashCode_;
+  
   public Data_Return (hydra.langs.scala.meta.Data expr) {
     this.expr = expr;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_Return)) {
       return false;
     }
     Data_Return o = (Data_Return) (other);
-    return expr.equals(o.expr);
+    return hashCode() == o.hashCode() && expr.equals(o.expr);
   }
   
   @Override
   public int hashCode() {
-    return 2 * expr.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * expr.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
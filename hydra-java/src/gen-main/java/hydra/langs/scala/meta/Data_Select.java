@@ -7,6 +7,8 @@ public class Data_Select {
   
   public final hydra.langs.scala.meta.Data_Name name;
   
+  private int hashCode_;
+  
   public Data_Select (hydra.langs.scala.meta.Data qual, hydra.langs.scala.meta.Data_Name name) {
     this.qual = qual;
     this.name = name;
@@ -14,16 +16,27 @@ public class Data_Select {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_Select)) {
       return false;
     }
     Data_Select o = (Data_Select) (other);
-    return qual.equals(o.qual) && name.equals(o.name);
+    return hashCode() == o.hashCode() && qual.equals(o.qual) && name.equals(o.name);
   }
   
   @Override
   public int hashCode() {
-    return 2 * qual.hashCode() + 3 * name.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * qual.hashCode() + 3 * name.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Data_Select withQual(hydra.langs.scala.meta.Data qual) {
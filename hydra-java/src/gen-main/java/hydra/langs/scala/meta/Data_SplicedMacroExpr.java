@@ -5,21 +5,34 @@ public class Data_SplicedMacroExpr {
   
   public final hydra.langs.scala.meta.Data body;
   
+  private int hashCode_;
+  
   public Data_SplicedMacroExpr (hydra.langs.scala.meta.Data body) {
     this.body = body;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_SplicedMacroExpr)) {
       return false;
     }
     Data_SplicedMacroExpr o = (Data_SplicedMacroExpr) (other);
-    return body.equals(o.body);
+    return hashCode() == o.hashCode() && body.equals(o.body);
   }
   
   @Override
   public int hashCode() {
-    return 2 * body.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * body.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
@@ -7,6 +7,8 @@ public class Data_Super {
   
   public final hydra.langs.scala.meta.Name superp;
   
+  private int hashCode_;
+  
   public Data_Super (hydra.langs.scala.meta.Name thisp, hydra.langs.scala.meta.Name superp) {
     this.thisp = thisp;
     this.superp = superp;
@@ -14,16 +16,27 @@ public class Data_Super {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_Super)) {
       return false;
     }
     Data_Super o = (Data_Super) (other);
-    return thisp.equals(o.thisp) && superp.equals(o.superp);
+    return hashCode() == o.hashCode() && thisp.equals(o.thisp) && superp.equals(o.superp);
   }
   
   @Override
   public int hashCode() {
-    return 2 * thisp.hashCode() + 3 * superp.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * thisp.hashCode() + 3 * superp.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Data_Super withThisp(hydra.langs.scala.meta.Name thisp) {
@@ -9,6 +9,8 @@ public class Data_TryWithHandler {
   
   public final java.util.Optional<hydra.langs.scala.meta.Data> finallyp;
   
+  private int hashCode_;
+  
   public Data_TryWithHandler (hydra.langs.scala.meta.Data expr, hydra.langs.scala.meta.Data catchp, java.util.Optional<hydra.langs.scala.meta.Data> finallyp) {
     this.expr = expr;
     this.catchp = catchp;
@@ -17,16 +19,27 @@ public class Data_TryWithHandler {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_TryWithHandler)) {
       return false;
     }
     Data_TryWithHandler o = (Data_TryWithHandler) (other);
-    return expr.equals(o.expr) && catchp.equals(o.catchp) && finallyp.equals(o.finallyp);
+    return hashCode() == o.hashCode() && expr.equals(o.expr) && catchp.equals(o.catchp) && finallyp.equals(o.finallyp);
   }
   
   @Override
   public int hashCode() {
-    return 2 * expr.hashCode() + 3 * catchp.hashCode() + 5 * finallyp.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * expr.hashCode() + 3 * catchp.hashCode() + 5 * finallyp.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Data_TryWithHandler withExpr(hydra.langs.scala.meta.Data expr) {
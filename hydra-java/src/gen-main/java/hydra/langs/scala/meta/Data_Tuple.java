@@ -5,21 +5,34 @@ public class Data_Tuple {
   
   public final java.util.List<hydra.langs.scala.meta.Data> args;
   
+  private int hashCode_;
+  
   public Data_Tuple (java.util.List<hydra.langs.scala.meta.Data> args) {
     this.args = args;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_Tuple)) {
       return false;
     }
     Data_Tuple o = (Data_Tuple) (other);
-    return args.equals(o.args);
+    return hashCode() == o.hashCode() && args.equals(o.args);
   }
   
   @Override
   public int hashCode() {
-    return 2 * args.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * args.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
@@ -7,6 +7,8 @@ public class Data_While {
   
   public final hydra.langs.scala.meta.Data body;
   
+  private int hashCode_;
+  
   public Data_While (hydra.langs.scala.meta.Data expr, hydra.langs.scala.meta.Data body) {
     this.expr = expr;
     this.body = body;
@@ -14,16 +16,27 @@ public class Data_While {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Data_While)) {
       return false;
     }
     Data_While o = (Data_While) (other);
-    return expr.equals(o.expr) && body.equals(o.body);
+    return hashCode() == o.hashCode() && expr.equals(o.expr) && body.equals(o.body);
   }
   
   @Override
   public int hashCode() {
-    return 2 * expr.hashCode() + 3 * body.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * expr.hashCode() + 3 * body.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Data_While withExpr(hydra.langs.scala.meta.Data expr) {
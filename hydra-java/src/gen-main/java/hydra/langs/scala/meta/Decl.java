@@ -50,22 +50,35 @@ public abstract class Decl {
   public static final class Val extends hydra.langs.scala.meta.Decl {
     public final hydra.langs.scala.meta.Decl_Val value;
     
+    private int hashCode_;
+    
     public Val (hydra.langs.scala.meta.Decl_Val value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Val)) {
         return false;
       }
       Val o = (Val) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -77,22 +90,35 @@ public abstract class Decl {
   public static final class Var extends hydra.langs.scala.meta.Decl {
     public final hydra.langs.scala.meta.Decl_Var value;
     
+    private int hashCode_;
+    
     public Var (hydra.langs.scala.meta.Decl_Var value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Var)) {
         return false;
       }
       Var o = (Var) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -104,22 +130,35 @@ public abstract class Decl {
   public static final class Def extends hydra.langs.scala.meta.Decl {
     public final hydra.langs.scala.meta.Decl_Def value;
     
+    private int hashCode_;
+    
     public Def (hydra.langs.scala.meta.Decl_Def value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Def)) {
         return false;
       }
       Def o = (Def) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -131,22 +170,35 @@ public abstract class Decl {
   public static final class Type extends hydra.langs.scala.meta.Decl {
     public final hydra.langs.scala.meta.Decl_Type value;
     
+    private int hashCode_;
+    
     public Type (hydra.langs.scala.meta.Decl_Type value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Type)) {
         return false;
       }
       Type o = (Type) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -158,22 +210,35 @@ public abstract class Decl {
   public static final class Given extends hydra.langs.scala.meta.Decl {
     public final hydra.langs.scala.meta.Decl_Given value;
     
+    private int hashCode_;
+    
     public Given (hydra.langs.scala.meta.Decl_Given value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Given)) {
         return false;
       }
       Given o = (Given) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -11,6 +11,8 @@ public class Decl_Type {
   
   public final hydra.langs.scala.meta.Type_Bounds bounds;
   
+  private int hashCode_;
+  
   public Decl_Type (java.util.List<hydra.langs.scala.meta.Mod> mods, hydra.langs.scala.meta.Type_Name name, java.util.List<hydra.langs.scala.meta.Type_Param> tparams, hydra.langs.scala.meta.Type_Bounds bounds) {
     this.mods = mods;
     this.name = name;
@@ -20,16 +22,27 @@ public class Decl_Type {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Decl_Type)) {
       return false;
     }
     Decl_Type o = (Decl_Type) (other);
-    return mods.equals(o.mods) && name.equals(o.name) && tparams.equals(o.tparams) && bounds.equals(o.bounds);
+    return hashCode() == o.hashCode() && mods.equals(o.mods) && name.equals(o.name) && tparams.equals(o.tparams) && bounds.equals(o.bounds);
   }
   
   @Override
   public int hashCode() {
-    return 2 * mods.hashCode() + 3 * name.hashCode() + 5 * tparams.hashCode() + 7 * bounds.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * mods.hashCode() + 3 * name.hashCode() + 5 * tparams.hashCode() + 7 * bounds.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Decl_Type withMods(java.util.List<hydra.langs.scala.meta.Mod> mods) {
@@ -9,6 +9,8 @@ public class Decl_Val {
   
   public final hydra.langs.scala.meta.Type decltpe;
   
+  private int hashCode_;
+  
   public Decl_Val (java.util.List<hydra.langs.scala.meta.Mod> mods, java.util.List<hydra.langs.scala.meta.Pat> pats, hydra.langs.scala.meta.Type decltpe) {
     this.mods = mods;
     this.pats = pats;
@@ -17,16 +19,27 @@ public class Decl_Val {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Decl_Val)) {
       return false;
     }
     Decl_Val o = (Decl_Val) (other);
-    return mods.equals(o.mods) && pats.equals(o.pats) && decltpe.equals(o.decltpe);
+    return hashCode() == o.hashCode() && mods.equals(o.mods) && pats.equals(o.pats) && decltpe.equals(o.decltpe);
   }
   
   @Override
   public int hashCode() {
-    return 2 * mods.hashCode() + 3 * pats.hashCode() + 5 * decltpe.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * mods.hashCode() + 3 * pats.hashCode() + 5 * decltpe.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Decl_Val withMods(java.util.List<hydra.langs.scala.meta.Mod> mods) {
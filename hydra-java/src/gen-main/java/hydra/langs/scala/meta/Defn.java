@@ -104,22 +104,35 @@ public abstract class Defn {
   public static final class Val extends hydra.langs.scala.meta.Defn {
     public final hydra.langs.scala.meta.Defn_Val value;
     
+    private int hashCode_;
+    
     public Val (hydra.langs.scala.meta.Defn_Val value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Val)) {
         return false;
       }
       Val o = (Val) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -131,22 +144,35 @@ public abstract class Defn {
   public static final class Var extends hydra.langs.scala.meta.Defn {
     public final hydra.langs.scala.meta.Defn_Var value;
     
+    private int hashCode_;
+    
     public Var (hydra.langs.scala.meta.Defn_Var value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Var)) {
         return false;
       }
       Var o = (Var) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -158,22 +184,35 @@ public abstract class Defn {
   public static final class Given extends hydra.langs.scala.meta.Defn {
     public final hydra.langs.scala.meta.Defn_Given value;
     
+    private int hashCode_;
+    
     public Given (hydra.langs.scala.meta.Defn_Given value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Given)) {
         return false;
       }
       Given o = (Given) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -185,22 +224,35 @@ public abstract class Defn {
   public static final class Enum_ extends hydra.langs.scala.meta.Defn {
     public final hydra.langs.scala.meta.Defn_Enum value;
     
+    private int hashCode_;
+    
     public Enum_ (hydra.langs.scala.meta.Defn_Enum value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Enum_)) {
         return false;
       }
       Enum_ o = (Enum_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -212,22 +264,35 @@ public abstract class Defn {
   public static final class EnumCase extends hydra.langs.scala.meta.Defn {
     public final hydra.langs.scala.meta.Defn_EnumCase value;
     
+    private int hashCode_;
+    
     public EnumCase (hydra.langs.scala.meta.Defn_EnumCase value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof EnumCase)) {
         return false;
       }
       EnumCase o = (EnumCase) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -239,22 +304,35 @@ public abstract class Defn {
   public static final class RepeatedEnumCase extends hydra.langs.scala.meta.Defn {
     public final hydra.langs.scala.meta.Defn_RepeatedEnumCase value;
     
+    private int hashCode_;
+    
     public RepeatedEnumCase (hydra.langs.scala.meta.Defn_RepeatedEnumCase value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof RepeatedEnumCase)) {
         return false;
       }
       RepeatedEnumCase o = (RepeatedEnumCase) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -266,22 +344,35 @@ public abstract class Defn {
   public static final class GivenAlias extends hydra.langs.scala.meta.Defn {
     public final hydra.langs.scala.meta.Defn_GivenAlias value;
     
+    private int hashCode_;
+    
     public GivenAlias (hydra.langs.scala.meta.Defn_GivenAlias value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof GivenAlias)) {
         return false;
       }
       GivenAlias o = (GivenAlias) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -293,22 +384,35 @@ public abstract class Defn {
   public static final class ExtensionGroup extends hydra.langs.scala.meta.Defn {
     public final hydra.langs.scala.meta.Defn_ExtensionGroup value;
     
+    private int hashCode_;
+    
     public ExtensionGroup (hydra.langs.scala.meta.Defn_ExtensionGroup value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ExtensionGroup)) {
         return false;
       }
       ExtensionGroup o = (ExtensionGroup) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -320,22 +424,35 @@ public abstract class Defn {
   public static final class Def extends hydra.langs.scala.meta.Defn {
     public final hydra.langs.scala.meta.Defn_Def value;
     
+    private int hashCode_;
+    
     public Def (hydra.langs.scala.meta.Defn_Def value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Def)) {
         return false;
       }
       Def o = (Def) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -347,22 +464,35 @@ public abstract class Defn {
   public static final class Macro extends hydra.langs.scala.meta.Defn {
     public final hydra.langs.scala.meta.Defn_Macro value;
     
+    private int hashCode_;
+    
     public Macro (hydra.langs.scala.meta.Defn_Macro value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Macro)) {
         return false;
       }
       Macro o = (Macro) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -374,22 +504,35 @@ public abstract class Defn {
   public static final class Type extends hydra.langs.scala.meta.Defn {
     public final hydra.langs.scala.meta.Defn_Type value;
     
+    private int hashCode_;
+    
     public Type (hydra.langs.scala.meta.Defn_Type value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Type)) {
         return false;
       }
       Type o = (Type) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -401,22 +544,35 @@ public abstract class Defn {
   public static final class Class_ extends hydra.langs.scala.meta.Defn {
     public final hydra.langs.scala.meta.Defn_Class value;
     
+    private int hashCode_;
+    
     public Class_ (hydra.langs.scala.meta.Defn_Class value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Class_)) {
         return false;
       }
       Class_ o = (Class_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -428,22 +584,35 @@ public abstract class Defn {
   public static final class Trait extends hydra.langs.scala.meta.Defn {
     public final hydra.langs.scala.meta.Defn_Trait value;
     
+    private int hashCode_;
+    
     public Trait (hydra.langs.scala.meta.Defn_Trait value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Trait)) {
         return false;
       }
       Trait o = (Trait) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -455,22 +624,35 @@ public abstract class Defn {
   public static final class Object_ extends hydra.langs.scala.meta.Defn {
     public final hydra.langs.scala.meta.Defn_Object value;
     
+    private int hashCode_;
+    
     public Object_ (hydra.langs.scala.meta.Defn_Object value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Object_)) {
         return false;
       }
       Object_ o = (Object_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
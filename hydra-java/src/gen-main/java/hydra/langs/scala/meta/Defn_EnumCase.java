@@ -13,6 +13,8 @@ public class Defn_EnumCase {
   
   public final java.util.List<hydra.langs.scala.meta.Init> inits;
   
+  private int hashCode_;
+  
   public Defn_EnumCase (java.util.List<hydra.langs.scala.meta.Mod> mods, hydra.langs.scala.meta.Data_Name name, java.util.List<hydra.langs.scala.meta.Type_Param> tparams, hydra.langs.scala.meta.Ctor_Primary ctor, java.util.List<hydra.langs.scala.meta.Init> inits) {
     this.mods = mods;
     this.name = name;
@@ -23,16 +25,27 @@ public class Defn_EnumCase {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Defn_EnumCase)) {
       return false;
     }
     Defn_EnumCase o = (Defn_EnumCase) (other);
-    return mods.equals(o.mods) && name.equals(o.name) && tparams.equals(o.tparams) && ctor.equals(o.ctor) && inits.equals(o.inits);
+    return hashCode() == o.hashCode() && mods.equals(o.mods) && name.equals(o.name) && tparams.equals(o.tparams) && ctor.equals(o.ctor) && inits.equals(o.inits);
   }
   
   @Override
   public int hashCode() {
-    return 2 * mods.hashCode() + 3 * name.hashCode() + 5 * tparams.hashCode() + 7 * ctor.hashCode() + 11 * inits.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * mods.hashCode() + 3 * name.hashCode() + 5 * tparams.hashCode() + 7 * ctor.hashCode() + 11 * inits.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Defn_EnumCase withMods(java.util.List<hydra.langs.scala.meta.Mod> mods) {
@@ -9,6 +9,8 @@ public class Defn_ExtensionGroup {
   
   public final hydra.langs.scala.meta.Stat body;
   
+  private int hashCode_;
+  
   public Defn_ExtensionGroup (java.util.List<hydra.langs.scala.meta.Type_Param> tparams, java.util.List<java.util.List<hydra.langs.scala.meta.Data_Param>> parmss, hydra.langs.scala.meta.Stat body) {
     this.tparams = tparams;
     this.parmss = parmss;
@@ -17,16 +19,27 @@ public class Defn_ExtensionGroup {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Defn_ExtensionGroup)) {
       return false;
     }
     Defn_ExtensionGroup o = (Defn_ExtensionGroup) (other);
-    return tparams.equals(o.tparams) && parmss.equals(o.parmss) && body.equals(o.body);
+    return hashCode() == o.hashCode() && tparams.equals(o.tparams) && parmss.equals(o.parmss) && body.equals(o.body);
   }
   
   @Override
   public int hashCode() {
-    return 2 * tparams.hashCode() + 3 * parmss.hashCode() + 5 * body.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * tparams.hashCode() + 3 * parmss.hashCode() + 5 * body.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Defn_ExtensionGroup withTparams(java.util.List<hydra.langs.scala.meta.Type_Param> tparams) {
@@ -7,6 +7,8 @@ public class Defn_RepeatedEnumCase {
   
   public final java.util.List<hydra.langs.scala.meta.Data_Name> cases;
   
+  private int hashCode_;
+  
   public Defn_RepeatedEnumCase (java.util.List<hydra.langs.scala.meta.Mod> mods, java.util.List<hydra.langs.scala.meta.Data_Name> cases) {
     this.mods = mods;
     this.cases = cases;
@@ -14,16 +16,27 @@ public class Defn_RepeatedEnumCase {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Defn_RepeatedEnumCase)) {
       return false;
     }
     Defn_RepeatedEnumCase o = (Defn_RepeatedEnumCase) (other);
-    return mods.equals(o.mods) && cases.equals(o.cases);
+    return hashCode() == o.hashCode() && mods.equals(o.mods) && cases.equals(o.cases);
   }
   
   @Override
   public int hashCode() {
-    return 2 * mods.hashCode() + 3 * cases.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * mods.hashCode() + 3 * cases.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Defn_RepeatedEnumCase withMods(java.util.List<hydra.langs.scala.meta.Mod> mods) {
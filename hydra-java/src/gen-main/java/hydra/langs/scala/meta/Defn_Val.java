@@ -11,6 +11,8 @@ public class Defn_Val {
   
   public final hydra.langs.scala.meta.Data rhs;
   
+  private int hashCode_;
+  
   public Defn_Val (java.util.List<hydra.langs.scala.meta.Mod> mods, java.util.List<hydra.langs.scala.meta.Pat> pats, java.util.Optional<hydra.langs.scala.meta.Type> decltpe, hydra.langs.scala.meta.Data rhs) {
     this.mods = mods;
     this.pats = pats;
@@ -20,16 +22,27 @@ public class Defn_Val {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Defn_Val)) {
       return false;
     }
     Defn_Val o = (Defn_Val) (other);
-    return mods.equals(o.mods) && pats.equals(o.pats) && decltpe.equals(o.decltpe) && rhs.equals(o.rhs);
+    return hashCode() == o.hashCode() && mods.equals(o.mods) && pats.equals(o.pats) && decltpe.equals(o.decltpe) && rhs.equals(o.rhs);
   }
   
   @Override
   public int hashCode() {
-    return 2 * mods.hashCode() + 3 * pats.hashCode() + 5 * decltpe.hashCode() + 7 * rhs.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * mods.hashCode() + 3 * pats.hashCode() + 5 * decltpe.hashCode() + 7 * rhs.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Defn_Val withMods(java.util.List<hydra.langs.scala.meta.Mod> mods) {
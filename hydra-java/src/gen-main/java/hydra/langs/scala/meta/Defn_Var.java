@@ -11,6 +11,8 @@ public class Defn_Var {
   
   public final java.util.Optional<hydra.langs.scala.meta.Data> rhs;
   
+  private int hashCode_;
+  
   public Defn_Var (java.util.List<hydra.langs.scala.meta.Mod> mods, java.util.List<hydra.langs.scala.meta.Pat> pats, hydra.langs.scala.meta.Type decltpe, java.util.Optional<hydra.langs.scala.meta.Data> rhs) {
     this.mods = mods;
     this.pats = pats;
@@ -20,16 +22,27 @@ public class Defn_Var {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Defn_Var)) {
       return false;
     }
     Defn_Var o = (Defn_Var) (other);
-    return mods.equals(o.mods) && pats.equals(o.pats) && decltpe.equals(o.decltpe) && rhs.equals(o.rhs);
+    return hashCode() == o.hashCode() && mods.equals(o.mods) && pats.equals(o.pats) && decltpe.equals(o.decltpe) && rhs.equals(o.rhs);
   }
   
   @Override
   public int hashCode() {
-    return 2 * mods.hashCode() + 3 * pats.hashCode() + 5 * decltpe.hashCode() + 7 * rhs.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * mods.hashCode() + 3 * pats.hashCode() + 5 * decltpe.hashCode() + 7 * rhs.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Defn_Var withMods(java.util.List<hydra.langs.scala.meta.Mod> mods) {
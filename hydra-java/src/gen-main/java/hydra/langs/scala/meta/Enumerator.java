@@ -44,22 +44,35 @@ public abstract class Enumerator {
   public static final class Generator extends hydra.langs.scala.meta.Enumerator {
     public final hydra.langs.scala.meta.Enumerator_Generator value;
     
+    private int hashCode_;
+    
     public Generator (hydra.langs.scala.meta.Enumerator_Generator value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Generator)) {
         return false;
       }
       Generator o = (Generator) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -71,22 +84,35 @@ public abstract class Enumerator {
   public static final class CaseGenerator extends hydra.langs.scala.meta.Enumerator {
     public final hydra.langs.scala.meta.Enumerator_CaseGenerator value;
     
+    private int hashCode_;
+    
     public CaseGenerator (hydra.langs.scala.meta.Enumerator_CaseGenerator value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof CaseGenerator)) {
         return false;
       }
       CaseGenerator o = (CaseGenerator) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -98,22 +124,35 @@ public abstract class Enumerator {
   public static final class Val extends hydra.langs.scala.meta.Enumerator {
     public final hydra.langs.scala.meta.Enumerator_Val value;
     
+    private int hashCode_;
+    
     public Val (hydra.langs.scala.meta.Enumerator_Val value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Val)) {
         return false;
       }
       Val o = (Val) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -125,22 +164,35 @@ public abstract class Enumerator {
   public static final class Guard extends hydra.langs.scala.meta.Enumerator {
     public final hydra.langs.scala.meta.Enumerator_Guard value;
     
+    private int hashCode_;
+    
     public Guard (hydra.langs.scala.meta.Enumerator_Guard value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Guard)) {
         return false;
       }
       Guard o = (Guard) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
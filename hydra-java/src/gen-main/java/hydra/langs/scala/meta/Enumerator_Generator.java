@@ -7,6 +7,8 @@ public class Enumerator_Generator {
   
   public final hydra.langs.scala.meta.Data rhs;
   
+  private int hashCode_;
+  
   public Enumerator_Generator (hydra.langs.scala.meta.Pat pat, hydra.langs.scala.meta.Data rhs) {
     this.pat = pat;
     this.rhs = rhs;
@@ -14,16 +16,27 @@ public class Enumerator_Generator {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Enumerator_Generator)) {
       return false;
     }
     Enumerator_Generator o = (Enumerator_Generator) (other);
-    return pat.equals(o.pat) && rhs.equals(o.rhs);
+    return hashCode() == o.hashCode() && pat.equals(o.pat) && rhs.equals(o.rhs);
   }
   
   @Override
   public int hashCode() {
-    return 2 * pat.hashCode() + 3 * rhs.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * pat.hashCode() + 3 * rhs.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Enumerator_Generator withPat(hydra.langs.scala.meta.Pat pat) {
@@ -5,21 +5,34 @@ public class Enumerator_Guard {
   
   public final hydra.langs.scala.meta.Data cond;
   
+  private int hashCode_;
+  
   public Enumerator_Guard (hydra.langs.scala.meta.Data cond) {
     this.cond = cond;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Enumerator_Guard)) {
       return false;
     }
     Enumerator_Guard o = (Enumerator_Guard) (other);
-    return cond.equals(o.cond);
+    return hashCode() == o.hashCode() && cond.equals(o.cond);
   }
   
   @Override
   public int hashCode() {
-    return 2 * cond.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * cond.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
@@ -5,21 +5,34 @@ public class Export {
   
   public final java.util.List<hydra.langs.scala.meta.Importer> importers;
   
+  private int hashCode_;
+  
   public Export (java.util.List<hydra.langs.scala.meta.Importer> importers) {
     this.importers = importers;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Export)) {
       return false;
     }
     Export o = (Export) (other);
-    return importers.equals(o.importers);
+    return hashCode() == o.hashCode() && importers.equals(o.importers);
   }
   
   @Override
   public int hashCode() {
-    return 2 * importers.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * importers.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
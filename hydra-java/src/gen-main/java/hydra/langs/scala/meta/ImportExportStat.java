@@ -32,22 +32,35 @@ public abstract class ImportExportStat {
   public static final class Import extends hydra.langs.scala.meta.ImportExportStat {
     public final hydra.langs.scala.meta.Import value;
     
+    private int hashCode_;
+    
     public Import (hydra.langs.scala.meta.Import value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Import)) {
         return false;
       }
       Import o = (Import) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class ImportExportStat {
   public static final class Export extends hydra.langs.scala.meta.ImportExportStat {
     public final hydra.langs.scala.meta.Export value;
     
+    private int hashCode_;
+    
     public Export (hydra.langs.scala.meta.Export value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Export)) {
         return false;
       }
       Export o = (Export) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -60,6 +60,9 @@ public abstract class Importee {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Wildcard)) {
         return false;
       }
@@ -81,22 +84,35 @@ public abstract class Importee {
   public static final class Given extends hydra.langs.scala.meta.Importee {
     public final hydra.langs.scala.meta.Importee_Given value;
     
+    private int hashCode_;
+    
     public Given (hydra.langs.scala.meta.Importee_Given value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Given)) {
         return false;
       }
       Given o = (Given) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -112,6 +128,9 @@ public abstract class Importee {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof GivenAll)) {
         return false;
       }
@@ -133,22 +152,35 @@ public abstract class Importee {
   public static final class Name extends hydra.langs.scala.meta.Importee {
     public final hydra.langs.scala.meta.Importee_Name value;
     
+    private int hashCode_;
+    
     public Name (hydra.langs.scala.meta.Importee_Name value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Name)) {
         return false;
       }
       Name o = (Name) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -160,22 +192,35 @@ public abstract class Importee {
   public static final class Rename extends hydra.langs.scala.meta.Importee {
     public final hydra.langs.scala.meta.Importee_Rename value;
     
+    private int hashCode_;
+    
     public Rename (hydra.langs.scala.meta.Importee_Rename value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Rename)) {
         return false;
       }
       Rename o = (Rename) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -187,22 +232,35 @@ public abstract class Importee {
   public static final class Unimport extends hydra.langs.scala.meta.Importee {
     public final hydra.langs.scala.meta.Importee_Unimport value;
     
+    private int hashCode_;
+    
     public Unimport (hydra.langs.scala.meta.Importee_Unimport value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Unimport)) {
         return false;
       }
       Unimport o = (Unimport) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -7,6 +7,8 @@ public class Importee_Rename {
   
   public final hydra.langs.scala.meta.Name rename;
   
+  private int hashCode_;
+  
   public Importee_Rename (hydra.langs.scala.meta.Name name, hydra.langs.scala.meta.Name rename) {
     this.name = name;
     this.rename = rename;
@@ -14,16 +16,27 @@ public class Importee_Rename {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Importee_Rename)) {
       return false;
     }
     Importee_Rename o = (Importee_Rename) (other);
-    return name.equals(o.name) && rename.equals(o.rename);
+    return hashCode() == o.hashCode() && name.equals(o.name) && rename.equals(o.rename);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * rename.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * rename.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Importee_Rename withName(hydra.langs.scala.meta.Name name) {
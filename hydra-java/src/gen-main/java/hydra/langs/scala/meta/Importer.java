@@ -7,6 +7,8 @@ public class Importer {
   
   public final java.util.List<hydra.langs.scala.meta.Importee> importees;
   
+  private int hashCode_;
+  
   public Importer (hydra.langs.scala.meta.Data_Ref ref, java.util.List<hydra.langs.scala.meta.Importee> importees) {
     this.ref = ref;
     this.importees = importees;
@@ -14,16 +16,27 @@ public class Importer {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Importer)) {
       return false;
     }
     Importer o = (Importer) (other);
-    return ref.equals(o.ref) && importees.equals(o.importees);
+    return hashCode() == o.hashCode() && ref.equals(o.ref) && importees.equals(o.importees);
   }
   
   @Override
   public int hashCode() {
-    return 2 * ref.hashCode() + 3 * importees.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * ref.hashCode() + 3 * importees.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Importer withRef(hydra.langs.scala.meta.Data_Ref ref) {
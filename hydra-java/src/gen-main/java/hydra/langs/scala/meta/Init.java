@@ -9,6 +9,8 @@ public class Init {
   
   public final java.util.List<java.util.List<hydra.langs.scala.meta.Data>> argss;
   
+  private int hashCode_;
+  
   public Init (hydra.langs.scala.meta.Type tpe, hydra.langs.scala.meta.Name name, java.util.List<java.util.List<hydra.langs.scala.meta.Data>> argss) {
     this.tpe = tpe;
     this.name = name;
@@ -17,16 +19,27 @@ public class Init {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Init)) {
       return false;
     }
     Init o = (Init) (other);
-    return tpe.equals(o.tpe) && name.equals(o.name) && argss.equals(o.argss);
+    return hashCode() == o.hashCode() && tpe.equals(o.tpe) && name.equals(o.name) && argss.equals(o.argss);
   }
   
   @Override
   public int hashCode() {
-    return 2 * tpe.hashCode() + 3 * name.hashCode() + 5 * argss.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * tpe.hashCode() + 3 * name.hashCode() + 5 * argss.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Init withTpe(hydra.langs.scala.meta.Type tpe) {
@@ -32,22 +32,35 @@ public abstract class Member_Data {
   public static final class Pkg extends hydra.langs.scala.meta.Member_Data {
     public final hydra.langs.scala.meta.Pkg value;
     
+    private int hashCode_;
+    
     public Pkg (hydra.langs.scala.meta.Pkg value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Pkg)) {
         return false;
       }
       Pkg o = (Pkg) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class Member_Data {
   public static final class Object_ extends hydra.langs.scala.meta.Member_Data {
     public final hydra.langs.scala.meta.Pkg_Object value;
     
+    private int hashCode_;
+    
     public Object_ (hydra.langs.scala.meta.Pkg_Object value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Object_)) {
         return false;
       }
       Object_ o = (Object_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
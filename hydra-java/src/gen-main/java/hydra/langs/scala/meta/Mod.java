@@ -146,22 +146,35 @@ public abstract class Mod {
   public static final class Annot extends hydra.langs.scala.meta.Mod {
     public final hydra.langs.scala.meta.Mod_Annot value;
     
+    private int hashCode_;
+    
     public Annot (hydra.langs.scala.meta.Mod_Annot value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Annot)) {
         return false;
       }
       Annot o = (Annot) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -173,22 +186,35 @@ public abstract class Mod {
   public static final class Private extends hydra.langs.scala.meta.Mod {
     public final hydra.langs.scala.meta.Mod_Private value;
     
+    private int hashCode_;
+    
     public Private (hydra.langs.scala.meta.Mod_Private value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Private)) {
         return false;
       }
       Private o = (Private) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -200,22 +226,35 @@ public abstract class Mod {
   public static final class Protected extends hydra.langs.scala.meta.Mod {
     public final hydra.langs.scala.meta.Mod_Protected value;
     
+    private int hashCode_;
+    
     public Protected (hydra.langs.scala.meta.Mod_Protected value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Protected)) {
         return false;
       }
       Protected o = (Protected) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -231,6 +270,9 @@ public abstract class Mod {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Implicit)) {
         return false;
       }
@@ -256,6 +298,9 @@ public abstract class Mod {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Final)) {
         return false;
       }
@@ -281,6 +326,9 @@ public abstract class Mod {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Sealed)) {
         return false;
       }
@@ -306,6 +354,9 @@ public abstract class Mod {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Open)) {
         return false;
       }
@@ -331,6 +382,9 @@ public abstract class Mod {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Super)) {
         return false;
       }
@@ -356,6 +410,9 @@ public abstract class Mod {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Override_)) {
         return false;
       }
@@ -381,6 +438,9 @@ public abstract class Mod {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Case)) {
         return false;
       }
@@ -406,6 +466,9 @@ public abstract class Mod {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Abstract)) {
         return false;
       }
@@ -431,6 +494,9 @@ public abstract class Mod {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Covariant)) {
         return false;
       }
@@ -456,6 +522,9 @@ public abstract class Mod {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Contravariant)) {
         return false;
       }
@@ -481,6 +550,9 @@ public abstract class Mod {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Lazy)) {
         return false;
       }
@@ -506,6 +578,9 @@ public abstract class Mod {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ValParam)) {
         return false;
       }
@@ -531,6 +606,9 @@ public abstract class Mod {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof VarParam)) {
         return false;
       }
@@ -556,6 +634,9 @@ public abstract class Mod {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Infix)) {
         return false;
       }
@@ -581,6 +662,9 @@ public abstract class Mod {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Inline)) {
         return false;
       }
@@ -606,6 +690,9 @@ public abstract class Mod {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Using)) {
         return false;
       }
@@ -631,6 +718,9 @@ public abstract class Mod {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Opaque)) {
         return false;
       }
@@ -656,6 +746,9 @@ public abstract class Mod {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Transparent)) {
         return false;
       }
@@ -5,21 +5,34 @@ public class Mod_Annot {
   
   public final hydra.langs.scala.meta.Init init;
   
+  private int hashCode_;
+  
   public Mod_Annot (hydra.langs.scala.meta.Init init) {
     this.init = init;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Mod_Annot)) {
       return false;
     }
     Mod_Annot o = (Mod_Annot) (other);
-    return init.equals(o.init);
+    return hashCode() == o.hashCode() && init.equals(o.init);
   }
   
   @Override
   public int hashCode() {
-    return 2 * init.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * init.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
@@ -5,21 +5,34 @@ public class Mod_Protected {
   
   public final hydra.langs.scala.meta.Ref within;
   
+  private int hashCode_;
+  
   public Mod_Protected (hydra.langs.scala.meta.Ref within) {
     this.within = within;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Mod_Protected)) {
       return false;
     }
     Mod_Protected o = (Mod_Protected) (other);
-    return within.equals(o.within);
+    return hashCode() == o.hashCode() && within.equals(o.within);
   }
   
   @Override
   public int hashCode() {
-    return 2 * within.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * within.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
@@ -38,22 +38,35 @@ public abstract class Name {
   public static final class Value extends hydra.langs.scala.meta.Name {
     public final String value;
     
+    private int hashCode_;
+    
     public Value (String value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Value)) {
         return false;
       }
       Value o = (Value) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -69,6 +82,9 @@ public abstract class Name {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Anonymous)) {
         return false;
       }
@@ -90,22 +106,35 @@ public abstract class Name {
   public static final class Indeterminate extends hydra.langs.scala.meta.Name {
     public final hydra.langs.scala.meta.PredefString value;
     
+    private int hashCode_;
+    
     public Indeterminate (hydra.langs.scala.meta.PredefString value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Indeterminate)) {
         return false;
       }
       Indeterminate o = (Indeterminate) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
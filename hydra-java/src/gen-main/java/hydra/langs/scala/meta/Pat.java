@@ -104,22 +104,35 @@ public abstract class Pat {
   public static final class Var extends hydra.langs.scala.meta.Pat {
     public final hydra.langs.scala.meta.Pat_Var value;
     
+    private int hashCode_;
+    
     public Var (hydra.langs.scala.meta.Pat_Var value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Var)) {
         return false;
       }
       Var o = (Var) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -135,6 +148,9 @@ public abstract class Pat {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Wildcard)) {
         return false;
       }
@@ -160,6 +176,9 @@ public abstract class Pat {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof SeqWildcard)) {
         return false;
       }
@@ -181,22 +200,35 @@ public abstract class Pat {
   public static final class Bind extends hydra.langs.scala.meta.Pat {
     public final hydra.langs.scala.meta.Pat_Bind value;
     
+    private int hashCode_;
+    
     public Bind (hydra.langs.scala.meta.Pat_Bind value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Bind)) {
         return false;
       }
       Bind o = (Bind) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -208,22 +240,35 @@ public abstract class Pat {
   public static final class Alternative extends hydra.langs.scala.meta.Pat {
     public final hydra.langs.scala.meta.Pat_Alternative value;
     
+    private int hashCode_;
+    
     public Alternative (hydra.langs.scala.meta.Pat_Alternative value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Alternative)) {
         return false;
       }
       Alternative o = (Alternative) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -235,22 +280,35 @@ public abstract class Pat {
   public static final class Tuple extends hydra.langs.scala.meta.Pat {
     public final hydra.langs.scala.meta.Pat_Tuple value;
     
+    private int hashCode_;
+    
     public Tuple (hydra.langs.scala.meta.Pat_Tuple value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Tuple)) {
         return false;
       }
       Tuple o = (Tuple) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -262,22 +320,35 @@ public abstract class Pat {
   public static final class Repeated extends hydra.langs.scala.meta.Pat {
     public final hydra.langs.scala.meta.Pat_Repeated value;
     
+    private int hashCode_;
+    
     public Repeated (hydra.langs.scala.meta.Pat_Repeated value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Repeated)) {
         return false;
       }
       Repeated o = (Repeated) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -289,22 +360,35 @@ public abstract class Pat {
   public static final class Extract extends hydra.langs.scala.meta.Pat {
     public final hydra.langs.scala.meta.Pat_Extract value;
     
+    private int hashCode_;
+    
     public Extract (hydra.langs.scala.meta.Pat_Extract value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Extract)) {
         return false;
       }
       Extract o = (Extract) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -316,22 +400,35 @@ public abstract class Pat {
   public static final class ExtractInfix extends hydra.langs.scala.meta.Pat {
     public final hydra.langs.scala.meta.Pat_ExtractInfix value;
     
+    private int hashCode_;
+    
     public ExtractInfix (hydra.langs.scala.meta.Pat_ExtractInfix value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ExtractInfix)) {
         return false;
       }
       ExtractInfix o = (ExtractInfix) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -343,22 +440,35 @@ public abstract class Pat {
   public static final class Interpolate extends hydra.langs.scala.meta.Pat {
     public final hydra.langs.scala.meta.Pat_Interpolate value;
     
+    private int hashCode_;
+    
     public Interpolate (hydra.langs.scala.meta.Pat_Interpolate value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Interpolate)) {
         return false;
       }
       Interpolate o = (Interpolate) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -370,22 +480,35 @@ public abstract class Pat {
   public static final class Xml extends hydra.langs.scala.meta.Pat {
     public final hydra.langs.scala.meta.Pat_Xml value;
     
+    private int hashCode_;
+    
     public Xml (hydra.langs.scala.meta.Pat_Xml value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Xml)) {
         return false;
       }
       Xml o = (Xml) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -397,22 +520,35 @@ public abstract class Pat {
   public static final class Typed extends hydra.langs.scala.meta.Pat {
     public final hydra.langs.scala.meta.Pat_Typed value;
     
+    private int hashCode_;
+    
     public Typed (hydra.langs.scala.meta.Pat_Typed value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Typed)) {
         return false;
       }
       Typed o = (Typed) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -424,22 +560,35 @@ public abstract class Pat {
   public static final class Macro extends hydra.langs.scala.meta.Pat {
     public final hydra.langs.scala.meta.Pat_Macro value;
     
+    private int hashCode_;
+    
     public Macro (hydra.langs.scala.meta.Pat_Macro value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Macro)) {
         return false;
       }
       Macro o = (Macro) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -451,22 +600,35 @@ public abstract class Pat {
   public static final class Given extends hydra.langs.scala.meta.Pat {
     public final hydra.langs.scala.meta.Pat_Given value;
     
+    private int hashCode_;
+    
     public Given (hydra.langs.scala.meta.Pat_Given value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Given)) {
         return false;
       }
       Given o = (Given) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
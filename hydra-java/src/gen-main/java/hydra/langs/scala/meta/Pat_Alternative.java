@@ -7,6 +7,8 @@ public class Pat_Alternative {
   
   public final hydra.langs.scala.meta.Pat rhs;
   
+  private int hashCode_;
+  
   public Pat_Alternative (hydra.langs.scala.meta.Pat lhs, hydra.langs.scala.meta.Pat rhs) {
     this.lhs = lhs;
     this.rhs = rhs;
@@ -14,16 +16,27 @@ public class Pat_Alternative {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Pat_Alternative)) {
       return false;
     }
     Pat_Alternative o = (Pat_Alternative) (other);
-    return lhs.equals(o.lhs) && rhs.equals(o.rhs);
+    return hashCode() == o.hashCode() && lhs.equals(o.lhs) && rhs.equals(o.rhs);
   }
   
   @Override
   public int hashCode() {
-    return 2 * lhs.hashCode() + 3 * rhs.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * lhs.hashCode() + 3 * rhs.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Pat_Alternative withLhs(hydra.langs.scala.meta.Pat lhs) {
@@ -7,6 +7,8 @@ public class Pat_Extract {
   
   public final java.util.List<hydra.langs.scala.meta.Pat> args;
   
+  private int hashCode_;
+  
   public Pat_Extract (hydra.langs.scala.meta.Data fun, java.util.List<hydra.langs.scala.meta.Pat> args) {
     this.fun = fun;
     this.args = args;
@@ -14,16 +16,27 @@ public class Pat_Extract {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Pat_Extract)) {
       return false;
     }
     Pat_Extract o = (Pat_Extract) (other);
-    return fun.equals(o.fun) && args.equals(o.args);
+    return hashCode() == o.hashCode() && fun.equals(o.fun) && args.equals(o.args);
   }
   
   @Override
   public int hashCode() {
-    return 2 * fun.hashCode() + 3 * args.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * fun.hashCode() + 3 * args.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Pat_Extract withFun(hydra.langs.scala.meta.Data fun) {
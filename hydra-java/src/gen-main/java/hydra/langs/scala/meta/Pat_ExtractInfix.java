@@ -9,6 +9,8 @@ public class Pat_ExtractInfix {
   
   public final java.util.List<hydra.langs.scala.meta.Pat> rhs;
   
+  private int hashCode_;
+  
   public Pat_ExtractInfix (hydra.langs.scala.meta.Pat lhs, hydra.langs.scala.meta.Data_Name op, java.util.List<hydra.langs.scala.meta.Pat> rhs) {
     this.lhs = lhs;
     this.op = op;
@@ -17,16 +19,27 @@ public class Pat_ExtractInfix {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Pat_ExtractInfix)) {
       return false;
     }
     Pat_ExtractInfix o = (Pat_ExtractInfix) (other);
-    return lhs.equals(o.lhs) && op.equals(o.op) && rhs.equals(o.rhs);
+    return hashCode() == o.hashCode() && lhs.equals(o.lhs) && op.equals(o.op) && rhs.equals(o.rhs);
   }
   
   @Override
   public int hashCode() {
-    return 2 * lhs.hashCode() + 3 * op.hashCode() + 5 * rhs.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * lhs.hashCode() + 3 * op.hashCode() + 5 * rhs.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Pat_ExtractInfix withLhs(hydra.langs.scala.meta.Pat lhs) {
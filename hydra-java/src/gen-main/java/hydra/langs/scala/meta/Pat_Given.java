@@ -5,21 +5,34 @@ public class Pat_Given {
   
   public final hydra.langs.scala.meta.Type tpe;
   
+  private int hashCode_;
+  
   public Pat_Given (hydra.langs.scala.meta.Type tpe) {
     this.tpe = tpe;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Pat_Given)) {
       return false;
     }
     Pat_Given o = (Pat_Given) (other);
-    return tpe.equals(o.tpe);
+    return hashCode() == o.hashCode() && tpe.equals(o.tpe);
   }
   
   @Override
   public int hashCode() {
-    return 2 * tpe.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * tpe.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
@@ -7,6 +7,8 @@ public class Pat_Interpolate {
   
   public final java.util.List<hydra.langs.scala.meta.Lit> parts;
   
+  private int hashCode_;
+  
   public Pat_Interpolate (hydra.langs.scala.meta.Data_Name prefix, java.util.List<hydra.langs.scala.meta.Lit> parts) {
     this.prefix = prefix;
     this.parts = parts;
@@ -14,16 +16,27 @@ public class Pat_Interpolate {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Pat_Interpolate)) {
       return false;
     }
     Pat_Interpolate o = (Pat_Interpolate) (other);
-    return prefix.equals(o.prefix) && parts.equals(o.parts);
+    return hashCode() == o.hashCode() && prefix.equals(o.prefix) && parts.equals(o.parts);
   }
   
   @Override
   public int hashCode() {
-    return 2 * prefix.hashCode() + 3 * parts.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * prefix.hashCode() + 3 * parts.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Pat_Interpolate withPrefix(hydra.langs.scala.meta.Data_Name prefix) {
@@ -5,21 +5,34 @@ public class Pat_Macro {
   
   public final hydra.langs.scala.meta.Data body;
   
+  private int hashCode_;
+  
   public Pat_Macro (hydra.langs.scala.meta.Data body) {
     this.body = body;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Pat_Macro)) {
       return false;
     }
     Pat_Macro o = (Pat_Macro) (other);
-    return body.equals(o.body);
+    return hashCode() == o.hashCode() && body.equals(o.body);
   }
   
   @Override
   public int hashCode() {
-    return 2 * body.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * body.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
@@ -5,21 +5,34 @@ public class Pat_Repeated {
   
   public final hydra.langs.scala.meta.Data_Name name;
   
+  private int hashCode_;
+  
   public Pat_Repeated (hydra.langs.scala.meta.Data_Name name) {
     this.name = name;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Pat_Repeated)) {
       return false;
     }
     Pat_Repeated o = (Pat_Repeated) (other);
-    return name.equals(o.name);
+    return hashCode() == o.hashCode() && name.equals(o.name);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
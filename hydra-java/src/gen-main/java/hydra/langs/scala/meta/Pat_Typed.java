@@ -7,6 +7,8 @@ public class Pat_Typed {
   
   public final hydra.langs.scala.meta.Type rhs;
   
+  private int hashCode_;
+  
   public Pat_Typed (hydra.langs.scala.meta.Pat lhs, hydra.langs.scala.meta.Type rhs) {
     this.lhs = lhs;
     this.rhs = rhs;
@@ -14,16 +16,27 @@ public class Pat_Typed {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Pat_Typed)) {
       return false;
     }
     Pat_Typed o = (Pat_Typed) (other);
-    return lhs.equals(o.lhs) && rhs.equals(o.rhs);
+    return hashCode() == o.hashCode() && lhs.equals(o.lhs) && rhs.equals(o.rhs);
   }
   
   @Override
   public int hashCode() {
-    return 2 * lhs.hashCode() + 3 * rhs.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * lhs.hashCode() + 3 * rhs.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Pat_Typed withLhs(hydra.langs.scala.meta.Pat lhs) {
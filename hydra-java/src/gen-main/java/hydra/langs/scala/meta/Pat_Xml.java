@@ -7,6 +7,8 @@ public class Pat_Xml {
   
   public final java.util.List<hydra.langs.scala.meta.Pat> args;
   
+  private int hashCode_;
+  
   public Pat_Xml (java.util.List<hydra.langs.scala.meta.Lit> parts, java.util.List<hydra.langs.scala.meta.Pat> args) {
     this.parts = parts;
     this.args = args;
@@ -14,16 +16,27 @@ public class Pat_Xml {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Pat_Xml)) {
       return false;
     }
     Pat_Xml o = (Pat_Xml) (other);
-    return parts.equals(o.parts) && args.equals(o.args);
+    return hashCode() == o.hashCode() && parts.equals(o.parts) && args.equals(o.args);
   }
   
   @Override
   public int hashCode() {
-    return 2 * parts.hashCode() + 3 * args.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * parts.hashCode() + 3 * args.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Pat_Xml withParts(java.util.List<hydra.langs.scala.meta.Lit> parts) {
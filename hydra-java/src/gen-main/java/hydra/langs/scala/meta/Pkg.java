@@ -9,6 +9,8 @@ public class Pkg {
   
   public final java.util.List<hydra.langs.scala.meta.Stat> stats;
   
+  private int hashCode_;
+  
   public Pkg (hydra.langs.scala.meta.Data_Name name, hydra.langs.scala.meta.Data_Ref ref, java.util.List<hydra.langs.scala.meta.Stat> stats) {
     this.name = name;
     this.ref = ref;
@@ -17,16 +19,27 @@ public class Pkg {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Pkg)) {
       return false;
     }
     Pkg o = (Pkg) (other);
-    return name.equals(o.name) && ref.equals(o.ref) && stats.equals(o.stats);
+    return hashCode() == o.hashCode() && name.equals(o.name) && ref.equals(o.ref) && stats.equals(o.stats);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * ref.hashCode() + 5 * stats.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * ref.hashCode() + 5 * stats.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Pkg withName(hydra.langs.scala.meta.Data_Name name) {
@@ -9,6 +9,8 @@ public class Pkg_Object {
   
   public final hydra.langs.scala.meta.Template template;
   
+  private int hashCode_;
+  
   public Pkg_Object (java.util.List<hydra.langs.scala.meta.Mod> mods, hydra.langs.scala.meta.Data_Name name, hydra.langs.scala.meta.Template template) {
     this.mods = mods;
     this.name = name;
@@ -17,16 +19,27 @@ public class Pkg_Object {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Pkg_Object)) {
       return false;
     }
     Pkg_Object o = (Pkg_Object) (other);
-    return mods.equals(o.mods) && name.equals(o.name) && template.equals(o.template);
+    return hashCode() == o.hashCode() && mods.equals(o.mods) && name.equals(o.name) && template.equals(o.template);
   }
   
   @Override
   public int hashCode() {
-    return 2 * mods.hashCode() + 3 * name.hashCode() + 5 * template.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * mods.hashCode() + 3 * name.hashCode() + 5 * template.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Pkg_Object withMods(java.util.List<hydra.langs.scala.meta.Mod> mods) {
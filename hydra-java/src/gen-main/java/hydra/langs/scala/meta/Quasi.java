@@ -9,6 +9,9 @@ public class Quasi {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Quasi)) {
       return false;
     }
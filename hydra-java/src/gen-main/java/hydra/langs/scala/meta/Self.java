@@ -9,6 +9,9 @@ public class Self {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Self)) {
       return false;
     }
@@ -5,21 +5,34 @@ public class Source {
   
   public final java.util.List<hydra.langs.scala.meta.Stat> stats;
   
+  private int hashCode_;
+  
   public Source (java.util.List<hydra.langs.scala.meta.Stat> stats) {
     this.stats = stats;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Source)) {
       return false;
     }
     Source o = (Source) (other);
-    return stats.equals(o.stats);
+    return hashCode() == o.hashCode() && stats.equals(o.stats);
   }
   
   @Override
   public int hashCode() {
-    return 2 * stats.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * stats.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
@@ -44,22 +44,35 @@ public abstract class Stat {
   public static final class Term extends hydra.langs.scala.meta.Stat {
     public final hydra.langs.scala.meta.Data value;
     
+    private int hashCode_;
+    
     public Term (hydra.langs.scala.meta.Data value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Term)) {
         return false;
       }
       Term o = (Term) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -71,22 +84,35 @@ public abstract class Stat {
   public static final class Decl extends hydra.langs.scala.meta.Stat {
     public final hydra.langs.scala.meta.Decl value;
     
+    private int hashCode_;
+    
     public Decl (hydra.langs.scala.meta.Decl value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Decl)) {
         return false;
       }
       Decl o = (Decl) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -98,22 +124,35 @@ public abstract class Stat {
   public static final class Defn extends hydra.langs.scala.meta.Stat {
     public final hydra.langs.scala.meta.Defn value;
     
+    private int hashCode_;
+    
     public Defn (hydra.langs.scala.meta.Defn value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Defn)) {
         return false;
       }
       Defn o = (Defn) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -125,22 +164,35 @@ public abstract class Stat {
   public static final class ImportExport extends hydra.langs.scala.meta.Stat {
     public final hydra.langs.scala.meta.ImportExportStat value;
     
+    private int hashCode_;
+    
     public ImportExport (hydra.langs.scala.meta.ImportExportStat value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ImportExport)) {
         return false;
       }
       ImportExport o = (ImportExport) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
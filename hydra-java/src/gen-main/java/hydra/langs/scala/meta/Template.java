@@ -11,6 +11,8 @@ public class Template {
   
   public final java.util.List<hydra.langs.scala.meta.Stat> stats;
   
+  private int hashCode_;
+  
   public Template (java.util.List<hydra.langs.scala.meta.Stat> early, java.util.List<hydra.langs.scala.meta.Init> inits, hydra.langs.scala.meta.Self self, java.util.List<hydra.langs.scala.meta.Stat> stats) {
     this.early = early;
     this.inits = inits;
@@ -20,16 +22,27 @@ public class Template {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Template)) {
       return false;
     }
     Template o = (Template) (other);
-    return early.equals(o.early) && inits.equals(o.inits) && self.equals(o.self) && stats.equals(o.stats);
+    return hashCode() == o.hashCode() && early.equals(o.early) && inits.equals(o.inits) && self.equals(o.self) && stats.equals(o.stats);
   }
   
   @Override
   public int hashCode() {
-    return 2 * early.hashCode() + 3 * inits.hashCode() + 5 * self.hashCode() + 7 * stats.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * early.hashCode() + 3 * inits.hashCode() + 5 * self.hashCode() + 7 * stats.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Template withEarly(java.util.List<hydra.langs.scala.meta.Stat> early) {
@@ -110,22 +110,35 @@ public abstract class Tree {
   public static final class Ref extends hydra.langs.scala.meta.Tree {
     public final hydra.langs.scala.meta.Ref value;
     
+    private int hashCode_;
+    
     public Ref (hydra.langs.scala.meta.Ref value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Ref)) {
         return false;
       }
       Ref o = (Ref) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -137,22 +150,35 @@ public abstract class Tree {
   public static final class Stat extends hydra.langs.scala.meta.Tree {
     public final hydra.langs.scala.meta.Stat value;
     
+    private int hashCode_;
+    
     public Stat (hydra.langs.scala.meta.Stat value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Stat)) {
         return false;
       }
       Stat o = (Stat) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -164,22 +190,35 @@ public abstract class Tree {
   public static final class Type extends hydra.langs.scala.meta.Tree {
     public final hydra.langs.scala.meta.Type value;
     
+    private int hashCode_;
+    
     public Type (hydra.langs.scala.meta.Type value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Type)) {
         return false;
       }
       Type o = (Type) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -191,22 +230,35 @@ public abstract class Tree {
   public static final class Bounds extends hydra.langs.scala.meta.Tree {
     public final hydra.langs.scala.meta.Type_Bounds value;
     
+    private int hashCode_;
+    
     public Bounds (hydra.langs.scala.meta.Type_Bounds value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Bounds)) {
         return false;
       }
       Bounds o = (Bounds) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -218,22 +270,35 @@ public abstract class Tree {
   public static final class Pat extends hydra.langs.scala.meta.Tree {
     public final hydra.langs.scala.meta.Pat value;
     
+    private int hashCode_;
+    
     public Pat (hydra.langs.scala.meta.Pat value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Pat)) {
         return false;
       }
       Pat o = (Pat) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -245,22 +310,35 @@ public abstract class Tree {
   public static final class Member extends hydra.langs.scala.meta.Tree {
     public final hydra.langs.scala.meta.Member value;
     
+    private int hashCode_;
+    
     public Member (hydra.langs.scala.meta.Member value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Member)) {
         return false;
       }
       Member o = (Member) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -272,22 +350,35 @@ public abstract class Tree {
   public static final class Ctor extends hydra.langs.scala.meta.Tree {
     public final hydra.langs.scala.meta.Ctor value;
     
+    private int hashCode_;
+    
     public Ctor (hydra.langs.scala.meta.Ctor value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Ctor)) {
         return false;
       }
       Ctor o = (Ctor) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -299,22 +390,35 @@ public abstract class Tree {
   public static final class Template extends hydra.langs.scala.meta.Tree {
     public final hydra.langs.scala.meta.Template value;
     
+    private int hashCode_;
+    
     public Template (hydra.langs.scala.meta.Template value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Template)) {
         return false;
       }
       Template o = (Template) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -326,22 +430,35 @@ public abstract class Tree {
   public static final class Mod extends hydra.langs.scala.meta.Tree {
     public final hydra.langs.scala.meta.Mod value;
     
+    private int hashCode_;
+    
     public Mod (hydra.langs.scala.meta.Mod value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Mod)) {
         return false;
       }
       Mod o = (Mod) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -353,22 +470,35 @@ public abstract class Tree {
   public static final class Enumerator extends hydra.langs.scala.meta.Tree {
     public final hydra.langs.scala.meta.Enumerator value;
     
+    private int hashCode_;
+    
     public Enumerator (hydra.langs.scala.meta.Enumerator value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Enumerator)) {
         return false;
       }
       Enumerator o = (Enumerator) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -380,22 +510,35 @@ public abstract class Tree {
   public static final class Importer extends hydra.langs.scala.meta.Tree {
     public final hydra.langs.scala.meta.Importer value;
     
+    private int hashCode_;
+    
     public Importer (hydra.langs.scala.meta.Importer value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Importer)) {
         return false;
       }
       Importer o = (Importer) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -407,22 +550,35 @@ public abstract class Tree {
   public static final class Importee extends hydra.langs.scala.meta.Tree {
     public final hydra.langs.scala.meta.Importee value;
     
+    private int hashCode_;
+    
     public Importee (hydra.langs.scala.meta.Importee value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Importee)) {
         return false;
       }
       Importee o = (Importee) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -434,22 +590,35 @@ public abstract class Tree {
   public static final class CaseTree extends hydra.langs.scala.meta.Tree {
     public final hydra.langs.scala.meta.CaseTree value;
     
+    private int hashCode_;
+    
     public CaseTree (hydra.langs.scala.meta.CaseTree value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof CaseTree)) {
         return false;
       }
       CaseTree o = (CaseTree) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -461,22 +630,35 @@ public abstract class Tree {
   public static final class Source extends hydra.langs.scala.meta.Tree {
     public final hydra.langs.scala.meta.Source value;
     
+    private int hashCode_;
+    
     public Source (hydra.langs.scala.meta.Source value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Source)) {
         return false;
       }
       Source o = (Source) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -488,22 +670,35 @@ public abstract class Tree {
   public static final class Quasi extends hydra.langs.scala.meta.Tree {
     public final hydra.langs.scala.meta.Quasi value;
     
+    private int hashCode_;
+    
     public Quasi (hydra.langs.scala.meta.Quasi value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Quasi)) {
         return false;
       }
       Quasi o = (Quasi) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
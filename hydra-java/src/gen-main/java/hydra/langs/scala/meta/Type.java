@@ -158,22 +158,35 @@ public abstract class Type {
   public static final class Ref extends hydra.langs.scala.meta.Type {
     public final hydra.langs.scala.meta.Type_Ref value;
     
+    private int hashCode_;
+    
     public Ref (hydra.langs.scala.meta.Type_Ref value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Ref)) {
         return false;
       }
       Ref o = (Ref) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -185,22 +198,35 @@ public abstract class Type {
   public static final class AnonymousName extends hydra.langs.scala.meta.Type {
     public final hydra.langs.scala.meta.Type_AnonymousName value;
     
+    private int hashCode_;
+    
     public AnonymousName (hydra.langs.scala.meta.Type_AnonymousName value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof AnonymousName)) {
         return false;
       }
       AnonymousName o = (AnonymousName) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -212,22 +238,35 @@ public abstract class Type {
   public static final class Apply extends hydra.langs.scala.meta.Type {
     public final hydra.langs.scala.meta.Type_Apply value;
     
+    private int hashCode_;
+    
     public Apply (hydra.langs.scala.meta.Type_Apply value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Apply)) {
         return false;
       }
       Apply o = (Apply) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -239,22 +278,35 @@ public abstract class Type {
   public static final class ApplyInfix extends hydra.langs.scala.meta.Type {
     public final hydra.langs.scala.meta.Type_ApplyInfix value;
     
+    private int hashCode_;
+    
     public ApplyInfix (hydra.langs.scala.meta.Type_ApplyInfix value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ApplyInfix)) {
         return false;
       }
       ApplyInfix o = (ApplyInfix) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -266,22 +318,35 @@ public abstract class Type {
   public static final class FunctionType extends hydra.langs.scala.meta.Type {
     public final hydra.langs.scala.meta.Type_FunctionType value;
     
+    private int hashCode_;
+    
     public FunctionType (hydra.langs.scala.meta.Type_FunctionType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof FunctionType)) {
         return false;
       }
       FunctionType o = (FunctionType) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -293,22 +358,35 @@ public abstract class Type {
   public static final class PolyFunction extends hydra.langs.scala.meta.Type {
     public final hydra.langs.scala.meta.Type_PolyFunction value;
     
+    private int hashCode_;
+    
     public PolyFunction (hydra.langs.scala.meta.Type_PolyFunction value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof PolyFunction)) {
         return false;
       }
       PolyFunction o = (PolyFunction) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -320,22 +398,35 @@ public abstract class Type {
   public static final class ImplicitFunction extends hydra.langs.scala.meta.Type {
     public final hydra.langs.scala.meta.Type_ImplicitFunction value;
     
+    private int hashCode_;
+    
     public ImplicitFunction (hydra.langs.scala.meta.Type_ImplicitFunction value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ImplicitFunction)) {
         return false;
       }
       ImplicitFunction o = (ImplicitFunction) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -347,22 +438,35 @@ public abstract class Type {
   public static final class Tuple extends hydra.langs.scala.meta.Type {
     public final hydra.langs.scala.meta.Type_Tuple value;
     
+    private int hashCode_;
+    
     public Tuple (hydra.langs.scala.meta.Type_Tuple value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Tuple)) {
         return false;
       }
       Tuple o = (Tuple) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -374,22 +478,35 @@ public abstract class Type {
   public static final class With extends hydra.langs.scala.meta.Type {
     public final hydra.langs.scala.meta.Type_With value;
     
+    private int hashCode_;
+    
     public With (hydra.langs.scala.meta.Type_With value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof With)) {
         return false;
       }
       With o = (With) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -401,22 +518,35 @@ public abstract class Type {
   public static final class And extends hydra.langs.scala.meta.Type {
     public final hydra.langs.scala.meta.Type_And value;
     
+    private int hashCode_;
+    
     public And (hydra.langs.scala.meta.Type_And value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof And)) {
         return false;
       }
       And o = (And) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -428,22 +558,35 @@ public abstract class Type {
   public static final class Or extends hydra.langs.scala.meta.Type {
     public final hydra.langs.scala.meta.Type_Or value;
     
+    private int hashCode_;
+    
     public Or (hydra.langs.scala.meta.Type_Or value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Or)) {
         return false;
       }
       Or o = (Or) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -455,22 +598,35 @@ public abstract class Type {
   public static final class Refine extends hydra.langs.scala.meta.Type {
     public final hydra.langs.scala.meta.Type_Refine value;
     
+    private int hashCode_;
+    
     public Refine (hydra.langs.scala.meta.Type_Refine value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Refine)) {
         return false;
       }
       Refine o = (Refine) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -482,22 +638,35 @@ public abstract class Type {
   public static final class Existential extends hydra.langs.scala.meta.Type {
     public final hydra.langs.scala.meta.Type_Existential value;
     
+    private int hashCode_;
+    
     public Existential (hydra.langs.scala.meta.Type_Existential value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Existential)) {
         return false;
       }
       Existential o = (Existential) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -509,22 +678,35 @@ public abstract class Type {
   public static final class Annotate extends hydra.langs.scala.meta.Type {
     public final hydra.langs.scala.meta.Type_Annotate value;
     
+    private int hashCode_;
+    
     public Annotate (hydra.langs.scala.meta.Type_Annotate value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Annotate)) {
         return false;
       }
       Annotate o = (Annotate) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -536,22 +718,35 @@ public abstract class Type {
   public static final class Lambda extends hydra.langs.scala.meta.Type {
     public final hydra.langs.scala.meta.Type_Lambda value;
     
+    private int hashCode_;
+    
     public Lambda (hydra.langs.scala.meta.Type_Lambda value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Lambda)) {
         return false;
       }
       Lambda o = (Lambda) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -563,22 +758,35 @@ public abstract class Type {
   public static final class Macro extends hydra.langs.scala.meta.Type {
     public final hydra.langs.scala.meta.Type_Macro value;
     
+    private int hashCode_;
+    
     public Macro (hydra.langs.scala.meta.Type_Macro value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Macro)) {
         return false;
       }
       Macro o = (Macro) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -590,22 +798,35 @@ public abstract class Type {
   public static final class Method extends hydra.langs.scala.meta.Type {
     public final hydra.langs.scala.meta.Type_Method value;
     
+    private int hashCode_;
+    
     public Method (hydra.langs.scala.meta.Type_Method value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Method)) {
         return false;
       }
       Method o = (Method) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -617,22 +838,35 @@ public abstract class Type {
   public static final class Placeholder extends hydra.langs.scala.meta.Type {
     public final hydra.langs.scala.meta.Type_Placeholder value;
     
+    private int hashCode_;
+    
     public Placeholder (hydra.langs.scala.meta.Type_Placeholder value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Placeholder)) {
         return false;
       }
       Placeholder o = (Placeholder) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -644,22 +878,35 @@ public abstract class Type {
   public static final class ByName extends hydra.langs.scala.meta.Type {
     public final hydra.langs.scala.meta.Type_ByName value;
     
+    private int hashCode_;
+    
     public ByName (hydra.langs.scala.meta.Type_ByName value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ByName)) {
         return false;
       }
       ByName o = (ByName) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -671,22 +918,35 @@ public abstract class Type {
   public static final class Repeated extends hydra.langs.scala.meta.Type {
     public final hydra.langs.scala.meta.Type_Repeated value;
     
+    private int hashCode_;
+    
     public Repeated (hydra.langs.scala.meta.Type_Repeated value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Repeated)) {
         return false;
       }
       Repeated o = (Repeated) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -698,22 +958,35 @@ public abstract class Type {
   public static final class Var extends hydra.langs.scala.meta.Type {
     public final hydra.langs.scala.meta.Type_Var value;
     
+    private int hashCode_;
+    
     public Var (hydra.langs.scala.meta.Type_Var value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Var)) {
         return false;
       }
       Var o = (Var) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -725,22 +998,35 @@ public abstract class Type {
   public static final class TypedParam extends hydra.langs.scala.meta.Type {
     public final hydra.langs.scala.meta.Type_TypedParam value;
     
+    private int hashCode_;
+    
     public TypedParam (hydra.langs.scala.meta.Type_TypedParam value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof TypedParam)) {
         return false;
       }
       TypedParam o = (TypedParam) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -752,22 +1038,35 @@ public abstract class Type {
   public static final class Match extends hydra.langs.scala.meta.Type {
     public final hydra.langs.scala.meta.Type_Match value;
     
+    private int hashCode_;
+    
     public Match (hydra.langs.scala.meta.Type_Match value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Match)) {
         return false;
       }
       Match o = (Match) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -7,6 +7,8 @@ public class TypeCase {
   
   public final hydra.langs.scala.meta.Type body;
   
+  private int hashCode_;
+  
   public TypeCase (hydra.langs.scala.meta.Type pat, hydra.langs.scala.meta.Type body) {
     this.pat = pat;
     this.body = body;
@@ -14,16 +16,27 @@ public class TypeCase {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof TypeCase)) {
       return false;
     }
     TypeCase o = (TypeCase) (other);
-    return pat.equals(o.pat) && body.equals(o.body);
+    return hashCode() == o.hashCode() && pat.equals(o.pat) && body.equals(o.body);
   }
   
   @Override
   public int hashCode() {
-    return 2 * pat.hashCode() + 3 * body.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * pat.hashCode() + 3 * body.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public TypeCase withPat(hydra.langs.scala.meta.Type pat) {
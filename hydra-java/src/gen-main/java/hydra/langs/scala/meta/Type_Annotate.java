@@ -7,6 +7,8 @@ public class Type_Annotate {
   
   public final java.util.List<hydra.langs.scala.meta.Mod_Annot> annots;
   
+  private int hashCode_;
+  
   public Type_Annotate (hydra.langs.scala.meta.Type tpe, java.util.List<hydra.langs.scala.meta.Mod_Annot> annots) {
     this.tpe = tpe;
     this.annots = annots;
@@ -14,16 +16,27 @@ public class Type_Annotate {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Type_Annotate)) {
       return false;
     }
     Type_Annotate o = (Type_Annotate) (other);
-    return tpe.equals(o.tpe) && annots.equals(o.annots);
+    return hashCode() == o.hashCode() && tpe.equals(o.tpe) && annots.equals(o.annots);
   }
   
   @Override
   public int hashCode() {
-    return 2 * tpe.hashCode() + 3 * annots.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * tpe.hashCode() + 3 * annots.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Type_Annotate withTpe(hydra.langs.scala.meta.Type tpe) {
@@ -9,6 +9,9 @@ public class Type_AnonymousName {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Type_AnonymousName)) {
       return false;
     }
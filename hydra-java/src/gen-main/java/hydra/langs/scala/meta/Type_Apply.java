@@ -7,6 +7,8 @@ public class Type_Apply {
   
   public final java.util.List<hydra.langs.scala.meta.Type> args;
   
+  private int hashCode_;
+  
   public Type_Apply (hydra.langs.scala.meta.Type tpe, java.util.List<hydra.langs.scala.meta.Type> args) {
     this.tpe = tpe;
     this.args = args;
@@ -14,16 +16,27 @@ public class Type_Apply {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Type_Apply)) {
       return false;
     }
     Type_Apply o = (Type_Apply) (other);
-    return tpe.equals(o.tpe) && args.equals(o.args);
+    return hashCode() == o.hashCode() && tpe.equals(o.tpe) && args.equals(o.args);
   }
   
   @Override
   public int hashCode() {
-    return 2 * tpe.hashCode() + 3 * args.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * tpe.hashCode() + 3 * args.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Type_Apply withTpe(hydra.langs.scala.meta.Type tpe) {
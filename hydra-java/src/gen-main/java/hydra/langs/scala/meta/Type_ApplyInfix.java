@@ -9,6 +9,8 @@ public class Type_ApplyInfix {
   
   public final hydra.langs.scala.meta.Type rhs;
   
+  private int hashCode_;
+  
   public Type_ApplyInfix (hydra.langs.scala.meta.Type lhs, hydra.langs.scala.meta.Type_Name op, hydra.langs.scala.meta.Type rhs) {
     this.lhs = lhs;
     this.op = op;
@@ -17,16 +19,27 @@ public class Type_ApplyInfix {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Type_ApplyInfix)) {
       return false;
     }
     Type_ApplyInfix o = (Type_ApplyInfix) (other);
-    return lhs.equals(o.lhs) && op.equals(o.op) && rhs.equals(o.rhs);
+    return hashCode() == o.hashCode() && lhs.equals(o.lhs) && op.equals(o.op) && rhs.equals(o.rhs);
   }
   
   @Override
   public int hashCode() {
-    return 2 * lhs.hashCode() + 3 * op.hashCode() + 5 * rhs.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * lhs.hashCode() + 3 * op.hashCode() + 5 * rhs.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Type_ApplyInfix withLhs(hydra.langs.scala.meta.Type lhs) {
@@ -7,6 +7,8 @@ public class Type_Bounds {
   
   public final java.util.Optional<hydra.langs.scala.meta.Type> hi;
   
+  private int hashCode_;
+  
   public Type_Bounds (java.util.Optional<hydra.langs.scala.meta.Type> lo, java.util.Optional<hydra.langs.scala.meta.Type> hi) {
     this.lo = lo;
     this.hi = hi;
@@ -14,16 +16,27 @@ public class Type_Bounds {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Type_Bounds)) {
       return false;
     }
     Type_Bounds o = (Type_Bounds) (other);
-    return lo.equals(o.lo) && hi.equals(o.hi);
+    return hashCode() == o.hashCode() && lo.equals(o.lo) && hi.equals(o.hi);
   }
   
   @Override
   public int hashCode() {
-    return 2 * lo.hashCode() + 3 * hi.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * lo.hashCode() + 3 * hi.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Type_Bounds withLo(java.util.Optional<hydra.langs.scala.meta.Type> lo) {
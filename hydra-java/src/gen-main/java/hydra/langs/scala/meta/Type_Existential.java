@@ -7,6 +7,8 @@ public class Type_Existential {
   
   public final java.util.List<hydra.langs.scala.meta.Stat> stats;
   
+  private int hashCode_;
+  
   public Type_Existential (hydra.langs.scala.meta.Type tpe, java.util.List<hydra.langs.scala.meta.Stat> stats) {
     this.tpe = tpe;
     this.stats = stats;
@@ -14,16 +16,27 @@ public class Type_Existential {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Type_Existential)) {
       return false;
     }
     Type_Existential o = (Type_Existential) (other);
-    return tpe.equals(o.tpe) && stats.equals(o.stats);
+    return hashCode() == o.hashCode() && tpe.equals(o.tpe) && stats.equals(o.stats);
   }
   
   @Override
   public int hashCode() {
-    return 2 * tpe.hashCode() + 3 * stats.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * tpe.hashCode() + 3 * stats.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Type_Existential withTpe(hydra.langs.scala.meta.Type tpe) {
@@ -7,6 +7,8 @@ public class Type_Function {
   
   public final hydra.langs.scala.meta.Type res;
   
+  private int hashCode_;
+  
   public Type_Function (java.util.List<hydra.langs.scala.meta.Type> params, hydra.langs.scala.meta.Type res) {
     this.params = params;
     this.res = res;
@@ -14,16 +16,27 @@ public class Type_Function {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Type_Function)) {
       return false;
     }
     Type_Function o = (Type_Function) (other);
-    return params.equals(o.params) && res.equals(o.res);
+    return hashCode() == o.hashCode() && params.equals(o.params) && res.equals(o.res);
   }
   
   @Override
   public int hashCode() {
-    return 2 * params.hashCode() + 3 * res.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * params.hashCode() + 3 * res.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Type_Function withParams(java.util.List<hydra.langs.scala.meta.Type> params) {
@@ -32,22 +32,35 @@ public abstract class Type_FunctionType {
   public static final class Function extends hydra.langs.scala.meta.Type_FunctionType {
     public final hydra.langs.scala.meta.Type_Function value;
     
+    private int hashCode_;
+    
     public Function (hydra.langs.scala.meta.Type_Function value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Function)) {
         return false;
       }
       Function o = (Function) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class Type_FunctionType {
   public static final class ContextFunction extends hydra.langs.scala.meta.Type_FunctionType {
     public final hydra.langs.scala.meta.Type_ContextFunction value;
     
+    private int hashCode_;
+    
     public ContextFunction (hydra.langs.scala.meta.Type_ContextFunction value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ContextFunction)) {
         return false;
       }
       ContextFunction o = (ContextFunction) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -7,6 +7,8 @@ public class Type_ImplicitFunction {
   
   public final hydra.langs.scala.meta.Type res;
   
+  private int hashCode_;
+  
   public Type_ImplicitFunction (java.util.List<hydra.langs.scala.meta.Type> params, hydra.langs.scala.meta.Type res) {
     this.params = params;
     this.res = res;
@@ -14,16 +16,27 @@ public class Type_ImplicitFunction {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Type_ImplicitFunction)) {
       return false;
     }
     Type_ImplicitFunction o = (Type_ImplicitFunction) (other);
-    return params.equals(o.params) && res.equals(o.res);
+    return hashCode() == o.hashCode() && params.equals(o.params) && res.equals(o.res);
   }
   
   @Override
   public int hashCode() {
-    return 2 * params.hashCode() + 3 * res.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * params.hashCode() + 3 * res.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Type_ImplicitFunction withParams(java.util.List<hydra.langs.scala.meta.Type> params) {
@@ -7,6 +7,8 @@ public class Type_Lambda {
   
   public final hydra.langs.scala.meta.Type tpe;
   
+  private int hashCode_;
+  
   public Type_Lambda (java.util.List<hydra.langs.scala.meta.Type_Param> tparams, hydra.langs.scala.meta.Type tpe) {
     this.tparams = tparams;
     this.tpe = tpe;
@@ -14,16 +16,27 @@ public class Type_Lambda {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Type_Lambda)) {
       return false;
     }
     Type_Lambda o = (Type_Lambda) (other);
-    return tparams.equals(o.tparams) && tpe.equals(o.tpe);
+    return hashCode() == o.hashCode() && tparams.equals(o.tparams) && tpe.equals(o.tpe);
   }
   
   @Override
   public int hashCode() {
-    return 2 * tparams.hashCode() + 3 * tpe.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * tparams.hashCode() + 3 * tpe.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Type_Lambda withTparams(java.util.List<hydra.langs.scala.meta.Type_Param> tparams) {
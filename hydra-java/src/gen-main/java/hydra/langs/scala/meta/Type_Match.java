@@ -7,6 +7,8 @@ public class Type_Match {
   
   public final java.util.List<hydra.langs.scala.meta.TypeCase> cases;
   
+  private int hashCode_;
+  
   public Type_Match (hydra.langs.scala.meta.Type tpe, java.util.List<hydra.langs.scala.meta.TypeCase> cases) {
     this.tpe = tpe;
     this.cases = cases;
@@ -14,16 +16,27 @@ public class Type_Match {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Type_Match)) {
       return false;
     }
     Type_Match o = (Type_Match) (other);
-    return tpe.equals(o.tpe) && cases.equals(o.cases);
+    return hashCode() == o.hashCode() && tpe.equals(o.tpe) && cases.equals(o.cases);
   }
   
   @Override
   public int hashCode() {
-    return 2 * tpe.hashCode() + 3 * cases.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * tpe.hashCode() + 3 * cases.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Type_Match withTpe(hydra.langs.scala.meta.Type tpe) {
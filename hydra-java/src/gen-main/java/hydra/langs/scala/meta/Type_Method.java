@@ -7,6 +7,8 @@ public class Type_Method {
   
   public final hydra.langs.scala.meta.Type tpe;
   
+  private int hashCode_;
+  
   public Type_Method (java.util.List<java.util.List<hydra.langs.scala.meta.Data_Param>> paramss, hydra.langs.scala.meta.Type tpe) {
     this.paramss = paramss;
     this.tpe = tpe;
@@ -14,16 +16,27 @@ public class Type_Method {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Type_Method)) {
       return false;
     }
     Type_Method o = (Type_Method) (other);
-    return paramss.equals(o.paramss) && tpe.equals(o.tpe);
+    return hashCode() == o.hashCode() && paramss.equals(o.paramss) && tpe.equals(o.tpe);
   }
   
   @Override
   public int hashCode() {
-    return 2 * paramss.hashCode() + 3 * tpe.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * paramss.hashCode() + 3 * tpe.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Type_Method withParamss(java.util.List<java.util.List<hydra.langs.scala.meta.Data_Param>> paramss) {
@@ -15,6 +15,8 @@ public class Type_Param {
   
   public final java.util.List<hydra.langs.scala.meta.Type> cbounds;
   
+  private int hashCode_;
+  
   public Type_Param (java.util.List<hydra.langs.scala.meta.Mod> mods, hydra.langs.scala.meta.Name name, java.util.List<hydra.langs.scala.meta.Type_Param> tparams, java.util.List<hydra.langs.scala.meta.Type_Bounds> tbounds, java.util.List<hydra.langs.scala.meta.Type> vbounds, java.util.List<hydra.langs.scala.meta.Type> cbounds) {
     this.mods = mods;
     this.name = name;
@@ -26,16 +28,27 @@ public class Type_Param {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Type_Param)) {
       return false;
     }
     Type_Param o = (Type_Param) (other);
-    return mods.equals(o.mods) && name.equals(o.name) && tparams.equals(o.tparams) && tbounds.equals(o.tbounds) && vbounds.equals(o.vbounds) && cbounds.equals(o.cbounds);
+    return hashCode() == o.hashCode() && mods.equals(o.mods) && name.equals(o.name) && tparams.equals(o.tparams) && tbounds.equals(o.tbounds) && vbounds.equals(o.vbounds) && cbounds.equals(o.cbounds);
   }
   
   @Override
   public int hashCode() {
-    return 2 * mods.hashCode() + 3 * name.hashCode() + 5 * tparams.hashCode() + 7 * tbounds.hashCode() + 11 * vbounds.hashCode() + 13 * cbounds.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * mods.hashCode() + 3 * name.hashCode() + 5 * tparams.hashCode() + 7 * tbounds.hashCode() + 11 * vbounds.hashCode() + 13 * cbounds.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Type_Param withMods(java.util.List<hydra.langs.scala.meta.Mod> mods) {
@@ -5,21 +5,34 @@ public class Type_Placeholder {
   
   public final hydra.langs.scala.meta.Type_Bounds bounds;
   
+  private int hashCode_;
+  
   public Type_Placeholder (hydra.langs.scala.meta.Type_Bounds bounds) {
     this.bounds = bounds;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Type_Placeholder)) {
       return false;
     }
     Type_Placeholder o = (Type_Placeholder) (other);
-    return bounds.equals(o.bounds);
+    return hashCode() == o.hashCode() && bounds.equals(o.bounds);
   }
   
   @Override
   public int hashCode() {
-    return 2 * bounds.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * bounds.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
@@ -7,6 +7,8 @@ public class Type_Project {
   
   public final hydra.langs.scala.meta.Type_Name name;
   
+  private int hashCode_;
+  
   public Type_Project (hydra.langs.scala.meta.Type qual, hydra.langs.scala.meta.Type_Name name) {
     this.qual = qual;
     this.name = name;
@@ -14,16 +16,27 @@ public class Type_Project {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Type_Project)) {
       return false;
     }
     Type_Project o = (Type_Project) (other);
-    return qual.equals(o.qual) && name.equals(o.name);
+    return hashCode() == o.hashCode() && qual.equals(o.qual) && name.equals(o.name);
   }
   
   @Override
   public int hashCode() {
-    return 2 * qual.hashCode() + 3 * name.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * qual.hashCode() + 3 * name.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Type_Project withQual(hydra.langs.scala.meta.Type qual) {
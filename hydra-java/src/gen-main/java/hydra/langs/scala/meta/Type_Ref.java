@@ -44,22 +44,35 @@ public abstract class Type_Ref {
   public static final class Name extends hydra.langs.scala.meta.Type_Ref {
     public final hydra.langs.scala.meta.Type_Name value;
     
+    private int hashCode_;
+    
     public Name (hydra.langs.scala.meta.Type_Name value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Name)) {
         return false;
       }
       Name o = (Name) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -71,22 +84,35 @@ public abstract class Type_Ref {
   public static final class Select extends hydra.langs.scala.meta.Type_Ref {
     public final hydra.langs.scala.meta.Type_Select value;
     
+    private int hashCode_;
+    
     public Select (hydra.langs.scala.meta.Type_Select value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Select)) {
         return false;
       }
       Select o = (Select) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -98,22 +124,35 @@ public abstract class Type_Ref {
   public static final class Project extends hydra.langs.scala.meta.Type_Ref {
     public final hydra.langs.scala.meta.Type_Project value;
     
+    private int hashCode_;
+    
     public Project (hydra.langs.scala.meta.Type_Project value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Project)) {
         return false;
       }
       Project o = (Project) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -125,22 +164,35 @@ public abstract class Type_Ref {
   public static final class Singleton extends hydra.langs.scala.meta.Type_Ref {
     public final hydra.langs.scala.meta.Type_Singleton value;
     
+    private int hashCode_;
+    
     public Singleton (hydra.langs.scala.meta.Type_Singleton value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Singleton)) {
         return false;
       }
       Singleton o = (Singleton) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -5,21 +5,34 @@ public class Type_Singleton {
   
   public final hydra.langs.scala.meta.Data_Ref ref;
   
+  private int hashCode_;
+  
   public Type_Singleton (hydra.langs.scala.meta.Data_Ref ref) {
     this.ref = ref;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Type_Singleton)) {
       return false;
     }
     Type_Singleton o = (Type_Singleton) (other);
-    return ref.equals(o.ref);
+    return hashCode() == o.hashCode() && ref.equals(o.ref);
   }
   
   @Override
   public int hashCode() {
-    return 2 * ref.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * ref.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
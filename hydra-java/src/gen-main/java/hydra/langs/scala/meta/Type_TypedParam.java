@@ -7,6 +7,8 @@ public class Type_TypedParam {
   
   public final hydra.langs.scala.meta.Type typ;
   
+  private int hashCode_;
+  
   public Type_TypedParam (hydra.langs.scala.meta.Name name, hydra.langs.scala.meta.Type typ) {
     this.name = name;
     this.typ = typ;
@@ -14,16 +16,27 @@ public class Type_TypedParam {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Type_TypedParam)) {
       return false;
     }
     Type_TypedParam o = (Type_TypedParam) (other);
-    return name.equals(o.name) && typ.equals(o.typ);
+    return hashCode() == o.hashCode() && name.equals(o.name) && typ.equals(o.typ);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * typ.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * typ.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Type_TypedParam withName(hydra.langs.scala.meta.Name name) {
@@ -5,21 +5,34 @@ public class Type_Var {
   
   public final hydra.langs.scala.meta.Type_Name name;
   
+  private int hashCode_;
+  
   public Type_Var (hydra.langs.scala.meta.Type_Name name) {
     this.name = name;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Type_Var)) {
       return false;
     }
     Type_Var o = (Type_Var) (other);
-    return name.equals(o.name);
+    return hashCode() == o.hashCode() && name.equals(o.name);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
@@ -7,6 +7,8 @@ public class Type_With {
   
   public final hydra.langs.scala.meta.Type rhs;
   
+  private int hashCode_;
+  
   public Type_With (hydra.langs.scala.meta.Type lhs, hydra.langs.scala.meta.Type rhs) {
     this.lhs = lhs;
     this.rhs = rhs;
@@ -14,16 +16,27 @@ public class Type_With {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Type_With)) {
       return false;
     }
     Type_With o = (Type_With) (other);
-    return lhs.equals(o.lhs) && rhs.equals(o.rhs);
+    return hashCode() == o.hashCode() && lhs.equals(o.lhs) && rhs.equals(o.rhs);
   }
   
   @Override
   public int hashCode() {
-    return 2 * lhs.hashCode() + 3 * rhs.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * lhs.hashCode() + 3 * rhs.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Type_With withLhs(hydra.langs.scala.meta.Type lhs) {
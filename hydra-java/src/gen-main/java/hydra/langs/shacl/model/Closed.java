@@ -10,6 +10,8 @@ public class Closed {
   
   public final java.util.Optional<java.util.Set<hydra.langs.rdf.syntax.Property>> ignoredProperties;
   
+  private int hashCode_;
+  
   public Closed (Boolean isClosed, java.util.Optional<java.util.Set<hydra.langs.rdf.syntax.Property>> ignoredProperties) {
     this.isClosed = isClosed;
     this.ignoredProperties = ignoredProperties;
@@ -17,16 +19,27 @@ public class Closed {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Closed)) {
       return false;
     }
     Closed o = (Closed) (other);
-    return isClosed.equals(o.isClosed) && ignoredProperties.equals(o.ignoredProperties);
+    return hashCode() == o.hashCode() && isClosed.equals(o.isClosed) && ignoredProperties.equals(o.ignoredProperties);
   }
   
   @Override
   public int hashCode() {
-    return 2 * isClosed.hashCode() + 3 * ignoredProperties.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * isClosed.hashCode() + 3 * ignoredProperties.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Closed withIsClosed(Boolean isClosed) {
@@ -161,22 +161,35 @@ public abstract class CommonConstraint {
      */
     public final java.util.Set<hydra.langs.shacl.model.Reference<hydra.langs.shacl.model.Shape>> value;
     
+    private int hashCode_;
+    
     public And (java.util.Set<hydra.langs.shacl.model.Reference<hydra.langs.shacl.model.Shape>> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof And)) {
         return false;
       }
       And o = (And) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -194,22 +207,35 @@ public abstract class CommonConstraint {
      */
     public final hydra.langs.shacl.model.Closed value;
     
+    private int hashCode_;
+    
     public Closed (hydra.langs.shacl.model.Closed value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Closed)) {
         return false;
       }
       Closed o = (Closed) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -227,22 +253,35 @@ public abstract class CommonConstraint {
      */
     public final java.util.Set<hydra.langs.rdf.syntax.RdfsClass> value;
     
+    private int hashCode_;
+    
     public Class_ (java.util.Set<hydra.langs.rdf.syntax.RdfsClass> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Class_)) {
         return false;
       }
       Class_ o = (Class_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -260,22 +299,35 @@ public abstract class CommonConstraint {
      */
     public final hydra.langs.rdf.syntax.Iri value;
     
+    private int hashCode_;
+    
     public Datatype (hydra.langs.rdf.syntax.Iri value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Datatype)) {
         return false;
       }
       Datatype o = (Datatype) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -293,22 +345,35 @@ public abstract class CommonConstraint {
      */
     public final java.util.Set<hydra.langs.rdf.syntax.Property> value;
     
+    private int hashCode_;
+    
     public Disjoint (java.util.Set<hydra.langs.rdf.syntax.Property> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Disjoint)) {
         return false;
       }
       Disjoint o = (Disjoint) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -326,22 +391,35 @@ public abstract class CommonConstraint {
      */
     public final java.util.Set<hydra.langs.rdf.syntax.Property> value;
     
+    private int hashCode_;
+    
     public Equals (java.util.Set<hydra.langs.rdf.syntax.Property> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Equals)) {
         return false;
       }
       Equals o = (Equals) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -359,22 +437,35 @@ public abstract class CommonConstraint {
      */
     public final java.util.Set<hydra.langs.rdf.syntax.Node> value;
     
+    private int hashCode_;
+    
     public HasValue (java.util.Set<hydra.langs.rdf.syntax.Node> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof HasValue)) {
         return false;
       }
       HasValue o = (HasValue) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -392,22 +483,35 @@ public abstract class CommonConstraint {
      */
     public final java.util.List<hydra.langs.rdf.syntax.Node> value;
     
+    private int hashCode_;
+    
     public In (java.util.List<hydra.langs.rdf.syntax.Node> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof In)) {
         return false;
       }
       In o = (In) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -425,22 +529,35 @@ public abstract class CommonConstraint {
      */
     public final java.util.Set<hydra.langs.rdf.syntax.LanguageTag> value;
     
+    private int hashCode_;
+    
     public LanguageIn (java.util.Set<hydra.langs.rdf.syntax.LanguageTag> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof LanguageIn)) {
         return false;
       }
       LanguageIn o = (LanguageIn) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -458,22 +575,35 @@ public abstract class CommonConstraint {
      */
     public final hydra.langs.shacl.model.NodeKind value;
     
+    private int hashCode_;
+    
     public NodeKind (hydra.langs.shacl.model.NodeKind value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof NodeKind)) {
         return false;
       }
       NodeKind o = (NodeKind) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -491,22 +621,35 @@ public abstract class CommonConstraint {
      */
     public final java.util.Set<hydra.langs.shacl.model.Reference<hydra.langs.shacl.model.NodeShape>> value;
     
+    private int hashCode_;
+    
     public Node (java.util.Set<hydra.langs.shacl.model.Reference<hydra.langs.shacl.model.NodeShape>> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Node)) {
         return false;
       }
       Node o = (Node) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -524,22 +667,35 @@ public abstract class CommonConstraint {
      */
     public final java.util.Set<hydra.langs.shacl.model.Reference<hydra.langs.shacl.model.Shape>> value;
     
+    private int hashCode_;
+    
     public Not (java.util.Set<hydra.langs.shacl.model.Reference<hydra.langs.shacl.model.Shape>> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Not)) {
         return false;
       }
       Not o = (Not) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -557,22 +713,35 @@ public abstract class CommonConstraint {
      */
     public final hydra.langs.rdf.syntax.Literal value;
     
+    private int hashCode_;
+    
     public MaxExclusive (hydra.langs.rdf.syntax.Literal value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof MaxExclusive)) {
         return false;
       }
       MaxExclusive o = (MaxExclusive) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -590,22 +759,35 @@ public abstract class CommonConstraint {
      */
     public final hydra.langs.rdf.syntax.Literal value;
     
+    private int hashCode_;
+    
     public MaxInclusive (hydra.langs.rdf.syntax.Literal value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof MaxInclusive)) {
         return false;
       }
       MaxInclusive o = (MaxInclusive) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -623,22 +805,35 @@ public abstract class CommonConstraint {
      */
     public final java.math.BigInteger value;
     
+    private int hashCode_;
+    
     public MaxLength (java.math.BigInteger value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof MaxLength)) {
         return false;
       }
       MaxLength o = (MaxLength) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -656,22 +851,35 @@ public abstract class CommonConstraint {
      */
     public final hydra.langs.rdf.syntax.Literal value;
     
+    private int hashCode_;
+    
     public MinExclusive (hydra.langs.rdf.syntax.Literal value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof MinExclusive)) {
         return false;
       }
       MinExclusive o = (MinExclusive) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -689,22 +897,35 @@ public abstract class CommonConstraint {
      */
     public final hydra.langs.rdf.syntax.Literal value;
     
+    private int hashCode_;
+    
     public MinInclusive (hydra.langs.rdf.syntax.Literal value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof MinInclusive)) {
         return false;
       }
       MinInclusive o = (MinInclusive) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -722,22 +943,35 @@ public abstract class CommonConstraint {
      */
     public final java.math.BigInteger value;
     
+    private int hashCode_;
+    
     public MinLength (java.math.BigInteger value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof MinLength)) {
         return false;
       }
       MinLength o = (MinLength) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -755,22 +989,35 @@ public abstract class CommonConstraint {
      */
     public final hydra.langs.shacl.model.Pattern value;
     
+    private int hashCode_;
+    
     public Pattern (hydra.langs.shacl.model.Pattern value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Pattern)) {
         return false;
       }
       Pattern o = (Pattern) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -788,22 +1035,35 @@ public abstract class CommonConstraint {
      */
     public final java.util.Set<hydra.langs.shacl.model.Reference<hydra.langs.shacl.model.PropertyShape>> value;
     
+    private int hashCode_;
+    
     public Property (java.util.Set<hydra.langs.shacl.model.Reference<hydra.langs.shacl.model.PropertyShape>> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Property)) {
         return false;
       }
       Property o = (Property) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -821,22 +1081,35 @@ public abstract class CommonConstraint {
      */
     public final java.util.Set<hydra.langs.shacl.model.Reference<hydra.langs.shacl.model.Shape>> value;
     
+    private int hashCode_;
+    
     public Or (java.util.Set<hydra.langs.shacl.model.Reference<hydra.langs.shacl.model.Shape>> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Or)) {
         return false;
       }
       Or o = (Or) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -854,22 +1127,35 @@ public abstract class CommonConstraint {
      */
     public final java.util.Set<hydra.langs.shacl.model.Reference<hydra.langs.shacl.model.Shape>> value;
     
+    private int hashCode_;
+    
     public Xone (java.util.Set<hydra.langs.shacl.model.Reference<hydra.langs.shacl.model.Shape>> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Xone)) {
         return false;
       }
       Xone o = (Xone) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
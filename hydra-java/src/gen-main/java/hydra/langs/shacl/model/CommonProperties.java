@@ -46,6 +46,8 @@ public class CommonProperties {
    */
   public final java.util.Set<hydra.langs.rdf.syntax.Property> targetSubjectsOf;
   
+  private int hashCode_;
+  
   public CommonProperties (java.util.Set<hydra.langs.shacl.model.CommonConstraint> constraints, java.util.Optional<Boolean> deactivated, hydra.langs.rdf.syntax.LangStrings message, hydra.langs.shacl.model.Severity severity, java.util.Set<hydra.langs.rdf.syntax.RdfsClass> targetClass, java.util.Set<hydra.langs.rdf.syntax.IriOrLiteral> targetNode, java.util.Set<hydra.langs.rdf.syntax.Property> targetObjectsOf, java.util.Set<hydra.langs.rdf.syntax.Property> targetSubjectsOf) {
     this.constraints = constraints;
     this.deactivated = deactivated;
@@ -59,16 +61,27 @@ public class CommonProperties {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof CommonProperties)) {
       return false;
     }
     CommonProperties o = (CommonProperties) (other);
-    return constraints.equals(o.constraints) && deactivated.equals(o.deactivated) && message.equals(o.message) && severity.equals(o.severity) && targetClass.equals(o.targetClass) && targetNode.equals(o.targetNode) && targetObjectsOf.equals(o.targetObjectsOf) && targetSubjectsOf.equals(o.targetSubjectsOf);
+    return hashCode() == o.hashCode() && constraints.equals(o.constraints) && deactivated.equals(o.deactivated) && message.equals(o.message) && severity.equals(o.severity) && targetClass.equals(o.targetClass) && targetNode.equals(o.targetNode) && targetObjectsOf.equals(o.targetObjectsOf) && targetSubjectsOf.equals(o.targetSubjectsOf);
   }
   
   @Override
   public int hashCode() {
-    return 2 * constraints.hashCode() + 3 * deactivated.hashCode() + 5 * message.hashCode() + 7 * severity.hashCode() + 11 * targetClass.hashCode() + 13 * targetNode.hashCode() + 17 * targetObjectsOf.hashCode() + 19 * targetSubjectsOf.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * constraints.hashCode() + 3 * deactivated.hashCode() + 5 * message.hashCode() + 7 * severity.hashCode() + 11 * targetClass.hashCode() + 13 * targetNode.hashCode() + 17 * targetObjectsOf.hashCode() + 19 * targetSubjectsOf.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public CommonProperties withConstraints(java.util.Set<hydra.langs.shacl.model.CommonConstraint> constraints) {
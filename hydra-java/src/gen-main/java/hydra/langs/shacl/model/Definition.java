@@ -10,6 +10,8 @@ public class Definition<A> {
   
   public final A target;
   
+  private int hashCode_;
+  
   public Definition (hydra.langs.rdf.syntax.Iri iri, A target) {
     this.iri = iri;
     this.target = target;
@@ -17,16 +19,27 @@ public class Definition<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Definition)) {
       return false;
     }
     Definition o = (Definition) (other);
-    return iri.equals(o.iri) && target.equals(o.target);
+    return hashCode() == o.hashCode() && iri.equals(o.iri) && target.equals(o.target);
   }
   
   @Override
   public int hashCode() {
-    return 2 * iri.hashCode() + 3 * target.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * iri.hashCode() + 3 * target.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Definition withIri(hydra.langs.rdf.syntax.Iri iri) {
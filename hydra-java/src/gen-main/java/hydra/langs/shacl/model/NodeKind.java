@@ -63,6 +63,9 @@ public abstract class NodeKind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof BlankNode)) {
         return false;
       }
@@ -91,6 +94,9 @@ public abstract class NodeKind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Iri)) {
         return false;
       }
@@ -119,6 +125,9 @@ public abstract class NodeKind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Literal)) {
         return false;
       }
@@ -147,6 +156,9 @@ public abstract class NodeKind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof BlankNodeOrIri)) {
         return false;
       }
@@ -175,6 +187,9 @@ public abstract class NodeKind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof BlankNodeOrLiteral)) {
         return false;
       }
@@ -203,6 +218,9 @@ public abstract class NodeKind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof IriOrLiteral)) {
         return false;
       }
@@ -8,21 +8,34 @@ public class NodeShape {
   
   public final hydra.langs.shacl.model.CommonProperties common;
   
+  private int hashCode_;
+  
   public NodeShape (hydra.langs.shacl.model.CommonProperties common) {
     this.common = common;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof NodeShape)) {
       return false;
     }
     NodeShape o = (NodeShape) (other);
-    return common.equals(o.common);
+    return hashCode() == o.hashCode() && common.equals(o.common);
   }
   
   @Override
   public int hashCode() {
-    return 2 * common.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * common.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
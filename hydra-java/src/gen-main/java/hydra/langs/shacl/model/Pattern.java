@@ -10,6 +10,8 @@ public class Pattern {
   
   public final java.util.Optional<String> flags;
   
+  private int hashCode_;
+  
   public Pattern (String regex, java.util.Optional<String> flags) {
     this.regex = regex;
     this.flags = flags;
@@ -17,16 +19,27 @@ public class Pattern {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Pattern)) {
       return false;
     }
     Pattern o = (Pattern) (other);
-    return regex.equals(o.regex) && flags.equals(o.flags);
+    return hashCode() == o.hashCode() && regex.equals(o.regex) && flags.equals(o.flags);
   }
   
   @Override
   public int hashCode() {
-    return 2 * regex.hashCode() + 3 * flags.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * regex.hashCode() + 3 * flags.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Pattern withRegex(String regex) {
@@ -35,6 +35,8 @@ public class PropertyShape {
   
   public final hydra.langs.rdf.syntax.Iri path;
   
+  private int hashCode_;
+  
   public PropertyShape (hydra.langs.shacl.model.CommonProperties common, java.util.Set<hydra.langs.shacl.model.PropertyShapeConstraint> constraints, java.util.Optional<hydra.langs.rdf.syntax.Node> defaultValue, hydra.langs.rdf.syntax.LangStrings description, hydra.langs.rdf.syntax.LangStrings name, java.util.Optional<java.math.BigInteger> order, hydra.langs.rdf.syntax.Iri path) {
     this.common = common;
     this.constraints = constraints;
@@ -47,16 +49,27 @@ public class PropertyShape {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof PropertyShape)) {
       return false;
     }
     PropertyShape o = (PropertyShape) (other);
-    return common.equals(o.common) && constraints.equals(o.constraints) && defaultValue.equals(o.defaultValue) && description.equals(o.description) && name.equals(o.name) && order.equals(o.order) && path.equals(o.path);
+    return hashCode() == o.hashCode() && common.equals(o.common) && constraints.equals(o.constraints) && defaultValue.equals(o.defaultValue) && description.equals(o.description) && name.equals(o.name) && order.equals(o.order) && path.equals(o.path);
   }
   
   @Override
   public int hashCode() {
-    return 2 * common.hashCode() + 3 * constraints.hashCode() + 5 * defaultValue.hashCode() + 7 * description.hashCode() + 11 * name.hashCode() + 13 * order.hashCode() + 17 * path.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * common.hashCode() + 3 * constraints.hashCode() + 5 * defaultValue.hashCode() + 7 * description.hashCode() + 11 * name.hashCode() + 13 * order.hashCode() + 17 * path.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public PropertyShape withCommon(hydra.langs.shacl.model.CommonProperties common) {
@@ -65,22 +65,35 @@ public abstract class PropertyShapeConstraint {
      */
     public final java.util.Set<hydra.langs.rdf.syntax.Property> value;
     
+    private int hashCode_;
+    
     public LessThan (java.util.Set<hydra.langs.rdf.syntax.Property> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof LessThan)) {
         return false;
       }
       LessThan o = (LessThan) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -98,22 +111,35 @@ public abstract class PropertyShapeConstraint {
      */
     public final java.util.Set<hydra.langs.rdf.syntax.Property> value;
     
+    private int hashCode_;
+    
     public LessThanOrEquals (java.util.Set<hydra.langs.rdf.syntax.Property> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof LessThanOrEquals)) {
         return false;
       }
       LessThanOrEquals o = (LessThanOrEquals) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -131,22 +157,35 @@ public abstract class PropertyShapeConstraint {
      */
     public final java.math.BigInteger value;
     
+    private int hashCode_;
+    
     public MaxCount (java.math.BigInteger value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof MaxCount)) {
         return false;
       }
       MaxCount o = (MaxCount) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -164,22 +203,35 @@ public abstract class PropertyShapeConstraint {
      */
     public final java.math.BigInteger value;
     
+    private int hashCode_;
+    
     public MinCount (java.math.BigInteger value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof MinCount)) {
         return false;
       }
       MinCount o = (MinCount) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -197,22 +249,35 @@ public abstract class PropertyShapeConstraint {
      */
     public final Boolean value;
     
+    private int hashCode_;
+    
     public UniqueLang (Boolean value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof UniqueLang)) {
         return false;
       }
       UniqueLang o = (UniqueLang) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -230,22 +295,35 @@ public abstract class PropertyShapeConstraint {
      */
     public final hydra.langs.shacl.model.QualifiedValueShape value;
     
+    private int hashCode_;
+    
     public QualifiedValueShape (hydra.langs.shacl.model.QualifiedValueShape value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof QualifiedValueShape)) {
         return false;
       }
       QualifiedValueShape o = (QualifiedValueShape) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -45,6 +45,9 @@ public abstract class Severity {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Info)) {
         return false;
       }
@@ -73,6 +76,9 @@ public abstract class Severity {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Warning)) {
         return false;
       }
@@ -101,6 +107,9 @@ public abstract class Severity {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Violation)) {
         return false;
       }
@@ -35,22 +35,35 @@ public abstract class Shape {
   public static final class Node extends hydra.langs.shacl.model.Shape {
     public final hydra.langs.shacl.model.NodeShape value;
     
+    private int hashCode_;
+    
     public Node (hydra.langs.shacl.model.NodeShape value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Node)) {
         return false;
       }
       Node o = (Node) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -62,22 +75,35 @@ public abstract class Shape {
   public static final class Property extends hydra.langs.shacl.model.Shape {
     public final hydra.langs.shacl.model.PropertyShape value;
     
+    private int hashCode_;
+    
     public Property (hydra.langs.shacl.model.PropertyShape value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Property)) {
         return false;
       }
       Property o = (Property) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
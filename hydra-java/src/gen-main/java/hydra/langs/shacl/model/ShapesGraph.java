@@ -11,21 +11,34 @@ public class ShapesGraph {
    */
   public final java.util.Set<hydra.langs.shacl.model.Definition<hydra.langs.shacl.model.Shape>> value;
   
+  private int hashCode_;
+  
   public ShapesGraph (java.util.Set<hydra.langs.shacl.model.Definition<hydra.langs.shacl.model.Shape>> value) {
     this.value = value;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ShapesGraph)) {
       return false;
     }
     ShapesGraph o = (ShapesGraph) (other);
-    return value.equals(o.value);
+    return hashCode() == o.hashCode() && value.equals(o.value);
   }
   
   @Override
   public int hashCode() {
-    return 2 * value.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * value.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
@@ -7,6 +7,8 @@ public class Annotation {
   
   public final hydra.langs.shex.syntax.Annotation_Alts alts;
   
+  private int hashCode_;
+  
   public Annotation (hydra.langs.shex.syntax.Predicate predicate, hydra.langs.shex.syntax.Annotation_Alts alts) {
     this.predicate = predicate;
     this.alts = alts;
@@ -14,16 +16,27 @@ public class Annotation {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Annotation)) {
       return false;
     }
     Annotation o = (Annotation) (other);
-    return predicate.equals(o.predicate) && alts.equals(o.alts);
+    return hashCode() == o.hashCode() && predicate.equals(o.predicate) && alts.equals(o.alts);
   }
   
   @Override
   public int hashCode() {
-    return 2 * predicate.hashCode() + 3 * alts.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * predicate.hashCode() + 3 * alts.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Annotation withPredicate(hydra.langs.shex.syntax.Predicate predicate) {
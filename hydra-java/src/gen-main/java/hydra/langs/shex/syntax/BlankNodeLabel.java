@@ -9,6 +9,8 @@ public class BlankNodeLabel {
   
   public final hydra.langs.shex.syntax.PnChars pnChars;
   
+  private int hashCode_;
+  
   public BlankNodeLabel (hydra.langs.shex.syntax.BlankNodeLabel_Alts alts, java.util.Optional<java.util.List<hydra.langs.shex.syntax.BlankNodeLabel_ListOfAlts_Option_Elmt>> listOfAlts, hydra.langs.shex.syntax.PnChars pnChars) {
     this.alts = alts;
     this.listOfAlts = listOfAlts;
@@ -17,16 +19,27 @@ public class BlankNodeLabel {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof BlankNodeLabel)) {
       return false;
     }
     BlankNodeLabel o = (BlankNodeLabel) (other);
-    return alts.equals(o.alts) && listOfAlts.equals(o.listOfAlts) && pnChars.equals(o.pnChars);
+    return hashCode() == o.hashCode() && alts.equals(o.alts) && listOfAlts.equals(o.listOfAlts) && pnChars.equals(o.pnChars);
   }
   
   @Override
   public int hashCode() {
-    return 2 * alts.hashCode() + 3 * listOfAlts.hashCode() + 5 * pnChars.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * alts.hashCode() + 3 * listOfAlts.hashCode() + 5 * pnChars.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public BlankNodeLabel withAlts(hydra.langs.shex.syntax.BlankNodeLabel_Alts alts) {
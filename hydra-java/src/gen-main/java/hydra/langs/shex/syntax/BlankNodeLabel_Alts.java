@@ -32,22 +32,35 @@ public abstract class BlankNodeLabel_Alts {
   public static final class PnCharsU extends hydra.langs.shex.syntax.BlankNodeLabel_Alts {
     public final hydra.langs.shex.syntax.PnCharsU value;
     
+    private int hashCode_;
+    
     public PnCharsU (hydra.langs.shex.syntax.PnCharsU value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof PnCharsU)) {
         return false;
       }
       PnCharsU o = (PnCharsU) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class BlankNodeLabel_Alts {
   public static final class Regex extends hydra.langs.shex.syntax.BlankNodeLabel_Alts {
     public final String value;
     
+    private int hashCode_;
+    
     public Regex (String value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Regex)) {
         return false;
       }
       Regex o = (Regex) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
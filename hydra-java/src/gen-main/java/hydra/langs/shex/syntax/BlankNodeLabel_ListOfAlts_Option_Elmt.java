@@ -32,22 +32,35 @@ public abstract class BlankNodeLabel_ListOfAlts_Option_Elmt {
   public static final class PnChars extends hydra.langs.shex.syntax.BlankNodeLabel_ListOfAlts_Option_Elmt {
     public final hydra.langs.shex.syntax.PnChars value;
     
+    private int hashCode_;
+    
     public PnChars (hydra.langs.shex.syntax.PnChars value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof PnChars)) {
         return false;
       }
       PnChars o = (PnChars) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -63,6 +76,9 @@ public abstract class BlankNodeLabel_ListOfAlts_Option_Elmt {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Period)) {
         return false;
       }
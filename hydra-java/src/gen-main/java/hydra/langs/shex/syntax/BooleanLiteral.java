@@ -36,6 +36,9 @@ public abstract class BooleanLiteral {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof True)) {
         return false;
       }
@@ -61,6 +64,9 @@ public abstract class BooleanLiteral {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof False)) {
         return false;
       }
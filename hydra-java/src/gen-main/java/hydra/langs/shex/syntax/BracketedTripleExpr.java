@@ -11,6 +11,8 @@ public class BracketedTripleExpr {
   
   public final hydra.langs.shex.syntax.SemanticActions semanticActions;
   
+  private int hashCode_;
+  
   public BracketedTripleExpr (hydra.langs.shex.syntax.InnerTripleExpr innerTripleExpr, java.util.Optional<hydra.langs.shex.syntax.Cardinality> cardinality, java.util.List<hydra.langs.shex.syntax.Annotation> listOfAnnotation, hydra.langs.shex.syntax.SemanticActions semanticActions) {
     this.innerTripleExpr = innerTripleExpr;
     this.cardinality = cardinality;
@@ -20,16 +22,27 @@ public class BracketedTripleExpr {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof BracketedTripleExpr)) {
       return false;
     }
     BracketedTripleExpr o = (BracketedTripleExpr) (other);
-    return innerTripleExpr.equals(o.innerTripleExpr) && cardinality.equals(o.cardinality) && listOfAnnotation.equals(o.listOfAnnotation) && semanticActions.equals(o.semanticActions);
+    return hashCode() == o.hashCode() && innerTripleExpr.equals(o.innerTripleExpr) && cardinality.equals(o.cardinality) && listOfAnnotation.equals(o.listOfAnnotation) && semanticActions.equals(o.semanticActions);
   }
   
   @Override
   public int hashCode() {
-    return 2 * innerTripleExpr.hashCode() + 3 * cardinality.hashCode() + 5 * listOfAnnotation.hashCode() + 7 * semanticActions.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * innerTripleExpr.hashCode() + 3 * cardinality.hashCode() + 5 * listOfAnnotation.hashCode() + 7 * semanticActions.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public BracketedTripleExpr withInnerTripleExpr(hydra.langs.shex.syntax.InnerTripleExpr innerTripleExpr) {
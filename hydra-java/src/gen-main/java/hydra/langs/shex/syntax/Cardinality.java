@@ -48,6 +48,9 @@ public abstract class Cardinality {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Ast)) {
         return false;
       }
@@ -73,6 +76,9 @@ public abstract class Cardinality {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Plus)) {
         return false;
       }
@@ -98,6 +104,9 @@ public abstract class Cardinality {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Quest)) {
         return false;
       }
@@ -119,22 +128,35 @@ public abstract class Cardinality {
   public static final class RepeatRange extends hydra.langs.shex.syntax.Cardinality {
     public final hydra.langs.shex.syntax.RepeatRange value;
     
+    private int hashCode_;
+    
     public RepeatRange (hydra.langs.shex.syntax.RepeatRange value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof RepeatRange)) {
         return false;
       }
       RepeatRange o = (RepeatRange) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
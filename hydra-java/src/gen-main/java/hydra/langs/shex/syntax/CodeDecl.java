@@ -7,6 +7,8 @@ public class CodeDecl {
   
   public final hydra.langs.shex.syntax.CodeDecl_Alts alts;
   
+  private int hashCode_;
+  
   public CodeDecl (hydra.langs.shex.syntax.Iri iri, hydra.langs.shex.syntax.CodeDecl_Alts alts) {
     this.iri = iri;
     this.alts = alts;
@@ -14,16 +16,27 @@ public class CodeDecl {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof CodeDecl)) {
       return false;
     }
     CodeDecl o = (CodeDecl) (other);
-    return iri.equals(o.iri) && alts.equals(o.alts);
+    return hashCode() == o.hashCode() && iri.equals(o.iri) && alts.equals(o.alts);
   }
   
   @Override
   public int hashCode() {
-    return 2 * iri.hashCode() + 3 * alts.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * iri.hashCode() + 3 * alts.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public CodeDecl withIri(hydra.langs.shex.syntax.Iri iri) {
@@ -32,22 +32,35 @@ public abstract class CodeDecl_Alts {
   public static final class Code extends hydra.langs.shex.syntax.CodeDecl_Alts {
     public final hydra.langs.shex.syntax.Code value;
     
+    private int hashCode_;
+    
     public Code (hydra.langs.shex.syntax.Code value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Code)) {
         return false;
       }
       Code o = (Code) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -63,6 +76,9 @@ public abstract class CodeDecl_Alts {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Percnt)) {
         return false;
       }
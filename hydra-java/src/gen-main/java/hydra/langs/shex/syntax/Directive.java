@@ -32,22 +32,35 @@ public abstract class Directive {
   public static final class BaseDecl extends hydra.langs.shex.syntax.Directive {
     public final hydra.langs.shex.syntax.BaseDecl value;
     
+    private int hashCode_;
+    
     public BaseDecl (hydra.langs.shex.syntax.BaseDecl value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof BaseDecl)) {
         return false;
       }
       BaseDecl o = (BaseDecl) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class Directive {
   public static final class PrefixDecl extends hydra.langs.shex.syntax.Directive {
     public final hydra.langs.shex.syntax.PrefixDecl value;
     
+    private int hashCode_;
+    
     public PrefixDecl (hydra.langs.shex.syntax.PrefixDecl value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof PrefixDecl)) {
         return false;
       }
       PrefixDecl o = (PrefixDecl) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
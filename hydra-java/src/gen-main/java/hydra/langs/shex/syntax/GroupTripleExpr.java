@@ -32,22 +32,35 @@ public abstract class GroupTripleExpr {
   public static final class SingleElementGroup extends hydra.langs.shex.syntax.GroupTripleExpr {
     public final hydra.langs.shex.syntax.SingleElementGroup value;
     
+    private int hashCode_;
+    
     public SingleElementGroup (hydra.langs.shex.syntax.SingleElementGroup value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof SingleElementGroup)) {
         return false;
       }
       SingleElementGroup o = (SingleElementGroup) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class GroupTripleExpr {
   public static final class MultiElementGroup extends hydra.langs.shex.syntax.GroupTripleExpr {
     public final hydra.langs.shex.syntax.MultiElementGroup value;
     
+    private int hashCode_;
+    
     public MultiElementGroup (hydra.langs.shex.syntax.MultiElementGroup value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof MultiElementGroup)) {
         return false;
       }
       MultiElementGroup o = (MultiElementGroup) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -7,6 +7,8 @@ public class InlineShapeAnd {
   
   public final java.util.List<hydra.langs.shex.syntax.InlineShapeNot> listOfSequence;
   
+  private int hashCode_;
+  
   public InlineShapeAnd (hydra.langs.shex.syntax.InlineShapeNot inlineShapeNot, java.util.List<hydra.langs.shex.syntax.InlineShapeNot> listOfSequence) {
     this.inlineShapeNot = inlineShapeNot;
     this.listOfSequence = listOfSequence;
@@ -14,16 +16,27 @@ public class InlineShapeAnd {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof InlineShapeAnd)) {
       return false;
     }
     InlineShapeAnd o = (InlineShapeAnd) (other);
-    return inlineShapeNot.equals(o.inlineShapeNot) && listOfSequence.equals(o.listOfSequence);
+    return hashCode() == o.hashCode() && inlineShapeNot.equals(o.inlineShapeNot) && listOfSequence.equals(o.listOfSequence);
   }
   
   @Override
   public int hashCode() {
-    return 2 * inlineShapeNot.hashCode() + 3 * listOfSequence.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * inlineShapeNot.hashCode() + 3 * listOfSequence.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public InlineShapeAnd withInlineShapeNot(hydra.langs.shex.syntax.InlineShapeNot inlineShapeNot) {
@@ -7,6 +7,8 @@ public class InlineShapeAtom_Sequence {
   
   public final java.util.Optional<hydra.langs.shex.syntax.InlineShapeOrRef> inlineShapeOrRef;
   
+  private int hashCode_;
+  
   public InlineShapeAtom_Sequence (hydra.langs.shex.syntax.NodeConstraint nodeConstraint, java.util.Optional<hydra.langs.shex.syntax.InlineShapeOrRef> inlineShapeOrRef) {
     this.nodeConstraint = nodeConstraint;
     this.inlineShapeOrRef = inlineShapeOrRef;
@@ -14,16 +16,27 @@ public class InlineShapeAtom_Sequence {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof InlineShapeAtom_Sequence)) {
       return false;
     }
     InlineShapeAtom_Sequence o = (InlineShapeAtom_Sequence) (other);
-    return nodeConstraint.equals(o.nodeConstraint) && inlineShapeOrRef.equals(o.inlineShapeOrRef);
+    return hashCode() == o.hashCode() && nodeConstraint.equals(o.nodeConstraint) && inlineShapeOrRef.equals(o.inlineShapeOrRef);
   }
   
   @Override
   public int hashCode() {
-    return 2 * nodeConstraint.hashCode() + 3 * inlineShapeOrRef.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * nodeConstraint.hashCode() + 3 * inlineShapeOrRef.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public InlineShapeAtom_Sequence withNodeConstraint(hydra.langs.shex.syntax.NodeConstraint nodeConstraint) {
@@ -7,6 +7,8 @@ public class InlineShapeAtom_Sequence2 {
   
   public final java.util.Optional<hydra.langs.shex.syntax.NodeConstraint> nodeConstraint;
   
+  private int hashCode_;
+  
   public InlineShapeAtom_Sequence2 (hydra.langs.shex.syntax.InlineShapeOrRef inlineShapeOrRef, java.util.Optional<hydra.langs.shex.syntax.NodeConstraint> nodeConstraint) {
     this.inlineShapeOrRef = inlineShapeOrRef;
     this.nodeConstraint = nodeConstraint;
@@ -14,16 +16,27 @@ public class InlineShapeAtom_Sequence2 {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof InlineShapeAtom_Sequence2)) {
       return false;
     }
     InlineShapeAtom_Sequence2 o = (InlineShapeAtom_Sequence2) (other);
-    return inlineShapeOrRef.equals(o.inlineShapeOrRef) && nodeConstraint.equals(o.nodeConstraint);
+    return hashCode() == o.hashCode() && inlineShapeOrRef.equals(o.inlineShapeOrRef) && nodeConstraint.equals(o.nodeConstraint);
   }
   
   @Override
   public int hashCode() {
-    return 2 * inlineShapeOrRef.hashCode() + 3 * nodeConstraint.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * inlineShapeOrRef.hashCode() + 3 * nodeConstraint.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public InlineShapeAtom_Sequence2 withInlineShapeOrRef(hydra.langs.shex.syntax.InlineShapeOrRef inlineShapeOrRef) {
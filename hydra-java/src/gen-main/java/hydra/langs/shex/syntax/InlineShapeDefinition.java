@@ -7,6 +7,8 @@ public class InlineShapeDefinition {
   
   public final java.util.Optional<hydra.langs.shex.syntax.TripleExpression> tripleExpression;
   
+  private int hashCode_;
+  
   public InlineShapeDefinition (java.util.List<hydra.langs.shex.syntax.InlineShapeDefinition_ListOfAlts_Elmt> listOfAlts, java.util.Optional<hydra.langs.shex.syntax.TripleExpression> tripleExpression) {
     this.listOfAlts = listOfAlts;
     this.tripleExpression = tripleExpression;
@@ -14,16 +16,27 @@ public class InlineShapeDefinition {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof InlineShapeDefinition)) {
       return false;
     }
     InlineShapeDefinition o = (InlineShapeDefinition) (other);
-    return listOfAlts.equals(o.listOfAlts) && tripleExpression.equals(o.tripleExpression);
+    return hashCode() == o.hashCode() && listOfAlts.equals(o.listOfAlts) && tripleExpression.equals(o.tripleExpression);
   }
   
   @Override
   public int hashCode() {
-    return 2 * listOfAlts.hashCode() + 3 * tripleExpression.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * listOfAlts.hashCode() + 3 * tripleExpression.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public InlineShapeDefinition withListOfAlts(java.util.List<hydra.langs.shex.syntax.InlineShapeDefinition_ListOfAlts_Elmt> listOfAlts) {
@@ -38,22 +38,35 @@ public abstract class InlineShapeDefinition_ListOfAlts_Elmt {
   public static final class IncludeSet extends hydra.langs.shex.syntax.InlineShapeDefinition_ListOfAlts_Elmt {
     public final hydra.langs.shex.syntax.IncludeSet value;
     
+    private int hashCode_;
+    
     public IncludeSet (hydra.langs.shex.syntax.IncludeSet value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof IncludeSet)) {
         return false;
       }
       IncludeSet o = (IncludeSet) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class InlineShapeDefinition_ListOfAlts_Elmt {
   public static final class ExtraPropertySet extends hydra.langs.shex.syntax.InlineShapeDefinition_ListOfAlts_Elmt {
     public final hydra.langs.shex.syntax.ExtraPropertySet value;
     
+    private int hashCode_;
+    
     public ExtraPropertySet (hydra.langs.shex.syntax.ExtraPropertySet value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ExtraPropertySet)) {
         return false;
       }
       ExtraPropertySet o = (ExtraPropertySet) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -96,6 +122,9 @@ public abstract class InlineShapeDefinition_ListOfAlts_Elmt {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof CLOSED)) {
         return false;
       }
@@ -7,6 +7,8 @@ public class InlineShapeNot {
   
   public final hydra.langs.shex.syntax.InlineShapeAtom inlineShapeAtom;
   
+  private int hashCode_;
+  
   public InlineShapeNot (java.util.Optional<java.lang.Void> nOT, hydra.langs.shex.syntax.InlineShapeAtom inlineShapeAtom) {
     this.nOT = nOT;
     this.inlineShapeAtom = inlineShapeAtom;
@@ -14,16 +16,27 @@ public class InlineShapeNot {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof InlineShapeNot)) {
       return false;
     }
     InlineShapeNot o = (InlineShapeNot) (other);
-    return nOT.equals(o.nOT) && inlineShapeAtom.equals(o.inlineShapeAtom);
+    return hashCode() == o.hashCode() && nOT.equals(o.nOT) && inlineShapeAtom.equals(o.inlineShapeAtom);
   }
   
   @Override
   public int hashCode() {
-    return 2 * nOT.hashCode() + 3 * inlineShapeAtom.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * nOT.hashCode() + 3 * inlineShapeAtom.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public InlineShapeNot withNOT(java.util.Optional<java.lang.Void> nOT) {
@@ -32,22 +32,35 @@ public abstract class InnerTripleExpr {
   public static final class MultiElementGroup extends hydra.langs.shex.syntax.InnerTripleExpr {
     public final hydra.langs.shex.syntax.MultiElementGroup value;
     
+    private int hashCode_;
+    
     public MultiElementGroup (hydra.langs.shex.syntax.MultiElementGroup value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof MultiElementGroup)) {
         return false;
       }
       MultiElementGroup o = (MultiElementGroup) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class InnerTripleExpr {
   public static final class MultiElementOneOf extends hydra.langs.shex.syntax.InnerTripleExpr {
     public final hydra.langs.shex.syntax.MultiElementOneOf value;
     
+    private int hashCode_;
+    
     public MultiElementOneOf (hydra.langs.shex.syntax.MultiElementOneOf value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof MultiElementOneOf)) {
         return false;
       }
       MultiElementOneOf o = (MultiElementOneOf) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
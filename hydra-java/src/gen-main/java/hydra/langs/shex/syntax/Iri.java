@@ -32,22 +32,35 @@ public abstract class Iri {
   public static final class IriRef extends hydra.langs.shex.syntax.Iri {
     public final hydra.langs.shex.syntax.IriRef value;
     
+    private int hashCode_;
+    
     public IriRef (hydra.langs.shex.syntax.IriRef value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof IriRef)) {
         return false;
       }
       IriRef o = (IriRef) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class Iri {
   public static final class PrefixedName extends hydra.langs.shex.syntax.Iri {
     public final hydra.langs.shex.syntax.PrefixedName value;
     
+    private int hashCode_;
+    
     public PrefixedName (hydra.langs.shex.syntax.PrefixedName value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof PrefixedName)) {
         return false;
       }
       PrefixedName o = (PrefixedName) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -7,6 +7,8 @@ public class IriRange_Sequence {
   
   public final java.util.Optional<java.util.List<hydra.langs.shex.syntax.Exclusion>> sequence;
   
+  private int hashCode_;
+  
   public IriRange_Sequence (hydra.langs.shex.syntax.Iri iri, java.util.Optional<java.util.List<hydra.langs.shex.syntax.Exclusion>> sequence) {
     this.iri = iri;
     this.sequence = sequence;
@@ -14,16 +16,27 @@ public class IriRange_Sequence {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof IriRange_Sequence)) {
       return false;
     }
     IriRange_Sequence o = (IriRange_Sequence) (other);
-    return iri.equals(o.iri) && sequence.equals(o.sequence);
+    return hashCode() == o.hashCode() && iri.equals(o.iri) && sequence.equals(o.sequence);
   }
   
   @Override
   public int hashCode() {
-    return 2 * iri.hashCode() + 3 * sequence.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * iri.hashCode() + 3 * sequence.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public IriRange_Sequence withIri(hydra.langs.shex.syntax.Iri iri) {
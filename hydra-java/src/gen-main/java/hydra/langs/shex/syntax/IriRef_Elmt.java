@@ -32,22 +32,35 @@ public abstract class IriRef_Elmt {
   public static final class Regex extends hydra.langs.shex.syntax.IriRef_Elmt {
     public final String value;
     
+    private int hashCode_;
+    
     public Regex (String value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Regex)) {
         return false;
       }
       Regex o = (Regex) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class IriRef_Elmt {
   public static final class Uchar extends hydra.langs.shex.syntax.IriRef_Elmt {
     public final hydra.langs.shex.syntax.Uchar value;
     
+    private int hashCode_;
+    
     public Uchar (hydra.langs.shex.syntax.Uchar value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Uchar)) {
         return false;
       }
       Uchar o = (Uchar) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
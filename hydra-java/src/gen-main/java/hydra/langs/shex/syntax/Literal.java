@@ -38,22 +38,35 @@ public abstract class Literal {
   public static final class RdfLiteral extends hydra.langs.shex.syntax.Literal {
     public final hydra.langs.shex.syntax.RdfLiteral value;
     
+    private int hashCode_;
+    
     public RdfLiteral (hydra.langs.shex.syntax.RdfLiteral value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof RdfLiteral)) {
         return false;
       }
       RdfLiteral o = (RdfLiteral) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class Literal {
   public static final class NumericLiteral extends hydra.langs.shex.syntax.Literal {
     public final hydra.langs.shex.syntax.NumericLiteral value;
     
+    private int hashCode_;
+    
     public NumericLiteral (hydra.langs.shex.syntax.NumericLiteral value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof NumericLiteral)) {
         return false;
       }
       NumericLiteral o = (NumericLiteral) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +118,35 @@ public abstract class Literal {
   public static final class BooleanLiteral extends hydra.langs.shex.syntax.Literal {
     public final hydra.langs.shex.syntax.BooleanLiteral value;
     
+    private int hashCode_;
+    
     public BooleanLiteral (hydra.langs.shex.syntax.BooleanLiteral value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof BooleanLiteral)) {
         return false;
       }
       BooleanLiteral o = (BooleanLiteral) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
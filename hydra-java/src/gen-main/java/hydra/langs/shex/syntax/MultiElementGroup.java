@@ -9,6 +9,8 @@ public class MultiElementGroup {
   
   public final java.util.Optional<java.lang.Void> semi;
   
+  private int hashCode_;
+  
   public MultiElementGroup (hydra.langs.shex.syntax.UnaryTripleExpr unaryTripleExpr, java.util.List<hydra.langs.shex.syntax.UnaryTripleExpr> listOfSequence, java.util.Optional<java.lang.Void> semi) {
     this.unaryTripleExpr = unaryTripleExpr;
     this.listOfSequence = listOfSequence;
@@ -17,16 +19,27 @@ public class MultiElementGroup {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof MultiElementGroup)) {
       return false;
     }
     MultiElementGroup o = (MultiElementGroup) (other);
-    return unaryTripleExpr.equals(o.unaryTripleExpr) && listOfSequence.equals(o.listOfSequence) && semi.equals(o.semi);
+    return hashCode() == o.hashCode() && unaryTripleExpr.equals(o.unaryTripleExpr) && listOfSequence.equals(o.listOfSequence) && semi.equals(o.semi);
   }
   
   @Override
   public int hashCode() {
-    return 2 * unaryTripleExpr.hashCode() + 3 * listOfSequence.hashCode() + 5 * semi.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * unaryTripleExpr.hashCode() + 3 * listOfSequence.hashCode() + 5 * semi.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public MultiElementGroup withUnaryTripleExpr(hydra.langs.shex.syntax.UnaryTripleExpr unaryTripleExpr) {
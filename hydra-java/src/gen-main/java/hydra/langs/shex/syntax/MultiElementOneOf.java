@@ -7,6 +7,8 @@ public class MultiElementOneOf {
   
   public final java.util.List<hydra.langs.shex.syntax.GroupTripleExpr> listOfSequence;
   
+  private int hashCode_;
+  
   public MultiElementOneOf (hydra.langs.shex.syntax.GroupTripleExpr groupTripleExpr, java.util.List<hydra.langs.shex.syntax.GroupTripleExpr> listOfSequence) {
     this.groupTripleExpr = groupTripleExpr;
     this.listOfSequence = listOfSequence;
@@ -14,16 +16,27 @@ public class MultiElementOneOf {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof MultiElementOneOf)) {
       return false;
     }
     MultiElementOneOf o = (MultiElementOneOf) (other);
-    return groupTripleExpr.equals(o.groupTripleExpr) && listOfSequence.equals(o.listOfSequence);
+    return hashCode() == o.hashCode() && groupTripleExpr.equals(o.groupTripleExpr) && listOfSequence.equals(o.listOfSequence);
   }
   
   @Override
   public int hashCode() {
-    return 2 * groupTripleExpr.hashCode() + 3 * listOfSequence.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * groupTripleExpr.hashCode() + 3 * listOfSequence.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public MultiElementOneOf withGroupTripleExpr(hydra.langs.shex.syntax.GroupTripleExpr groupTripleExpr) {
@@ -56,22 +56,35 @@ public abstract class NodeConstraint {
   public static final class Sequence extends hydra.langs.shex.syntax.NodeConstraint {
     public final java.util.List<hydra.langs.shex.syntax.XsFacet> value;
     
+    private int hashCode_;
+    
     public Sequence (java.util.List<hydra.langs.shex.syntax.XsFacet> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Sequence)) {
         return false;
       }
       Sequence o = (Sequence) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -83,22 +96,35 @@ public abstract class NodeConstraint {
   public static final class Sequence2 extends hydra.langs.shex.syntax.NodeConstraint {
     public final hydra.langs.shex.syntax.NodeConstraint_Sequence2 value;
     
+    private int hashCode_;
+    
     public Sequence2 (hydra.langs.shex.syntax.NodeConstraint_Sequence2 value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Sequence2)) {
         return false;
       }
       Sequence2 o = (Sequence2) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -110,22 +136,35 @@ public abstract class NodeConstraint {
   public static final class Sequence3 extends hydra.langs.shex.syntax.NodeConstraint {
     public final hydra.langs.shex.syntax.NodeConstraint_Sequence3 value;
     
+    private int hashCode_;
+    
     public Sequence3 (hydra.langs.shex.syntax.NodeConstraint_Sequence3 value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Sequence3)) {
         return false;
       }
       Sequence3 o = (Sequence3) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -137,22 +176,35 @@ public abstract class NodeConstraint {
   public static final class Sequence4 extends hydra.langs.shex.syntax.NodeConstraint {
     public final hydra.langs.shex.syntax.NodeConstraint_Sequence4 value;
     
+    private int hashCode_;
+    
     public Sequence4 (hydra.langs.shex.syntax.NodeConstraint_Sequence4 value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Sequence4)) {
         return false;
       }
       Sequence4 o = (Sequence4) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -164,22 +216,35 @@ public abstract class NodeConstraint {
   public static final class Sequence5 extends hydra.langs.shex.syntax.NodeConstraint {
     public final hydra.langs.shex.syntax.NodeConstraint_Sequence5 value;
     
+    private int hashCode_;
+    
     public Sequence5 (hydra.langs.shex.syntax.NodeConstraint_Sequence5 value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Sequence5)) {
         return false;
       }
       Sequence5 o = (Sequence5) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -191,22 +256,35 @@ public abstract class NodeConstraint {
   public static final class ListOfXsFacet extends hydra.langs.shex.syntax.NodeConstraint {
     public final java.util.List<hydra.langs.shex.syntax.XsFacet> value;
     
+    private int hashCode_;
+    
     public ListOfXsFacet (java.util.List<hydra.langs.shex.syntax.XsFacet> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ListOfXsFacet)) {
         return false;
       }
       ListOfXsFacet o = (ListOfXsFacet) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -7,6 +7,8 @@ public class NodeConstraint_Sequence2 {
   
   public final java.util.List<hydra.langs.shex.syntax.StringFacet> listOfStringFacet;
   
+  private int hashCode_;
+  
   public NodeConstraint_Sequence2 (hydra.langs.shex.syntax.NonLiteralKind nonLiteralKind, java.util.List<hydra.langs.shex.syntax.StringFacet> listOfStringFacet) {
     this.nonLiteralKind = nonLiteralKind;
     this.listOfStringFacet = listOfStringFacet;
@@ -14,16 +16,27 @@ public class NodeConstraint_Sequence2 {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof NodeConstraint_Sequence2)) {
       return false;
     }
     NodeConstraint_Sequence2 o = (NodeConstraint_Sequence2) (other);
-    return nonLiteralKind.equals(o.nonLiteralKind) && listOfStringFacet.equals(o.listOfStringFacet);
+    return hashCode() == o.hashCode() && nonLiteralKind.equals(o.nonLiteralKind) && listOfStringFacet.equals(o.listOfStringFacet);
   }
   
   @Override
   public int hashCode() {
-    return 2 * nonLiteralKind.hashCode() + 3 * listOfStringFacet.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * nonLiteralKind.hashCode() + 3 * listOfStringFacet.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public NodeConstraint_Sequence2 withNonLiteralKind(hydra.langs.shex.syntax.NonLiteralKind nonLiteralKind) {
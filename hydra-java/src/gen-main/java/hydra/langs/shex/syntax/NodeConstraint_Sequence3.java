@@ -7,6 +7,8 @@ public class NodeConstraint_Sequence3 {
   
   public final java.util.List<hydra.langs.shex.syntax.XsFacet> listOfXsFacet;
   
+  private int hashCode_;
+  
   public NodeConstraint_Sequence3 (hydra.langs.shex.syntax.Datatype datatype, java.util.List<hydra.langs.shex.syntax.XsFacet> listOfXsFacet) {
     this.datatype = datatype;
     this.listOfXsFacet = listOfXsFacet;
@@ -14,16 +16,27 @@ public class NodeConstraint_Sequence3 {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof NodeConstraint_Sequence3)) {
       return false;
     }
     NodeConstraint_Sequence3 o = (NodeConstraint_Sequence3) (other);
-    return datatype.equals(o.datatype) && listOfXsFacet.equals(o.listOfXsFacet);
+    return hashCode() == o.hashCode() && datatype.equals(o.datatype) && listOfXsFacet.equals(o.listOfXsFacet);
   }
   
   @Override
   public int hashCode() {
-    return 2 * datatype.hashCode() + 3 * listOfXsFacet.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * datatype.hashCode() + 3 * listOfXsFacet.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public NodeConstraint_Sequence3 withDatatype(hydra.langs.shex.syntax.Datatype datatype) {
@@ -7,6 +7,8 @@ public class NodeConstraint_Sequence5 {
   
   public final java.util.List<hydra.langs.shex.syntax.XsFacet> listOfXsFacet;
   
+  private int hashCode_;
+  
   public NodeConstraint_Sequence5 (hydra.langs.shex.syntax.ValueSet valueSet, java.util.List<hydra.langs.shex.syntax.XsFacet> listOfXsFacet) {
     this.valueSet = valueSet;
     this.listOfXsFacet = listOfXsFacet;
@@ -14,16 +16,27 @@ public class NodeConstraint_Sequence5 {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof NodeConstraint_Sequence5)) {
       return false;
     }
     NodeConstraint_Sequence5 o = (NodeConstraint_Sequence5) (other);
-    return valueSet.equals(o.valueSet) && listOfXsFacet.equals(o.listOfXsFacet);
+    return hashCode() == o.hashCode() && valueSet.equals(o.valueSet) && listOfXsFacet.equals(o.listOfXsFacet);
   }
   
   @Override
   public int hashCode() {
-    return 2 * valueSet.hashCode() + 3 * listOfXsFacet.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * valueSet.hashCode() + 3 * listOfXsFacet.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public NodeConstraint_Sequence5 withValueSet(hydra.langs.shex.syntax.ValueSet valueSet) {
@@ -42,6 +42,9 @@ public abstract class NonLiteralKind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof IRI)) {
         return false;
       }
@@ -67,6 +70,9 @@ public abstract class NonLiteralKind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof BNODE)) {
         return false;
       }
@@ -92,6 +98,9 @@ public abstract class NonLiteralKind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof NONLITERAL)) {
         return false;
       }
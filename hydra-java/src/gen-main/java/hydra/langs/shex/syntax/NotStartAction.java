@@ -32,22 +32,35 @@ public abstract class NotStartAction {
   public static final class Start extends hydra.langs.shex.syntax.NotStartAction {
     public final hydra.langs.shex.syntax.ShapeExpression value;
     
+    private int hashCode_;
+    
     public Start (hydra.langs.shex.syntax.ShapeExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Start)) {
         return false;
       }
       Start o = (Start) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class NotStartAction {
   public static final class ShapeExprDecl extends hydra.langs.shex.syntax.NotStartAction {
     public final hydra.langs.shex.syntax.NotStartAction_ShapeExprDecl value;
     
+    private int hashCode_;
+    
     public ShapeExprDecl (hydra.langs.shex.syntax.NotStartAction_ShapeExprDecl value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ShapeExprDecl)) {
         return false;
       }
       ShapeExprDecl o = (ShapeExprDecl) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -7,6 +7,8 @@ public class NotStartAction_ShapeExprDecl {
   
   public final hydra.langs.shex.syntax.NotStartAction_ShapeExprDecl_Alts alts;
   
+  private int hashCode_;
+  
   public NotStartAction_ShapeExprDecl (hydra.langs.shex.syntax.ShapeExprLabel shapeExprLabel, hydra.langs.shex.syntax.NotStartAction_ShapeExprDecl_Alts alts) {
     this.shapeExprLabel = shapeExprLabel;
     this.alts = alts;
@@ -14,16 +16,27 @@ public class NotStartAction_ShapeExprDecl {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof NotStartAction_ShapeExprDecl)) {
       return false;
     }
     NotStartAction_ShapeExprDecl o = (NotStartAction_ShapeExprDecl) (other);
-    return shapeExprLabel.equals(o.shapeExprLabel) && alts.equals(o.alts);
+    return hashCode() == o.hashCode() && shapeExprLabel.equals(o.shapeExprLabel) && alts.equals(o.alts);
   }
   
   @Override
   public int hashCode() {
-    return 2 * shapeExprLabel.hashCode() + 3 * alts.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * shapeExprLabel.hashCode() + 3 * alts.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public NotStartAction_ShapeExprDecl withShapeExprLabel(hydra.langs.shex.syntax.ShapeExprLabel shapeExprLabel) {
@@ -32,22 +32,35 @@ public abstract class NotStartAction_ShapeExprDecl_Alts {
   public static final class ShapeExpression extends hydra.langs.shex.syntax.NotStartAction_ShapeExprDecl_Alts {
     public final hydra.langs.shex.syntax.ShapeExpression value;
     
+    private int hashCode_;
+    
     public ShapeExpression (hydra.langs.shex.syntax.ShapeExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ShapeExpression)) {
         return false;
       }
       ShapeExpression o = (ShapeExpression) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -63,6 +76,9 @@ public abstract class NotStartAction_ShapeExprDecl_Alts {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof EXTERNAL)) {
         return false;
       }
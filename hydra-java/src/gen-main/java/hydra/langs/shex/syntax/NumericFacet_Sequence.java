@@ -7,6 +7,8 @@ public class NumericFacet_Sequence {
   
   public final hydra.langs.shex.syntax.NumericLiteral numericLiteral;
   
+  private int hashCode_;
+  
   public NumericFacet_Sequence (hydra.langs.shex.syntax.NumericRange numericRange, hydra.langs.shex.syntax.NumericLiteral numericLiteral) {
     this.numericRange = numericRange;
     this.numericLiteral = numericLiteral;
@@ -14,16 +16,27 @@ public class NumericFacet_Sequence {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof NumericFacet_Sequence)) {
       return false;
     }
     NumericFacet_Sequence o = (NumericFacet_Sequence) (other);
-    return numericRange.equals(o.numericRange) && numericLiteral.equals(o.numericLiteral);
+    return hashCode() == o.hashCode() && numericRange.equals(o.numericRange) && numericLiteral.equals(o.numericLiteral);
   }
   
   @Override
   public int hashCode() {
-    return 2 * numericRange.hashCode() + 3 * numericLiteral.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * numericRange.hashCode() + 3 * numericLiteral.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public NumericFacet_Sequence withNumericRange(hydra.langs.shex.syntax.NumericRange numericRange) {
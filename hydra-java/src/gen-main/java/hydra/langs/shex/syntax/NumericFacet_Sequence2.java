@@ -7,6 +7,8 @@ public class NumericFacet_Sequence2 {
   
   public final hydra.langs.shex.syntax.Integer_ integer;
   
+  private int hashCode_;
+  
   public NumericFacet_Sequence2 (hydra.langs.shex.syntax.NumericLength numericLength, hydra.langs.shex.syntax.Integer_ integer) {
     this.numericLength = numericLength;
     this.integer = integer;
@@ -14,16 +16,27 @@ public class NumericFacet_Sequence2 {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof NumericFacet_Sequence2)) {
       return false;
     }
     NumericFacet_Sequence2 o = (NumericFacet_Sequence2) (other);
-    return numericLength.equals(o.numericLength) && integer.equals(o.integer);
+    return hashCode() == o.hashCode() && numericLength.equals(o.numericLength) && integer.equals(o.integer);
   }
   
   @Override
   public int hashCode() {
-    return 2 * numericLength.hashCode() + 3 * integer.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * numericLength.hashCode() + 3 * integer.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public NumericFacet_Sequence2 withNumericLength(hydra.langs.shex.syntax.NumericLength numericLength) {
@@ -36,6 +36,9 @@ public abstract class NumericLength {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof TOTALDIGITS)) {
         return false;
       }
@@ -61,6 +64,9 @@ public abstract class NumericLength {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof FRACTIONDIGITS)) {
         return false;
       }
@@ -38,22 +38,35 @@ public abstract class NumericLiteral {
   public static final class Integer_ extends hydra.langs.shex.syntax.NumericLiteral {
     public final hydra.langs.shex.syntax.Integer_ value;
     
+    private int hashCode_;
+    
     public Integer_ (hydra.langs.shex.syntax.Integer_ value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Integer_)) {
         return false;
       }
       Integer_ o = (Integer_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class NumericLiteral {
   public static final class Decimal extends hydra.langs.shex.syntax.NumericLiteral {
     public final hydra.langs.shex.syntax.Decimal value;
     
+    private int hashCode_;
+    
     public Decimal (hydra.langs.shex.syntax.Decimal value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Decimal)) {
         return false;
       }
       Decimal o = (Decimal) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +118,35 @@ public abstract class NumericLiteral {
   public static final class Double_ extends hydra.langs.shex.syntax.NumericLiteral {
     public final hydra.langs.shex.syntax.Double_ value;
     
+    private int hashCode_;
+    
     public Double_ (hydra.langs.shex.syntax.Double_ value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Double_)) {
         return false;
       }
       Double_ o = (Double_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -48,6 +48,9 @@ public abstract class NumericRange {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof MININCLUSIVE)) {
         return false;
       }
@@ -73,6 +76,9 @@ public abstract class NumericRange {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof MINEXCLUSIVE)) {
         return false;
       }
@@ -98,6 +104,9 @@ public abstract class NumericRange {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof MAXINCLUSIVE)) {
         return false;
       }
@@ -123,6 +132,9 @@ public abstract class NumericRange {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof MAXEXCLUSIVE)) {
         return false;
       }
@@ -32,22 +32,35 @@ public abstract class OneOfTripleExpr {
   public static final class GroupTripleExpr extends hydra.langs.shex.syntax.OneOfTripleExpr {
     public final hydra.langs.shex.syntax.GroupTripleExpr value;
     
+    private int hashCode_;
+    
     public GroupTripleExpr (hydra.langs.shex.syntax.GroupTripleExpr value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof GroupTripleExpr)) {
         return false;
       }
       GroupTripleExpr o = (GroupTripleExpr) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class OneOfTripleExpr {
   public static final class MultiElementOneOf extends hydra.langs.shex.syntax.OneOfTripleExpr {
     public final hydra.langs.shex.syntax.MultiElementOneOf value;
     
+    private int hashCode_;
+    
     public MultiElementOneOf (hydra.langs.shex.syntax.MultiElementOneOf value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof MultiElementOneOf)) {
         return false;
       }
       MultiElementOneOf o = (MultiElementOneOf) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
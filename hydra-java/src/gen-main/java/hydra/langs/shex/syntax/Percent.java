@@ -7,6 +7,8 @@ public class Percent {
   
   public final hydra.langs.shex.syntax.Hex hex2;
   
+  private int hashCode_;
+  
   public Percent (hydra.langs.shex.syntax.Hex hex, hydra.langs.shex.syntax.Hex hex2) {
     this.hex = hex;
     this.hex2 = hex2;
@@ -14,16 +16,27 @@ public class Percent {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Percent)) {
       return false;
     }
     Percent o = (Percent) (other);
-    return hex.equals(o.hex) && hex2.equals(o.hex2);
+    return hashCode() == o.hashCode() && hex.equals(o.hex) && hex2.equals(o.hex2);
   }
   
   @Override
   public int hashCode() {
-    return 2 * hex.hashCode() + 3 * hex2.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * hex.hashCode() + 3 * hex2.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Percent withHex(hydra.langs.shex.syntax.Hex hex) {
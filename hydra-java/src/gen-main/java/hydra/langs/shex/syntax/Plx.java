@@ -32,22 +32,35 @@ public abstract class Plx {
   public static final class Percent extends hydra.langs.shex.syntax.Plx {
     public final hydra.langs.shex.syntax.Percent value;
     
+    private int hashCode_;
+    
     public Percent (hydra.langs.shex.syntax.Percent value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Percent)) {
         return false;
       }
       Percent o = (Percent) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class Plx {
   public static final class PnLocalEsc extends hydra.langs.shex.syntax.Plx {
     public final hydra.langs.shex.syntax.PnLocalEsc value;
     
+    private int hashCode_;
+    
     public PnLocalEsc (hydra.langs.shex.syntax.PnLocalEsc value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof PnLocalEsc)) {
         return false;
       }
       PnLocalEsc o = (PnLocalEsc) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -32,22 +32,35 @@ public abstract class PnCharsU {
   public static final class PnCharsBase extends hydra.langs.shex.syntax.PnCharsU {
     public final hydra.langs.shex.syntax.PnCharsBase value;
     
+    private int hashCode_;
+    
     public PnCharsBase (hydra.langs.shex.syntax.PnCharsBase value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof PnCharsBase)) {
         return false;
       }
       PnCharsBase o = (PnCharsBase) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -63,6 +76,9 @@ public abstract class PnCharsU {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Lowbar)) {
         return false;
       }
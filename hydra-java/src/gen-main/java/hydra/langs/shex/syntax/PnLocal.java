@@ -7,6 +7,8 @@ public class PnLocal {
   
   public final java.util.Optional<hydra.langs.shex.syntax.PnLocal_Sequence_Option> sequence;
   
+  private int hashCode_;
+  
   public PnLocal (hydra.langs.shex.syntax.PnLocal_Alts alts, java.util.Optional<hydra.langs.shex.syntax.PnLocal_Sequence_Option> sequence) {
     this.alts = alts;
     this.sequence = sequence;
@@ -14,16 +16,27 @@ public class PnLocal {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof PnLocal)) {
       return false;
     }
     PnLocal o = (PnLocal) (other);
-    return alts.equals(o.alts) && sequence.equals(o.sequence);
+    return hashCode() == o.hashCode() && alts.equals(o.alts) && sequence.equals(o.sequence);
   }
   
   @Override
   public int hashCode() {
-    return 2 * alts.hashCode() + 3 * sequence.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * alts.hashCode() + 3 * sequence.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public PnLocal withAlts(hydra.langs.shex.syntax.PnLocal_Alts alts) {
@@ -44,22 +44,35 @@ public abstract class PnLocal_Alts {
   public static final class PnCharsU extends hydra.langs.shex.syntax.PnLocal_Alts {
     public final hydra.langs.shex.syntax.PnCharsU value;
     
+    private int hashCode_;
+    
     public PnCharsU (hydra.langs.shex.syntax.PnCharsU value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof PnCharsU)) {
         return false;
       }
       PnCharsU o = (PnCharsU) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -75,6 +88,9 @@ public abstract class PnLocal_Alts {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Colon)) {
         return false;
       }
@@ -96,22 +112,35 @@ public abstract class PnLocal_Alts {
   public static final class Regex extends hydra.langs.shex.syntax.PnLocal_Alts {
     public final String value;
     
+    private int hashCode_;
+    
     public Regex (String value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Regex)) {
         return false;
       }
       Regex o = (Regex) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -123,22 +152,35 @@ public abstract class PnLocal_Alts {
   public static final class Plx extends hydra.langs.shex.syntax.PnLocal_Alts {
     public final hydra.langs.shex.syntax.Plx value;
     
+    private int hashCode_;
+    
     public Plx (hydra.langs.shex.syntax.Plx value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Plx)) {
         return false;
       }
       Plx o = (Plx) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
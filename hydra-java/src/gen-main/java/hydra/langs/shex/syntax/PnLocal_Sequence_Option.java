@@ -7,6 +7,8 @@ public class PnLocal_Sequence_Option {
   
   public final hydra.langs.shex.syntax.PnLocal_Sequence_Option_Alts alts;
   
+  private int hashCode_;
+  
   public PnLocal_Sequence_Option (java.util.List<hydra.langs.shex.syntax.PnLocal_Sequence_Option_ListOfAlts_Elmt> listOfAlts, hydra.langs.shex.syntax.PnLocal_Sequence_Option_Alts alts) {
     this.listOfAlts = listOfAlts;
     this.alts = alts;
@@ -14,16 +16,27 @@ public class PnLocal_Sequence_Option {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof PnLocal_Sequence_Option)) {
       return false;
     }
     PnLocal_Sequence_Option o = (PnLocal_Sequence_Option) (other);
-    return listOfAlts.equals(o.listOfAlts) && alts.equals(o.alts);
+    return hashCode() == o.hashCode() && listOfAlts.equals(o.listOfAlts) && alts.equals(o.alts);
   }
   
   @Override
   public int hashCode() {
-    return 2 * listOfAlts.hashCode() + 3 * alts.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * listOfAlts.hashCode() + 3 * alts.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public PnLocal_Sequence_Option withListOfAlts(java.util.List<hydra.langs.shex.syntax.PnLocal_Sequence_Option_ListOfAlts_Elmt> listOfAlts) {
@@ -38,22 +38,35 @@ public abstract class PnLocal_Sequence_Option_Alts {
   public static final class PnChars extends hydra.langs.shex.syntax.PnLocal_Sequence_Option_Alts {
     public final hydra.langs.shex.syntax.PnChars value;
     
+    private int hashCode_;
+    
     public PnChars (hydra.langs.shex.syntax.PnChars value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof PnChars)) {
         return false;
       }
       PnChars o = (PnChars) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -69,6 +82,9 @@ public abstract class PnLocal_Sequence_Option_Alts {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Colon)) {
         return false;
       }
@@ -90,22 +106,35 @@ public abstract class PnLocal_Sequence_Option_Alts {
   public static final class Plx extends hydra.langs.shex.syntax.PnLocal_Sequence_Option_Alts {
     public final hydra.langs.shex.syntax.Plx value;
     
+    private int hashCode_;
+    
     public Plx (hydra.langs.shex.syntax.Plx value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Plx)) {
         return false;
       }
       Plx o = (Plx) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
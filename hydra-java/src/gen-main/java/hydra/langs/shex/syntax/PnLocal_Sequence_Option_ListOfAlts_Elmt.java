@@ -44,22 +44,35 @@ public abstract class PnLocal_Sequence_Option_ListOfAlts_Elmt {
   public static final class PnChars extends hydra.langs.shex.syntax.PnLocal_Sequence_Option_ListOfAlts_Elmt {
     public final hydra.langs.shex.syntax.PnChars value;
     
+    private int hashCode_;
+    
     public PnChars (hydra.langs.shex.syntax.PnChars value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof PnChars)) {
         return false;
       }
       PnChars o = (PnChars) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -75,6 +88,9 @@ public abstract class PnLocal_Sequence_Option_ListOfAlts_Elmt {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Period)) {
         return false;
       }
@@ -100,6 +116,9 @@ public abstract class PnLocal_Sequence_Option_ListOfAlts_Elmt {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Colon)) {
         return false;
       }
@@ -121,22 +140,35 @@ public abstract class PnLocal_Sequence_Option_ListOfAlts_Elmt {
   public static final class Plx extends hydra.langs.shex.syntax.PnLocal_Sequence_Option_ListOfAlts_Elmt {
     public final hydra.langs.shex.syntax.Plx value;
     
+    private int hashCode_;
+    
     public Plx (hydra.langs.shex.syntax.Plx value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Plx)) {
         return false;
       }
       Plx o = (Plx) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
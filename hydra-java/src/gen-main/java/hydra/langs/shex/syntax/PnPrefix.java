@@ -7,6 +7,8 @@ public class PnPrefix {
   
   public final java.util.Optional<hydra.langs.shex.syntax.PnPrefix_Sequence_Option> sequence;
   
+  private int hashCode_;
+  
   public PnPrefix (hydra.langs.shex.syntax.PnCharsBase pnCharsBase, java.util.Optional<hydra.langs.shex.syntax.PnPrefix_Sequence_Option> sequence) {
     this.pnCharsBase = pnCharsBase;
     this.sequence = sequence;
@@ -14,16 +16,27 @@ public class PnPrefix {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof PnPrefix)) {
       return false;
     }
     PnPrefix o = (PnPrefix) (other);
-    return pnCharsBase.equals(o.pnCharsBase) && sequence.equals(o.sequence);
+    return hashCode() == o.hashCode() && pnCharsBase.equals(o.pnCharsBase) && sequence.equals(o.sequence);
   }
   
   @Override
   public int hashCode() {
-    return 2 * pnCharsBase.hashCode() + 3 * sequence.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * pnCharsBase.hashCode() + 3 * sequence.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public PnPrefix withPnCharsBase(hydra.langs.shex.syntax.PnCharsBase pnCharsBase) {
@@ -7,6 +7,8 @@ public class PnPrefix_Sequence_Option {
   
   public final hydra.langs.shex.syntax.PnChars pnChars;
   
+  private int hashCode_;
+  
   public PnPrefix_Sequence_Option (hydra.langs.shex.syntax.PnPrefix_Sequence_Option_Alts alts, hydra.langs.shex.syntax.PnChars pnChars) {
     this.alts = alts;
     this.pnChars = pnChars;
@@ -14,16 +16,27 @@ public class PnPrefix_Sequence_Option {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof PnPrefix_Sequence_Option)) {
       return false;
     }
     PnPrefix_Sequence_Option o = (PnPrefix_Sequence_Option) (other);
-    return alts.equals(o.alts) && pnChars.equals(o.pnChars);
+    return hashCode() == o.hashCode() && alts.equals(o.alts) && pnChars.equals(o.pnChars);
   }
   
   @Override
   public int hashCode() {
-    return 2 * alts.hashCode() + 3 * pnChars.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * alts.hashCode() + 3 * pnChars.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public PnPrefix_Sequence_Option withAlts(hydra.langs.shex.syntax.PnPrefix_Sequence_Option_Alts alts) {
@@ -7,6 +7,8 @@ public class PnameLn {
   
   public final hydra.langs.shex.syntax.PnLocal pnLocal;
   
+  private int hashCode_;
+  
   public PnameLn (hydra.langs.shex.syntax.PnameNs pnameNs, hydra.langs.shex.syntax.PnLocal pnLocal) {
     this.pnameNs = pnameNs;
     this.pnLocal = pnLocal;
@@ -14,16 +16,27 @@ public class PnameLn {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof PnameLn)) {
       return false;
     }
     PnameLn o = (PnameLn) (other);
-    return pnameNs.equals(o.pnameNs) && pnLocal.equals(o.pnLocal);
+    return hashCode() == o.hashCode() && pnameNs.equals(o.pnameNs) && pnLocal.equals(o.pnLocal);
   }
   
   @Override
   public int hashCode() {
-    return 2 * pnameNs.hashCode() + 3 * pnLocal.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * pnameNs.hashCode() + 3 * pnLocal.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public PnameLn withPnameNs(hydra.langs.shex.syntax.PnameNs pnameNs) {
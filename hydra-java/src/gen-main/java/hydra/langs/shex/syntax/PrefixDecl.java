@@ -7,6 +7,8 @@ public class PrefixDecl {
   
   public final hydra.langs.shex.syntax.IriRef iriRef;
   
+  private int hashCode_;
+  
   public PrefixDecl (hydra.langs.shex.syntax.PnameNs pnameNs, hydra.langs.shex.syntax.IriRef iriRef) {
     this.pnameNs = pnameNs;
     this.iriRef = iriRef;
@@ -14,16 +16,27 @@ public class PrefixDecl {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof PrefixDecl)) {
       return false;
     }
     PrefixDecl o = (PrefixDecl) (other);
-    return pnameNs.equals(o.pnameNs) && iriRef.equals(o.iriRef);
+    return hashCode() == o.hashCode() && pnameNs.equals(o.pnameNs) && iriRef.equals(o.iriRef);
   }
   
   @Override
   public int hashCode() {
-    return 2 * pnameNs.hashCode() + 3 * iriRef.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * pnameNs.hashCode() + 3 * iriRef.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public PrefixDecl withPnameNs(hydra.langs.shex.syntax.PnameNs pnameNs) {
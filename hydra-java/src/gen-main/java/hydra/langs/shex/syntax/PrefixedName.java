@@ -32,22 +32,35 @@ public abstract class PrefixedName {
   public static final class PnameLn extends hydra.langs.shex.syntax.PrefixedName {
     public final hydra.langs.shex.syntax.PnameLn value;
     
+    private int hashCode_;
+    
     public PnameLn (hydra.langs.shex.syntax.PnameLn value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof PnameLn)) {
         return false;
       }
       PnameLn o = (PnameLn) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class PrefixedName {
   public static final class PnameNs extends hydra.langs.shex.syntax.PrefixedName {
     public final hydra.langs.shex.syntax.PnameNs value;
     
+    private int hashCode_;
+    
     public PnameNs (hydra.langs.shex.syntax.PnameNs value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof PnameNs)) {
         return false;
       }
       PnameNs o = (PnameNs) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
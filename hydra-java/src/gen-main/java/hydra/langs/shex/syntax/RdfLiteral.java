@@ -7,6 +7,8 @@ public class RdfLiteral {
   
   public final java.util.Optional<hydra.langs.shex.syntax.RdfLiteral_Alts_Option> alts;
   
+  private int hashCode_;
+  
   public RdfLiteral (hydra.langs.shex.syntax.String_ string, java.util.Optional<hydra.langs.shex.syntax.RdfLiteral_Alts_Option> alts) {
     this.string = string;
     this.alts = alts;
@@ -14,16 +16,27 @@ public class RdfLiteral {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof RdfLiteral)) {
       return false;
     }
     RdfLiteral o = (RdfLiteral) (other);
-    return string.equals(o.string) && alts.equals(o.alts);
+    return hashCode() == o.hashCode() && string.equals(o.string) && alts.equals(o.alts);
   }
   
   @Override
   public int hashCode() {
-    return 2 * string.hashCode() + 3 * alts.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * string.hashCode() + 3 * alts.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public RdfLiteral withString(hydra.langs.shex.syntax.String_ string) {
@@ -32,22 +32,35 @@ public abstract class RdfLiteral_Alts_Option {
   public static final class LangTag extends hydra.langs.shex.syntax.RdfLiteral_Alts_Option {
     public final hydra.langs.shex.syntax.LangTag value;
     
+    private int hashCode_;
+    
     public LangTag (hydra.langs.shex.syntax.LangTag value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof LangTag)) {
         return false;
       }
       LangTag o = (LangTag) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class RdfLiteral_Alts_Option {
   public static final class Sequence extends hydra.langs.shex.syntax.RdfLiteral_Alts_Option {
     public final hydra.langs.shex.syntax.Datatype value;
     
+    private int hashCode_;
+    
     public Sequence (hydra.langs.shex.syntax.Datatype value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Sequence)) {
         return false;
       }
       Sequence o = (Sequence) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -9,6 +9,9 @@ public class RdfType {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof RdfType)) {
       return false;
     }
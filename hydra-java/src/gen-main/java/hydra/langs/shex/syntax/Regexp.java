@@ -7,6 +7,8 @@ public class Regexp {
   
   public final java.util.List<String> listOfRegex;
   
+  private int hashCode_;
+  
   public Regexp (java.util.List<hydra.langs.shex.syntax.Regexp_ListOfAlts_Elmt> listOfAlts, java.util.List<String> listOfRegex) {
     this.listOfAlts = listOfAlts;
     this.listOfRegex = listOfRegex;
@@ -14,16 +16,27 @@ public class Regexp {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Regexp)) {
       return false;
     }
     Regexp o = (Regexp) (other);
-    return listOfAlts.equals(o.listOfAlts) && listOfRegex.equals(o.listOfRegex);
+    return hashCode() == o.hashCode() && listOfAlts.equals(o.listOfAlts) && listOfRegex.equals(o.listOfRegex);
   }
   
   @Override
   public int hashCode() {
-    return 2 * listOfAlts.hashCode() + 3 * listOfRegex.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * listOfAlts.hashCode() + 3 * listOfRegex.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Regexp withListOfAlts(java.util.List<hydra.langs.shex.syntax.Regexp_ListOfAlts_Elmt> listOfAlts) {
@@ -7,6 +7,8 @@ public class RepeatRange {
   
   public final java.util.Optional<java.util.Optional<java.util.Optional<hydra.langs.shex.syntax.RepeatRange_Sequence_Option_Option_Option>>> sequence;
   
+  private int hashCode_;
+  
   public RepeatRange (hydra.langs.shex.syntax.Integer_ integer, java.util.Optional<java.util.Optional<java.util.Optional<hydra.langs.shex.syntax.RepeatRange_Sequence_Option_Option_Option>>> sequence) {
     this.integer = integer;
     this.sequence = sequence;
@@ -14,16 +16,27 @@ public class RepeatRange {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof RepeatRange)) {
       return false;
     }
     RepeatRange o = (RepeatRange) (other);
-    return integer.equals(o.integer) && sequence.equals(o.sequence);
+    return hashCode() == o.hashCode() && integer.equals(o.integer) && sequence.equals(o.sequence);
   }
   
   @Override
   public int hashCode() {
-    return 2 * integer.hashCode() + 3 * sequence.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * integer.hashCode() + 3 * sequence.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public RepeatRange withInteger(hydra.langs.shex.syntax.Integer_ integer) {
@@ -32,22 +32,35 @@ public abstract class RepeatRange_Sequence_Option_Option_Option {
   public static final class Integer_ extends hydra.langs.shex.syntax.RepeatRange_Sequence_Option_Option_Option {
     public final hydra.langs.shex.syntax.Integer_ value;
     
+    private int hashCode_;
+    
     public Integer_ (hydra.langs.shex.syntax.Integer_ value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Integer_)) {
         return false;
       }
       Integer_ o = (Integer_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -63,6 +76,9 @@ public abstract class RepeatRange_Sequence_Option_Option_Option {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Ast)) {
         return false;
       }
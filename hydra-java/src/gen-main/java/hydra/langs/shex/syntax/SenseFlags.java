@@ -9,6 +9,9 @@ public class SenseFlags {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof SenseFlags)) {
       return false;
     }
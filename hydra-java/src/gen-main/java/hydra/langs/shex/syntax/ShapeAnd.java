@@ -7,6 +7,8 @@ public class ShapeAnd {
   
   public final java.util.List<hydra.langs.shex.syntax.ShapeNot> listOfSequence;
   
+  private int hashCode_;
+  
   public ShapeAnd (hydra.langs.shex.syntax.ShapeNot shapeNot, java.util.List<hydra.langs.shex.syntax.ShapeNot> listOfSequence) {
     this.shapeNot = shapeNot;
     this.listOfSequence = listOfSequence;
@@ -14,16 +16,27 @@ public class ShapeAnd {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ShapeAnd)) {
       return false;
     }
     ShapeAnd o = (ShapeAnd) (other);
-    return shapeNot.equals(o.shapeNot) && listOfSequence.equals(o.listOfSequence);
+    return hashCode() == o.hashCode() && shapeNot.equals(o.shapeNot) && listOfSequence.equals(o.listOfSequence);
   }
   
   @Override
   public int hashCode() {
-    return 2 * shapeNot.hashCode() + 3 * listOfSequence.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * shapeNot.hashCode() + 3 * listOfSequence.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ShapeAnd withShapeNot(hydra.langs.shex.syntax.ShapeNot shapeNot) {
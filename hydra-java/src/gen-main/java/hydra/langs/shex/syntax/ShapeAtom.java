@@ -44,22 +44,35 @@ public abstract class ShapeAtom {
   public static final class Sequence extends hydra.langs.shex.syntax.ShapeAtom {
     public final hydra.langs.shex.syntax.ShapeAtom_Sequence value;
     
+    private int hashCode_;
+    
     public Sequence (hydra.langs.shex.syntax.ShapeAtom_Sequence value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Sequence)) {
         return false;
       }
       Sequence o = (Sequence) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -71,22 +84,35 @@ public abstract class ShapeAtom {
   public static final class ShapeOrRef extends hydra.langs.shex.syntax.ShapeAtom {
     public final hydra.langs.shex.syntax.ShapeOrRef value;
     
+    private int hashCode_;
+    
     public ShapeOrRef (hydra.langs.shex.syntax.ShapeOrRef value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ShapeOrRef)) {
         return false;
       }
       ShapeOrRef o = (ShapeOrRef) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -98,22 +124,35 @@ public abstract class ShapeAtom {
   public static final class Sequence2 extends hydra.langs.shex.syntax.ShapeAtom {
     public final hydra.langs.shex.syntax.ShapeExpression value;
     
+    private int hashCode_;
+    
     public Sequence2 (hydra.langs.shex.syntax.ShapeExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Sequence2)) {
         return false;
       }
       Sequence2 o = (Sequence2) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -129,6 +168,9 @@ public abstract class ShapeAtom {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Period)) {
         return false;
       }
@@ -7,6 +7,8 @@ public class ShapeAtom_Sequence {
   
   public final java.util.Optional<hydra.langs.shex.syntax.ShapeOrRef> shapeOrRef;
   
+  private int hashCode_;
+  
   public ShapeAtom_Sequence (hydra.langs.shex.syntax.NodeConstraint nodeConstraint, java.util.Optional<hydra.langs.shex.syntax.ShapeOrRef> shapeOrRef) {
     this.nodeConstraint = nodeConstraint;
     this.shapeOrRef = shapeOrRef;
@@ -14,16 +16,27 @@ public class ShapeAtom_Sequence {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ShapeAtom_Sequence)) {
       return false;
     }
     ShapeAtom_Sequence o = (ShapeAtom_Sequence) (other);
-    return nodeConstraint.equals(o.nodeConstraint) && shapeOrRef.equals(o.shapeOrRef);
+    return hashCode() == o.hashCode() && nodeConstraint.equals(o.nodeConstraint) && shapeOrRef.equals(o.shapeOrRef);
   }
   
   @Override
   public int hashCode() {
-    return 2 * nodeConstraint.hashCode() + 3 * shapeOrRef.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * nodeConstraint.hashCode() + 3 * shapeOrRef.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ShapeAtom_Sequence withNodeConstraint(hydra.langs.shex.syntax.NodeConstraint nodeConstraint) {
@@ -7,6 +7,8 @@ public class ShapeNot {
   
   public final hydra.langs.shex.syntax.ShapeAtom shapeAtom;
   
+  private int hashCode_;
+  
   public ShapeNot (java.util.Optional<java.lang.Void> nOT, hydra.langs.shex.syntax.ShapeAtom shapeAtom) {
     this.nOT = nOT;
     this.shapeAtom = shapeAtom;
@@ -14,16 +16,27 @@ public class ShapeNot {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ShapeNot)) {
       return false;
     }
     ShapeNot o = (ShapeNot) (other);
-    return nOT.equals(o.nOT) && shapeAtom.equals(o.shapeAtom);
+    return hashCode() == o.hashCode() && nOT.equals(o.nOT) && shapeAtom.equals(o.shapeAtom);
   }
   
   @Override
   public int hashCode() {
-    return 2 * nOT.hashCode() + 3 * shapeAtom.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * nOT.hashCode() + 3 * shapeAtom.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ShapeNot withNOT(java.util.Optional<java.lang.Void> nOT) {
@@ -7,6 +7,8 @@ public class ShapeOr {
   
   public final java.util.List<hydra.langs.shex.syntax.ShapeAnd> listOfSequence;
   
+  private int hashCode_;
+  
   public ShapeOr (hydra.langs.shex.syntax.ShapeAnd shapeAnd, java.util.List<hydra.langs.shex.syntax.ShapeAnd> listOfSequence) {
     this.shapeAnd = shapeAnd;
     this.listOfSequence = listOfSequence;
@@ -14,16 +16,27 @@ public class ShapeOr {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ShapeOr)) {
       return false;
     }
     ShapeOr o = (ShapeOr) (other);
-    return shapeAnd.equals(o.shapeAnd) && listOfSequence.equals(o.listOfSequence);
+    return hashCode() == o.hashCode() && shapeAnd.equals(o.shapeAnd) && listOfSequence.equals(o.listOfSequence);
   }
   
   @Override
   public int hashCode() {
-    return 2 * shapeAnd.hashCode() + 3 * listOfSequence.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * shapeAnd.hashCode() + 3 * listOfSequence.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ShapeOr withShapeAnd(hydra.langs.shex.syntax.ShapeAnd shapeAnd) {
@@ -44,22 +44,35 @@ public abstract class ShapeOrRef {
   public static final class ShapeDefinition extends hydra.langs.shex.syntax.ShapeOrRef {
     public final hydra.langs.shex.syntax.ShapeDefinition value;
     
+    private int hashCode_;
+    
     public ShapeDefinition (hydra.langs.shex.syntax.ShapeDefinition value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ShapeDefinition)) {
         return false;
       }
       ShapeDefinition o = (ShapeDefinition) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -71,22 +84,35 @@ public abstract class ShapeOrRef {
   public static final class AtpNameLn extends hydra.langs.shex.syntax.ShapeOrRef {
     public final hydra.langs.shex.syntax.AtpNameLn value;
     
+    private int hashCode_;
+    
     public AtpNameLn (hydra.langs.shex.syntax.AtpNameLn value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof AtpNameLn)) {
         return false;
       }
       AtpNameLn o = (AtpNameLn) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -98,22 +124,35 @@ public abstract class ShapeOrRef {
   public static final class AtpNameNs extends hydra.langs.shex.syntax.ShapeOrRef {
     public final hydra.langs.shex.syntax.AtpNameNs value;
     
+    private int hashCode_;
+    
     public AtpNameNs (hydra.langs.shex.syntax.AtpNameNs value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof AtpNameNs)) {
         return false;
       }
       AtpNameNs o = (AtpNameNs) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -125,22 +164,35 @@ public abstract class ShapeOrRef {
   public static final class Sequence extends hydra.langs.shex.syntax.ShapeOrRef {
     public final hydra.langs.shex.syntax.ShapeExprLabel value;
     
+    private int hashCode_;
+    
     public Sequence (hydra.langs.shex.syntax.ShapeExprLabel value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Sequence)) {
         return false;
       }
       Sequence o = (Sequence) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
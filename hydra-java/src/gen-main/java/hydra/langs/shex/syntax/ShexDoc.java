@@ -9,6 +9,8 @@ public class ShexDoc {
   
   public final hydra.langs.shex.syntax.PrefixDecl prefixDecl;
   
+  private int hashCode_;
+  
   public ShexDoc (java.util.List<hydra.langs.shex.syntax.Directive> listOfDirective, java.util.Optional<hydra.langs.shex.syntax.ShexDoc_Sequence_Option> sequence, hydra.langs.shex.syntax.PrefixDecl prefixDecl) {
     this.listOfDirective = listOfDirective;
     this.sequence = sequence;
@@ -17,16 +19,27 @@ public class ShexDoc {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ShexDoc)) {
       return false;
     }
     ShexDoc o = (ShexDoc) (other);
-    return listOfDirective.equals(o.listOfDirective) && sequence.equals(o.sequence) && prefixDecl.equals(o.prefixDecl);
+    return hashCode() == o.hashCode() && listOfDirective.equals(o.listOfDirective) && sequence.equals(o.sequence) && prefixDecl.equals(o.prefixDecl);
   }
   
   @Override
   public int hashCode() {
-    return 2 * listOfDirective.hashCode() + 3 * sequence.hashCode() + 5 * prefixDecl.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * listOfDirective.hashCode() + 3 * sequence.hashCode() + 5 * prefixDecl.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ShexDoc withListOfDirective(java.util.List<hydra.langs.shex.syntax.Directive> listOfDirective) {
@@ -7,6 +7,8 @@ public class ShexDoc_Sequence_Option {
   
   public final java.util.List<hydra.langs.shex.syntax.Statement> listOfStatement;
   
+  private int hashCode_;
+  
   public ShexDoc_Sequence_Option (hydra.langs.shex.syntax.ShexDoc_Sequence_Option_Alts alts, java.util.List<hydra.langs.shex.syntax.Statement> listOfStatement) {
     this.alts = alts;
     this.listOfStatement = listOfStatement;
@@ -14,16 +16,27 @@ public class ShexDoc_Sequence_Option {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ShexDoc_Sequence_Option)) {
       return false;
     }
     ShexDoc_Sequence_Option o = (ShexDoc_Sequence_Option) (other);
-    return alts.equals(o.alts) && listOfStatement.equals(o.listOfStatement);
+    return hashCode() == o.hashCode() && alts.equals(o.alts) && listOfStatement.equals(o.listOfStatement);
   }
   
   @Override
   public int hashCode() {
-    return 2 * alts.hashCode() + 3 * listOfStatement.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * alts.hashCode() + 3 * listOfStatement.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ShexDoc_Sequence_Option withAlts(hydra.langs.shex.syntax.ShexDoc_Sequence_Option_Alts alts) {
@@ -32,22 +32,35 @@ public abstract class ShexDoc_Sequence_Option_Alts {
   public static final class NotStartAction extends hydra.langs.shex.syntax.ShexDoc_Sequence_Option_Alts {
     public final hydra.langs.shex.syntax.NotStartAction value;
     
+    private int hashCode_;
+    
     public NotStartAction (hydra.langs.shex.syntax.NotStartAction value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof NotStartAction)) {
         return false;
       }
       NotStartAction o = (NotStartAction) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class ShexDoc_Sequence_Option_Alts {
   public static final class StartActions extends hydra.langs.shex.syntax.ShexDoc_Sequence_Option_Alts {
     public final hydra.langs.shex.syntax.StartActions value;
     
+    private int hashCode_;
+    
     public StartActions (hydra.langs.shex.syntax.StartActions value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof StartActions)) {
         return false;
       }
       StartActions o = (StartActions) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -7,6 +7,8 @@ public class SingleElementGroup {
   
   public final java.util.Optional<java.lang.Void> semi;
   
+  private int hashCode_;
+  
   public SingleElementGroup (hydra.langs.shex.syntax.UnaryTripleExpr unaryTripleExpr, java.util.Optional<java.lang.Void> semi) {
     this.unaryTripleExpr = unaryTripleExpr;
     this.semi = semi;
@@ -14,16 +16,27 @@ public class SingleElementGroup {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof SingleElementGroup)) {
       return false;
     }
     SingleElementGroup o = (SingleElementGroup) (other);
-    return unaryTripleExpr.equals(o.unaryTripleExpr) && semi.equals(o.semi);
+    return hashCode() == o.hashCode() && unaryTripleExpr.equals(o.unaryTripleExpr) && semi.equals(o.semi);
   }
   
   @Override
   public int hashCode() {
-    return 2 * unaryTripleExpr.hashCode() + 3 * semi.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * unaryTripleExpr.hashCode() + 3 * semi.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public SingleElementGroup withUnaryTripleExpr(hydra.langs.shex.syntax.UnaryTripleExpr unaryTripleExpr) {
@@ -32,22 +32,35 @@ public abstract class Statement {
   public static final class Directive extends hydra.langs.shex.syntax.Statement {
     public final hydra.langs.shex.syntax.Directive value;
     
+    private int hashCode_;
+    
     public Directive (hydra.langs.shex.syntax.Directive value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Directive)) {
         return false;
       }
       Directive o = (Directive) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class Statement {
   public static final class NotStartAction extends hydra.langs.shex.syntax.Statement {
     public final hydra.langs.shex.syntax.NotStartAction value;
     
+    private int hashCode_;
+    
     public NotStartAction (hydra.langs.shex.syntax.NotStartAction value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof NotStartAction)) {
         return false;
       }
       NotStartAction o = (NotStartAction) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
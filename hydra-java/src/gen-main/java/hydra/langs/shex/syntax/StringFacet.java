@@ -32,22 +32,35 @@ public abstract class StringFacet {
   public static final class Sequence extends hydra.langs.shex.syntax.StringFacet {
     public final hydra.langs.shex.syntax.StringFacet_Sequence value;
     
+    private int hashCode_;
+    
     public Sequence (hydra.langs.shex.syntax.StringFacet_Sequence value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Sequence)) {
         return false;
       }
       Sequence o = (Sequence) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class StringFacet {
   public static final class Regexp extends hydra.langs.shex.syntax.StringFacet {
     public final hydra.langs.shex.syntax.Regexp value;
     
+    private int hashCode_;
+    
     public Regexp (hydra.langs.shex.syntax.Regexp value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Regexp)) {
         return false;
       }
       Regexp o = (Regexp) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -7,6 +7,8 @@ public class StringFacet_Sequence {
   
   public final hydra.langs.shex.syntax.Integer_ integer;
   
+  private int hashCode_;
+  
   public StringFacet_Sequence (hydra.langs.shex.syntax.StringLength stringLength, hydra.langs.shex.syntax.Integer_ integer) {
     this.stringLength = stringLength;
     this.integer = integer;
@@ -14,16 +16,27 @@ public class StringFacet_Sequence {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof StringFacet_Sequence)) {
       return false;
     }
     StringFacet_Sequence o = (StringFacet_Sequence) (other);
-    return stringLength.equals(o.stringLength) && integer.equals(o.integer);
+    return hashCode() == o.hashCode() && stringLength.equals(o.stringLength) && integer.equals(o.integer);
   }
   
   @Override
   public int hashCode() {
-    return 2 * stringLength.hashCode() + 3 * integer.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * stringLength.hashCode() + 3 * integer.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public StringFacet_Sequence withStringLength(hydra.langs.shex.syntax.StringLength stringLength) {
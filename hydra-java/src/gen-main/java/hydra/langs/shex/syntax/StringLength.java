@@ -42,6 +42,9 @@ public abstract class StringLength {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof LENGTH)) {
         return false;
       }
@@ -67,6 +70,9 @@ public abstract class StringLength {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof MINLENGTH)) {
         return false;
       }
@@ -92,6 +98,9 @@ public abstract class StringLength {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof MAXLENGTH)) {
         return false;
       }
@@ -36,6 +36,9 @@ public abstract class StringLiteralLong1_Elmt_Sequence_Alts_Option {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Apos)) {
         return false;
       }
@@ -57,22 +60,35 @@ public abstract class StringLiteralLong1_Elmt_Sequence_Alts_Option {
   public static final class Sequence extends hydra.langs.shex.syntax.StringLiteralLong1_Elmt_Sequence_Alts_Option {
     public final hydra.langs.shex.syntax.StringLiteralLong1_Elmt_Sequence_Alts_Option_Sequence value;
     
+    private int hashCode_;
+    
     public Sequence (hydra.langs.shex.syntax.StringLiteralLong1_Elmt_Sequence_Alts_Option_Sequence value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Sequence)) {
         return false;
       }
       Sequence o = (Sequence) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -5,21 +5,34 @@ public class StringLiteralLong2 {
   
   public final java.util.List<hydra.langs.shex.syntax.StringLiteralLong2_Elmt> value;
   
+  private int hashCode_;
+  
   public StringLiteralLong2 (java.util.List<hydra.langs.shex.syntax.StringLiteralLong2_Elmt> value) {
     this.value = value;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof StringLiteralLong2)) {
       return false;
     }
     StringLiteralLong2 o = (StringLiteralLong2) (other);
-    return value.equals(o.value);
+    return hashCode() == o.hashCode() && value.equals(o.value);
   }
   
   @Override
   public int hashCode() {
-    return 2 * value.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * value.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
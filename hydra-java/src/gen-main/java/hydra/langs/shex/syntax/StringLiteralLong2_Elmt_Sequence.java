@@ -7,6 +7,8 @@ public class StringLiteralLong2_Elmt_Sequence {
   
   public final String regex;
   
+  private int hashCode_;
+  
   public StringLiteralLong2_Elmt_Sequence (java.util.Optional<hydra.langs.shex.syntax.StringLiteralLong2_Elmt_Sequence_Alts_Option> alts, String regex) {
     this.alts = alts;
     this.regex = regex;
@@ -14,16 +16,27 @@ public class StringLiteralLong2_Elmt_Sequence {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof StringLiteralLong2_Elmt_Sequence)) {
       return false;
     }
     StringLiteralLong2_Elmt_Sequence o = (StringLiteralLong2_Elmt_Sequence) (other);
-    return alts.equals(o.alts) && regex.equals(o.regex);
+    return hashCode() == o.hashCode() && alts.equals(o.alts) && regex.equals(o.regex);
   }
   
   @Override
   public int hashCode() {
-    return 2 * alts.hashCode() + 3 * regex.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * alts.hashCode() + 3 * regex.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public StringLiteralLong2_Elmt_Sequence withAlts(java.util.Optional<hydra.langs.shex.syntax.StringLiteralLong2_Elmt_Sequence_Alts_Option> alts) {
@@ -9,6 +9,9 @@ public class StringLiteralLong2_Elmt_Sequence_Alts_Option_Sequence {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof StringLiteralLong2_Elmt_Sequence_Alts_Option_Sequence)) {
       return false;
     }
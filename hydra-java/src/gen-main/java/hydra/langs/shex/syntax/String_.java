@@ -44,22 +44,35 @@ public abstract class String_ {
   public static final class StringLiteral1 extends hydra.langs.shex.syntax.String_ {
     public final hydra.langs.shex.syntax.StringLiteral1 value;
     
+    private int hashCode_;
+    
     public StringLiteral1 (hydra.langs.shex.syntax.StringLiteral1 value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof StringLiteral1)) {
         return false;
       }
       StringLiteral1 o = (StringLiteral1) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -71,22 +84,35 @@ public abstract class String_ {
   public static final class StringLiteralLong1 extends hydra.langs.shex.syntax.String_ {
     public final hydra.langs.shex.syntax.StringLiteralLong1 value;
     
+    private int hashCode_;
+    
     public StringLiteralLong1 (hydra.langs.shex.syntax.StringLiteralLong1 value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof StringLiteralLong1)) {
         return false;
       }
       StringLiteralLong1 o = (StringLiteralLong1) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -98,22 +124,35 @@ public abstract class String_ {
   public static final class StringLiteral2 extends hydra.langs.shex.syntax.String_ {
     public final hydra.langs.shex.syntax.StringLiteral2 value;
     
+    private int hashCode_;
+    
     public StringLiteral2 (hydra.langs.shex.syntax.StringLiteral2 value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof StringLiteral2)) {
         return false;
       }
       StringLiteral2 o = (StringLiteral2) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -125,22 +164,35 @@ public abstract class String_ {
   public static final class StringLiteralLong2 extends hydra.langs.shex.syntax.String_ {
     public final hydra.langs.shex.syntax.StringLiteralLong2 value;
     
+    private int hashCode_;
+    
     public StringLiteralLong2 (hydra.langs.shex.syntax.StringLiteralLong2 value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof StringLiteralLong2)) {
         return false;
       }
       StringLiteralLong2 o = (StringLiteralLong2) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
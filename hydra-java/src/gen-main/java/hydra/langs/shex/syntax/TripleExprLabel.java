@@ -32,22 +32,35 @@ public abstract class TripleExprLabel {
   public static final class Iri extends hydra.langs.shex.syntax.TripleExprLabel {
     public final hydra.langs.shex.syntax.Iri value;
     
+    private int hashCode_;
+    
     public Iri (hydra.langs.shex.syntax.Iri value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Iri)) {
         return false;
       }
       Iri o = (Iri) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class TripleExprLabel {
   public static final class BlankNode extends hydra.langs.shex.syntax.TripleExprLabel {
     public final hydra.langs.shex.syntax.BlankNode value;
     
+    private int hashCode_;
+    
     public BlankNode (hydra.langs.shex.syntax.BlankNode value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof BlankNode)) {
         return false;
       }
       BlankNode o = (BlankNode) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
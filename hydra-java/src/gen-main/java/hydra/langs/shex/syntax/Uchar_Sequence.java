@@ -11,6 +11,8 @@ public class Uchar_Sequence {
   
   public final hydra.langs.shex.syntax.Hex hex4;
   
+  private int hashCode_;
+  
   public Uchar_Sequence (hydra.langs.shex.syntax.Hex hex, hydra.langs.shex.syntax.Hex hex2, hydra.langs.shex.syntax.Hex hex3, hydra.langs.shex.syntax.Hex hex4) {
     this.hex = hex;
     this.hex2 = hex2;
@@ -20,16 +22,27 @@ public class Uchar_Sequence {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Uchar_Sequence)) {
       return false;
     }
     Uchar_Sequence o = (Uchar_Sequence) (other);
-    return hex.equals(o.hex) && hex2.equals(o.hex2) && hex3.equals(o.hex3) && hex4.equals(o.hex4);
+    return hashCode() == o.hashCode() && hex.equals(o.hex) && hex2.equals(o.hex2) && hex3.equals(o.hex3) && hex4.equals(o.hex4);
   }
   
   @Override
   public int hashCode() {
-    return 2 * hex.hashCode() + 3 * hex2.hashCode() + 5 * hex3.hashCode() + 7 * hex4.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * hex.hashCode() + 3 * hex2.hashCode() + 5 * hex3.hashCode() + 7 * hex4.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Uchar_Sequence withHex(hydra.langs.shex.syntax.Hex hex) {
@@ -19,6 +19,8 @@ public class Uchar_Sequence2 {
   
   public final hydra.langs.shex.syntax.Hex hex8;
   
+  private int hashCode_;
+  
   public Uchar_Sequence2 (hydra.langs.shex.syntax.Hex hex, hydra.langs.shex.syntax.Hex hex2, hydra.langs.shex.syntax.Hex hex3, hydra.langs.shex.syntax.Hex hex4, hydra.langs.shex.syntax.Hex hex5, hydra.langs.shex.syntax.Hex hex6, hydra.langs.shex.syntax.Hex hex7, hydra.langs.shex.syntax.Hex hex8) {
     this.hex = hex;
     this.hex2 = hex2;
@@ -32,16 +34,27 @@ public class Uchar_Sequence2 {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Uchar_Sequence2)) {
       return false;
     }
     Uchar_Sequence2 o = (Uchar_Sequence2) (other);
-    return hex.equals(o.hex) && hex2.equals(o.hex2) && hex3.equals(o.hex3) && hex4.equals(o.hex4) && hex5.equals(o.hex5) && hex6.equals(o.hex6) && hex7.equals(o.hex7) && hex8.equals(o.hex8);
+    return hashCode() == o.hashCode() && hex.equals(o.hex) && hex2.equals(o.hex2) && hex3.equals(o.hex3) && hex4.equals(o.hex4) && hex5.equals(o.hex5) && hex6.equals(o.hex6) && hex7.equals(o.hex7) && hex8.equals(o.hex8);
   }
   
   @Override
   public int hashCode() {
-    return 2 * hex.hashCode() + 3 * hex2.hashCode() + 5 * hex3.hashCode() + 7 * hex4.hashCode() + 11 * hex5.hashCode() + 13 * hex6.hashCode() + 17 * hex7.hashCode() + 19 * hex8.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * hex.hashCode() + 3 * hex2.hashCode() + 5 * hex3.hashCode() + 7 * hex4.hashCode() + 11 * hex5.hashCode() + 13 * hex6.hashCode() + 17 * hex7.hashCode() + 19 * hex8.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Uchar_Sequence2 withHex(hydra.langs.shex.syntax.Hex hex) {
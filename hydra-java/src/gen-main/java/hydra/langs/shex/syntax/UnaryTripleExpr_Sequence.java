@@ -7,6 +7,8 @@ public class UnaryTripleExpr_Sequence {
   
   public final hydra.langs.shex.syntax.UnaryTripleExpr_Sequence_Alts alts;
   
+  private int hashCode_;
+  
   public UnaryTripleExpr_Sequence (java.util.Optional<hydra.langs.shex.syntax.TripleExprLabel> sequence, hydra.langs.shex.syntax.UnaryTripleExpr_Sequence_Alts alts) {
     this.sequence = sequence;
     this.alts = alts;
@@ -14,16 +16,27 @@ public class UnaryTripleExpr_Sequence {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof UnaryTripleExpr_Sequence)) {
       return false;
     }
     UnaryTripleExpr_Sequence o = (UnaryTripleExpr_Sequence) (other);
-    return sequence.equals(o.sequence) && alts.equals(o.alts);
+    return hashCode() == o.hashCode() && sequence.equals(o.sequence) && alts.equals(o.alts);
   }
   
   @Override
   public int hashCode() {
-    return 2 * sequence.hashCode() + 3 * alts.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * sequence.hashCode() + 3 * alts.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public UnaryTripleExpr_Sequence withSequence(java.util.Optional<hydra.langs.shex.syntax.TripleExprLabel> sequence) {
@@ -32,22 +32,35 @@ public abstract class UnaryTripleExpr_Sequence_Alts {
   public static final class TripleConstraint extends hydra.langs.shex.syntax.UnaryTripleExpr_Sequence_Alts {
     public final hydra.langs.shex.syntax.TripleConstraint value;
     
+    private int hashCode_;
+    
     public TripleConstraint (hydra.langs.shex.syntax.TripleConstraint value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof TripleConstraint)) {
         return false;
       }
       TripleConstraint o = (TripleConstraint) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class UnaryTripleExpr_Sequence_Alts {
   public static final class BracketedTripleExpr extends hydra.langs.shex.syntax.UnaryTripleExpr_Sequence_Alts {
     public final hydra.langs.shex.syntax.BracketedTripleExpr value;
     
+    private int hashCode_;
+    
     public BracketedTripleExpr (hydra.langs.shex.syntax.BracketedTripleExpr value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof BracketedTripleExpr)) {
         return false;
       }
       BracketedTripleExpr o = (BracketedTripleExpr) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
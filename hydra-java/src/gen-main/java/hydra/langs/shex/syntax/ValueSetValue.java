@@ -32,22 +32,35 @@ public abstract class ValueSetValue {
   public static final class IriRange extends hydra.langs.shex.syntax.ValueSetValue {
     public final hydra.langs.shex.syntax.IriRange value;
     
+    private int hashCode_;
+    
     public IriRange (hydra.langs.shex.syntax.IriRange value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof IriRange)) {
         return false;
       }
       IriRange o = (IriRange) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class ValueSetValue {
   public static final class Literal extends hydra.langs.shex.syntax.ValueSetValue {
     public final hydra.langs.shex.syntax.Literal value;
     
+    private int hashCode_;
+    
     public Literal (hydra.langs.shex.syntax.Literal value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Literal)) {
         return false;
       }
       Literal o = (Literal) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -32,22 +32,35 @@ public abstract class XsFacet {
   public static final class StringFacet extends hydra.langs.shex.syntax.XsFacet {
     public final hydra.langs.shex.syntax.StringFacet value;
     
+    private int hashCode_;
+    
     public StringFacet (hydra.langs.shex.syntax.StringFacet value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof StringFacet)) {
         return false;
       }
       StringFacet o = (StringFacet) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class XsFacet {
   public static final class NumericFacet extends hydra.langs.shex.syntax.XsFacet {
     public final hydra.langs.shex.syntax.NumericFacet value;
     
+    private int hashCode_;
+    
     public NumericFacet (hydra.langs.shex.syntax.NumericFacet value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof NumericFacet)) {
         return false;
       }
       NumericFacet o = (NumericFacet) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
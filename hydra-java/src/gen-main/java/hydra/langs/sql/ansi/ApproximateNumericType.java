@@ -38,22 +38,35 @@ public abstract class ApproximateNumericType {
   public static final class Float_ extends hydra.langs.sql.ansi.ApproximateNumericType {
     public final java.util.Optional<hydra.langs.sql.ansi.Precision> value;
     
+    private int hashCode_;
+    
     public Float_ (java.util.Optional<hydra.langs.sql.ansi.Precision> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Float_)) {
         return false;
       }
       Float_ o = (Float_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -69,6 +82,9 @@ public abstract class ApproximateNumericType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Real)) {
         return false;
       }
@@ -94,6 +110,9 @@ public abstract class ApproximateNumericType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Double_)) {
         return false;
       }
@@ -9,6 +9,9 @@ public class ArrayElementReference {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ArrayElementReference)) {
       return false;
     }
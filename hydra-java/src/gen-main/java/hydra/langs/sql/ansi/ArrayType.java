@@ -9,6 +9,9 @@ public class ArrayType {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ArrayType)) {
       return false;
     }
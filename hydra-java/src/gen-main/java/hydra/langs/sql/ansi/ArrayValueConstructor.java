@@ -32,22 +32,35 @@ public abstract class ArrayValueConstructor {
   public static final class Enumeration extends hydra.langs.sql.ansi.ArrayValueConstructor {
     public final hydra.langs.sql.ansi.ArrayValueConstructorByEnumeration value;
     
+    private int hashCode_;
+    
     public Enumeration (hydra.langs.sql.ansi.ArrayValueConstructorByEnumeration value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Enumeration)) {
         return false;
       }
       Enumeration o = (Enumeration) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class ArrayValueConstructor {
   public static final class Query extends hydra.langs.sql.ansi.ArrayValueConstructor {
     public final hydra.langs.sql.ansi.ArrayValueConstructorByQuery value;
     
+    private int hashCode_;
+    
     public Query (hydra.langs.sql.ansi.ArrayValueConstructorByQuery value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Query)) {
         return false;
       }
       Query o = (Query) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -9,6 +9,8 @@ public class ArrayValueConstructorByEnumeration {
   
   public final hydra.langs.sql.ansi.RightBracketOrTrigraph rightBracketOrTrigraph;
   
+  private int hashCode_;
+  
   public ArrayValueConstructorByEnumeration (hydra.langs.sql.ansi.LeftBracketOrTrigraph leftBracketOrTrigraph, hydra.langs.sql.ansi.ArrayElementList arrayElementList, hydra.langs.sql.ansi.RightBracketOrTrigraph rightBracketOrTrigraph) {
     this.leftBracketOrTrigraph = leftBracketOrTrigraph;
     this.arrayElementList = arrayElementList;
@@ -17,16 +19,27 @@ public class ArrayValueConstructorByEnumeration {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ArrayValueConstructorByEnumeration)) {
       return false;
     }
     ArrayValueConstructorByEnumeration o = (ArrayValueConstructorByEnumeration) (other);
-    return leftBracketOrTrigraph.equals(o.leftBracketOrTrigraph) && arrayElementList.equals(o.arrayElementList) && rightBracketOrTrigraph.equals(o.rightBracketOrTrigraph);
+    return hashCode() == o.hashCode() && leftBracketOrTrigraph.equals(o.leftBracketOrTrigraph) && arrayElementList.equals(o.arrayElementList) && rightBracketOrTrigraph.equals(o.rightBracketOrTrigraph);
   }
   
   @Override
   public int hashCode() {
-    return 2 * leftBracketOrTrigraph.hashCode() + 3 * arrayElementList.hashCode() + 5 * rightBracketOrTrigraph.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * leftBracketOrTrigraph.hashCode() + 3 * arrayElementList.hashCode() + 5 * rightBracketOrTrigraph.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ArrayValueConstructorByEnumeration withLeftBracketOrTrigraph(hydra.langs.sql.ansi.LeftBracketOrTrigraph leftBracketOrTrigraph) {
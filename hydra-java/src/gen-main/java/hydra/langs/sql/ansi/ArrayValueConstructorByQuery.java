@@ -9,6 +9,9 @@ public class ArrayValueConstructorByQuery {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ArrayValueConstructorByQuery)) {
       return false;
     }
@@ -9,6 +9,9 @@ public class ArrayValueExpression {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ArrayValueExpression)) {
       return false;
     }
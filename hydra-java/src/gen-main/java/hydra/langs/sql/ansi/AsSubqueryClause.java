@@ -9,6 +9,9 @@ public class AsSubqueryClause {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof AsSubqueryClause)) {
       return false;
     }
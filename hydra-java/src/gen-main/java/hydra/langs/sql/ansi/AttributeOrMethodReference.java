@@ -9,6 +9,9 @@ public class AttributeOrMethodReference {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof AttributeOrMethodReference)) {
       return false;
     }
@@ -32,22 +32,35 @@ public abstract class BinaryLargeObjectStringType {
   public static final class Binary extends hydra.langs.sql.ansi.BinaryLargeObjectStringType {
     public final java.util.Optional<hydra.langs.sql.ansi.LargeObjectLength> value;
     
+    private int hashCode_;
+    
     public Binary (java.util.Optional<hydra.langs.sql.ansi.LargeObjectLength> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Binary)) {
         return false;
       }
       Binary o = (Binary) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class BinaryLargeObjectStringType {
   public static final class Blob extends hydra.langs.sql.ansi.BinaryLargeObjectStringType {
     public final java.util.Optional<hydra.langs.sql.ansi.LargeObjectLength> value;
     
+    private int hashCode_;
+    
     public Blob (java.util.Optional<hydra.langs.sql.ansi.LargeObjectLength> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Blob)) {
         return false;
       }
       Blob o = (Blob) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
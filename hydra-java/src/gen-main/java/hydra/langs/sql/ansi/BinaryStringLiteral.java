@@ -9,6 +9,9 @@ public class BinaryStringLiteral {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof BinaryStringLiteral)) {
       return false;
     }
@@ -7,6 +7,8 @@ public class BooleanFactor {
   
   public final hydra.langs.sql.ansi.BooleanTest booleanTest;
   
+  private int hashCode_;
+  
   public BooleanFactor (java.util.Optional<java.lang.Void> nOT, hydra.langs.sql.ansi.BooleanTest booleanTest) {
     this.nOT = nOT;
     this.booleanTest = booleanTest;
@@ -14,16 +16,27 @@ public class BooleanFactor {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof BooleanFactor)) {
       return false;
     }
     BooleanFactor o = (BooleanFactor) (other);
-    return nOT.equals(o.nOT) && booleanTest.equals(o.booleanTest);
+    return hashCode() == o.hashCode() && nOT.equals(o.nOT) && booleanTest.equals(o.booleanTest);
   }
   
   @Override
   public int hashCode() {
-    return 2 * nOT.hashCode() + 3 * booleanTest.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * nOT.hashCode() + 3 * booleanTest.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public BooleanFactor withNOT(java.util.Optional<java.lang.Void> nOT) {
@@ -9,6 +9,9 @@ public class BooleanPredicand {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof BooleanPredicand)) {
       return false;
     }
@@ -32,22 +32,35 @@ public abstract class BooleanPrimary {
   public static final class Predicate extends hydra.langs.sql.ansi.BooleanPrimary {
     public final hydra.langs.sql.ansi.Predicate value;
     
+    private int hashCode_;
+    
     public Predicate (hydra.langs.sql.ansi.Predicate value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Predicate)) {
         return false;
       }
       Predicate o = (Predicate) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class BooleanPrimary {
   public static final class Predicand extends hydra.langs.sql.ansi.BooleanPrimary {
     public final hydra.langs.sql.ansi.BooleanPredicand value;
     
+    private int hashCode_;
+    
     public Predicand (hydra.langs.sql.ansi.BooleanPredicand value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Predicand)) {
         return false;
       }
       Predicand o = (Predicand) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -32,22 +32,35 @@ public abstract class BooleanTerm {
   public static final class Factor extends hydra.langs.sql.ansi.BooleanTerm {
     public final hydra.langs.sql.ansi.BooleanFactor value;
     
+    private int hashCode_;
+    
     public Factor (hydra.langs.sql.ansi.BooleanFactor value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Factor)) {
         return false;
       }
       Factor o = (Factor) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class BooleanTerm {
   public static final class And extends hydra.langs.sql.ansi.BooleanTerm {
     public final hydra.langs.sql.ansi.BooleanTerm_And value;
     
+    private int hashCode_;
+    
     public And (hydra.langs.sql.ansi.BooleanTerm_And value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof And)) {
         return false;
       }
       And o = (And) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
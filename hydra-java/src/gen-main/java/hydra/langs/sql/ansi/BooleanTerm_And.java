@@ -7,6 +7,8 @@ public class BooleanTerm_And {
   
   public final hydra.langs.sql.ansi.BooleanFactor rhs;
   
+  private int hashCode_;
+  
   public BooleanTerm_And (hydra.langs.sql.ansi.BooleanTerm lhs, hydra.langs.sql.ansi.BooleanFactor rhs) {
     this.lhs = lhs;
     this.rhs = rhs;
@@ -14,16 +16,27 @@ public class BooleanTerm_And {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof BooleanTerm_And)) {
       return false;
     }
     BooleanTerm_And o = (BooleanTerm_And) (other);
-    return lhs.equals(o.lhs) && rhs.equals(o.rhs);
+    return hashCode() == o.hashCode() && lhs.equals(o.lhs) && rhs.equals(o.rhs);
   }
   
   @Override
   public int hashCode() {
-    return 2 * lhs.hashCode() + 3 * rhs.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * lhs.hashCode() + 3 * rhs.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public BooleanTerm_And withLhs(hydra.langs.sql.ansi.BooleanTerm lhs) {
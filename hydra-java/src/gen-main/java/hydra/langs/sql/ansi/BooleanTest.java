@@ -7,6 +7,8 @@ public class BooleanTest {
   
   public final java.util.Optional<hydra.langs.sql.ansi.BooleanTest_Sequence_Option> sequence;
   
+  private int hashCode_;
+  
   public BooleanTest (hydra.langs.sql.ansi.BooleanPrimary booleanPrimary, java.util.Optional<hydra.langs.sql.ansi.BooleanTest_Sequence_Option> sequence) {
     this.booleanPrimary = booleanPrimary;
     this.sequence = sequence;
@@ -14,16 +16,27 @@ public class BooleanTest {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof BooleanTest)) {
       return false;
     }
     BooleanTest o = (BooleanTest) (other);
-    return booleanPrimary.equals(o.booleanPrimary) && sequence.equals(o.sequence);
+    return hashCode() == o.hashCode() && booleanPrimary.equals(o.booleanPrimary) && sequence.equals(o.sequence);
   }
   
   @Override
   public int hashCode() {
-    return 2 * booleanPrimary.hashCode() + 3 * sequence.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * booleanPrimary.hashCode() + 3 * sequence.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public BooleanTest withBooleanPrimary(hydra.langs.sql.ansi.BooleanPrimary booleanPrimary) {
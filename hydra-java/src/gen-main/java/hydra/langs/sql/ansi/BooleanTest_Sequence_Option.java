@@ -7,6 +7,8 @@ public class BooleanTest_Sequence_Option {
   
   public final hydra.langs.sql.ansi.TruthValue truthValue;
   
+  private int hashCode_;
+  
   public BooleanTest_Sequence_Option (java.util.Optional<java.lang.Void> nOT, hydra.langs.sql.ansi.TruthValue truthValue) {
     this.nOT = nOT;
     this.truthValue = truthValue;
@@ -14,16 +16,27 @@ public class BooleanTest_Sequence_Option {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof BooleanTest_Sequence_Option)) {
       return false;
     }
     BooleanTest_Sequence_Option o = (BooleanTest_Sequence_Option) (other);
-    return nOT.equals(o.nOT) && truthValue.equals(o.truthValue);
+    return hashCode() == o.hashCode() && nOT.equals(o.nOT) && truthValue.equals(o.truthValue);
   }
   
   @Override
   public int hashCode() {
-    return 2 * nOT.hashCode() + 3 * truthValue.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * nOT.hashCode() + 3 * truthValue.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public BooleanTest_Sequence_Option withNOT(java.util.Optional<java.lang.Void> nOT) {
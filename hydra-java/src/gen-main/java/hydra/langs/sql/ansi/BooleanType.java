@@ -9,6 +9,9 @@ public class BooleanType {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof BooleanType)) {
       return false;
     }
@@ -32,22 +32,35 @@ public abstract class BooleanValueExpression {
   public static final class Term extends hydra.langs.sql.ansi.BooleanValueExpression {
     public final hydra.langs.sql.ansi.BooleanTerm value;
     
+    private int hashCode_;
+    
     public Term (hydra.langs.sql.ansi.BooleanTerm value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Term)) {
         return false;
       }
       Term o = (Term) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class BooleanValueExpression {
   public static final class Or extends hydra.langs.sql.ansi.BooleanValueExpression {
     public final hydra.langs.sql.ansi.BooleanValueExpression_Or value;
     
+    private int hashCode_;
+    
     public Or (hydra.langs.sql.ansi.BooleanValueExpression_Or value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Or)) {
         return false;
       }
       Or o = (Or) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
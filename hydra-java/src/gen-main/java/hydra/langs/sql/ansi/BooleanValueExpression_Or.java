@@ -7,6 +7,8 @@ public class BooleanValueExpression_Or {
   
   public final hydra.langs.sql.ansi.BooleanTerm rhs;
   
+  private int hashCode_;
+  
   public BooleanValueExpression_Or (hydra.langs.sql.ansi.BooleanValueExpression lhs, hydra.langs.sql.ansi.BooleanTerm rhs) {
     this.lhs = lhs;
     this.rhs = rhs;
@@ -14,16 +16,27 @@ public class BooleanValueExpression_Or {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof BooleanValueExpression_Or)) {
       return false;
     }
     BooleanValueExpression_Or o = (BooleanValueExpression_Or) (other);
-    return lhs.equals(o.lhs) && rhs.equals(o.rhs);
+    return hashCode() == o.hashCode() && lhs.equals(o.lhs) && rhs.equals(o.rhs);
   }
   
   @Override
   public int hashCode() {
-    return 2 * lhs.hashCode() + 3 * rhs.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * lhs.hashCode() + 3 * rhs.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public BooleanValueExpression_Or withLhs(hydra.langs.sql.ansi.BooleanValueExpression lhs) {
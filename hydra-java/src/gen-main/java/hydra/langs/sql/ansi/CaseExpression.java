@@ -9,6 +9,9 @@ public class CaseExpression {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof CaseExpression)) {
       return false;
     }
@@ -9,6 +9,9 @@ public class CastSpecification {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof CastSpecification)) {
       return false;
     }
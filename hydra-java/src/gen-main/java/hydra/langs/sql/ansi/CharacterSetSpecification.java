@@ -9,6 +9,9 @@ public class CharacterSetSpecification {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof CharacterSetSpecification)) {
       return false;
     }
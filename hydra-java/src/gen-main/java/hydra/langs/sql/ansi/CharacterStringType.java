@@ -68,22 +68,35 @@ public abstract class CharacterStringType {
   public static final class Character_ extends hydra.langs.sql.ansi.CharacterStringType {
     public final java.util.Optional<hydra.langs.sql.ansi.Length> value;
     
+    private int hashCode_;
+    
     public Character_ (java.util.Optional<hydra.langs.sql.ansi.Length> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Character_)) {
         return false;
       }
       Character_ o = (Character_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -95,22 +108,35 @@ public abstract class CharacterStringType {
   public static final class Char extends hydra.langs.sql.ansi.CharacterStringType {
     public final java.util.Optional<hydra.langs.sql.ansi.Length> value;
     
+    private int hashCode_;
+    
     public Char (java.util.Optional<hydra.langs.sql.ansi.Length> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Char)) {
         return false;
       }
       Char o = (Char) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -122,22 +148,35 @@ public abstract class CharacterStringType {
   public static final class CharacterVarying extends hydra.langs.sql.ansi.CharacterStringType {
     public final hydra.langs.sql.ansi.Length value;
     
+    private int hashCode_;
+    
     public CharacterVarying (hydra.langs.sql.ansi.Length value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof CharacterVarying)) {
         return false;
       }
       CharacterVarying o = (CharacterVarying) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -149,22 +188,35 @@ public abstract class CharacterStringType {
   public static final class CharVarying extends hydra.langs.sql.ansi.CharacterStringType {
     public final hydra.langs.sql.ansi.Length value;
     
+    private int hashCode_;
+    
     public CharVarying (hydra.langs.sql.ansi.Length value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof CharVarying)) {
         return false;
       }
       CharVarying o = (CharVarying) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -176,22 +228,35 @@ public abstract class CharacterStringType {
   public static final class Varchar extends hydra.langs.sql.ansi.CharacterStringType {
     public final hydra.langs.sql.ansi.Length value;
     
+    private int hashCode_;
+    
     public Varchar (hydra.langs.sql.ansi.Length value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Varchar)) {
         return false;
       }
       Varchar o = (Varchar) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -203,22 +268,35 @@ public abstract class CharacterStringType {
   public static final class CharacterLargeObject extends hydra.langs.sql.ansi.CharacterStringType {
     public final java.util.Optional<hydra.langs.sql.ansi.LargeObjectLength> value;
     
+    private int hashCode_;
+    
     public CharacterLargeObject (java.util.Optional<hydra.langs.sql.ansi.LargeObjectLength> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof CharacterLargeObject)) {
         return false;
       }
       CharacterLargeObject o = (CharacterLargeObject) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -230,22 +308,35 @@ public abstract class CharacterStringType {
   public static final class CharLargeObject extends hydra.langs.sql.ansi.CharacterStringType {
     public final java.util.Optional<hydra.langs.sql.ansi.LargeObjectLength> value;
     
+    private int hashCode_;
+    
     public CharLargeObject (java.util.Optional<hydra.langs.sql.ansi.LargeObjectLength> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof CharLargeObject)) {
         return false;
       }
       CharLargeObject o = (CharLargeObject) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -257,22 +348,35 @@ public abstract class CharacterStringType {
   public static final class Clob extends hydra.langs.sql.ansi.CharacterStringType {
     public final java.util.Optional<hydra.langs.sql.ansi.LargeObjectLength> value;
     
+    private int hashCode_;
+    
     public Clob (java.util.Optional<hydra.langs.sql.ansi.LargeObjectLength> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Clob)) {
         return false;
       }
       Clob o = (Clob) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -9,6 +9,9 @@ public class CollateClause {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof CollateClause)) {
       return false;
     }
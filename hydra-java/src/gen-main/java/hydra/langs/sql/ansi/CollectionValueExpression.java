@@ -32,22 +32,35 @@ public abstract class CollectionValueExpression {
   public static final class Array extends hydra.langs.sql.ansi.CollectionValueExpression {
     public final hydra.langs.sql.ansi.ArrayValueExpression value;
     
+    private int hashCode_;
+    
     public Array (hydra.langs.sql.ansi.ArrayValueExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Array)) {
         return false;
       }
       Array o = (Array) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class CollectionValueExpression {
   public static final class Multiset extends hydra.langs.sql.ansi.CollectionValueExpression {
     public final hydra.langs.sql.ansi.MultisetValueExpression value;
     
+    private int hashCode_;
+    
     public Multiset (hydra.langs.sql.ansi.MultisetValueExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Multiset)) {
         return false;
       }
       Multiset o = (Multiset) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -9,6 +9,9 @@ public class ColumnConstraintDefinition {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ColumnConstraintDefinition)) {
       return false;
     }
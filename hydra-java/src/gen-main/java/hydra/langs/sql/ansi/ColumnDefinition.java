@@ -15,6 +15,8 @@ public class ColumnDefinition {
   
   public final java.util.Optional<hydra.langs.sql.ansi.CollateClause> collate;
   
+  private int hashCode_;
+  
   public ColumnDefinition (hydra.langs.sql.ansi.ColumnName name, java.util.Optional<hydra.langs.sql.ansi.ColumnDefinition_TypeOrDomain_Option> typeOrDomain, java.util.Optional<hydra.langs.sql.ansi.ReferenceScopeCheck> refScope, java.util.Optional<hydra.langs.sql.ansi.ColumnDefinition_DefaultOrIdentityOrGeneration_Option> defaultOrIdentityOrGeneration, java.util.List<hydra.langs.sql.ansi.ColumnConstraintDefinition> constraints, java.util.Optional<hydra.langs.sql.ansi.CollateClause> collate) {
     this.name = name;
     this.typeOrDomain = typeOrDomain;
@@ -26,16 +28,27 @@ public class ColumnDefinition {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ColumnDefinition)) {
       return false;
     }
     ColumnDefinition o = (ColumnDefinition) (other);
-    return name.equals(o.name) && typeOrDomain.equals(o.typeOrDomain) && refScope.equals(o.refScope) && defaultOrIdentityOrGeneration.equals(o.defaultOrIdentityOrGeneration) && constraints.equals(o.constraints) && collate.equals(o.collate);
+    return hashCode() == o.hashCode() && name.equals(o.name) && typeOrDomain.equals(o.typeOrDomain) && refScope.equals(o.refScope) && defaultOrIdentityOrGeneration.equals(o.defaultOrIdentityOrGeneration) && constraints.equals(o.constraints) && collate.equals(o.collate);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * typeOrDomain.hashCode() + 5 * refScope.hashCode() + 7 * defaultOrIdentityOrGeneration.hashCode() + 11 * constraints.hashCode() + 13 * collate.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * typeOrDomain.hashCode() + 5 * refScope.hashCode() + 7 * defaultOrIdentityOrGeneration.hashCode() + 11 * constraints.hashCode() + 13 * collate.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ColumnDefinition withName(hydra.langs.sql.ansi.ColumnName name) {
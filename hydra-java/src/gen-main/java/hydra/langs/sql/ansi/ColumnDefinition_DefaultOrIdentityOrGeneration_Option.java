@@ -38,22 +38,35 @@ public abstract class ColumnDefinition_DefaultOrIdentityOrGeneration_Option {
   public static final class DefaultClause extends hydra.langs.sql.ansi.ColumnDefinition_DefaultOrIdentityOrGeneration_Option {
     public final hydra.langs.sql.ansi.DefaultClause value;
     
+    private int hashCode_;
+    
     public DefaultClause (hydra.langs.sql.ansi.DefaultClause value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DefaultClause)) {
         return false;
       }
       DefaultClause o = (DefaultClause) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class ColumnDefinition_DefaultOrIdentityOrGeneration_Option {
   public static final class IdentityColumnSpecification extends hydra.langs.sql.ansi.ColumnDefinition_DefaultOrIdentityOrGeneration_Option {
     public final hydra.langs.sql.ansi.IdentityColumnSpecification value;
     
+    private int hashCode_;
+    
     public IdentityColumnSpecification (hydra.langs.sql.ansi.IdentityColumnSpecification value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof IdentityColumnSpecification)) {
         return false;
       }
       IdentityColumnSpecification o = (IdentityColumnSpecification) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +118,35 @@ public abstract class ColumnDefinition_DefaultOrIdentityOrGeneration_Option {
   public static final class GenerationClause extends hydra.langs.sql.ansi.ColumnDefinition_DefaultOrIdentityOrGeneration_Option {
     public final hydra.langs.sql.ansi.GenerationClause value;
     
+    private int hashCode_;
+    
     public GenerationClause (hydra.langs.sql.ansi.GenerationClause value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof GenerationClause)) {
         return false;
       }
       GenerationClause o = (GenerationClause) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
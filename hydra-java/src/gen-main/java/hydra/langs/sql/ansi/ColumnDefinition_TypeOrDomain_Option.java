@@ -32,22 +32,35 @@ public abstract class ColumnDefinition_TypeOrDomain_Option {
   public static final class DataType extends hydra.langs.sql.ansi.ColumnDefinition_TypeOrDomain_Option {
     public final hydra.langs.sql.ansi.DataType value;
     
+    private int hashCode_;
+    
     public DataType (hydra.langs.sql.ansi.DataType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DataType)) {
         return false;
       }
       DataType o = (DataType) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class ColumnDefinition_TypeOrDomain_Option {
   public static final class DomainName extends hydra.langs.sql.ansi.ColumnDefinition_TypeOrDomain_Option {
     public final hydra.langs.sql.ansi.DomainName value;
     
+    private int hashCode_;
+    
     public DomainName (hydra.langs.sql.ansi.DomainName value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DomainName)) {
         return false;
       }
       DomainName o = (DomainName) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -9,6 +9,9 @@ public class ColumnOptions {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ColumnOptions)) {
       return false;
     }
@@ -9,6 +9,9 @@ public class ColumnReference {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ColumnReference)) {
       return false;
     }
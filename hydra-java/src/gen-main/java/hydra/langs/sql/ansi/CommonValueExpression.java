@@ -62,22 +62,35 @@ public abstract class CommonValueExpression {
   public static final class Numeric extends hydra.langs.sql.ansi.CommonValueExpression {
     public final hydra.langs.sql.ansi.NumericValueExpression value;
     
+    private int hashCode_;
+    
     public Numeric (hydra.langs.sql.ansi.NumericValueExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Numeric)) {
         return false;
       }
       Numeric o = (Numeric) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -89,22 +102,35 @@ public abstract class CommonValueExpression {
   public static final class String_ extends hydra.langs.sql.ansi.CommonValueExpression {
     public final hydra.langs.sql.ansi.StringValueExpression value;
     
+    private int hashCode_;
+    
     public String_ (hydra.langs.sql.ansi.StringValueExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof String_)) {
         return false;
       }
       String_ o = (String_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -116,22 +142,35 @@ public abstract class CommonValueExpression {
   public static final class Datetime extends hydra.langs.sql.ansi.CommonValueExpression {
     public final hydra.langs.sql.ansi.DatetimeValueExpression value;
     
+    private int hashCode_;
+    
     public Datetime (hydra.langs.sql.ansi.DatetimeValueExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Datetime)) {
         return false;
       }
       Datetime o = (Datetime) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -143,22 +182,35 @@ public abstract class CommonValueExpression {
   public static final class Interval extends hydra.langs.sql.ansi.CommonValueExpression {
     public final hydra.langs.sql.ansi.IntervalValueExpression value;
     
+    private int hashCode_;
+    
     public Interval (hydra.langs.sql.ansi.IntervalValueExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Interval)) {
         return false;
       }
       Interval o = (Interval) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -170,22 +222,35 @@ public abstract class CommonValueExpression {
   public static final class UserDefined extends hydra.langs.sql.ansi.CommonValueExpression {
     public final hydra.langs.sql.ansi.UserDefinedTypeValueExpression value;
     
+    private int hashCode_;
+    
     public UserDefined (hydra.langs.sql.ansi.UserDefinedTypeValueExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof UserDefined)) {
         return false;
       }
       UserDefined o = (UserDefined) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -197,22 +262,35 @@ public abstract class CommonValueExpression {
   public static final class Reference extends hydra.langs.sql.ansi.CommonValueExpression {
     public final hydra.langs.sql.ansi.ReferenceValueExpression value;
     
+    private int hashCode_;
+    
     public Reference (hydra.langs.sql.ansi.ReferenceValueExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Reference)) {
         return false;
       }
       Reference o = (Reference) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -224,22 +302,35 @@ public abstract class CommonValueExpression {
   public static final class Collection extends hydra.langs.sql.ansi.CommonValueExpression {
     public final hydra.langs.sql.ansi.CollectionValueExpression value;
     
+    private int hashCode_;
+    
     public Collection (hydra.langs.sql.ansi.CollectionValueExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Collection)) {
         return false;
       }
       Collection o = (Collection) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -9,6 +9,9 @@ public class ContextuallyTypedRowValueConstructor {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ContextuallyTypedRowValueConstructor)) {
       return false;
     }
@@ -32,22 +32,35 @@ public abstract class ContextuallyTypedRowValueExpression {
   public static final class SpecialCase extends hydra.langs.sql.ansi.ContextuallyTypedRowValueExpression {
     public final hydra.langs.sql.ansi.RowValueSpecialCase value;
     
+    private int hashCode_;
+    
     public SpecialCase (hydra.langs.sql.ansi.RowValueSpecialCase value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof SpecialCase)) {
         return false;
       }
       SpecialCase o = (SpecialCase) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class ContextuallyTypedRowValueExpression {
   public static final class Constructor extends hydra.langs.sql.ansi.ContextuallyTypedRowValueExpression {
     public final hydra.langs.sql.ansi.ContextuallyTypedRowValueConstructor value;
     
+    private int hashCode_;
+    
     public Constructor (hydra.langs.sql.ansi.ContextuallyTypedRowValueConstructor value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Constructor)) {
         return false;
       }
       Constructor o = (Constructor) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -7,6 +7,8 @@ public class ContextuallyTypedRowValueExpressionList {
   
   public final java.util.List<hydra.langs.sql.ansi.ContextuallyTypedRowValueExpression> rest;
   
+  private int hashCode_;
+  
   public ContextuallyTypedRowValueExpressionList (hydra.langs.sql.ansi.ContextuallyTypedRowValueExpression first, java.util.List<hydra.langs.sql.ansi.ContextuallyTypedRowValueExpression> rest) {
     this.first = first;
     this.rest = rest;
@@ -14,16 +16,27 @@ public class ContextuallyTypedRowValueExpressionList {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ContextuallyTypedRowValueExpressionList)) {
       return false;
     }
     ContextuallyTypedRowValueExpressionList o = (ContextuallyTypedRowValueExpressionList) (other);
-    return first.equals(o.first) && rest.equals(o.rest);
+    return hashCode() == o.hashCode() && first.equals(o.first) && rest.equals(o.rest);
   }
   
   @Override
   public int hashCode() {
-    return 2 * first.hashCode() + 3 * rest.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * first.hashCode() + 3 * rest.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ContextuallyTypedRowValueExpressionList withFirst(hydra.langs.sql.ansi.ContextuallyTypedRowValueExpression first) {
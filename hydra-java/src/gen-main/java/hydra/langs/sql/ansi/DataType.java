@@ -50,22 +50,35 @@ public abstract class DataType {
   public static final class Predefined extends hydra.langs.sql.ansi.DataType {
     public final hydra.langs.sql.ansi.PredefinedType value;
     
+    private int hashCode_;
+    
     public Predefined (hydra.langs.sql.ansi.PredefinedType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Predefined)) {
         return false;
       }
       Predefined o = (Predefined) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -77,22 +90,35 @@ public abstract class DataType {
   public static final class Row extends hydra.langs.sql.ansi.DataType {
     public final hydra.langs.sql.ansi.RowType value;
     
+    private int hashCode_;
+    
     public Row (hydra.langs.sql.ansi.RowType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Row)) {
         return false;
       }
       Row o = (Row) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -104,22 +130,35 @@ public abstract class DataType {
   public static final class Named extends hydra.langs.sql.ansi.DataType {
     public final hydra.langs.sql.ansi.PathResolvedUserDefinedTypeName value;
     
+    private int hashCode_;
+    
     public Named (hydra.langs.sql.ansi.PathResolvedUserDefinedTypeName value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Named)) {
         return false;
       }
       Named o = (Named) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -131,22 +170,35 @@ public abstract class DataType {
   public static final class Reference extends hydra.langs.sql.ansi.DataType {
     public final hydra.langs.sql.ansi.ReferenceType value;
     
+    private int hashCode_;
+    
     public Reference (hydra.langs.sql.ansi.ReferenceType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Reference)) {
         return false;
       }
       Reference o = (Reference) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -158,22 +210,35 @@ public abstract class DataType {
   public static final class Collection extends hydra.langs.sql.ansi.DataType {
     public final hydra.langs.sql.ansi.CollectionType value;
     
+    private int hashCode_;
+    
     public Collection (hydra.langs.sql.ansi.CollectionType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Collection)) {
         return false;
       }
       Collection o = (Collection) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -9,6 +9,9 @@ public class DateString {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DateString)) {
       return false;
     }
@@ -38,22 +38,35 @@ public abstract class DatetimeLiteral {
   public static final class Date extends hydra.langs.sql.ansi.DatetimeLiteral {
     public final hydra.langs.sql.ansi.DateLiteral value;
     
+    private int hashCode_;
+    
     public Date (hydra.langs.sql.ansi.DateLiteral value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Date)) {
         return false;
       }
       Date o = (Date) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class DatetimeLiteral {
   public static final class Time extends hydra.langs.sql.ansi.DatetimeLiteral {
     public final hydra.langs.sql.ansi.TimeLiteral value;
     
+    private int hashCode_;
+    
     public Time (hydra.langs.sql.ansi.TimeLiteral value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Time)) {
         return false;
       }
       Time o = (Time) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +118,35 @@ public abstract class DatetimeLiteral {
   public static final class Timestamp extends hydra.langs.sql.ansi.DatetimeLiteral {
     public final hydra.langs.sql.ansi.TimestampLiteral value;
     
+    private int hashCode_;
+    
     public Timestamp (hydra.langs.sql.ansi.TimestampLiteral value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Timestamp)) {
         return false;
       }
       Timestamp o = (Timestamp) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
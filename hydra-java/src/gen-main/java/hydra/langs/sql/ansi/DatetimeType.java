@@ -9,6 +9,9 @@ public class DatetimeType {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DatetimeType)) {
       return false;
     }
@@ -9,6 +9,9 @@ public class DatetimeValueExpression {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DatetimeValueExpression)) {
       return false;
     }
@@ -9,6 +9,9 @@ public class DefaultClause {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DefaultClause)) {
       return false;
     }
@@ -62,22 +62,35 @@ public abstract class ExactNumericType {
   public static final class Numeric extends hydra.langs.sql.ansi.ExactNumericType {
     public final java.util.Optional<hydra.langs.sql.ansi.ExactNumericType_Numeric_Option> value;
     
+    private int hashCode_;
+    
     public Numeric (java.util.Optional<hydra.langs.sql.ansi.ExactNumericType_Numeric_Option> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Numeric)) {
         return false;
       }
       Numeric o = (Numeric) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -89,22 +102,35 @@ public abstract class ExactNumericType {
   public static final class Decimal extends hydra.langs.sql.ansi.ExactNumericType {
     public final java.util.Optional<hydra.langs.sql.ansi.ExactNumericType_Decimal_Option> value;
     
+    private int hashCode_;
+    
     public Decimal (java.util.Optional<hydra.langs.sql.ansi.ExactNumericType_Decimal_Option> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Decimal)) {
         return false;
       }
       Decimal o = (Decimal) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -116,22 +142,35 @@ public abstract class ExactNumericType {
   public static final class Dec extends hydra.langs.sql.ansi.ExactNumericType {
     public final java.util.Optional<hydra.langs.sql.ansi.ExactNumericType_Dec_Option> value;
     
+    private int hashCode_;
+    
     public Dec (java.util.Optional<hydra.langs.sql.ansi.ExactNumericType_Dec_Option> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Dec)) {
         return false;
       }
       Dec o = (Dec) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -147,6 +186,9 @@ public abstract class ExactNumericType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Smallint)) {
         return false;
       }
@@ -172,6 +214,9 @@ public abstract class ExactNumericType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Integer_)) {
         return false;
       }
@@ -197,6 +242,9 @@ public abstract class ExactNumericType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Int)) {
         return false;
       }
@@ -222,6 +270,9 @@ public abstract class ExactNumericType {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Bigint)) {
         return false;
       }
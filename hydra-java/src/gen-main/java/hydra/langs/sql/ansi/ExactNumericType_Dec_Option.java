@@ -7,6 +7,8 @@ public class ExactNumericType_Dec_Option {
   
   public final java.util.Optional<hydra.langs.sql.ansi.Scale> sequence;
   
+  private int hashCode_;
+  
   public ExactNumericType_Dec_Option (hydra.langs.sql.ansi.Precision precision, java.util.Optional<hydra.langs.sql.ansi.Scale> sequence) {
     this.precision = precision;
     this.sequence = sequence;
@@ -14,16 +16,27 @@ public class ExactNumericType_Dec_Option {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ExactNumericType_Dec_Option)) {
       return false;
     }
     ExactNumericType_Dec_Option o = (ExactNumericType_Dec_Option) (other);
-    return precision.equals(o.precision) && sequence.equals(o.sequence);
+    return hashCode() == o.hashCode() && precision.equals(o.precision) && sequence.equals(o.sequence);
   }
   
   @Override
   public int hashCode() {
-    return 2 * precision.hashCode() + 3 * sequence.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * precision.hashCode() + 3 * sequence.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ExactNumericType_Dec_Option withPrecision(hydra.langs.sql.ansi.Precision precision) {
@@ -9,6 +9,9 @@ public class FieldReference {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof FieldReference)) {
       return false;
     }
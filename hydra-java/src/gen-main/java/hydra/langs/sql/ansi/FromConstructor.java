@@ -9,6 +9,8 @@ public class FromConstructor {
   
   public final hydra.langs.sql.ansi.ContextuallyTypedTableValueConstructor values;
   
+  private int hashCode_;
+  
   public FromConstructor (java.util.Optional<hydra.langs.sql.ansi.InsertColumnList> columns, java.util.Optional<hydra.langs.sql.ansi.OverrideClause> override, hydra.langs.sql.ansi.ContextuallyTypedTableValueConstructor values) {
     this.columns = columns;
     this.override = override;
@@ -17,16 +19,27 @@ public class FromConstructor {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof FromConstructor)) {
       return false;
     }
     FromConstructor o = (FromConstructor) (other);
-    return columns.equals(o.columns) && override.equals(o.override) && values.equals(o.values);
+    return hashCode() == o.hashCode() && columns.equals(o.columns) && override.equals(o.override) && values.equals(o.values);
   }
   
   @Override
   public int hashCode() {
-    return 2 * columns.hashCode() + 3 * override.hashCode() + 5 * values.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * columns.hashCode() + 3 * override.hashCode() + 5 * values.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public FromConstructor withColumns(java.util.Optional<hydra.langs.sql.ansi.InsertColumnList> columns) {
@@ -9,6 +9,9 @@ public class FromDefault {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof FromDefault)) {
       return false;
     }
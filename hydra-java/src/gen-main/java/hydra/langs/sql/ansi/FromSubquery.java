@@ -9,6 +9,9 @@ public class FromSubquery {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof FromSubquery)) {
       return false;
     }
@@ -62,22 +62,35 @@ public abstract class GeneralLiteral {
   public static final class String_ extends hydra.langs.sql.ansi.GeneralLiteral {
     public final hydra.langs.sql.ansi.CharacterStringLiteral value;
     
+    private int hashCode_;
+    
     public String_ (hydra.langs.sql.ansi.CharacterStringLiteral value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof String_)) {
         return false;
       }
       String_ o = (String_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -89,22 +102,35 @@ public abstract class GeneralLiteral {
   public static final class NationalString extends hydra.langs.sql.ansi.GeneralLiteral {
     public final hydra.langs.sql.ansi.NationalCharacterStringLiteral value;
     
+    private int hashCode_;
+    
     public NationalString (hydra.langs.sql.ansi.NationalCharacterStringLiteral value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof NationalString)) {
         return false;
       }
       NationalString o = (NationalString) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -116,22 +142,35 @@ public abstract class GeneralLiteral {
   public static final class Unicode extends hydra.langs.sql.ansi.GeneralLiteral {
     public final hydra.langs.sql.ansi.UnicodeCharacterStringLiteral value;
     
+    private int hashCode_;
+    
     public Unicode (hydra.langs.sql.ansi.UnicodeCharacterStringLiteral value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Unicode)) {
         return false;
       }
       Unicode o = (Unicode) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -143,22 +182,35 @@ public abstract class GeneralLiteral {
   public static final class Binary extends hydra.langs.sql.ansi.GeneralLiteral {
     public final hydra.langs.sql.ansi.BinaryStringLiteral value;
     
+    private int hashCode_;
+    
     public Binary (hydra.langs.sql.ansi.BinaryStringLiteral value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Binary)) {
         return false;
       }
       Binary o = (Binary) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -170,22 +222,35 @@ public abstract class GeneralLiteral {
   public static final class DateTime extends hydra.langs.sql.ansi.GeneralLiteral {
     public final hydra.langs.sql.ansi.DatetimeLiteral value;
     
+    private int hashCode_;
+    
     public DateTime (hydra.langs.sql.ansi.DatetimeLiteral value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DateTime)) {
         return false;
       }
       DateTime o = (DateTime) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -197,22 +262,35 @@ public abstract class GeneralLiteral {
   public static final class Interval extends hydra.langs.sql.ansi.GeneralLiteral {
     public final hydra.langs.sql.ansi.IntervalLiteral value;
     
+    private int hashCode_;
+    
     public Interval (hydra.langs.sql.ansi.IntervalLiteral value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Interval)) {
         return false;
       }
       Interval o = (Interval) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -224,22 +302,35 @@ public abstract class GeneralLiteral {
   public static final class Boolean_ extends hydra.langs.sql.ansi.GeneralLiteral {
     public final hydra.langs.sql.ansi.BooleanLiteral value;
     
+    private int hashCode_;
+    
     public Boolean_ (hydra.langs.sql.ansi.BooleanLiteral value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Boolean_)) {
         return false;
       }
       Boolean_ o = (Boolean_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
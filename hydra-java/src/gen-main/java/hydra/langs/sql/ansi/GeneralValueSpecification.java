@@ -9,6 +9,9 @@ public class GeneralValueSpecification {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof GeneralValueSpecification)) {
       return false;
     }
@@ -9,6 +9,9 @@ public class GenerationClause {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof GenerationClause)) {
       return false;
     }
@@ -36,6 +36,9 @@ public abstract class GlobalOrLocal {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Global)) {
         return false;
       }
@@ -61,6 +64,9 @@ public abstract class GlobalOrLocal {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Local)) {
         return false;
       }
@@ -9,6 +9,9 @@ public class IdentityColumnSpecification {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof IdentityColumnSpecification)) {
       return false;
     }
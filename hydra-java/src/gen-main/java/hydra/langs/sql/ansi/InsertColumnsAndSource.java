@@ -38,22 +38,35 @@ public abstract class InsertColumnsAndSource {
   public static final class Subquery extends hydra.langs.sql.ansi.InsertColumnsAndSource {
     public final hydra.langs.sql.ansi.FromSubquery value;
     
+    private int hashCode_;
+    
     public Subquery (hydra.langs.sql.ansi.FromSubquery value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Subquery)) {
         return false;
       }
       Subquery o = (Subquery) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class InsertColumnsAndSource {
   public static final class Constructor extends hydra.langs.sql.ansi.InsertColumnsAndSource {
     public final hydra.langs.sql.ansi.FromConstructor value;
     
+    private int hashCode_;
+    
     public Constructor (hydra.langs.sql.ansi.FromConstructor value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Constructor)) {
         return false;
       }
       Constructor o = (Constructor) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +118,35 @@ public abstract class InsertColumnsAndSource {
   public static final class Default extends hydra.langs.sql.ansi.InsertColumnsAndSource {
     public final hydra.langs.sql.ansi.FromDefault value;
     
+    private int hashCode_;
+    
     public Default (hydra.langs.sql.ansi.FromDefault value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Default)) {
         return false;
       }
       Default o = (Default) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -7,6 +7,8 @@ public class InsertStatement {
   
   public final hydra.langs.sql.ansi.InsertColumnsAndSource columnsAndSource;
   
+  private int hashCode_;
+  
   public InsertStatement (hydra.langs.sql.ansi.InsertionTarget target, hydra.langs.sql.ansi.InsertColumnsAndSource columnsAndSource) {
     this.target = target;
     this.columnsAndSource = columnsAndSource;
@@ -14,16 +16,27 @@ public class InsertStatement {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof InsertStatement)) {
       return false;
     }
     InsertStatement o = (InsertStatement) (other);
-    return target.equals(o.target) && columnsAndSource.equals(o.columnsAndSource);
+    return hashCode() == o.hashCode() && target.equals(o.target) && columnsAndSource.equals(o.columnsAndSource);
   }
   
   @Override
   public int hashCode() {
-    return 2 * target.hashCode() + 3 * columnsAndSource.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * target.hashCode() + 3 * columnsAndSource.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public InsertStatement withTarget(hydra.langs.sql.ansi.InsertionTarget target) {
@@ -9,6 +9,9 @@ public class IntervalLiteral {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof IntervalLiteral)) {
       return false;
     }
@@ -9,6 +9,9 @@ public class IntervalType {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof IntervalType)) {
       return false;
     }
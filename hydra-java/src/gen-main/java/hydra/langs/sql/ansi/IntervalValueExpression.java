@@ -9,6 +9,9 @@ public class IntervalValueExpression {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof IntervalValueExpression)) {
       return false;
     }
@@ -9,6 +9,9 @@ public class LargeObjectLength {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof LargeObjectLength)) {
       return false;
     }
@@ -9,6 +9,9 @@ public class LikeClause {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof LikeClause)) {
       return false;
     }
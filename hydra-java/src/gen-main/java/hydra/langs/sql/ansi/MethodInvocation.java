@@ -9,6 +9,9 @@ public class MethodInvocation {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof MethodInvocation)) {
       return false;
     }
@@ -9,6 +9,9 @@ public class MultisetElementReference {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof MultisetElementReference)) {
       return false;
     }
@@ -9,6 +9,9 @@ public class MultisetValueConstructor {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof MultisetValueConstructor)) {
       return false;
     }
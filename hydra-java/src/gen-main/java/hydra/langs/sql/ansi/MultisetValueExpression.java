@@ -9,6 +9,9 @@ public class MultisetValueExpression {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof MultisetValueExpression)) {
       return false;
     }
@@ -9,6 +9,9 @@ public class NationalCharacterStringLiteral {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof NationalCharacterStringLiteral)) {
       return false;
     }
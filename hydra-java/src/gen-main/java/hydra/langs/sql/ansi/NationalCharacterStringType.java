@@ -9,6 +9,9 @@ public class NationalCharacterStringType {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof NationalCharacterStringType)) {
       return false;
     }
@@ -9,6 +9,9 @@ public class NewSpecification {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof NewSpecification)) {
       return false;
     }
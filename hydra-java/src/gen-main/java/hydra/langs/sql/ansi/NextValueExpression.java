@@ -9,6 +9,9 @@ public class NextValueExpression {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof NextValueExpression)) {
       return false;
     }
@@ -134,22 +134,35 @@ public abstract class NonparenthesizedValueExpressionPrimary {
   public static final class Unsigned extends hydra.langs.sql.ansi.NonparenthesizedValueExpressionPrimary {
     public final hydra.langs.sql.ansi.UnsignedValueSpecification value;
     
+    private int hashCode_;
+    
     public Unsigned (hydra.langs.sql.ansi.UnsignedValueSpecification value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Unsigned)) {
         return false;
       }
       Unsigned o = (Unsigned) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -161,22 +174,35 @@ public abstract class NonparenthesizedValueExpressionPrimary {
   public static final class Column extends hydra.langs.sql.ansi.NonparenthesizedValueExpressionPrimary {
     public final hydra.langs.sql.ansi.ColumnReference value;
     
+    private int hashCode_;
+    
     public Column (hydra.langs.sql.ansi.ColumnReference value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Column)) {
         return false;
       }
       Column o = (Column) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -188,22 +214,35 @@ public abstract class NonparenthesizedValueExpressionPrimary {
   public static final class SetFunction extends hydra.langs.sql.ansi.NonparenthesizedValueExpressionPrimary {
     public final hydra.langs.sql.ansi.SetFunctionSpecification value;
     
+    private int hashCode_;
+    
     public SetFunction (hydra.langs.sql.ansi.SetFunctionSpecification value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof SetFunction)) {
         return false;
       }
       SetFunction o = (SetFunction) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -215,22 +254,35 @@ public abstract class NonparenthesizedValueExpressionPrimary {
   public static final class WindowFunction extends hydra.langs.sql.ansi.NonparenthesizedValueExpressionPrimary {
     public final hydra.langs.sql.ansi.WindowFunction value;
     
+    private int hashCode_;
+    
     public WindowFunction (hydra.langs.sql.ansi.WindowFunction value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof WindowFunction)) {
         return false;
       }
       WindowFunction o = (WindowFunction) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -242,22 +294,35 @@ public abstract class NonparenthesizedValueExpressionPrimary {
   public static final class ScalarSubquery extends hydra.langs.sql.ansi.NonparenthesizedValueExpressionPrimary {
     public final hydra.langs.sql.ansi.ScalarSubquery value;
     
+    private int hashCode_;
+    
     public ScalarSubquery (hydra.langs.sql.ansi.ScalarSubquery value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ScalarSubquery)) {
         return false;
       }
       ScalarSubquery o = (ScalarSubquery) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -269,22 +334,35 @@ public abstract class NonparenthesizedValueExpressionPrimary {
   public static final class Cases extends hydra.langs.sql.ansi.NonparenthesizedValueExpressionPrimary {
     public final hydra.langs.sql.ansi.CaseExpression value;
     
+    private int hashCode_;
+    
     public Cases (hydra.langs.sql.ansi.CaseExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Cases)) {
         return false;
       }
       Cases o = (Cases) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -296,22 +374,35 @@ public abstract class NonparenthesizedValueExpressionPrimary {
   public static final class Cast extends hydra.langs.sql.ansi.NonparenthesizedValueExpressionPrimary {
     public final hydra.langs.sql.ansi.CastSpecification value;
     
+    private int hashCode_;
+    
     public Cast (hydra.langs.sql.ansi.CastSpecification value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Cast)) {
         return false;
       }
       Cast o = (Cast) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -323,22 +414,35 @@ public abstract class NonparenthesizedValueExpressionPrimary {
   public static final class Field extends hydra.langs.sql.ansi.NonparenthesizedValueExpressionPrimary {
     public final hydra.langs.sql.ansi.FieldReference value;
     
+    private int hashCode_;
+    
     public Field (hydra.langs.sql.ansi.FieldReference value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Field)) {
         return false;
       }
       Field o = (Field) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -350,22 +454,35 @@ public abstract class NonparenthesizedValueExpressionPrimary {
   public static final class Subtype extends hydra.langs.sql.ansi.NonparenthesizedValueExpressionPrimary {
     public final hydra.langs.sql.ansi.SubtypeTreatment value;
     
+    private int hashCode_;
+    
     public Subtype (hydra.langs.sql.ansi.SubtypeTreatment value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Subtype)) {
         return false;
       }
       Subtype o = (Subtype) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -377,22 +494,35 @@ public abstract class NonparenthesizedValueExpressionPrimary {
   public static final class Method extends hydra.langs.sql.ansi.NonparenthesizedValueExpressionPrimary {
     public final hydra.langs.sql.ansi.MethodInvocation value;
     
+    private int hashCode_;
+    
     public Method (hydra.langs.sql.ansi.MethodInvocation value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Method)) {
         return false;
       }
       Method o = (Method) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -404,22 +534,35 @@ public abstract class NonparenthesizedValueExpressionPrimary {
   public static final class StaticMethod extends hydra.langs.sql.ansi.NonparenthesizedValueExpressionPrimary {
     public final hydra.langs.sql.ansi.StaticMethodInvocation value;
     
+    private int hashCode_;
+    
     public StaticMethod (hydra.langs.sql.ansi.StaticMethodInvocation value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof StaticMethod)) {
         return false;
       }
       StaticMethod o = (StaticMethod) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -431,22 +574,35 @@ public abstract class NonparenthesizedValueExpressionPrimary {
   public static final class New extends hydra.langs.sql.ansi.NonparenthesizedValueExpressionPrimary {
     public final hydra.langs.sql.ansi.NewSpecification value;
     
+    private int hashCode_;
+    
     public New (hydra.langs.sql.ansi.NewSpecification value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof New)) {
         return false;
       }
       New o = (New) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -458,22 +614,35 @@ public abstract class NonparenthesizedValueExpressionPrimary {
   public static final class AttributeOrMethod extends hydra.langs.sql.ansi.NonparenthesizedValueExpressionPrimary {
     public final hydra.langs.sql.ansi.AttributeOrMethodReference value;
     
+    private int hashCode_;
+    
     public AttributeOrMethod (hydra.langs.sql.ansi.AttributeOrMethodReference value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof AttributeOrMethod)) {
         return false;
       }
       AttributeOrMethod o = (AttributeOrMethod) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -485,22 +654,35 @@ public abstract class NonparenthesizedValueExpressionPrimary {
   public static final class Reference extends hydra.langs.sql.ansi.NonparenthesizedValueExpressionPrimary {
     public final hydra.langs.sql.ansi.ReferenceResolution value;
     
+    private int hashCode_;
+    
     public Reference (hydra.langs.sql.ansi.ReferenceResolution value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Reference)) {
         return false;
       }
       Reference o = (Reference) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -512,22 +694,35 @@ public abstract class NonparenthesizedValueExpressionPrimary {
   public static final class Collection extends hydra.langs.sql.ansi.NonparenthesizedValueExpressionPrimary {
     public final hydra.langs.sql.ansi.CollectionValueConstructor value;
     
+    private int hashCode_;
+    
     public Collection (hydra.langs.sql.ansi.CollectionValueConstructor value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Collection)) {
         return false;
       }
       Collection o = (Collection) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -539,22 +734,35 @@ public abstract class NonparenthesizedValueExpressionPrimary {
   public static final class ArrayElement extends hydra.langs.sql.ansi.NonparenthesizedValueExpressionPrimary {
     public final hydra.langs.sql.ansi.ArrayElementReference value;
     
+    private int hashCode_;
+    
     public ArrayElement (hydra.langs.sql.ansi.ArrayElementReference value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ArrayElement)) {
         return false;
       }
       ArrayElement o = (ArrayElement) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -566,22 +774,35 @@ public abstract class NonparenthesizedValueExpressionPrimary {
   public static final class MultisetElement extends hydra.langs.sql.ansi.NonparenthesizedValueExpressionPrimary {
     public final hydra.langs.sql.ansi.MultisetElementReference value;
     
+    private int hashCode_;
+    
     public MultisetElement (hydra.langs.sql.ansi.MultisetElementReference value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof MultisetElement)) {
         return false;
       }
       MultisetElement o = (MultisetElement) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -593,22 +814,35 @@ public abstract class NonparenthesizedValueExpressionPrimary {
   public static final class Routine extends hydra.langs.sql.ansi.NonparenthesizedValueExpressionPrimary {
     public final hydra.langs.sql.ansi.RoutineInvocation value;
     
+    private int hashCode_;
+    
     public Routine (hydra.langs.sql.ansi.RoutineInvocation value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Routine)) {
         return false;
       }
       Routine o = (Routine) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -620,22 +854,35 @@ public abstract class NonparenthesizedValueExpressionPrimary {
   public static final class Next extends hydra.langs.sql.ansi.NonparenthesizedValueExpressionPrimary {
     public final hydra.langs.sql.ansi.NextValueExpression value;
     
+    private int hashCode_;
+    
     public Next (hydra.langs.sql.ansi.NextValueExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Next)) {
         return false;
       }
       Next o = (Next) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -32,22 +32,35 @@ public abstract class NumericType {
   public static final class Exact extends hydra.langs.sql.ansi.NumericType {
     public final hydra.langs.sql.ansi.ExactNumericType value;
     
+    private int hashCode_;
+    
     public Exact (hydra.langs.sql.ansi.ExactNumericType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Exact)) {
         return false;
       }
       Exact o = (Exact) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class NumericType {
   public static final class Approximate extends hydra.langs.sql.ansi.NumericType {
     public final hydra.langs.sql.ansi.ApproximateNumericType value;
     
+    private int hashCode_;
+    
     public Approximate (hydra.langs.sql.ansi.ApproximateNumericType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Approximate)) {
         return false;
       }
       Approximate o = (Approximate) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
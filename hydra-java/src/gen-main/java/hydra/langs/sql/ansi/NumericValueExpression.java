@@ -9,6 +9,9 @@ public class NumericValueExpression {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof NumericValueExpression)) {
       return false;
     }
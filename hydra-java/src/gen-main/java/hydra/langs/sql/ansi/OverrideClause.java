@@ -36,6 +36,9 @@ public abstract class OverrideClause {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof OVERRIDINGSpUSERSpVALUE)) {
         return false;
       }
@@ -61,6 +64,9 @@ public abstract class OverrideClause {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof OVERRIDINGSpSYSTEMSpVALUE)) {
         return false;
       }
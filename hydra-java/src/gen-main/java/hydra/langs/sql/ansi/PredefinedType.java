@@ -62,22 +62,35 @@ public abstract class PredefinedType {
   public static final class String_ extends hydra.langs.sql.ansi.PredefinedType {
     public final hydra.langs.sql.ansi.PredefinedType_String value;
     
+    private int hashCode_;
+    
     public String_ (hydra.langs.sql.ansi.PredefinedType_String value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof String_)) {
         return false;
       }
       String_ o = (String_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -89,22 +102,35 @@ public abstract class PredefinedType {
   public static final class NationalString extends hydra.langs.sql.ansi.PredefinedType {
     public final hydra.langs.sql.ansi.PredefinedType_NationalString value;
     
+    private int hashCode_;
+    
     public NationalString (hydra.langs.sql.ansi.PredefinedType_NationalString value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof NationalString)) {
         return false;
       }
       NationalString o = (NationalString) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -116,22 +142,35 @@ public abstract class PredefinedType {
   public static final class Blob extends hydra.langs.sql.ansi.PredefinedType {
     public final hydra.langs.sql.ansi.BinaryLargeObjectStringType value;
     
+    private int hashCode_;
+    
     public Blob (hydra.langs.sql.ansi.BinaryLargeObjectStringType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Blob)) {
         return false;
       }
       Blob o = (Blob) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -143,22 +182,35 @@ public abstract class PredefinedType {
   public static final class Numeric extends hydra.langs.sql.ansi.PredefinedType {
     public final hydra.langs.sql.ansi.NumericType value;
     
+    private int hashCode_;
+    
     public Numeric (hydra.langs.sql.ansi.NumericType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Numeric)) {
         return false;
       }
       Numeric o = (Numeric) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -170,22 +222,35 @@ public abstract class PredefinedType {
   public static final class Boolean_ extends hydra.langs.sql.ansi.PredefinedType {
     public final hydra.langs.sql.ansi.BooleanType value;
     
+    private int hashCode_;
+    
     public Boolean_ (hydra.langs.sql.ansi.BooleanType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Boolean_)) {
         return false;
       }
       Boolean_ o = (Boolean_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -197,22 +262,35 @@ public abstract class PredefinedType {
   public static final class Datetime extends hydra.langs.sql.ansi.PredefinedType {
     public final hydra.langs.sql.ansi.DatetimeType value;
     
+    private int hashCode_;
+    
     public Datetime (hydra.langs.sql.ansi.DatetimeType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Datetime)) {
         return false;
       }
       Datetime o = (Datetime) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -224,22 +302,35 @@ public abstract class PredefinedType {
   public static final class Interval extends hydra.langs.sql.ansi.PredefinedType {
     public final hydra.langs.sql.ansi.IntervalType value;
     
+    private int hashCode_;
+    
     public Interval (hydra.langs.sql.ansi.IntervalType value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Interval)) {
         return false;
       }
       Interval o = (Interval) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
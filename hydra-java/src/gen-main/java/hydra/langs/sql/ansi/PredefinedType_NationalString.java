@@ -7,6 +7,8 @@ public class PredefinedType_NationalString {
   
   public final java.util.Optional<hydra.langs.sql.ansi.CollateClause> collate;
   
+  private int hashCode_;
+  
   public PredefinedType_NationalString (hydra.langs.sql.ansi.NationalCharacterStringType type, java.util.Optional<hydra.langs.sql.ansi.CollateClause> collate) {
     this.type = type;
     this.collate = collate;
@@ -14,16 +16,27 @@ public class PredefinedType_NationalString {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof PredefinedType_NationalString)) {
       return false;
     }
     PredefinedType_NationalString o = (PredefinedType_NationalString) (other);
-    return type.equals(o.type) && collate.equals(o.collate);
+    return hashCode() == o.hashCode() && type.equals(o.type) && collate.equals(o.collate);
   }
   
   @Override
   public int hashCode() {
-    return 2 * type.hashCode() + 3 * collate.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * type.hashCode() + 3 * collate.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public PredefinedType_NationalString withType(hydra.langs.sql.ansi.NationalCharacterStringType type) {
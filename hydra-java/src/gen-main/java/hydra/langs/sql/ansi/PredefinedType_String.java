@@ -9,6 +9,8 @@ public class PredefinedType_String {
   
   public final java.util.Optional<hydra.langs.sql.ansi.CollateClause> collate;
   
+  private int hashCode_;
+  
   public PredefinedType_String (hydra.langs.sql.ansi.CharacterStringType type, java.util.Optional<hydra.langs.sql.ansi.CharacterSetSpecification> characters, java.util.Optional<hydra.langs.sql.ansi.CollateClause> collate) {
     this.type = type;
     this.characters = characters;
@@ -17,16 +19,27 @@ public class PredefinedType_String {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof PredefinedType_String)) {
       return false;
     }
     PredefinedType_String o = (PredefinedType_String) (other);
-    return type.equals(o.type) && characters.equals(o.characters) && collate.equals(o.collate);
+    return hashCode() == o.hashCode() && type.equals(o.type) && characters.equals(o.characters) && collate.equals(o.collate);
   }
   
   @Override
   public int hashCode() {
-    return 2 * type.hashCode() + 3 * characters.hashCode() + 5 * collate.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * type.hashCode() + 3 * characters.hashCode() + 5 * collate.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public PredefinedType_String withType(hydra.langs.sql.ansi.CharacterStringType type) {
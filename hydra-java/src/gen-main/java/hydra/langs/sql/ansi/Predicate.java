@@ -9,6 +9,9 @@ public class Predicate {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Predicate)) {
       return false;
     }
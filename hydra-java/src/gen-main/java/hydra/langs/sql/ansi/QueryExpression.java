@@ -9,6 +9,9 @@ public class QueryExpression {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof QueryExpression)) {
       return false;
     }
@@ -9,6 +9,9 @@ public class ReferenceResolution {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ReferenceResolution)) {
       return false;
     }
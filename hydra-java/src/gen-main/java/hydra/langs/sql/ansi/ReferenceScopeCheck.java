@@ -9,6 +9,9 @@ public class ReferenceScopeCheck {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ReferenceScopeCheck)) {
       return false;
     }
@@ -9,6 +9,9 @@ public class ReferenceType {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ReferenceType)) {
       return false;
     }
@@ -9,6 +9,9 @@ public class RoutineInvocation {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof RoutineInvocation)) {
       return false;
     }
@@ -9,6 +9,9 @@ public class RowType {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof RowType)) {
       return false;
     }
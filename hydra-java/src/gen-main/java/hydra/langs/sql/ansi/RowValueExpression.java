@@ -9,6 +9,9 @@ public class RowValueExpression {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof RowValueExpression)) {
       return false;
     }
@@ -9,6 +9,9 @@ public class SelfReferencingColumnSpecification {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof SelfReferencingColumnSpecification)) {
       return false;
     }
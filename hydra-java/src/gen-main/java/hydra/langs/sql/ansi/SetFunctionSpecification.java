@@ -9,6 +9,9 @@ public class SetFunctionSpecification {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof SetFunctionSpecification)) {
       return false;
     }
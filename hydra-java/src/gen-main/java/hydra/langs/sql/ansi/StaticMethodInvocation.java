@@ -9,6 +9,9 @@ public class StaticMethodInvocation {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof StaticMethodInvocation)) {
       return false;
     }
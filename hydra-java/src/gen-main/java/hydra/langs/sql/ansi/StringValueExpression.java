@@ -9,6 +9,9 @@ public class StringValueExpression {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof StringValueExpression)) {
       return false;
     }
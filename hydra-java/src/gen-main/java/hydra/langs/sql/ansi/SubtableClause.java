@@ -9,6 +9,9 @@ public class SubtableClause {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof SubtableClause)) {
       return false;
     }
@@ -9,6 +9,9 @@ public class SubtypeTreatment {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof SubtypeTreatment)) {
       return false;
     }
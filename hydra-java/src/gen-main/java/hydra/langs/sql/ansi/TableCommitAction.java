@@ -36,6 +36,9 @@ public abstract class TableCommitAction {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Preserve)) {
         return false;
       }
@@ -61,6 +64,9 @@ public abstract class TableCommitAction {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Delete)) {
         return false;
       }
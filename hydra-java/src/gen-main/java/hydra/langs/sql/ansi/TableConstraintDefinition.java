@@ -9,6 +9,9 @@ public class TableConstraintDefinition {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof TableConstraintDefinition)) {
       return false;
     }
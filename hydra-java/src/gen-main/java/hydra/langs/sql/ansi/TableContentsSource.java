@@ -38,22 +38,35 @@ public abstract class TableContentsSource {
   public static final class List extends hydra.langs.sql.ansi.TableContentsSource {
     public final hydra.langs.sql.ansi.TableElementList value;
     
+    private int hashCode_;
+    
     public List (hydra.langs.sql.ansi.TableElementList value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof List)) {
         return false;
       }
       List o = (List) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class TableContentsSource {
   public static final class Subtable extends hydra.langs.sql.ansi.TableContentsSource {
     public final hydra.langs.sql.ansi.TableContentsSource_Subtable value;
     
+    private int hashCode_;
+    
     public Subtable (hydra.langs.sql.ansi.TableContentsSource_Subtable value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Subtable)) {
         return false;
       }
       Subtable o = (Subtable) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +118,35 @@ public abstract class TableContentsSource {
   public static final class Subquery extends hydra.langs.sql.ansi.TableContentsSource {
     public final hydra.langs.sql.ansi.AsSubqueryClause value;
     
+    private int hashCode_;
+    
     public Subquery (hydra.langs.sql.ansi.AsSubqueryClause value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Subquery)) {
         return false;
       }
       Subquery o = (Subquery) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
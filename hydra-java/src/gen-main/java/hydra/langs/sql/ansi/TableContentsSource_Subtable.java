@@ -9,6 +9,8 @@ public class TableContentsSource_Subtable {
   
   public final java.util.Optional<hydra.langs.sql.ansi.TableElementList> elements;
   
+  private int hashCode_;
+  
   public TableContentsSource_Subtable (hydra.langs.sql.ansi.PathResolvedUserDefinedTypeName type, java.util.Optional<hydra.langs.sql.ansi.SubtableClause> subtable, java.util.Optional<hydra.langs.sql.ansi.TableElementList> elements) {
     this.type = type;
     this.subtable = subtable;
@@ -17,16 +19,27 @@ public class TableContentsSource_Subtable {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof TableContentsSource_Subtable)) {
       return false;
     }
     TableContentsSource_Subtable o = (TableContentsSource_Subtable) (other);
-    return type.equals(o.type) && subtable.equals(o.subtable) && elements.equals(o.elements);
+    return hashCode() == o.hashCode() && type.equals(o.type) && subtable.equals(o.subtable) && elements.equals(o.elements);
   }
   
   @Override
   public int hashCode() {
-    return 2 * type.hashCode() + 3 * subtable.hashCode() + 5 * elements.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * type.hashCode() + 3 * subtable.hashCode() + 5 * elements.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public TableContentsSource_Subtable withType(hydra.langs.sql.ansi.PathResolvedUserDefinedTypeName type) {
@@ -11,6 +11,8 @@ public class TableDefinition {
   
   public final java.util.Optional<hydra.langs.sql.ansi.TableCommitAction> commitActions;
   
+  private int hashCode_;
+  
   public TableDefinition (java.util.Optional<hydra.langs.sql.ansi.TableScope> scope, hydra.langs.sql.ansi.TableName name, hydra.langs.sql.ansi.TableContentsSource source, java.util.Optional<hydra.langs.sql.ansi.TableCommitAction> commitActions) {
     this.scope = scope;
     this.name = name;
@@ -20,16 +22,27 @@ public class TableDefinition {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof TableDefinition)) {
       return false;
     }
     TableDefinition o = (TableDefinition) (other);
-    return scope.equals(o.scope) && name.equals(o.name) && source.equals(o.source) && commitActions.equals(o.commitActions);
+    return hashCode() == o.hashCode() && scope.equals(o.scope) && name.equals(o.name) && source.equals(o.source) && commitActions.equals(o.commitActions);
   }
   
   @Override
   public int hashCode() {
-    return 2 * scope.hashCode() + 3 * name.hashCode() + 5 * source.hashCode() + 7 * commitActions.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * scope.hashCode() + 3 * name.hashCode() + 5 * source.hashCode() + 7 * commitActions.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public TableDefinition withScope(java.util.Optional<hydra.langs.sql.ansi.TableScope> scope) {
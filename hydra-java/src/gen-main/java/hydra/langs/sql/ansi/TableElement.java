@@ -50,22 +50,35 @@ public abstract class TableElement {
   public static final class Column extends hydra.langs.sql.ansi.TableElement {
     public final hydra.langs.sql.ansi.ColumnDefinition value;
     
+    private int hashCode_;
+    
     public Column (hydra.langs.sql.ansi.ColumnDefinition value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Column)) {
         return false;
       }
       Column o = (Column) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -77,22 +90,35 @@ public abstract class TableElement {
   public static final class TableConstraint extends hydra.langs.sql.ansi.TableElement {
     public final hydra.langs.sql.ansi.TableConstraintDefinition value;
     
+    private int hashCode_;
+    
     public TableConstraint (hydra.langs.sql.ansi.TableConstraintDefinition value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof TableConstraint)) {
         return false;
       }
       TableConstraint o = (TableConstraint) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -104,22 +130,35 @@ public abstract class TableElement {
   public static final class Like extends hydra.langs.sql.ansi.TableElement {
     public final hydra.langs.sql.ansi.LikeClause value;
     
+    private int hashCode_;
+    
     public Like (hydra.langs.sql.ansi.LikeClause value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Like)) {
         return false;
       }
       Like o = (Like) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -131,22 +170,35 @@ public abstract class TableElement {
   public static final class SelfReferencingColumn extends hydra.langs.sql.ansi.TableElement {
     public final hydra.langs.sql.ansi.SelfReferencingColumnSpecification value;
     
+    private int hashCode_;
+    
     public SelfReferencingColumn (hydra.langs.sql.ansi.SelfReferencingColumnSpecification value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof SelfReferencingColumn)) {
         return false;
       }
       SelfReferencingColumn o = (SelfReferencingColumn) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -158,22 +210,35 @@ public abstract class TableElement {
   public static final class ColumOptions extends hydra.langs.sql.ansi.TableElement {
     public final hydra.langs.sql.ansi.ColumnOptions value;
     
+    private int hashCode_;
+    
     public ColumOptions (hydra.langs.sql.ansi.ColumnOptions value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ColumOptions)) {
         return false;
       }
       ColumOptions o = (ColumOptions) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -7,6 +7,8 @@ public class TableElementList {
   
   public final java.util.List<hydra.langs.sql.ansi.TableElement> rest;
   
+  private int hashCode_;
+  
   public TableElementList (hydra.langs.sql.ansi.TableElement first, java.util.List<hydra.langs.sql.ansi.TableElement> rest) {
     this.first = first;
     this.rest = rest;
@@ -14,16 +16,27 @@ public class TableElementList {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof TableElementList)) {
       return false;
     }
     TableElementList o = (TableElementList) (other);
-    return first.equals(o.first) && rest.equals(o.rest);
+    return hashCode() == o.hashCode() && first.equals(o.first) && rest.equals(o.rest);
   }
   
   @Override
   public int hashCode() {
-    return 2 * first.hashCode() + 3 * rest.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * first.hashCode() + 3 * rest.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public TableElementList withFirst(hydra.langs.sql.ansi.TableElement first) {
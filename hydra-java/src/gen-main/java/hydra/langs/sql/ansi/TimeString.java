@@ -9,6 +9,9 @@ public class TimeString {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof TimeString)) {
       return false;
     }
@@ -9,6 +9,9 @@ public class TimestampLiteral {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof TimestampLiteral)) {
       return false;
     }
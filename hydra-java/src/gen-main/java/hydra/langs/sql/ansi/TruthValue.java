@@ -42,6 +42,9 @@ public abstract class TruthValue {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof TRUE)) {
         return false;
       }
@@ -67,6 +70,9 @@ public abstract class TruthValue {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof FALSE)) {
         return false;
       }
@@ -92,6 +98,9 @@ public abstract class TruthValue {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof UNKNOWN)) {
         return false;
       }
@@ -9,6 +9,9 @@ public class UnicodeCharacterStringLiteral {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof UnicodeCharacterStringLiteral)) {
       return false;
     }
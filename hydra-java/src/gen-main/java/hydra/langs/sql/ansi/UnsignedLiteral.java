@@ -32,22 +32,35 @@ public abstract class UnsignedLiteral {
   public static final class Numeric extends hydra.langs.sql.ansi.UnsignedLiteral {
     public final hydra.langs.sql.ansi.UnsignedNumericLiteral value;
     
+    private int hashCode_;
+    
     public Numeric (hydra.langs.sql.ansi.UnsignedNumericLiteral value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Numeric)) {
         return false;
       }
       Numeric o = (Numeric) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class UnsignedLiteral {
   public static final class General extends hydra.langs.sql.ansi.UnsignedLiteral {
     public final hydra.langs.sql.ansi.GeneralLiteral value;
     
+    private int hashCode_;
+    
     public General (hydra.langs.sql.ansi.GeneralLiteral value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof General)) {
         return false;
       }
       General o = (General) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -32,22 +32,35 @@ public abstract class UnsignedValueSpecification {
   public static final class Literal extends hydra.langs.sql.ansi.UnsignedValueSpecification {
     public final hydra.langs.sql.ansi.UnsignedLiteral value;
     
+    private int hashCode_;
+    
     public Literal (hydra.langs.sql.ansi.UnsignedLiteral value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Literal)) {
         return false;
       }
       Literal o = (Literal) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class UnsignedValueSpecification {
   public static final class General extends hydra.langs.sql.ansi.UnsignedValueSpecification {
     public final hydra.langs.sql.ansi.GeneralValueSpecification value;
     
+    private int hashCode_;
+    
     public General (hydra.langs.sql.ansi.GeneralValueSpecification value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof General)) {
         return false;
       }
       General o = (General) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -38,22 +38,35 @@ public abstract class ValueExpression {
   public static final class Common extends hydra.langs.sql.ansi.ValueExpression {
     public final hydra.langs.sql.ansi.CommonValueExpression value;
     
+    private int hashCode_;
+    
     public Common (hydra.langs.sql.ansi.CommonValueExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Common)) {
         return false;
       }
       Common o = (Common) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -65,22 +78,35 @@ public abstract class ValueExpression {
   public static final class Boolean_ extends hydra.langs.sql.ansi.ValueExpression {
     public final hydra.langs.sql.ansi.BooleanValueExpression value;
     
+    private int hashCode_;
+    
     public Boolean_ (hydra.langs.sql.ansi.BooleanValueExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Boolean_)) {
         return false;
       }
       Boolean_ o = (Boolean_) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -92,22 +118,35 @@ public abstract class ValueExpression {
   public static final class Row extends hydra.langs.sql.ansi.ValueExpression {
     public final hydra.langs.sql.ansi.RowValueExpression value;
     
+    private int hashCode_;
+    
     public Row (hydra.langs.sql.ansi.RowValueExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Row)) {
         return false;
       }
       Row o = (Row) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
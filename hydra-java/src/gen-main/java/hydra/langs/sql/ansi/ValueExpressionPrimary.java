@@ -32,22 +32,35 @@ public abstract class ValueExpressionPrimary {
   public static final class Parens extends hydra.langs.sql.ansi.ValueExpressionPrimary {
     public final hydra.langs.sql.ansi.ParenthesizedValueExpression value;
     
+    private int hashCode_;
+    
     public Parens (hydra.langs.sql.ansi.ParenthesizedValueExpression value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Parens)) {
         return false;
       }
       Parens o = (Parens) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -59,22 +72,35 @@ public abstract class ValueExpressionPrimary {
   public static final class Noparens extends hydra.langs.sql.ansi.ValueExpressionPrimary {
     public final hydra.langs.sql.ansi.NonparenthesizedValueExpressionPrimary value;
     
+    private int hashCode_;
+    
     public Noparens (hydra.langs.sql.ansi.NonparenthesizedValueExpressionPrimary value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Noparens)) {
         return false;
       }
       Noparens o = (Noparens) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -9,6 +9,9 @@ public class WindowFunction {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof WindowFunction)) {
       return false;
     }
@@ -16,6 +16,8 @@ public class Table {
    */
   public final java.util.List<hydra.langs.tabular.DataRow> data;
   
+  private int hashCode_;
+  
   public Table (java.util.Optional<hydra.langs.tabular.HeaderRow> header, java.util.List<hydra.langs.tabular.DataRow> data) {
     this.header = header;
     this.data = data;
@@ -23,16 +25,27 @@ public class Table {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Table)) {
       return false;
     }
     Table o = (Table) (other);
-    return header.equals(o.header) && data.equals(o.data);
+    return hashCode() == o.hashCode() && header.equals(o.header) && data.equals(o.data);
   }
   
   @Override
   public int hashCode() {
-    return 2 * header.hashCode() + 3 * data.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * header.hashCode() + 3 * data.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Table withHeader(java.util.Optional<hydra.langs.tabular.HeaderRow> header) {
@@ -96,6 +96,8 @@ public class DataTypeFeatures {
    */
   public final Boolean supportsUniformListValues;
   
+  private int hashCode_;
+  
   public DataTypeFeatures (Boolean supportsBooleanArrayValues, Boolean supportsBooleanValues, Boolean supportsByteArrayValues, Boolean supportsByteValues, Boolean supportsDoubleArrayValues, Boolean supportsDoubleValues, Boolean supportsFloatArrayValues, Boolean supportsFloatValues, Boolean supportsIntegerArrayValues, Boolean supportsIntegerValues, Boolean supportsLongArrayValues, Boolean supportsLongValues, Boolean supportsMapValues, Boolean supportsMixedListValues, Boolean supportsSerializableValues, Boolean supportsStringArrayValues, Boolean supportsStringValues, Boolean supportsUniformListValues) {
     this.supportsBooleanArrayValues = supportsBooleanArrayValues;
     this.supportsBooleanValues = supportsBooleanValues;
@@ -119,16 +121,27 @@ public class DataTypeFeatures {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof DataTypeFeatures)) {
       return false;
     }
     DataTypeFeatures o = (DataTypeFeatures) (other);
-    return supportsBooleanArrayValues.equals(o.supportsBooleanArrayValues) && supportsBooleanValues.equals(o.supportsBooleanValues) && supportsByteArrayValues.equals(o.supportsByteArrayValues) && supportsByteValues.equals(o.supportsByteValues) && supportsDoubleArrayValues.equals(o.supportsDoubleArrayValues) && supportsDoubleValues.equals(o.supportsDoubleValues) && supportsFloatArrayValues.equals(o.supportsFloatArrayValues) && supportsFloatValues.equals(o.supportsFloatValues) && supportsIntegerArrayValues.equals(o.supportsIntegerArrayValues) && supportsIntegerValues.equals(o.supportsIntegerValues) && supportsLongArrayValues.equals(o.supportsLongArrayValues) && supportsLongValues.equals(o.supportsLongValues) && supportsMapValues.equals(o.supportsMapValues) && supportsMixedListValues.equals(o.supportsMixedListValues) && supportsSerializableValues.equals(o.supportsSerializableValues) && supportsStringArrayValues.equals(o.supportsStringArrayValues) && supportsStringValues.equals(o.supportsStringValues) && supportsUniformListValues.equals(o.supportsUniformListValues);
+    return hashCode() == o.hashCode() && supportsBooleanArrayValues.equals(o.supportsBooleanArrayValues) && supportsBooleanValues.equals(o.supportsBooleanValues) && supportsByteArrayValues.equals(o.supportsByteArrayValues) && supportsByteValues.equals(o.supportsByteValues) && supportsDoubleArrayValues.equals(o.supportsDoubleArrayValues) && supportsDoubleValues.equals(o.supportsDoubleValues) && supportsFloatArrayValues.equals(o.supportsFloatArrayValues) && supportsFloatValues.equals(o.supportsFloatValues) && supportsIntegerArrayValues.equals(o.supportsIntegerArrayValues) && supportsIntegerValues.equals(o.supportsIntegerValues) && supportsLongArrayValues.equals(o.supportsLongArrayValues) && supportsLongValues.equals(o.supportsLongValues) && supportsMapValues.equals(o.supportsMapValues) && supportsMixedListValues.equals(o.supportsMixedListValues) && supportsSerializableValues.equals(o.supportsSerializableValues) && supportsStringArrayValues.equals(o.supportsStringArrayValues) && supportsStringValues.equals(o.supportsStringValues) && supportsUniformListValues.equals(o.supportsUniformListValues);
   }
   
   @Override
   public int hashCode() {
-    return 2 * supportsBooleanArrayValues.hashCode() + 3 * supportsBooleanValues.hashCode() + 5 * supportsByteArrayValues.hashCode() + 7 * supportsByteValues.hashCode() + 11 * supportsDoubleArrayValues.hashCode() + 13 * supportsDoubleValues.hashCode() + 17 * supportsFloatArrayValues.hashCode() + 19 * supportsFloatValues.hashCode() + 23 * supportsIntegerArrayValues.hashCode() + 29 * supportsIntegerValues.hashCode() + 31 * supportsLongArrayValues.hashCode() + 37 * supportsLongValues.hashCode() + 41 * supportsMapValues.hashCode() + 43 * supportsMixedListValues.hashCode() + 47 * supportsSerializableValues.hashCode() + 53 * supportsStringArrayValues.hashCode() + 59 * supportsStringValues.hashCode() + 61 * supportsUniformListValues.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * supportsBooleanArrayValues.hashCode() + 3 * supportsBooleanValues.hashCode() + 5 * supportsByteArrayValues.hashCode() + 7 * supportsByteValues.hashCode() + 11 * supportsDoubleArrayValues.hashCode() + 13 * supportsDoubleValues.hashCode() + 17 * supportsFloatArrayValues.hashCode() + 19 * supportsFloatValues.hashCode() + 23 * supportsIntegerArrayValues.hashCode() + 29 * supportsIntegerValues.hashCode() + 31 * supportsLongArrayValues.hashCode() + 37 * supportsLongValues.hashCode() + 41 * supportsMapValues.hashCode() + 43 * supportsMixedListValues.hashCode() + 47 * supportsSerializableValues.hashCode() + 53 * supportsStringArrayValues.hashCode() + 59 * supportsStringValues.hashCode() + 61 * supportsUniformListValues.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public DataTypeFeatures withSupportsBooleanArrayValues(Boolean supportsBooleanArrayValues) {
@@ -8,21 +8,34 @@ public class EdgePropertyFeatures {
   
   public final hydra.langs.tinkerpop.features.PropertyFeatures propertyFeatures;
   
+  private int hashCode_;
+  
   public EdgePropertyFeatures (hydra.langs.tinkerpop.features.PropertyFeatures propertyFeatures) {
     this.propertyFeatures = propertyFeatures;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof EdgePropertyFeatures)) {
       return false;
     }
     EdgePropertyFeatures o = (EdgePropertyFeatures) (other);
-    return propertyFeatures.equals(o.propertyFeatures);
+    return hashCode() == o.hashCode() && propertyFeatures.equals(o.propertyFeatures);
   }
   
   @Override
   public int hashCode() {
-    return 2 * propertyFeatures.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * propertyFeatures.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
@@ -8,21 +8,34 @@ public class ExtraFeatures<A> {
   
   public final java.util.function.Function<hydra.core.Type<A>, Boolean> supportsMapKey;
   
+  private int hashCode_;
+  
   public ExtraFeatures (java.util.function.Function<hydra.core.Type<A>, Boolean> supportsMapKey) {
     this.supportsMapKey = supportsMapKey;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ExtraFeatures)) {
       return false;
     }
     ExtraFeatures o = (ExtraFeatures) (other);
-    return supportsMapKey.equals(o.supportsMapKey);
+    return hashCode() == o.hashCode() && supportsMapKey.equals(o.supportsMapKey);
   }
   
   @Override
   public int hashCode() {
-    return 2 * supportsMapKey.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * supportsMapKey.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
@@ -23,6 +23,8 @@ public class Features {
    */
   public final hydra.langs.tinkerpop.features.VertexFeatures vertex;
   
+  private int hashCode_;
+  
   public Features (hydra.langs.tinkerpop.features.EdgeFeatures edge, hydra.langs.tinkerpop.features.GraphFeatures graph, hydra.langs.tinkerpop.features.VertexFeatures vertex) {
     this.edge = edge;
     this.graph = graph;
@@ -31,16 +33,27 @@ public class Features {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Features)) {
       return false;
     }
     Features o = (Features) (other);
-    return edge.equals(o.edge) && graph.equals(o.graph) && vertex.equals(o.vertex);
+    return hashCode() == o.hashCode() && edge.equals(o.edge) && graph.equals(o.graph) && vertex.equals(o.vertex);
   }
   
   @Override
   public int hashCode() {
-    return 2 * edge.hashCode() + 3 * graph.hashCode() + 5 * vertex.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * edge.hashCode() + 3 * graph.hashCode() + 5 * vertex.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Features withEdge(hydra.langs.tinkerpop.features.EdgeFeatures edge) {
@@ -13,6 +13,8 @@ public class PropertyFeatures {
    */
   public final Boolean supportsProperties;
   
+  private int hashCode_;
+  
   public PropertyFeatures (hydra.langs.tinkerpop.features.DataTypeFeatures dataTypeFeatures, Boolean supportsProperties) {
     this.dataTypeFeatures = dataTypeFeatures;
     this.supportsProperties = supportsProperties;
@@ -20,16 +22,27 @@ public class PropertyFeatures {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof PropertyFeatures)) {
       return false;
     }
     PropertyFeatures o = (PropertyFeatures) (other);
-    return dataTypeFeatures.equals(o.dataTypeFeatures) && supportsProperties.equals(o.supportsProperties);
+    return hashCode() == o.hashCode() && dataTypeFeatures.equals(o.dataTypeFeatures) && supportsProperties.equals(o.supportsProperties);
   }
   
   @Override
   public int hashCode() {
-    return 2 * dataTypeFeatures.hashCode() + 3 * supportsProperties.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * dataTypeFeatures.hashCode() + 3 * supportsProperties.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public PropertyFeatures withDataTypeFeatures(hydra.langs.tinkerpop.features.DataTypeFeatures dataTypeFeatures) {
@@ -13,6 +13,8 @@ public class VariableFeatures {
    */
   public final Boolean supportsVariables;
   
+  private int hashCode_;
+  
   public VariableFeatures (hydra.langs.tinkerpop.features.DataTypeFeatures dataTypeFeatures, Boolean supportsVariables) {
     this.dataTypeFeatures = dataTypeFeatures;
     this.supportsVariables = supportsVariables;
@@ -20,16 +22,27 @@ public class VariableFeatures {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof VariableFeatures)) {
       return false;
     }
     VariableFeatures o = (VariableFeatures) (other);
-    return dataTypeFeatures.equals(o.dataTypeFeatures) && supportsVariables.equals(o.supportsVariables);
+    return hashCode() == o.hashCode() && dataTypeFeatures.equals(o.dataTypeFeatures) && supportsVariables.equals(o.supportsVariables);
   }
   
   @Override
   public int hashCode() {
-    return 2 * dataTypeFeatures.hashCode() + 3 * supportsVariables.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * dataTypeFeatures.hashCode() + 3 * supportsVariables.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public VariableFeatures withDataTypeFeatures(hydra.langs.tinkerpop.features.DataTypeFeatures dataTypeFeatures) {
@@ -17,6 +17,8 @@ public class VertexPropertyFeatures {
    */
   public final Boolean supportsRemove;
   
+  private int hashCode_;
+  
   public VertexPropertyFeatures (hydra.langs.tinkerpop.features.DataTypeFeatures dataTypeFeatures, hydra.langs.tinkerpop.features.PropertyFeatures propertyFeatures, hydra.langs.tinkerpop.features.ElementFeatures elementFeatures, Boolean supportsRemove) {
     this.dataTypeFeatures = dataTypeFeatures;
     this.propertyFeatures = propertyFeatures;
@@ -26,16 +28,27 @@ public class VertexPropertyFeatures {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof VertexPropertyFeatures)) {
       return false;
     }
     VertexPropertyFeatures o = (VertexPropertyFeatures) (other);
-    return dataTypeFeatures.equals(o.dataTypeFeatures) && propertyFeatures.equals(o.propertyFeatures) && elementFeatures.equals(o.elementFeatures) && supportsRemove.equals(o.supportsRemove);
+    return hashCode() == o.hashCode() && dataTypeFeatures.equals(o.dataTypeFeatures) && propertyFeatures.equals(o.propertyFeatures) && elementFeatures.equals(o.elementFeatures) && supportsRemove.equals(o.supportsRemove);
   }
   
   @Override
   public int hashCode() {
-    return 2 * dataTypeFeatures.hashCode() + 3 * propertyFeatures.hashCode() + 5 * elementFeatures.hashCode() + 7 * supportsRemove.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * dataTypeFeatures.hashCode() + 3 * propertyFeatures.hashCode() + 5 * elementFeatures.hashCode() + 7 * supportsRemove.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public VertexPropertyFeatures withDataTypeFeatures(hydra.langs.tinkerpop.features.DataTypeFeatures dataTypeFeatures) {
@@ -36,6 +36,8 @@ public class AnnotationSchema {
   
   public final String ignore;
   
+  private int hashCode_;
+  
   public AnnotationSchema (String vertexLabel, String edgeLabel, String vertexId, String edgeId, String propertyKey, String propertyValue, String outVertex, String outVertexLabel, String inVertex, String inVertexLabel, String outEdge, String outEdgeLabel, String inEdge, String inEdgeLabel, String ignore) {
     this.vertexLabel = vertexLabel;
     this.edgeLabel = edgeLabel;
@@ -56,16 +58,27 @@ public class AnnotationSchema {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof AnnotationSchema)) {
       return false;
     }
     AnnotationSchema o = (AnnotationSchema) (other);
-    return vertexLabel.equals(o.vertexLabel) && edgeLabel.equals(o.edgeLabel) && vertexId.equals(o.vertexId) && edgeId.equals(o.edgeId) && propertyKey.equals(o.propertyKey) && propertyValue.equals(o.propertyValue) && outVertex.equals(o.outVertex) && outVertexLabel.equals(o.outVertexLabel) && inVertex.equals(o.inVertex) && inVertexLabel.equals(o.inVertexLabel) && outEdge.equals(o.outEdge) && outEdgeLabel.equals(o.outEdgeLabel) && inEdge.equals(o.inEdge) && inEdgeLabel.equals(o.inEdgeLabel) && ignore.equals(o.ignore);
+    return hashCode() == o.hashCode() && vertexLabel.equals(o.vertexLabel) && edgeLabel.equals(o.edgeLabel) && vertexId.equals(o.vertexId) && edgeId.equals(o.edgeId) && propertyKey.equals(o.propertyKey) && propertyValue.equals(o.propertyValue) && outVertex.equals(o.outVertex) && outVertexLabel.equals(o.outVertexLabel) && inVertex.equals(o.inVertex) && inVertexLabel.equals(o.inVertexLabel) && outEdge.equals(o.outEdge) && outEdgeLabel.equals(o.outEdgeLabel) && inEdge.equals(o.inEdge) && inEdgeLabel.equals(o.inEdgeLabel) && ignore.equals(o.ignore);
   }
   
   @Override
   public int hashCode() {
-    return 2 * vertexLabel.hashCode() + 3 * edgeLabel.hashCode() + 5 * vertexId.hashCode() + 7 * edgeId.hashCode() + 11 * propertyKey.hashCode() + 13 * propertyValue.hashCode() + 17 * outVertex.hashCode() + 19 * outVertexLabel.hashCode() + 23 * inVertex.hashCode() + 29 * inVertexLabel.hashCode() + 31 * outEdge.hashCode() + 37 * outEdgeLabel.hashCode() + 41 * inEdge.hashCode() + 43 * inEdgeLabel.hashCode() + 47 * ignore.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * vertexLabel.hashCode() + 3 * edgeLabel.hashCode() + 5 * vertexId.hashCode() + 7 * edgeId.hashCode() + 11 * propertyKey.hashCode() + 13 * propertyValue.hashCode() + 17 * outVertex.hashCode() + 19 * outVertexLabel.hashCode() + 23 * inVertex.hashCode() + 29 * inVertexLabel.hashCode() + 31 * outEdge.hashCode() + 37 * outEdgeLabel.hashCode() + 41 * inEdge.hashCode() + 43 * inEdgeLabel.hashCode() + 47 * ignore.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public AnnotationSchema withVertexLabel(String vertexLabel) {
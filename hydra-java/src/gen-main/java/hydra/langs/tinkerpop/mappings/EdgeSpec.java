@@ -31,6 +31,8 @@ public class EdgeSpec {
    */
   public final java.util.List<hydra.langs.tinkerpop.mappings.PropertySpec> properties;
   
+  private int hashCode_;
+  
   public EdgeSpec (hydra.langs.tinkerpop.propertyGraph.EdgeLabel label, hydra.langs.tinkerpop.mappings.ValueSpec id, hydra.langs.tinkerpop.mappings.ValueSpec out, hydra.langs.tinkerpop.mappings.ValueSpec in, java.util.List<hydra.langs.tinkerpop.mappings.PropertySpec> properties) {
     this.label = label;
     this.id = id;
@@ -41,16 +43,27 @@ public class EdgeSpec {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof EdgeSpec)) {
       return false;
     }
     EdgeSpec o = (EdgeSpec) (other);
-    return label.equals(o.label) && id.equals(o.id) && out.equals(o.out) && in.equals(o.in) && properties.equals(o.properties);
+    return hashCode() == o.hashCode() && label.equals(o.label) && id.equals(o.id) && out.equals(o.out) && in.equals(o.in) && properties.equals(o.properties);
   }
   
   @Override
   public int hashCode() {
-    return 2 * label.hashCode() + 3 * id.hashCode() + 5 * out.hashCode() + 7 * in.hashCode() + 11 * properties.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * label.hashCode() + 3 * id.hashCode() + 5 * out.hashCode() + 7 * in.hashCode() + 11 * properties.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public EdgeSpec withLabel(hydra.langs.tinkerpop.propertyGraph.EdgeLabel label) {
@@ -35,22 +35,35 @@ public abstract class ElementSpec {
   public static final class Vertex extends hydra.langs.tinkerpop.mappings.ElementSpec {
     public final hydra.langs.tinkerpop.mappings.VertexSpec value;
     
+    private int hashCode_;
+    
     public Vertex (hydra.langs.tinkerpop.mappings.VertexSpec value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Vertex)) {
         return false;
       }
       Vertex o = (Vertex) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -62,22 +75,35 @@ public abstract class ElementSpec {
   public static final class Edge extends hydra.langs.tinkerpop.mappings.ElementSpec {
     public final hydra.langs.tinkerpop.mappings.EdgeSpec value;
     
+    private int hashCode_;
+    
     public Edge (hydra.langs.tinkerpop.mappings.EdgeSpec value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Edge)) {
         return false;
       }
       Edge o = (Edge) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -16,6 +16,8 @@ public class PropertySpec {
    */
   public final hydra.langs.tinkerpop.mappings.ValueSpec value;
   
+  private int hashCode_;
+  
   public PropertySpec (hydra.langs.tinkerpop.propertyGraph.PropertyKey key, hydra.langs.tinkerpop.mappings.ValueSpec value) {
     this.key = key;
     this.value = value;
@@ -23,16 +25,27 @@ public class PropertySpec {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof PropertySpec)) {
       return false;
     }
     PropertySpec o = (PropertySpec) (other);
-    return key.equals(o.key) && value.equals(o.value);
+    return hashCode() == o.hashCode() && key.equals(o.key) && value.equals(o.value);
   }
   
   @Override
   public int hashCode() {
-    return 2 * key.hashCode() + 3 * value.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * key.hashCode() + 3 * value.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public PropertySpec withKey(hydra.langs.tinkerpop.propertyGraph.PropertyKey key) {
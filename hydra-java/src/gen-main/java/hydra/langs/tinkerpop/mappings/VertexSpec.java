@@ -21,6 +21,8 @@ public class VertexSpec {
    */
   public final java.util.List<hydra.langs.tinkerpop.mappings.PropertySpec> properties;
   
+  private int hashCode_;
+  
   public VertexSpec (hydra.langs.tinkerpop.propertyGraph.VertexLabel label, hydra.langs.tinkerpop.mappings.ValueSpec id, java.util.List<hydra.langs.tinkerpop.mappings.PropertySpec> properties) {
     this.label = label;
     this.id = id;
@@ -29,16 +31,27 @@ public class VertexSpec {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof VertexSpec)) {
       return false;
     }
     VertexSpec o = (VertexSpec) (other);
-    return label.equals(o.label) && id.equals(o.id) && properties.equals(o.properties);
+    return hashCode() == o.hashCode() && label.equals(o.label) && id.equals(o.id) && properties.equals(o.properties);
   }
   
   @Override
   public int hashCode() {
-    return 2 * label.hashCode() + 3 * id.hashCode() + 5 * properties.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * label.hashCode() + 3 * id.hashCode() + 5 * properties.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public VertexSpec withLabel(hydra.langs.tinkerpop.propertyGraph.VertexLabel label) {
@@ -45,6 +45,9 @@ public abstract class Direction {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Out)) {
         return false;
       }
@@ -70,6 +73,9 @@ public abstract class Direction {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof In)) {
         return false;
       }
@@ -95,6 +101,9 @@ public abstract class Direction {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Both)) {
         return false;
       }
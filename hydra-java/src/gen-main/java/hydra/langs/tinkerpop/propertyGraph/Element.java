@@ -35,22 +35,35 @@ public abstract class Element<V> {
   public static final class Vertex<V> extends hydra.langs.tinkerpop.propertyGraph.Element<V> {
     public final hydra.langs.tinkerpop.propertyGraph.Vertex<V> value;
     
+    private int hashCode_;
+    
     public Vertex (hydra.langs.tinkerpop.propertyGraph.Vertex<V> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Vertex)) {
         return false;
       }
       Vertex o = (Vertex) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -62,22 +75,35 @@ public abstract class Element<V> {
   public static final class Edge<V> extends hydra.langs.tinkerpop.propertyGraph.Element<V> {
     public final hydra.langs.tinkerpop.propertyGraph.Edge<V> value;
     
+    private int hashCode_;
+    
     public Edge (hydra.langs.tinkerpop.propertyGraph.Edge<V> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Edge)) {
         return false;
       }
       Edge o = (Edge) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -39,6 +39,9 @@ public abstract class ElementKind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Vertex)) {
         return false;
       }
@@ -64,6 +67,9 @@ public abstract class ElementKind {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Edge)) {
         return false;
       }
@@ -10,6 +10,8 @@ public class ElementTree<V> {
   
   public final java.util.List<hydra.langs.tinkerpop.propertyGraph.ElementTree<V>> dependencies;
   
+  private int hashCode_;
+  
   public ElementTree (hydra.langs.tinkerpop.propertyGraph.Element<V> self, java.util.List<hydra.langs.tinkerpop.propertyGraph.ElementTree<V>> dependencies) {
     this.self = self;
     this.dependencies = dependencies;
@@ -17,16 +19,27 @@ public class ElementTree<V> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ElementTree)) {
       return false;
     }
     ElementTree o = (ElementTree) (other);
-    return self.equals(o.self) && dependencies.equals(o.dependencies);
+    return hashCode() == o.hashCode() && self.equals(o.self) && dependencies.equals(o.dependencies);
   }
   
   @Override
   public int hashCode() {
-    return 2 * self.hashCode() + 3 * dependencies.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * self.hashCode() + 3 * dependencies.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ElementTree withSelf(hydra.langs.tinkerpop.propertyGraph.Element<V> self) {
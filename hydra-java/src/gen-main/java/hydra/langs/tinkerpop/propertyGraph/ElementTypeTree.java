@@ -10,6 +10,8 @@ public class ElementTypeTree<T> {
   
   public final java.util.List<hydra.langs.tinkerpop.propertyGraph.ElementTypeTree<T>> dependencies;
   
+  private int hashCode_;
+  
   public ElementTypeTree (hydra.langs.tinkerpop.propertyGraph.ElementType<T> self, java.util.List<hydra.langs.tinkerpop.propertyGraph.ElementTypeTree<T>> dependencies) {
     this.self = self;
     this.dependencies = dependencies;
@@ -17,16 +19,27 @@ public class ElementTypeTree<T> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ElementTypeTree)) {
       return false;
     }
     ElementTypeTree o = (ElementTypeTree) (other);
-    return self.equals(o.self) && dependencies.equals(o.dependencies);
+    return hashCode() == o.hashCode() && self.equals(o.self) && dependencies.equals(o.dependencies);
   }
   
   @Override
   public int hashCode() {
-    return 2 * self.hashCode() + 3 * dependencies.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * self.hashCode() + 3 * dependencies.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public ElementTypeTree withSelf(hydra.langs.tinkerpop.propertyGraph.ElementType<T> self) {
@@ -10,6 +10,8 @@ public class Graph<V> {
   
   public final java.util.Map<V, hydra.langs.tinkerpop.propertyGraph.Edge<V>> edges;
   
+  private int hashCode_;
+  
   public Graph (java.util.Map<V, hydra.langs.tinkerpop.propertyGraph.Vertex<V>> vertices, java.util.Map<V, hydra.langs.tinkerpop.propertyGraph.Edge<V>> edges) {
     this.vertices = vertices;
     this.edges = edges;
@@ -17,16 +19,27 @@ public class Graph<V> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Graph)) {
       return false;
     }
     Graph o = (Graph) (other);
-    return vertices.equals(o.vertices) && edges.equals(o.edges);
+    return hashCode() == o.hashCode() && vertices.equals(o.vertices) && edges.equals(o.edges);
   }
   
   @Override
   public int hashCode() {
-    return 2 * vertices.hashCode() + 3 * edges.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * vertices.hashCode() + 3 * edges.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Graph withVertices(java.util.Map<V, hydra.langs.tinkerpop.propertyGraph.Vertex<V>> vertices) {
@@ -16,6 +16,8 @@ public class GraphSchema<T> {
    */
   public final java.util.Map<hydra.langs.tinkerpop.propertyGraph.EdgeLabel, hydra.langs.tinkerpop.propertyGraph.EdgeType<T>> edges;
   
+  private int hashCode_;
+  
   public GraphSchema (java.util.Map<hydra.langs.tinkerpop.propertyGraph.VertexLabel, hydra.langs.tinkerpop.propertyGraph.VertexType<T>> vertices, java.util.Map<hydra.langs.tinkerpop.propertyGraph.EdgeLabel, hydra.langs.tinkerpop.propertyGraph.EdgeType<T>> edges) {
     this.vertices = vertices;
     this.edges = edges;
@@ -23,16 +25,27 @@ public class GraphSchema<T> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof GraphSchema)) {
       return false;
     }
     GraphSchema o = (GraphSchema) (other);
-    return vertices.equals(o.vertices) && edges.equals(o.edges);
+    return hashCode() == o.hashCode() && vertices.equals(o.vertices) && edges.equals(o.edges);
   }
   
   @Override
   public int hashCode() {
-    return 2 * vertices.hashCode() + 3 * edges.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * vertices.hashCode() + 3 * edges.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public GraphSchema withVertices(java.util.Map<hydra.langs.tinkerpop.propertyGraph.VertexLabel, hydra.langs.tinkerpop.propertyGraph.VertexType<T>> vertices) {
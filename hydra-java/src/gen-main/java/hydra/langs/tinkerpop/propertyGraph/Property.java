@@ -16,6 +16,8 @@ public class Property<V> {
    */
   public final V value;
   
+  private int hashCode_;
+  
   public Property (hydra.langs.tinkerpop.propertyGraph.PropertyKey key, V value) {
     this.key = key;
     this.value = value;
@@ -23,16 +25,27 @@ public class Property<V> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Property)) {
       return false;
     }
     Property o = (Property) (other);
-    return key.equals(o.key) && value.equals(o.value);
+    return hashCode() == o.hashCode() && key.equals(o.key) && value.equals(o.value);
   }
   
   @Override
   public int hashCode() {
-    return 2 * key.hashCode() + 3 * value.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * key.hashCode() + 3 * value.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Property withKey(hydra.langs.tinkerpop.propertyGraph.PropertyKey key) {
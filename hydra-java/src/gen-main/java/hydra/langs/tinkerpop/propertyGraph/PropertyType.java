@@ -16,6 +16,8 @@ public class PropertyType<T> {
    */
   public final T value;
   
+  private int hashCode_;
+  
   public PropertyType (hydra.langs.tinkerpop.propertyGraph.PropertyKey key, T value) {
     this.key = key;
     this.value = value;
@@ -23,16 +25,27 @@ public class PropertyType<T> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof PropertyType)) {
       return false;
     }
     PropertyType o = (PropertyType) (other);
-    return key.equals(o.key) && value.equals(o.value);
+    return hashCode() == o.hashCode() && key.equals(o.key) && value.equals(o.value);
   }
   
   @Override
   public int hashCode() {
-    return 2 * key.hashCode() + 3 * value.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * key.hashCode() + 3 * value.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public PropertyType withKey(hydra.langs.tinkerpop.propertyGraph.PropertyKey key) {
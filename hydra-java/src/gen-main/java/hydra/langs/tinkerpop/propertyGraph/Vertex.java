@@ -21,6 +21,8 @@ public class Vertex<V> {
    */
   public final java.util.Map<hydra.langs.tinkerpop.propertyGraph.PropertyKey, V> properties;
   
+  private int hashCode_;
+  
   public Vertex (hydra.langs.tinkerpop.propertyGraph.VertexLabel label, V id, java.util.Map<hydra.langs.tinkerpop.propertyGraph.PropertyKey, V> properties) {
     this.label = label;
     this.id = id;
@@ -29,16 +31,27 @@ public class Vertex<V> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Vertex)) {
       return false;
     }
     Vertex o = (Vertex) (other);
-    return label.equals(o.label) && id.equals(o.id) && properties.equals(o.properties);
+    return hashCode() == o.hashCode() && label.equals(o.label) && id.equals(o.id) && properties.equals(o.properties);
   }
   
   @Override
   public int hashCode() {
-    return 2 * label.hashCode() + 3 * id.hashCode() + 5 * properties.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * label.hashCode() + 3 * id.hashCode() + 5 * properties.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Vertex withLabel(hydra.langs.tinkerpop.propertyGraph.VertexLabel label) {
@@ -12,6 +12,9 @@ public class ConstrainingFacet {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof ConstrainingFacet)) {
       return false;
     }
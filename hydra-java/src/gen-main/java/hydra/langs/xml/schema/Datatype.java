@@ -288,6 +288,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof AnySimpleType)) {
         return false;
       }
@@ -313,6 +316,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof AnyType)) {
         return false;
       }
@@ -338,6 +344,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof AnyURI)) {
         return false;
       }
@@ -363,6 +372,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Base64Binary)) {
         return false;
       }
@@ -388,6 +400,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Boolean_)) {
         return false;
       }
@@ -413,6 +428,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Byte_)) {
         return false;
       }
@@ -438,6 +456,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Date)) {
         return false;
       }
@@ -463,6 +484,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof DateTime)) {
         return false;
       }
@@ -488,6 +512,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Decimal)) {
         return false;
       }
@@ -513,6 +540,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Double_)) {
         return false;
       }
@@ -538,6 +568,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Duration)) {
         return false;
       }
@@ -563,6 +596,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ENTITIES)) {
         return false;
       }
@@ -588,6 +624,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ENTITY)) {
         return false;
       }
@@ -613,6 +652,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Float_)) {
         return false;
       }
@@ -638,6 +680,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof GDay)) {
         return false;
       }
@@ -663,6 +708,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof GMonth)) {
         return false;
       }
@@ -688,6 +736,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof GMonthDay)) {
         return false;
       }
@@ -713,6 +764,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof GYear)) {
         return false;
       }
@@ -738,6 +792,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof GYearMonth)) {
         return false;
       }
@@ -763,6 +820,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof HexBinary)) {
         return false;
       }
@@ -788,6 +848,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ID)) {
         return false;
       }
@@ -813,6 +876,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof IDREF)) {
         return false;
       }
@@ -838,6 +904,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof IDREFS)) {
         return false;
       }
@@ -863,6 +932,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Int)) {
         return false;
       }
@@ -888,6 +960,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Integer_)) {
         return false;
       }
@@ -913,6 +988,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Language)) {
         return false;
       }
@@ -938,6 +1016,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Long_)) {
         return false;
       }
@@ -963,6 +1044,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof NMTOKEN)) {
         return false;
       }
@@ -988,6 +1072,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof NOTATION)) {
         return false;
       }
@@ -1013,6 +1100,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Name)) {
         return false;
       }
@@ -1038,6 +1128,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof NegativeInteger)) {
         return false;
       }
@@ -1063,6 +1156,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof NonNegativeInteger)) {
         return false;
       }
@@ -1088,6 +1184,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof NonPositiveInteger)) {
         return false;
       }
@@ -1113,6 +1212,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof NormalizedString)) {
         return false;
       }
@@ -1138,6 +1240,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof PositiveInteger)) {
         return false;
       }
@@ -1163,6 +1268,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof QName)) {
         return false;
       }
@@ -1188,6 +1296,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Short_)) {
         return false;
       }
@@ -1213,6 +1324,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof String_)) {
         return false;
       }
@@ -1238,6 +1352,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Time)) {
         return false;
       }
@@ -1263,6 +1380,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Token)) {
         return false;
       }
@@ -1288,6 +1408,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof UnsignedByte)) {
         return false;
       }
@@ -1313,6 +1436,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof UnsignedInt)) {
         return false;
       }
@@ -1338,6 +1464,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof UnsignedLong)) {
         return false;
       }
@@ -1363,6 +1492,9 @@ public abstract class Datatype {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof UnsignedShort)) {
         return false;
       }
@@ -41,22 +41,35 @@ public abstract class Node {
   public static final class Mapping extends hydra.langs.yaml.model.Node {
     public final java.util.Map<hydra.langs.yaml.model.Node, hydra.langs.yaml.model.Node> value;
     
+    private int hashCode_;
+    
     public Mapping (java.util.Map<hydra.langs.yaml.model.Node, hydra.langs.yaml.model.Node> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Mapping)) {
         return false;
       }
       Mapping o = (Mapping) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -68,22 +81,35 @@ public abstract class Node {
   public static final class Scalar extends hydra.langs.yaml.model.Node {
     public final hydra.langs.yaml.model.Scalar value;
     
+    private int hashCode_;
+    
     public Scalar (hydra.langs.yaml.model.Scalar value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Scalar)) {
         return false;
       }
       Scalar o = (Scalar) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -95,22 +121,35 @@ public abstract class Node {
   public static final class Sequence extends hydra.langs.yaml.model.Node {
     public final java.util.List<hydra.langs.yaml.model.Node> value;
     
+    private int hashCode_;
+    
     public Sequence (java.util.List<hydra.langs.yaml.model.Node> value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Sequence)) {
         return false;
       }
       Sequence o = (Sequence) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -57,6 +57,9 @@ public abstract class EliminationVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof List)) {
         return false;
       }
@@ -82,6 +85,9 @@ public abstract class EliminationVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Optional)) {
         return false;
       }
@@ -107,6 +113,9 @@ public abstract class EliminationVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Record)) {
         return false;
       }
@@ -132,6 +141,9 @@ public abstract class EliminationVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Union)) {
         return false;
       }
@@ -157,6 +169,9 @@ public abstract class EliminationVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Wrap)) {
         return false;
       }
@@ -45,6 +45,9 @@ public abstract class FunctionVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Elimination)) {
         return false;
       }
@@ -70,6 +73,9 @@ public abstract class FunctionVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Lambda)) {
         return false;
       }
@@ -95,6 +101,9 @@ public abstract class FunctionVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Primitive)) {
         return false;
       }
@@ -57,6 +57,9 @@ public abstract class LiteralVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Binary)) {
         return false;
       }
@@ -82,6 +85,9 @@ public abstract class LiteralVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Boolean_)) {
         return false;
       }
@@ -107,6 +113,9 @@ public abstract class LiteralVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Float_)) {
         return false;
       }
@@ -132,6 +141,9 @@ public abstract class LiteralVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Integer_)) {
         return false;
       }
@@ -157,6 +169,9 @@ public abstract class LiteralVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof String_)) {
         return false;
       }
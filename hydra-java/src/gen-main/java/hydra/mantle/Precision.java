@@ -39,6 +39,9 @@ public abstract class Precision {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Arbitrary)) {
         return false;
       }
@@ -60,22 +63,35 @@ public abstract class Precision {
   public static final class Bits extends hydra.mantle.Precision {
     public final Integer value;
     
+    private int hashCode_;
+    
     public Bits (Integer value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Bits)) {
         return false;
       }
       Bits o = (Bits) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -10,6 +10,8 @@ public class TypeScheme<A> {
   
   public final hydra.core.Type<A> type;
   
+  private int hashCode_;
+  
   public TypeScheme (java.util.List<hydra.core.Name> variables, hydra.core.Type<A> type) {
     this.variables = variables;
     this.type = type;
@@ -17,16 +19,27 @@ public class TypeScheme<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof TypeScheme)) {
       return false;
     }
     TypeScheme o = (TypeScheme) (other);
-    return variables.equals(o.variables) && type.equals(o.type);
+    return hashCode() == o.hashCode() && variables.equals(o.variables) && type.equals(o.type);
   }
   
   @Override
   public int hashCode() {
-    return 2 * variables.hashCode() + 3 * type.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * variables.hashCode() + 3 * type.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public TypeScheme withVariables(java.util.List<hydra.core.Name> variables) {
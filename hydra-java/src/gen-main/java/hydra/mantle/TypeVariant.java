@@ -123,6 +123,9 @@ public abstract class TypeVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Annotated)) {
         return false;
       }
@@ -148,6 +151,9 @@ public abstract class TypeVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Application)) {
         return false;
       }
@@ -173,6 +179,9 @@ public abstract class TypeVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Function)) {
         return false;
       }
@@ -198,6 +207,9 @@ public abstract class TypeVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Lambda)) {
         return false;
       }
@@ -223,6 +235,9 @@ public abstract class TypeVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof List)) {
         return false;
       }
@@ -248,6 +263,9 @@ public abstract class TypeVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Literal)) {
         return false;
       }
@@ -273,6 +291,9 @@ public abstract class TypeVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Map)) {
         return false;
       }
@@ -298,6 +319,9 @@ public abstract class TypeVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Optional)) {
         return false;
       }
@@ -323,6 +347,9 @@ public abstract class TypeVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Product)) {
         return false;
       }
@@ -348,6 +375,9 @@ public abstract class TypeVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Record)) {
         return false;
       }
@@ -373,6 +403,9 @@ public abstract class TypeVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Set)) {
         return false;
       }
@@ -398,6 +431,9 @@ public abstract class TypeVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Stream)) {
         return false;
       }
@@ -423,6 +459,9 @@ public abstract class TypeVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Sum)) {
         return false;
       }
@@ -448,6 +487,9 @@ public abstract class TypeVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Union)) {
         return false;
       }
@@ -473,6 +515,9 @@ public abstract class TypeVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Variable)) {
         return false;
       }
@@ -498,6 +543,9 @@ public abstract class TypeVariant {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Wrap)) {
         return false;
       }
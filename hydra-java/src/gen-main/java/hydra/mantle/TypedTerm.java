@@ -10,6 +10,8 @@ public class TypedTerm<A> {
   
   public final hydra.core.Term<A> term;
   
+  private int hashCode_;
+  
   public TypedTerm (hydra.core.Type<A> type, hydra.core.Term<A> term) {
     this.type = type;
     this.term = term;
@@ -17,16 +19,27 @@ public class TypedTerm<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof TypedTerm)) {
       return false;
     }
     TypedTerm o = (TypedTerm) (other);
-    return type.equals(o.type) && term.equals(o.term);
+    return hashCode() == o.hashCode() && type.equals(o.type) && term.equals(o.term);
   }
   
   @Override
   public int hashCode() {
-    return 2 * type.hashCode() + 3 * term.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * type.hashCode() + 3 * term.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public TypedTerm withType(hydra.core.Type<A> type) {
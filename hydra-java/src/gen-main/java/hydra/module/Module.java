@@ -26,6 +26,8 @@ public class Module<A> {
    */
   public final java.util.Optional<String> description;
   
+  private int hashCode_;
+  
   public Module (hydra.module.Namespace namespace, java.util.List<hydra.graph.Element<A>> elements, java.util.List<hydra.module.Module<A>> dependencies, java.util.Optional<String> description) {
     this.namespace = namespace;
     this.elements = elements;
@@ -35,16 +37,27 @@ public class Module<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Module)) {
       return false;
     }
     Module o = (Module) (other);
-    return namespace.equals(o.namespace) && elements.equals(o.elements) && dependencies.equals(o.dependencies) && description.equals(o.description);
+    return hashCode() == o.hashCode() && namespace.equals(o.namespace) && elements.equals(o.elements) && dependencies.equals(o.dependencies) && description.equals(o.description);
   }
   
   @Override
   public int hashCode() {
-    return 2 * namespace.hashCode() + 3 * elements.hashCode() + 5 * dependencies.hashCode() + 7 * description.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * namespace.hashCode() + 3 * elements.hashCode() + 5 * dependencies.hashCode() + 7 * description.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Module withNamespace(hydra.module.Namespace namespace) {
@@ -10,6 +10,8 @@ public class QualifiedName {
   
   public final String local;
   
+  private int hashCode_;
+  
   public QualifiedName (java.util.Optional<hydra.module.Namespace> namespace, String local) {
     this.namespace = namespace;
     this.local = local;
@@ -17,16 +19,27 @@ public class QualifiedName {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof QualifiedName)) {
       return false;
     }
     QualifiedName o = (QualifiedName) (other);
-    return namespace.equals(o.namespace) && local.equals(o.local);
+    return hashCode() == o.hashCode() && namespace.equals(o.namespace) && local.equals(o.local);
   }
   
   @Override
   public int hashCode() {
-    return 2 * namespace.hashCode() + 3 * local.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * namespace.hashCode() + 3 * local.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public QualifiedName withNamespace(java.util.Optional<hydra.module.Namespace> namespace) {
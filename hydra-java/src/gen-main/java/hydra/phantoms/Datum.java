@@ -8,21 +8,34 @@ public class Datum<A> {
   
   public final hydra.core.Term<hydra.compute.Kv> value;
   
+  private int hashCode_;
+  
   public Datum (hydra.core.Term<hydra.compute.Kv> value) {
     this.value = value;
   }
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Datum)) {
       return false;
     }
     Datum o = (Datum) (other);
-    return value.equals(o.value);
+    return hashCode() == o.hashCode() && value.equals(o.value);
   }
   
   @Override
   public int hashCode() {
-    return 2 * value.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * value.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
 }
\ No newline at end of file
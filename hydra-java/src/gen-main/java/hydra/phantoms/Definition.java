@@ -10,6 +10,8 @@ public class Definition<A> {
   
   public final hydra.phantoms.Datum<A> datum;
   
+  private int hashCode_;
+  
   public Definition (hydra.core.Name name, hydra.phantoms.Datum<A> datum) {
     this.name = name;
     this.datum = datum;
@@ -17,16 +19,27 @@ public class Definition<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Definition)) {
       return false;
     }
     Definition o = (Definition) (other);
-    return name.equals(o.name) && datum.equals(o.datum);
+    return hashCode() == o.hashCode() && name.equals(o.name) && datum.equals(o.datum);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * datum.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * datum.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Definition withName(hydra.core.Name name) {
@@ -12,6 +12,9 @@ public class Reference<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Reference)) {
       return false;
     }
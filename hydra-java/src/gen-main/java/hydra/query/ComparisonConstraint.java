@@ -63,6 +63,9 @@ public abstract class ComparisonConstraint {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Equal)) {
         return false;
       }
@@ -88,6 +91,9 @@ public abstract class ComparisonConstraint {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof NotEqual)) {
         return false;
       }
@@ -113,6 +119,9 @@ public abstract class ComparisonConstraint {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof LessThan)) {
         return false;
       }
@@ -138,6 +147,9 @@ public abstract class ComparisonConstraint {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof GreaterThan)) {
         return false;
       }
@@ -163,6 +175,9 @@ public abstract class ComparisonConstraint {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof LessThanOrEqual)) {
         return false;
       }
@@ -188,6 +203,9 @@ public abstract class ComparisonConstraint {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof GreaterThanOrEqual)) {
         return false;
       }
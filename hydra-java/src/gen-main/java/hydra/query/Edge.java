@@ -21,6 +21,8 @@ public class Edge {
    */
   public final java.util.Optional<hydra.core.FieldName> in;
   
+  private int hashCode_;
+  
   public Edge (hydra.core.Name type, java.util.Optional<hydra.core.FieldName> out, java.util.Optional<hydra.core.FieldName> in) {
     this.type = type;
     this.out = out;
@@ -29,16 +31,27 @@ public class Edge {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Edge)) {
       return false;
     }
     Edge o = (Edge) (other);
-    return type.equals(o.type) && out.equals(o.out) && in.equals(o.in);
+    return hashCode() == o.hashCode() && type.equals(o.type) && out.equals(o.out) && in.equals(o.in);
   }
   
   @Override
   public int hashCode() {
-    return 2 * type.hashCode() + 3 * out.hashCode() + 5 * in.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * type.hashCode() + 3 * out.hashCode() + 5 * in.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Edge withType(hydra.core.Name type) {
@@ -16,6 +16,8 @@ public class GraphPattern<A> {
    */
   public final java.util.List<hydra.query.Pattern<A>> patterns;
   
+  private int hashCode_;
+  
   public GraphPattern (hydra.core.Name graph, java.util.List<hydra.query.Pattern<A>> patterns) {
     this.graph = graph;
     this.patterns = patterns;
@@ -23,16 +25,27 @@ public class GraphPattern<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof GraphPattern)) {
       return false;
     }
     GraphPattern o = (GraphPattern) (other);
-    return graph.equals(o.graph) && patterns.equals(o.patterns);
+    return hashCode() == o.hashCode() && graph.equals(o.graph) && patterns.equals(o.patterns);
   }
   
   @Override
   public int hashCode() {
-    return 2 * graph.hashCode() + 3 * patterns.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * graph.hashCode() + 3 * patterns.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public GraphPattern withGraph(hydra.core.Name graph) {
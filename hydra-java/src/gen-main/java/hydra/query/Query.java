@@ -16,6 +16,8 @@ public class Query<A> {
    */
   public final java.util.List<hydra.query.Pattern<A>> patterns;
   
+  private int hashCode_;
+  
   public Query (java.util.List<hydra.query.Variable> variables, java.util.List<hydra.query.Pattern<A>> patterns) {
     this.variables = variables;
     this.patterns = patterns;
@@ -23,16 +25,27 @@ public class Query<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Query)) {
       return false;
     }
     Query o = (Query) (other);
-    return variables.equals(o.variables) && patterns.equals(o.patterns);
+    return hashCode() == o.hashCode() && variables.equals(o.variables) && patterns.equals(o.patterns);
   }
   
   @Override
   public int hashCode() {
-    return 2 * variables.hashCode() + 3 * patterns.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * variables.hashCode() + 3 * patterns.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Query withVariables(java.util.List<hydra.query.Variable> variables) {
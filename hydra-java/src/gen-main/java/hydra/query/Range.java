@@ -10,6 +10,8 @@ public class Range {
   
   public final Integer max;
   
+  private int hashCode_;
+  
   public Range (Integer min, Integer max) {
     this.min = min;
     this.max = max;
@@ -17,16 +19,27 @@ public class Range {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof Range)) {
       return false;
     }
     Range o = (Range) (other);
-    return min.equals(o.min) && max.equals(o.max);
+    return hashCode() == o.hashCode() && min.equals(o.min) && max.equals(o.max);
   }
   
   @Override
   public int hashCode() {
-    return 2 * min.hashCode() + 3 * max.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * min.hashCode() + 3 * max.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public Range withMin(Integer min) {
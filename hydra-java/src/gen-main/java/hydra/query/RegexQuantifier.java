@@ -72,6 +72,9 @@ public abstract class RegexQuantifier {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof One)) {
         return false;
       }
@@ -100,6 +103,9 @@ public abstract class RegexQuantifier {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ZeroOrOne)) {
         return false;
       }
@@ -128,6 +134,9 @@ public abstract class RegexQuantifier {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof ZeroOrMore)) {
         return false;
       }
@@ -156,6 +165,9 @@ public abstract class RegexQuantifier {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof OneOrMore)) {
         return false;
       }
@@ -183,22 +195,35 @@ public abstract class RegexQuantifier {
      */
     public final Integer value;
     
+    private int hashCode_;
+    
     public Exactly (Integer value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Exactly)) {
         return false;
       }
       Exactly o = (Exactly) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -216,22 +241,35 @@ public abstract class RegexQuantifier {
      */
     public final Integer value;
     
+    private int hashCode_;
+    
     public AtLeast (Integer value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof AtLeast)) {
         return false;
       }
       AtLeast o = (AtLeast) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
@@ -249,22 +287,35 @@ public abstract class RegexQuantifier {
      */
     public final hydra.query.Range value;
     
+    private int hashCode_;
+    
     public Range (hydra.query.Range value) {
       this.value = value;
     }
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Range)) {
         return false;
       }
       Range o = (Range) (other);
-      return value.equals(o.value);
+      return hashCode() == o.hashCode() && value.equals(o.value);
     }
     
     @Override
     public int hashCode() {
-      return 2 * value.hashCode();
+      int hashCode = hashCode_;
+      if (hashCode == 0) {
+        hashCode = 2 * value.hashCode();
+        if (hashCode == 0) {
+          hashCode = 1;
+        }
+        hashCode_ = hashCode;
+      }
+      return hashCode;
     }
     
     @Override
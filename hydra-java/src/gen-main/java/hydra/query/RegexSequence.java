@@ -10,6 +10,8 @@ public class RegexSequence {
   
   public final hydra.query.RegexQuantifier quantifier;
   
+  private int hashCode_;
+  
   public RegexSequence (hydra.query.Path path, hydra.query.RegexQuantifier quantifier) {
     this.path = path;
     this.quantifier = quantifier;
@@ -17,16 +19,27 @@ public class RegexSequence {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof RegexSequence)) {
       return false;
     }
     RegexSequence o = (RegexSequence) (other);
-    return path.equals(o.path) && quantifier.equals(o.quantifier);
+    return hashCode() == o.hashCode() && path.equals(o.path) && quantifier.equals(o.quantifier);
   }
   
   @Override
   public int hashCode() {
-    return 2 * path.hashCode() + 3 * quantifier.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * path.hashCode() + 3 * quantifier.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public RegexSequence withPath(hydra.query.Path path) {
@@ -12,6 +12,8 @@ public class TriplePattern<A> {
   
   public final hydra.query.Node<A> object;
   
+  private int hashCode_;
+  
   public TriplePattern (hydra.query.Node<A> subject, hydra.query.Path predicate, hydra.query.Node<A> object) {
     this.subject = subject;
     this.predicate = predicate;
@@ -20,16 +22,27 @@ public class TriplePattern<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof TriplePattern)) {
       return false;
     }
     TriplePattern o = (TriplePattern) (other);
-    return subject.equals(o.subject) && predicate.equals(o.predicate) && object.equals(o.object);
+    return hashCode() == o.hashCode() && subject.equals(o.subject) && predicate.equals(o.predicate) && object.equals(o.object);
   }
   
   @Override
   public int hashCode() {
-    return 2 * subject.hashCode() + 3 * predicate.hashCode() + 5 * object.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * subject.hashCode() + 3 * predicate.hashCode() + 5 * object.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public TriplePattern withSubject(hydra.query.Node<A> subject) {
@@ -39,6 +39,9 @@ public abstract class EvaluationStyle {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Eager)) {
         return false;
       }
@@ -64,6 +67,9 @@ public abstract class EvaluationStyle {
     
     @Override
     public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
       if (!(other instanceof Lazy)) {
         return false;
       }
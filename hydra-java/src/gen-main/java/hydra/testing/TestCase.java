@@ -14,6 +14,8 @@ public class TestCase<A> {
   
   public final hydra.core.Term<A> output;
   
+  private int hashCode_;
+  
   public TestCase (java.util.Optional<String> description, hydra.testing.EvaluationStyle evaluationStyle, hydra.core.Term<A> input, hydra.core.Term<A> output) {
     this.description = description;
     this.evaluationStyle = evaluationStyle;
@@ -23,16 +25,27 @@ public class TestCase<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof TestCase)) {
       return false;
     }
     TestCase o = (TestCase) (other);
-    return description.equals(o.description) && evaluationStyle.equals(o.evaluationStyle) && input.equals(o.input) && output.equals(o.output);
+    return hashCode() == o.hashCode() && description.equals(o.description) && evaluationStyle.equals(o.evaluationStyle) && input.equals(o.input) && output.equals(o.output);
   }
   
   @Override
   public int hashCode() {
-    return 2 * description.hashCode() + 3 * evaluationStyle.hashCode() + 5 * input.hashCode() + 7 * output.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * description.hashCode() + 3 * evaluationStyle.hashCode() + 5 * input.hashCode() + 7 * output.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public TestCase withDescription(java.util.Optional<String> description) {
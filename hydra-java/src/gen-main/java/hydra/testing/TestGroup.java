@@ -14,6 +14,8 @@ public class TestGroup<A> {
   
   public final java.util.List<hydra.testing.TestCase<A>> cases;
   
+  private int hashCode_;
+  
   public TestGroup (String name, java.util.Optional<String> description, java.util.List<hydra.testing.TestGroup<A>> subgroups, java.util.List<hydra.testing.TestCase<A>> cases) {
     this.name = name;
     this.description = description;
@@ -23,16 +25,27 @@ public class TestGroup<A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof TestGroup)) {
       return false;
     }
     TestGroup o = (TestGroup) (other);
-    return name.equals(o.name) && description.equals(o.description) && subgroups.equals(o.subgroups) && cases.equals(o.cases);
+    return hashCode() == o.hashCode() && name.equals(o.name) && description.equals(o.description) && subgroups.equals(o.subgroups) && cases.equals(o.cases);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * description.hashCode() + 5 * subgroups.hashCode() + 7 * cases.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * description.hashCode() + 5 * subgroups.hashCode() + 7 * cases.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public TestGroup withName(String name) {
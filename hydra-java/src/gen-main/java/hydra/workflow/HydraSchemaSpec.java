@@ -16,6 +16,8 @@ public class HydraSchemaSpec {
    */
   public final hydra.core.Name typeName;
   
+  private int hashCode_;
+  
   public HydraSchemaSpec (java.util.List<hydra.module.Module<hydra.compute.Kv>> modules, hydra.core.Name typeName) {
     this.modules = modules;
     this.typeName = typeName;
@@ -23,16 +25,27 @@ public class HydraSchemaSpec {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof HydraSchemaSpec)) {
       return false;
     }
     HydraSchemaSpec o = (HydraSchemaSpec) (other);
-    return modules.equals(o.modules) && typeName.equals(o.typeName);
+    return hashCode() == o.hashCode() && modules.equals(o.modules) && typeName.equals(o.typeName);
   }
   
   @Override
   public int hashCode() {
-    return 2 * modules.hashCode() + 3 * typeName.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * modules.hashCode() + 3 * typeName.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public HydraSchemaSpec withModules(java.util.List<hydra.module.Module<hydra.compute.Kv>> modules) {
@@ -21,6 +21,8 @@ public class LastMile<S, A> {
    */
   public final String fileExtension;
   
+  private int hashCode_;
+  
   public LastMile (java.util.function.Function<hydra.core.Type<hydra.compute.Kv>, hydra.compute.Flow<S, java.util.function.Function<hydra.core.Term<hydra.compute.Kv>, java.util.function.Function<hydra.graph.Graph<hydra.compute.Kv>, hydra.compute.Flow<S, java.util.List<A>>>>>> encoder, java.util.function.Function<java.util.List<A>, hydra.compute.Flow<S, String>> serializer, String fileExtension) {
     this.encoder = encoder;
     this.serializer = serializer;
@@ -29,16 +31,27 @@ public class LastMile<S, A> {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof LastMile)) {
       return false;
     }
     LastMile o = (LastMile) (other);
-    return encoder.equals(o.encoder) && serializer.equals(o.serializer) && fileExtension.equals(o.fileExtension);
+    return hashCode() == o.hashCode() && encoder.equals(o.encoder) && serializer.equals(o.serializer) && fileExtension.equals(o.fileExtension);
   }
   
   @Override
   public int hashCode() {
-    return 2 * encoder.hashCode() + 3 * serializer.hashCode() + 5 * fileExtension.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * encoder.hashCode() + 3 * serializer.hashCode() + 5 * fileExtension.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public LastMile withEncoder(java.util.function.Function<hydra.core.Type<hydra.compute.Kv>, hydra.compute.Flow<S, java.util.function.Function<hydra.core.Term<hydra.compute.Kv>, java.util.function.Function<hydra.graph.Graph<hydra.compute.Kv>, hydra.compute.Flow<S, java.util.List<A>>>>>> encoder) {
@@ -26,6 +26,8 @@ public class TransformWorkflow {
    */
   public final String destDir;
   
+  private int hashCode_;
+  
   public TransformWorkflow (String name, hydra.workflow.SchemaSpec schemaSpec, String srcDir, String destDir) {
     this.name = name;
     this.schemaSpec = schemaSpec;
@@ -35,16 +37,27 @@ public class TransformWorkflow {
   
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     if (!(other instanceof TransformWorkflow)) {
       return false;
     }
     TransformWorkflow o = (TransformWorkflow) (other);
-    return name.equals(o.name) && schemaSpec.equals(o.schemaSpec) && srcDir.equals(o.srcDir) && destDir.equals(o.destDir);
+    return hashCode() == o.hashCode() && name.equals(o.name) && schemaSpec.equals(o.schemaSpec) && srcDir.equals(o.srcDir) && destDir.equals(o.destDir);
   }
   
   @Override
   public int hashCode() {
-    return 2 * name.hashCode() + 3 * schemaSpec.hashCode() + 5 * srcDir.hashCode() + 7 * destDir.hashCode();
+    int hashCode = hashCode_;
+    if (hashCode == 0) {
+      hashCode = 2 * name.hashCode() + 3 * schemaSpec.hashCode() + 5 * srcDir.hashCode() + 7 * destDir.hashCode();
+      if (hashCode == 0) {
+        hashCode = 1;
+      }
+      hashCode_ = hashCode;
+    }
+    return hashCode;
   }
   
   public TransformWorkflow withName(String name) {
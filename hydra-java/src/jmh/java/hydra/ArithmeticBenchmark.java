@@ -0,0 +1,95 @@
+package hydra;
+
+import hydra.compute.Kv;
+import hydra.core.Term;
+import hydra.graph.Primitive;
+import hydra.lib.equality.EqualInt32;
+import hydra.lib.math.Add;
+import hydra.lib.math.Mul;
+import hydra.lib.math.Sum;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static hydra.Flows.EMPTY_TRACE;
+import static hydra.dsl.Terms.*;
+
+
+/**
+ * Sums a list of int32 terms, and compares adjacent elements, through the math and equality primitives.
+ * Small values are drawn from the literal cache; large values are not.
+ * For comparison, the bulk variants sum and scale the same values as a packed list term in a single application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArithmeticBenchmark {
+    @Param({"100000"})
+    public int size;
+
+    @Param({"small", "large"})
+    public String values;
+
+    private final Primitive<Kv> add = new Add<Kv>().toNative();
+    private final Primitive<Kv> equal = new EqualInt32<Kv>().toNative();
+    private final Primitive<Kv> sum = new Sum<Kv>().toNative();
+    private final Primitive<Kv> map = new hydra.lib.lists.Map<Kv>().toNative();
+
+    private List<Term<Kv>> elements;
+    private Term<Kv> packed;
+
+    @Setup
+    public void setup() {
+        int offset = values.equals("small") ? 0 : 1 << 20;
+        elements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            elements.add(int32(offset + i % 100));
+        }
+        packed = list(elements);
+    }
+
+    @Benchmark
+    public Term<Kv> sum() {
+        Term<Kv> result = int32(0);
+        for (Term<Kv> el : elements) {
+            result = run(add, result, el);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int countEqualNeighbors() {
+        int count = 0;
+        Term<Kv> previous = elements.get(0);
+        for (Term<Kv> el : elements) {
+            if (run(equal, previous, el).equals(boolean_(true))) {
+                count++;
+            }
+            previous = el;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public Term<Kv> sumPacked() {
+        return run(sum, packed);
+    }
+
+    @Benchmark
+    public Term<Kv> scalePacked() {
+        return run(map, apply(new Mul<Kv>().term(), int32(2)), packed);
+    }
+
+    @SafeVarargs
+    private static Term<Kv> run(Primitive<Kv> prim, Term<Kv>... args) {
+        return prim.implementation.apply(List.of(args)).value.apply(null).apply(EMPTY_TRACE).value.get();
+    }
+}
@@ -0,0 +1,154 @@
+package hydra;
+
+import hydra.core.Term;
+import hydra.langs.avro.AvroCoder;
+import hydra.langs.avro.BinaryDecoder;
+import hydra.langs.avro.BinaryEncoder;
+import hydra.langs.avro.DataFileReader;
+import hydra.langs.avro.DataFileWriter;
+import hydra.langs.avro.SchemaJson;
+import hydra.langs.avro.schema.Schema;
+import hydra.langs.json.JsonReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+
+/**
+ * Decodes Avro records of the given width into terms: from a single buffer holding many records, with the writer's
+ * schema or with a reader's schema which projects half of the fields, and from a deflate-compressed container file.
+ * Each record has fields of various primitive and optional types, plus an array of strings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AvroDecodingBenchmark {
+    @Param({"10", "50"})
+    public int width;
+
+    @Param({"1000"})
+    public int records;
+
+    private byte[] data;
+    private byte[] file;
+    private AvroCoder.Decoder<String> decoder;
+    private AvroCoder.Decoder<String> projection;
+
+    @Setup
+    public void setup() {
+        Schema schema = schema(width, false);
+        decoder = Flows.fromFlow(AvroCoder.avroDecoder(schema));
+        projection = Flows.fromFlow(AvroCoder.avroDecoder(schema, schema(width, true)));
+
+        BinaryEncoder out = new BinaryEncoder();
+        List<Term<String>> terms = new ArrayList<>();
+        for (int r = 0; r < records; r++) {
+            byte[] bytes = record(r);
+            terms.add(decoder.fromBytes(bytes));
+            out.writeFixed(bytes);
+        }
+        data = out.toByteArray();
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (DataFileWriter<String> writer = new DataFileWriter<>(schema, bos, DataFileWriter.Codec.DEFLATE,
+                DataFileWriter.DEFAULT_BLOCK_SIZE)) {
+            for (Term<String> term : terms) {
+                writer.append(term);
+            }
+        }
+        file = bos.toByteArray();
+    }
+
+    @Benchmark
+    public void decode(Blackhole bh) {
+        BinaryDecoder in = new BinaryDecoder(data);
+        for (int r = 0; r < records; r++) {
+            bh.consume(decoder.decode(in));
+        }
+    }
+
+    @Benchmark
+    public void project(Blackhole bh) {
+        BinaryDecoder in = new BinaryDecoder(data);
+        for (int r = 0; r < records; r++) {
+            bh.consume(projection.decode(in));
+        }
+    }
+
+    @Benchmark
+    public void containerFile(Blackhole bh) {
+        DataFileReader<String> reader = new DataFileReader<>(new ByteArrayInputStream(file));
+        while (reader.hasNext()) {
+            bh.consume(reader.next());
+        }
+    }
+
+    // A record schema in which every other field is dropped, if this is a projection
+    private static Schema schema(int width, boolean projection) {
+        StringBuilder sb = new StringBuilder("{\"type\":\"record\",\"name\":\"Record\",\"fields\":[");
+        for (int i = 0; i < width; i += projection ? 2 : 1) {
+            sb.append("{\"name\":\"field").append(i).append("\",\"type\":");
+            switch (i % 5) {
+                case 0:
+                    sb.append("\"string\"");
+                    break;
+                case 1:
+                    sb.append("\"int\"");
+                    break;
+                case 2:
+                    sb.append("\"double\"");
+                    break;
+                case 3:
+                    sb.append("[\"null\",\"long\"]");
+                    break;
+                default:
+                    sb.append("{\"type\":\"array\",\"items\":\"string\"}");
+            }
+            sb.append("},");
+        }
+        sb.setLength(sb.length() - 1);
+        return SchemaJson.decodeSchema(JsonReader.parse(sb.append("]}").toString()));
+    }
+
+    private byte[] record(int seed) {
+        BinaryEncoder out = new BinaryEncoder();
+        for (int i = 0; i < width; i++) {
+            switch (i % 5) {
+                case 0:
+                    out.writeString("value " + seed + "-" + i);
+                    break;
+                case 1:
+                    out.writeInt(seed * 31 + i);
+                    break;
+                case 2:
+                    out.writeDouble(seed + i / 8.0);
+                    break;
+                case 3:
+                    if (i % 2 == 0) {
+                        out.writeInt(0);
+                    } else {
+                        out.writeInt(1);
+                        out.writeLong(seed * 1000003L + i);
+                    }
+                    break;
+                default:
+                    out.writeCount(2);
+                    out.writeString("a" + seed);
+                    out.writeString("b" + i);
+                    out.writeCount(0);
+            }
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,82 @@
+package hydra;
+
+import hydra.compute.Kv;
+import hydra.core.Term;
+import hydra.graph.Primitive;
+import hydra.lib.lists.Cons;
+import hydra.lib.maps.Insert;
+import hydra.lib.sets.Empty;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static hydra.Flows.EMPTY_TRACE;
+import static hydra.dsl.Terms.*;
+
+
+/**
+ * Builds large list, set and map terms by repeatedly applying the cons and insert primitives, as a fold would.
+ * With copying collections, each step copied its input, and building a collection took quadratic time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CollectionsBenchmark {
+    @Param({"1000000"})
+    public int size;
+
+    private final Primitive<Kv> cons = new Cons<Kv>().toNative();
+    private final Primitive<Kv> setInsert = new hydra.lib.sets.Insert<Kv>().toNative();
+    private final Primitive<Kv> mapInsert = new Insert<Kv>().toNative();
+
+    private List<Term<Kv>> elements;
+
+    @Setup
+    public void setup() {
+        elements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            elements.add(int32(i));
+        }
+    }
+
+    @Benchmark
+    public Term<Kv> buildList() {
+        Term<Kv> result = list(Collections.emptyList());
+        for (Term<Kv> el : elements) {
+            result = apply(cons, el, result);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Term<Kv> buildSet() {
+        Term<Kv> result = set(Empty.apply());
+        for (Term<Kv> el : elements) {
+            result = apply(setInsert, el, result);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Term<Kv> buildMap() {
+        Term<Kv> result = map(hydra.lib.maps.Empty.apply());
+        for (Term<Kv> el : elements) {
+            result = apply(mapInsert, el, el, result);
+        }
+        return result;
+    }
+
+    @SafeVarargs
+    private static Term<Kv> apply(Primitive<Kv> prim, Term<Kv>... args) {
+        return prim.implementation.apply(List.of(args)).value.apply(null).apply(EMPTY_TRACE).value.get();
+    }
+}
@@ -0,0 +1,101 @@
+package hydra;
+
+import hydra.compute.FlowState;
+import hydra.compute.Kv;
+import hydra.core.Name;
+import hydra.core.Term;
+import hydra.graph.Graph;
+import hydra.graph.Primitive;
+import hydra.lib.Libraries;
+import hydra.lib.math.Add;
+import hydra.lib.strings.Cat;
+import hydra.tools.PrimitiveFunction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static hydra.Flows.EMPTY_TRACE;
+import static hydra.dsl.Terms.*;
+
+
+/**
+ * Compares the interpreted, closure-compiled and bytecode-compiled application of a transformation to each of a batch
+ * of records. The transformation is compiled once, then applied to every record.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CompilerBenchmark {
+    @Param({"100", "1000"})
+    public int size;
+
+    private Graph<Kv> graph;
+    private Term<Kv> transform;
+    private Compiler.Program<Kv> compiled;
+    private Function<Term<Kv>, Term<Kv>> generated;
+    private List<Term<Kv>> records;
+
+    @Setup
+    public void setup() {
+        java.util.Map<Name, Primitive<Kv>> primitives = new HashMap<>();
+        for (PrimitiveFunction<Kv> prim : Libraries.<Kv>standardPrimitives()) {
+            primitives.put(prim.name(), prim.toNative());
+        }
+        graph = new Graph<>(Collections.emptyMap(), Collections.emptyMap(), string("empty graph"), primitives,
+            null, Optional.empty());
+
+        // \\p -> {name = cat [p.first, " ", p.last], age = add p.age 1}
+        transform = lambda("p", record("Person2",
+            field("name", apply(new Cat<Kv>().term(), list(
+                apply(projection("Person", "first"), variable("p")),
+                string(" "),
+                apply(projection("Person", "last"), variable("p"))))),
+            field("age", apply(new Add<Kv>().term(), apply(projection("Person", "age"), variable("p")), int32(1)))));
+        compiled = Compiler.compile(graph, transform);
+        generated = new BytecodeCompiler<>(graph).compile(transform);
+
+        records = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            records.add(record("Person",
+                field("first", string("first" + i)),
+                field("last", string("last" + i)),
+                field("age", int32(i))));
+        }
+    }
+
+    @Benchmark
+    public void interpreted(Blackhole bh) {
+        for (Term<Kv> rec : records) {
+            FlowState<Graph<Kv>, Term<Kv>> result = Reduction.reduce(Reduction.Strategy.ENVIRONMENT, true,
+                apply(transform, rec)).value.apply(graph).apply(EMPTY_TRACE);
+            bh.consume(result);
+        }
+    }
+
+    @Benchmark
+    public void compiled(Blackhole bh) {
+        for (Term<Kv> rec : records) {
+            bh.consume(compiled.apply(rec));
+        }
+    }
+
+    @Benchmark
+    public void bytecode(Blackhole bh) {
+        for (Term<Kv> rec : records) {
+            bh.consume(generated.apply(rec));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package hydra;
+
+import hydra.compute.Flow;
+import hydra.compute.FlowState;
+import hydra.compute.Trace;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static hydra.Flows.EMPTY_TRACE;
+
+
+/**
+ * Compares the interpreted flow combinators in {@link Flows} with the closure-nesting implementation they replaced.
+ * The closure-based variant overflows the stack for long chains, so chain lengths are kept small enough for both.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FlowsBenchmark {
+    @Param({"100", "1000"})
+    public int size;
+
+    private List<Integer> input;
+
+    @Setup
+    public void setup() {
+        input = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            input.add(i);
+        }
+    }
+
+    @Benchmark
+    public FlowState<Integer, Integer> bindChainInterpreted() {
+        Flow<Integer, Integer> flow = Flows.pure(0);
+        for (int i = 0; i < size; i++) {
+            flow = Flows.bind(flow, x -> Flows.map(Flows.getState(), s -> x + s));
+        }
+        return flow.value.apply(1).apply(EMPTY_TRACE);
+    }
+
+    @Benchmark
+    public FlowState<Integer, Integer> bindChainClosures() {
+        Flow<Integer, Integer> flow = ClosureFlows.pure(0);
+        for (int i = 0; i < size; i++) {
+            flow = ClosureFlows.bind(flow, x -> ClosureFlows.map(ClosureFlows.getState(), s -> x + s));
+        }
+        return flow.value.apply(1).apply(EMPTY_TRACE);
+    }
+
+    @Benchmark
+    public FlowState<Void, List<Integer>> mapMInterpreted() {
+        return Flows.mapM(input, x -> Flows.<Void, Integer>pure(x + 1)).value.apply(null).apply(EMPTY_TRACE);
+    }
+
+    @Benchmark
+    public FlowState<Void, List<Integer>> mapMClosures() {
+        return ClosureFlows.mapM(input, x -> ClosureFlows.<Void, Integer>pure(x + 1)).value.apply(null).apply(EMPTY_TRACE);
+    }
+
+    /**
+     * The original closure-nesting flow combinators, retained for comparison
+     */
+    static class ClosureFlows {
+        static <S, X, Y> Flow<S, Y> bind(Flow<S, X> p, Function<X, Flow<S, Y>> k) {
+            return new Flow<>(s0 -> t0 -> {
+                FlowState<S, X> fs1 = p.value.apply(s0).apply(t0);
+                Optional<X> x = fs1.value;
+                return x.isPresent()
+                        ? k.apply(x.get()).value.apply(fs1.state).apply(fs1.trace)
+                        : new FlowState<>(Optional.empty(), fs1.state, fs1.trace);
+            });
+        }
+
+        static <S> Flow<S, S> getState() {
+            return new Flow<>(s0 -> t0 -> new FlowState<>(Optional.of(s0), s0, t0));
+        }
+
+        static <S, X, Y> Flow<S, Y> map(Flow<S, X> x, Function<X, Y> f) {
+            return new Flow<>(s -> trace -> {
+                FlowState<S, X> result = x.value.apply(s).apply(trace);
+                return new FlowState<>(result.value.map(f), result.state, result.trace);
+            });
+        }
+
+        static <S, X, Y> Flow<S, List<Y>> mapM(List<X> xs, Function<X, Flow<S, Y>> f) {
+            Flow<S, List<Y>> result = new Flow<>(s -> t -> new FlowState<>(Optional.of(new ArrayList<>()), s, t));
+            for (X x : xs) {
+                result = bind(result, ys -> map(f.apply(x), y -> {
+                    ys.add(y);
+                    return ys;
+                }));
+            }
+            return result;
+        }
+
+        static <S, X> Flow<S, X> pure(X obj) {
+            return new Flow<>(s -> (Trace trace) -> new FlowState<>(Optional.of(obj), s, trace));
+        }
+    }
+}
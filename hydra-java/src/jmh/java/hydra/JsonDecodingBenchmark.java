@@ -0,0 +1,144 @@
+package hydra;
+
+import hydra.compute.Coder;
+import hydra.compute.FlowState;
+import hydra.core.FieldType;
+import hydra.core.Name;
+import hydra.core.RowType;
+import hydra.core.Term;
+import hydra.core.Type;
+import hydra.dsl.Types;
+import hydra.graph.Graph;
+import hydra.langs.json.JsonCoder;
+import hydra.langs.json.JsonReader;
+import hydra.langs.json.model.Value;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static hydra.Flows.EMPTY_TRACE;
+
+
+/**
+ * Decodes a JSON array of wide, nested records into terms, either in two steps (parsing JSON values, then applying the
+ * decode function of a JSON coder) or with a decoder compiled from the type, which parses straight into terms.
+ * Each record has the given number of fields, of various literal and optional types, plus a nested record of the same
+ * width and a list of such records.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonDecodingBenchmark {
+    @Param({"10", "50"})
+    public int width;
+
+    @Param({"100"})
+    public int records;
+
+    private byte[] json;
+    private Coder<Graph<String>, Graph<String>, Term<String>, Value> coder;
+    private JsonCoder.Decoder<String> decoder;
+
+    @Setup
+    public void setup() {
+        Type<String> inner = record("Inner", fields(width, null));
+        Type<String> outer = Types.list(record("Outer", fields(width, inner)));
+        coder = Flows.fromFlow(JsonCoder.jsonCoder(outer));
+        decoder = Flows.fromFlow(JsonCoder.jsonDecoder(outer));
+
+        StringBuilder sb = new StringBuilder("[");
+        for (int r = 0; r < records; r++) {
+            if (r > 0) {
+                sb.append(',');
+            }
+            record(sb, r, true);
+        }
+        json = sb.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Value parseOnly() {
+        return JsonReader.parse(json);
+    }
+
+    @Benchmark
+    public FlowState<Graph<String>, Term<String>> twoStep() {
+        return coder.decode.apply(JsonReader.parse(json)).value.apply(null).apply(EMPTY_TRACE);
+    }
+
+    @Benchmark
+    public Term<String> compiled() {
+        return decoder.fromBytes(json);
+    }
+
+    private static Type<String> record(String name, List<FieldType<String>> fields) {
+        return new Type.Record<>(new RowType<>(new Name(name), Optional.empty(), fields));
+    }
+
+    private static List<FieldType<String>> fields(int width, Type<String> nested) {
+        List<FieldType<String>> fields = new ArrayList<>();
+        for (int i = 0; i < width; i++) {
+            String name = "field" + i;
+            switch (i % 4) {
+                case 0:
+                    fields.add(Types.field(name, Types.string()));
+                    break;
+                case 1:
+                    fields.add(Types.field(name, Types.int32()));
+                    break;
+                case 2:
+                    fields.add(Types.field(name, Types.float64()));
+                    break;
+                default:
+                    fields.add(Types.field(name, Types.optional(Types.boolean_())));
+            }
+        }
+        if (nested != null) {
+            fields.add(Types.field("nested", nested));
+            fields.add(Types.field("children", Types.list(nested)));
+        }
+        return fields;
+    }
+
+    private void record(StringBuilder sb, int seed, boolean outer) {
+        sb.append('{');
+        for (int i = 0; i < width; i++) {
+            sb.append("\"field").append(i).append("\":");
+            switch (i % 4) {
+                case 0:
+                    sb.append("\"value ").append(seed).append('-').append(i).append('"');
+                    break;
+                case 1:
+                    sb.append(seed * 31 + i);
+                    break;
+                case 2:
+                    sb.append(seed + i / 8.0);
+                    break;
+                default:
+                    sb.append(i % 8 == 3 ? "null" : "true");
+            }
+            sb.append(',');
+        }
+        if (outer) {
+            sb.append("\"nested\":");
+            record(sb, seed + 1, false);
+            sb.append(",\"children\":[");
+            record(sb, seed + 2, false);
+            sb.append(',');
+            record(sb, seed + 3, false);
+            sb.append("],");
+        }
+        sb.setLength(sb.length() - 1);
+        sb.append('}');
+    }
+}
@@ -0,0 +1,103 @@
+package hydra;
+
+import hydra.compute.FlowState;
+import hydra.compute.Kv;
+import hydra.core.Name;
+import hydra.core.Term;
+import hydra.graph.Graph;
+import hydra.graph.Primitive;
+import hydra.lib.Libraries;
+import hydra.lib.lists.Map;
+import hydra.lib.math.Add;
+import hydra.tools.PrimitiveFunction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static hydra.Flows.EMPTY_TRACE;
+import static hydra.dsl.Terms.*;
+
+
+/**
+ * Compares substitution-based and environment-based reduction of a list program whose mapped function
+ * has a deeply nested body, and of one whose mapped function is a chain of primitive applications.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReductionBenchmark {
+    @Param({"10", "100"})
+    public int size;
+
+    @Param({"1", "10"})
+    public int depth;
+
+    private Graph<Kv> graph;
+    private Term<Kv> program;
+    private Term<Kv> arithmetic;
+
+    @Setup
+    public void setup() {
+        java.util.Map<Name, Primitive<Kv>> primitives = new HashMap<>();
+        for (PrimitiveFunction<Kv> prim : Libraries.<Kv>standardPrimitives()) {
+            primitives.put(prim.name(), prim.toNative());
+        }
+        graph = new Graph<>(Collections.emptyMap(), Collections.emptyMap(), string("empty graph"), primitives,
+            null, Optional.empty());
+
+        // \\x -> (\\v1 -> ... (\\vn -> [x, v1, ..., vn]) x ...) x
+        List<Term<Kv>> vars = new ArrayList<>();
+        vars.add(variable("x"));
+        for (int i = 1; i <= depth; i++) {
+            vars.add(variable("v" + i));
+        }
+        Term<Kv> body = list(vars);
+        for (int i = depth; i >= 1; i--) {
+            body = apply(lambda("v" + i, body), variable("x"));
+        }
+
+        List<Term<Kv>> inputs = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            inputs.add(int32(i));
+        }
+        program = apply(new Map<Kv>().term(), lambda("x", body), list(inputs));
+
+        // \\x -> add x (add x ... (add x x))
+        Term<Kv> sum = variable("x");
+        for (int i = 1; i <= depth; i++) {
+            sum = apply(new Add<Kv>().term(), variable("x"), sum);
+        }
+        arithmetic = apply(new Map<Kv>().term(), lambda("x", sum), list(inputs));
+    }
+
+    @Benchmark
+    public FlowState<Graph<Kv>, Term<Kv>> substitution() {
+        return Reduction.reduce(Reduction.Strategy.SUBSTITUTION, true, program).value.apply(graph).apply(EMPTY_TRACE);
+    }
+
+    @Benchmark
+    public FlowState<Graph<Kv>, Term<Kv>> environment() {
+        return Reduction.reduce(Reduction.Strategy.ENVIRONMENT, true, program).value.apply(graph).apply(EMPTY_TRACE);
+    }
+
+    @Benchmark
+    public FlowState<Graph<Kv>, Term<Kv>> arithmeticSubstitution() {
+        return Reduction.reduce(Reduction.Strategy.SUBSTITUTION, true, arithmetic).value.apply(graph).apply(EMPTY_TRACE);
+    }
+
+    @Benchmark
+    public FlowState<Graph<Kv>, Term<Kv>> arithmeticEnvironment() {
+        return Reduction.reduce(Reduction.Strategy.ENVIRONMENT, true, arithmetic).value.apply(graph).apply(EMPTY_TRACE);
+    }
+}
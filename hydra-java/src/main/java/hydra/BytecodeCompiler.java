@@ -0,0 +1,754 @@
+package hydra;
+
+import hydra.compute.Flow;
+import hydra.compute.FlowInterpreter;
+import hydra.compute.FlowState;
+import hydra.core.Annotated;
+import hydra.core.Application;
+import hydra.core.CaseStatement;
+import hydra.core.Elimination;
+import hydra.core.Field;
+import hydra.core.FieldName;
+import hydra.core.Injection;
+import hydra.core.IntegerValue;
+import hydra.core.Lambda;
+import hydra.core.Literal;
+import hydra.core.Name;
+import hydra.core.Nominal;
+import hydra.core.Projection;
+import hydra.core.Record;
+import hydra.core.Term;
+import hydra.dsl.Expect;
+import hydra.dsl.Terms;
+import hydra.graph.Graph;
+import hydra.graph.Primitive;
+import hydra.lib.math.Add;
+import hydra.lib.math.Mul;
+import hydra.lib.math.Neg;
+import hydra.lib.math.Sub;
+import hydra.lib.strings.Cat2;
+import hydra.lib.strings.IsEmpty;
+import hydra.lib.strings.Length;
+import hydra.lib.strings.ToLower;
+import hydra.lib.strings.ToUpper;
+import hydra.tools.ClassFileWriter;
+import hydra.tools.FlowException;
+import hydra.tools.LList;
+import hydra.tools.PrimitiveFunction;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static hydra.Common.*;
+import static hydra.Flows.*;
+
+
+/**
+ * A compiler from lambda terms to JVM bytecode, for the hottest mapping functions.
+ * Each lambda is compiled to a class implementing {@link Function}, which is loaded in a class loader dedicated to
+ * this compiler. Record projections, case statements, wrapping and unwrapping, data construction and a number of
+ * total math and string primitives are compiled to direct code; any other subterm is compiled with {@link Compiler}
+ * and called from the generated code, with the variables in scope passed as arguments.
+ * Terms which are not lambdas are compiled with {@link Compiler} alone.
+ * Generated functions evaluate eagerly, and are meant to be applied to values, such as records.
+ * Each distinct term is compiled only once; compiled functions are cached by term. The cache holds a bounded number
+ * of functions; once it is full, it is started afresh with a new class loader, so that the classes of functions which
+ * are no longer in use can be unloaded.
+ */
+public class BytecodeCompiler<A> {
+    private static final String OBJECT = "java/lang/Object";
+    private static final String TERM = "hydra/core/Term";
+    private static final String SUPPORT = "hydra/BytecodeCompiler$Support";
+    private static final String CONSTANTS = "constants";
+    private static final String OBJECTS = "[Ljava/lang/Object;";
+    private static final int MAX_CACHED_FUNCTIONS = 1 << 12;
+
+    // Total primitives which are called directly from generated code, by way of their static apply methods
+    private static final Map<Name, Method> NATIVE_PRIMITIVES = new HashMap<>();
+
+    static {
+        nativePrimitive(new Add<>(), Integer.class, Integer.class);
+        nativePrimitive(new Sub<>(), Integer.class, Integer.class);
+        nativePrimitive(new Mul<>(), Integer.class, Integer.class);
+        nativePrimitive(new Neg<>(), Integer.class);
+        nativePrimitive(new Cat2<>(), String.class, String.class);
+        nativePrimitive(new IsEmpty<>(), String.class);
+        nativePrimitive(new Length<>(), String.class);
+        nativePrimitive(new ToLower<>(), String.class);
+        nativePrimitive(new ToUpper<>(), String.class);
+    }
+
+    private final Graph<A> graph;
+    private volatile Generation<A> generation = new Generation<>();
+    private int classCount = 0;
+
+    public BytecodeCompiler(Graph<A> graph) {
+        this.graph = graph;
+    }
+
+    /**
+     * Compile a term to a function, or retrieve a previously compiled function for an equal term
+     */
+    public Function<Term<A>, Term<A>> compile(Term<A> term) {
+        Generation<A> gen = generation;
+        Function<Term<A>, Term<A>> function = gen.cache.get(term);
+        if (function != null) {
+            return function;
+        }
+        if (gen.cache.size() >= MAX_CACHED_FUNCTIONS) {
+            synchronized (this) {
+                if (generation == gen) {
+                    generation = new Generation<>();
+                }
+                gen = generation;
+            }
+        }
+        Loader loader = gen.loader;
+        return gen.cache.computeIfAbsent(term, t -> generate(loader, t));
+    }
+
+    /**
+     * Whether a function was compiled to bytecode, as opposed to falling back to closure compilation
+     */
+    public static boolean isGenerated(Function<?, ?> function) {
+        return function.getClass().getClassLoader() instanceof Loader;
+    }
+
+    private Function<Term<A>, Term<A>> generate(Loader loader, Term<A> term) {
+        Term<A> stripped = stripTerm(term);
+        if (stripped instanceof Term.Function
+            && ((Term.Function<A>) stripped).value instanceof hydra.core.Function.Lambda) {
+            Lambda<A> lambda = ((hydra.core.Function.Lambda<A>) ((Term.Function<A>) stripped).value).value;
+            try {
+                return new Generator(lambda).load(loader);
+            } catch (IllegalArgumentException | LinkageError e) {
+                // The function exceeds a limit of the class file format, or the JVM rejected the generated class;
+                // fall back to closure compilation
+            }
+        }
+        Compiler.Program<A> program = Compiler.compile(graph, term);
+        return arg -> program.apply(arg);
+    }
+
+    private static void nativePrimitive(PrimitiveFunction<?> prim, Class<?>... parameterTypes) {
+        try {
+            NATIVE_PRIMITIVES.put(prim.name(), prim.getClass().getMethod("apply", parameterTypes));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String descriptor(Class<?> c) {
+        if (c == int.class) {
+            return "I";
+        } else if (c == boolean.class) {
+            return "Z";
+        } else if (c == void.class) {
+            return "V";
+        } else if (c.isArray()) {
+            return c.getName().replace('.', '/');
+        } else {
+            return "L" + c.getName().replace('.', '/') + ";";
+        }
+    }
+
+    private static String descriptor(Method method) {
+        StringBuilder sb = new StringBuilder("(");
+        for (Class<?> c : method.getParameterTypes()) {
+            sb.append(descriptor(c));
+        }
+        return sb.append(")").append(descriptor(method.getReturnType())).toString();
+    }
+
+    private static String internalName(Class<?> c) {
+        return c.getName().replace('.', '/');
+    }
+
+    /**
+     * A variable in scope in generated code, and the local variable slot which holds its value
+     */
+    private static class Binding {
+        final Name name;
+        final int slot;
+
+        Binding(Name name, int slot) {
+            this.name = name;
+            this.slot = slot;
+        }
+    }
+
+    /**
+     * An argument in generated code, which pushes its value onto the operand stack
+     */
+    private interface Operand {
+        void push();
+    }
+
+    /**
+     * The code generator for a single lambda
+     */
+    private class Generator {
+        private final Lambda<A> lambda;
+        private final String className;
+        private final ClassFileWriter writer;
+        private final List<Object> constants = new ArrayList<>();
+        private final Map<Object, Integer> constantIndices = new IdentityHashMap<>();
+        private ClassFileWriter.Code code;
+
+        Generator(Lambda<A> lambda) {
+            this.lambda = lambda;
+            synchronized (BytecodeCompiler.this) {
+                this.className = "hydra/generated/CompiledFunction" + classCount++;
+            }
+            this.writer = new ClassFileWriter(className, OBJECT, "java/util/function/Function");
+        }
+
+        @SuppressWarnings("unchecked")
+        Function<Term<A>, Term<A>> load(Loader loader) {
+            writer.field(ClassFileWriter.ACC_FINAL, CONSTANTS, OBJECTS);
+
+            ClassFileWriter.Code init = writer.method(ClassFileWriter.ACC_PUBLIC, "<init>", "(" + OBJECTS + ")V");
+            init.aload(0);
+            init.invokespecial(OBJECT, "<init>", "()V");
+            init.aload(0);
+            init.aload(1);
+            init.putfield(className, CONSTANTS, OBJECTS);
+            init.return_();
+
+            code = writer.method(ClassFileWriter.ACC_PUBLIC, "apply", "(Ljava/lang/Object;)Ljava/lang/Object;");
+            code.aload(1);
+            code.invokestatic(SUPPORT, "strip", "(Ljava/lang/Object;)Ljava/lang/Object;");
+            code.astore(1);
+            expression(lambda.body, LList.push(new Binding(lambda.parameter, 1), null));
+            code.areturn();
+
+            byte[] bytes = writer.toByteArray();
+            try {
+                Class<?> c = loader.define(className.replace('/', '.'), bytes);
+                return (Function<Term<A>, Term<A>>) c.getConstructor(Object[].class)
+                    .newInstance((Object) constants.toArray());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        // Emit code which pushes the value of a term
+        private void expression(Term<A> term, LList<Binding> scope) {
+            if (isConstant(term, scope)) {
+                constant(term);
+                return;
+            }
+
+            term.accept(new Term.PartialVisitor<A, Void>() {
+                @Override
+                public Void otherwise(Term<A> instance) {
+                    interpret(term, scope);
+                    return null;
+                }
+
+                @Override
+                public Void visit(Term.Annotated<A> instance) {
+                    Annotated<Term<A>, A> ann = instance.value;
+                    constant(ann.annotation);
+                    expression(ann.subject, scope);
+                    support("annot", 2);
+                    return null;
+                }
+
+                @Override
+                public Void visit(Term.Application<A> instance) {
+                    List<Operand> args = new ArrayList<>();
+                    application(spine(term, args, scope), args, scope);
+                    return null;
+                }
+
+                @Override
+                public Void visit(Term.List<A> instance) {
+                    array(instance.value, scope);
+                    support("list", 1);
+                    return null;
+                }
+
+                @Override
+                public Void visit(Term.Optional<A> instance) {
+                    // Nothing is a constant, so the value is present
+                    expression(instance.value.get(), scope);
+                    support("just", 1);
+                    return null;
+                }
+
+                @Override
+                public Void visit(Term.Record<A> instance) {
+                    Record<A> record = instance.value;
+                    FieldName[] names = new FieldName[record.fields.size()];
+                    List<Term<A>> values = new ArrayList<>(names.length);
+                    for (int i = 0; i < names.length; i++) {
+                        names[i] = record.fields.get(i).name;
+                        values.add(record.fields.get(i).term);
+                    }
+                    constant(record.typeName);
+                    constant(names);
+                    array(values, scope);
+                    support("record", 3);
+                    return null;
+                }
+
+                @Override
+                public Void visit(Term.Union<A> instance) {
+                    Injection<A> inj = instance.value;
+                    constant(inj.typeName);
+                    constant(inj.field.name);
+                    expression(inj.field.term, scope);
+                    support("inject", 3);
+                    return null;
+                }
+
+                @Override
+                public Void visit(Term.Variable<A> instance) {
+                    for (LList<Binding> cur = scope; cur != null; cur = cur.rest) {
+                        if (cur.first.name.equals(instance.value)) {
+                            code.aload(cur.first.slot);
+                            return null;
+                        }
+                    }
+                    // A graph element; other free variables are constants
+                    interpret(term, scope);
+                    return null;
+                }
+
+                @Override
+                public Void visit(Term.Wrap<A> instance) {
+                    Nominal<Term<A>> wrapped = instance.value;
+                    constant(wrapped.typeName);
+                    expression(wrapped.object, scope);
+                    support("wrap", 2);
+                    return null;
+                }
+            });
+        }
+
+        // Emit code which pushes the value of a function applied to arguments
+        private void application(Term<A> head, List<Operand> args, LList<Binding> scope) {
+            if (head instanceof Term.Function) {
+                hydra.core.Function<A> fun = ((Term.Function<A>) head).value;
+                if (fun instanceof hydra.core.Function.Lambda) {
+                    Lambda<A> lam = ((hydra.core.Function.Lambda<A>) fun).value;
+                    int slot = code.newLocal();
+                    args.get(0).push();
+                    code.invokestatic(SUPPORT, "strip", "(Ljava/lang/Object;)Ljava/lang/Object;");
+                    code.astore(slot);
+                    LList<Binding> scope1 = LList.push(new Binding(lam.parameter, slot), scope);
+                    if (args.size() == 1) {
+                        expression(lam.body, scope1);
+                    } else {
+                        List<Operand> rest = new ArrayList<>(args.subList(1, args.size()));
+                        application(spine(stripTerm(lam.body), rest, scope1), rest, scope1);
+                    }
+                    return;
+                } else if (fun instanceof hydra.core.Function.Elimination && args.size() == 1) {
+                    if (elimination(((hydra.core.Function.Elimination<A>) fun).value, args.get(0), scope)) {
+                        return;
+                    }
+                } else if (fun instanceof hydra.core.Function.Primitive) {
+                    Name name = ((hydra.core.Function.Primitive<A>) fun).value;
+                    Optional<Lexical.ResolvedPrimitive<A>> prim = Lexical.resolvePrimitive(graph, name);
+                    if (prim.isPresent() && prim.get().arity == args.size()) {
+                        primitive(prim.get().primitive, args);
+                        return;
+                    }
+                }
+            }
+
+            // Any other application is left to the interpreter
+            constant(graph);
+            expression(head, scope);
+            operands(args);
+            support("applyValue", 3);
+        }
+
+        // Find the head of an application, prepending its arguments to the given list
+        private Term<A> spine(Term<A> term, List<Operand> args, LList<Binding> scope) {
+            Term<A> head = term;
+            while (head instanceof Term.Application) {
+                Application<A> app = ((Term.Application<A>) head).value;
+                args.add(0, () -> expression(app.argument, scope));
+                head = stripTerm(app.function);
+            }
+            return head;
+        }
+
+        private boolean elimination(Elimination<A> elim, Operand arg, LList<Binding> scope) {
+            if (elim instanceof Elimination.Record) {
+                arg.push();
+                constant(((Elimination.Record<A>) elim).value);
+                support("project", 2);
+                return true;
+            } else if (elim instanceof Elimination.Wrap) {
+                arg.push();
+                constant(((Elimination.Wrap<A>) elim).value);
+                support("unwrap", 2);
+                return true;
+            } else if (elim instanceof Elimination.Union) {
+                caseStatement(((Elimination.Union<A>) elim).value, arg, scope);
+                return true;
+            } else {
+                return false;
+            }
+        }
+
+        private void caseStatement(CaseStatement<A> cases, Operand arg, LList<Binding> scope) {
+            int injection = code.newLocal();
+            arg.push();
+            constant(cases.typeName);
+            support("injection", 2);
+            code.astore(injection);
+
+            FieldIndex index = FieldIndex.of(cases.cases);
+            int width = cases.cases.size();
+            code.aload(injection);
+            constant(index);
+            code.invokestatic(SUPPORT, "caseIndex", "(Ljava/lang/Object;Ljava/lang/Object;)I");
+
+            ClassFileWriter.Label end = code.newLabel();
+            ClassFileWriter.Label noMatch = code.newLabel();
+            ClassFileWriter.Label[] targets = new ClassFileWriter.Label[width];
+            for (int i = 0; i < targets.length; i++) {
+                targets[i] = code.newLabel();
+            }
+            code.tableswitch(noMatch, targets);
+
+            Operand payload = () -> {
+                code.aload(injection);
+                support("payload", 1);
+            };
+            for (int i = 0; i < targets.length; i++) {
+                code.mark(targets[i]);
+                List<Operand> args = new ArrayList<>();
+                args.add(payload);
+                application(stripTerm(cases.cases.get(i).term), args, scope);
+                code.goto_(end);
+            }
+
+            code.mark(noMatch);
+            if (cases.default_.isPresent()) {
+                expression(cases.default_.get(), scope);
+            } else {
+                code.aload(injection);
+                constant(cases);
+                support("noSuchCase", 2);
+            }
+            code.mark(end);
+        }
+
+        private void primitive(Primitive<A> prim, List<Operand> args) {
+            Method method = NATIVE_PRIMITIVES.get(prim.name);
+            if (method == null) {
+                constant(graph);
+                constant(prim);
+                operands(args);
+                support("primitive", 3);
+                return;
+            }
+
+            Class<?>[] types = method.getParameterTypes();
+            for (int i = 0; i < args.size(); i++) {
+                args.get(i).push();
+                String expect = types[i] == Integer.class ? "expectInt32" : "expectString";
+                code.invokestatic(SUPPORT, expect, "(Ljava/lang/Object;)" + descriptor(types[i]));
+            }
+            code.invokestatic(internalName(method.getDeclaringClass()), method.getName(), descriptor(method));
+            Class<?> result = method.getReturnType();
+            if (result == int.class) {
+                code.invokestatic("java/lang/Integer", "valueOf", "(I)Ljava/lang/Integer;");
+                result = Integer.class;
+            } else if (result == boolean.class) {
+                code.invokestatic("java/lang/Boolean", "valueOf", "(Z)Ljava/lang/Boolean;");
+                result = Boolean.class;
+            }
+            code.invokestatic(SUPPORT, "term", "(" + descriptor(result) + ")Ljava/lang/Object;");
+        }
+
+        // Emit a call to the interpreter, passing the values of all variables in scope
+        private void interpret(Term<A> term, LList<Binding> scope) {
+            Term<A> wrapped = term;
+            List<Operand> args = new ArrayList<>();
+            for (LList<Binding> cur = scope; cur != null; cur = cur.rest) {
+                Binding binding = cur.first;
+                wrapped = Terms.lambda(binding.name.value, wrapped);
+                args.add(0, () -> code.aload(binding.slot));
+            }
+            constant(Compiler.compile(graph, wrapped));
+            operands(args);
+            support("interpret", 2);
+        }
+
+        private void array(List<Term<A>> terms, LList<Binding> scope) {
+            List<Operand> operands = new ArrayList<>(terms.size());
+            for (Term<A> t : terms) {
+                operands.add(() -> expression(t, scope));
+            }
+            operands(operands);
+        }
+
+        // Emit code which pushes an array of the values of the given operands
+        private void operands(List<Operand> operands) {
+            code.iconst(operands.size());
+            code.anewarray(TERM);
+            for (int i = 0; i < operands.size(); i++) {
+                code.dup();
+                code.iconst(i);
+                operands.get(i).push();
+                code.aastore();
+            }
+        }
+
+        private void constant(Object value) {
+            Integer index = constantIndices.get(value);
+            if (index == null) {
+                index = constants.size();
+                constants.add(value);
+                constantIndices.put(value, index);
+            }
+            code.aload(0);
+            code.getfield(className, CONSTANTS, OBJECTS);
+            code.iconst(index);
+            code.aaload();
+        }
+
+        private void support(String method, int arity) {
+            StringBuilder desc = new StringBuilder("(");
+            for (int i = 0; i < arity; i++) {
+                desc.append("Ljava/lang/Object;");
+            }
+            code.invokestatic(SUPPORT, method, desc.append(")Ljava/lang/Object;").toString());
+        }
+
+        // Closed data, i.e. a term without applications, lambdas, lets, streams or variables bound in scope or in the
+        // graph, is its own value
+        private boolean isConstant(Term<A> term, LList<Binding> scope) {
+            return term.accept(new Term.PartialVisitor<>() {
+                @Override
+                public Boolean otherwise(Term<A> instance) {
+                    boolean[] constant = {true};
+                    Rewriting.rewriteSubterms(child -> {
+                        constant[0] = constant[0] && isConstant(child, scope);
+                        return child;
+                    }, a -> a, term);
+                    return constant[0];
+                }
+
+                @Override
+                public Boolean visit(Term.Application<A> instance) {
+                    return false;
+                }
+
+                @Override
+                public Boolean visit(Term.Function<A> instance) {
+                    return !(instance.value instanceof hydra.core.Function.Lambda) && otherwise(instance);
+                }
+
+                @Override
+                public Boolean visit(Term.Let<A> instance) {
+                    return false;
+                }
+
+                @Override
+                public Boolean visit(Term.Stream<A> instance) {
+                    return false;
+                }
+
+                @Override
+                public Boolean visit(Term.Variable<A> instance) {
+                    for (LList<Binding> cur = scope; cur != null; cur = cur.rest) {
+                        if (cur.first.name.equals(instance.value)) {
+                            return false;
+                        }
+                    }
+                    return !graph.elements.containsKey(instance.value);
+                }
+            });
+        }
+    }
+
+    /**
+     * A class loader for generated classes, which resolves all other classes through the loader of this class
+     */
+    /**
+     * The compiled functions of a cache, and the class loader of their classes
+     */
+    private static class Generation<A> {
+        final Map<Term<A>, Function<Term<A>, Term<A>>> cache = new ConcurrentHashMap<>();
+        final Loader loader = new Loader();
+    }
+
+    private static class Loader extends ClassLoader {
+        Loader() {
+            super(BytecodeCompiler.class.getClassLoader());
+        }
+
+        Class<?> define(String name, byte[] bytes) {
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+
+    /**
+     * Run-time support for generated code. Failures are reported as FlowExceptions, with the same messages as
+     * reduction.
+     */
+    @SuppressWarnings("unchecked")
+    public static final class Support {
+        private Support() {
+        }
+
+        public static Object annot(Object annotation, Object value) {
+            return Terms.annot(annotation, (Term<Object>) value);
+        }
+
+        public static Object applyValue(Object graph, Object fun, Object args) {
+            LList<Object> list = null;
+            Object[] array = (Object[]) args;
+            for (int i = array.length - 1; i >= 0; i--) {
+                list = LList.push(array[i], list);
+            }
+            return run((Graph<Object>) graph, Reduction.applyValue(true, null, fun, list));
+        }
+
+        public static int caseIndex(Object injection, Object index) {
+            return ((FieldIndex) index).indexOf(((Injection<?>) injection).field.name);
+        }
+
+        public static Integer expectInt32(Object term) {
+            Term<?> stripped = stripTerm((Term<?>) term);
+            if (stripped instanceof Term.Literal) {
+                Literal lit = ((Term.Literal<?>) stripped).value;
+                if (lit instanceof Literal.Integer_ && ((Literal.Integer_) lit).value instanceof IntegerValue.Int32) {
+                    return ((IntegerValue.Int32) ((Literal.Integer_) lit).value).value;
+                }
+            }
+            return run(null, Expect.int32((Term<?>) term));
+        }
+
+        public static String expectString(Object term) {
+            Term<?> stripped = stripTerm((Term<?>) term);
+            if (stripped instanceof Term.Literal && ((Term.Literal<?>) stripped).value instanceof Literal.String_) {
+                return ((Literal.String_) ((Term.Literal<?>) stripped).value).value;
+            }
+            return run(null, Expect.string((Term<?>) term));
+        }
+
+        public static Object inject(Object typeName, Object fieldName, Object value) {
+            return new Term.Union<>(new Injection<>((Name) typeName, new Field<>((FieldName) fieldName,
+                (Term<Object>) value)));
+        }
+
+        public static Object injection(Object term, Object typeName) {
+            Term<?> arg = stripTerm((Term<?>) term);
+            if (!(arg instanceof Term.Union)) {
+                return run(null, unexpected("injection", arg));
+            }
+            Injection<?> inj = ((Term.Union<?>) arg).value;
+            return typeName.equals(inj.typeName) ? inj
+                : run(null, fail("tried to match a " + inj.typeName + " injection as " + typeName));
+        }
+
+        public static Object interpret(Object program, Object args) {
+            return ((Compiler.Program<Object>) program).apply((Term<Object>[]) args);
+        }
+
+        public static Object just(Object value) {
+            return Terms.just((Term<Object>) value);
+        }
+
+        public static Object list(Object values) {
+            return Terms.list(Arrays.asList((Term<Object>[]) values));
+        }
+
+        public static Object noSuchCase(Object injection, Object cases) {
+            return run(null, fail("no such field " + ((Injection<?>) injection).field.name + " in "
+                + ((CaseStatement<?>) cases).typeName + " case statement"));
+        }
+
+        public static Object payload(Object injection) {
+            return stripTerm(((Injection<?>) injection).field.term);
+        }
+
+        public static Object primitive(Object graph, Object prim, Object args) {
+            Graph<Object> g = (Graph<Object>) graph;
+            Term<Object> result = run(g, Reduction.applyPrimitive((Primitive<Object>) prim,
+                Reduction.Strategy.ENVIRONMENT, Arrays.asList((Term<Object>[]) args)));
+            return result instanceof Term.Literal ? result
+                : Reduction.valueToTerm(run(g, Reduction.evaluate(true, null, result, null)));
+        }
+
+        public static Object project(Object term, Object projection) {
+            Term<?> arg = stripTerm((Term<?>) term);
+            if (!(arg instanceof Term.Record)) {
+                return run(null, unexpected("record", arg));
+            }
+            Record<?> record = ((Term.Record<?>) arg).value;
+            Projection proj = (Projection) projection;
+            if (!record.typeName.equals(proj.typeName)) {
+                return run(null, fail("tried to project a " + proj.typeName + " field out of a " + record.typeName
+                    + " record"));
+            }
+            Term<?> value = FieldIndex.find(record, proj.field);
+            return value != null ? value : run(null, fail("no such field: " + proj.field + " in " + record.typeName + " record"));
+        }
+
+        public static Object record(Object typeName, Object names, Object values) {
+            FieldName[] nameArray = (FieldName[]) names;
+            Object[] valueArray = (Object[]) values;
+            List<Field<Object>> fields = new ArrayList<>(nameArray.length);
+            for (int i = 0; i < nameArray.length; i++) {
+                fields.add(new Field<>(nameArray[i], (Term<Object>) valueArray[i]));
+            }
+            return new Term.Record<>(new Record<>((Name) typeName, fields));
+        }
+
+        public static Object strip(Object term) {
+            return stripTerm((Term<?>) term);
+        }
+
+        public static Object term(Boolean value) {
+            return Terms.boolean_(value);
+        }
+
+        public static Object term(Integer value) {
+            return Terms.int32(value);
+        }
+
+        public static Object term(String value) {
+            return Terms.string(value);
+        }
+
+        public static Object unwrap(Object term, Object typeName) {
+            Term<?> arg = stripTerm((Term<?>) term);
+            if (!(arg instanceof Term.Wrap)) {
+                return run(null, unexpected("wrapped term", arg));
+            }
+            Nominal<? extends Term<?>> wrapped = ((Term.Wrap<?>) arg).value;
+            return typeName.equals(wrapped.typeName) ? wrapped.object
+                : run(null, fail("tried to unwrap an instance of " + wrapped.typeName + " as an instance of "
+                    + typeName));
+        }
+
+        public static Object wrap(Object typeName, Object value) {
+            return Terms.wrap((Name) typeName, (Term<Object>) value);
+        }
+
+        private static <S, X> X run(S state, Flow<S, X> flow) {
+            FlowState<S, X> result = FlowInterpreter.run(flow, state, EMPTY_TRACE);
+            if (!result.value.isPresent()) {
+                throw new FlowException(result.trace);
+            }
+            return result.value.get();
+        }
+    }
+}
@@ -0,0 +1,503 @@
+package hydra;
+
+import hydra.compute.Flow;
+import hydra.compute.FlowInterpreter;
+import hydra.compute.FlowState;
+import hydra.core.Annotated;
+import hydra.core.Application;
+import hydra.core.CaseStatement;
+import hydra.core.Elimination;
+import hydra.core.Field;
+import hydra.core.FieldName;
+import hydra.core.Injection;
+import hydra.core.Lambda;
+import hydra.core.Let;
+import hydra.core.Name;
+import hydra.core.Projection;
+import hydra.core.Record;
+import hydra.core.Term;
+import hydra.dsl.Terms;
+import hydra.graph.Element;
+import hydra.graph.Graph;
+import hydra.graph.Primitive;
+import hydra.tools.FlowException;
+import hydra.tools.LList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static hydra.Common.*;
+import static hydra.Flows.*;
+
+
+/**
+ * A compiler from terms to trees of pre-resolved Java nodes, for terms which are evaluated many times,
+ * such as a transformation which is applied to each of a large number of records.
+ * Variables are resolved to environment depths, and primitive functions to their implementations, once at compile time;
+ * the compiled program is then invoked directly, without walking or dispatching on the original term.
+ * Compiled programs evaluate eagerly, and agree with {@code Reduction.reduce(Strategy.ENVIRONMENT, true, term)}.
+ * They share their values and environments with that evaluator, and defer to it for constructs which are not compiled
+ * natively, such as the terms produced by higher-order primitives.
+ */
+public class Compiler {
+    private Compiler() {
+    }
+
+    /**
+     * Compile a term against a graph, which provides primitive functions and elements
+     */
+    public static <A> Program<A> compile(Graph<A> graph, Term<A> term) {
+        Context<A> cx = new Context<>(graph);
+        return new Program<>(cx, cx.compile(term, null));
+    }
+
+    /**
+     * A compiled term. A program may be applied and evaluated by any number of threads at once, provided that the graph
+     * it was compiled against is not modified (see {@link Graphs#freeze}). The elements of the graph which it refers to
+     * are compiled on first use, and the compiled elements are shared by all threads.
+     */
+    public static class Program<A> {
+        private final Context<A> cx;
+        private final Node<A> root;
+
+        private Program(Context<A> cx, Node<A> root) {
+            this.cx = cx;
+            this.root = root;
+        }
+
+        /**
+         * Apply the compiled term, which is expected to be a function, to the given arguments.
+         * Throws a FlowException if evaluation fails.
+         */
+        @SafeVarargs
+        public final Term<A> apply(Term<A>... args) {
+            // Arguments are evaluated first, as in eager reduction; closed data terms evaluate to themselves.
+            // Each argument is evaluated only once, so it is interpreted rather than compiled.
+            Object[] values = new Object[args.length];
+            for (int i = 0; i < args.length; i++) {
+                values[i] = cx.isConstant(args[i], null) ? args[i] : cx.interpret(args[i], null);
+            }
+            return Reduction.valueToTerm(cx.apply(root.eval(null), values, 0));
+        }
+
+        /**
+         * Evaluate the compiled term. Throws a FlowException if evaluation fails.
+         */
+        public Term<A> evaluate() {
+            return Reduction.valueToTerm(root.eval(null));
+        }
+
+        /**
+         * Apply the compiled term to the given arguments, as a flow
+         */
+        public Flow<Graph<A>, Term<A>> applyM(List<Term<A>> args) {
+            return bind(getState(), ignored -> {
+                try {
+                    return pure(apply(toArray(args)));
+                } catch (FlowException e) {
+                    return new Flow<>(s -> t -> new FlowState<>(Optional.empty(), s, e.trace));
+                }
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <A> Term<A>[] toArray(List<Term<A>> terms) {
+            return terms.toArray((Term<A>[]) new Term<?>[terms.size()]);
+        }
+    }
+
+    /**
+     * The compile-time and run-time context of a program
+     */
+    private static class Context<A> {
+        private final Graph<A> graph;
+        // Compiled elements, which are filled in as programs are evaluated, possibly by several threads
+        private final Map<Name, Node<A>> globals = new ConcurrentHashMap<>();
+
+        Context(Graph<A> graph) {
+            this.graph = graph;
+        }
+
+        Node<A> compile(Term<A> term, LList<Name> scope) {
+            if (isConstant(term, scope)) {
+                return new Constant<>(term);
+            }
+
+            return term.accept(new Term.PartialVisitor<>() {
+                @Override
+                public Node<A> otherwise(Term<A> instance) {
+                    return data(term, scope);
+                }
+
+                @Override
+                public Node<A> visit(Term.Annotated<A> instance) {
+                    Annotated<Term<A>, A> ann = instance.value;
+                    Node<A> subject = compile(ann.subject, scope);
+                    return env -> Terms.annot(ann.annotation, Reduction.valueToTerm(subject.eval(env)));
+                }
+
+                @Override
+                public Node<A> visit(Term.Application<A> instance) {
+                    return application(term, scope);
+                }
+
+                @Override
+                public Node<A> visit(Term.Function<A> instance) {
+                    if (instance.value instanceof hydra.core.Function.Lambda) {
+                        Lambda<A> lam = ((hydra.core.Function.Lambda<A>) instance.value).value;
+                        Node<A> body = compile(lam.body, LList.push(lam.parameter, scope));
+                        return env -> new CompiledClosure<>(term, lam, env, body);
+                    } else {
+                        return data(term, scope);
+                    }
+                }
+
+                @Override
+                public Node<A> visit(Term.Let<A> instance) {
+                    List<Name> names = new ArrayList<>(instance.value.bindings.keySet());
+                    LList<Name> scope1 = scope;
+                    for (Name name : names) {
+                        scope1 = LList.push(name, scope1);
+                    }
+                    List<Term<A>> terms = new ArrayList<>();
+                    List<Node<A>> nodes = new ArrayList<>();
+                    for (Name name : names) {
+                        Term<A> bterm = instance.value.bindings.get(name);
+                        terms.add(bterm);
+                        nodes.add(compile(bterm, scope1));
+                    }
+                    Node<A> body = compile(instance.value.environment, scope1);
+                    return env -> {
+                        Reduction.Env<A> env1 = env;
+                        List<CompiledLetBinding<A>> bindings = new ArrayList<>(names.size());
+                        for (int i = 0; i < names.size(); i++) {
+                            CompiledLetBinding<A> binding = new CompiledLetBinding<>(terms.get(i), nodes.get(i));
+                            bindings.add(binding);
+                            env1 = new Reduction.Env<>(names.get(i), binding, env1);
+                        }
+                        for (CompiledLetBinding<A> binding : bindings) {
+                            binding.env = env1;
+                        }
+                        return body.eval(env1);
+                    };
+                }
+
+                @Override
+                public Node<A> visit(Term.Stream<A> instance) {
+                    return env -> interpret(term, env);
+                }
+
+                @Override
+                public Node<A> visit(Term.Variable<A> instance) {
+                    Name name = instance.value;
+                    int index = indexOf(name, scope);
+                    if (index >= 0) {
+                        return env -> {
+                            Reduction.Env<A> cur = env;
+                            for (int i = 0; i < index; i++) {
+                                cur = cur.parent;
+                            }
+                            return force(cur.entry);
+                        };
+                    } else {
+                        return env -> global(name).eval(null);
+                    }
+                }
+            });
+        }
+
+        // Applications are compiled with their arguments flattened, and with primitive and elimination heads resolved
+        private Node<A> application(Term<A> term, LList<Name> scope) {
+            List<Term<A>> argTerms = new ArrayList<>();
+            Term<A> head = term;
+            while (head instanceof Term.Application) {
+                Application<A> app = ((Term.Application<A>) head).value;
+                argTerms.add(0, app.argument);
+                head = stripTerm(app.function);
+            }
+            List<Node<A>> argNodes = new ArrayList<>(argTerms.size());
+            for (Term<A> arg : argTerms) {
+                argNodes.add(compile(arg, scope));
+            }
+            Node<A>[] args = toArray(argNodes);
+
+            if (head instanceof Term.Function) {
+                hydra.core.Function<A> fun = ((Term.Function<A>) head).value;
+                if (fun instanceof hydra.core.Function.Primitive) {
+                    Optional<Lexical.ResolvedPrimitive<A>> prim
+                        = Lexical.resolvePrimitive(graph, ((hydra.core.Function.Primitive<A>) fun).value);
+                    if (prim.isPresent() && prim.get().arity <= args.length) {
+                        return primitiveApplication(prim.get().primitive, prim.get().arity, args);
+                    }
+                } else if (fun instanceof hydra.core.Function.Elimination) {
+                    Elimination<A> elim = ((hydra.core.Function.Elimination<A>) fun).value;
+                    Eliminator<A> eliminator = eliminator(elim, scope);
+                    if (eliminator != null) {
+                        return env -> {
+                            Object[] values = evalAll(args, env);
+                            Term<A> arg = stripTerm(Reduction.valueToTerm(values[0]));
+                            return apply(eliminator.eliminate(arg, env), values, 1);
+                        };
+                    }
+                }
+            }
+
+            Node<A> headNode = compile(head, scope);
+            return env -> {
+                Object[] values = evalAll(args, env);
+                return apply(headNode.eval(env), values, 0);
+            };
+        }
+
+        private Node<A> primitiveApplication(Primitive<A> prim, int arity, Node<A>[] args) {
+            return env -> {
+                Object[] values = evalAll(args, env);
+                List<Term<A>> primArgs = new ArrayList<>(arity);
+                for (int i = 0; i < arity; i++) {
+                    primArgs.add(Reduction.valueToTerm(values[i]));
+                }
+                Term<A> result = run(Reduction.applyPrimitive(prim, Reduction.Strategy.ENVIRONMENT, primArgs));
+                Object value = result instanceof Term.Literal ? result : interpret(result, null);
+                return apply(value, values, arity);
+            };
+        }
+
+        private Eliminator<A> eliminator(Elimination<A> elim, LList<Name> scope) {
+            if (elim instanceof Elimination.Record) {
+                Projection proj = ((Elimination.Record<A>) elim).value;
+                return (arg, env) -> {
+                    if (!(arg instanceof Term.Record)) {
+                        return run(unexpected("record", arg));
+                    }
+                    Record<A> record = ((Term.Record<A>) arg).value;
+                    if (!record.typeName.equals(proj.typeName)) {
+                        return run(fail("tried to project a " + proj.typeName + " field out of a " + record.typeName
+                            + " record"));
+                    }
+                    Term<A> value = FieldIndex.find(record, proj.field);
+                    return value != null ? interpret(value, null) : run(fail("no such field: " + proj.field + " in " + record.typeName + " record"));
+                };
+            } else if (elim instanceof Elimination.Union) {
+                CaseStatement<A> cases = ((Elimination.Union<A>) elim).value;
+                Map<FieldName, Node<A>> handlers = new HashMap<>();
+                for (Field<A> field : cases.cases) {
+                    handlers.putIfAbsent(field.name, compile(field.term, scope));
+                }
+                Optional<Node<A>> def = cases.default_.map(t -> compile(t, scope));
+                return (arg, env) -> {
+                    if (!(arg instanceof Term.Union)) {
+                        return run(unexpected("injection", arg));
+                    }
+                    Injection<A> inj = ((Term.Union<A>) arg).value;
+                    if (!cases.typeName.equals(inj.typeName)) {
+                        return run(fail("tried to match a " + inj.typeName + " injection as " + cases.typeName));
+                    }
+                    Node<A> handler = handlers.get(inj.field.name);
+                    if (handler != null) {
+                        return apply(handler.eval(env), new Object[] {interpret(inj.field.term, null)}, 0);
+                    }
+                    return def.isPresent() ? def.get().eval(env)
+                        : run(fail("no such field " + inj.field.name + " in " + cases.typeName + " case statement"));
+                };
+            } else if (elim instanceof Elimination.Wrap) {
+                Name fname = ((Elimination.Wrap<A>) elim).value;
+                return (arg, env) -> {
+                    if (!(arg instanceof Term.Wrap)) {
+                        return run(unexpected("wrapped term", arg));
+                    }
+                    Name aname = ((Term.Wrap<A>) arg).value.typeName;
+                    return fname.equals(aname) ? interpret(((Term.Wrap<A>) arg).value.object, null)
+                        : run(fail("tried to unwrap an instance of " + aname + " as an instance of " + fname));
+                };
+            } else {
+                return null;
+            }
+        }
+
+        // Terms other than lambdas, applications, lets and variables are compiled by compiling their subterms
+        private Node<A> data(Term<A> term, LList<Name> scope) {
+            Map<Term<A>, Node<A>> children = new IdentityHashMap<>();
+            Rewriting.rewriteSubterms(child -> {
+                children.put(child, compile(child, scope));
+                return child;
+            }, a -> a, term);
+            return env -> Rewriting.rewriteSubterms(
+                child -> Reduction.valueToTerm(children.get(child).eval(env)), a -> a, term);
+        }
+
+        @SuppressWarnings("unchecked")
+        Object apply(Object fun, Object[] args, int from) {
+            Object cur = fun;
+            for (int i = from; i < args.length; i++) {
+                if (cur instanceof CompiledClosure) {
+                    CompiledClosure<A> closure = (CompiledClosure<A>) cur;
+                    Object arg = args[i] instanceof Term ? stripTerm((Term<A>) args[i]) : args[i];
+                    cur = closure.body.eval(new Reduction.Env<>(closure.lambda.parameter, arg, closure.env));
+                } else {
+                    LList<Object> rest = null;
+                    for (int j = args.length - 1; j >= i; j--) {
+                        rest = LList.push(args[j], rest);
+                    }
+                    return run(Reduction.applyValue(true, null, cur, rest));
+                }
+            }
+            return cur;
+        }
+
+        private Object[] evalAll(Node<A>[] nodes, Reduction.Env<A> env) {
+            Object[] values = new Object[nodes.length];
+            for (int i = 0; i < nodes.length; i++) {
+                values[i] = nodes[i].eval(env);
+            }
+            return values;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object force(Object entry) {
+            if (entry instanceof CompiledLetBinding) {
+                CompiledLetBinding<A> binding = (CompiledLetBinding<A>) entry;
+                if (binding.value == null) {
+                    binding.value = binding.node.eval(binding.env);
+                }
+                return binding.value;
+            }
+            return entry;
+        }
+
+        private Node<A> global(Name name) {
+            Node<A> node = globals.get(name);
+            if (node == null) {
+                Element<A> el = graph.elements.get(name);
+                Term<A> var = Terms.variable(name.value);
+                node = el == null ? new Constant<>(var) : compile(el.data, null);
+                // If another thread has compiled the element in the meantime, its node is used
+                Node<A> existing = globals.putIfAbsent(name, node);
+                if (existing != null) {
+                    return existing;
+                }
+            }
+            return node;
+        }
+
+        private Object interpret(Term<A> term, Reduction.Env<A> env) {
+            return run(Reduction.evaluate(true, null, term, env));
+        }
+
+        private boolean isConstant(Term<A> term, LList<Name> scope) {
+            return term.accept(new Term.PartialVisitor<>() {
+                @Override
+                public Boolean otherwise(Term<A> instance) {
+                    boolean[] constant = {true};
+                    Rewriting.rewriteSubterms(child -> {
+                        constant[0] = constant[0] && isConstant(child, scope);
+                        return child;
+                    }, a -> a, term);
+                    return constant[0];
+                }
+
+                @Override
+                public Boolean visit(Term.Application<A> instance) {
+                    return false;
+                }
+
+                @Override
+                public Boolean visit(Term.Function<A> instance) {
+                    if (instance.value instanceof hydra.core.Function.Lambda) {
+                        // Lambdas are compiled, so that they can be applied without interpretation
+                        return false;
+                    }
+                    return otherwise(instance);
+                }
+
+                @Override
+                public Boolean visit(Term.Let<A> instance) {
+                    return false;
+                }
+
+                @Override
+                public Boolean visit(Term.Stream<A> instance) {
+                    return false;
+                }
+
+                @Override
+                public Boolean visit(Term.Variable<A> instance) {
+                    Name name = instance.value;
+                    return indexOf(name, scope) < 0 && !graph.elements.containsKey(name);
+                }
+            });
+        }
+
+        private <X> X run(Flow<Graph<A>, X> flow) {
+            FlowState<Graph<A>, X> result = FlowInterpreter.run(flow, graph, EMPTY_TRACE);
+            if (!result.value.isPresent()) {
+                throw new FlowException(result.trace);
+            }
+            return result.value.get();
+        }
+
+        private static int indexOf(Name name, LList<Name> scope) {
+            int index = 0;
+            for (LList<Name> cur = scope; cur != null; cur = cur.rest) {
+                if (cur.first.equals(name)) {
+                    return index;
+                }
+                index++;
+            }
+            return -1;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <A> Node<A>[] toArray(List<Node<A>> nodes) {
+            return nodes.toArray((Node<A>[]) new Node<?>[nodes.size()]);
+        }
+    }
+
+    /**
+     * A compiled term, which evaluates to a value in a given environment
+     */
+    private interface Node<A> {
+        Object eval(Reduction.Env<A> env);
+    }
+
+    /**
+     * A compiled elimination, which is applied to a stripped argument term
+     */
+    private interface Eliminator<A> {
+        Object eliminate(Term<A> arg, Reduction.Env<A> env);
+    }
+
+    private static class Constant<A> implements Node<A> {
+        private final Term<A> term;
+
+        Constant(Term<A> term) {
+            this.term = term;
+        }
+
+        @Override
+        public Object eval(Reduction.Env<A> env) {
+            return term;
+        }
+    }
+
+    private static class CompiledClosure<A> extends Reduction.Closure<A> {
+        final Node<A> body;
+
+        CompiledClosure(Term<A> term, Lambda<A> lambda, Reduction.Env<A> env, Node<A> body) {
+            super(term, lambda, env);
+            this.body = body;
+        }
+    }
+
+    private static class CompiledLetBinding<A> extends Reduction.LetBinding<A> {
+        final Node<A> node;
+
+        CompiledLetBinding(Term<A> term, Node<A> node) {
+            super(term);
+            this.node = node;
+        }
+    }
+}
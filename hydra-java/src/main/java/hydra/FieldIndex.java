@@ -0,0 +1,143 @@
+package hydra;
+
+import hydra.core.CaseStatement;
+import hydra.core.Field;
+import hydra.core.FieldName;
+import hydra.core.Name;
+import hydra.core.Record;
+import hydra.core.Term;
+import hydra.tools.WeakIdentityCache;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+
+/**
+ * An index from field names to positions in a list of fields, such as the fields of a record or the cases of a
+ * case statement. An index holds only names, so it describes the shape of a list rather than its contents, and may be
+ * shared by every list of that shape. Indexes for records are built lazily and cached per record type name, so that
+ * records decoded or constructed from the same row type share one index; indexes for case statements are cached per
+ * list instance. A position found through a shared index is checked against the record at hand, and a record whose
+ * shape differs from its type's index is scanned linearly instead. Narrow lists are always scanned rather than hashed.
+ * Where a name occurs more than once, the first field wins.
+ */
+public final class FieldIndex {
+    /**
+     * Lists with at most this many fields are not hashed; comparing canonical names by reference is faster
+     */
+    static final int LINEAR_SCAN_MAX = 8;
+
+    // Keyed by record type names and by case lists. An index must not refer to its key, which would keep it alive.
+    private static final WeakIdentityCache<Object, FieldIndex> CACHE = new WeakIdentityCache<>();
+
+    private final FieldName[] names;
+    private final Map<FieldName, Integer> positions;
+
+    private FieldIndex(List<? extends Field<?>> fields) {
+        int size = fields.size();
+        this.names = new FieldName[size];
+        for (int i = 0; i < size; i++) {
+            names[i] = fields.get(i).name;
+        }
+        if (size <= LINEAR_SCAN_MAX) {
+            this.positions = null;
+        } else {
+            Map<FieldName, Integer> positions = new HashMap<>(2 * size);
+            for (int i = 0; i < size; i++) {
+                positions.putIfAbsent(names[i], i);
+            }
+            this.positions = positions;
+        }
+    }
+
+    /**
+     * The index of a list of fields, which is built on first use and shared thereafter
+     */
+    public static FieldIndex of(List<? extends Field<?>> fields) {
+        return CACHE.get(fields, k -> new FieldIndex(fields));
+    }
+
+    /**
+     * The index shared by all records of the given type, which is built from the first such record to be looked up
+     */
+    public static FieldIndex of(Name typeName, List<? extends Field<?>> fields) {
+        return CACHE.get(typeName, k -> new FieldIndex(fields));
+    }
+
+    /**
+     * Find the value of a field in a record
+     */
+    public static <A> Optional<Term<A>> field(Record<A> record, FieldName name) {
+        return Optional.ofNullable(find(record, name));
+    }
+
+    /**
+     * Find the handler for a field in a case statement, not taking the default into account
+     */
+    public static <A> Optional<Term<A>> handler(CaseStatement<A> cases, FieldName name) {
+        return Optional.ofNullable(find(cases, name));
+    }
+
+    /**
+     * Find the value of the first field in a record with the given name, or null if there is no such field
+     */
+    public static <A> Term<A> find(Record<A> record, FieldName name) {
+        List<Field<A>> fields = record.fields;
+        if (fields.size() > LINEAR_SCAN_MAX) {
+            // The index is shared with other records of this type, so check the position it gives
+            int i = of(record.typeName, fields).indexOf(name);
+            if (i >= 0 && i < fields.size() && fields.get(i).name.equals(name)) {
+                return fields.get(i).term;
+            }
+        }
+        return scan(fields, name);
+    }
+
+    /**
+     * Find the handler for the first case with the given name, or null if there is no such case
+     */
+    public static <A> Term<A> find(CaseStatement<A> cases, FieldName name) {
+        List<Field<A>> fields = cases.cases;
+        if (fields.size() > LINEAR_SCAN_MAX) {
+            int i = of(fields).indexOf(name);
+            return i < 0 ? null : fields.get(i).term;
+        }
+        return scan(fields, name);
+    }
+
+    private static <A> Term<A> scan(List<Field<A>> fields, FieldName name) {
+        for (Field<A> field : fields) {
+            if (field.name == name) {
+                return field.term;
+            }
+        }
+        for (Field<A> field : fields) {
+            if (field.name.equals(name)) {
+                return field.term;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The position of the first field with the given name, or -1 if there is no such field
+     */
+    public int indexOf(FieldName name) {
+        if (positions != null) {
+            Integer i = positions.get(name);
+            return i == null ? -1 : i;
+        }
+        for (int i = 0; i < names.length; i++) {
+            if (names[i] == name) {
+                return i;
+            }
+        }
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
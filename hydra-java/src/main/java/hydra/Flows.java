@@ -1,58 +1,65 @@
 package hydra;
 
 import hydra.compute.Flow;
+import hydra.compute.FlowInterpreter;
 import hydra.compute.FlowState;
 import hydra.compute.Trace;
 import hydra.tools.FlowException;
+import hydra.tools.TraceLog;
 import hydra.tools.TriFunction;
 
-import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 
 /**
  * A collection of convenience methods for constructing and composing flows, or stateful computations.
+ * Flows built from these methods are evaluated by {@link FlowInterpreter}, which runs in constant stack space.
  */
 public interface Flows {
-    Trace EMPTY_TRACE
-            = new Trace(Collections.emptyList(), Collections.emptyList(), Collections.emptyMap());
+    /**
+     * The default maximum depth of a trace's stack; see withTrace
+     */
+    int MAX_TRACE_DEPTH = 4000;
+
+    /**
+     * The default maximum number of messages kept by a trace
+     */
+    int MAX_TRACE_MESSAGES = 10000;
+
+    /**
+     * An empty trace with the default limits. Its stack may be at most MAX_TRACE_DEPTH (4000) frames deep, and withTrace
+     * fails rather than nest any deeper. It keeps only the first MAX_TRACE_MESSAGES (10000) messages; later messages
+     * are counted, but dropped, and the messages end with a note of how many were omitted. Use emptyTrace for other
+     * limits, or TraceLog.UNLIMITED for none.
+     */
+    Trace EMPTY_TRACE = emptyTrace(MAX_TRACE_DEPTH, MAX_TRACE_MESSAGES);
 
     static <S, X, Y> Flow<S, Y> apply(Flow<S, Function<X, Y>> mapping, Flow<S, X> input) {
-        return new Flow<>(s0 -> t0 -> {
-            FlowState<S, Function<X, Y>> fs1 = mapping.value.apply(s0).apply(t0);
-            Optional<Function<X, Y>> mf = fs1.value;
-            return mf.isPresent()
-                    ? map(mf.get(), input).value.apply(fs1.state).apply(fs1.trace)
-                    : new FlowState<>(Optional.empty(), fs1.state, fs1.trace);
-        });
+        return bind(mapping, f -> map(f, input));
     }
 
     /**
      * Monadic bind function for flows
      */
     static <S, X, Y> Flow<S, Y> bind(Flow<S, X> p, Function<X, Flow<S, Y>> k) {
-        return new Flow<>(s0 -> t0 -> {
-            FlowState<S, X> fs1 = p.value.apply(s0).apply(t0);
-            Optional<X> x = fs1.value;
-            return x.isPresent()
-                    ? k.apply(x.get()).value.apply(fs1.state).apply(fs1.trace)
-                    : new FlowState<>(Optional.empty(), fs1.state, fs1.trace);
-        });
+        return new Flow<>(new FlowInterpreter.Bind<>(p, k));
     }
 
     /**
      * Monadic bind with reversed arguments
      */
     static <S, X, Y> Flow<S, Y> bind(Function<X, Flow<S, Y>> k, Flow<S, X> p) {
-        return bind(k, p);
+        return bind(p, k);
     }
 
     /**
@@ -76,23 +83,35 @@ public interface Flows {
         return x -> Flows.bind(f.apply(x), g);
     }
 
+    /**
+     * An empty trace with the given limits. A trace may be nested in at most maxStackDepth calls to withTrace, and
+     * keeps at most maxMessages messages; further messages are counted, but dropped.
+     */
+    static Trace emptyTrace(int maxStackDepth, int maxMessages) {
+        return new Trace(TraceLog.empty(maxStackDepth), TraceLog.empty(maxMessages), Collections.emptyMap());
+    }
+
     /**
      * Produce a failure flow with the provided message
      */
     static <S, X> Flow<S, X> fail(String msg) {
-        return new Flow<>(s -> trace -> {
-            String errMsg = "Error: " + msg; // TODO: include stack trace
-            List<String> messages = new ArrayList<>(trace.messages);
-            messages.add(errMsg);
-            return new FlowState<>(Optional.empty(), s, trace.withMessages(messages));
-        });
+        String errMsg = "Error: " + msg; // TODO: include stack trace
+        return new Flow<>(new FlowInterpreter.Fail<>(errMsg));
+    }
+
+    /**
+     * Produce a failure flow with a message which is constructed only if it is read.
+     * Use this variant for messages which are expensive to construct, such as messages which print a term.
+     */
+    static <S, X> Flow<S, X> fail(Supplier<String> msg) {
+        return new Flow<>(new FlowInterpreter.Fail<>(() -> "Error: " + msg.get()));
     }
 
     /**
      * Extract the value from a flow, throwing an exception if the flow failed. Use this method sparingly.
      */
     static <S, X> X fromFlow(Flow<S, X> flow) throws FlowException {
-        FlowState<S, X> wrapper = flow.value.apply(null).apply(EMPTY_TRACE);
+        FlowState<S, X> wrapper = FlowInterpreter.run(flow, null, EMPTY_TRACE);
 
         if (!wrapper.value.isPresent()) {
             throw new FlowException(wrapper.trace);
@@ -105,17 +124,14 @@ public interface Flows {
      * Extract the state from a flow
      */
     static <S> Flow<S, S> getState() {
-      return new Flow<>(s0 -> t0 -> new FlowState<>(Optional.of(s0), s0, t0));
+      return new Flow<>(new FlowInterpreter.GetState<>());
     }
 
     /**
      * Map a function over a flow
      */
     static <S, X, Y> Flow<S, Y> map(Function<X, Y> f, Flow <S, X> x) {
-        return new Flow<>(s -> trace -> {
-            FlowState<S, X> result = x.value.apply(s).apply(trace);
-            return new FlowState<>(result.value.map(f), result.state, result.trace);
-        });
+        return new Flow<>(new FlowInterpreter.Map<>(x, f));
     }
 
     /**
@@ -129,14 +145,7 @@ public interface Flows {
      * Map a monadic function over a list, producing a flow of lists
      */
     static <S, X, Y> Flow<S, List<Y>> mapM(List<X> xs, Function<X, Flow<S, Y>> f) {
-        Flow<S, List<Y>> result = pure(new ArrayList<>());
-        for (X x : xs) {
-            result = bind(result, ys -> map(f.apply(x), y -> {
-                ys.add(y); // Modify in place
-                return ys;
-            }));
-        }
-        return result;
+        return new Flow<>(new FlowInterpreter.TraverseCollection<S, X, Y, List<Y>>(xs, f, ArrayList::new));
     }
 
     /**
@@ -144,10 +153,7 @@ public interface Flows {
      * producing a flow of maps
      */
     static <S, K1, V1, K2, V2> Flow<S, Map<K2, V2>> mapM(Map<K1, V1> xs, Function<K1, Flow<S, K2>> kf, Function<V1, Flow<S, V2>> vf) {
-        Set<Map.Entry<K1, V1>> entries1 = xs.entrySet();
-        Flow<S, Set<Map.Entry<K2, V2>>> entries2 = mapM(entries1,
-                e -> bind(kf.apply(e.getKey()), k2 -> map(vf.apply(e.getValue()), v2 -> new AbstractMap.SimpleEntry<>(k2, v2))));
-        return map(entries2, entries -> entries.stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+        return new Flow<>(new FlowInterpreter.TraverseMap<>(xs, kf, vf));
     }
 
     /**
@@ -157,39 +163,45 @@ public interface Flows {
         return xs.map(x -> map(f.apply(x), Optional::of)).orElseGet(() -> pure(Optional.empty()));
     }
 
+    /**
+     * Map a monadic function over a list, producing a flow of lists, and evaluating the function's flows in parallel
+     * on the given pool. The outcome is the same as that of mapM, provided that the flows do not change the state.
+     */
+    static <S, X, Y> Flow<S, List<Y>> parallelMapM(ForkJoinPool pool, List<X> xs, Function<X, Flow<S, Y>> f) {
+        return new Flow<>(new FlowInterpreter.ParallelTraverse<>(pool, xs, f));
+    }
+
     /**
      * Map a monadic function over a set, producing a flow of sets
      */
     static <S, X, Y> Flow<S, Set<Y>> mapM(Set<X> xs, Function<X, Flow<S, Y>> f) {
-        Flow<S, Set<Y>> result = pure(Collections.emptySet());
-        for (X x : xs) {
-            result = bind(result, ys -> map(f.apply(x), y -> {
-                ys.add(y); // Modify in place
-                return ys;
-            }));
-        }
-        return result;
+        return new Flow<>(new FlowInterpreter.TraverseCollection<S, X, Y, Set<Y>>(xs, f,
+            n -> new HashSet<>(FlowInterpreter.hashCapacity(n))));
     }
 
     /**
      * Map a bifunction over two flows, producing a flow
      */
+    @SuppressWarnings("unchecked")
     static <S, X, Y, Z> Flow<S, Z> map2(Flow<S, X> x, Flow<S, Y> y, BiFunction<X, Y, Z> f) {
-        return Flows.bind(x, x1 -> Flows.bind(y, y1 -> Flows.pure(f.apply(x1, y1))));
+        return new Flow<>(new FlowInterpreter.Sequence<S, Z>((Flow<S, ?>[]) new Flow<?, ?>[] {x, y},
+            values -> f.apply((X) values[0], (Y) values[1])));
     }
 
     /**
      * Map a ternary function over three flowr, producing a flow
      */
+    @SuppressWarnings("unchecked")
     static <S, X, Y, Z, R> Flow<S, R> map3(Flow<S, X> x, Flow<S, Y> y, Flow<S, Z> z, TriFunction<X, Y, Z, R> f) {
-        return Flows.bind(x, x1 -> Flows.bind(y, y1 -> Flows.bind(z, z1 -> Flows.pure(f.apply(x1, y1, z1)))));
+        return new Flow<>(new FlowInterpreter.Sequence<S, R>((Flow<S, ?>[]) new Flow<?, ?>[] {x, y, z},
+            values -> f.apply((X) values[0], (Y) values[1], (Z) values[2])));
     }
 
     /**
      * Produce a given object as a pure flow; the value is guaranteed to be present, and neither state nor trace are modified
      */
     static <S, X> Flow<S, X> pure(X obj) {
-        return new Flow<>(s -> trace -> new FlowState<>(Optional.of(obj), s, trace));
+        return new Flow<>(new FlowInterpreter.Pure<>(obj));
     }
 
     /**
@@ -197,7 +209,7 @@ public interface Flows {
      */
     static <S> Flow<S, Boolean> putState(S snew) {
         // Note: for lack of a unit value other than null, we use use a boolean as the ignorable value output of putState()
-        return new Flow<>(s0 -> t0 -> new FlowState<>(Optional.of(true), snew, t0));
+        return new Flow<>(new FlowInterpreter.PutState<>(snew));
     }
 
     /**
@@ -205,6 +217,15 @@ public interface Flows {
      * For example, if you expect a string but find an integer, use unexpected("string", myInt)
      */
     static <S, X> Flow<S, X> unexpected(String cat, Object obj) {
-        return fail("expected " + cat + " but found: " + obj);
+        return fail(() -> "expected " + cat + " but found: " + obj);
+    }
+
+    /**
+     * Run a flow with a frame added to the stack of the trace, e.g. the name of the element being processed.
+     * The frame is removed again if the flow succeeds. If the stack has already reached its maximum depth, the flow
+     * fails instead.
+     */
+    static <S, X> Flow<S, X> withTrace(String frame, Flow<S, X> flow) {
+        return new Flow<>(new FlowInterpreter.WithTrace<>(frame, flow));
     }
 }
@@ -0,0 +1,143 @@
+package hydra;
+
+import hydra.compute.Flow;
+import hydra.compute.FlowInterpreter;
+import hydra.compute.FlowState;
+import hydra.core.Term;
+import hydra.graph.Graph;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static hydra.Flows.EMPTY_TRACE;
+
+
+/**
+ * Utilities for sharing a graph between threads.
+ * Evaluating a term never changes the graph it is evaluated against: reduction reads the graph's elements and
+ * primitives through the flow state, but does not replace that state, and the standard primitives do not modify
+ * their arguments. A graph whose maps cannot be modified is therefore safe to share among any number of concurrent
+ * evaluations. {@link #freeze(Graph)} produces such a graph.
+ */
+public class Graphs {
+    private Graphs() {
+    }
+
+    /**
+     * An immutable snapshot of a graph, including its schema graph. The elements, environment and primitives of the
+     * snapshot are copied into unmodifiable maps which may be read concurrently, so that later changes to the maps of
+     * the original graph do not affect the snapshot. Frozen graphs are returned as they are.
+     */
+    public static <A> Graph<A> freeze(Graph<A> graph) {
+        if (isFrozen(graph)) {
+            return graph;
+        }
+        return new Graph<>(
+            FrozenMap.of(graph.elements),
+            FrozenMap.of(graph.environment),
+            graph.body,
+            FrozenMap.of(graph.primitives),
+            graph.annotations,
+            graph.schema.map(Graphs::freeze));
+    }
+
+    /**
+     * Whether a graph, and its schema graph if any, is an immutable snapshot produced by freeze
+     */
+    public static <A> boolean isFrozen(Graph<A> graph) {
+        return graph.elements instanceof FrozenMap
+            && graph.environment instanceof FrozenMap
+            && graph.primitives instanceof FrozenMap
+            && graph.schema.map(Graphs::isFrozen).orElse(true);
+    }
+
+    /**
+     * Run a number of independent flows concurrently against a shared, frozen snapshot of a graph, and wait for all of
+     * them to complete. The results are in the same order as the flows, and each flow starts with an empty trace.
+     * A flow which fails produces a flow state with no value; a flow which throws an exception causes that exception
+     * to be rethrown here, once all of the flows have completed.
+     */
+    public static <A, X> List<FlowState<Graph<A>, X>> runConcurrently(Graph<A> graph, List<Flow<Graph<A>, X>> flows,
+        ExecutorService executor) throws InterruptedException {
+        Graph<A> frozen = freeze(graph);
+        List<Future<FlowState<Graph<A>, X>>> futures = new ArrayList<>(flows.size());
+        for (Flow<Graph<A>, X> flow : flows) {
+            futures.add(executor.submit(() -> FlowInterpreter.run(flow, frozen, EMPTY_TRACE)));
+        }
+
+        List<FlowState<Graph<A>, X>> results = new ArrayList<>(flows.size());
+        RuntimeException error = null;
+        for (Future<FlowState<Graph<A>, X>> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                results.add(null);
+                if (error == null) {
+                    error = e.getCause() instanceof RuntimeException
+                        ? (RuntimeException) e.getCause()
+                        : new RuntimeException(e.getCause());
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+        return results;
+    }
+
+    /**
+     * Evaluate a number of terms concurrently against a shared, frozen snapshot of a graph; see runConcurrently
+     */
+    public static <A> List<FlowState<Graph<A>, Term<A>>> reduceConcurrently(Graph<A> graph, List<Term<A>> terms,
+        ExecutorService executor) throws InterruptedException {
+        List<Flow<Graph<A>, Term<A>>> flows = new ArrayList<>(terms.size());
+        for (Term<A> term : terms) {
+            flows.add(Reduction.reduce(Reduction.Strategy.ENVIRONMENT, true, term));
+        }
+        return runConcurrently(graph, flows, executor);
+    }
+
+    /**
+     * An unmodifiable copy of a map. Once constructed, it is never modified, so it may be read by any number of threads.
+     */
+    private static final class FrozenMap<K, V> extends AbstractMap<K, V> {
+        private final Map<K, V> map;
+        private final Set<Entry<K, V>> entrySet;
+
+        private FrozenMap(Map<K, V> map) {
+            this.map = map;
+            this.entrySet = Collections.unmodifiableMap(map).entrySet();
+        }
+
+        static <K, V> Map<K, V> of(Map<K, V> map) {
+            return map instanceof FrozenMap ? map : new FrozenMap<>(new HashMap<>(map));
+        }
+
+        @Override
+        public V get(Object key) {
+            return map.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return map.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet() {
+            return entrySet;
+        }
+    }
+}
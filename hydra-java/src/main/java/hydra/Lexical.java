@@ -4,15 +4,25 @@ import hydra.compute.Flow;
 import hydra.core.Name;
 import hydra.graph.Graph;
 import hydra.graph.Primitive;
+import hydra.tools.WeakIdentityCache;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static hydra.Flows.bind;
 import static hydra.Flows.fail;
 import static hydra.Flows.getState;
+import static hydra.Flows.pure;
+import static hydra.extras.Extras.primitiveArity;
 
 
 public class Lexical {
+    // Resolved primitives, per primitive map. A map may be modified and then given to Graph.withPrimitives again, so
+    // each cached resolution is checked against the primitive which the map currently holds.
+    private static final WeakIdentityCache<Map<Name, ? extends Primitive<?>>, Map<Name, ResolvedPrimitive<?>>>
+        RESOLVED = new WeakIdentityCache<>();
+
     private Lexical() {
     }
 
@@ -20,6 +30,32 @@ public class Lexical {
         return Optional.ofNullable(g.primitives.get(name));
     }
 
+    /**
+     * Find a primitive together with its arity. The result is cached for each primitive map and name, so that
+     * the primitive's type is only inspected once for as long as the map holds the same primitive under that name.
+     */
+    @SuppressWarnings("unchecked")
+    public static <A> Optional<ResolvedPrimitive<A>> resolvePrimitive(Graph<A> g, Name name) {
+        Primitive<A> prim = g.primitives.get(name);
+        if (prim == null) {
+            return Optional.empty();
+        }
+        Map<Name, ResolvedPrimitive<?>> resolved = RESOLVED.get(g.primitives, k -> new ConcurrentHashMap<>());
+        ResolvedPrimitive<?> result = resolved.get(name);
+        if (result == null || result.primitive != prim) {
+            result = new ResolvedPrimitive<>(prim, primitiveArity(prim));
+            resolved.put(name, result);
+        }
+        return Optional.of((ResolvedPrimitive<A>) result);
+    }
+
+    public static <A> Flow<Graph<A>, ResolvedPrimitive<A>> requireResolvedPrimitive(Name name) {
+        return bind(getState(), g -> {
+            Optional<ResolvedPrimitive<A>> mprim = resolvePrimitive(g, name);
+            return mprim.isPresent() ? pure(mprim.get()) : fail("no such primitive function: " + name.value);
+        });
+    }
+
     public static <A> Flow<Graph<A>, Primitive<A>> requirePrimitive(Name name) {
         return bind(getState(), g -> {
             Optional<Primitive<A>> mprim = lookupPrimitive(g, name);
@@ -27,4 +63,17 @@ public class Lexical {
                 .orElseGet(() -> fail("no such primitive function: " + name.value));
         });
     }
+
+    /**
+     * A primitive function together with its arity
+     */
+    public static final class ResolvedPrimitive<A> {
+        public final Primitive<A> primitive;
+        public final int arity;
+
+        private ResolvedPrimitive(Primitive<A> primitive, int arity) {
+            this.primitive = primitive;
+            this.arity = arity;
+        }
+    }
 }
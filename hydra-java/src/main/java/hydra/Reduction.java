@@ -1,35 +1,192 @@
 package hydra;
 
 import hydra.compute.Flow;
+import hydra.compute.FlowInterpreter;
 import hydra.core.Application;
 import hydra.core.CaseStatement;
 import hydra.core.Elimination;
 import hydra.core.Field;
 import hydra.core.Injection;
 import hydra.core.Lambda;
+import hydra.core.Let;
 import hydra.core.Name;
 import hydra.core.Projection;
 import hydra.core.Record;
 import hydra.core.Term;
 import hydra.dsl.Terms;
+import hydra.graph.Element;
 import hydra.graph.Graph;
+import hydra.graph.Primitive;
 import hydra.tools.LList;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 import static hydra.Common.*;
 import static hydra.Flows.*;
-import static hydra.extras.Extras.*;
 
 
 public class Reduction {
     private Reduction() {
     }
 
+    /**
+     * The strategy used to apply lambda expressions to their arguments
+     */
+    public enum Strategy {
+        /**
+         * Substitute the argument for the parameter throughout the body of the lambda, then reduce the result
+         */
+        SUBSTITUTION,
+        /**
+         * Evaluate the body of the lambda in an environment which binds the parameter to the argument.
+         * Lambdas evaluate to closures, which are converted back to terms only when they escape into the result
+         * or are passed to a primitive function. Variables bound by lambdas and let expressions are dereferenced,
+         * as are the names of graph elements.
+         */
+        ENVIRONMENT
+    }
+
+    /**
+     * The implementation of a primitive function which reduces terms of its own, such as the elements of a stream it
+     * is given, and which should do so with the strategy of the reduction which applies it.
+     * Applied as an ordinary implementation, it uses the default (substitution) strategy.
+     */
+    public interface StrategyAwareImplementation<A> extends Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> {
+        Flow<Graph<A>, Term<A>> apply(Strategy strategy, List<Term<A>> args);
+
+        @Override
+        default Flow<Graph<A>, Term<A>> apply(List<Term<A>> args) {
+            return apply(Strategy.SUBSTITUTION, args);
+        }
+    }
+
+    /**
+     * Options for evaluating independent subterms in parallel. The elements of lists and products, the fields of
+     * records, the entries of maps, and the arguments of applications are forked only if there are at least two of
+     * them, and only if together they are at least as large as the threshold, measured in terms (nodes);
+     * smaller groups of subterms are evaluated sequentially, since the overhead of forking would outweigh the gain.
+     */
+    public static final class Parallelism {
+        public static final int DEFAULT_THRESHOLD = 512;
+
+        public final ForkJoinPool pool;
+        public final int threshold;
+
+        // The options themselves, and the view of them used within a group of subterms which was too small to fork
+        private final Parallelism full;
+        private final Parallelism withinSmallTerm;
+
+        public Parallelism(ForkJoinPool pool, int threshold) {
+            this.pool = pool;
+            this.threshold = threshold;
+            this.full = this;
+            this.withinSmallTerm = new Parallelism(this);
+        }
+
+        private Parallelism(Parallelism full) {
+            this.pool = full.pool;
+            this.threshold = full.threshold;
+            this.full = full;
+            this.withinSmallTerm = this;
+        }
+
+        public Parallelism(ForkJoinPool pool) {
+            this(pool, DEFAULT_THRESHOLD);
+        }
+
+        // Whether a group of subterms is large enough to evaluate in parallel. Null entries are already evaluated.
+        // At least two of the subterms must require evaluation, i.e. they must not be literals, variables or functions,
+        // and the subterms are counted only up to the threshold, so the cost of the check is bounded.
+        <A> boolean isWorthForking(List<Term<A>> terms) {
+            if (isWithinSmallTerm()) {
+                return false;
+            }
+            int nontrivial = 0;
+            for (Term<A> term : terms) {
+                if (term != null && !isTrivial(term) && ++nontrivial == 2) {
+                    break;
+                }
+            }
+            if (nontrivial < 2) {
+                return false;
+            }
+            int count = 0;
+            Deque<Term<A>> pending = new ArrayDeque<>();
+            for (Term<A> term : terms) {
+                if (term == null) {
+                    continue;
+                }
+                pending.push(term);
+                while (!pending.isEmpty()) {
+                    if (++count >= threshold) {
+                        return true;
+                    }
+                    Term<A> cur = pending.pop();
+                    // The elements of streams are not counted; rewriting a lazy stream would build new cells
+                    if (!isStream(cur)) {
+                        Rewriting.rewriteSubterms(child -> {
+                            pending.push(child);
+                            return child;
+                        }, a -> a, cur);
+                    }
+                }
+            }
+            return false;
+        }
+
+        // Whether these options apply within a group of subterms which was too small to fork. Every subterm of such a
+        // group is smaller still, so no group within it is measured again. Terms which are not subterms of the group,
+        // such as the bodies of applied closures, the results of primitives and the values of let bindings and
+        // elements, are evaluated with the full options.
+        boolean isWithinSmallTerm() {
+            return this != full;
+        }
+
+        static Parallelism full(Parallelism par) {
+            return par == null ? null : par.full;
+        }
+
+        private static <A> boolean isTrivial(Term<A> term) {
+            Term<A> stripped = stripTerm(term);
+            return stripped instanceof Term.Literal || stripped instanceof Term.Variable
+                || stripped instanceof Term.Function;
+        }
+    }
+
     public static <A> Flow<Graph<A>, Term<A>> reduce(boolean eager, Term<A> term) {
-        return reduce(eager, term, new HashMap<>(), null);
+        return reduce(Strategy.SUBSTITUTION, eager, term);
+    }
+
+    public static <A> Flow<Graph<A>, Term<A>> reduce(Strategy strategy, boolean eager, Term<A> term) {
+        return strategy == Strategy.ENVIRONMENT
+            ? map(evaluate(eager, null, term, null), Reduction::<A>valueToTerm)
+            : reduceBySubstitution(eager, term);
+    }
+
+    /**
+     * Eagerly reduce a term with the environment-based strategy, evaluating large groups of independent subterms in
+     * parallel. The result, and the messages of the trace, are the same as for sequential reduction, provided that
+     * primitive functions are free of side effects.
+     */
+    public static <A> Flow<Graph<A>, Term<A>> reduce(Parallelism parallelism, Term<A> term) {
+        return map(evaluate(true, parallelism, term, null), Reduction::<A>valueToTerm);
+    }
+
+    /**
+     * Apply the implementation of a primitive function to its arguments, passing on the strategy of the reduction if
+     * the implementation depends on it
+     */
+    static <A> Flow<Graph<A>, Term<A>> applyPrimitive(Primitive<A> prim, Strategy strategy, List<Term<A>> args) {
+        return prim.implementation instanceof StrategyAwareImplementation
+            ? ((StrategyAwareImplementation<A>) prim.implementation).apply(strategy, args)
+            : prim.implementation.apply(args);
     }
 
     private static <A> Flow<Graph<A>, Term<A>> reduceArg(boolean eager, Term<A> arg) {
@@ -90,13 +247,14 @@ public class Reduction {
 
                     @Override
                     public Flow<Graph<A>, Term<A>> visit(hydra.core.Function.Primitive<A> instance) {
-                        return bind(Lexical.requirePrimitive(instance.value), prim -> {
-                            int arity = primitiveArity(prim);
+                        return bind(Lexical.requireResolvedPrimitive(instance.value), resolved -> {
+                            Primitive<A> prim = resolved.primitive;
+                            int arity = resolved.arity;
                             if (arity <= LList.length(args)) {
                                 List<Term<A>> argList = LList.take(arity, args);
                                 Flow<Graph<A>, List<Term<A>>> reducedArgs = mapM(argList, a -> reduceArg(eager, a));
                                 LList<Term<A>> remainingArgs = LList.drop(arity, args);
-                                return bind(reducedArgs, rargs -> bind(prim.implementation.apply(rargs),
+                                return bind(reducedArgs, rargs -> bind(applyPrimitive(prim, Strategy.SUBSTITUTION, rargs),
                                         result -> bind(reduce(eager, result),
                                                 reducedResult -> applyIfNullary(eager, reducedResult, remainingArgs))));
                             } else {
@@ -141,12 +299,8 @@ public class Reduction {
                         Record<A> record = instance.value;
                         Projection proj = elim.value;
                         if (record.typeName.equals(proj.typeName)) {
-                            for (Field<A> field : record.fields) {
-                                if (field.name.equals(proj.field)) {
-                                    return pure(field.term);
-                                }
-                            }
-                            return fail("no such field: " + proj.field + " in " + record.typeName + " record");
+                            Term<A> value = FieldIndex.find(record, proj.field);
+                            return value != null ? pure(value) : fail("no such field: " + proj.field + " in " + record.typeName + " record");
                         } else {
                             return fail("tried to project a " + proj.typeName + " field out of a " + record.typeName
                                 + " record");
@@ -168,10 +322,9 @@ public class Reduction {
                         CaseStatement<A> cases = elim.value;
                         Injection<A> inj = instance.value;
                         if (cases.typeName.equals(inj.typeName)) {
-                            for (Field<A> field : cases.cases) {
-                                if (field.name.equals(inj.field.name)) {
-                                    return pure(Terms.apply(field.term, inj.field.term));
-                                }
+                            Term<A> handler = FieldIndex.find(cases, inj.field.name);
+                            if (handler != null) {
+                                return pure(Terms.apply(handler, inj.field.term));
                             }
                             return cases.default_.isPresent() ? pure(cases.default_.get())
                                 : fail("no such field " + inj.field.name + " in " + cases.typeName + " case statement");
@@ -202,11 +355,11 @@ public class Reduction {
         });
     }
 
-    private static <A> Term<A> applyToArguments(Term<A> function, LList<Term<A>> args) {
+    static <A> Term<A> applyToArguments(Term<A> function, LList<Term<A>> args) {
         Term<A> tcur = function;
         LList<Term<A>> lcur = args;
         while (lcur != null) {
-            tcur = Terms.apply(tcur, args.first);
+            tcur = Terms.apply(tcur, lcur.first);
             lcur = lcur.rest;
         }
         return tcur;
@@ -236,11 +389,16 @@ public class Reduction {
             }
         });
 
-        return eager && !isLambda;
+        // Streams are normal forms; their elements are reduced only when they are taken from the stream
+        return eager && !isLambda && !isStream(term);
     }
 
-    private static <A> Flow<Graph<A>, Term<A>> reduce(boolean eager, Term<A> original, Map<Name, Term<A>> env,
-        LList<Term<A>> args) {
+    // Whether a term is a stream, possibly annotated
+    private static <A> boolean isStream(Term<A> term) {
+        return stripTerm(term) instanceof Term.Stream;
+    }
+
+    private static <A> Flow<Graph<A>, Term<A>> reduceBySubstitution(boolean eager, Term<A> original) {
         return Rewriting.rewriteTermM(
             new Function<Function<Term<A>, Flow<Graph<A>, Term<A>>>, Function<Term<A>, Flow<Graph<A>, Term<A>>>>() {
                 @Override
@@ -293,4 +451,396 @@ public class Reduction {
             }
         }), a -> a, body);
     }
-}
\ No newline at end of file
+
+    // Environment-based evaluation. Values are either closed terms or closures; see Strategy.ENVIRONMENT.
+    // The value and environment classes are shared with Compiler, so that compiled and interpreted code interoperate.
+
+    private static final Object SHADOWED = new Object();
+
+    /**
+     * A lambda together with the environment in which it was evaluated
+     */
+    static class Closure<A> {
+        final Term<A> term;
+        final Lambda<A> lambda;
+        final Env<A> env;
+
+        Closure(Term<A> term, Lambda<A> lambda, Env<A> env) {
+            this.term = term;
+            this.lambda = lambda;
+            this.env = env;
+        }
+    }
+
+    /**
+     * A persistent environment; each frame binds one name to a value, a let binding, or SHADOWED.
+     * The empty environment is null.
+     */
+    static final class Env<A> {
+        final Name name;
+        final Object entry;
+        final Env<A> parent;
+
+        Env(Name name, Object entry, Env<A> parent) {
+            this.name = name;
+            this.entry = entry;
+            this.parent = parent;
+        }
+
+        static <A> Object lookup(Env<A> env, Name name) {
+            for (Env<A> cur = env; cur != null; cur = cur.parent) {
+                if (cur.name.equals(name)) {
+                    return cur.entry;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A (possibly recursive) let binding, which is evaluated on first use
+     */
+    static class LetBinding<A> {
+        final Term<A> term;
+        Env<A> env;
+        Object value;
+
+        LetBinding(Term<A> term) {
+            this.term = term;
+        }
+    }
+
+    /**
+     * An unevaluated argument, used in lazy evaluation
+     */
+    private static final class Thunk<A> {
+        final Term<A> term;
+        final Env<A> env;
+
+        Thunk(Term<A> term, Env<A> env) {
+            this.term = term;
+            this.env = env;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A> Flow<Graph<A>, Object> evaluate(boolean eager, Parallelism par, Term<A> term, Env<A> env) {
+        return term.accept(new Term.PartialVisitor<>() {
+            @Override
+            public Flow<Graph<A>, Object> otherwise(Term<A> instance) {
+                // Other terms are normal forms; evaluate their subterms if eager, otherwise just close them
+                if (!eager || isStream(term)) {
+                    return pure(close(term, env));
+                }
+                Flow<Graph<A>, Term<A>> parallel = par == null || par.isWithinSmallTerm()
+                    ? null : evaluateSubtermsInParallel(par, term, env);
+                return map(parallel != null
+                    ? parallel : Rewriting.rewriteSubtermsM(subtermEvaluator(par, env), Flows::pure, term), t -> t);
+            }
+
+            @Override
+            public Flow<Graph<A>, Object> visit(Term.Annotated<A> instance) {
+                Term<A> subject = instance.value.subject;
+                return map(evaluate(eager, par, subject, env),
+                    v -> Terms.annot(instance.value.annotation, valueToTerm(v)));
+            }
+
+            @Override
+            public Flow<Graph<A>, Object> visit(Term.Application<A> instance) {
+                LList<Object> args = null;
+                Term<A> head = term;
+                while (head instanceof Term.Application) {
+                    Application<A> app = ((Term.Application<A>) head).value;
+                    args = LList.push(new Thunk<>(app.argument, env), args);
+                    head = stripTerm(app.function);
+                }
+                Term<A> finalHead = head;
+                Flow<Graph<A>, LList<Object>> argsReady = eager ? forceAll(eager, par, args) : pure(args);
+                return bind(argsReady, args1 -> bind(evaluate(eager, par, finalHead, env),
+                    fun -> applyValue(eager, par, fun, args1)));
+            }
+
+            @Override
+            public Flow<Graph<A>, Object> visit(Term.Function<A> instance) {
+                hydra.core.Function<A> fun = instance.value;
+                if (fun instanceof hydra.core.Function.Lambda) {
+                    return pure(new Closure<>(term, ((hydra.core.Function.Lambda<A>) fun).value, env));
+                } else {
+                    return otherwise(instance);
+                }
+            }
+
+            @Override
+            public Flow<Graph<A>, Object> visit(Term.Let<A> instance) {
+                // The bindings memoize their values, so they are allocated each time the flow runs, not when it is built
+                return bind(getState(), g -> {
+                    Env<A> env1 = env;
+                    List<LetBinding<A>> bindings = new ArrayList<>();
+                    for (Map.Entry<Name, Term<A>> e : instance.value.bindings.entrySet()) {
+                        LetBinding<A> binding = new LetBinding<>(e.getValue());
+                        bindings.add(binding);
+                        env1 = new Env<>(e.getKey(), binding, env1);
+                    }
+                    for (LetBinding<A> binding : bindings) {
+                        binding.env = env1;
+                    }
+                    return evaluate(eager, par, instance.value.environment, env1);
+                });
+            }
+
+            @Override
+            public Flow<Graph<A>, Object> visit(Term.Variable<A> instance) {
+                Name name = instance.value;
+                Object entry = Env.lookup(env, name);
+                if (entry == SHADOWED) {
+                    return pure(term);
+                } else if (entry instanceof LetBinding) {
+                    LetBinding<A> binding = (LetBinding<A>) entry;
+                    return binding.value != null
+                        ? pure(binding.value)
+                        : map(evaluate(eager, Parallelism.full(par), binding.term, binding.env), v -> {
+                            binding.value = v;
+                            return v;
+                        });
+                } else if (entry != null) {
+                    return pure(entry);
+                } else {
+                    return bind(getState(), g -> {
+                        Element<A> el = g.elements.get(name);
+                        return el == null ? pure(term) : evaluate(eager, Parallelism.full(par), el.data, null);
+                    });
+                }
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A> Flow<Graph<A>, Object> applyValue(boolean eager, Parallelism par, Object fun, LList<Object> args) {
+        if (args == null) {
+            return pure(fun);
+        }
+
+        if (fun instanceof Closure) {
+            Closure<A> closure = (Closure<A>) fun;
+            return bind(force(eager, par, args.first), arg -> bind(
+                evaluate(eager, Parallelism.full(par), closure.lambda.body, new Env<>(closure.lambda.parameter,
+                    arg instanceof Term ? stripTerm((Term<A>) arg) : arg, closure.env)),
+                result -> applyValue(eager, par, result, args.rest)));
+        }
+
+        Term<A> head = stripTerm((Term<A>) fun);
+        if (head instanceof Term.Function) {
+            hydra.core.Function<A> f = ((Term.Function<A>) head).value;
+            if (f instanceof hydra.core.Function.Lambda) {
+                return applyValue(eager, par, new Closure<>(head, ((hydra.core.Function.Lambda<A>) f).value, null),
+                    args);
+            } else if (f instanceof hydra.core.Function.Elimination) {
+                Elimination<A> elm = ((hydra.core.Function.Elimination<A>) f).value;
+                return bind(force(eager, par, args.first), arg -> bind(
+                    applyElimination(elm, stripTerm(valueToTerm(arg))),
+                    result -> bind(evaluate(eager, Parallelism.full(par), result, null),
+                        reduced -> applyValue(eager, par, reduced, args.rest))));
+            } else {
+                Name primName = ((hydra.core.Function.Primitive<A>) f).value;
+                return bind(Lexical.requireResolvedPrimitive(primName), resolved -> {
+                    Primitive<A> prim = resolved.primitive;
+                    int arity = resolved.arity;
+                    if (arity > LList.length(args)) {
+                        // Not enough arguments available; back out
+                        return pure(applyToArguments((Term<A>) fun, closeAll(args)));
+                    }
+                    List<Object> argList = LList.take(arity, args);
+                    LList<Object> remainingArgs = LList.drop(arity, args);
+                    return bind(mapM(argList, a -> map(force(eager, par, a), Reduction::<A>valueToTerm)),
+                        rargs -> bind(applyPrimitive(prim, Strategy.ENVIRONMENT, rargs),
+                            result -> bind(evaluate(eager, Parallelism.full(par), result, null),
+                                reduced -> applyValue(eager, par, reduced, remainingArgs))));
+                });
+            }
+        }
+
+        return pure(applyToArguments((Term<A>) fun, closeAll(args)));
+    }
+
+    /**
+     * Close a term over an environment, substituting values for the variables the environment binds.
+     * Let-bound variables which are reachable from the term are retained as bindings of an enclosing let.
+     */
+    static <A> Term<A> close(Term<A> term, Env<A> env) {
+        if (env == null) {
+            return term;
+        }
+        Map<Name, Term<A>> letBindings = new HashMap<>();
+        Term<A> body = substitute(term, env, letBindings);
+        return letBindings.isEmpty() ? body : new Term.Let<>(new Let<>(letBindings, body));
+    }
+
+    private static <A> LList<Term<A>> closeAll(LList<Object> args) {
+        return args == null ? null : LList.push(argToTerm(args.first), closeAll(args.rest));
+    }
+
+    // Evaluate the elements of a list or product, the fields of a record, or the entries of a map in parallel if
+    // together they are large enough, and otherwise sequentially, without measuring any group within them again.
+    // Returns null for any other term, which is then evaluated sequentially.
+    private static <A> Flow<Graph<A>, Term<A>> evaluateSubtermsInParallel(Parallelism par, Term<A> term, Env<A> env) {
+        List<Term<A>> terms;
+        if (term instanceof Term.List) {
+            terms = ((Term.List<A>) term).value;
+        } else if (term instanceof Term.Product) {
+            terms = ((Term.Product<A>) term).value;
+        } else if (term instanceof Term.Record) {
+            List<Field<A>> fields = ((Term.Record<A>) term).value.fields;
+            terms = new ArrayList<>(fields.size());
+            for (Field<A> field : fields) {
+                terms.add(field.term);
+            }
+        } else if (term instanceof Term.Map) {
+            Map<Term<A>, Term<A>> mp = ((Term.Map<A>) term).value;
+            terms = new ArrayList<>(2 * mp.size());
+            for (Map.Entry<Term<A>, Term<A>> e : mp.entrySet()) {
+                terms.add(e.getKey());
+                terms.add(e.getValue());
+            }
+        } else {
+            return null;
+        }
+
+        if (!par.isWorthForking(terms)) {
+            return Rewriting.rewriteSubtermsM(subtermEvaluator(par.withinSmallTerm, env), Flows::pure, term);
+        }
+
+        Function<Term<A>, Flow<Graph<A>, Term<A>>> recurse = subtermEvaluator(par, env);
+        if (term instanceof Term.List) {
+            return map(parallelMapM(par.pool, terms, recurse), Term.List::new);
+        } else if (term instanceof Term.Product) {
+            return map(parallelMapM(par.pool, terms, recurse), Term.Product::new);
+        } else if (term instanceof Term.Record) {
+            Record<A> record = ((Term.Record<A>) term).value;
+            return map(parallelMapM(par.pool, record.fields,
+                    field -> map(recurse.apply(field.term), t -> new Field<>(field.name, t))),
+                fields -> new Term.Record<>(new Record<>(record.typeName, fields)));
+        } else {
+            // The entries are collected into the same kind of map as the sequential traversal of a map produces
+            List<Map.Entry<Term<A>, Term<A>>> entries = new ArrayList<>(((Term.Map<A>) term).value.entrySet());
+            return map(parallelMapM(par.pool, entries, e -> map2(recurse.apply(e.getKey()), recurse.apply(e.getValue()),
+                (k, v) -> new AbstractMap.SimpleImmutableEntry<>(k, v))), evaluated -> {
+                    Map<Term<A>, Term<A>> result = FlowInterpreter.traversalOutputMap(evaluated.size());
+                    for (Map.Entry<Term<A>, Term<A>> e : evaluated) {
+                        result.put(e.getKey(), e.getValue());
+                    }
+                    return new Term.Map<>(result);
+                });
+        }
+    }
+
+    private static <A> Function<Term<A>, Flow<Graph<A>, Term<A>>> subtermEvaluator(Parallelism par, Env<A> env) {
+        return t -> map(evaluate(true, par, t, env), Reduction::<A>valueToTerm);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A> Flow<Graph<A>, Object> force(boolean eager, Parallelism par, Object arg) {
+        if (arg instanceof Thunk) {
+            Thunk<A> thunk = (Thunk<A>) arg;
+            return evaluate(eager, par, thunk.term, thunk.env);
+        } else {
+            return pure(arg);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A> Flow<Graph<A>, LList<Object>> forceAll(boolean eager, Parallelism par, LList<Object> args) {
+        if (par != null && !par.isWithinSmallTerm() && LList.length(args) > 1) {
+            List<Object> argList = LList.take(LList.length(args), args);
+            List<Term<A>> terms = new ArrayList<>(argList.size());
+            for (Object arg : argList) {
+                terms.add(arg instanceof Thunk ? ((Thunk<A>) arg).term : null);
+            }
+            if (par.isWorthForking(terms)) {
+                return map(parallelMapM(par.pool, argList, a -> force(eager, par, a)), forced -> {
+                    LList<Object> result = null;
+                    for (int i = forced.size() - 1; i >= 0; i--) {
+                        result = LList.push(forced.get(i), result);
+                    }
+                    return result;
+                });
+            }
+            // None of the arguments is large enough to contain a group worth forking
+            return forceAll(eager, par.withinSmallTerm, args);
+        }
+        return args == null
+            ? pure(null)
+            : bind(force(eager, par, args.first), first -> map(forceAll(eager, par, args.rest), rest -> LList.push(first, rest)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A> Term<A> argToTerm(Object arg) {
+        if (arg instanceof Thunk) {
+            Thunk<A> thunk = (Thunk<A>) arg;
+            return close(thunk.term, thunk.env);
+        } else {
+            return valueToTerm(arg);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A> Term<A> substitute(Term<A> term, Env<A> env, Map<Name, Term<A>> letBindings) {
+        return term.accept(new Term.PartialVisitor<>() {
+            @Override
+            public Term<A> otherwise(Term<A> instance) {
+                return Rewriting.rewriteSubterms(t -> substitute(t, env, letBindings), a -> a, term);
+            }
+
+            @Override
+            public Term<A> visit(Term.Function<A> instance) {
+                if (instance.value instanceof hydra.core.Function.Lambda) {
+                    Lambda<A> lam = ((hydra.core.Function.Lambda<A>) instance.value).value;
+                    Term<A> body = substitute(lam.body, new Env<>(lam.parameter, SHADOWED, env), letBindings);
+                    return body == lam.body ? term : Terms.lambda(lam.parameter.value, body);
+                } else {
+                    return otherwise(instance);
+                }
+            }
+
+            @Override
+            public Term<A> visit(Term.Let<A> instance) {
+                Env<A> env1 = env;
+                for (Name name : instance.value.bindings.keySet()) {
+                    env1 = new Env<>(name, SHADOWED, env1);
+                }
+                Env<A> inner = env1;
+                return Rewriting.rewriteSubterms(t -> substitute(t, inner, letBindings), a -> a, term);
+            }
+
+            @Override
+            public Term<A> visit(Term.Variable<A> instance) {
+                Name name = instance.value;
+                Object entry = Env.lookup(env, name);
+                if (entry == null || entry == SHADOWED) {
+                    return term;
+                } else if (entry instanceof LetBinding) {
+                    LetBinding<A> binding = (LetBinding<A>) entry;
+                    if (binding.value instanceof Term) {
+                        return (Term<A>) binding.value;
+                    }
+                    if (!letBindings.containsKey(name)) {
+                        letBindings.put(name, term);
+                        letBindings.put(name, substitute(binding.term, binding.env, letBindings));
+                    }
+                    return term;
+                } else {
+                    return valueToTerm(entry);
+                }
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A> Term<A> valueToTerm(Object value) {
+        if (value instanceof Closure) {
+            Closure<A> closure = (Closure<A>) value;
+            return close(closure.term, closure.env);
+        } else {
+            return (Term<A>) value;
+        }
+    }
+}
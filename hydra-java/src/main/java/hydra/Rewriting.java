@@ -1,6 +1,8 @@
 package hydra;
 
 import hydra.compute.Flow;
+import hydra.compute.FlowInterpreter;
+import hydra.compute.FlowState;
 import hydra.core.Annotated;
 import hydra.core.Application;
 import hydra.core.CaseStatement;
@@ -17,9 +19,15 @@ import hydra.core.Record;
 import hydra.core.Sum;
 import hydra.core.Term;
 import hydra.dsl.Terms;
+import hydra.tools.FlowException;
+import hydra.tools.LazyStream;
 
 import static hydra.Flows.*;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -101,129 +109,470 @@ public interface Rewriting {
         });
     }
 
-    // This is a workaround for a non-monadic rewriting function; the latter would be more efficient
+    /**
+     * Rewrite a term using a pure rewriting function; this is the non-monadic counterpart of rewriteTermM.
+     * Any subterm whose children and annotation come back unchanged (by reference) is returned as-is,
+     * so that untouched parts of the original term are shared rather than copied.
+     */
     static <A, B> Term<B> rewriteTerm(Function<Function<Term<A>, Term<B>>, Function<Term<A>, Term<B>>> f,
         Function<A, B> mf, Term<A> original) {
-        Function<Function<Term<A>, Flow<Boolean, Term<B>>>, Function<Term<A>, Flow<Boolean, Term<B>>>> fFlow =
-            recurse -> (Function<Term<A>, Flow<Boolean, Term<B>>>) term -> {
-                Term<B> result = f.apply(t -> fromFlow(recurse.apply(t))).apply(term);
-                return pure(result);
-            };
-
-        Function<A, Flow<Boolean, B>> mfFlow = a -> pure(mf.apply(a));
-        return fromFlow(rewriteTermM(fFlow, mfFlow, original));
+        Function<Function<Term<A>, Term<B>>, Function<Term<A>, Term<B>>> fsub =
+            recurse -> term -> rewriteSubterms(recurse, mf, term);
+        return rewrite(fsub, f).apply(original);
     }
 
-    static <A, B, S> Flow<S, Term<B>> rewriteTermM(
-        Function<Function<Term<A>, Flow<S, Term<B>>>, Function<Term<A>, Flow<S, Term<B>>>> f,
-        Function<A, Flow<S, B>> mf, Term<A> original) {
-        Function<Function<Term<A>, Flow<S, Term<B>>>, Function<Term<A>, Flow<S, Term<B>>>> fsub =
-            recurse -> term -> term.accept(new Term.Visitor<A, Flow<S, Term<B>>>() {
-                @Override
-                public Flow<S, Term<B>> visit(Term.Annotated<A> instance) {
-                    Annotated<Term<A>, A> ann = instance.value;
-                    return map2(recurse.apply(ann.subject), mf.apply(ann.annotation),
-                        (term1, ann1) -> Terms.annot(ann1, term1));
-                }
+    /**
+     * Apply a pure rewriting function to the immediate subterms of a term, and to its annotation if any
+     */
+    @SuppressWarnings("unchecked")
+    static <A, B> Term<B> rewriteSubterms(Function<Term<A>, Term<B>> recurse, Function<A, B> mf, Term<A> original) {
+        Term<B> unchanged = (Term<B>) (Term) original;
+        return original.accept(new Term.Visitor<A, Term<B>>() {
+            @Override
+            public Term<B> visit(Term.Annotated<A> instance) {
+                Annotated<Term<A>, A> ann = instance.value;
+                Term<B> subject = recurse.apply(ann.subject);
+                B annotation = mf.apply(ann.annotation);
+                return subject == ann.subject && annotation == ann.annotation
+                    ? unchanged
+                    : new Term.Annotated<>(new Annotated<>(subject, annotation));
+            }
 
-                @Override
-                public Flow<S, Term<B>> visit(Term.Application<A> instance) {
-                    Term<A> funA = instance.value.function;
-                    Term<A> argA = instance.value.argument;
-                    return map2(recurse.apply(funA), recurse.apply(argA),
-                        (f1, a) -> new Term.Application<>(new Application<>(f1, a)));
-                }
+            @Override
+            public Term<B> visit(Term.Application<A> instance) {
+                Application<A> app = instance.value;
+                Term<B> fun = recurse.apply(app.function);
+                Term<B> arg = recurse.apply(app.argument);
+                return fun == app.function && arg == app.argument
+                    ? unchanged
+                    : new Term.Application<>(new Application<>(fun, arg));
+            }
 
-                @Override
-                public Flow<S, Term<B>> visit(Term.Function<A> instance) {
-                    hydra.core.Function<A> funA = instance.value;
-                    return map(rewriteFunctionM(recurse, funA), Term.Function::new);
-                }
+            @Override
+            public Term<B> visit(Term.Function<A> instance) {
+                hydra.core.Function<B> fun = rewriteFunction(recurse, instance.value);
+                return fun == instance.value ? unchanged : new Term.Function<>(fun);
+            }
 
-                @Override
-                public Flow<S, Term<B>> visit(Term.Let<A> instance) {
-                    Map<Name, Term<A>> bindingsA = instance.value.bindings;
-                    Term<A> envA = instance.value.environment;
-                    Flow<S, Map<Name, Term<B>>> bindingsB = mapM(bindingsA, Flows::pure, recurse);
-                    Flow<S, Term<B>> envB = recurse.apply(envA);
-                    return map2(bindingsB, envB, (b, e) -> new Term.Let<>(new Let<>(b, e)));
-                }
+            @Override
+            public Term<B> visit(Term.Let<A> instance) {
+                Let<A> let = instance.value;
+                Map<Name, Term<B>> bindings = rewriteValues(recurse, let.bindings);
+                Term<B> env = recurse.apply(let.environment);
+                return (Object) bindings == let.bindings && env == let.environment
+                    ? unchanged
+                    : new Term.Let<>(new Let<>(bindings, env));
+            }
 
-                @Override
-                public Flow<S, Term<B>> visit(Term.List<A> instance) {
-                    List<Term<A>> termsA = instance.value;
-                    Flow<S, List<Term<B>>> termsB = mapM(termsA, recurse);
-                    return map(termsB, Term.List::new);
-                }
+            @Override
+            public Term<B> visit(Term.List<A> instance) {
+                List<Term<B>> els = rewriteElements(recurse, instance.value);
+                return (Object) els == instance.value ? unchanged : new Term.List<>(els);
+            }
 
-                @Override
-                public Flow<S, Term<B>> visit(Term.Literal<A> instance) {
-                    return pure(new Term.Literal<>(instance.value));
-                }
+            @Override
+            public Term<B> visit(Term.Literal<A> instance) {
+                return unchanged;
+            }
 
-                @Override
-                public Flow<S, Term<B>> visit(Term.Map<A> instance) {
-                    Map<Term<A>, Term<A>> mapA = instance.value;
-                    Flow<S, Map<Term<B>, Term<B>>> mapB = mapM(mapA, recurse, recurse);
-                    return map(mapB, Term.Map::new);
-                }
+            @Override
+            public Term<B> visit(Term.Map<A> instance) {
+                Map<Term<B>, Term<B>> mp = rewriteEntries(recurse, instance.value);
+                return (Object) mp == instance.value ? unchanged : new Term.Map<>(mp);
+            }
 
-                @Override
-                public Flow<S, Term<B>> visit(Term.Optional<A> instance) {
-                    Optional<Term<A>> termA = instance.value;
-                    Flow<S, Optional<Term<B>>> termB = mapM(termA, recurse);
-                    return map(termB, Term.Optional::new);
+            @Override
+            public Term<B> visit(Term.Optional<A> instance) {
+                Optional<Term<A>> opt = instance.value;
+                if (opt.isPresent()) {
+                    Term<B> t = recurse.apply(opt.get());
+                    return t == opt.get() ? unchanged : new Term.Optional<>(Optional.of(t));
+                } else {
+                    return unchanged;
                 }
+            }
 
-                @Override
-                public Flow<S, Term<B>> visit(Term.Product<A> instance) {
-                    List<Term<A>> termsA = instance.value;
-                    Flow<S, List<Term<B>>> termsB = mapM(termsA, recurse);
-                    return map(termsB, Term.Product::new);
-                }
+            @Override
+            public Term<B> visit(Term.Product<A> instance) {
+                List<Term<B>> els = rewriteElements(recurse, instance.value);
+                return (Object) els == instance.value ? unchanged : new Term.Product<>(els);
+            }
 
-                @Override
-                public Flow<S, Term<B>> visit(Term.Record<A> instance) {
-                    List<Field<A>> fieldsA = instance.value.fields;
-                    Flow<S, List<Field<B>>> fieldsB = mapM(fieldsA, aField -> rewriteFieldM(recurse, aField));
-                    return map(fieldsB, fields -> new Term.Record<>(new Record<>(instance.value.typeName, fields)));
-                }
+            @Override
+            public Term<B> visit(Term.Record<A> instance) {
+                List<Field<B>> fields = rewriteElements(fld -> rewriteField(recurse, fld), instance.value.fields);
+                return (Object) fields == instance.value.fields
+                    ? unchanged
+                    : new Term.Record<>(new Record<>(instance.value.typeName, fields));
+            }
 
-                @Override
-                public Flow<S, Term<B>> visit(Term.Set<A> instance) {
-                    Flow<S, Set<Term<B>>> els = mapM(instance.value, recurse);
-                    return map(els, Term.Set::new);
-                }
+            @Override
+            public Term<B> visit(Term.Set<A> instance) {
+                Set<Term<B>> els = rewriteMembers(recurse, instance.value);
+                return (Object) els == instance.value ? unchanged : new Term.Set<>(els);
+            }
 
-                @Override
-                public Flow<S, Term<B>> visit(Term.Stream<A> instance) {
-                    throw new UnsupportedOperationException();
+            @Override
+            public Term<B> visit(Term.Stream<A> instance) {
+                // Stored cells are rewritten element by element; lazy cells are rewritten as their elements are pulled
+                List<hydra.core.Stream<A>> cells = new ArrayList<>();
+                hydra.core.Stream<A> cur = instance.value;
+                for (; cur != null && !LazyStream.isLazy(cur); cur = cur.rest) {
+                    cells.add(cur);
                 }
-
-                @Override
-                public Flow<S, Term<B>> visit(Term.Sum<A> instance) {
-                    Term<A> t0 = instance.value.term;
-                    Flow<S, Term<B>> t1 = recurse.apply(t0);
-                    return map(t1, t2 -> new Term.Sum<B>(new Sum<B>(instance.value.index, instance.value.size, t2)));
+                hydra.core.Stream<B> rest = LazyStream.map(recurse, cur);
+                boolean changed = cur != null;
+                for (int i = cells.size() - 1; i >= 0; i--) {
+                    hydra.core.Stream<A> cell = cells.get(i);
+                    Term<B> first = recurse.apply(cell.first);
+                    changed = changed || first != cell.first;
+                    rest = changed ? new hydra.core.Stream<>(first, rest) : (hydra.core.Stream<B>) (Object) cell;
                 }
+                return changed ? new Term.Stream<>(rest) : unchanged;
+            }
+
+            @Override
+            public Term<B> visit(Term.Sum<A> instance) {
+                Sum<A> sum = instance.value;
+                Term<B> t = recurse.apply(sum.term);
+                return t == sum.term ? unchanged : new Term.Sum<>(new Sum<>(sum.index, sum.size, t));
+            }
+
+            @Override
+            public Term<B> visit(Term.Union<A> instance) {
+                Injection<A> inj = instance.value;
+                Field<B> field = rewriteField(recurse, inj.field);
+                return field == inj.field ? unchanged : new Term.Union<>(new Injection<>(inj.typeName, field));
+            }
+
+            @Override
+            public Term<B> visit(Term.Variable<A> instance) {
+                return unchanged;
+            }
+
+            @Override
+            public Term<B> visit(Term.Wrap<A> instance) {
+                Nominal<Term<A>> wrapped = instance.value;
+                Term<B> obj = recurse.apply(wrapped.object);
+                return obj == wrapped.object ? unchanged : new Term.Wrap<>(new Nominal<>(wrapped.typeName, obj));
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A, B> Elimination<B> rewriteElimination(Function<Term<A>, Term<B>> recurse, Elimination<A> original) {
+        Elimination<B> unchanged = (Elimination<B>) (Elimination) original;
+        return original.accept(new Elimination.Visitor<>() {
+            @Override
+            public Elimination<B> visit(Elimination.List<A> instance) {
+                Term<B> fold = recurse.apply(instance.value);
+                return fold == instance.value ? unchanged : new Elimination.List<>(fold);
+            }
+
+            @Override
+            public Elimination<B> visit(Elimination.Optional<A> instance) {
+                OptionalCases<A> cases = instance.value;
+                Term<B> nothing = recurse.apply(cases.nothing);
+                Term<B> just = recurse.apply(cases.just);
+                return nothing == cases.nothing && just == cases.just
+                    ? unchanged
+                    : new Elimination.Optional<>(new OptionalCases<>(nothing, just));
+            }
+
+            @Override
+            public Elimination<B> visit(Elimination.Record<A> instance) {
+                return unchanged;
+            }
+
+            @Override
+            public Elimination<B> visit(Elimination.Union<A> instance) {
+                CaseStatement<A> cases = instance.value;
+                Optional<Term<B>> def = cases.default_.map(recurse);
+                List<Field<B>> fields = rewriteElements(fld -> rewriteField(recurse, fld), cases.cases);
+                boolean defUnchanged = !cases.default_.isPresent() || def.get() == cases.default_.get();
+                return defUnchanged && (Object) fields == cases.cases
+                    ? unchanged
+                    : new Elimination.Union<>(new CaseStatement<>(cases.typeName,
+                        defUnchanged ? (Optional<Term<B>>) (Object) cases.default_ : def, fields));
+            }
+
+            @Override
+            public Elimination<B> visit(Elimination.Wrap<A> instance) {
+                return unchanged;
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A, B> Field<B> rewriteField(Function<Term<A>, Term<B>> recurse, Field<A> original) {
+        Term<B> term = recurse.apply(original.term);
+        return term == original.term ? (Field<B>) (Field) original : new Field<>(original.name, term);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A, B> hydra.core.Function<B> rewriteFunction(Function<Term<A>, Term<B>> recurse,
+        hydra.core.Function<A> original) {
+        hydra.core.Function<B> unchanged = (hydra.core.Function<B>) (hydra.core.Function) original;
+        return original.accept(new hydra.core.Function.Visitor<>() {
+            @Override
+            public hydra.core.Function<B> visit(hydra.core.Function.Elimination<A> instance) {
+                Elimination<B> elim = rewriteElimination(recurse, instance.value);
+                return elim == instance.value ? unchanged : new hydra.core.Function.Elimination<>(elim);
+            }
+
+            @Override
+            public hydra.core.Function<B> visit(hydra.core.Function.Lambda<A> instance) {
+                Lambda<A> lam = instance.value;
+                Term<B> body = recurse.apply(lam.body);
+                return body == lam.body
+                    ? unchanged
+                    : new hydra.core.Function.Lambda<>(new Lambda<>(lam.parameter, body));
+            }
+
+            @Override
+            public hydra.core.Function<B> visit(hydra.core.Function.Primitive<A> instance) {
+                return unchanged;
+            }
+        });
+    }
+
+    /**
+     * Map a function over a list, returning the original list if every element is unchanged
+     */
+    @SuppressWarnings("unchecked")
+    private static <X, Y> List<Y> rewriteElements(Function<X, Y> f, List<X> xs) {
+        List<Y> ys = null;
+        int i = 0;
+        for (X x : xs) {
+            Y y = f.apply(x);
+            if (ys == null && y != x) {
+                ys = new ArrayList<>(xs.size());
+                ys.addAll((List<Y>) (List) xs.subList(0, i));
+            }
+            if (ys != null) {
+                ys.add(y);
+            }
+            i++;
+        }
+        return ys == null ? (List<Y>) (List) xs : ys;
+    }
 
-                @Override
-                public Flow<S, Term<B>> visit(Term.Union<A> instance) {
-                    Flow<S, Field<B>> t = rewriteFieldM(recurse, instance.value.field);
-                    return map(t, bField -> new Term.Union<>(new Injection<>(instance.value.typeName, bField)));
+    /**
+     * Map a function over a set, returning the original set if every member is unchanged
+     */
+    @SuppressWarnings("unchecked")
+    private static <X, Y> Set<Y> rewriteMembers(Function<X, Y> f, Set<X> xs) {
+        Set<Y> ys = null;
+        int i = 0;
+        for (X x : xs) {
+            Y y = f.apply(x);
+            if (ys == null && y != x) {
+                ys = new HashSet<>(FlowInterpreter.hashCapacity(xs.size()));
+                Iterator<X> prev = xs.iterator();
+                for (int j = 0; j < i; j++) {
+                    ys.add((Y) prev.next());
                 }
+            }
+            if (ys != null) {
+                ys.add(y);
+            }
+            i++;
+        }
+        return ys == null ? (Set<Y>) (Set) xs : ys;
+    }
 
-                @Override
-                public Flow<S, Term<B>> visit(Term.Variable<A> instance) {
-                    return pure(new Term.Variable<B>(instance.value));
+    /**
+     * Map a function over the keys and values of a map, returning the original map if every entry is unchanged
+     */
+    @SuppressWarnings("unchecked")
+    private static <X, Y> Map<Y, Y> rewriteEntries(Function<X, Y> f, Map<X, X> xs) {
+        Map<Y, Y> ys = null;
+        int i = 0;
+        for (Map.Entry<X, X> e : xs.entrySet()) {
+            Y k = f.apply(e.getKey());
+            Y v = f.apply(e.getValue());
+            if (ys == null && (k != e.getKey() || v != e.getValue())) {
+                ys = new HashMap<>(FlowInterpreter.hashCapacity(xs.size()));
+                Iterator<Map.Entry<X, X>> prev = xs.entrySet().iterator();
+                for (int j = 0; j < i; j++) {
+                    Map.Entry<X, X> p = prev.next();
+                    ys.put((Y) p.getKey(), (Y) p.getValue());
                 }
+            }
+            if (ys != null) {
+                ys.put(k, v);
+            }
+            i++;
+        }
+        return ys == null ? (Map<Y, Y>) (Map) xs : ys;
+    }
 
-                @Override
-                public Flow<S, Term<B>> visit(Term.Wrap<A> instance) {
-                    Flow<S, Term<B>> obj2 = recurse.apply(instance.value.object);
-                    return map(obj2, bTerm -> new Term.Wrap<>(new Nominal<>(instance.value.typeName, bTerm)));
+    /**
+     * Map a function over the values of a map, returning the original map if every value is unchanged
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, X, Y> Map<K, Y> rewriteValues(Function<X, Y> f, Map<K, X> xs) {
+        Map<K, Y> ys = null;
+        int i = 0;
+        for (Map.Entry<K, X> e : xs.entrySet()) {
+            Y v = f.apply(e.getValue());
+            if (ys == null && v != e.getValue()) {
+                ys = new HashMap<>(FlowInterpreter.hashCapacity(xs.size()));
+                Iterator<Map.Entry<K, X>> prev = xs.entrySet().iterator();
+                for (int j = 0; j < i; j++) {
+                    Map.Entry<K, X> p = prev.next();
+                    ys.put(p.getKey(), (Y) p.getValue());
                 }
-            });
+            }
+            if (ys != null) {
+                ys.put(e.getKey(), v);
+            }
+            i++;
+        }
+        return ys == null ? (Map<K, Y>) (Map) xs : ys;
+    }
+
+    static <A, B, S> Flow<S, Term<B>> rewriteTermM(
+        Function<Function<Term<A>, Flow<S, Term<B>>>, Function<Term<A>, Flow<S, Term<B>>>> f,
+        Function<A, Flow<S, B>> mf, Term<A> original) {
+        Function<Function<Term<A>, Flow<S, Term<B>>>, Function<Term<A>, Flow<S, Term<B>>>> fsub =
+            recurse -> term -> rewriteSubtermsM(recurse, mf, term);
         return rewrite(fsub, f).apply(original);
     }
+
+    /**
+     * Apply a monadic rewriting function to the immediate subterms of a term, and to its annotation if any
+     */
+    static <A, B, S> Flow<S, Term<B>> rewriteSubtermsM(Function<Term<A>, Flow<S, Term<B>>> recurse,
+        Function<A, Flow<S, B>> mf, Term<A> term) {
+        return term.accept(new Term.Visitor<A, Flow<S, Term<B>>>() {
+            @Override
+            public Flow<S, Term<B>> visit(Term.Annotated<A> instance) {
+                Annotated<Term<A>, A> ann = instance.value;
+                return map2(recurse.apply(ann.subject), mf.apply(ann.annotation),
+                    (term1, ann1) -> Terms.annot(ann1, term1));
+            }
+
+            @Override
+            public Flow<S, Term<B>> visit(Term.Application<A> instance) {
+                Term<A> funA = instance.value.function;
+                Term<A> argA = instance.value.argument;
+                return map2(recurse.apply(funA), recurse.apply(argA),
+                    (f1, a) -> new Term.Application<>(new Application<>(f1, a)));
+            }
+
+            @Override
+            public Flow<S, Term<B>> visit(Term.Function<A> instance) {
+                hydra.core.Function<A> funA = instance.value;
+                return map(rewriteFunctionM(recurse, funA), Term.Function::new);
+            }
+
+            @Override
+            public Flow<S, Term<B>> visit(Term.Let<A> instance) {
+                Map<Name, Term<A>> bindingsA = instance.value.bindings;
+                Term<A> envA = instance.value.environment;
+                Flow<S, Map<Name, Term<B>>> bindingsB = mapM(bindingsA, Flows::pure, recurse);
+                Flow<S, Term<B>> envB = recurse.apply(envA);
+                return map2(bindingsB, envB, (b, e) -> new Term.Let<>(new Let<>(b, e)));
+            }
+
+            @Override
+            public Flow<S, Term<B>> visit(Term.List<A> instance) {
+                List<Term<A>> termsA = instance.value;
+                Flow<S, List<Term<B>>> termsB = mapM(termsA, recurse);
+                return map(termsB, Term.List::new);
+            }
+
+            @Override
+            public Flow<S, Term<B>> visit(Term.Literal<A> instance) {
+                return pure(new Term.Literal<>(instance.value));
+            }
+
+            @Override
+            public Flow<S, Term<B>> visit(Term.Map<A> instance) {
+                Map<Term<A>, Term<A>> mapA = instance.value;
+                Flow<S, Map<Term<B>, Term<B>>> mapB = mapM(mapA, recurse, recurse);
+                return map(mapB, Term.Map::new);
+            }
+
+            @Override
+            public Flow<S, Term<B>> visit(Term.Optional<A> instance) {
+                Optional<Term<A>> termA = instance.value;
+                Flow<S, Optional<Term<B>>> termB = mapM(termA, recurse);
+                return map(termB, Term.Optional::new);
+            }
+
+            @Override
+            public Flow<S, Term<B>> visit(Term.Product<A> instance) {
+                List<Term<A>> termsA = instance.value;
+                Flow<S, List<Term<B>>> termsB = mapM(termsA, recurse);
+                return map(termsB, Term.Product::new);
+            }
+
+            @Override
+            public Flow<S, Term<B>> visit(Term.Record<A> instance) {
+                List<Field<A>> fieldsA = instance.value.fields;
+                Flow<S, List<Field<B>>> fieldsB = mapM(fieldsA, aField -> rewriteFieldM(recurse, aField));
+                return map(fieldsB, fields -> new Term.Record<>(new Record<>(instance.value.typeName, fields)));
+            }
+
+            @Override
+            public Flow<S, Term<B>> visit(Term.Set<A> instance) {
+                Flow<S, Set<Term<B>>> els = mapM(instance.value, recurse);
+                return map(els, Term.Set::new);
+            }
+
+            @Override
+            public Flow<S, Term<B>> visit(Term.Stream<A> instance) {
+                List<Term<A>> stored = new ArrayList<>();
+                hydra.core.Stream<A> cur = instance.value;
+                for (; cur != null && !LazyStream.isLazy(cur); cur = cur.rest) {
+                    stored.add(cur.first);
+                }
+                hydra.core.Stream<A> lazy = cur;
+                Flow<S, hydra.core.Stream<B>> rest = lazy == null
+                    ? pure(null)
+                    // The elements of a lazy stream do not exist yet, so they are rewritten when they are pulled,
+                    // in the state as it is now. Any changes they make to the state are discarded.
+                    : map(Flows.getState(), state -> LazyStream.map(t -> {
+                        FlowState<S, Term<B>> result = FlowInterpreter.run(recurse.apply(t), state, Flows.EMPTY_TRACE);
+                        if (!result.value.isPresent()) {
+                            throw new FlowException(result.trace);
+                        }
+                        return result.value.get();
+                    }, lazy));
+                return map2(mapM(stored, recurse), rest, (firsts, tail) -> {
+                    hydra.core.Stream<B> stream = tail;
+                    for (int i = firsts.size() - 1; i >= 0; i--) {
+                        stream = new hydra.core.Stream<>(firsts.get(i), stream);
+                    }
+                    return new Term.Stream<>(stream);
+                });
+            }
+
+            @Override
+            public Flow<S, Term<B>> visit(Term.Sum<A> instance) {
+                Term<A> t0 = instance.value.term;
+                Flow<S, Term<B>> t1 = recurse.apply(t0);
+                return map(t1, t2 -> new Term.Sum<B>(new Sum<B>(instance.value.index, instance.value.size, t2)));
+            }
+
+            @Override
+            public Flow<S, Term<B>> visit(Term.Union<A> instance) {
+                Flow<S, Field<B>> t = rewriteFieldM(recurse, instance.value.field);
+                return map(t, bField -> new Term.Union<>(new Injection<>(instance.value.typeName, bField)));
+            }
+
+            @Override
+            public Flow<S, Term<B>> visit(Term.Variable<A> instance) {
+                return pure(new Term.Variable<B>(instance.value));
+            }
+
+            @Override
+            public Flow<S, Term<B>> visit(Term.Wrap<A> instance) {
+                Flow<S, Term<B>> obj2 = recurse.apply(instance.value.object);
+                return map(obj2, bTerm -> new Term.Wrap<>(new Nominal<>(instance.value.typeName, bTerm)));
+            }
+        });
+    }
 }
@@ -0,0 +1,125 @@
+package hydra;
+
+import hydra.core.FieldName;
+import hydra.core.Name;
+import hydra.module.Namespace;
+import hydra.module.QualifiedName;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * A global, thread-safe symbol table for names.
+ * Each distinct string has one symbol, which carries a canonical Name and FieldName, a unique integer id,
+ * and the string pre-split into namespace and local name (as by {@code Basics.qualifyNameEager}).
+ * Names created through the DSLs are canonical, so that comparing them is normally a comparison of references;
+ * the generated equals methods check for identity before comparing strings.
+ * Symbols are never removed from the table.
+ */
+public class Symbols {
+    private static final Map<String, Symbol> TABLE = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    private Symbols() {
+    }
+
+    /**
+     * The symbol for a string, which is added to the table if not already present
+     */
+    public static Symbol symbol(String value) {
+        Symbol symbol = TABLE.get(value);
+        return symbol != null ? symbol : TABLE.computeIfAbsent(value, Symbol::new);
+    }
+
+    /**
+     * The canonical instance of a name
+     */
+    public static Name name(String value) {
+        return symbol(value).name;
+    }
+
+    /**
+     * The canonical instance of a name which is equal to the given name
+     */
+    public static Name name(Name name) {
+        return symbol(name.value).name;
+    }
+
+    /**
+     * The canonical instance of a field name
+     */
+    public static FieldName fieldName(String value) {
+        return symbol(value).fieldName;
+    }
+
+    /**
+     * The canonical instance of a field name which is equal to the given field name
+     */
+    public static FieldName fieldName(FieldName fieldName) {
+        return symbol(fieldName.value).fieldName;
+    }
+
+    /**
+     * The unique id of a name
+     */
+    public static int id(Name name) {
+        return symbol(name.value).id;
+    }
+
+    /**
+     * The unique id of a field name
+     */
+    public static int id(FieldName fieldName) {
+        return symbol(fieldName.value).id;
+    }
+
+    /**
+     * The local part of a name
+     */
+    public static String localName(Name name) {
+        return symbol(name.value).qualifiedName.local;
+    }
+
+    /**
+     * The namespace part of a name, if any
+     */
+    public static Optional<Namespace> namespace(Name name) {
+        return symbol(name.value).qualifiedName.namespace;
+    }
+
+    /**
+     * A name split into its namespace and local parts
+     */
+    public static QualifiedName qualify(Name name) {
+        return symbol(name.value).qualifiedName;
+    }
+
+    /**
+     * The number of symbols in the table
+     */
+    public static int size() {
+        return TABLE.size();
+    }
+
+    /**
+     * An entry in the symbol table
+     */
+    public static final class Symbol {
+        public final int id;
+        public final Name name;
+        public final FieldName fieldName;
+        public final QualifiedName qualifiedName;
+
+        private Symbol(String value) {
+            this.id = NEXT_ID.getAndIncrement();
+            this.name = new Name(value);
+            this.fieldName = new FieldName(value);
+            int dot = value.indexOf('.');
+            this.qualifiedName = dot < 0
+                ? new QualifiedName(Optional.empty(), value)
+                : new QualifiedName(Optional.of(new Namespace(value.substring(0, dot))), value.substring(dot + 1));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package hydra;
+
+import hydra.core.Term;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * An opt-in hash-consing table for terms. Interning a term rebuilds it bottom-up so that structurally equal subterms,
+ * both within the term and across all terms interned by the same instance, share a single canonical instance.
+ * Since canonical subterms are compared by reference, checking a newly built term against the table costs time
+ * proportional to its number of immediate subterms, not its size.
+ * An interner holds on to every term it has seen; discard the interner to release them.
+ */
+public class TermInterner<A> {
+    private final Map<Term<A>, Term<A>> table = new ConcurrentHashMap<>();
+
+    /**
+     * Find the canonical instance of a term, interning its subterms as well
+     */
+    public Term<A> intern(Term<A> term) {
+        // The term is traversed with an explicit stack, so that deeply nested terms do not overflow the call stack.
+        // A subterm is interned once all of its immediate subterms have been; the canonical instance of each subterm
+        // is recorded by identity, so that a subterm which is shared within the term is interned only once.
+        Map<Term<A>, Term<A>> canonical = new IdentityHashMap<>();
+        Deque<Term<A>> pending = new ArrayDeque<>();
+        pending.push(term);
+        while (!pending.isEmpty()) {
+            Term<A> current = pending.peek();
+            if (canonical.containsKey(current)) {
+                pending.pop();
+                continue;
+            }
+            boolean[] ready = {true};
+            Rewriting.rewriteSubterms(child -> {
+                if (!canonical.containsKey(child)) {
+                    pending.push(child);
+                    ready[0] = false;
+                }
+                return child;
+            }, a -> a, current);
+            if (ready[0]) {
+                pending.pop();
+                // The elements of a lazy stream are not visited above, and are interned as they are pulled
+                Term<A> rebuilt = Rewriting.rewriteSubterms(child -> {
+                    Term<A> c = canonical.get(child);
+                    return c != null ? c : intern(child);
+                }, a -> a, current);
+                Term<A> existing = table.putIfAbsent(rebuilt, rebuilt);
+                canonical.put(current, existing == null ? rebuilt : existing);
+            }
+        }
+        return canonical.get(term);
+    }
+
+    /**
+     * The number of distinct terms in the table
+     */
+    public int size() {
+        return table.size();
+    }
+}
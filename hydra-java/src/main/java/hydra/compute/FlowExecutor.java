@@ -0,0 +1,210 @@
+package hydra.compute;
+
+import hydra.Flows;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * A service for running many small, independent flows concurrently, each from its own initial state.
+ * On JDK 21 and later, each flow runs on its own virtual thread; on earlier JDKs, flows run on a pool of platform
+ * threads. In either case, at most a fixed number of flows run at once.
+ * Each submitted flow produces a CompletableFuture of its final flow state, including the trace. A flow which fails
+ * completes its future normally, with a flow state which has no value; the future completes exceptionally only if the
+ * flow throws an exception, times out, or is cancelled. Cancelling a future, or letting it time out, also stops the
+ * flow the next time the interpreter checks for cancellation.
+ */
+public class FlowExecutor implements AutoCloseable {
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    // Bounds concurrency when each flow has a thread of its own; null for a pool of platform threads
+    private final Semaphore permits;
+
+    /**
+     * Construct an executor which runs at most the given number of flows at once, using virtual threads if available
+     */
+    public FlowExecutor(int maxConcurrency) {
+        this(maxConcurrency, true);
+    }
+
+    /**
+     * Construct an executor which runs at most the given number of flows at once.
+     * Virtual threads are used only if they are preferred and the JDK supports them.
+     */
+    public FlowExecutor(int maxConcurrency, boolean preferVirtualThreads) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maximum concurrency must be positive: " + maxConcurrency);
+        }
+        ExecutorService virtual = preferVirtualThreads ? newVirtualThreadExecutor() : null;
+        if (virtual != null) {
+            this.executor = virtual;
+            this.virtualThreads = true;
+            this.permits = new Semaphore(maxConcurrency);
+        } else {
+            this.executor = Executors.newFixedThreadPool(maxConcurrency, new DaemonThreadFactory());
+            this.virtualThreads = false;
+            this.permits = null;
+        }
+    }
+
+    /**
+     * Whether flows run on virtual threads, as opposed to a pool of platform threads
+     */
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Submit a flow to be run from the given initial state, with an empty trace
+     */
+    public <S, X> CompletableFuture<FlowState<S, X>> submit(Flow<S, X> flow, S initialState) {
+        return submit(new Job<>(flow, initialState));
+    }
+
+    /**
+     * Submit a flow to be run from the given initial state, with an empty trace. If the flow has not completed within
+     * the timeout, counting from submission, its future completes exceptionally with a TimeoutException.
+     */
+    public <S, X> CompletableFuture<FlowState<S, X>> submit(Flow<S, X> flow, S initialState, Duration timeout) {
+        return submit(new Job<>(flow, initialState, timeout));
+    }
+
+    /**
+     * Submit a job
+     */
+    public <S, X> CompletableFuture<FlowState<S, X>> submit(Job<S, X> job) {
+        CompletableFuture<FlowState<S, X>> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> run(job, result));
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+        if (job.timeout != null) {
+            result.orTimeout(job.timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        // Stop the flow if the future is completed by any other means, e.g. cancellation or timeout
+        result.whenComplete((value, error) -> {
+            if (error != null) {
+                task.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Submit a batch of jobs, returning their futures in the same order
+     */
+    public <S, X> List<CompletableFuture<FlowState<S, X>>> submitAll(List<Job<S, X>> jobs) {
+        List<CompletableFuture<FlowState<S, X>>> futures = new ArrayList<>(jobs.size());
+        for (Job<S, X> job : jobs) {
+            futures.add(submit(job));
+        }
+        return futures;
+    }
+
+    /**
+     * A future of the results of a batch of futures, in order, which completes when all of them have completed.
+     * If any of the futures completes exceptionally, so does the combined future.
+     */
+    public static <S, X> CompletableFuture<List<FlowState<S, X>>> collect(
+        List<CompletableFuture<FlowState<S, X>>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            List<FlowState<S, X>> results = new ArrayList<>(futures.size());
+            for (CompletableFuture<FlowState<S, X>> future : futures) {
+                results.add(future.join());
+            }
+            return results;
+        });
+    }
+
+    /**
+     * Stop accepting jobs. Jobs which have already been submitted continue to run.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <S, X> void run(Job<S, X> job, CompletableFuture<FlowState<S, X>> result) {
+        if (result.isDone()) {
+            return;
+        }
+        boolean acquired = false;
+        try {
+            if (permits != null) {
+                permits.acquire();
+                acquired = true;
+            }
+            if (!result.isDone()) {
+                result.complete(FlowInterpreter.run(job.flow, job.initialState, Flows.EMPTY_TRACE, result::isDone));
+            }
+        } catch (InterruptedException e) {
+            result.completeExceptionally(e);
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException | Error e) {
+            result.completeExceptionally(e);
+        } finally {
+            if (acquired) {
+                permits.release();
+            }
+        }
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor is found reflectively, so that this class also compiles and runs on
+    // JDKs which predate virtual threads
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A flow to be run, together with its initial state and an optional timeout
+     */
+    public static final class Job<S, X> {
+        public final Flow<S, X> flow;
+        public final S initialState;
+        /**
+         * The maximum time the job may take from submission to completion, or null if there is no limit
+         */
+        public final Duration timeout;
+
+        public Job(Flow<S, X> flow, S initialState) {
+            this(flow, initialState, null);
+        }
+
+        public Job(Flow<S, X> flow, S initialState, Duration timeout) {
+            this.flow = flow;
+            this.initialState = initialState;
+            this.timeout = timeout;
+        }
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+        private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+        private final int pool = POOL_COUNT.incrementAndGet();
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "hydra-flow-" + pool + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
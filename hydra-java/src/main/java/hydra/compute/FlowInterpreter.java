@@ -0,0 +1,594 @@
+package hydra.compute;
+
+import hydra.tools.TraceLog;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+
+/**
+ * A stack-safe interpreter for flows.
+ * The basic flow combinators (pure, bind, map, fail, getState, putState) are represented as data rather than as
+ * nested closures, and are evaluated in a loop with an explicit, heap-allocated continuation stack.
+ * Sequencing any number of binds therefore takes constant JVM stack.
+ * Traversals over collections are also steps; they visit their elements iteratively and accumulate results directly
+ * into a presized output, rather than building one bind per element.
+ * Each step is still a function from state to trace to flow state, so that flows may be run in the usual way,
+ * i.e. {@code flow.value.apply(state).apply(trace)}, and opaque flows constructed elsewhere are run as-is.
+ */
+public final class FlowInterpreter {
+    /**
+     * The message with which a cancelled flow fails
+     */
+    public static final String CANCELLED = "Error: flow was cancelled";
+
+    /**
+     * The message with which a flow fails on entering a WithTrace step when the trace's stack is full
+     */
+    public static final String TRACE_DEPTH_EXCEEDED = "Error: maximum trace depth exceeded";
+
+    private static final int INITIAL_STACK_SIZE = 16;
+    // The number of steps between checks for cancellation; a power of two
+    private static final int CANCELLATION_CHECK_INTERVAL = 1024;
+
+    private FlowInterpreter() {
+    }
+
+    /**
+     * Run a flow with the given initial state and trace
+     */
+    public static <S, X> FlowState<S, X> run(Flow<S, X> flow, S state, Trace trace) {
+        return run(flow, state, trace, null);
+    }
+
+    /**
+     * Run a flow with the given initial state and trace, stopping with a failure if the given condition becomes true.
+     * The condition is checked periodically, rather than before every step, and only by this interpreter; opaque flows
+     * are not interrupted.
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, X> FlowState<S, X> run(Flow<S, X> flow, S state, Trace trace, BooleanSupplier cancelled) {
+        Object[] stack = new Object[INITIAL_STACK_SIZE];
+        int depth = 0;
+
+        Object s = state;
+        Trace t = trace;
+        Function<Object, Function<Trace, FlowState<Object, Object>>> cur
+            = (Function<Object, Function<Trace, FlowState<Object, Object>>>) (Object) flow.value;
+
+        int steps = 0;
+        while (true) {
+            Object value;
+
+            if (cancelled != null && (++steps & (CANCELLATION_CHECK_INTERVAL - 1)) == 0 && cancelled.getAsBoolean()) {
+                return (FlowState<S, X>) new FlowState<>(Optional.empty(), s, new Fail<>(CANCELLED).addTo(t));
+            }
+
+            // Unfold binds and maps, pushing their continuations onto the stack, until a leaf step is reached
+            if (cur instanceof Bind) {
+                if (depth == stack.length) {
+                    stack = grow(stack);
+                }
+                stack[depth++] = cur;
+                cur = (Function<Object, Function<Trace, FlowState<Object, Object>>>) (Object) ((Bind) cur).input.value;
+                continue;
+            } else if (cur instanceof Map) {
+                if (depth == stack.length) {
+                    stack = grow(stack);
+                }
+                stack[depth++] = cur;
+                cur = (Function<Object, Function<Trace, FlowState<Object, Object>>>) (Object) ((Map) cur).input.value;
+                continue;
+            } else if (cur instanceof Traverse) {
+                Cursor<Object> cursor = ((Traverse<Object, Object>) cur).start();
+                Flow<Object, ?> next = cursor.next();
+                if (next == null) {
+                    value = cursor.result();
+                } else {
+                    if (depth == stack.length) {
+                        stack = grow(stack);
+                    }
+                    stack[depth++] = cursor;
+                    cur = (Function<Object, Function<Trace, FlowState<Object, Object>>>) (Object) next.value;
+                    continue;
+                }
+            } else if (cur instanceof WithTrace) {
+                WithTrace<Object, Object> w = (WithTrace<Object, Object>) cur;
+                if (TraceLog.isFull(t.stack)) {
+                    return (FlowState<S, X>) new FlowState<>(Optional.empty(), s,
+                        new Fail<>(TRACE_DEPTH_EXCEEDED).addTo(t));
+                }
+                if (depth == stack.length) {
+                    stack = grow(stack);
+                }
+                stack[depth++] = new RestoreStack(t.stack);
+                t = t.withStack(TraceLog.append(t.stack, w.frame));
+                cur = (Function<Object, Function<Trace, FlowState<Object, Object>>>) (Object) w.flow.value;
+                continue;
+            } else if (cur instanceof Pure) {
+                value = ((Pure) cur).value;
+            } else if (cur instanceof GetState) {
+                value = s;
+            } else if (cur instanceof PutState) {
+                s = ((PutState) cur).state;
+                value = true;
+            } else if (cur instanceof Fail) {
+                return (FlowState<S, X>) new FlowState<>(Optional.empty(), s, ((Fail) cur).addTo(t));
+            } else {
+                FlowState<Object, Object> result = cur.apply(s).apply(t);
+                s = result.state;
+                t = result.trace;
+                if (!result.value.isPresent()) {
+                    return (FlowState<S, X>) new FlowState<>(Optional.empty(), s, t);
+                }
+                value = result.value.get();
+            }
+
+            // Feed the value to pending continuations, until one of them produces a new flow or the stack is empty
+            while (true) {
+                if (depth == 0) {
+                    return (FlowState<S, X>) new FlowState<>(Optional.of(value), s, t);
+                }
+                Object frame = stack[--depth];
+                stack[depth] = null;
+                if (frame instanceof RestoreStack) {
+                    t = t.withStack(((RestoreStack) frame).stack);
+                } else if (frame instanceof Map) {
+                    value = ((Map<Object, Object, Object>) frame).mapping.apply(value);
+                    if (value == null) {
+                        // Mapping to null is treated as a failure, as with Optional.map
+                        return (FlowState<S, X>) new FlowState<>(Optional.empty(), s, t);
+                    }
+                } else if (frame instanceof Cursor) {
+                    Cursor<Object> cursor = (Cursor<Object>) frame;
+                    cursor.accept(value);
+                    Flow<Object, ?> next = cursor.next();
+                    if (next == null) {
+                        value = cursor.result();
+                    } else {
+                        stack[depth++] = cursor;
+                        cur = (Function<Object, Function<Trace, FlowState<Object, Object>>>) (Object) next.value;
+                        break;
+                    }
+                } else {
+                    Flow<Object, Object> next = ((Bind<Object, Object, Object>) frame).continuation.apply(value);
+                    cur = (Function<Object, Function<Trace, FlowState<Object, Object>>>) (Object) next.value;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * The initial capacity of a hash-based collection which is to hold the given number of elements without rehashing
+     */
+    public static int hashCapacity(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
+    /**
+     * The map into which a traversal of a map with the given number of entries accumulates its results
+     */
+    public static <K, V> java.util.Map<K, V> traversalOutputMap(int size) {
+        return new HashMap<>(hashCapacity(size));
+    }
+
+    private static Object[] grow(Object[] stack) {
+        Object[] bigger = new Object[stack.length * 2];
+        System.arraycopy(stack, 0, bigger, 0, stack.length);
+        return bigger;
+    }
+
+    /**
+     * A primitive step of a flow, which is unfolded by the interpreter rather than called directly
+     */
+    public abstract static class Step<S, X> implements Function<S, Function<Trace, FlowState<S, X>>> {
+        @Override
+        public Function<Trace, FlowState<S, X>> apply(S state) {
+            return trace -> run(new Flow<>(this), state, trace);
+        }
+    }
+
+    /**
+     * A step which produces a given value, leaving state and trace unchanged
+     */
+    public static final class Pure<S, X> extends Step<S, X> {
+        public final X value;
+
+        public Pure(X value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * A step which fails with a given error message
+     */
+    public static final class Fail<S, X> extends Step<S, X> {
+        // Either a String or a Supplier<String>
+        private final Object message;
+
+        public Fail(String message) {
+            this.message = message;
+        }
+
+        /**
+         * A failure whose message is produced only if it is read
+         */
+        public Fail(Supplier<String> message) {
+            this.message = message;
+        }
+
+        /**
+         * The message of this failure. A message given as a supplier is produced anew by each call.
+         */
+        @SuppressWarnings("unchecked")
+        public String message() {
+            return message instanceof String ? (String) message : ((Supplier<String>) message).get();
+        }
+
+        @SuppressWarnings("unchecked")
+        Trace addTo(Trace trace) {
+            return trace.withMessages(message instanceof String
+                ? TraceLog.append(trace.messages, (String) message)
+                : TraceLog.append(trace.messages, (Supplier<String>) message));
+        }
+    }
+
+    /**
+     * A step which runs a flow with an additional frame on the trace's stack. The frame is removed when the flow
+     * succeeds, and left in place when it fails, so that it shows where the failure occurred.
+     * If the stack is already full, the step fails instead; see Flows.emptyTrace.
+     */
+    public static final class WithTrace<S, X> extends Step<S, X> {
+        public final String frame;
+        public final Flow<S, X> flow;
+
+        public WithTrace(String frame, Flow<S, X> flow) {
+            this.frame = frame;
+            this.flow = flow;
+        }
+    }
+
+    // A continuation which restores the stack on leaving a WithTrace step
+    private static final class RestoreStack {
+        final List<String> stack;
+
+        RestoreStack(List<String> stack) {
+            this.stack = stack;
+        }
+    }
+
+    /**
+     * A step which produces the current state as its value
+     */
+    public static final class GetState<S> extends Step<S, S> {
+    }
+
+    /**
+     * A step which replaces the current state, producing true as its value
+     */
+    public static final class PutState<S> extends Step<S, Boolean> {
+        public final S state;
+
+        public PutState(S state) {
+            this.state = state;
+        }
+    }
+
+    /**
+     * A step which feeds the value of one flow into a continuation producing another flow
+     */
+    public static final class Bind<S, X, Y> extends Step<S, Y> {
+        public final Flow<S, X> input;
+        public final Function<X, Flow<S, Y>> continuation;
+
+        public Bind(Flow<S, X> input, Function<X, Flow<S, Y>> continuation) {
+            this.input = input;
+            this.continuation = continuation;
+        }
+    }
+
+    /**
+     * A step which applies a pure function to the value of another flow
+     */
+    public static final class Map<S, X, Y> extends Step<S, Y> {
+        public final Flow<S, X> input;
+        public final Function<X, Y> mapping;
+
+        public Map(Flow<S, X> input, Function<X, Y> mapping) {
+            this.input = input;
+            this.mapping = mapping;
+        }
+    }
+
+    /**
+     * A step which runs a series of flows one after another, accumulating their values.
+     * The traversal stops at the first failure.
+     */
+    public abstract static class Traverse<S, R> extends Step<S, R> {
+        /**
+         * Begin a new traversal. Each run of the flow gets its own cursor, so that flows may be run more than once.
+         */
+        protected abstract Cursor<S> start();
+    }
+
+    /**
+     * The mutable position of a traversal in progress
+     */
+    public abstract static class Cursor<S> {
+        /**
+         * The flow for the next component of the traversal, or null if the traversal is complete
+         */
+        protected abstract Flow<S, ?> next();
+
+        /**
+         * Accept the value of the flow most recently produced by next()
+         */
+        protected abstract void accept(Object value);
+
+        /**
+         * The accumulated value of a completed traversal
+         */
+        protected abstract Object result();
+    }
+
+    /**
+     * A traversal which maps a monadic function over a collection, accumulating the results into a new collection
+     */
+    public static final class TraverseCollection<S, X, Y, C extends Collection<Y>> extends Traverse<S, C> {
+        public final Collection<X> inputs;
+        public final Function<X, Flow<S, Y>> function;
+        public final IntFunction<C> constructor;
+
+        public TraverseCollection(Collection<X> inputs, Function<X, Flow<S, Y>> function, IntFunction<C> constructor) {
+            this.inputs = inputs;
+            this.function = function;
+            this.constructor = constructor;
+        }
+
+        @Override
+        protected Cursor<S> start() {
+            Iterator<X> iter = inputs.iterator();
+            C outputs = constructor.apply(inputs.size());
+            return new Cursor<S>() {
+                @Override
+                protected Flow<S, ?> next() {
+                    return iter.hasNext() ? function.apply(iter.next()) : null;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                protected void accept(Object value) {
+                    outputs.add((Y) value);
+                }
+
+                @Override
+                protected Object result() {
+                    return outputs;
+                }
+            };
+        }
+    }
+
+    /**
+     * A traversal which maps one monadic function over the keys of a map and another over its values,
+     * accumulating the results into a new map
+     */
+    public static final class TraverseMap<S, K1, V1, K2, V2> extends Traverse<S, java.util.Map<K2, V2>> {
+        public final java.util.Map<K1, V1> inputs;
+        public final Function<K1, Flow<S, K2>> keys;
+        public final Function<V1, Flow<S, V2>> values;
+
+        public TraverseMap(java.util.Map<K1, V1> inputs, Function<K1, Flow<S, K2>> keys,
+                           Function<V1, Flow<S, V2>> values) {
+            this.inputs = inputs;
+            this.keys = keys;
+            this.values = values;
+        }
+
+        @Override
+        protected Cursor<S> start() {
+            Iterator<java.util.Map.Entry<K1, V1>> iter = inputs.entrySet().iterator();
+            java.util.Map<K2, V2> outputs = traversalOutputMap(inputs.size());
+            return new Cursor<S>() {
+                private java.util.Map.Entry<K1, V1> entry;
+                private K2 key;
+                private boolean awaitingValue = false;
+
+                @Override
+                protected Flow<S, ?> next() {
+                    if (awaitingValue) {
+                        return values.apply(entry.getValue());
+                    } else if (iter.hasNext()) {
+                        entry = iter.next();
+                        return keys.apply(entry.getKey());
+                    } else {
+                        return null;
+                    }
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                protected void accept(Object value) {
+                    if (awaitingValue) {
+                        outputs.put(key, (V2) value);
+                        awaitingValue = false;
+                    } else {
+                        key = (K2) value;
+                        awaitingValue = true;
+                    }
+                }
+
+                @Override
+                protected Object result() {
+                    return outputs;
+                }
+            };
+        }
+    }
+
+    /**
+     * A traversal which runs a fixed number of flows of arbitrary types, then combines their values
+     */
+    public static final class Sequence<S, R> extends Traverse<S, R> {
+        public final Flow<S, ?>[] flows;
+        public final Function<Object[], R> combine;
+
+        public Sequence(Flow<S, ?>[] flows, Function<Object[], R> combine) {
+            this.flows = flows;
+            this.combine = combine;
+        }
+
+        @Override
+        protected Cursor<S> start() {
+            Object[] outputs = new Object[flows.length];
+            return new Cursor<S>() {
+                private int index = 0;
+
+                @Override
+                protected Flow<S, ?> next() {
+                    return index < flows.length ? flows[index] : null;
+                }
+
+                @Override
+                protected void accept(Object value) {
+                    outputs[index++] = value;
+                }
+
+                @Override
+                protected Object result() {
+                    return combine.apply(outputs);
+                }
+            };
+        }
+    }
+
+    /**
+     * A traversal which runs the flows for the elements of a list in parallel on a fork/join pool, each starting from
+     * the same state. The outcome is the same as that of a TraverseCollection over the list: trace messages are
+     * concatenated in element order, and the first failure in element order determines the trace of a failed
+     * traversal. This holds provided that the flows do not change the state or the trace's stack and other fields;
+     * if any of them does, the traversal is repeated sequentially.
+     * Unlike the other steps, a parallel traversal is run as an opaque flow, since its branches are run by separate
+     * interpreters.
+     */
+    public static final class ParallelTraverse<S, X, Y> implements Function<S, Function<Trace, FlowState<S, List<Y>>>> {
+        // Divide the work into a few tasks per worker, so that uneven elements can be balanced by work stealing
+        private static final int TASKS_PER_WORKER = 4;
+
+        public final ForkJoinPool pool;
+        public final List<X> inputs;
+        public final Function<X, Flow<S, Y>> function;
+
+        public ParallelTraverse(ForkJoinPool pool, List<X> inputs, Function<X, Flow<S, Y>> function) {
+            this.pool = pool;
+            this.inputs = inputs;
+            this.function = function;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Function<Trace, FlowState<S, List<Y>>> apply(S state) {
+            return trace -> {
+                int size = inputs.size();
+                if (size < 2) {
+                    return sequential(state, trace);
+                }
+
+                // Each branch starts with no messages; the messages of all branches are appended in order below
+                Trace start = new Trace(trace.stack, TraceLog.emptyLike(trace.messages), trace.other);
+                @SuppressWarnings("unchecked")
+                FlowState<S, Y>[] results = (FlowState<S, Y>[]) new FlowState<?, ?>[size];
+                // The branches index into the inputs, so a list without constant-time access is copied once
+                List<X> elements = inputs instanceof RandomAccess ? inputs : new ArrayList<>(inputs);
+                int leafSize = Math.max(1, size / (TASKS_PER_WORKER * pool.getParallelism()));
+                Branch root = new Branch(elements, 0, size, leafSize, state, start, results, new AtomicInteger(size));
+                if (ForkJoinTask.inForkJoinPool() && ForkJoinTask.getPool() == pool) {
+                    root.invoke();
+                } else {
+                    pool.invoke(root);
+                }
+
+                List<String> messages = trace.messages;
+                List<Y> outputs = new ArrayList<>(size);
+                for (FlowState<S, Y> result : results) {
+                    if (result.state != state || result.trace.other != trace.other
+                        || (result.value.isPresent() && !result.trace.stack.equals(trace.stack))) {
+                        return sequential(state, trace);
+                    }
+                    if (!result.trace.messages.isEmpty()) {
+                        messages = TraceLog.appendAll(messages, result.trace.messages);
+                    }
+                    if (!result.value.isPresent()) {
+                        return new FlowState<>(Optional.empty(), result.state,
+                            new Trace(result.trace.stack, messages, result.trace.other));
+                    }
+                    outputs.add(result.value.get());
+                }
+                return new FlowState<>(Optional.of(outputs), state,
+                    messages == trace.messages ? trace : new Trace(trace.stack, messages, trace.other));
+            };
+        }
+
+        private FlowState<S, List<Y>> sequential(S state, Trace trace) {
+            return run(new Flow<>(new TraverseCollection<S, X, Y, List<Y>>(inputs, function, ArrayList::new)),
+                state, trace);
+        }
+
+        private final class Branch extends RecursiveAction {
+            private static final long serialVersionUID = 1L;
+
+            private final List<X> elements;
+            private final int from;
+            private final int to;
+            private final int leafSize;
+            private final S state;
+            private final Trace start;
+            private final FlowState<S, Y>[] results;
+            // The index of the first failure found so far; later elements need not be evaluated
+            private final AtomicInteger firstFailure;
+
+            Branch(List<X> elements, int from, int to, int leafSize, S state, Trace start, FlowState<S, Y>[] results,
+                   AtomicInteger firstFailure) {
+                this.elements = elements;
+                this.from = from;
+                this.to = to;
+                this.leafSize = leafSize;
+                this.state = state;
+                this.start = start;
+                this.results = results;
+                this.firstFailure = firstFailure;
+            }
+
+            @Override
+            protected void compute() {
+                if (to - from <= leafSize) {
+                    for (int i = from; i < to && i < firstFailure.get(); i++) {
+                        FlowState<S, Y> result = run(function.apply(elements.get(i)), state, start);
+                        results[i] = result;
+                        if (!result.value.isPresent()) {
+                            firstFailure.accumulateAndGet(i, Math::min);
+                            return;
+                        }
+                    }
+                } else {
+                    int middle = (from + to) >>> 1;
+                    invokeAll(new Branch(elements, from, middle, leafSize, state, start, results, firstFailure),
+                        new Branch(elements, middle, to, leafSize, state, start, results, firstFailure));
+                }
+            }
+        }
+    }
+}
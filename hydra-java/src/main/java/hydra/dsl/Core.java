@@ -1,15 +1,16 @@
 package hydra.dsl;
 
+import hydra.Symbols;
 import hydra.core.FieldName;
 import hydra.core.Name;
 
 
 public interface Core {
   static FieldName fieldName(final String name) {
-    return new FieldName(name);
+    return Symbols.fieldName(name);
   }
 
   static Name name(final String name) {
-    return new Name(name);
+    return Symbols.name(name);
   }
 }
@@ -16,8 +16,6 @@ import hydra.graph.Graph;
 import hydra.tools.PrettyPrinter;
 
 import java.math.BigInteger;
-import java.util.AbstractMap;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,7 +27,6 @@ import static hydra.Flows.bind;
 import static hydra.Flows.fail;
 import static hydra.Flows.mapM;
 import static hydra.Flows.pure;
-import static hydra.Flows.unexpected;
 
 
 public class Expect {
@@ -79,6 +76,10 @@ public class Expect {
     }
 
     public static <S, A> Flow<S, Boolean> boolean_(final Term<A> term) {
+        Boolean value = booleanValue(term);
+        if (value != null) {
+            return pure(value);
+        }
         return bind(literal(term), literal -> literal.accept(new Literal.PartialVisitor<Flow<S, Boolean>>() {
             @Override
             public Flow<S, Boolean> otherwise(Literal instance) {
@@ -118,6 +119,10 @@ public class Expect {
     }
 
     public static <S, A> Flow<S, Float> float32(final Term<A> term) {
+        Float value = float32Value(term);
+        if (value != null) {
+            return pure(value);
+        }
         return bind(float_(term), floatValue -> floatValue.accept(new FloatValue.PartialVisitor<Flow<S, Float>>() {
             @Override
             public Flow<S, Float> otherwise(FloatValue instance) {
@@ -132,6 +137,10 @@ public class Expect {
     }
 
     public static <S, A> Flow<S, Double> float64(final Term<A> term) {
+        Double value = float64Value(term);
+        if (value != null) {
+            return pure(value);
+        }
         return bind(float_(term), floatValue -> floatValue.accept(new FloatValue.PartialVisitor<Flow<S, Double>>() {
             @Override
             public Flow<S, Double> otherwise(FloatValue instance) {
@@ -181,6 +190,10 @@ public class Expect {
     }
 
     public static <S, A> Flow<S, Integer> int32(final Term<A> term) {
+        Integer value = int32Value(term);
+        if (value != null) {
+            return pure(value);
+        }
         return bind(integer(term), integerValue -> integerValue.accept(new IntegerValue.PartialVisitor<Flow<S, Integer>>() {
             @Override
             public Flow<S, Integer> otherwise(IntegerValue instance) {
@@ -195,6 +208,10 @@ public class Expect {
     }
 
     public static <S, A> Flow<S, Long> int64(final Term<A> term) {
+        Long value = int64Value(term);
+        if (value != null) {
+            return pure(value);
+        }
         return bind(integer(term), integerValue -> integerValue.accept(new IntegerValue.PartialVisitor<Flow<S, Long>>() {
             @Override
             public Flow<S, Long> otherwise(IntegerValue instance) {
@@ -236,6 +253,23 @@ public class Expect {
         });
     }
 
+    /**
+     * The elements of a list term, without copying or otherwise traversing the list
+     */
+    public static <S, A> Flow<S, List<Term<A>>> list(final Term<A> term) {
+        return term.accept(new Term.PartialVisitor<>() {
+            @Override
+            public Flow<S, List<Term<A>>> otherwise(Term<A> instance) {
+                return wrongType("list", term);
+            }
+
+            @Override
+            public Flow<S, List<Term<A>>> visit(Term.List<A> instance) {
+                return pure(instance.value);
+            }
+        });
+    }
+
     public static <S, A> Flow<S, Literal> literal(final Term<A> term) {
         return term.accept(new Term.PartialVisitor<>() {
             @Override
@@ -250,6 +284,23 @@ public class Expect {
         });
     }
 
+    /**
+     * The entries of a map term, without copying or otherwise traversing the map
+     */
+    public static <S, A> Flow<S, Map<Term<A>, Term<A>>> map(final Term<A> term) {
+        return term.accept(new Term.PartialVisitor<>() {
+            @Override
+            public Flow<S, Map<Term<A>, Term<A>>> otherwise(Term<A> instance) {
+                return wrongType("map", term);
+            }
+
+            @Override
+            public Flow<S, Map<Term<A>, Term<A>>> visit(Term.Map<A> instance) {
+                return pure(instance.value);
+            }
+        });
+    }
+
     public static <S, A, K, V> Flow<S, Map<K, V>> map(
             final Function<Term<A>, Flow<S, K>> keys,
             final Function<Term<A>, Flow<S, V>> values,
@@ -262,15 +313,7 @@ public class Expect {
 
             @Override
             public Flow<S, Map<K, V>> visit(Term.Map<A> instance) {
-                Term.Map<A> mp = instance;
-                return Flows.map(Flows.mapM(new ArrayList<>(mp.value.entrySet()), entry -> Flows.map2(keys.apply(entry.getKey()), values.apply(entry.getValue()), AbstractMap.SimpleEntry::new)),
-                        (Function<List<Map.Entry<K, V>>, Map<K, V>>) entries -> {
-                    Map<K, V> result = new HashMap<>();
-                    for (Map.Entry<K, V> e : entries) {
-                        result.put(e.getKey(), e.getValue());
-                    }
-                    return result;
-                });
+                return mapM(instance.value, keys, values);
             }
         });
     }
@@ -339,6 +382,23 @@ public class Expect {
         });
     }
 
+    /**
+     * The elements of a set term, without copying or otherwise traversing the set
+     */
+    public static <S, A> Flow<S, Set<Term<A>>> set(final Term<A> term) {
+        return term.accept(new Term.PartialVisitor<>() {
+            @Override
+            public Flow<S, Set<Term<A>>> otherwise(Term<A> instance) {
+                return wrongType("set", term);
+            }
+
+            @Override
+            public Flow<S, Set<Term<A>>> visit(Term.Set<A> instance) {
+                return pure(instance.value);
+            }
+        });
+    }
+
     public static <S, A, X> Flow<S, Set<X>> set(final Function<Term<A>, Flow<S, X>> elems, final Term<A> term) {
         return term.accept(new Term.PartialVisitor<>() {
             @Override
@@ -354,6 +414,10 @@ public class Expect {
     }
 
     public static <S, A> Flow<S, String> string(final Term<A> term) {
+        String value = stringValue(term);
+        if (value != null) {
+            return pure(value);
+        }
         return bind(literal(term), literal -> literal.accept(new Literal.PartialVisitor<Flow<S, String>>() {
             @Override
             public Flow<S, String> otherwise(Literal instance) {
@@ -424,6 +488,76 @@ public class Expect {
     }
 
     private static <S, A, X> Flow<S, X> wrongType(String category, Term<A> term) {
-        return unexpected(category, PrettyPrinter.printTerm(term));
+        return fail(() -> "expected " + category + " but found: " + PrettyPrinter.printTerm(term));
+    }
+
+    /**
+     * The value of a boolean literal term, or null if the term is not a boolean literal.
+     * This and the other *Value accessors are allocation-free fast paths for primitives which are applied many times;
+     * the flow-based accessors remain the place to report type errors.
+     */
+    public static <A> Boolean booleanValue(final Term<A> term) {
+        Literal literal = literalValue(term);
+        return literal instanceof Literal.Boolean_ ? ((Literal.Boolean_) literal).value : null;
+    }
+
+    /**
+     * The value of a float32 literal term, or null if the term is not a float32 literal
+     */
+    public static <A> Float float32Value(final Term<A> term) {
+        Literal literal = literalValue(term);
+        if (literal instanceof Literal.Float_) {
+            FloatValue value = ((Literal.Float_) literal).value;
+            return value instanceof FloatValue.Float32 ? ((FloatValue.Float32) value).value : null;
+        }
+        return null;
+    }
+
+    /**
+     * The value of a float64 literal term, or null if the term is not a float64 literal
+     */
+    public static <A> Double float64Value(final Term<A> term) {
+        Literal literal = literalValue(term);
+        if (literal instanceof Literal.Float_) {
+            FloatValue value = ((Literal.Float_) literal).value;
+            return value instanceof FloatValue.Float64 ? ((FloatValue.Float64) value).value : null;
+        }
+        return null;
+    }
+
+    /**
+     * The value of an int32 literal term, or null if the term is not an int32 literal
+     */
+    public static <A> Integer int32Value(final Term<A> term) {
+        Literal literal = literalValue(term);
+        if (literal instanceof Literal.Integer_) {
+            IntegerValue value = ((Literal.Integer_) literal).value;
+            return value instanceof IntegerValue.Int32 ? ((IntegerValue.Int32) value).value : null;
+        }
+        return null;
+    }
+
+    /**
+     * The value of an int64 literal term, or null if the term is not an int64 literal
+     */
+    public static <A> Long int64Value(final Term<A> term) {
+        Literal literal = literalValue(term);
+        if (literal instanceof Literal.Integer_) {
+            IntegerValue value = ((Literal.Integer_) literal).value;
+            return value instanceof IntegerValue.Int64 ? ((IntegerValue.Int64) value).value : null;
+        }
+        return null;
+    }
+
+    /**
+     * The value of a string literal term, or null if the term is not a string literal
+     */
+    public static <A> String stringValue(final Term<A> term) {
+        Literal literal = literalValue(term);
+        return literal instanceof Literal.String_ ? ((Literal.String_) literal).value : null;
+    }
+
+    private static <A> Literal literalValue(final Term<A> term) {
+        return term instanceof Term.Literal ? ((Term.Literal<A>) term).value : null;
     }
 }
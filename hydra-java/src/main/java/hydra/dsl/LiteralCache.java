@@ -0,0 +1,71 @@
+package hydra.dsl;
+
+import hydra.core.IntegerValue;
+import hydra.core.Literal;
+import hydra.core.Term;
+
+
+/**
+ * Shared instances of common literals and literal terms. Literals are immutable, and a literal term carries no
+ * annotations, so a single instance can serve as a term of any annotation type.
+ */
+final class LiteralCache {
+    private static final int MIN = -128;
+    private static final int MAX = 1023;
+
+    private static final Literal[] INT32 = new Literal[MAX - MIN + 1];
+    private static final Literal[] INT64 = new Literal[MAX - MIN + 1];
+    private static final Term.Literal<?>[] INT32_TERMS = new Term.Literal<?>[MAX - MIN + 1];
+    private static final Term.Literal<?>[] INT64_TERMS = new Term.Literal<?>[MAX - MIN + 1];
+    private static final Literal TRUE = new Literal.Boolean_(true);
+    private static final Literal FALSE = new Literal.Boolean_(false);
+    private static final Term.Literal<?> TRUE_TERM = new Term.Literal<>(TRUE);
+    private static final Term.Literal<?> FALSE_TERM = new Term.Literal<>(FALSE);
+
+    static {
+        for (int i = MIN; i <= MAX; i++) {
+            INT32[i - MIN] = new Literal.Integer_(new IntegerValue.Int32(i));
+            INT64[i - MIN] = new Literal.Integer_(new IntegerValue.Int64((long) i));
+            INT32_TERMS[i - MIN] = new Term.Literal<>(INT32[i - MIN]);
+            INT64_TERMS[i - MIN] = new Term.Literal<>(INT64[i - MIN]);
+        }
+    }
+
+    private LiteralCache() {
+    }
+
+    static Literal boolean_(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A> Term<A> booleanTerm(boolean value) {
+        return (Term<A>) (value ? TRUE_TERM : FALSE_TERM);
+    }
+
+    static Literal int32(int value) {
+        return value >= MIN && value <= MAX
+            ? INT32[value - MIN]
+            : new Literal.Integer_(new IntegerValue.Int32(value));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A> Term<A> int32Term(int value) {
+        return value >= MIN && value <= MAX
+            ? (Term<A>) INT32_TERMS[value - MIN]
+            : new Term.Literal<>(new Literal.Integer_(new IntegerValue.Int32(value)));
+    }
+
+    static Literal int64(long value) {
+        return value >= MIN && value <= MAX
+            ? INT64[(int) value - MIN]
+            : new Literal.Integer_(new IntegerValue.Int64(value));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A> Term<A> int64Term(long value) {
+        return value >= MIN && value <= MAX
+            ? (Term<A>) INT64_TERMS[(int) value - MIN]
+            : new Term.Literal<>(new Literal.Integer_(new IntegerValue.Int64(value)));
+    }
+}
@@ -25,7 +25,7 @@ public interface Literals {
     }
 
     static Literal boolean_(final boolean value) {
-        return new Literal.Boolean_(value);
+        return LiteralCache.boolean_(value);
     }
 
     static Literal float_(final FloatValue value) {
@@ -49,11 +49,11 @@ public interface Literals {
     }
 
     static Literal int32(final int value) {
-        return integer(new IntegerValue.Int32(value));
+        return LiteralCache.int32(value);
     }
 
     static Literal int64(final long value) {
-        return integer(new IntegerValue.Int64(value));
+        return LiteralCache.int64(value);
     }
 
     static Literal integer(final IntegerValue value) {
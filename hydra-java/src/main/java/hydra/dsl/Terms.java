@@ -22,6 +22,7 @@ import hydra.core.Term;
 import hydra.core.UnitType;
 
 import hydra.core.Nominal;
+import hydra.tools.PackedList;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -44,7 +45,7 @@ public interface Terms {
     static <A> Term<A> apply(final Term<A> lhs, final Term<A>... rhs) {
         Term<A> cur = lhs;
         for (Term<A> r : rhs) {
-            cur = new Term.Application<>(new Application<>(lhs, r));
+            cur = new Term.Application<>(new Application<>(cur, r));
         }
         return cur;
     }
@@ -70,7 +71,7 @@ public interface Terms {
     }
 
     static <A> Term<A> boolean_(final boolean value) {
-        return literal(Literals.boolean_(value));
+        return LiteralCache.booleanTerm(value);
     }
 
     static <A> Term<A> cases(final Name name, final Optional<Term<A>> def, final Field<A>... fields) {
@@ -82,7 +83,7 @@ public interface Terms {
     }
 
     static <A> Field<A> field(final String fname, final Term<A> term) {
-        return new Field<>(new FieldName(fname), term);
+        return new Field<>(fieldName(fname), term);
     }
 
     static <A> Field<A> field(final String fname, final String term) {
@@ -137,11 +138,11 @@ public interface Terms {
     }
 
     static <A> Term<A> int32(final int value) {
-        return literal(Literals.int32(value));
+        return LiteralCache.int32Term(value);
     }
 
     static <A> Term<A> int64(final long value) {
-        return literal(Literals.int64(value));
+        return LiteralCache.int64Term(value);
     }
 
     static <A> Term<A> integer(final IntegerValue value) {
@@ -157,7 +158,7 @@ public interface Terms {
     }
 
     static <A> Term<A> lambda(final String var, final Term<A> body) {
-        return function(new Function.Lambda<>(new Lambda<>(new Name(var), body)));
+        return function(new Function.Lambda<>(new Lambda<>(name(var), body)));
     }
 
     static <A> Term<A> lambda(final String var1, final String var2, final Term<A> body) {
@@ -170,12 +171,12 @@ public interface Terms {
 
     static <A> Term<A> let(final String var, final Term<A> defined, final Term<A> definedIn) {
         Map<Name, Term<A>> bindings = new HashMap<>();
-        bindings.put(new Name(var), defined);
+        bindings.put(name(var), defined);
         return new Term.Let<>(new Let<>(bindings, definedIn));
     }
 
     static <A> Term<A> list(final List<Term<A>> elements) {
-        return new Term.List<>(elements);
+        return new Term.List<>(PackedList.pack(elements));
     }
 
     static <A> Term<A> list(final Term<A>... elements) {
@@ -228,11 +229,11 @@ public interface Terms {
     }
 
     static <A> Term<A> projection(final String recordName, final String fname) {
-        return projection(name(recordName), new FieldName(fname));
+        return projection(name(recordName), fieldName(fname));
     }
 
     static <A> Term<A> projection(final Name recordName, final String fname) {
-        return projection(recordName, new FieldName(fname));
+        return projection(recordName, fieldName(fname));
     }
 
     static <A> Term<A> record(final Name recordName, final Field<A>... fields) {
@@ -284,7 +285,7 @@ public interface Terms {
     }
 
     static <A> Term<A> variable(final String var) {
-        return new Term.Variable<>(new Name(var));
+        return new Term.Variable<>(name(var));
     }
 
     static <A> Term<A> wrap(final Name name, final Term<A> term) {
@@ -67,7 +67,7 @@ public interface Types {
     }
 
     static <A> FieldType<A> field(final String name, final Type<A> t) {
-        return new FieldType<>(new FieldName(name), t);
+        return new FieldType<>(fieldName(name), t);
     }
 
     static <A> Type<A> float32() {
@@ -151,7 +151,7 @@ public interface Types {
     }
 
     static <A> Type<A> lambda(final String var, final Type<A> body) {
-        return new Type.Lambda<>(new LambdaType<>(new Name(var), body));
+        return new Type.Lambda<>(new LambdaType<>(name(var), body));
     }
 
     static <A> Type<A> lambda(final String var1, final String var2, final Type<A> body) {
@@ -262,7 +262,7 @@ public interface Types {
     }
 
     static <A> Type<A> variable(final String name) {
-        return variable(new Name(name));
+        return variable(name(name));
     }
 
     static <A> Type<A> wrap(final Name name, final Type<A> type) {
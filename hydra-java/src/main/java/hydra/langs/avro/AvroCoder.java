@@ -0,0 +1,417 @@
+package hydra.langs.avro;
+
+import hydra.Flows;
+import hydra.compute.Coder;
+import hydra.compute.Flow;
+import hydra.compute.FlowInterpreter;
+import hydra.core.Field;
+import hydra.core.FieldName;
+import hydra.core.FloatValue;
+import hydra.core.IntegerValue;
+import hydra.core.Literal;
+import hydra.core.Term;
+import hydra.langs.avro.schema.Enum_;
+import hydra.langs.avro.schema.NamedType;
+import hydra.langs.avro.schema.Primitive;
+import hydra.langs.avro.schema.Schema;
+import hydra.tools.FlowException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static hydra.Common.stripTerm;
+import static hydra.Flows.fail;
+import static hydra.Flows.map2;
+import static hydra.Flows.pure;
+import static hydra.Flows.unexpected;
+
+/**
+ * Encoders and decoders between Hydra terms and the Avro binary encoding, compiled from Avro schemas. Terms have the
+ * types given to Avro schemas by Hydra.Langs.Avro.Coder: null is the unit type; int, long, float and double are
+ * int32, int64, float32 and float64; bytes and fixed values are binary strings, with one character (U+0000 to U+00FF)
+ * for each byte; arrays are lists, and maps are maps with string keys; enums are unions of unit-valued fields, one for
+ * each symbol; records are records named by their full Avro names; and a union of null and one other type is an
+ * optional. As in Hydra.Langs.Avro.Coder, other unions are not yet supported.
+ * A decoder may be compiled for a pair of schemas, in which case data written with the first (writer's) schema is
+ * read as terms of the type of the second (reader's) schema, resolving the two schemas as the Avro specification
+ * describes. All of the work which depends only on the schemas is done once, when an encoder or decoder is compiled.
+ */
+public class AvroCoder {
+  private AvroCoder() {
+  }
+
+  /**
+   * An encoder for terms of a particular schema, which fails with a FlowException if a term does not match the schema
+   */
+  public interface Encoder<A> {
+    void encode(Term<A> term, BinaryEncoder encoder);
+
+    /**
+     * Encode a term as a single datum
+     */
+    default byte[] toBytes(Term<A> term) {
+      BinaryEncoder encoder = new BinaryEncoder();
+      encode(term, encoder);
+      return encoder.toByteArray();
+    }
+  }
+
+  /**
+   * A decoder for terms of a particular schema, which fails with a BinaryDecoder.ParseException if the input is
+   * malformed
+   */
+  public interface Decoder<A> {
+    Term<A> decode(BinaryDecoder decoder);
+
+    /**
+     * Decode a term from a single datum, which must take up all of the given bytes
+     */
+    default Term<A> fromBytes(byte[] bytes) {
+      BinaryDecoder decoder = new BinaryDecoder(bytes);
+      Term<A> term = decode(decoder);
+      if (!decoder.isEnd()) {
+        throw decoder.error("unexpected data after the end of the datum");
+      }
+      return term;
+    }
+  }
+
+  /**
+   * Construct an encoder for terms of the given schema
+   */
+  public static <S, A> Flow<S, Encoder<A>> avroEncoder(Schema schema) {
+    try {
+      return pure(compileEncoder(schema));
+    } catch (SchemaException e) {
+      return fail(e.getMessage());
+    }
+  }
+
+  /**
+   * Construct a decoder for terms of the given schema
+   */
+  public static <S, A> Flow<S, Decoder<A>> avroDecoder(Schema schema) {
+    return avroDecoder(schema, schema);
+  }
+
+  /**
+   * Construct a decoder which reads data written with the writer's schema as terms of the reader's schema
+   */
+  public static <S, A> Flow<S, Decoder<A>> avroDecoder(Schema writerSchema, Schema readerSchema) {
+    try {
+      return pure(compileDecoder(writerSchema, readerSchema));
+    } catch (SchemaException e) {
+      return fail(e.getMessage());
+    }
+  }
+
+  /**
+   * Construct a coder between terms of the given schema and single Avro datums
+   */
+  public static <S, A> Flow<S, Coder<S, S, Term<A>, byte[]>> avroCoder(Schema schema) {
+    return map2(AvroCoder.<S, A>avroEncoder(schema), AvroCoder.<S, A>avroDecoder(schema),
+        (encoder, decoder) -> new Coder<>(
+            term -> encodeToBytes(encoder, term),
+            bytes -> decodeFromBytes(decoder, bytes)));
+  }
+
+  /**
+   * Decode a term from a single datum, in a flow which fails if the datum is malformed
+   */
+  public static <S, A> Flow<S, Term<A>> decodeFromBytes(Decoder<A> decoder, byte[] bytes) {
+    try {
+      return pure(decoder.fromBytes(bytes));
+    } catch (BinaryDecoder.ParseException e) {
+      return fail("Avro decoding failed: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Encode a term as a single datum, in a flow which fails if the term does not match the schema of the encoder
+   */
+  public static <S, A> Flow<S, byte[]> encodeToBytes(Encoder<A> encoder, Term<A> term) {
+    try {
+      return pure(encoder.toBytes(term));
+    } catch (FlowException e) {
+      return new Flow<>(new FlowInterpreter.Fail<>(() -> String.join(", ", e.trace.messages)));
+    }
+  }
+
+  // Compile an encoder, throwing a SchemaException if the schema is not supported
+  static <A> Encoder<A> compileEncoder(Schema schema) {
+    return new EncoderCompiler<A>(new NamedSchemas(schema)).encoder(schema, null);
+  }
+
+  // Compile a decoder, throwing a SchemaException if the schemas are not supported or cannot be resolved
+  static <A> Decoder<A> compileDecoder(Schema writerSchema, Schema readerSchema) {
+    return new DecoderCompiler<A>(new NamedSchemas(writerSchema), new NamedSchemas(readerSchema))
+        .decoder(writerSchema, null, readerSchema, null);
+  }
+
+  /**
+   * A schema which cannot be compiled, or a pair of schemas which cannot be resolved
+   */
+  static class SchemaException extends IllegalArgumentException {
+    private static final long serialVersionUID = 1L;
+
+    SchemaException(String message) {
+      super(message);
+    }
+  }
+
+  /**
+   * The schema of the values of a union which is supported (a union of a single type, or of null and one other type).
+   * Other unions are rejected with a SchemaException.
+   */
+  static Schema unionValueSchema(List<Schema> schemas) {
+    Schema value = null;
+    for (Schema s : schemas) {
+      if (!isNull(s)) {
+        if (value != null) {
+          throw new SchemaException("general-purpose unions are not yet supported: " + schemas);
+        }
+        value = s;
+      }
+    }
+    if (value == null) {
+      throw new SchemaException("cannot generate the empty type");
+    }
+    return value;
+  }
+
+  static boolean isNull(Schema schema) {
+    return schema instanceof Schema.Primitive && ((Schema.Primitive) schema).value instanceof Primitive.Null;
+  }
+
+  // Fail with a FlowException, as an unexpected value would in a flow
+  private static void mismatch(String expected, Object found) {
+    Flows.fromFlow(unexpected(expected, found));
+  }
+
+  /**
+   * Compiles schemas to encoders
+   */
+  private static class EncoderCompiler<A> {
+    private final NamedSchemas names;
+    // Encoders for named types, which may be referenced recursively before they are complete
+    private final Map<String, Encoder<A>> named = new HashMap<>();
+
+    EncoderCompiler(NamedSchemas names) {
+      this.names = names;
+    }
+
+    Encoder<A> encoder(Schema schema, String namespace) {
+      if (schema instanceof Schema.Primitive) {
+        return primitiveEncoder(((Schema.Primitive) schema).value);
+      } else if (schema instanceof Schema.Array) {
+        Encoder<A> ie = encoder(((Schema.Array) schema).value.items, namespace);
+        return (term, out) -> {
+          List<Term<A>> els = this.<Term.List<A>>expect(term, Term.List.class, "list").value;
+          if (!els.isEmpty()) {
+            out.writeCount(els.size());
+            for (Term<A> el : els) {
+              ie.encode(el, out);
+            }
+          }
+          out.writeCount(0);
+        };
+      } else if (schema instanceof Schema.Map) {
+        Encoder<A> ve = encoder(((Schema.Map) schema).value.values, namespace);
+        return (term, out) -> {
+          Map<Term<A>, Term<A>> m = this.<Term.Map<A>>expect(term, Term.Map.class, "map").value;
+          if (!m.isEmpty()) {
+            out.writeCount(m.size());
+            for (Map.Entry<Term<A>, Term<A>> entry : m.entrySet()) {
+              out.writeString(string(entry.getKey()));
+              ve.encode(entry.getValue(), out);
+            }
+          }
+          out.writeCount(0);
+        };
+      } else if (schema instanceof Schema.Union) {
+        return unionEncoder(((Schema.Union) schema).value.value, namespace);
+      } else {
+        return namedEncoder(names.definition(schema, namespace));
+      }
+    }
+
+    private Encoder<A> primitiveEncoder(Primitive prim) {
+      if (prim instanceof Primitive.Null) {
+        return (term, out) -> expect(term, Term.Record.class, "unit");
+      } else if (prim instanceof Primitive.Boolean_) {
+        return (term, out) -> out.writeBoolean(this.<Literal.Boolean_>literal(term, Literal.Boolean_.class,
+            "boolean").value);
+      } else if (prim instanceof Primitive.Int) {
+        return (term, out) -> {
+          IntegerValue i = this.<Literal.Integer_>literal(term, Literal.Integer_.class, "int32").value;
+          if (!(i instanceof IntegerValue.Int32)) {
+            mismatch("int32", term);
+          }
+          out.writeInt(((IntegerValue.Int32) i).value);
+        };
+      } else if (prim instanceof Primitive.Long_) {
+        return (term, out) -> {
+          IntegerValue i = this.<Literal.Integer_>literal(term, Literal.Integer_.class, "int64").value;
+          if (!(i instanceof IntegerValue.Int64)) {
+            mismatch("int64", term);
+          }
+          out.writeLong(((IntegerValue.Int64) i).value);
+        };
+      } else if (prim instanceof Primitive.Float_) {
+        return (term, out) -> {
+          FloatValue f = this.<Literal.Float_>literal(term, Literal.Float_.class, "float32").value;
+          if (!(f instanceof FloatValue.Float32)) {
+            mismatch("float32", term);
+          }
+          out.writeFloat(((FloatValue.Float32) f).value);
+        };
+      } else if (prim instanceof Primitive.Double_) {
+        return (term, out) -> {
+          FloatValue f = this.<Literal.Float_>literal(term, Literal.Float_.class, "float64").value;
+          if (!(f instanceof FloatValue.Float64)) {
+            mismatch("float64", term);
+          }
+          out.writeDouble(((FloatValue.Float64) f).value);
+        };
+      } else if (prim instanceof Primitive.Bytes) {
+        return (term, out) -> out.writeBytes(bytes(term));
+      } else {
+        return (term, out) -> out.writeString(string(term));
+      }
+    }
+
+    private Encoder<A> unionEncoder(List<Schema> schemas, String namespace) {
+      Schema valueSchema = unionValueSchema(schemas);
+      int valueIndex = schemas.indexOf(valueSchema);
+      Encoder<A> ve = encoder(valueSchema, namespace);
+      if (schemas.size() == 1) {
+        return (term, out) -> {
+          out.writeInt(0);
+          ve.encode(term, out);
+        };
+      }
+      int nullIndex = 1 - valueIndex;
+      return (term, out) -> {
+        Optional<Term<A>> value = this.<Term.Optional<A>>expect(term, Term.Optional.class, "optional").value;
+        if (value.isPresent()) {
+          out.writeInt(valueIndex);
+          ve.encode(value.get(), out);
+        } else {
+          out.writeInt(nullIndex);
+        }
+      };
+    }
+
+    private Encoder<A> namedEncoder(NamedSchemas.Definition def) {
+      Encoder<A> existing = named.get(def.fullName);
+      if (existing != null) {
+        return existing;
+      }
+      // Register a forwarding encoder before compiling the named type, in case the type refers to itself
+      List<Encoder<A>> cell = new ArrayList<>(1);
+      Encoder<A> ref = (term, out) -> cell.get(0).encode(term, out);
+      named.put(def.fullName, ref);
+      NamedType type = def.named.type;
+      Encoder<A> encoder;
+      if (type instanceof NamedType.Record) {
+        encoder = recordEncoder(def, ((NamedType.Record) type).value.fields);
+      } else if (type instanceof NamedType.Enum_) {
+        encoder = enumEncoder(def, ((NamedType.Enum_) type).value);
+      } else {
+        int size = ((NamedType.Fixed) type).value.size;
+        encoder = (term, out) -> {
+          byte[] bytes = bytes(term);
+          if (bytes.length != size) {
+            mismatch("binary value of " + size + " bytes", term);
+          }
+          out.writeFixed(bytes);
+        };
+      }
+      cell.add(encoder);
+      return ref;
+    }
+
+    private Encoder<A> recordEncoder(NamedSchemas.Definition def, List<hydra.langs.avro.schema.Field> fields) {
+      int n = fields.size();
+      FieldName[] fieldNames = new FieldName[n];
+      List<Encoder<A>> encoders = new ArrayList<>(n);
+      for (int i = 0; i < n; i++) {
+        fieldNames[i] = new FieldName(fields.get(i).name);
+        encoders.add(encoder(fields.get(i).type, def.namespace));
+      }
+      return (term, out) -> {
+        List<Field<A>> termFields = this.<Term.Record<A>>expect(term, Term.Record.class, "record").value.fields;
+        for (int i = 0; i < n; i++) {
+          // The field is usually at the same position as in the schema
+          Field<A> field = i < termFields.size() && termFields.get(i).name.equals(fieldNames[i])
+              ? termFields.get(i) : findField(termFields, fieldNames[i]);
+          if (field == null) {
+            mismatch("field " + fieldNames[i].value, term);
+          }
+          encoders.get(i).encode(field.term, out);
+        }
+      };
+    }
+
+    private Encoder<A> enumEncoder(NamedSchemas.Definition def, Enum_ e) {
+      Map<FieldName, Integer> indexes = new HashMap<>();
+      for (int i = 0; i < e.symbols.size(); i++) {
+        indexes.put(new FieldName(e.symbols.get(i)), i);
+      }
+      return (term, out) -> {
+        FieldName symbol = this.<Term.Union<A>>expect(term, Term.Union.class, "union").value.field.name;
+        Integer index = indexes.get(symbol);
+        if (index == null) {
+          mismatch("a symbol of " + def.fullName, symbol.value);
+        }
+        out.writeInt(index);
+      };
+    }
+
+    private String string(Term<A> term) {
+      return this.<Literal.String_>literal(term, Literal.String_.class, "string").value;
+    }
+
+    private byte[] bytes(Term<A> term) {
+      String s = this.<Literal.Binary>literal(term, Literal.Binary.class, "binary").value;
+      byte[] bytes = new byte[s.length()];
+      for (int i = 0; i < bytes.length; i++) {
+        char c = s.charAt(i);
+        if (c > 0xff) {
+          mismatch("binary string of characters U+0000 to U+00FF", term);
+        }
+        bytes[i] = (byte) c;
+      }
+      return bytes;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T literal(Term<A> term, Class<?> cls, String description) {
+      Term<A> stripped = stripTerm(term);
+      if (!(stripped instanceof Term.Literal) || !cls.isInstance(((Term.Literal<A>) stripped).value)) {
+        mismatch(description, term);
+      }
+      return (T) ((Term.Literal<A>) stripped).value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T expect(Term<A> term, Class<?> cls, String description) {
+      Term<A> stripped = stripTerm(term);
+      if (!cls.isInstance(stripped)) {
+        mismatch(description, term);
+      }
+      return (T) stripped;
+    }
+
+    private Field<A> findField(List<Field<A>> fields, FieldName name) {
+      for (Field<A> field : fields) {
+        if (field.name.equals(name)) {
+          return field;
+        }
+      }
+      return null;
+    }
+  }
+}
@@ -0,0 +1,401 @@
+package hydra.langs.avro;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A reader for the Avro binary encoding, over a byte array or an input stream. When reading from an array, values are
+ * decoded in place; when reading from a stream, input is buffered, and the buffer is refilled as needed.
+ * Malformed input, including input which ends in the middle of a value, is reported as a ParseException.
+ * A decoder is not thread-safe.
+ */
+public class BinaryDecoder {
+  private static final int BUFFER_SIZE = 8192;
+
+  // The largest string or bytes value which will be read. This is a guard against corrupt lengths, not a format limit.
+  private static final int MAX_LENGTH = Integer.MAX_VALUE - 8;
+
+  private final InputStream in;
+  private byte[] buf;
+  private int pos;
+  private int limit;
+  private long consumed = 0;
+
+  /**
+   * A decoder for the given bytes
+   */
+  public BinaryDecoder(byte[] bytes) {
+    this(bytes, 0, bytes.length);
+  }
+
+  /**
+   * A decoder for a range of the given bytes
+   */
+  public BinaryDecoder(byte[] bytes, int offset, int length) {
+    this.in = null;
+    reset(bytes, offset, length);
+  }
+
+  /**
+   * A decoder which reads from a stream, and which may read ahead of the last value it has decoded
+   */
+  public BinaryDecoder(InputStream in) {
+    this.in = in;
+    this.buf = new byte[BUFFER_SIZE];
+    this.pos = 0;
+    this.limit = 0;
+  }
+
+  /**
+   * Decode a new range of bytes, reusing this decoder. Only a decoder which does not read from a stream may be reset.
+   */
+  public BinaryDecoder reset(byte[] bytes, int offset, int length) {
+    if (in != null) {
+      throw new IllegalStateException("decoder reads from a stream");
+    }
+    this.buf = bytes;
+    this.pos = offset;
+    this.limit = offset + length;
+    return this;
+  }
+
+  /**
+   * Whether there is no more input
+   */
+  public boolean isEnd() {
+    return pos == limit && !fill();
+  }
+
+  /**
+   * The number of bytes decoded so far, since this decoder was constructed
+   */
+  public long position() {
+    return consumed + pos;
+  }
+
+  public boolean readBoolean() {
+    byte b = readByte();
+    if (b == 0) {
+      return false;
+    } else if (b == 1) {
+      return true;
+    } else {
+      throw error("invalid boolean: " + b);
+    }
+  }
+
+  public int readInt() {
+    if (limit - pos < 5) {
+      long n = readVarLong(5);
+      if (n >>> 32 != 0) {
+        throw error("int out of range");
+      }
+      return (int) (n >>> 1) ^ -((int) n & 1);
+    }
+    // Fast path: the whole varint is in the buffer
+    byte[] b = buf;
+    int p = pos;
+    int n = b[p++] & 0xff;
+    if (n > 0x7f) {
+      n &= 0x7f;
+      int shift = 7;
+      int x;
+      do {
+        x = b[p++] & 0xff;
+        if (shift == 28 && x > 0x0f) {
+          throw error(x > 0x7f ? "invalid int" : "int out of range");
+        }
+        n |= (x & 0x7f) << shift;
+        shift += 7;
+      } while (x > 0x7f);
+    }
+    pos = p;
+    return (n >>> 1) ^ -(n & 1);
+  }
+
+  public long readLong() {
+    long n;
+    if (limit - pos < 10) {
+      n = readVarLong(10);
+    } else {
+      // Fast path: the whole varint is in the buffer
+      byte[] b = buf;
+      int p = pos;
+      n = b[p++] & 0xff;
+      if (n > 0x7f) {
+        n &= 0x7f;
+        int shift = 7;
+        long x;
+        do {
+          if (shift > 63) {
+            throw error("invalid long");
+          }
+          x = b[p++] & 0xff;
+          n |= (x & 0x7f) << shift;
+          shift += 7;
+        } while (x > 0x7f);
+      }
+      pos = p;
+    }
+    return (n >>> 1) ^ -(n & 1);
+  }
+
+  public float readFloat() {
+    ensure(4);
+    int bits = (buf[pos] & 0xff)
+        | (buf[pos + 1] & 0xff) << 8
+        | (buf[pos + 2] & 0xff) << 16
+        | (buf[pos + 3] & 0xff) << 24;
+    pos += 4;
+    return Float.intBitsToFloat(bits);
+  }
+
+  public double readDouble() {
+    ensure(8);
+    long bits = 0;
+    for (int i = 7; i >= 0; i--) {
+      bits = (bits << 8) | (buf[pos + i] & 0xff);
+    }
+    pos += 8;
+    return Double.longBitsToDouble(bits);
+  }
+
+  public byte[] readBytes() {
+    return readFixed(readLength());
+  }
+
+  /**
+   * Read a length-prefixed string in UTF-8
+   */
+  public String readString() {
+    int len = readLength();
+    if (len <= limit - pos || ensureBuffered(len)) {
+      String s = new String(buf, pos, len, StandardCharsets.UTF_8);
+      pos += len;
+      return s;
+    }
+    return new String(readFixed(len), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Read a length-prefixed byte string, and return it as a string of the characters U+0000 to U+00FF, one for each
+   * byte
+   */
+  public String readLatin1String() {
+    return readFixedLatin1(readLength());
+  }
+
+  /**
+   * Read the given number of bytes, which have no length prefix
+   */
+  public byte[] readFixed(int size) {
+    if (in == null) {
+      if (size > limit - pos) {
+        throw error("unexpected end of input");
+      }
+      byte[] bytes = new byte[size];
+      readFixed(bytes, 0, size);
+      return bytes;
+    }
+    // The array grows as the input arrives, so that a corrupt length cannot cause a large allocation up front
+    byte[] bytes = new byte[Math.min(size, BUFFER_SIZE)];
+    int offset = 0;
+    while (true) {
+      readFixed(bytes, offset, bytes.length - offset);
+      offset = bytes.length;
+      if (offset == size) {
+        return bytes;
+      }
+      bytes = Arrays.copyOf(bytes, (int) Math.min(size, 2L * offset));
+    }
+  }
+
+  /**
+   * Read the given number of bytes, which have no length prefix, into an array
+   */
+  public void readFixed(byte[] bytes, int offset, int length) {
+    int end = offset + length;
+    while (offset < end) {
+      if (pos == limit && !fill()) {
+        throw error("unexpected end of input");
+      }
+      int n = Math.min(end - offset, limit - pos);
+      System.arraycopy(buf, pos, bytes, offset, n);
+      pos += n;
+      offset += n;
+    }
+  }
+
+  /**
+   * Read the given number of bytes, which have no length prefix, as a string of the characters U+0000 to U+00FF
+   */
+  public String readFixedLatin1(int size) {
+    if (size <= limit - pos || ensureBuffered(size)) {
+      String s = new String(buf, pos, size, StandardCharsets.ISO_8859_1);
+      pos += size;
+      return s;
+    }
+    return new String(readFixed(size), StandardCharsets.ISO_8859_1);
+  }
+
+  /**
+   * Read the number of items in the next block of an array or map, or zero at the end of the array or map.
+   * If the count is negative, as it is in blocks written with their size in bytes, the size is read and ignored.
+   */
+  public long readCount() {
+    long count = readLong();
+    if (count < 0) {
+      if (count == Long.MIN_VALUE) {
+        throw error("invalid block count");
+      }
+      readLong();
+      count = -count;
+    }
+    return count;
+  }
+
+  public void skipBytes() {
+    skip(readLength());
+  }
+
+  public void skipString() {
+    skip(readLength());
+  }
+
+  /**
+   * Skip the given number of bytes
+   */
+  public void skip(long n) {
+    while (n > 0) {
+      if (pos == limit && !fill()) {
+        throw error("unexpected end of input");
+      }
+      int k = (int) Math.min(n, limit - pos);
+      pos += k;
+      n -= k;
+    }
+  }
+
+  /**
+   * Skip to the end of an array or map, given a function which skips a single item. Blocks which are written with
+   * their size in bytes are skipped without decoding their items.
+   */
+  public void skipBlocks(Runnable skipItem) {
+    while (true) {
+      long count = readLong();
+      if (count == 0) {
+        return;
+      } else if (count < 0) {
+        skip(readLong());
+      } else {
+        for (long i = 0; i < count; i++) {
+          skipItem.run();
+        }
+      }
+    }
+  }
+
+  /**
+   * Construct a ParseException which refers to the current position in the input
+   */
+  public ParseException error(String message) {
+    return new ParseException(position(), message);
+  }
+
+  private byte readByte() {
+    if (pos == limit && !fill()) {
+      throw error("unexpected end of input");
+    }
+    return buf[pos++];
+  }
+
+  private long readVarLong(int maxBytes) {
+    long n = 0;
+    for (int i = 0; i < maxBytes; i++) {
+      int b = readByte() & 0xff;
+      n |= (long) (b & 0x7f) << (7 * i);
+      if (b < 0x80) {
+        return n;
+      }
+    }
+    throw error(maxBytes == 5 ? "invalid int" : "invalid long");
+  }
+
+  private int readLength() {
+    long len = readLong();
+    if (len < 0 || len > MAX_LENGTH) {
+      throw error("invalid length: " + len);
+    }
+    return (int) len;
+  }
+
+  private void ensure(int n) {
+    if (limit - pos < n && !ensureBuffered(n)) {
+      throw error("unexpected end of input");
+    }
+  }
+
+  // Make sure that at least n bytes are buffered, if possible without growing the buffer beyond a reasonable size
+  private boolean ensureBuffered(int n) {
+    if (in == null || n > Math.max(buf.length, 1 << 20)) {
+      return false;
+    }
+    if (n > buf.length) {
+      byte[] bigger = new byte[Math.max(n, buf.length * 2)];
+      System.arraycopy(buf, pos, bigger, 0, limit - pos);
+      consumed += pos;
+      limit -= pos;
+      pos = 0;
+      buf = bigger;
+    }
+    while (limit - pos < n) {
+      if (!fill()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // Read more input into the buffer, keeping any unread bytes. Returns false at the end of the input.
+  private boolean fill() {
+    if (in == null) {
+      return false;
+    }
+    if (pos > 0) {
+      System.arraycopy(buf, pos, buf, 0, limit - pos);
+      consumed += pos;
+      limit -= pos;
+      pos = 0;
+    }
+    if (limit == buf.length) {
+      return true;
+    }
+    try {
+      int n = in.read(buf, limit, buf.length - limit);
+      if (n <= 0) {
+        return false;
+      }
+      limit += n;
+      return true;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Malformed Avro data, or data which does not match the schema it is read with
+   */
+  public static class ParseException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public final long offset;
+
+    public ParseException(long offset, String message) {
+      super(message + " (at byte " + offset + ")");
+      this.offset = offset;
+    }
+  }
+}
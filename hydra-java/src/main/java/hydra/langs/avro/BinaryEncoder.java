@@ -0,0 +1,278 @@
+package hydra.langs.avro;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * A writer for the Avro binary encoding: zig-zag varints for ints and longs, little-endian IEEE 754 floats and
+ * doubles, and length-prefixed bytes and strings. Output goes through a buffer, and strings are encoded as UTF-8
+ * directly into that buffer. I/O errors are rethrown as UncheckedIOExceptions. An encoder is not thread-safe.
+ */
+public class BinaryEncoder implements Closeable, Flushable {
+  private static final int BUFFER_SIZE = 8192;
+
+  private final OutputStream out;
+  private byte[] buf;
+  private int pos = 0;
+
+  public BinaryEncoder(OutputStream out) {
+    this(out, BUFFER_SIZE);
+  }
+
+  BinaryEncoder(OutputStream out, int bufferSize) {
+    this.out = out;
+    this.buf = new byte[bufferSize];
+  }
+
+  /**
+   * An encoder which writes to memory, for use with {@link #toByteArray()}
+   */
+  public BinaryEncoder() {
+    this(null, 256);
+  }
+
+  /**
+   * The bytes written so far, if this encoder writes to memory
+   */
+  public byte[] toByteArray() {
+    if (out != null) {
+      throw new IllegalStateException("encoder writes to a stream");
+    }
+    byte[] bytes = new byte[pos];
+    System.arraycopy(buf, 0, bytes, 0, pos);
+    return bytes;
+  }
+
+  /**
+   * The number of bytes which are buffered, but not yet written to the underlying stream
+   */
+  public int buffered() {
+    return pos;
+  }
+
+  /**
+   * Discard all buffered bytes, if this encoder writes to memory
+   */
+  public void reset() {
+    truncate(0);
+  }
+
+  /**
+   * Discard all but the first bytes written so far, if this encoder writes to memory
+   */
+  public void truncate(int length) {
+    if (out != null) {
+      throw new IllegalStateException("encoder writes to a stream");
+    }
+    if (length < 0 || length > pos) {
+      throw new IndexOutOfBoundsException("invalid length: " + length);
+    }
+    pos = length;
+  }
+
+  // The buffer, whose first buffered() bytes have been written
+  byte[] buffer() {
+    return buf;
+  }
+
+  /**
+   * Copy the bytes written so far to a stream, and discard them, if this encoder writes to memory
+   */
+  public void writeTo(OutputStream stream) throws IOException {
+    if (out != null) {
+      throw new IllegalStateException("encoder writes to a stream");
+    }
+    stream.write(buf, 0, pos);
+    pos = 0;
+  }
+
+  public void writeBoolean(boolean b) {
+    ensure(1);
+    buf[pos++] = (byte) (b ? 1 : 0);
+  }
+
+  public void writeInt(int i) {
+    ensure(5);
+    int n = (i << 1) ^ (i >> 31);
+    while ((n & ~0x7f) != 0) {
+      buf[pos++] = (byte) ((n & 0x7f) | 0x80);
+      n >>>= 7;
+    }
+    buf[pos++] = (byte) n;
+  }
+
+  public void writeLong(long l) {
+    ensure(10);
+    long n = (l << 1) ^ (l >> 63);
+    while ((n & ~0x7fL) != 0) {
+      buf[pos++] = (byte) ((n & 0x7f) | 0x80);
+      n >>>= 7;
+    }
+    buf[pos++] = (byte) n;
+  }
+
+  public void writeFloat(float f) {
+    ensure(4);
+    int bits = Float.floatToRawIntBits(f);
+    buf[pos++] = (byte) bits;
+    buf[pos++] = (byte) (bits >>> 8);
+    buf[pos++] = (byte) (bits >>> 16);
+    buf[pos++] = (byte) (bits >>> 24);
+  }
+
+  public void writeDouble(double d) {
+    ensure(8);
+    long bits = Double.doubleToRawLongBits(d);
+    for (int i = 0; i < 64; i += 8) {
+      buf[pos++] = (byte) (bits >>> i);
+    }
+  }
+
+  public void writeBytes(byte[] bytes) {
+    writeBytes(bytes, 0, bytes.length);
+  }
+
+  public void writeBytes(byte[] bytes, int offset, int length) {
+    writeLong(length);
+    writeFixed(bytes, offset, length);
+  }
+
+  /**
+   * Write a string in UTF-8, prefixed by its length in bytes
+   */
+  public void writeString(String s) {
+    int len = s.length();
+    int utf8Length = utf8Length(s);
+    writeLong(utf8Length);
+    if (utf8Length == len) {
+      // ASCII only
+      int i = 0;
+      while (i < len) {
+        ensure(1);
+        int n = Math.min(len - i, buf.length - pos);
+        for (int end = i + n; i < end; i++) {
+          buf[pos++] = (byte) s.charAt(i);
+        }
+      }
+      return;
+    }
+    for (int i = 0; i < len; i++) {
+      ensure(4);
+      char c = s.charAt(i);
+      if (c < 0x80) {
+        buf[pos++] = (byte) c;
+      } else if (c < 0x800) {
+        buf[pos++] = (byte) (0xc0 | (c >> 6));
+        buf[pos++] = (byte) (0x80 | (c & 0x3f));
+      } else if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(s.charAt(i + 1))) {
+        int cp = Character.toCodePoint(c, s.charAt(++i));
+        buf[pos++] = (byte) (0xf0 | (cp >> 18));
+        buf[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+        buf[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+        buf[pos++] = (byte) (0x80 | (cp & 0x3f));
+      } else if (Character.isSurrogate(c)) {
+        // An unpaired surrogate is replaced, as by String.getBytes
+        buf[pos++] = (byte) '?';
+      } else {
+        buf[pos++] = (byte) (0xe0 | (c >> 12));
+        buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+        buf[pos++] = (byte) (0x80 | (c & 0x3f));
+      }
+    }
+  }
+
+  /**
+   * Write bytes without a length prefix, as for a fixed-size value
+   */
+  public void writeFixed(byte[] bytes) {
+    writeFixed(bytes, 0, bytes.length);
+  }
+
+  public void writeFixed(byte[] bytes, int offset, int length) {
+    if (out != null && length > buf.length - pos) {
+      drain();
+      if (length >= buf.length) {
+        write(bytes, offset, length);
+        return;
+      }
+    }
+    ensure(length);
+    System.arraycopy(bytes, offset, buf, pos, length);
+    pos += length;
+  }
+
+  /**
+   * Write the number of items in the next block of an array or map. A count of zero ends the array or map.
+   */
+  public void writeCount(long count) {
+    writeLong(count);
+  }
+
+  @Override
+  public void flush() {
+    if (out != null) {
+      drain();
+      try {
+        out.flush();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  /**
+   * Flush all output. The underlying stream is left open.
+   */
+  @Override
+  public void close() {
+    flush();
+  }
+
+  // The number of bytes in the UTF-8 encoding of a string, in which unpaired surrogates are replaced by '?'
+  static int utf8Length(String s) {
+    int len = s.length();
+    int n = len;
+    for (int i = 0; i < len; i++) {
+      char c = s.charAt(i);
+      if (c >= 0x80) {
+        if (c < 0x800) {
+          n += 1;
+        } else if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(s.charAt(i + 1))) {
+          n += 2;
+          i++;
+        } else if (!Character.isSurrogate(c)) {
+          n += 2;
+        }
+      }
+    }
+    return n;
+  }
+
+  private void ensure(int n) {
+    if (buf.length - pos < n) {
+      if (out == null) {
+        byte[] bigger = new byte[Math.max(buf.length * 2, pos + n)];
+        System.arraycopy(buf, 0, bigger, 0, pos);
+        buf = bigger;
+      } else {
+        drain();
+      }
+    }
+  }
+
+  private void drain() {
+    write(buf, 0, pos);
+    pos = 0;
+  }
+
+  private void write(byte[] bytes, int offset, int length) {
+    try {
+      out.write(bytes, offset, length);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,193 @@
+package hydra.langs.avro;
+
+import hydra.core.Term;
+import hydra.langs.avro.schema.Schema;
+import hydra.langs.json.JsonReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * A reader for Avro object container files, which reads one block at a time, and decodes the terms in each block
+ * with a decoder compiled from the schema in the header of the file, or resolved against a schema of the reader's
+ * choosing. Malformed input is reported as a BinaryDecoder.ParseException. A reader is not thread-safe.
+ */
+public class DataFileReader<A> implements Iterator<Term<A>>, Closeable {
+  private final InputStream stream;
+  private final BinaryDecoder in;
+  private final Schema schema;
+  private final Map<String, byte[]> metadata;
+  private final DataFileWriter.Codec codec;
+  private final byte[] sync = new byte[DataFileWriter.SYNC_SIZE];
+  private final byte[] blockSync = new byte[DataFileWriter.SYNC_SIZE];
+  private final AvroCoder.Decoder<A> decoder;
+  private final BinaryDecoder block = new BinaryDecoder(new byte[0]);
+  private final Inflater inflater;
+  private byte[] data = new byte[0];
+  private byte[] inflated = new byte[0];
+  private long remaining = 0;
+
+  /**
+   * A reader which reads terms of the schema in the header of the file
+   */
+  public DataFileReader(InputStream stream) {
+    this(stream, null);
+  }
+
+  /**
+   * A reader which reads terms of the given reader's schema, which is resolved against the schema in the header of
+   * the file. Throws an IllegalArgumentException if the schemas are not supported or cannot be resolved.
+   */
+  public DataFileReader(InputStream stream, Schema readerSchema) {
+    this.stream = stream;
+    this.in = new BinaryDecoder(stream);
+
+    byte[] magic = in.readFixed(DataFileWriter.MAGIC.length);
+    if (!Arrays.equals(magic, DataFileWriter.MAGIC)) {
+      throw in.error("not an Avro object container file");
+    }
+    Map<String, byte[]> meta = new LinkedHashMap<>();
+    for (long count = in.readCount(); count != 0; count = in.readCount()) {
+      for (long i = 0; i < count; i++) {
+        meta.put(in.readString(), in.readBytes());
+      }
+    }
+    this.metadata = Collections.unmodifiableMap(meta);
+    in.readFixed(sync, 0, sync.length);
+
+    byte[] schemaJson = meta.get(DataFileWriter.SCHEMA_KEY);
+    if (schemaJson == null) {
+      throw in.error("missing schema in container file header");
+    }
+    try {
+      this.schema = SchemaJson.decodeSchema(JsonReader.parse(schemaJson));
+    } catch (JsonReader.ParseException | IllegalArgumentException e) {
+      throw in.error("invalid schema in container file header: " + e.getMessage());
+    }
+
+    byte[] codecName = meta.get(DataFileWriter.CODEC_KEY);
+    String name = codecName == null ? DataFileWriter.Codec.NULL.name : new String(codecName, StandardCharsets.UTF_8);
+    if (name.equals(DataFileWriter.Codec.NULL.name)) {
+      this.codec = DataFileWriter.Codec.NULL;
+      this.inflater = null;
+    } else if (name.equals(DataFileWriter.Codec.DEFLATE.name)) {
+      this.codec = DataFileWriter.Codec.DEFLATE;
+      this.inflater = new Inflater(true);
+    } else {
+      throw in.error("unsupported codec: " + name);
+    }
+
+    this.decoder = AvroCoder.compileDecoder(schema, readerSchema == null ? schema : readerSchema);
+  }
+
+  /**
+   * The writer's schema, from the header of the file
+   */
+  public Schema schema() {
+    return schema;
+  }
+
+  /**
+   * The metadata in the header of the file
+   */
+  public Map<String, byte[]> metadata() {
+    return metadata;
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (remaining == 0) {
+      if (in.isEnd()) {
+        return false;
+      }
+      readBlock();
+    }
+    return true;
+  }
+
+  /**
+   * Decode the next term in the file
+   */
+  @Override
+  public Term<A> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    Term<A> term = decoder.decode(block);
+    if (--remaining == 0 && !block.isEnd()) {
+      throw block.error("unexpected data at the end of a block");
+    }
+    return term;
+  }
+
+  /**
+   * Close the underlying stream
+   */
+  @Override
+  public void close() throws IOException {
+    if (inflater != null) {
+      inflater.end();
+    }
+    stream.close();
+  }
+
+  private void readBlock() {
+    long count = in.readLong();
+    long size = in.readLong();
+    if (count < 0 || size < 0 || size > Integer.MAX_VALUE - 8) {
+      throw in.error("invalid block header");
+    }
+    // The buffer grows as the block arrives, so that a corrupt size cannot cause a large allocation up front
+    int offset = 0;
+    while (offset < size) {
+      if (offset == data.length) {
+        data = Arrays.copyOf(data, (int) Math.min(size, Math.max(4096, 2L * data.length)));
+      }
+      int n = (int) Math.min(size, data.length) - offset;
+      in.readFixed(data, offset, n);
+      offset += n;
+    }
+    in.readFixed(blockSync, 0, blockSync.length);
+    if (!Arrays.equals(sync, blockSync)) {
+      throw in.error("invalid sync marker");
+    }
+    if (codec == DataFileWriter.Codec.DEFLATE) {
+      int length = inflate((int) size);
+      block.reset(inflated, 0, length);
+    } else {
+      block.reset(data, 0, (int) size);
+    }
+    remaining = count;
+  }
+
+  // Decompress a block into the inflated buffer, returning the length of the decompressed data
+  private int inflate(int size) {
+    inflater.reset();
+    inflater.setInput(data, 0, size);
+    int n = 0;
+    try {
+      while (!inflater.finished()) {
+        if (n == inflated.length) {
+          inflated = Arrays.copyOf(inflated, Math.max(4096, inflated.length * 2));
+        }
+        int k = inflater.inflate(inflated, n, inflated.length - n);
+        if (k == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw in.error("truncated deflate block");
+        }
+        n += k;
+      }
+    } catch (DataFormatException e) {
+      throw in.error("invalid deflate block: " + e.getMessage());
+    }
+    return n;
+  }
+}
@@ -0,0 +1,153 @@
+package hydra.langs.avro;
+
+import hydra.core.Term;
+import hydra.langs.avro.schema.Schema;
+import hydra.langs.json.JsonWriter;
+import hydra.tools.FlowException;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.Deflater;
+
+/**
+ * A writer for Avro object container files. Terms are encoded into a block in memory, and each block is compressed
+ * (if a codec other than "null" is used) and written out once it reaches a certain size, or when the writer is flushed.
+ * I/O errors are rethrown as UncheckedIOExceptions. A writer is not thread-safe.
+ */
+public class DataFileWriter<A> implements Closeable, Flushable {
+  /**
+   * The default size of a block, before compression
+   */
+  public static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+
+  static final byte[] MAGIC = {'O', 'b', 'j', 1};
+  static final int SYNC_SIZE = 16;
+  static final String SCHEMA_KEY = "avro.schema";
+  static final String CODEC_KEY = "avro.codec";
+
+  /**
+   * The compression codecs which are supported
+   */
+  public enum Codec {
+    NULL("null"),
+    DEFLATE("deflate");
+
+    public final String name;
+
+    Codec(String name) {
+      this.name = name;
+    }
+  }
+
+  private final AvroCoder.Encoder<A> encoder;
+  private final BinaryEncoder out;
+  private final Codec codec;
+  private final int blockSize;
+  private final byte[] sync = new byte[SYNC_SIZE];
+  private final BinaryEncoder block = new BinaryEncoder();
+  private final Deflater deflater;
+  private byte[] compressed = new byte[0];
+  private long count = 0;
+
+  /**
+   * A writer with no compression, and blocks of the default size
+   */
+  public DataFileWriter(Schema schema, OutputStream out) {
+    this(schema, out, Codec.NULL, DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * A writer which writes the header of a container file immediately. Throws an IllegalArgumentException if the
+   * schema is not supported.
+   */
+  public DataFileWriter(Schema schema, OutputStream out, Codec codec, int blockSize) {
+    this.encoder = AvroCoder.compileEncoder(schema);
+    this.out = new BinaryEncoder(out);
+    this.codec = codec;
+    this.blockSize = blockSize;
+    this.deflater = codec == Codec.DEFLATE ? new Deflater(Deflater.DEFAULT_COMPRESSION, true) : null;
+    ThreadLocalRandom.current().nextBytes(sync);
+
+    Map<String, byte[]> metadata = new LinkedHashMap<>();
+    metadata.put(SCHEMA_KEY, JsonWriter.toBytes(SchemaJson.encodeSchema(schema)));
+    metadata.put(CODEC_KEY, codec.name.getBytes(StandardCharsets.UTF_8));
+    this.out.writeFixed(MAGIC);
+    this.out.writeCount(metadata.size());
+    for (Map.Entry<String, byte[]> entry : metadata.entrySet()) {
+      this.out.writeString(entry.getKey());
+      this.out.writeBytes(entry.getValue());
+    }
+    this.out.writeCount(0);
+    this.out.writeFixed(sync);
+  }
+
+  /**
+   * Append a term to the file. If the term does not match the schema, a FlowException is thrown, and nothing is
+   * written.
+   */
+  public DataFileWriter<A> append(Term<A> term) {
+    int start = block.buffered();
+    try {
+      encoder.encode(term, block);
+    } catch (FlowException e) {
+      block.truncate(start);
+      throw e;
+    }
+    count++;
+    if (block.buffered() >= blockSize) {
+      writeBlock();
+    }
+    return this;
+  }
+
+  /**
+   * Write out the current block, if it is not empty, and flush the underlying stream
+   */
+  @Override
+  public void flush() {
+    writeBlock();
+    out.flush();
+  }
+
+  /**
+   * Write out the current block and flush all output. The underlying stream is left open.
+   */
+  @Override
+  public void close() {
+    flush();
+    if (deflater != null) {
+      deflater.end();
+    }
+  }
+
+  private void writeBlock() {
+    if (count == 0) {
+      return;
+    }
+    out.writeLong(count);
+    if (codec == Codec.DEFLATE) {
+      deflater.reset();
+      deflater.setInput(block.buffer(), 0, block.buffered());
+      deflater.finish();
+      int n = 0;
+      while (!deflater.finished()) {
+        if (n == compressed.length) {
+          byte[] bigger = new byte[Math.max(1024, compressed.length * 2)];
+          System.arraycopy(compressed, 0, bigger, 0, n);
+          compressed = bigger;
+        }
+        n += deflater.deflate(compressed, n, compressed.length - n);
+      }
+      out.writeBytes(compressed, 0, n);
+    } else {
+      out.writeBytes(block.buffer(), 0, block.buffered());
+    }
+    out.writeFixed(sync);
+    block.reset();
+    count = 0;
+  }
+}
@@ -0,0 +1,540 @@
+package hydra.langs.avro;
+
+import hydra.core.Field;
+import hydra.core.FieldName;
+import hydra.core.FloatValue;
+import hydra.core.Injection;
+import hydra.core.IntegerValue;
+import hydra.core.Literal;
+import hydra.core.Name;
+import hydra.core.Record;
+import hydra.core.Term;
+import hydra.dsl.Terms;
+import hydra.langs.avro.AvroCoder.Decoder;
+import hydra.langs.avro.AvroCoder.SchemaException;
+import hydra.langs.avro.schema.Enum_;
+import hydra.langs.avro.schema.NamedType;
+import hydra.langs.avro.schema.Primitive;
+import hydra.langs.avro.schema.Schema;
+import hydra.langs.json.JsonWriter;
+import hydra.langs.json.model.Value;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Compiles pairs of writer's and reader's schemas to decoders, which read data written with the writer's schema as
+ * terms of the reader's schema. Schemas are resolved as the Avro specification describes: record fields are matched
+ * by name or alias, and may appear in a different order; fields which only the writer has are skipped, and fields
+ * which only the reader has are given their default values; numeric types may be promoted (int to long, float or
+ * double; long to float or double; float to double), and strings and bytes are interchangeable; enum symbols are
+ * matched by name; and a value of a union is resolved against the first matching type in the other schema.
+ * Mismatches which can only arise in certain data, such as a branch of a union which the reader cannot read, are
+ * reported when such data is encountered, rather than when the decoder is compiled.
+ */
+class DecoderCompiler<A> {
+  private final NamedSchemas writerNames;
+  private final NamedSchemas readerNames;
+  // Decoders for pairs of named types, which may be referenced recursively before they are complete
+  private final Map<String, Decoder<A>> named = new HashMap<>();
+  private final Map<String, Skipper> skippers = new HashMap<>();
+
+  DecoderCompiler(NamedSchemas writerNames, NamedSchemas readerNames) {
+    this.writerNames = writerNames;
+    this.readerNames = readerNames;
+  }
+
+  /**
+   * Skips over a value in the input
+   */
+  private interface Skipper {
+    void skip(BinaryDecoder in);
+  }
+
+  Decoder<A> decoder(Schema writer, String writerNs, Schema reader, String readerNs) {
+    if (writer instanceof Schema.Union) {
+      if (reader instanceof Schema.Union) {
+        AvroCoder.unionValueSchema(((Schema.Union) reader).value.value);
+      }
+      // Each branch of the writer's union is resolved separately
+      List<Schema> branches = ((Schema.Union) writer).value.value;
+      List<Decoder<A>> decoders = new ArrayList<>(branches.size());
+      for (Schema branch : branches) {
+        decoders.add(branchDecoder(branch, writerNs, reader, readerNs));
+      }
+      int n = decoders.size();
+      return in -> {
+        int index = in.readInt();
+        if (index < 0 || index >= n) {
+          throw in.error("invalid union index: " + index);
+        }
+        return decoders.get(index).decode(in);
+      };
+    } else if (reader instanceof Schema.Union) {
+      return unionDecoder(writer, writerNs, ((Schema.Union) reader).value.value, readerNs);
+    } else if (writer instanceof Schema.Primitive && reader instanceof Schema.Primitive) {
+      return primitiveDecoder(((Schema.Primitive) writer).value, ((Schema.Primitive) reader).value);
+    } else if (writer instanceof Schema.Array && reader instanceof Schema.Array) {
+      Decoder<A> id = decoder(((Schema.Array) writer).value.items, writerNs,
+          ((Schema.Array) reader).value.items, readerNs);
+      return in -> {
+        List<Term<A>> els = new ArrayList<>();
+        for (long count = in.readCount(); count != 0; count = in.readCount()) {
+          for (long i = 0; i < count; i++) {
+            els.add(id.decode(in));
+          }
+        }
+        return new Term.List<>(els);
+      };
+    } else if (writer instanceof Schema.Map && reader instanceof Schema.Map) {
+      Decoder<A> vd = decoder(((Schema.Map) writer).value.values, writerNs,
+          ((Schema.Map) reader).value.values, readerNs);
+      return in -> {
+        Map<Term<A>, Term<A>> m = new LinkedHashMap<>();
+        for (long count = in.readCount(); count != 0; count = in.readCount()) {
+          for (long i = 0; i < count; i++) {
+            Term<A> key = new Term.Literal<>(new Literal.String_(in.readString()));
+            m.put(key, vd.decode(in));
+          }
+        }
+        return new Term.Map<>(m);
+      };
+    } else if (isNamed(writer) && isNamed(reader)) {
+      return namedDecoder(writerNames.definition(writer, writerNs), readerNames.definition(reader, readerNs));
+    } else {
+      throw cannotResolve(writer, reader);
+    }
+  }
+
+  // A decoder for one branch of a writer's union, which fails when it is used if the branch cannot be resolved
+  private Decoder<A> branchDecoder(Schema writer, String writerNs, Schema reader, String readerNs) {
+    try {
+      return decoder(writer, writerNs, reader, readerNs);
+    } catch (SchemaException e) {
+      String message = e.getMessage();
+      return in -> {
+        throw in.error(message);
+      };
+    }
+  }
+
+  private Decoder<A> unionDecoder(Schema writer, String writerNs, List<Schema> branches, String readerNs) {
+    Schema valueSchema = AvroCoder.unionValueSchema(branches);
+    if (branches.size() == 1) {
+      return decoder(writer, writerNs, valueSchema, readerNs);
+    }
+    if (AvroCoder.isNull(writer)) {
+      Term<A> nothing = new Term.Optional<>(Optional.empty());
+      return in -> nothing;
+    }
+    Decoder<A> vd = decoder(writer, writerNs, valueSchema, readerNs);
+    return in -> new Term.Optional<>(Optional.of(vd.decode(in)));
+  }
+
+  private Decoder<A> primitiveDecoder(Primitive writer, Primitive reader) {
+    if (reader instanceof Primitive.Null && writer instanceof Primitive.Null) {
+      Term<A> unit = Terms.unit();
+      return in -> unit;
+    } else if (reader instanceof Primitive.Boolean_ && writer instanceof Primitive.Boolean_) {
+      Term<A> trueTerm = new Term.Literal<>(new Literal.Boolean_(true));
+      Term<A> falseTerm = new Term.Literal<>(new Literal.Boolean_(false));
+      return in -> in.readBoolean() ? trueTerm : falseTerm;
+    } else if (reader instanceof Primitive.Int && writer instanceof Primitive.Int) {
+      return in -> new Term.Literal<>(new Literal.Integer_(new IntegerValue.Int32(in.readInt())));
+    } else if (reader instanceof Primitive.Long_) {
+      if (writer instanceof Primitive.Long_) {
+        return in -> new Term.Literal<>(new Literal.Integer_(new IntegerValue.Int64(in.readLong())));
+      } else if (writer instanceof Primitive.Int) {
+        return in -> new Term.Literal<>(new Literal.Integer_(new IntegerValue.Int64((long) in.readInt())));
+      }
+    } else if (reader instanceof Primitive.Float_) {
+      if (writer instanceof Primitive.Float_) {
+        return in -> new Term.Literal<>(new Literal.Float_(new FloatValue.Float32(in.readFloat())));
+      } else if (writer instanceof Primitive.Int) {
+        return in -> new Term.Literal<>(new Literal.Float_(new FloatValue.Float32((float) in.readInt())));
+      } else if (writer instanceof Primitive.Long_) {
+        return in -> new Term.Literal<>(new Literal.Float_(new FloatValue.Float32((float) in.readLong())));
+      }
+    } else if (reader instanceof Primitive.Double_) {
+      if (writer instanceof Primitive.Double_) {
+        return in -> new Term.Literal<>(new Literal.Float_(new FloatValue.Float64(in.readDouble())));
+      } else if (writer instanceof Primitive.Float_) {
+        return in -> new Term.Literal<>(new Literal.Float_(new FloatValue.Float64((double) in.readFloat())));
+      } else if (writer instanceof Primitive.Int) {
+        return in -> new Term.Literal<>(new Literal.Float_(new FloatValue.Float64((double) in.readInt())));
+      } else if (writer instanceof Primitive.Long_) {
+        return in -> new Term.Literal<>(new Literal.Float_(new FloatValue.Float64((double) in.readLong())));
+      }
+    } else if (reader instanceof Primitive.Bytes) {
+      // A string is read as the bytes of its UTF-8 encoding
+      if (writer instanceof Primitive.Bytes || writer instanceof Primitive.String_) {
+        return in -> new Term.Literal<>(new Literal.Binary(in.readLatin1String()));
+      }
+    } else if (reader instanceof Primitive.String_) {
+      if (writer instanceof Primitive.String_ || writer instanceof Primitive.Bytes) {
+        return in -> new Term.Literal<>(new Literal.String_(in.readString()));
+      }
+    }
+    throw cannotResolve(new Schema.Primitive(writer), new Schema.Primitive(reader));
+  }
+
+  private Decoder<A> namedDecoder(NamedSchemas.Definition writer, NamedSchemas.Definition reader) {
+    String key = writer.fullName + " -> " + reader.fullName;
+    Decoder<A> existing = named.get(key);
+    if (existing != null) {
+      return existing;
+    }
+    NamedType wt = writer.named.type;
+    NamedType rt = reader.named.type;
+    if (wt.getClass() != rt.getClass() || !reader.matches(writer)) {
+      throw new SchemaException("cannot resolve Avro type " + writer.fullName + " as " + reader.fullName);
+    }
+    // Register a forwarding decoder before compiling the named type, in case the type refers to itself
+    List<Decoder<A>> cell = new ArrayList<>(1);
+    Decoder<A> ref = in -> cell.get(0).decode(in);
+    named.put(key, ref);
+    Decoder<A> decoder;
+    if (rt instanceof NamedType.Record) {
+      decoder = recordDecoder(writer, ((NamedType.Record) wt).value.fields,
+          reader, ((NamedType.Record) rt).value.fields);
+    } else if (rt instanceof NamedType.Enum_) {
+      decoder = enumDecoder(reader.hydraName(), ((NamedType.Enum_) wt).value, ((NamedType.Enum_) rt).value);
+    } else {
+      int size = ((NamedType.Fixed) rt).value.size;
+      if (((NamedType.Fixed) wt).value.size != size) {
+        throw new SchemaException("fixed types " + writer.fullName + " and " + reader.fullName
+            + " differ in size");
+      }
+      decoder = in -> new Term.Literal<>(new Literal.Binary(in.readFixedLatin1(size)));
+    }
+    cell.add(decoder);
+    return decoder;
+  }
+
+  private Decoder<A> recordDecoder(NamedSchemas.Definition writer, List<hydra.langs.avro.schema.Field> writerFields,
+                                   NamedSchemas.Definition reader, List<hydra.langs.avro.schema.Field> readerFields) {
+    Name typeName = reader.hydraName();
+    int n = readerFields.size();
+    FieldName[] fieldNames = new FieldName[n];
+    boolean[] written = new boolean[n];
+    for (int i = 0; i < n; i++) {
+      fieldNames[i] = new FieldName(readerFields.get(i).name);
+    }
+
+    // For each of the writer's fields, either the position of the matching reader's field, or -1 if it is skipped
+    int m = writerFields.size();
+    int[] slots = new int[m];
+    List<Decoder<A>> decoders = new ArrayList<>(m);
+    List<Skipper> skips = new ArrayList<>(m);
+    for (int j = 0; j < m; j++) {
+      hydra.langs.avro.schema.Field wf = writerFields.get(j);
+      int slot = findField(readerFields, wf.name);
+      slots[j] = slot;
+      if (slot < 0) {
+        decoders.add(null);
+        skips.add(skipper(wf.type, writer.namespace));
+      } else {
+        if (written[slot]) {
+          throw new SchemaException("more than one field of " + writer.fullName + " matches field "
+              + fieldNames[slot].value + " of " + reader.fullName);
+        }
+        written[slot] = true;
+        decoders.add(decoder(wf.type, writer.namespace, readerFields.get(slot).type, reader.namespace));
+        skips.add(null);
+      }
+    }
+
+    // The reader's fields which the writer does not have are given their default values
+    List<Integer> defaultSlots = new ArrayList<>();
+    List<Field<A>> defaults = new ArrayList<>();
+    for (int i = 0; i < n; i++) {
+      if (!written[i]) {
+        hydra.langs.avro.schema.Field rf = readerFields.get(i);
+        if (!rf.default_.isPresent()) {
+          throw new SchemaException("field " + rf.name + " of " + reader.fullName
+              + " has no default value, and is missing from " + writer.fullName);
+        }
+        defaultSlots.add(i);
+        defaults.add(new Field<>(fieldNames[i], defaultTerm(rf.default_.get(), rf.type, reader.namespace)));
+      }
+    }
+    int d = defaults.size();
+    int[] defaultIndexes = defaultSlots.stream().mapToInt(Integer::intValue).toArray();
+
+    return in -> {
+      Field<A>[] fields = newFields(n);
+      for (int j = 0; j < m; j++) {
+        int slot = slots[j];
+        if (slot < 0) {
+          skips.get(j).skip(in);
+        } else {
+          fields[slot] = new Field<>(fieldNames[slot], decoders.get(j).decode(in));
+        }
+      }
+      for (int k = 0; k < d; k++) {
+        fields[defaultIndexes[k]] = defaults.get(k);
+      }
+      return new Term.Record<>(new Record<>(typeName, Arrays.asList(fields)));
+    };
+  }
+
+  private Decoder<A> enumDecoder(Name typeName, Enum_ writer, Enum_ reader) {
+    Map<String, Term<A>> terms = new HashMap<>();
+    for (String symbol : reader.symbols) {
+      terms.put(symbol, enumTerm(typeName, symbol));
+    }
+    // Symbols which the reader does not have are read as its default symbol, or else are an error
+    int n = writer.symbols.size();
+    List<Term<A>> bySymbol = new ArrayList<>(n);
+    for (String symbol : writer.symbols) {
+      Term<A> term = terms.get(symbol);
+      if (term == null && reader.default_.isPresent()) {
+        term = terms.get(reader.default_.get());
+      }
+      bySymbol.add(term);
+    }
+    return in -> {
+      int index = in.readInt();
+      if (index < 0 || index >= n) {
+        throw in.error("invalid enum index: " + index);
+      }
+      Term<A> term = bySymbol.get(index);
+      if (term == null) {
+        throw in.error("no such symbol in " + typeName.value + ": " + writer.symbols.get(index));
+      }
+      return term;
+    };
+  }
+
+  private Skipper skipper(Schema schema, String namespace) {
+    if (schema instanceof Schema.Primitive) {
+      Primitive prim = ((Schema.Primitive) schema).value;
+      if (prim instanceof Primitive.Null) {
+        return in -> {
+        };
+      } else if (prim instanceof Primitive.Boolean_) {
+        return in -> in.skip(1);
+      } else if (prim instanceof Primitive.Int) {
+        return BinaryDecoder::readInt;
+      } else if (prim instanceof Primitive.Long_) {
+        return BinaryDecoder::readLong;
+      } else if (prim instanceof Primitive.Float_) {
+        return in -> in.skip(4);
+      } else if (prim instanceof Primitive.Double_) {
+        return in -> in.skip(8);
+      } else {
+        return BinaryDecoder::skipBytes;
+      }
+    } else if (schema instanceof Schema.Array) {
+      Skipper is = skipper(((Schema.Array) schema).value.items, namespace);
+      return in -> in.skipBlocks(() -> is.skip(in));
+    } else if (schema instanceof Schema.Map) {
+      Skipper vs = skipper(((Schema.Map) schema).value.values, namespace);
+      return in -> in.skipBlocks(() -> {
+        in.skipString();
+        vs.skip(in);
+      });
+    } else if (schema instanceof Schema.Union) {
+      List<Skipper> branches = new ArrayList<>();
+      for (Schema s : ((Schema.Union) schema).value.value) {
+        branches.add(skipper(s, namespace));
+      }
+      int n = branches.size();
+      return in -> {
+        int index = in.readInt();
+        if (index < 0 || index >= n) {
+          throw in.error("invalid union index: " + index);
+        }
+        branches.get(index).skip(in);
+      };
+    } else {
+      NamedSchemas.Definition def = writerNames.definition(schema, namespace);
+      Skipper existing = skippers.get(def.fullName);
+      if (existing != null) {
+        return existing;
+      }
+      List<Skipper> cell = new ArrayList<>(1);
+      Skipper ref = in -> cell.get(0).skip(in);
+      skippers.put(def.fullName, ref);
+      NamedType type = def.named.type;
+      Skipper skipper;
+      if (type instanceof NamedType.Record) {
+        List<Skipper> fields = new ArrayList<>();
+        for (hydra.langs.avro.schema.Field f : ((NamedType.Record) type).value.fields) {
+          fields.add(skipper(f.type, def.namespace));
+        }
+        skipper = in -> {
+          for (Skipper s : fields) {
+            s.skip(in);
+          }
+        };
+      } else if (type instanceof NamedType.Enum_) {
+        skipper = BinaryDecoder::readInt;
+      } else {
+        int size = ((NamedType.Fixed) type).value.size;
+        skipper = in -> in.skip(size);
+      }
+      cell.add(skipper);
+      return skipper;
+    }
+  }
+
+  /**
+   * The term for the default value of a field, which is given in JSON. As in the Avro specification, the default value
+   * of a union is a value of its first type, and bytes and fixed values are strings of the characters U+0000 to U+00FF.
+   */
+  private Term<A> defaultTerm(Value json, Schema schema, String namespace) {
+    if (schema instanceof Schema.Union) {
+      List<Schema> branches = ((Schema.Union) schema).value.value;
+      Schema valueSchema = AvroCoder.unionValueSchema(branches);
+      if (branches.size() == 1) {
+        return defaultTerm(json, valueSchema, namespace);
+      }
+      return AvroCoder.isNull(branches.get(0))
+          ? expectDefault(json instanceof Value.Null, json, new Term.Optional<>(Optional.empty()))
+          : new Term.Optional<>(Optional.of(defaultTerm(json, valueSchema, namespace)));
+    } else if (schema instanceof Schema.Primitive) {
+      Primitive prim = ((Schema.Primitive) schema).value;
+      if (prim instanceof Primitive.Null) {
+        return expectDefault(json instanceof Value.Null, json, Terms.unit());
+      } else if (prim instanceof Primitive.Boolean_) {
+        return expectDefault(json instanceof Value.Boolean_, json,
+            () -> Terms.boolean_(((Value.Boolean_) json).value));
+      } else if (prim instanceof Primitive.Int) {
+        return expectDefault(isIntegral(json, Integer.MIN_VALUE, Integer.MAX_VALUE), json,
+            () -> Terms.int32(((Value.Number_) json).value.intValue()));
+      } else if (prim instanceof Primitive.Long_) {
+        return expectDefault(isIntegral(json, Long.MIN_VALUE, Long.MAX_VALUE), json,
+            () -> Terms.int64(((Value.Number_) json).value.longValue()));
+      } else if (prim instanceof Primitive.Float_) {
+        return expectDefault(json instanceof Value.Number_, json,
+            () -> Terms.float32(((Value.Number_) json).value.floatValue()));
+      } else if (prim instanceof Primitive.Double_) {
+        return expectDefault(json instanceof Value.Number_, json,
+            () -> Terms.float64(((Value.Number_) json).value));
+      } else if (prim instanceof Primitive.Bytes) {
+        return expectDefault(isLatin1(json), json, () -> Terms.binary(((Value.String_) json).value));
+      } else {
+        return expectDefault(json instanceof Value.String_, json, () -> Terms.string(((Value.String_) json).value));
+      }
+    } else if (schema instanceof Schema.Array) {
+      if (!(json instanceof Value.Array)) {
+        throw invalidDefault(json);
+      }
+      List<Term<A>> els = new ArrayList<>();
+      for (Value v : ((Value.Array) json).value) {
+        els.add(defaultTerm(v, ((Schema.Array) schema).value.items, namespace));
+      }
+      return new Term.List<>(els);
+    } else if (schema instanceof Schema.Map) {
+      if (!(json instanceof Value.Object_)) {
+        throw invalidDefault(json);
+      }
+      Map<Term<A>, Term<A>> m = new LinkedHashMap<>();
+      for (Map.Entry<String, Value> entry : ((Value.Object_) json).value.entrySet()) {
+        m.put(Terms.string(entry.getKey()),
+            defaultTerm(entry.getValue(), ((Schema.Map) schema).value.values, namespace));
+      }
+      return new Term.Map<>(m);
+    } else {
+      NamedSchemas.Definition def = readerNames.definition(schema, namespace);
+      NamedType type = def.named.type;
+      if (type instanceof NamedType.Enum_) {
+        List<String> symbols = ((NamedType.Enum_) type).value.symbols;
+        return expectDefault(json instanceof Value.String_ && symbols.contains(((Value.String_) json).value), json,
+            () -> enumTerm(def.hydraName(), ((Value.String_) json).value));
+      } else if (type instanceof NamedType.Fixed) {
+        int size = ((NamedType.Fixed) type).value.size;
+        return expectDefault(isLatin1(json) && ((Value.String_) json).value.length() == size, json,
+            () -> Terms.binary(((Value.String_) json).value));
+      }
+      if (!(json instanceof Value.Object_)) {
+        throw invalidDefault(json);
+      }
+      Map<String, Value> m = ((Value.Object_) json).value;
+      List<Field<A>> fields = new ArrayList<>();
+      for (hydra.langs.avro.schema.Field f : ((NamedType.Record) type).value.fields) {
+        Value v = m.containsKey(f.name) ? m.get(f.name) : f.default_.orElseThrow(() -> invalidDefault(json));
+        fields.add(new Field<>(new FieldName(f.name), defaultTerm(v, f.type, def.namespace)));
+      }
+      return new Term.Record<>(new Record<>(def.hydraName(), fields));
+    }
+  }
+
+  private Term<A> enumTerm(Name typeName, String symbol) {
+    return new Term.Union<>(new Injection<>(typeName, new Field<>(new FieldName(symbol), Terms.unit())));
+  }
+
+  private Term<A> expectDefault(boolean valid, Value json, Term<A> term) {
+    if (!valid) {
+      throw invalidDefault(json);
+    }
+    return term;
+  }
+
+  private Term<A> expectDefault(boolean valid, Value json, Supplier<Term<A>> term) {
+    if (!valid) {
+      throw invalidDefault(json);
+    }
+    return term.get();
+  }
+
+  private static boolean isIntegral(Value json, long min, long max) {
+    if (!(json instanceof Value.Number_)) {
+      return false;
+    }
+    double d = ((Value.Number_) json).value;
+    return d == Math.rint(d) && d >= min && d <= max;
+  }
+
+  private static boolean isLatin1(Value json) {
+    if (!(json instanceof Value.String_)) {
+      return false;
+    }
+    String s = ((Value.String_) json).value;
+    for (int i = 0; i < s.length(); i++) {
+      if (s.charAt(i) > 0xff) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static SchemaException invalidDefault(Value json) {
+    return new SchemaException("invalid default value: " + JsonWriter.toString(json));
+  }
+
+  private static SchemaException cannotResolve(Schema writer, Schema reader) {
+    return new SchemaException("cannot resolve writer's schema " + JsonWriter.toString(SchemaJson.encodeSchema(writer))
+        + " against reader's schema " + JsonWriter.toString(SchemaJson.encodeSchema(reader)));
+  }
+
+  private static boolean isNamed(Schema schema) {
+    return schema instanceof Schema.Named || schema instanceof Schema.Reference;
+  }
+
+  private static int findField(List<hydra.langs.avro.schema.Field> readerFields, String name) {
+    for (int i = 0; i < readerFields.size(); i++) {
+      if (readerFields.get(i).name.equals(name)) {
+        return i;
+      }
+    }
+    for (int i = 0; i < readerFields.size(); i++) {
+      Optional<List<String>> aliases = readerFields.get(i).aliases;
+      if (aliases.isPresent() && aliases.get().contains(name)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <A> Field<A>[] newFields(int n) {
+    return (Field<A>[]) new Field<?>[n];
+  }
+}
@@ -0,0 +1,120 @@
+package hydra.langs.avro;
+
+import hydra.core.Name;
+import hydra.langs.avro.schema.Field;
+import hydra.langs.avro.schema.Named;
+import hydra.langs.avro.schema.NamedType;
+import hydra.langs.avro.schema.Schema;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The named types (records, enums and fixed types) defined in an Avro schema, by full name. A name is qualified by
+ * the namespace of the innermost enclosing named type unless it contains a dot or has a namespace of its own, as in
+ * the Avro specification. References may appear before or after the types they refer to.
+ */
+class NamedSchemas {
+  private final Map<String, Definition> definitions = new HashMap<>();
+
+  NamedSchemas(Schema schema) {
+    collect(schema, null);
+  }
+
+  /**
+   * A named type, together with its full name and namespace
+   */
+  static class Definition {
+    final Named named;
+    final String fullName;
+    final String namespace;
+
+    Definition(Named named, String fullName, String namespace) {
+      this.named = named;
+      this.fullName = fullName;
+      this.namespace = namespace;
+    }
+
+    /**
+     * The Hydra name of the type, following Hydra.Langs.Avro.Coder
+     */
+    Name hydraName() {
+      return new Name(fullName);
+    }
+
+    /**
+     * Whether a named type in another schema has the same unqualified name as this one, or is an alias of it
+     */
+    boolean matches(Definition other) {
+      return shortName(fullName).equals(shortName(other.fullName))
+          || isAlias(named.aliases, other.fullName, namespace)
+          || isAlias(other.named.aliases, fullName, other.namespace);
+    }
+  }
+
+  /**
+   * The definition of a named type, given a named schema or a reference which occurs in the given namespace
+   */
+  Definition definition(Schema schema, String namespace) {
+    if (schema instanceof Schema.Named) {
+      Named named = ((Schema.Named) schema).value;
+      return definitions.get(fullName(named.name, named.namespace.orElse(namespace)));
+    }
+    String name = ((Schema.Reference) schema).value;
+    Definition def = definitions.get(fullName(name, namespace));
+    if (def == null) {
+      // A type in the null namespace
+      def = definitions.get(name);
+    }
+    if (def == null) {
+      throw new AvroCoder.SchemaException("Referenced Avro type has not been defined: " + name);
+    }
+    return def;
+  }
+
+  private void collect(Schema schema, String namespace) {
+    if (schema instanceof Schema.Array) {
+      collect(((Schema.Array) schema).value.items, namespace);
+    } else if (schema instanceof Schema.Map) {
+      collect(((Schema.Map) schema).value.values, namespace);
+    } else if (schema instanceof Schema.Union) {
+      for (Schema s : ((Schema.Union) schema).value.value) {
+        collect(s, namespace);
+      }
+    } else if (schema instanceof Schema.Named) {
+      Named named = ((Schema.Named) schema).value;
+      String fullName = fullName(named.name, named.namespace.orElse(namespace));
+      int dot = fullName.lastIndexOf('.');
+      String ns = dot < 0 ? null : fullName.substring(0, dot);
+      if (definitions.containsKey(fullName)) {
+        throw new AvroCoder.SchemaException("Avro named type defined more than once: " + fullName);
+      }
+      definitions.put(fullName, new Definition(named, fullName, ns));
+      if (named.type instanceof NamedType.Record) {
+        for (Field f : ((NamedType.Record) named.type).value.fields) {
+          collect(f.type, ns);
+        }
+      }
+    }
+  }
+
+  private static String fullName(String name, String namespace) {
+    return name.indexOf('.') >= 0 || namespace == null || namespace.isEmpty() ? name : namespace + "." + name;
+  }
+
+  private static String shortName(String fullName) {
+    return fullName.substring(fullName.lastIndexOf('.') + 1);
+  }
+
+  private static boolean isAlias(Optional<List<String>> aliases, String fullName, String namespace) {
+    if (aliases.isPresent()) {
+      for (String alias : aliases.get()) {
+        if (fullName(alias, namespace).equals(fullName) || alias.equals(shortName(fullName))) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,415 @@
+package hydra.langs.avro;
+
+import hydra.compute.Coder;
+import hydra.compute.Flow;
+import hydra.langs.avro.schema.Array;
+import hydra.langs.avro.schema.Enum_;
+import hydra.langs.avro.schema.Field;
+import hydra.langs.avro.schema.Fixed;
+import hydra.langs.avro.schema.Named;
+import hydra.langs.avro.schema.NamedType;
+import hydra.langs.avro.schema.Order;
+import hydra.langs.avro.schema.Primitive;
+import hydra.langs.avro.schema.Record;
+import hydra.langs.avro.schema.Schema;
+import hydra.langs.avro.schema.Union;
+import hydra.langs.json.JsonReader;
+import hydra.langs.json.JsonWriter;
+import hydra.langs.json.model.Value;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static hydra.Flows.fail;
+import static hydra.Flows.pure;
+
+/**
+ * Conversion between Avro schemas and their JSON representation, following Hydra.Langs.Avro.SchemaJson.
+ * Properties whose names begin with "@" are read as annotations, without the "@", and are written back with it;
+ * other unrecognized properties, such as logical types, are ignored.
+ */
+public class SchemaJson {
+  private static final String AVRO_ALIASES = "aliases";
+  private static final String AVRO_ARRAY = "array";
+  private static final String AVRO_ASCENDING = "ascending";
+  private static final String AVRO_BOOLEAN = "boolean";
+  private static final String AVRO_BYTES = "bytes";
+  private static final String AVRO_DEFAULT = "default";
+  private static final String AVRO_DESCENDING = "descending";
+  private static final String AVRO_DOC = "doc";
+  private static final String AVRO_DOUBLE = "double";
+  private static final String AVRO_ENUM = "enum";
+  private static final String AVRO_FIELDS = "fields";
+  private static final String AVRO_FIXED = "fixed";
+  private static final String AVRO_FLOAT = "float";
+  private static final String AVRO_IGNORE = "ignore";
+  private static final String AVRO_INT = "int";
+  private static final String AVRO_ITEMS = "items";
+  private static final String AVRO_LONG = "long";
+  private static final String AVRO_MAP = "map";
+  private static final String AVRO_NAME = "name";
+  private static final String AVRO_NAMESPACE = "namespace";
+  private static final String AVRO_NULL = "null";
+  private static final String AVRO_ORDER = "order";
+  private static final String AVRO_RECORD = "record";
+  private static final String AVRO_SIZE = "size";
+  private static final String AVRO_STRING = "string";
+  private static final String AVRO_SYMBOLS = "symbols";
+  private static final String AVRO_TYPE = "type";
+  private static final String AVRO_VALUES = "values";
+
+  private SchemaJson() {
+  }
+
+  /**
+   * A coder between Avro schemas and JSON values
+   */
+  public static <S> Coder<S, S, Schema, Value> avroSchemaJsonCoder() {
+    return new Coder<>(schema -> pure(encodeSchema(schema)), SchemaJson::decodeFlow);
+  }
+
+  /**
+   * A coder between Avro schemas and JSON strings
+   */
+  public static <S> Coder<S, S, Schema, String> avroSchemaStringCoder() {
+    return new Coder<>(
+        schema -> pure(JsonWriter.toString(encodeSchema(schema))),
+        s -> {
+          Value json;
+          try {
+            json = JsonReader.parse(s);
+          } catch (JsonReader.ParseException e) {
+            return fail("failed to parse JSON: " + e.getMessage());
+          }
+          return decodeFlow(json);
+        });
+  }
+
+  /**
+   * Decode a schema from its JSON representation, throwing an IllegalArgumentException if it is not a valid schema
+   */
+  public static Schema decodeSchema(Value value) {
+    if (value instanceof Value.Array) {
+      List<Schema> schemas = new ArrayList<>();
+      for (Value v : ((Value.Array) value).value) {
+        schemas.add(decodeSchema(v));
+      }
+      return new Schema.Union(new Union(schemas));
+    } else if (value instanceof Value.Object_) {
+      Map<String, Value> m = ((Value.Object_) value).value;
+      String type = requireString(AVRO_TYPE, m);
+      switch (type) {
+        case AVRO_ARRAY:
+          return new Schema.Array(new Array(decodeSchema(require(AVRO_ITEMS, m))));
+        case AVRO_MAP:
+          return new Schema.Map(new hydra.langs.avro.schema.Map(decodeSchema(require(AVRO_VALUES, m))));
+        case AVRO_ENUM:
+        case AVRO_FIXED:
+        case AVRO_RECORD:
+          return decodeNamedSchema(m, type);
+        default:
+          // A primitive type with additional properties, such as a logical type
+          Primitive prim = primitive(type);
+          if (prim == null) {
+            throw unexpected("\"array\", \"map\" or a named type", type);
+          }
+          return new Schema.Primitive(prim);
+      }
+    } else if (value instanceof Value.String_) {
+      String s = ((Value.String_) value).value;
+      Primitive prim = primitive(s);
+      return prim == null ? new Schema.Reference(s) : new Schema.Primitive(prim);
+    } else if (value instanceof Value.Null) {
+      return new Schema.Primitive(new Primitive.Null());
+    } else {
+      throw unexpected("JSON array, object, or string", value);
+    }
+  }
+
+  /**
+   * Encode a schema as its JSON representation
+   */
+  public static Value encodeSchema(Schema schema) {
+    if (schema instanceof Schema.Primitive) {
+      return new Value.String_(primitiveName(((Schema.Primitive) schema).value));
+    } else if (schema instanceof Schema.Reference) {
+      return new Value.String_(((Schema.Reference) schema).value);
+    } else if (schema instanceof Schema.Array) {
+      Map<String, Value> m = new LinkedHashMap<>();
+      m.put(AVRO_TYPE, new Value.String_(AVRO_ARRAY));
+      m.put(AVRO_ITEMS, encodeSchema(((Schema.Array) schema).value.items));
+      return new Value.Object_(m);
+    } else if (schema instanceof Schema.Map) {
+      Map<String, Value> m = new LinkedHashMap<>();
+      m.put(AVRO_TYPE, new Value.String_(AVRO_MAP));
+      m.put(AVRO_VALUES, encodeSchema(((Schema.Map) schema).value.values));
+      return new Value.Object_(m);
+    } else if (schema instanceof Schema.Union) {
+      List<Value> schemas = new ArrayList<>();
+      for (Schema s : ((Schema.Union) schema).value.value) {
+        schemas.add(encodeSchema(s));
+      }
+      return new Value.Array(schemas);
+    } else {
+      return encodeNamed(((Schema.Named) schema).value);
+    }
+  }
+
+  private static <S> Flow<S, Schema> decodeFlow(Value json) {
+    try {
+      return pure(decodeSchema(json));
+    } catch (IllegalArgumentException e) {
+      return fail(e.getMessage());
+    }
+  }
+
+  private static Optional<List<String>> decodeAliases(Map<String, Value> m) {
+    Value v = m.get(AVRO_ALIASES);
+    return v == null ? Optional.empty() : Optional.of(decodeStrings(AVRO_ALIASES, v));
+  }
+
+  private static NamedType decodeEnum(Map<String, Value> m) {
+    List<String> symbols = decodeStrings(AVRO_SYMBOLS, require(AVRO_SYMBOLS, m));
+    return new NamedType.Enum_(new Enum_(symbols, optString(AVRO_DEFAULT, m)));
+  }
+
+  private static Field decodeField(Value value) {
+    Map<String, Value> m = expectObject(value);
+    String name = requireString(AVRO_NAME, m);
+    Optional<String> doc = optString(AVRO_DOC, m);
+    Schema type = decodeSchema(require(AVRO_TYPE, m));
+    Optional<Value> dflt = Optional.ofNullable(m.get(AVRO_DEFAULT));
+    Optional<String> orderName = optString(AVRO_ORDER, m);
+    Optional<Order> order = orderName.isPresent() ? Optional.of(decodeOrder(orderName.get())) : Optional.empty();
+    return new Field(name, doc, type, dflt, order, decodeAliases(m), getAnnotations(m));
+  }
+
+  private static NamedType decodeFixed(Map<String, Value> m) {
+    Value size = require(AVRO_SIZE, m);
+    if (!(size instanceof Value.Number_)) {
+      throw unexpected("number", size);
+    }
+    double d = ((Value.Number_) size).value;
+    return new NamedType.Fixed(new Fixed((int) d));
+  }
+
+  private static Schema decodeNamedSchema(Map<String, Value> m, String type) {
+    String name = requireString(AVRO_NAME, m);
+    Optional<String> ns = optString(AVRO_NAMESPACE, m);
+    NamedType nt;
+    switch (type) {
+      case AVRO_ENUM:
+        nt = decodeEnum(m);
+        break;
+      case AVRO_FIXED:
+        nt = decodeFixed(m);
+        break;
+      default:
+        nt = decodeRecord(m);
+    }
+    return new Schema.Named(new Named(name, ns, decodeAliases(m), optString(AVRO_DOC, m), nt, getAnnotations(m)));
+  }
+
+  private static Order decodeOrder(String o) {
+    switch (o) {
+      case AVRO_ASCENDING:
+        return new Order.Ascending();
+      case AVRO_DESCENDING:
+        return new Order.Descending();
+      case AVRO_IGNORE:
+        return new Order.Ignore();
+      default:
+        throw unexpected("ordering", o);
+    }
+  }
+
+  private static NamedType decodeRecord(Map<String, Value> m) {
+    Value fieldsJson = require(AVRO_FIELDS, m);
+    if (!(fieldsJson instanceof Value.Array)) {
+      throw unexpected("JSON array", fieldsJson);
+    }
+    List<Field> fields = new ArrayList<>();
+    for (Value f : ((Value.Array) fieldsJson).value) {
+      fields.add(decodeField(f));
+    }
+    return new NamedType.Record(new Record(fields));
+  }
+
+  private static Value encodeNamed(Named named) {
+    Map<String, Value> m = new LinkedHashMap<>();
+    NamedType nt = named.type;
+    String type = nt instanceof NamedType.Record ? AVRO_RECORD : nt instanceof NamedType.Enum_ ? AVRO_ENUM : AVRO_FIXED;
+    m.put(AVRO_TYPE, new Value.String_(type));
+    m.put(AVRO_NAME, new Value.String_(named.name));
+    named.namespace.ifPresent(ns -> m.put(AVRO_NAMESPACE, new Value.String_(ns)));
+    named.aliases.ifPresent(aliases -> m.put(AVRO_ALIASES, encodeStrings(aliases)));
+    named.doc.ifPresent(doc -> m.put(AVRO_DOC, new Value.String_(doc)));
+    if (nt instanceof NamedType.Record) {
+      List<Value> fields = new ArrayList<>();
+      for (Field f : ((NamedType.Record) nt).value.fields) {
+        fields.add(encodeField(f));
+      }
+      m.put(AVRO_FIELDS, new Value.Array(fields));
+    } else if (nt instanceof NamedType.Enum_) {
+      Enum_ e = ((NamedType.Enum_) nt).value;
+      m.put(AVRO_SYMBOLS, encodeStrings(e.symbols));
+      e.default_.ifPresent(d -> m.put(AVRO_DEFAULT, new Value.String_(d)));
+    } else {
+      m.put(AVRO_SIZE, new Value.Number_((double) ((NamedType.Fixed) nt).value.size));
+    }
+    putAnnotations(named.annotations, m);
+    return new Value.Object_(m);
+  }
+
+  private static Value encodeField(Field f) {
+    Map<String, Value> m = new LinkedHashMap<>();
+    m.put(AVRO_NAME, new Value.String_(f.name));
+    f.doc.ifPresent(doc -> m.put(AVRO_DOC, new Value.String_(doc)));
+    m.put(AVRO_TYPE, encodeSchema(f.type));
+    f.default_.ifPresent(d -> m.put(AVRO_DEFAULT, d));
+    f.order.ifPresent(o -> m.put(AVRO_ORDER, new Value.String_(o instanceof Order.Ascending ? AVRO_ASCENDING
+        : o instanceof Order.Descending ? AVRO_DESCENDING : AVRO_IGNORE)));
+    f.aliases.ifPresent(aliases -> m.put(AVRO_ALIASES, encodeStrings(aliases)));
+    putAnnotations(f.annotations, m);
+    return new Value.Object_(m);
+  }
+
+  private static Map<String, Value> getAnnotations(Map<String, Value> m) {
+    Map<String, Value> anns = new LinkedHashMap<>();
+    for (Map.Entry<String, Value> e : m.entrySet()) {
+      if (e.getKey().startsWith("@")) {
+        anns.put(e.getKey().substring(1), e.getValue());
+      }
+    }
+    return anns.isEmpty() ? Collections.emptyMap() : anns;
+  }
+
+  private static void putAnnotations(Map<String, Value> anns, Map<String, Value> m) {
+    for (Map.Entry<String, Value> e : anns.entrySet()) {
+      m.put("@" + e.getKey(), e.getValue());
+    }
+  }
+
+  private static Primitive primitive(String name) {
+    switch (name) {
+      case AVRO_BOOLEAN:
+        return new Primitive.Boolean_();
+      case AVRO_BYTES:
+        return new Primitive.Bytes();
+      case AVRO_DOUBLE:
+        return new Primitive.Double_();
+      case AVRO_FLOAT:
+        return new Primitive.Float_();
+      case AVRO_INT:
+        return new Primitive.Int();
+      case AVRO_LONG:
+        return new Primitive.Long_();
+      case AVRO_NULL:
+        return new Primitive.Null();
+      case AVRO_STRING:
+        return new Primitive.String_();
+      default:
+        return null;
+    }
+  }
+
+  static String primitiveName(Primitive prim) {
+    return prim.accept(new Primitive.Visitor<String>() {
+      @Override
+      public String visit(Primitive.Null instance) {
+        return AVRO_NULL;
+      }
+
+      @Override
+      public String visit(Primitive.Boolean_ instance) {
+        return AVRO_BOOLEAN;
+      }
+
+      @Override
+      public String visit(Primitive.Int instance) {
+        return AVRO_INT;
+      }
+
+      @Override
+      public String visit(Primitive.Long_ instance) {
+        return AVRO_LONG;
+      }
+
+      @Override
+      public String visit(Primitive.Float_ instance) {
+        return AVRO_FLOAT;
+      }
+
+      @Override
+      public String visit(Primitive.Double_ instance) {
+        return AVRO_DOUBLE;
+      }
+
+      @Override
+      public String visit(Primitive.Bytes instance) {
+        return AVRO_BYTES;
+      }
+
+      @Override
+      public String visit(Primitive.String_ instance) {
+        return AVRO_STRING;
+      }
+    });
+  }
+
+  private static List<String> decodeStrings(String key, Value v) {
+    if (!(v instanceof Value.Array)) {
+      throw unexpected("JSON array for " + key, v);
+    }
+    List<String> strings = new ArrayList<>();
+    for (Value s : ((Value.Array) v).value) {
+      if (!(s instanceof Value.String_)) {
+        throw unexpected("string", s);
+      }
+      strings.add(((Value.String_) s).value);
+    }
+    return strings;
+  }
+
+  private static Value encodeStrings(List<String> strings) {
+    List<Value> values = new ArrayList<>(strings.size());
+    for (String s : strings) {
+      values.add(new Value.String_(s));
+    }
+    return new Value.Array(values);
+  }
+
+  private static Map<String, Value> expectObject(Value v) {
+    if (!(v instanceof Value.Object_)) {
+      throw unexpected("JSON object", v);
+    }
+    return ((Value.Object_) v).value;
+  }
+
+  private static Value require(String key, Map<String, Value> m) {
+    Value v = m.get(key);
+    if (v == null) {
+      throw new IllegalArgumentException("required attribute " + key + " not found");
+    }
+    return v;
+  }
+
+  private static String requireString(String key, Map<String, Value> m) {
+    Value v = require(key, m);
+    if (!(v instanceof Value.String_)) {
+      throw unexpected("string for " + key, v);
+    }
+    return ((Value.String_) v).value;
+  }
+
+  private static Optional<String> optString(String key, Map<String, Value> m) {
+    return m.containsKey(key) ? Optional.of(requireString(key, m)) : Optional.empty();
+  }
+
+  private static IllegalArgumentException unexpected(String expected, Object found) {
+    return new IllegalArgumentException("expected " + expected + " but found: " + found);
+  }
+}
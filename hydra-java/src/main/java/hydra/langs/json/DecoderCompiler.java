@@ -0,0 +1,287 @@
+package hydra.langs.json;
+
+import hydra.core.Field;
+import hydra.core.FieldName;
+import hydra.core.FieldType;
+import hydra.core.FloatType;
+import hydra.core.FloatValue;
+import hydra.core.Injection;
+import hydra.core.IntegerType;
+import hydra.core.IntegerValue;
+import hydra.core.Literal;
+import hydra.core.LiteralType;
+import hydra.core.Name;
+import hydra.core.Nominal;
+import hydra.core.Record;
+import hydra.core.RowType;
+import hydra.core.Term;
+import hydra.core.Type;
+import hydra.langs.json.JsonCoder.Decoder;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static hydra.Common.stripType;
+
+/**
+ * Compiles types to decoders which parse JSON directly into terms, with the same semantics as the decode functions of
+ * {@link JsonCoder#jsonCoder(Type)}. All of the work which depends only on the type, such as building tables of field
+ * names and choosing a parser for each literal type, is done once, when the decoder is compiled.
+ */
+class DecoderCompiler<A> {
+  // Marks a field which may not be missing, since its decoder does not accept null
+  private static final Object REQUIRED = new Object();
+
+  private final Map<Name, Type<A>> types;
+  private final Map<Name, Decoder<A>> named = new HashMap<>();
+
+  DecoderCompiler(Map<Name, Type<A>> types) {
+    this.types = types;
+  }
+
+  Decoder<A> decoder(Type<A> type) {
+    Type<A> stripped = stripType(type);
+    if (stripped instanceof Type.Literal) {
+      return literalDecoder(((Type.Literal<A>) stripped).value);
+    } else if (stripped instanceof Type.List) {
+      Decoder<A> ld = decoder(((Type.List<A>) stripped).value);
+      return reader -> {
+        List<Term<A>> els = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+          els.add(ld.decode(reader));
+        }
+        reader.endArray();
+        return new Term.List<>(els);
+      };
+    } else if (stripped instanceof Type.Set) {
+      Decoder<A> sd = decoder(((Type.Set<A>) stripped).value);
+      return reader -> {
+        Set<Term<A>> els = new HashSet<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+          els.add(sd.decode(reader));
+        }
+        reader.endArray();
+        return new Term.Set<>(els);
+      };
+    } else if (stripped instanceof Type.Optional) {
+      Decoder<A> od = decoder(((Type.Optional<A>) stripped).value);
+      Term<A> nothing = new Term.Optional<>(Optional.empty());
+      return reader -> {
+        if (reader.peek() == JsonReader.Token.NULL) {
+          reader.nextNull();
+          return nothing;
+        }
+        return new Term.Optional<>(Optional.of(od.decode(reader)));
+      };
+    } else if (stripped instanceof Type.Map) {
+      Type.Map<A> mt = (Type.Map<A>) stripped;
+      return mapDecoder(JsonCoder.isStringType(mt.value.keys), decoder(mt.value.keys), decoder(mt.value.values));
+    } else if (stripped instanceof Type.Record) {
+      return recordDecoder(((Type.Record<A>) stripped).value);
+    } else if (stripped instanceof Type.Union) {
+      return unionDecoder(((Type.Union<A>) stripped).value);
+    } else if (stripped instanceof Type.Wrap) {
+      Name typeName = ((Type.Wrap<A>) stripped).value.typeName;
+      Decoder<A> wd = decoder(((Type.Wrap<A>) stripped).value.object);
+      return reader -> new Term.Wrap<>(new Nominal<>(typeName, wd.decode(reader)));
+    } else if (stripped instanceof Type.Variable) {
+      return variableDecoder(((Type.Variable<A>) stripped).value);
+    } else {
+      throw JsonCoder.unsupported(stripped);
+    }
+  }
+
+  private Decoder<A> literalDecoder(LiteralType lt) {
+    if (lt instanceof LiteralType.String_) {
+      return reader -> new Term.Literal<>(new Literal.String_(reader.nextString()));
+    } else if (lt instanceof LiteralType.Boolean_) {
+      Term<A> trueTerm = new Term.Literal<>(new Literal.Boolean_(true));
+      Term<A> falseTerm = new Term.Literal<>(new Literal.Boolean_(false));
+      return reader -> reader.nextBoolean() ? trueTerm : falseTerm;
+    } else if (lt instanceof LiteralType.Binary) {
+      return reader -> new Term.Literal<>(new Literal.Binary(reader.nextString()));
+    } else if (lt instanceof LiteralType.Float_) {
+      FloatType ft = ((LiteralType.Float_) lt).value;
+      if (ft instanceof FloatType.Float32) {
+        return reader -> new Term.Literal<>(new Literal.Float_(
+            new FloatValue.Float32((float) reader.nextDouble())));
+      }
+      return reader -> new Term.Literal<>(new Literal.Float_(JsonCoder.floatValue(ft, reader.nextDouble())));
+    } else {
+      return integerDecoder(((LiteralType.Integer_) lt).value);
+    }
+  }
+
+  private Decoder<A> integerDecoder(IntegerType it) {
+    if (it instanceof IntegerType.Int32) {
+      return reader -> {
+        long value = reader.nextLong();
+        if ((int) value != value) {
+          throw reader.error("integer out of range for int32: " + value);
+        }
+        return new Term.Literal<>(new Literal.Integer_(new IntegerValue.Int32((int) value)));
+      };
+    } else if (it instanceof IntegerType.Int64) {
+      return reader -> new Term.Literal<>(new Literal.Integer_(new IntegerValue.Int64(reader.nextLong())));
+    } else if (it instanceof IntegerType.Bigint || it instanceof IntegerType.Uint64) {
+      return reader -> integerLiteral(reader, it, reader.nextBigInteger());
+    } else {
+      return reader -> integerLiteral(reader, it, BigInteger.valueOf(reader.nextLong()));
+    }
+  }
+
+  private Term<A> integerLiteral(JsonReader reader, IntegerType it, BigInteger value) {
+    IntegerValue iv = JsonCoder.integerValue(it, value);
+    if (iv == null) {
+      throw reader.error("integer out of range for " + it.getClass().getSimpleName().toLowerCase() + ": " + value);
+    }
+    return new Term.Literal<>(new Literal.Integer_(iv));
+  }
+
+  private Decoder<A> mapDecoder(boolean stringKeys, Decoder<A> kd, Decoder<A> vd) {
+    return reader -> {
+      Map<Term<A>, Term<A>> m = new LinkedHashMap<>();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        String name = reader.nextName();
+        Term<A> key;
+        if (stringKeys) {
+          key = new Term.Literal<>(new Literal.String_(name));
+        } else {
+          try {
+            key = kd.decode(new JsonReader(name));
+          } catch (JsonReader.ParseException e) {
+            throw reader.error("invalid map key: " + e.getMessage());
+          }
+        }
+        m.put(key, vd.decode(reader));
+      }
+      reader.endObject();
+      return new Term.Map<>(m);
+    };
+  }
+
+  private Decoder<A> recordDecoder(RowType<A> rt) {
+    int n = rt.fields.size();
+    FieldName[] fieldNames = new FieldName[n];
+    String[] names = new String[n];
+    List<Decoder<A>> decoders = new ArrayList<>(n);
+    for (int i = 0; i < n; i++) {
+      FieldType<A> ft = rt.fields.get(i);
+      fieldNames[i] = ft.name;
+      names[i] = ft.name.value;
+      decoders.add(decoder(ft.type));
+    }
+    JsonReader.Names table = new JsonReader.Names(names);
+    // The terms for missing fields, decoded from null once and then shared
+    Object[] missing = new Object[n];
+    return reader -> {
+      @SuppressWarnings("unchecked")
+      Term<A>[] slots = (Term<A>[]) new Term<?>[n];
+      reader.beginObject();
+      while (reader.hasNext()) {
+        int i = reader.nextName(table);
+        if (i < 0) {
+          // Unknown fields are ignored
+          reader.skipValue();
+        } else {
+          slots[i] = decoders.get(i).decode(reader);
+        }
+      }
+      reader.endObject();
+      Field<A>[] fields = newFields(n);
+      for (int i = 0; i < n; i++) {
+        Term<A> term = slots[i];
+        if (term == null) {
+          // Missing fields are treated as null
+          term = decodeMissing(reader, missing, i, decoders.get(i), names[i]);
+        }
+        fields[i] = new Field<>(fieldNames[i], term);
+      }
+      return new Term.Record<>(new Record<>(rt.typeName, Arrays.asList(fields)));
+    };
+  }
+
+  private Decoder<A> unionDecoder(RowType<A> rt) {
+    int n = rt.fields.size();
+    FieldName[] fieldNames = new FieldName[n];
+    String[] names = new String[n];
+    List<Decoder<A>> decoders = new ArrayList<>(n);
+    for (int i = 0; i < n; i++) {
+      FieldType<A> ft = rt.fields.get(i);
+      fieldNames[i] = ft.name;
+      names[i] = ft.name.value;
+      decoders.add(decoder(ft.type));
+    }
+    JsonReader.Names table = new JsonReader.Names(names);
+    return reader -> {
+      reader.beginObject();
+      if (!reader.hasNext()) {
+        throw reader.error("expected an object with a single field");
+      }
+      int i = reader.nextName(table);
+      if (i < 0) {
+        throw reader.error("no such field in " + rt.typeName.value);
+      }
+      Term<A> term = decoders.get(i).decode(reader);
+      if (reader.hasNext()) {
+        throw reader.error("expected an object with a single field");
+      }
+      reader.endObject();
+      return new Term.Union<>(new Injection<>(rt.typeName, new Field<>(fieldNames[i], term)));
+    };
+  }
+
+  private Decoder<A> variableDecoder(Name name) {
+    Decoder<A> existing = named.get(name);
+    if (existing != null) {
+      return existing;
+    }
+    Type<A> resolved = types.get(name);
+    if (resolved == null) {
+      return reader -> {
+        throw reader.error("type variable " + name.value + " does not support decoding");
+      };
+    }
+    // Register a forwarding decoder before compiling the named type, in case the type refers to itself
+    List<Decoder<A>> cell = new ArrayList<>(1);
+    Decoder<A> ref = reader -> cell.get(0).decode(reader);
+    named.put(name, ref);
+    cell.add(decoder(resolved));
+    return ref;
+  }
+
+  // Decoders may refer to named types which are compiled later, so the value of a missing field is found on first use.
+  // Terms are immutable, so a race between two threads at most decodes the same term twice.
+  @SuppressWarnings("unchecked")
+  private static <A> Term<A> decodeMissing(JsonReader reader, Object[] missing, int i, Decoder<A> decoder,
+      String fieldName) {
+    Object term = missing[i];
+    if (term == null) {
+      try {
+        term = decoder.decode(new JsonReader("null"));
+      } catch (JsonReader.ParseException e) {
+        term = REQUIRED;
+      }
+      missing[i] = term;
+    }
+    if (term == REQUIRED) {
+      throw reader.error("missing field: " + fieldName);
+    }
+    return (Term<A>) term;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <A> Field<A>[] newFields(int n) {
+    return (Field<A>[]) new Field<?>[n];
+  }
+}
@@ -0,0 +1,1018 @@
+package hydra.langs.json;
+
+import hydra.Flows;
+import hydra.compute.Coder;
+import hydra.compute.Flow;
+import hydra.compute.FlowInterpreter;
+import hydra.core.Field;
+import hydra.core.FieldName;
+import hydra.core.FieldType;
+import hydra.core.FloatType;
+import hydra.core.FloatValue;
+import hydra.core.Injection;
+import hydra.core.IntegerType;
+import hydra.core.IntegerValue;
+import hydra.core.Literal;
+import hydra.core.LiteralType;
+import hydra.core.Name;
+import hydra.core.Nominal;
+import hydra.core.Record;
+import hydra.core.RowType;
+import hydra.core.Term;
+import hydra.core.Type;
+import hydra.graph.Graph;
+import hydra.langs.json.model.Value;
+import hydra.tools.FlowException;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static hydra.Common.stripTerm;
+import static hydra.Common.stripType;
+import static hydra.Flows.fail;
+import static hydra.Flows.map;
+import static hydra.Flows.mapM;
+import static hydra.Flows.pure;
+import static hydra.Flows.unexpected;
+
+/**
+ * Type-directed coders between Hydra terms and JSON values, following Hydra.Langs.Json.Coder:
+ * literals are encoded as JSON booleans, numbers and strings; lists and sets as arrays; optionals as null or as the
+ * value itself; maps and records as objects; unions as objects with a single field; and wrapped terms as the terms they
+ * wrap. Absent optional fields are omitted from records, and when decoding a record, unknown fields are ignored and
+ * missing fields are treated as null.
+ * Since there is no language adapter in Java, each integer and float precision is encoded as a JSON number directly,
+ * and non-string map keys are encoded as compact JSON text.
+ * A coder is compiled once for a type, and may then be used for any number of terms of that type. An {@link Encoder}
+ * writes terms straight to a {@link JsonWriter}, without building JSON values.
+ */
+public class JsonCoder {
+  private JsonCoder() {
+  }
+
+  /**
+   * A streaming encoder for terms of a particular type, which fails with a FlowException if a term does not match
+   * the type
+   */
+  public interface Encoder<A> {
+    void encode(Term<A> term, JsonWriter writer);
+
+    /**
+     * Encode a term as a compact JSON document in UTF-8
+     */
+    default byte[] toBytes(Term<A> term) {
+      ByteArrayOutputStream bos = new ByteArrayOutputStream();
+      write(term, bos);
+      return bos.toByteArray();
+    }
+
+    /**
+     * Write a term to a stream as a compact JSON document in UTF-8
+     */
+    default void write(Term<A> term, OutputStream out) {
+      try (JsonWriter writer = new JsonWriter(out)) {
+        encode(term, writer);
+      }
+    }
+  }
+
+  /**
+   * A decoder for terms of a particular type, which parses JSON directly into terms. A decoder fails with a
+   * ParseException if the input is malformed or does not match the type.
+   */
+  public interface Decoder<A> {
+    /**
+     * Read the next JSON value from a reader as a term
+     */
+    Term<A> decode(JsonReader reader);
+
+    /**
+     * Decode a term from a complete JSON document in UTF-8
+     */
+    default Term<A> fromBytes(byte[] bytes) {
+      return fromReader(new JsonReader(ByteBuffer.wrap(bytes)));
+    }
+
+    /**
+     * Decode a term from a complete JSON document
+     */
+    default Term<A> fromString(String json) {
+      return fromReader(new JsonReader(json));
+    }
+
+    private Term<A> fromReader(JsonReader reader) {
+      Term<A> term = decode(reader);
+      if (reader.peek() != JsonReader.Token.END_DOCUMENT) {
+        throw reader.error("unexpected data after the end of the document");
+      }
+      return term;
+    }
+  }
+
+  /**
+   * Construct a coder between terms of the given type and JSON values
+   */
+  public static <A> Flow<Graph<A>, Coder<Graph<A>, Graph<A>, Term<A>, Value>> jsonCoder(Type<A> type) {
+    return jsonCoder(type, Collections.emptyMap());
+  }
+
+  /**
+   * Construct a coder between terms of the given type and JSON values. Type variables which are bound in the given
+   * map are replaced by the types they name, which makes recursive types possible; other type variables are encoded
+   * as strings, and cannot be decoded.
+   */
+  public static <A> Flow<Graph<A>, Coder<Graph<A>, Graph<A>, Term<A>, Value>> jsonCoder(
+      Type<A> type, Map<Name, Type<A>> types) {
+    try {
+      return pure(new CoderCompiler<A>(types).termCoder(type));
+    } catch (UnsupportedTypeException e) {
+      return fail(e.getMessage());
+    }
+  }
+
+  /**
+   * Construct a streaming encoder for terms of the given type, which is equivalent to the encode function of the
+   * corresponding {@link #jsonCoder(Type)}
+   */
+  public static <S, A> Flow<S, Encoder<A>> jsonEncoder(Type<A> type) {
+    return jsonEncoder(type, Collections.emptyMap());
+  }
+
+  /**
+   * Construct a streaming encoder for terms of the given type, resolving type variables as in
+   * {@link #jsonCoder(Type, Map)}
+   */
+  public static <S, A> Flow<S, Encoder<A>> jsonEncoder(Type<A> type, Map<Name, Type<A>> types) {
+    try {
+      return pure(new EncoderCompiler<A>(types).encoder(type));
+    } catch (UnsupportedTypeException e) {
+      return fail(e.getMessage());
+    }
+  }
+
+  /**
+   * Construct a decoder for terms of the given type, which is equivalent to parsing JSON values and then applying the
+   * decode function of the corresponding {@link #jsonCoder(Type)}, but which builds no JSON values
+   */
+  public static <S, A> Flow<S, Decoder<A>> jsonDecoder(Type<A> type) {
+    return jsonDecoder(type, Collections.emptyMap());
+  }
+
+  /**
+   * Construct a decoder for terms of the given type, resolving type variables as in {@link #jsonCoder(Type, Map)}
+   */
+  public static <S, A> Flow<S, Decoder<A>> jsonDecoder(Type<A> type, Map<Name, Type<A>> types) {
+    try {
+      return pure(new DecoderCompiler<A>(types).decoder(type));
+    } catch (UnsupportedTypeException e) {
+      return fail(e.getMessage());
+    }
+  }
+
+  /**
+   * Decode a term from a JSON document in UTF-8, in a flow which fails if the document is malformed or does not match
+   * the type of the decoder
+   */
+  public static <S, A> Flow<S, Term<A>> decodeFromBytes(Decoder<A> decoder, byte[] bytes) {
+    try {
+      return pure(decoder.fromBytes(bytes));
+    } catch (JsonReader.ParseException e) {
+      return fail("JSON parsing failed: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Decode a term from a JSON string, in a flow which fails if the document is malformed or does not match the type
+   * of the decoder
+   */
+  public static <S, A> Flow<S, Term<A>> decodeFromString(Decoder<A> decoder, String json) {
+    try {
+      return pure(decoder.fromString(json));
+    } catch (JsonReader.ParseException e) {
+      return fail("JSON parsing failed: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Encode a term as a compact JSON document in UTF-8, in a flow which fails if the term does not match the type of
+   * the encoder
+   */
+  public static <S, A> Flow<S, byte[]> encodeToBytes(Encoder<A> encoder, Term<A> term) {
+    try {
+      return pure(encoder.toBytes(term));
+    } catch (FlowException e) {
+      return new Flow<>(new FlowInterpreter.Fail<>(() -> String.join(", ", e.trace.messages)));
+    }
+  }
+
+  /**
+   * Construct a coder between literals of the given type and JSON values
+   */
+  public static <S> Flow<S, Coder<S, S, Literal, Value>> literalJsonCoder(LiteralType type) {
+    Class<?> expected = literalClass(type);
+    return pure(new Coder<>(
+        lit -> literalClass(lit) == expected ? exactLiteralToJson(lit) : unexpected(literalDescription(type), lit),
+        value -> jsonToLiteral(type, value)));
+  }
+
+  /**
+   * A simplistic, unidirectional encoding for terms as JSON values. Not type-aware; best used for human consumption.
+   */
+  public static <S, A> Flow<S, Value> untypedTermToJson(Term<A> term) {
+    Term<A> stripped = stripTerm(term);
+    if (stripped instanceof Term.List) {
+      return map(mapM(((Term.List<A>) stripped).value, JsonCoder::untypedTermToJson), Value.Array::new);
+    } else if (stripped instanceof Term.Literal) {
+      return pure(literalToJson(((Term.Literal<A>) stripped).value));
+    } else if (stripped instanceof Term.Record) {
+      return map(mapM(((Term.Record<A>) stripped).value.fields, JsonCoder::untypedFieldToJson), JsonCoder::toObject);
+    } else if (stripped instanceof Term.Union) {
+      return map(untypedFieldToJson(((Term.Union<A>) stripped).value.field),
+          kv -> toObject(Collections.singletonList(kv)));
+    } else {
+      return unexpected("literal value", term);
+    }
+  }
+
+  private static <S, A> Flow<S, Optional<Map.Entry<String, Value>>> untypedFieldToJson(Field<A> field) {
+    Term<A> term = field.term;
+    while (term instanceof Term.Optional) {
+      Optional<Term<A>> inner = ((Term.Optional<A>) term).value;
+      if (!inner.isPresent()) {
+        return pure(Optional.empty());
+      }
+      term = inner.get();
+    }
+    return map(untypedTermToJson(term), json -> Optional.of(Map.entry(field.name.value, json)));
+  }
+
+  private static Value toObject(List<Optional<Map.Entry<String, Value>>> entries) {
+    Map<String, Value> fields = new LinkedHashMap<>();
+    for (Optional<Map.Entry<String, Value>> entry : entries) {
+      entry.ifPresent(e -> fields.put(e.getKey(), e.getValue()));
+    }
+    return new Value.Object_(fields);
+  }
+
+  /**
+   * Encode a literal as a JSON value. Binary literals are encoded as strings.
+   * JSON values hold numbers as doubles, so an integer which a double cannot hold exactly, such as an int64 beyond
+   * 2^53 in magnitude, is rounded to the nearest double. The typed coders reject such integers instead; the streaming
+   * encoder writes them exactly.
+   */
+  public static Value literalToJson(Literal lit) {
+    if (lit instanceof Literal.Boolean_) {
+      return new Value.Boolean_(((Literal.Boolean_) lit).value);
+    } else if (lit instanceof Literal.String_) {
+      return new Value.String_(((Literal.String_) lit).value);
+    } else if (lit instanceof Literal.Binary) {
+      return new Value.String_(((Literal.Binary) lit).value);
+    } else if (lit instanceof Literal.Integer_) {
+      IntegerValue i = ((Literal.Integer_) lit).value;
+      return new Value.Number_(isBig(i) ? bigintValue(i).doubleValue() : (double) longValue(i));
+    } else {
+      FloatValue f = ((Literal.Float_) lit).value;
+      // Go through the decimal representation, so that a float32 does not pick up spurious digits
+      return new Value.Number_(f instanceof FloatValue.Float32
+          ? Double.parseDouble(Float.toString(((FloatValue.Float32) f).value))
+          : doubleValue(f));
+    }
+  }
+
+  // Encode a literal as a JSON value, failing if it is an integer which would lose precision as a double
+  private static <S> Flow<S, Value> exactLiteralToJson(Literal lit) {
+    if (lit instanceof Literal.Integer_) {
+      IntegerValue i = ((Literal.Integer_) lit).value;
+      if (isBig(i) || Math.abs(longValue(i)) > 1L << 53) {
+        BigInteger b = isBig(i) ? bigintValue(i) : BigInteger.valueOf(longValue(i));
+        double d = b.doubleValue();
+        if (Double.isInfinite(d) || !new BigDecimal(d).toBigInteger().equals(b)) {
+          return fail(() -> "integer cannot be represented exactly as a JSON number: " + b);
+        }
+      }
+    }
+    return pure(literalToJson(lit));
+  }
+
+  /**
+   * Decode a literal of the given type from a JSON value
+   */
+  public static <S> Flow<S, Literal> jsonToLiteral(LiteralType type, Value value) {
+    return type.accept(new LiteralType.Visitor<Flow<S, Literal>>() {
+      @Override
+      public Flow<S, Literal> visit(LiteralType.Binary instance) {
+        return value instanceof Value.String_
+            ? pure(new Literal.Binary(((Value.String_) value).value))
+            : unexpected("string", value);
+      }
+
+      @Override
+      public Flow<S, Literal> visit(LiteralType.Boolean_ instance) {
+        return value instanceof Value.Boolean_
+            ? pure(new Literal.Boolean_(((Value.Boolean_) value).value))
+            : unexpected("boolean", value);
+      }
+
+      @Override
+      public Flow<S, Literal> visit(LiteralType.Float_ instance) {
+        return value instanceof Value.Number_
+            ? pure(new Literal.Float_(floatValue(instance.value, ((Value.Number_) value).value)))
+            : unexpected("number", value);
+      }
+
+      @Override
+      public Flow<S, Literal> visit(LiteralType.Integer_ instance) {
+        if (!(value instanceof Value.Number_)) {
+          return unexpected("number", value);
+        }
+        double d = ((Value.Number_) value).value;
+        if (Double.isInfinite(d) || d != Math.rint(d)) {
+          return unexpected("integer", value);
+        }
+        IntegerValue i = integerValue(instance.value, new BigDecimal(d).toBigInteger());
+        return i == null
+            ? fail(() -> "integer out of range for " + literalDescription(type) + ": " + d)
+            : pure(new Literal.Integer_(i));
+      }
+
+      @Override
+      public Flow<S, Literal> visit(LiteralType.String_ instance) {
+        return value instanceof Value.String_
+            ? pure(new Literal.String_(((Value.String_) value).value))
+            : unexpected("string", value);
+      }
+    });
+  }
+
+  /**
+   * An integer value of the given type, or null if the integer is out of range for that type
+   */
+  public static IntegerValue integerValue(IntegerType type, BigInteger i) {
+    int bits = i.bitLength();
+    boolean unsigned = i.signum() >= 0;
+    return type.accept(new IntegerType.Visitor<IntegerValue>() {
+      @Override
+      public IntegerValue visit(IntegerType.Bigint instance) {
+        return new IntegerValue.Bigint(i);
+      }
+
+      @Override
+      public IntegerValue visit(IntegerType.Int8 instance) {
+        return bits < 8 ? new IntegerValue.Int8(i.shortValue()) : null;
+      }
+
+      @Override
+      public IntegerValue visit(IntegerType.Int16 instance) {
+        return bits < 16 ? new IntegerValue.Int16(i.shortValue()) : null;
+      }
+
+      @Override
+      public IntegerValue visit(IntegerType.Int32 instance) {
+        return bits < 32 ? new IntegerValue.Int32(i.intValue()) : null;
+      }
+
+      @Override
+      public IntegerValue visit(IntegerType.Int64 instance) {
+        return bits < 64 ? new IntegerValue.Int64(i.longValue()) : null;
+      }
+
+      @Override
+      public IntegerValue visit(IntegerType.Uint8 instance) {
+        return unsigned && bits <= 8 ? new IntegerValue.Uint8(i.byteValue()) : null;
+      }
+
+      @Override
+      public IntegerValue visit(IntegerType.Uint16 instance) {
+        return unsigned && bits <= 16 ? new IntegerValue.Uint16((char) i.intValue()) : null;
+      }
+
+      @Override
+      public IntegerValue visit(IntegerType.Uint32 instance) {
+        return unsigned && bits <= 32 ? new IntegerValue.Uint32(i.longValue()) : null;
+      }
+
+      @Override
+      public IntegerValue visit(IntegerType.Uint64 instance) {
+        return unsigned && bits <= 64 ? new IntegerValue.Uint64(i) : null;
+      }
+    });
+  }
+
+  /**
+   * A float value of the given type
+   */
+  public static FloatValue floatValue(FloatType type, double d) {
+    return type.accept(new FloatType.Visitor<FloatValue>() {
+      @Override
+      public FloatValue visit(FloatType.Bigfloat instance) {
+        return new FloatValue.Bigfloat(d);
+      }
+
+      @Override
+      public FloatValue visit(FloatType.Float32 instance) {
+        return new FloatValue.Float32((float) d);
+      }
+
+      @Override
+      public FloatValue visit(FloatType.Float64 instance) {
+        return new FloatValue.Float64(d);
+      }
+    });
+  }
+
+  // Whether an integer value may exceed the range of a long
+  private static boolean isBig(IntegerValue i) {
+    return i instanceof IntegerValue.Bigint || i instanceof IntegerValue.Uint64;
+  }
+
+  private static BigInteger bigintValue(IntegerValue i) {
+    return i instanceof IntegerValue.Bigint ? ((IntegerValue.Bigint) i).value : ((IntegerValue.Uint64) i).value;
+  }
+
+  private static long longValue(IntegerValue i) {
+    if (i instanceof IntegerValue.Int32) {
+      return ((IntegerValue.Int32) i).value;
+    } else if (i instanceof IntegerValue.Int64) {
+      return ((IntegerValue.Int64) i).value;
+    } else if (i instanceof IntegerValue.Int8) {
+      return ((IntegerValue.Int8) i).value;
+    } else if (i instanceof IntegerValue.Int16) {
+      return ((IntegerValue.Int16) i).value;
+    } else if (i instanceof IntegerValue.Uint8) {
+      return Byte.toUnsignedInt(((IntegerValue.Uint8) i).value);
+    } else if (i instanceof IntegerValue.Uint16) {
+      return ((IntegerValue.Uint16) i).value;
+    } else {
+      return ((IntegerValue.Uint32) i).value;
+    }
+  }
+
+  private static double doubleValue(FloatValue f) {
+    if (f instanceof FloatValue.Float64) {
+      return ((FloatValue.Float64) f).value;
+    } else if (f instanceof FloatValue.Float32) {
+      return ((FloatValue.Float32) f).value;
+    } else {
+      return ((FloatValue.Bigfloat) f).value;
+    }
+  }
+
+  // The class of the literal, or of the integer or float value, of a literal type. A literal matches a literal type
+  // exactly when their classes are the same.
+  private static Class<?> literalClass(LiteralType type) {
+    return type.accept(new LiteralType.Visitor<Class<?>>() {
+      @Override
+      public Class<?> visit(LiteralType.Binary instance) {
+        return Literal.Binary.class;
+      }
+
+      @Override
+      public Class<?> visit(LiteralType.Boolean_ instance) {
+        return Literal.Boolean_.class;
+      }
+
+      @Override
+      public Class<?> visit(LiteralType.Float_ instance) {
+        return floatValue(instance.value, 0.0).getClass();
+      }
+
+      @Override
+      public Class<?> visit(LiteralType.Integer_ instance) {
+        return integerValue(instance.value, BigInteger.ZERO).getClass();
+      }
+
+      @Override
+      public Class<?> visit(LiteralType.String_ instance) {
+        return Literal.String_.class;
+      }
+    });
+  }
+
+  private static Class<?> literalClass(Literal lit) {
+    if (lit instanceof Literal.Integer_) {
+      return ((Literal.Integer_) lit).value.getClass();
+    } else if (lit instanceof Literal.Float_) {
+      return ((Literal.Float_) lit).value.getClass();
+    } else {
+      return lit.getClass();
+    }
+  }
+
+  private static String literalDescription(LiteralType type) {
+    return "literal of type " + type.getClass().getSimpleName().replace("_", "").toLowerCase()
+        + (type instanceof LiteralType.Integer_
+        ? " " + ((LiteralType.Integer_) type).value.getClass().getSimpleName().toLowerCase()
+        : type instanceof LiteralType.Float_
+        ? " " + ((LiteralType.Float_) type).value.getClass().getSimpleName().toLowerCase()
+        : "");
+  }
+
+  static boolean isStringType(Type<?> type) {
+    Type<?> stripped = stripType(type);
+    return stripped instanceof Type.Literal && ((Type.Literal<?>) stripped).value instanceof LiteralType.String_;
+  }
+
+  static UnsupportedTypeException unsupported(Type<?> type) {
+    return new UnsupportedTypeException("unsupported type in JSON: " + type.getClass().getSimpleName().toLowerCase());
+  }
+
+  static class UnsupportedTypeException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    UnsupportedTypeException(String message) {
+      super(message);
+    }
+  }
+
+  /**
+   * Compiles types to coders between terms and JSON values
+   */
+  private static class CoderCompiler<A> {
+    private final Map<Name, Type<A>> types;
+    // Coders for named types, which may be referenced recursively before they are complete
+    private final Map<Name, Coder<Graph<A>, Graph<A>, Term<A>, Value>> named = new HashMap<>();
+
+    CoderCompiler(Map<Name, Type<A>> types) {
+      this.types = types;
+    }
+
+    Coder<Graph<A>, Graph<A>, Term<A>, Value> termCoder(Type<A> type) {
+      Type<A> stripped = stripType(type);
+      if (stripped instanceof Type.Literal) {
+        return literalCoder(((Type.Literal<A>) stripped).value);
+      } else if (stripped instanceof Type.List) {
+        return listCoder(termCoder(((Type.List<A>) stripped).value));
+      } else if (stripped instanceof Type.Set) {
+        return setCoder(termCoder(((Type.Set<A>) stripped).value));
+      } else if (stripped instanceof Type.Optional) {
+        return optionalCoder(termCoder(((Type.Optional<A>) stripped).value));
+      } else if (stripped instanceof Type.Map) {
+        Type.Map<A> mt = (Type.Map<A>) stripped;
+        return mapCoder(isStringType(mt.value.keys), termCoder(mt.value.keys), termCoder(mt.value.values));
+      } else if (stripped instanceof Type.Record) {
+        return recordCoder(((Type.Record<A>) stripped).value);
+      } else if (stripped instanceof Type.Union) {
+        return unionCoder(((Type.Union<A>) stripped).value);
+      } else if (stripped instanceof Type.Wrap) {
+        Nominal<Type<A>> nominal = ((Type.Wrap<A>) stripped).value;
+        return wrapCoder(nominal.typeName, termCoder(nominal.object));
+      } else if (stripped instanceof Type.Variable) {
+        return variableCoder(((Type.Variable<A>) stripped).value);
+      } else {
+        throw unsupported(stripped);
+      }
+    }
+
+    private Coder<Graph<A>, Graph<A>, Term<A>, Value> literalCoder(LiteralType lt) {
+      Class<?> expected = literalClass(lt);
+      return new Coder<>(
+          term -> {
+            Term<A> stripped = stripTerm(term);
+            if (stripped instanceof Term.Literal) {
+              Literal lit = ((Term.Literal<A>) stripped).value;
+              if (literalClass(lit) == expected) {
+                return exactLiteralToJson(lit);
+              }
+            }
+            return unexpected(literalDescription(lt), term);
+          },
+          value -> map(jsonToLiteral(lt, value), Term.Literal::new));
+    }
+
+    private Coder<Graph<A>, Graph<A>, Term<A>, Value> listCoder(Coder<Graph<A>, Graph<A>, Term<A>, Value> lc) {
+      return new Coder<>(
+          term -> {
+            Term<A> stripped = stripTerm(term);
+            return stripped instanceof Term.List
+                ? map(mapM(((Term.List<A>) stripped).value, lc.encode), Value.Array::new)
+                : unexpected("list", term);
+          },
+          value -> value instanceof Value.Array
+              ? map(mapM(((Value.Array) value).value, lc.decode), Term.List::new)
+              : unexpected("array", value));
+    }
+
+    private Coder<Graph<A>, Graph<A>, Term<A>, Value> setCoder(Coder<Graph<A>, Graph<A>, Term<A>, Value> sc) {
+      return new Coder<>(
+          term -> {
+            Term<A> stripped = stripTerm(term);
+            return stripped instanceof Term.Set
+                ? map(mapM(new ArrayList<>(((Term.Set<A>) stripped).value), sc.encode), Value.Array::new)
+                : unexpected("set", term);
+          },
+          value -> value instanceof Value.Array
+              ? map(mapM(((Value.Array) value).value, sc.decode), els -> new Term.Set<>(new HashSet<>(els)))
+              : unexpected("array", value));
+    }
+
+    private Coder<Graph<A>, Graph<A>, Term<A>, Value> optionalCoder(Coder<Graph<A>, Graph<A>, Term<A>, Value> oc) {
+      return new Coder<>(
+          term -> {
+            Term<A> stripped = stripTerm(term);
+            if (!(stripped instanceof Term.Optional)) {
+              return unexpected("optional term", term);
+            }
+            Optional<Term<A>> inner = ((Term.Optional<A>) stripped).value;
+            return inner.isPresent() ? oc.encode.apply(inner.get()) : pure(new Value.Null());
+          },
+          value -> value instanceof Value.Null
+              ? pure(new Term.Optional<>(Optional.empty()))
+              : map(oc.decode.apply(value), t -> new Term.Optional<>(Optional.of(t))));
+    }
+
+    private Coder<Graph<A>, Graph<A>, Term<A>, Value> mapCoder(boolean stringKeys,
+                                                               Coder<Graph<A>, Graph<A>, Term<A>, Value> kc,
+                                                               Coder<Graph<A>, Graph<A>, Term<A>, Value> vc) {
+      return new Coder<>(
+          term -> {
+            Term<A> stripped = stripTerm(term);
+            if (!(stripped instanceof Term.Map)) {
+              return unexpected("map", term);
+            }
+            return map(mapM(((Term.Map<A>) stripped).value, k -> map(kc.encode.apply(k), key -> stringKeys
+                    ? ((Value.String_) key).value
+                    : JsonWriter.toString(key)), vc.encode),
+                m -> new Value.Object_(new LinkedHashMap<>(m)));
+          },
+          value -> {
+            if (!(value instanceof Value.Object_)) {
+              return unexpected("object", value);
+            }
+            return map(mapM(((Value.Object_) value).value, k -> {
+              if (stringKeys) {
+                return kc.decode.apply(new Value.String_(k));
+              }
+              try {
+                return kc.decode.apply(JsonReader.parse(k));
+              } catch (JsonReader.ParseException e) {
+                return fail("invalid map key: " + e.getMessage());
+              }
+            }, vc.decode), Term.Map::new);
+          });
+    }
+
+    private Coder<Graph<A>, Graph<A>, Term<A>, Value> recordCoder(RowType<A> rt) {
+      List<FieldCoder<A>> coders = fieldCoders(rt);
+      return new Coder<>(
+          term -> {
+            Term<A> stripped = stripTerm(term);
+            if (!(stripped instanceof Term.Record)) {
+              return unexpected("record", term);
+            }
+            List<Field<A>> fields = ((Term.Record<A>) stripped).value.fields;
+            return map(mapM(coders, fc -> fc.encode(fields)), JsonCoder::toObject);
+          },
+          value -> {
+            if (!(value instanceof Value.Object_)) {
+              return unexpected("object", value);
+            }
+            // Unknown fields are ignored, and missing fields are treated as null
+            Map<String, Value> m = ((Value.Object_) value).value;
+            return map(mapM(coders, fc -> map(fc.coder.decode.apply(m.getOrDefault(fc.name.value, new Value.Null())),
+                    t -> new Field<>(fc.name, t))),
+                fields -> new Term.Record<>(new Record<>(rt.typeName, fields)));
+          });
+    }
+
+    private Coder<Graph<A>, Graph<A>, Term<A>, Value> unionCoder(RowType<A> rt) {
+      Map<String, FieldCoder<A>> coders = new HashMap<>();
+      for (FieldCoder<A> fc : fieldCoders(rt)) {
+        coders.put(fc.name.value, fc);
+      }
+      return new Coder<>(
+          term -> {
+            Term<A> stripped = stripTerm(term);
+            if (!(stripped instanceof Term.Union)) {
+              return unexpected("union", term);
+            }
+            Field<A> field = ((Term.Union<A>) stripped).value.field;
+            FieldCoder<A> fc = coders.get(field.name.value);
+            return fc == null
+                ? fail("no such field: " + field.name.value)
+                : map(fc.coder.encode.apply(field.term),
+                    v -> new Value.Object_(Collections.singletonMap(field.name.value, v)));
+          },
+          value -> {
+            if (!(value instanceof Value.Object_) || ((Value.Object_) value).value.size() != 1) {
+              return unexpected("object with a single field", value);
+            }
+            Map.Entry<String, Value> entry = ((Value.Object_) value).value.entrySet().iterator().next();
+            FieldCoder<A> fc = coders.get(entry.getKey());
+            return fc == null
+                ? fail("no such field: " + entry.getKey())
+                : map(fc.coder.decode.apply(entry.getValue()),
+                    t -> new Term.Union<>(new Injection<>(rt.typeName, new Field<>(fc.name, t))));
+          });
+    }
+
+    private Coder<Graph<A>, Graph<A>, Term<A>, Value> wrapCoder(Name typeName,
+                                                                Coder<Graph<A>, Graph<A>, Term<A>, Value> wc) {
+      return new Coder<>(
+          term -> {
+            Term<A> stripped = stripTerm(term);
+            return stripped instanceof Term.Wrap
+                ? wc.encode.apply(((Term.Wrap<A>) stripped).value.object)
+                : unexpected("wrapped term", term);
+          },
+          value -> map(wc.decode.apply(value), t -> new Term.Wrap<>(new Nominal<>(typeName, t))));
+    }
+
+    private Coder<Graph<A>, Graph<A>, Term<A>, Value> variableCoder(Name name) {
+      Coder<Graph<A>, Graph<A>, Term<A>, Value> existing = named.get(name);
+      if (existing != null) {
+        return existing;
+      }
+      Type<A> resolved = types.get(name);
+      if (resolved == null) {
+        return new Coder<>(
+            term -> pure(new Value.String_(term.toString())),
+            value -> fail("type variable " + name.value + " does not support decoding"));
+      }
+      // Register a forwarding coder before compiling the named type, in case the type refers to itself
+      List<Coder<Graph<A>, Graph<A>, Term<A>, Value>> cell = new ArrayList<>(1);
+      Coder<Graph<A>, Graph<A>, Term<A>, Value> ref = new Coder<>(
+          term -> cell.get(0).encode.apply(term),
+          value -> cell.get(0).decode.apply(value));
+      named.put(name, ref);
+      cell.add(termCoder(resolved));
+      return ref;
+    }
+
+    private List<FieldCoder<A>> fieldCoders(RowType<A> rt) {
+      List<FieldCoder<A>> coders = new ArrayList<>(rt.fields.size());
+      for (int i = 0; i < rt.fields.size(); i++) {
+        FieldType<A> ft = rt.fields.get(i);
+        coders.add(new FieldCoder<>(i, ft.name, stripType(ft.type) instanceof Type.Optional, termCoder(ft.type)));
+      }
+      return coders;
+    }
+  }
+
+  private static class FieldCoder<A> {
+    final int index;
+    final FieldName name;
+    final boolean optional;
+    final Coder<Graph<A>, Graph<A>, Term<A>, Value> coder;
+
+    FieldCoder(int index, FieldName name, boolean optional, Coder<Graph<A>, Graph<A>, Term<A>, Value> coder) {
+      this.index = index;
+      this.name = name;
+      this.optional = optional;
+      this.coder = coder;
+    }
+
+    // Encode the corresponding field of a record, if it is present
+    Flow<Graph<A>, Optional<Map.Entry<String, Value>>> encode(List<Field<A>> fields) {
+      Field<A> field = findField(fields, index, name);
+      if (field == null) {
+        return optional ? pure(Optional.empty()) : fail("missing field: " + name.value);
+      }
+      if (optional) {
+        Term<A> stripped = stripTerm(field.term);
+        if (stripped instanceof Term.Optional && !((Term.Optional<A>) stripped).value.isPresent()) {
+          return pure(Optional.empty());
+        }
+      }
+      return map(coder.encode.apply(field.term), v -> Optional.of(Map.entry(name.value, v)));
+    }
+  }
+
+  // Find a field of a record, which is usually at the same position as in the record type
+  private static <A> Field<A> findField(List<Field<A>> fields, int index, FieldName name) {
+    if (index < fields.size() && fields.get(index).name.equals(name)) {
+      return fields.get(index);
+    }
+    for (Field<A> field : fields) {
+      if (field.name.equals(name)) {
+        return field;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Compiles types to streaming encoders
+   */
+  private static class EncoderCompiler<A> {
+    private final Map<Name, Type<A>> types;
+    private final Map<Name, Encoder<A>> named = new HashMap<>();
+
+    EncoderCompiler(Map<Name, Type<A>> types) {
+      this.types = types;
+    }
+
+    Encoder<A> encoder(Type<A> type) {
+      Type<A> stripped = stripType(type);
+      if (stripped instanceof Type.Literal) {
+        return literalEncoder(((Type.Literal<A>) stripped).value);
+      } else if (stripped instanceof Type.List) {
+        Encoder<A> le = encoder(((Type.List<A>) stripped).value);
+        return (term, writer) -> {
+          Term.List<A> list = expect(term, Term.List.class, "list");
+          writer.beginArray();
+          for (Term<A> el : list.value) {
+            le.encode(el, writer);
+          }
+          writer.endArray();
+        };
+      } else if (stripped instanceof Type.Set) {
+        Encoder<A> se = encoder(((Type.Set<A>) stripped).value);
+        return (term, writer) -> {
+          Term.Set<A> set = expect(term, Term.Set.class, "set");
+          writer.beginArray();
+          for (Term<A> el : set.value) {
+            se.encode(el, writer);
+          }
+          writer.endArray();
+        };
+      } else if (stripped instanceof Type.Optional) {
+        Encoder<A> oe = encoder(((Type.Optional<A>) stripped).value);
+        return (term, writer) -> {
+          Term.Optional<A> opt = expect(term, Term.Optional.class, "optional term");
+          if (opt.value.isPresent()) {
+            oe.encode(opt.value.get(), writer);
+          } else {
+            writer.nullValue();
+          }
+        };
+      } else if (stripped instanceof Type.Map) {
+        Type.Map<A> mt = (Type.Map<A>) stripped;
+        return mapEncoder(isStringType(mt.value.keys), encoder(mt.value.keys), encoder(mt.value.values));
+      } else if (stripped instanceof Type.Record) {
+        return recordEncoder(((Type.Record<A>) stripped).value);
+      } else if (stripped instanceof Type.Union) {
+        return unionEncoder(((Type.Union<A>) stripped).value);
+      } else if (stripped instanceof Type.Wrap) {
+        Encoder<A> we = encoder(((Type.Wrap<A>) stripped).value.object);
+        return (term, writer) -> {
+          Term.Wrap<A> wrapped = expect(term, Term.Wrap.class, "wrapped term");
+          we.encode(wrapped.value.object, writer);
+        };
+      } else if (stripped instanceof Type.Variable) {
+        return variableEncoder(((Type.Variable<A>) stripped).value);
+      } else {
+        throw unsupported(stripped);
+      }
+    }
+
+    private Encoder<A> literalEncoder(LiteralType lt) {
+      Class<?> expected = literalClass(lt);
+      return (term, writer) -> {
+        Term<A> stripped = stripTerm(term);
+        if (stripped instanceof Term.Literal) {
+          Literal lit = ((Term.Literal<A>) stripped).value;
+          if (literalClass(lit) == expected) {
+            writeLiteral(lit, writer);
+            return;
+          }
+        }
+        mismatch(literalDescription(lt), term);
+      };
+    }
+
+    private Encoder<A> mapEncoder(boolean stringKeys, Encoder<A> ke, Encoder<A> ve) {
+      return (term, writer) -> {
+        Term.Map<A> m = expect(term, Term.Map.class, "map");
+        writer.beginObject();
+        for (Map.Entry<Term<A>, Term<A>> entry : m.value.entrySet()) {
+          if (stringKeys) {
+            Term<A> key = stripTerm(entry.getKey());
+            if (!(key instanceof Term.Literal) || !(((Term.Literal<A>) key).value instanceof Literal.String_)) {
+              mismatch("string", entry.getKey());
+            }
+            writer.name(((Literal.String_) ((Term.Literal<A>) key).value).value);
+          } else {
+            StringWriter key = new StringWriter();
+            try (JsonWriter keyWriter = new JsonWriter(key)) {
+              ke.encode(entry.getKey(), keyWriter);
+            }
+            writer.name(key.toString());
+          }
+          ve.encode(entry.getValue(), writer);
+        }
+        writer.endObject();
+      };
+    }
+
+    private Encoder<A> recordEncoder(RowType<A> rt) {
+      int n = rt.fields.size();
+      FieldName[] names = new FieldName[n];
+      boolean[] optional = new boolean[n];
+      List<Encoder<A>> encoders = new ArrayList<>(n);
+      for (int i = 0; i < n; i++) {
+        FieldType<A> ft = rt.fields.get(i);
+        names[i] = ft.name;
+        optional[i] = stripType(ft.type) instanceof Type.Optional;
+        encoders.add(encoder(ft.type));
+      }
+      return (term, writer) -> {
+        Term.Record<A> record = expect(term, Term.Record.class, "record");
+        List<Field<A>> fields = record.value.fields;
+        writer.beginObject();
+        for (int i = 0; i < n; i++) {
+          Field<A> field = findField(fields, i, names[i]);
+          if (field == null) {
+            if (optional[i]) {
+              continue;
+            }
+            mismatch("field " + names[i].value, term);
+          }
+          if (optional[i]) {
+            Term<A> stripped = stripTerm(field.term);
+            if (stripped instanceof Term.Optional && !((Term.Optional<A>) stripped).value.isPresent()) {
+              continue;
+            }
+          }
+          writer.name(names[i].value);
+          encoders.get(i).encode(field.term, writer);
+        }
+        writer.endObject();
+      };
+    }
+
+    private Encoder<A> unionEncoder(RowType<A> rt) {
+      Map<FieldName, Encoder<A>> encoders = new HashMap<>();
+      for (FieldType<A> ft : rt.fields) {
+        encoders.put(ft.name, encoder(ft.type));
+      }
+      return (term, writer) -> {
+        Term.Union<A> union = expect(term, Term.Union.class, "union");
+        Field<A> field = union.value.field;
+        Encoder<A> fe = encoders.get(field.name);
+        if (fe == null) {
+          mismatch("a field of " + rt.typeName.value, field.name.value);
+        }
+        writer.beginObject();
+        writer.name(field.name.value);
+        fe.encode(field.term, writer);
+        writer.endObject();
+      };
+    }
+
+    private Encoder<A> variableEncoder(Name name) {
+      Encoder<A> existing = named.get(name);
+      if (existing != null) {
+        return existing;
+      }
+      Type<A> resolved = types.get(name);
+      if (resolved == null) {
+        return (term, writer) -> writer.value(term.toString());
+      }
+      List<Encoder<A>> cell = new ArrayList<>(1);
+      Encoder<A> ref = (term, writer) -> cell.get(0).encode(term, writer);
+      named.put(name, ref);
+      cell.add(encoder(resolved));
+      return ref;
+    }
+
+    // Strip a term and check that it is of the expected class, or fail
+    @SuppressWarnings("unchecked")
+    private <T> T expect(Term<A> term, Class<?> cls, String description) {
+      Term<A> stripped = stripTerm(term);
+      if (!cls.isInstance(stripped)) {
+        mismatch(description, term);
+      }
+      return (T) stripped;
+    }
+  }
+
+  private static void writeLiteral(Literal lit, JsonWriter writer) {
+    if (lit instanceof Literal.String_) {
+      writer.value(((Literal.String_) lit).value);
+    } else if (lit instanceof Literal.Integer_) {
+      IntegerValue i = ((Literal.Integer_) lit).value;
+      if (isBig(i)) {
+        writer.value(bigintValue(i));
+      } else {
+        writer.value(longValue(i));
+      }
+    } else if (lit instanceof Literal.Float_) {
+      FloatValue f = ((Literal.Float_) lit).value;
+      if (f instanceof FloatValue.Float32) {
+        writer.value((float) ((FloatValue.Float32) f).value);
+      } else {
+        writer.value(doubleValue(f));
+      }
+    } else if (lit instanceof Literal.Boolean_) {
+      writer.value((boolean) ((Literal.Boolean_) lit).value);
+    } else {
+      writer.value(((Literal.Binary) lit).value);
+    }
+  }
+
+  // Fail with a FlowException, as an unexpected value would in a flow
+  private static void mismatch(String expected, Object found) {
+    Flows.fromFlow(unexpected(expected, found));
+  }
+}
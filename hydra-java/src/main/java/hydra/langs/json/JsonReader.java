@@ -0,0 +1,755 @@
+package hydra.langs.json;
+
+import hydra.langs.json.model.Value;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A streaming JSON reader, which reads JSON text token by token from a character stream, a byte stream or a buffer of
+ * UTF-8 bytes. Only the current token, and the current path of nested arrays and objects, is held in memory, so that a
+ * document of any size may be consumed incrementally; {@link #readValue()} builds a tree of JSON values when that is
+ * what is wanted. A stream may contain several documents one after another, as in JSON Lines.
+ * Malformed input is reported as a ParseException, and I/O errors as UncheckedIOExceptions. A reader is not
+ * thread-safe.
+ */
+public class JsonReader implements Closeable {
+  /**
+   * The kinds of token which may be read next
+   */
+  public enum Token {
+    BEGIN_ARRAY, END_ARRAY, BEGIN_OBJECT, END_OBJECT, NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+  }
+
+  /**
+   * The maximum depth to which arrays and objects may be nested
+   */
+  public static final int MAX_DEPTH = 1000;
+
+  private static final int BUFFER_SIZE = 8192;
+
+  // The states of the reader within each level of nesting
+  private static final int EMPTY_DOCUMENT = 0;
+  private static final int NONEMPTY_DOCUMENT = 1;
+  private static final int EMPTY_ARRAY = 2;
+  private static final int NONEMPTY_ARRAY = 3;
+  private static final int EMPTY_OBJECT = 4;
+  private static final int NONEMPTY_OBJECT = 5;
+  private static final int DANGLING_NAME = 6;
+
+  // Null if all of the input is already in the buffer
+  private final Reader reader;
+  private char[] buf;
+  private int pos = 0;
+  private int limit;
+  // The offset in the input of the start of the buffer
+  private long offset = 0;
+
+  private int[] stack = new int[32];
+  private int depth = 1;
+
+  private Token peeked = null;
+  // The value of a peeked literal, or of a peeked number which fits in a long
+  private boolean peekedBoolean;
+  private long peekedLong;
+  // The text of a peeked number which does not fit in a long, or null
+  private String peekedNumber;
+
+  public JsonReader(Reader reader) {
+    this.reader = reader;
+    this.buf = new char[BUFFER_SIZE];
+    this.limit = 0;
+  }
+
+  /**
+   * A reader for UTF-8 encoded text from a byte stream
+   */
+  public JsonReader(InputStream in) {
+    this(new InputStreamReader(in, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * A reader for UTF-8 encoded text in a byte buffer, from its position to its limit
+   */
+  public JsonReader(ByteBuffer bytes) {
+    this(StandardCharsets.UTF_8.decode(bytes));
+  }
+
+  /**
+   * A reader for a string or other sequence of characters
+   */
+  public JsonReader(CharSequence text) {
+    this.reader = null;
+    if (text instanceof CharBuffer && ((CharBuffer) text).hasArray()) {
+      CharBuffer cb = (CharBuffer) text;
+      this.buf = Arrays.copyOfRange(cb.array(), cb.arrayOffset() + cb.position(), cb.arrayOffset() + cb.limit());
+    } else {
+      this.buf = text.toString().toCharArray();
+    }
+    this.limit = buf.length;
+  }
+
+  /**
+   * Parse a single JSON document
+   */
+  public static Value parse(CharSequence text) {
+    JsonReader reader = new JsonReader(text);
+    Value value = reader.readValue();
+    if (reader.peek() != Token.END_DOCUMENT) {
+      throw reader.error("unexpected data after the end of the document");
+    }
+    return value;
+  }
+
+  /**
+   * Parse a single JSON document from UTF-8 bytes
+   */
+  public static Value parse(byte[] bytes) {
+    return parse(StandardCharsets.UTF_8.decode(ByteBuffer.wrap(bytes)));
+  }
+
+  /**
+   * The kind of the next token, without consuming it
+   */
+  public Token peek() {
+    if (peeked == null) {
+      peeked = readToken();
+    }
+    return peeked;
+  }
+
+  /**
+   * Whether the current array or object has another element
+   */
+  public boolean hasNext() {
+    Token t = peek();
+    return t != Token.END_ARRAY && t != Token.END_OBJECT && t != Token.END_DOCUMENT;
+  }
+
+  public void beginArray() {
+    consume(Token.BEGIN_ARRAY);
+    push(EMPTY_ARRAY);
+  }
+
+  public void endArray() {
+    consume(Token.END_ARRAY);
+    depth--;
+  }
+
+  public void beginObject() {
+    consume(Token.BEGIN_OBJECT);
+    push(EMPTY_OBJECT);
+  }
+
+  public void endObject() {
+    consume(Token.END_OBJECT);
+    depth--;
+  }
+
+  /**
+   * Read the name of the next field of an object
+   */
+  public String nextName() {
+    consume(Token.NAME);
+    return readString();
+  }
+
+  /**
+   * Read the name of the next field of an object, and return its index in a table of expected names, or -1 if it is
+   * not one of them. Names are matched in place, without constructing a string, unless they contain escapes.
+   */
+  public int nextName(Names names) {
+    consume(Token.NAME);
+    int start = pos;
+    int end = start;
+    int hash = 0;
+    while (end < limit) {
+      char c = buf[end];
+      if (c == '"' || c == '\\' || c < 0x20) {
+        break;
+      }
+      hash = 31 * hash + c;
+      end++;
+    }
+    if (end < limit && buf[end] == '"') {
+      pos = end + 1;
+      return names.find(hash, buf, start, end - start);
+    }
+    // The name is escaped, contains a control character, or continues beyond the buffer
+    String name = readString();
+    return names.find(name.hashCode(), name.toCharArray(), 0, name.length());
+  }
+
+  public String nextString() {
+    consume(Token.STRING);
+    return readString();
+  }
+
+  public boolean nextBoolean() {
+    consume(Token.BOOLEAN);
+    return peekedBoolean;
+  }
+
+  public void nextNull() {
+    consume(Token.NULL);
+  }
+
+  /**
+   * Read a number as a long, failing if it is not an integer in the range of a long
+   */
+  public long nextLong() {
+    consume(Token.NUMBER);
+    if (peekedNumber == null) {
+      return peekedLong;
+    }
+    try {
+      return new BigDecimal(peekedNumber).longValueExact();
+    } catch (ArithmeticException e) {
+      throw error("expected a long, but found " + peekedNumber);
+    }
+  }
+
+  /**
+   * Read a number as an int, failing if it is not an integer in the range of an int
+   */
+  public int nextInt() {
+    long value = nextLong();
+    if ((int) value != value) {
+      throw error("expected an int, but found " + value);
+    }
+    return (int) value;
+  }
+
+  public double nextDouble() {
+    consume(Token.NUMBER);
+    return peekedNumber == null ? (double) peekedLong : Double.parseDouble(peekedNumber);
+  }
+
+  /**
+   * Read a number as a BigInteger, failing if it is not an integer
+   */
+  public BigInteger nextBigInteger() {
+    consume(Token.NUMBER);
+    if (peekedNumber == null) {
+      return BigInteger.valueOf(peekedLong);
+    }
+    try {
+      return new BigDecimal(peekedNumber).toBigIntegerExact();
+    } catch (ArithmeticException e) {
+      throw error("expected an integer, but found " + peekedNumber);
+    }
+  }
+
+  /**
+   * Read a number exactly, as it appears in the input
+   */
+  public BigDecimal nextBigDecimal() {
+    consume(Token.NUMBER);
+    return peekedNumber == null ? BigDecimal.valueOf(peekedLong) : new BigDecimal(peekedNumber);
+  }
+
+  /**
+   * Skip the next value, including any arrays and objects nested within it
+   */
+  public void skipValue() {
+    int level = 0;
+    do {
+      switch (peek()) {
+        case BEGIN_ARRAY:
+          beginArray();
+          level++;
+          break;
+        case BEGIN_OBJECT:
+          beginObject();
+          level++;
+          break;
+        case END_ARRAY:
+          endArray();
+          level--;
+          break;
+        case END_OBJECT:
+          endObject();
+          level--;
+          break;
+        case NAME:
+          nextName();
+          break;
+        case STRING:
+          nextString();
+          break;
+        case END_DOCUMENT:
+          throw error("unexpected end of input");
+        default:
+          peeked = null;
+      }
+    } while (level > 0);
+  }
+
+  /**
+   * Read the next value as a tree of JSON values
+   */
+  public Value readValue() {
+    switch (peek()) {
+      case BEGIN_ARRAY:
+        List<Value> elements = new ArrayList<>();
+        beginArray();
+        while (hasNext()) {
+          elements.add(readValue());
+        }
+        endArray();
+        return new Value.Array(elements);
+      case BEGIN_OBJECT:
+        Map<String, Value> fields = new LinkedHashMap<>();
+        beginObject();
+        while (hasNext()) {
+          String name = nextName();
+          fields.put(name, readValue());
+        }
+        endObject();
+        return new Value.Object_(fields);
+      case STRING:
+        return new Value.String_(nextString());
+      case NUMBER:
+        return new Value.Number_(nextDouble());
+      case BOOLEAN:
+        return new Value.Boolean_(nextBoolean());
+      case NULL:
+        nextNull();
+        return new Value.Null();
+      default:
+        throw error("expected a value, but found " + peek());
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (reader != null) {
+      reader.close();
+    }
+  }
+
+  /**
+   * A ParseException for the current position, for use by decoders built on this reader
+   */
+  public ParseException error(String message) {
+    return new ParseException(offset + pos, message);
+  }
+
+  private void consume(Token expected) {
+    Token t = peek();
+    if (t != expected) {
+      throw error("expected " + expected + ", but found " + t);
+    }
+    peeked = null;
+  }
+
+  private void push(int state) {
+    if (depth == MAX_DEPTH) {
+      throw error("maximum nesting depth exceeded");
+    }
+    if (depth == stack.length) {
+      stack = Arrays.copyOf(stack, depth * 2);
+    }
+    stack[depth++] = state;
+  }
+
+  private Token readToken() {
+    int state = stack[depth - 1];
+    int c;
+    switch (state) {
+      case EMPTY_ARRAY:
+        stack[depth - 1] = NONEMPTY_ARRAY;
+        c = nextNonWhitespace();
+        if (c == ']') {
+          return Token.END_ARRAY;
+        }
+        pos--;
+        break;
+      case NONEMPTY_ARRAY:
+        c = nextNonWhitespace();
+        if (c == ']') {
+          return Token.END_ARRAY;
+        } else if (c != ',') {
+          throw error("expected ',' or ']'");
+        }
+        break;
+      case EMPTY_OBJECT:
+      case NONEMPTY_OBJECT:
+        stack[depth - 1] = DANGLING_NAME;
+        c = nextNonWhitespace();
+        if (c == '}') {
+          return Token.END_OBJECT;
+        }
+        if (state == NONEMPTY_OBJECT) {
+          if (c != ',') {
+            throw error("expected ',' or '}'");
+          }
+          c = nextNonWhitespace();
+        }
+        if (c != '"') {
+          throw error("expected a name");
+        }
+        return Token.NAME;
+      case DANGLING_NAME:
+        stack[depth - 1] = NONEMPTY_OBJECT;
+        if (nextNonWhitespace() != ':') {
+          throw error("expected ':'");
+        }
+        break;
+      case EMPTY_DOCUMENT:
+        stack[depth - 1] = NONEMPTY_DOCUMENT;
+        if (nextNonWhitespace() == -1) {
+          return Token.END_DOCUMENT;
+        }
+        pos--;
+        break;
+      default:
+        // A further document, if any
+        if (nextNonWhitespace() == -1) {
+          return Token.END_DOCUMENT;
+        }
+        pos--;
+    }
+
+    c = nextNonWhitespace();
+    switch (c) {
+      case '[':
+        return Token.BEGIN_ARRAY;
+      case '{':
+        return Token.BEGIN_OBJECT;
+      case '"':
+        return Token.STRING;
+      case 't':
+        expectLiteral("rue");
+        peekedBoolean = true;
+        return Token.BOOLEAN;
+      case 'f':
+        expectLiteral("alse");
+        peekedBoolean = false;
+        return Token.BOOLEAN;
+      case 'n':
+        expectLiteral("ull");
+        return Token.NULL;
+      case -1:
+        throw error("unexpected end of input");
+      default:
+        if (c == '-' || (c >= '0' && c <= '9')) {
+          pos--;
+          readNumber();
+          return Token.NUMBER;
+        }
+        throw error("unexpected character: '" + (char) c + "'");
+    }
+  }
+
+  private int nextNonWhitespace() {
+    while (true) {
+      if (pos == limit && !fill(0)) {
+        return -1;
+      }
+      char c = buf[pos++];
+      if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+        return c;
+      }
+    }
+  }
+
+  private void expectLiteral(String rest) {
+    for (int i = 0; i < rest.length(); i++) {
+      if (pos == limit && !fill(0)) {
+        throw error("unexpected end of input");
+      }
+      if (buf[pos++] != rest.charAt(i)) {
+        throw error("invalid literal");
+      }
+    }
+  }
+
+  private void readNumber() {
+    // Make sure that a number in the buffer is not cut short by the end of the buffer
+    int start = pos;
+    int i = pos;
+    while (true) {
+      if (i == limit) {
+        int kept = i - start;
+        // Filling the buffer moves its contents, even at the end of the input
+        boolean more = fill(kept);
+        start = pos;
+        i = start + kept;
+        if (!more) {
+          break;
+        }
+        continue;
+      }
+      char c = buf[i];
+      if ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+        i++;
+      } else {
+        break;
+      }
+    }
+    int end = i;
+    pos = end;
+
+    // The fast path: an integer of at most 18 digits
+    boolean negative = buf[start] == '-';
+    int digitsStart = negative ? start + 1 : start;
+    int digits = end - digitsStart;
+    if (digits > 0 && digits <= 18) {
+      long value = 0;
+      int j = digitsStart;
+      while (j < end && buf[j] >= '0' && buf[j] <= '9') {
+        value = value * 10 + (buf[j] - '0');
+        j++;
+      }
+      if (j == end) {
+        if (digits > 1 && buf[digitsStart] == '0') {
+          throw error("leading zeros are not allowed");
+        }
+        peekedLong = negative ? -value : value;
+        peekedNumber = null;
+        return;
+      }
+    }
+    String text = new String(buf, start, end - start);
+    if (!isValidNumber(text)) {
+      throw error("invalid number: " + text);
+    }
+    peekedNumber = text;
+  }
+
+  private static boolean isValidNumber(String s) {
+    int i = 0;
+    int n = s.length();
+    if (i < n && s.charAt(i) == '-') {
+      i++;
+    }
+    int intStart = i;
+    while (i < n && Character.isDigit(s.charAt(i))) {
+      i++;
+    }
+    if (i == intStart || (i - intStart > 1 && s.charAt(intStart) == '0')) {
+      return false;
+    }
+    if (i < n && s.charAt(i) == '.') {
+      int fracStart = ++i;
+      while (i < n && Character.isDigit(s.charAt(i))) {
+        i++;
+      }
+      if (i == fracStart) {
+        return false;
+      }
+    }
+    if (i < n && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+      i++;
+      if (i < n && (s.charAt(i) == '+' || s.charAt(i) == '-')) {
+        i++;
+      }
+      int expStart = i;
+      while (i < n && Character.isDigit(s.charAt(i))) {
+        i++;
+      }
+      if (i == expStart) {
+        return false;
+      }
+    }
+    return i == n;
+  }
+
+  // Read the rest of a string whose opening quote has been consumed
+  private String readString() {
+    // The fast path: a string without escapes or control characters, entirely within the buffer
+    for (int i = pos; i < limit; i++) {
+      char c = buf[i];
+      if (c == '"') {
+        String s = new String(buf, pos, i - pos);
+        pos = i + 1;
+        return s;
+      } else if (c == '\\' || c < 0x20) {
+        break;
+      }
+    }
+
+    StringBuilder sb = new StringBuilder();
+    while (true) {
+      if (pos == limit && !fill(0)) {
+        throw error("unterminated string");
+      }
+      char c = buf[pos++];
+      if (c == '"') {
+        return sb.toString();
+      } else if (c == '\\') {
+        sb.append(readEscape());
+      } else if (c < 0x20) {
+        throw error("unescaped control character in string");
+      } else {
+        sb.append(c);
+      }
+    }
+  }
+
+  private char readEscape() {
+    if (pos == limit && !fill(0)) {
+      throw error("unterminated escape sequence");
+    }
+    char c = buf[pos++];
+    switch (c) {
+      case '"':
+      case '\\':
+      case '/':
+        return c;
+      case 'b':
+        return '\b';
+      case 'f':
+        return '\f';
+      case 'n':
+        return '\n';
+      case 'r':
+        return '\r';
+      case 't':
+        return '\t';
+      case 'u':
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+          if (pos == limit && !fill(0)) {
+            throw error("unterminated escape sequence");
+          }
+          int digit = Character.digit(buf[pos++], 16);
+          if (digit < 0) {
+            throw error("invalid escape sequence");
+          }
+          value = (value << 4) | digit;
+        }
+        return (char) value;
+      default:
+        throw error("invalid escape sequence: \\" + c);
+    }
+  }
+
+  // Read more input, keeping the given number of characters before the end of the buffer, which are moved to the
+  // position of the reader. Returns false if there is no more input.
+  private boolean fill(int keep) {
+    if (reader == null) {
+      return false;
+    }
+    int from = limit - keep;
+    if (keep == buf.length) {
+      buf = Arrays.copyOf(buf, buf.length * 2);
+    } else {
+      System.arraycopy(buf, from, buf, 0, keep);
+    }
+    offset += from;
+    pos = 0;
+    limit = keep;
+    try {
+      while (limit < buf.length) {
+        int n = reader.read(buf, limit, buf.length - limit);
+        if (n < 0) {
+          break;
+        } else if (n > 0) {
+          limit += n;
+          break;
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return limit > keep;
+  }
+
+  /**
+   * A table of the field names expected in an object, for {@link #nextName(Names)}. A table may be shared between
+   * readers and threads.
+   */
+  public static final class Names {
+    private final String[] names;
+    // Open addressing; each slot holds one more than the index of a name, or zero if it is empty
+    private final int[] slots;
+    private final int mask;
+
+    public Names(String... names) {
+      this.names = names.clone();
+      int capacity = Integer.highestOneBit(Math.max(names.length, 1) * 4 - 1) << 1;
+      this.slots = new int[capacity];
+      this.mask = capacity - 1;
+      for (int i = 0; i < names.length; i++) {
+        int h = spread(names[i].hashCode());
+        while (slots[h] != 0 && !names[slots[h] - 1].equals(names[i])) {
+          h = (h + 1) & mask;
+        }
+        if (slots[h] == 0) {
+          slots[h] = i + 1;
+        }
+      }
+    }
+
+    public int size() {
+      return names.length;
+    }
+
+    public String get(int index) {
+      return names[index];
+    }
+
+    /**
+     * The index of a name, or -1 if it is not in the table
+     */
+    public int indexOf(String name) {
+      return find(name.hashCode(), name.toCharArray(), 0, name.length());
+    }
+
+    // Find a name given its String.hashCode and its characters
+    int find(int hash, char[] chars, int start, int len) {
+      for (int h = spread(hash); slots[h] != 0; h = (h + 1) & mask) {
+        String name = names[slots[h] - 1];
+        if (name.length() == len && matches(name, chars, start)) {
+          return slots[h] - 1;
+        }
+      }
+      return -1;
+    }
+
+    private int spread(int hash) {
+      return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static boolean matches(String name, char[] chars, int start) {
+      for (int i = 0; i < name.length(); i++) {
+        if (chars[start + i] != name.charAt(i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  /**
+   * A syntax error in JSON input
+   */
+  public static class ParseException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The offset, in characters, of the error in the input
+     */
+    public final long offset;
+
+    public ParseException(long offset, String message) {
+      super("at character " + offset + ": " + message);
+      this.offset = offset;
+    }
+  }
+}
@@ -0,0 +1,463 @@
+package hydra.langs.json;
+
+import hydra.langs.json.model.Value;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A streaming JSON writer, which writes compact JSON text token by token to a character stream, or as UTF-8 directly to
+ * a byte stream. Values are written as they are produced, so that a document of any size may be written without
+ * first building a tree of JSON values; {@link #write(Value)} is provided for when such a tree already exists.
+ * Several documents may be written one after another, in which case they are separated by newlines (as in JSON Lines).
+ * I/O errors are rethrown as UncheckedIOExceptions, and misuse of the writer, such as a name outside of an object,
+ * as IllegalStateExceptions. A writer is not thread-safe.
+ */
+public class JsonWriter implements Closeable, Flushable {
+  private static final int BUFFER_SIZE = 8192;
+
+  // The states of the writer within each level of nesting
+  private static final int EMPTY_DOCUMENT = 0;
+  private static final int NONEMPTY_DOCUMENT = 1;
+  private static final int EMPTY_ARRAY = 2;
+  private static final int NONEMPTY_ARRAY = 3;
+  private static final int EMPTY_OBJECT = 4;
+  private static final int NONEMPTY_OBJECT = 5;
+  private static final int DANGLING_NAME = 6;
+
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  // Exactly one of these is non-null
+  private final Writer writer;
+  private final OutputStream out;
+
+  private final char[] buf = new char[BUFFER_SIZE];
+  private int pos = 0;
+  private byte[] bytes;
+
+  private int[] stack = new int[32];
+  private int depth = 1;
+
+  /**
+   * A writer which writes characters to a character stream
+   */
+  public JsonWriter(Writer writer) {
+    this.writer = writer;
+    this.out = null;
+  }
+
+  /**
+   * A writer which writes UTF-8 encoded text to a byte stream
+   */
+  public JsonWriter(OutputStream out) {
+    this.writer = null;
+    this.out = out;
+    this.bytes = new byte[BUFFER_SIZE * 3];
+  }
+
+  /**
+   * Encode a JSON value as compact UTF-8 text
+   */
+  public static byte[] toBytes(Value value) {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try (JsonWriter writer = new JsonWriter(bos)) {
+      writer.write(value);
+    }
+    return bos.toByteArray();
+  }
+
+  /**
+   * Encode a JSON value as compact UTF-8 text in a new byte buffer, ready to be read
+   */
+  public static ByteBuffer toByteBuffer(Value value) {
+    return ByteBuffer.wrap(toBytes(value));
+  }
+
+  /**
+   * Encode a JSON value as a compact JSON string
+   */
+  public static String toString(Value value) {
+    StringWriter sw = new StringWriter();
+    try (JsonWriter writer = new JsonWriter(sw)) {
+      writer.write(value);
+    }
+    return sw.toString();
+  }
+
+  public JsonWriter beginArray() {
+    beforeValue();
+    push(EMPTY_ARRAY);
+    append('[');
+    return this;
+  }
+
+  public JsonWriter endArray() {
+    return end(EMPTY_ARRAY, NONEMPTY_ARRAY, ']');
+  }
+
+  public JsonWriter beginObject() {
+    beforeValue();
+    push(EMPTY_OBJECT);
+    append('{');
+    return this;
+  }
+
+  public JsonWriter endObject() {
+    return end(EMPTY_OBJECT, NONEMPTY_OBJECT, '}');
+  }
+
+  /**
+   * Write the name of the next field of an object
+   */
+  public JsonWriter name(String name) {
+    int state = stack[depth - 1];
+    if (state == NONEMPTY_OBJECT) {
+      append(',');
+    } else if (state != EMPTY_OBJECT) {
+      throw new IllegalStateException("a name is only allowed within an object, before a value");
+    }
+    stack[depth - 1] = DANGLING_NAME;
+    string(name);
+    append(':');
+    return this;
+  }
+
+  public JsonWriter value(String value) {
+    if (value == null) {
+      return nullValue();
+    }
+    beforeValue();
+    string(value);
+    return this;
+  }
+
+  public JsonWriter value(boolean value) {
+    beforeValue();
+    raw(value ? "true" : "false");
+    return this;
+  }
+
+  public JsonWriter value(long value) {
+    beforeValue();
+    raw(Long.toString(value));
+    return this;
+  }
+
+  /**
+   * Write a number. Integral values of moderate size are written without a fractional part.
+   */
+  public JsonWriter value(double value) {
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      throw new IllegalArgumentException("JSON numbers must be finite: " + value);
+    }
+    beforeValue();
+    if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+      raw(Long.toString((long) value));
+    } else {
+      raw(Double.toString(value));
+    }
+    return this;
+  }
+
+  /**
+   * Write a single-precision number, using the shortest decimal representation which identifies it
+   */
+  public JsonWriter value(float value) {
+    if (Float.isNaN(value) || Float.isInfinite(value)) {
+      throw new IllegalArgumentException("JSON numbers must be finite: " + value);
+    }
+    beforeValue();
+    if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+      raw(Long.toString((long) value));
+    } else {
+      raw(Float.toString(value));
+    }
+    return this;
+  }
+
+  public JsonWriter value(BigInteger value) {
+    beforeValue();
+    raw(value.toString());
+    return this;
+  }
+
+  public JsonWriter value(BigDecimal value) {
+    beforeValue();
+    raw(value.toString());
+    return this;
+  }
+
+  public JsonWriter nullValue() {
+    beforeValue();
+    raw("null");
+    return this;
+  }
+
+  /**
+   * Write a JSON value
+   */
+  public JsonWriter write(Value value) {
+    value.accept(valueWriter);
+    return this;
+  }
+
+  /**
+   * Write an array of JSON values
+   */
+  public JsonWriter write(List<Value> values) {
+    beginArray();
+    for (Value value : values) {
+      write(value);
+    }
+    return endArray();
+  }
+
+  // Allocated once per writer, rather than once per value
+  private final Value.Visitor<Void> valueWriter = new Value.Visitor<Void>() {
+    @Override
+    public Void visit(Value.Array instance) {
+      beginArray();
+      for (Value element : instance.value) {
+        write(element);
+      }
+      endArray();
+      return null;
+    }
+
+    @Override
+    public Void visit(Value.Boolean_ instance) {
+      value(instance.value);
+      return null;
+    }
+
+    @Override
+    public Void visit(Value.Null instance) {
+      nullValue();
+      return null;
+    }
+
+    @Override
+    public Void visit(Value.Number_ instance) {
+      value(instance.value);
+      return null;
+    }
+
+    @Override
+    public Void visit(Value.Object_ instance) {
+      beginObject();
+      for (Map.Entry<String, Value> entry : instance.value.entrySet()) {
+        name(entry.getKey());
+        write(entry.getValue());
+      }
+      endObject();
+      return null;
+    }
+
+    @Override
+    public Void visit(Value.String_ instance) {
+      value(instance.value);
+      return null;
+    }
+  };
+
+  @Override
+  public void flush() {
+    drain();
+    try {
+      if (writer != null) {
+        writer.flush();
+      } else {
+        out.flush();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Flush all output. The underlying stream is left open.
+   */
+  @Override
+  public void close() {
+    if (depth > 1) {
+      throw new IllegalStateException("incomplete document");
+    }
+    flush();
+  }
+
+  private void beforeValue() {
+    int state = stack[depth - 1];
+    switch (state) {
+      case EMPTY_DOCUMENT:
+        stack[depth - 1] = NONEMPTY_DOCUMENT;
+        break;
+      case NONEMPTY_DOCUMENT:
+        append('\n');
+        break;
+      case EMPTY_ARRAY:
+        stack[depth - 1] = NONEMPTY_ARRAY;
+        break;
+      case NONEMPTY_ARRAY:
+        append(',');
+        break;
+      case DANGLING_NAME:
+        stack[depth - 1] = NONEMPTY_OBJECT;
+        break;
+      default:
+        throw new IllegalStateException("a value within an object must be preceded by a name");
+    }
+  }
+
+  private void push(int state) {
+    if (depth == stack.length) {
+      stack = Arrays.copyOf(stack, depth * 2);
+    }
+    stack[depth++] = state;
+  }
+
+  private JsonWriter end(int empty, int nonempty, char bracket) {
+    int state = stack[depth - 1];
+    if (state != empty && state != nonempty) {
+      throw new IllegalStateException("unbalanced '" + bracket + "'");
+    }
+    depth--;
+    append(bracket);
+    return this;
+  }
+
+  private void append(char c) {
+    if (pos == buf.length) {
+      drain();
+    }
+    buf[pos++] = c;
+  }
+
+  private void raw(String s) {
+    copy(s, 0, s.length());
+  }
+
+  // Write a quoted string, copying runs of characters which need no escaping in bulk
+  private void string(String s) {
+    append('"');
+    int len = s.length();
+    int run = 0;
+    for (int i = 0; i < len; i++) {
+      char c = s.charAt(i);
+      if (c >= 0x20 && c != '"' && c != '\\') {
+        continue;
+      }
+      copy(s, run, i);
+      run = i + 1;
+      switch (c) {
+        case '"':
+          append('\\');
+          append('"');
+          break;
+        case '\\':
+          append('\\');
+          append('\\');
+          break;
+        case '\n':
+          append('\\');
+          append('n');
+          break;
+        case '\r':
+          append('\\');
+          append('r');
+          break;
+        case '\t':
+          append('\\');
+          append('t');
+          break;
+        case '\b':
+          append('\\');
+          append('b');
+          break;
+        case '\f':
+          append('\\');
+          append('f');
+          break;
+        default:
+          append('\\');
+          append('u');
+          append('0');
+          append('0');
+          append(HEX[c >> 4]);
+          append(HEX[c & 0xf]);
+      }
+    }
+    copy(s, run, len);
+    append('"');
+  }
+
+  private void copy(String s, int from, int to) {
+    while (from < to) {
+      if (pos == buf.length) {
+        drain();
+      }
+      int n = Math.min(to - from, buf.length - pos);
+      s.getChars(from, from + n, buf, pos);
+      pos += n;
+      from += n;
+    }
+  }
+
+  // Pass the buffered characters to the underlying stream
+  private void drain() {
+    try {
+      if (writer != null) {
+        writer.write(buf, 0, pos);
+        pos = 0;
+      } else {
+        // A high surrogate at the end of the buffer is held back until its low surrogate arrives
+        int end = pos > 0 && Character.isHighSurrogate(buf[pos - 1]) ? pos - 1 : pos;
+        out.write(bytes, 0, encodeUtf8(end));
+        if (end < pos) {
+          buf[0] = buf[end];
+        }
+        pos -= end;
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private int encodeUtf8(int end) {
+    byte[] b = bytes;
+    int n = 0;
+    for (int i = 0; i < end; i++) {
+      char c = buf[i];
+      if (c < 0x80) {
+        b[n++] = (byte) c;
+      } else if (c < 0x800) {
+        b[n++] = (byte) (0xc0 | (c >> 6));
+        b[n++] = (byte) (0x80 | (c & 0x3f));
+      } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(buf[i + 1])) {
+        int cp = Character.toCodePoint(c, buf[++i]);
+        b[n++] = (byte) (0xf0 | (cp >> 18));
+        b[n++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+        b[n++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+        b[n++] = (byte) (0x80 | (cp & 0x3f));
+      } else if (Character.isSurrogate(c)) {
+        // An unpaired surrogate cannot be encoded
+        b[n++] = (byte) '?';
+      } else {
+        b[n++] = (byte) (0xe0 | (c >> 12));
+        b[n++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+        b[n++] = (byte) (0x80 | (c & 0x3f));
+      }
+    }
+    return n;
+  }
+}
@@ -0,0 +1,64 @@
+package hydra.langs.json;
+
+import hydra.compute.Coder;
+import hydra.compute.Flow;
+import hydra.core.Term;
+import hydra.core.Type;
+import hydra.graph.Graph;
+import hydra.langs.json.model.Value;
+import java.nio.charset.StandardCharsets;
+
+import static hydra.Flows.fail;
+import static hydra.Flows.map;
+import static hydra.Flows.map2;
+import static hydra.Flows.pure;
+
+/**
+ * Serialization and deserialization of JSON values and typed terms, following Hydra.Langs.Json.Serde
+ */
+public interface Serde {
+  static byte[] jsonValueToBytes(Value value) {
+    return JsonWriter.toBytes(value);
+  }
+
+  static String jsonValueToString(Value value) {
+    return JsonWriter.toString(value);
+  }
+
+  static <S> Flow<S, Value> bytesToJsonValue(byte[] bytes) {
+    try {
+      return pure(JsonReader.parse(bytes));
+    } catch (JsonReader.ParseException e) {
+      return fail("JSON parsing failed: " + e.getMessage());
+    }
+  }
+
+  static <S> Flow<S, Value> stringToJsonValue(String s) {
+    try {
+      return pure(JsonReader.parse(s));
+    } catch (JsonReader.ParseException e) {
+      return fail("JSON parsing failed: " + e.getMessage());
+    }
+  }
+
+  /**
+   * A coder between terms of the given type and compact JSON in UTF-8. Terms are encoded straight to bytes, and
+   * decoded straight from bytes, without building JSON values.
+   */
+  static <A> Flow<Graph<A>, Coder<Graph<A>, Graph<A>, Term<A>, byte[]>> jsonByteStringCoder(Type<A> type) {
+    return map2(JsonCoder.<Graph<A>, A>jsonEncoder(type), JsonCoder.<Graph<A>, A>jsonDecoder(type),
+        (encoder, decoder) -> new Coder<>(
+            term -> JsonCoder.encodeToBytes(encoder, term),
+            bytes -> JsonCoder.decodeFromBytes(decoder, bytes)));
+  }
+
+  /**
+   * A coder between terms of the given type and compact JSON strings
+   */
+  static <A> Flow<Graph<A>, Coder<Graph<A>, Graph<A>, Term<A>, String>> jsonStringCoder(Type<A> type) {
+    return map2(JsonCoder.<Graph<A>, A>jsonEncoder(type), JsonCoder.<Graph<A>, A>jsonDecoder(type),
+        (encoder, decoder) -> new Coder<>(
+            term -> map(JsonCoder.encodeToBytes(encoder, term), bytes -> new String(bytes, StandardCharsets.UTF_8)),
+            s -> JsonCoder.decodeFromString(decoder, s)));
+  }
+}
@@ -0,0 +1,567 @@
+package hydra.langs.rdf;
+
+import hydra.langs.rdf.syntax.BlankNode;
+import hydra.langs.rdf.syntax.Description;
+import hydra.langs.rdf.syntax.Graph;
+import hydra.langs.rdf.syntax.Iri;
+import hydra.langs.rdf.syntax.LanguageTag;
+import hydra.langs.rdf.syntax.Literal;
+import hydra.langs.rdf.syntax.Node;
+import hydra.langs.rdf.syntax.Quad;
+import hydra.langs.rdf.syntax.Resource;
+import hydra.langs.rdf.syntax.Triple;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFParser;
+import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.rio.helpers.AbstractRDFHandler;
+
+/**
+ * A streaming reader for N-Triples and N-Quads, which produces quads one at a time as they are read.
+ * The reader works directly on bytes, a buffer at a time, so that only the current buffer and a bounded table of
+ * interned IRIs are held in memory however large the input is. IRIs are interned by their bytes, so that repeated IRIs
+ * (predicates and datatypes in particular) are neither decoded nor allocated more than once while they remain in the
+ * table. Files may be opened directly; see open(Path).
+ * Other RDF formats are read through rio; see parse(InputStream, RDFFormat, Consumer).
+ * A reader is not thread-safe.
+ */
+public class NtriplesReader implements Iterator<Quad>, AutoCloseable {
+  /**
+   * The default size, in bytes, of the read buffer. Lines longer than the buffer are accommodated by growing it.
+   */
+  public static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+
+  private static final String XSD_STRING = "http://www.w3.org/2001/XMLSchema#string";
+  private static final String RDF_LANG_STRING = "http://www.w3.org/1999/02/22-rdf-syntax-ns#langString";
+
+  private final InputStream in;
+  private final IriTable iris = new IriTable();
+  private final Iri xsdString = new Iri(XSD_STRING);
+  private final Iri rdfLangString = new Iri(RDF_LANG_STRING);
+
+  private byte[] buf;
+  // The bounds of the unread bytes in the buffer
+  private int start = 0;
+  private int limit = 0;
+  private boolean eof = false;
+  private long lineNumber = 0;
+
+  // The position within, and the end of, the line being parsed
+  private int p;
+  private int end;
+
+  private Quad next;
+
+  public NtriplesReader(InputStream in) {
+    this(in, DEFAULT_BUFFER_SIZE);
+  }
+
+  public NtriplesReader(InputStream in, int bufferSize) {
+    this.in = in;
+    this.buf = new byte[bufferSize];
+  }
+
+  /**
+   * A reader for a file, which is read a buffer at a time like any other input stream
+   */
+  public static NtriplesReader open(Path file) throws IOException {
+    return new NtriplesReader(Files.newInputStream(file));
+  }
+
+  /**
+   * Read RDF in any format supported by rio, passing each statement to a handler as a quad.
+   * The statements are pushed to the handler as they are parsed, so that the input is never held in memory as a whole;
+   * for N-Triples and N-Quads, prefer the faster NtriplesReader itself.
+   */
+  public static void parse(InputStream in, RDFFormat format, Consumer<Quad> handler) throws IOException {
+    RDFParser parser = Rio.createParser(format);
+    parser.setRDFHandler(new AbstractRDFHandler() {
+      @Override
+      public void handleStatement(Statement st) {
+        Optional<Iri> graph = st.getContext() instanceof IRI
+            ? Optional.of(new Iri(st.getContext().stringValue()))
+            : Optional.empty();
+        handler.accept(new Quad(toResource(st.getSubject()), new Iri(st.getPredicate().stringValue()),
+            toNode(st.getObject()), graph));
+      }
+    });
+    parser.parse(in, "");
+  }
+
+  /**
+   * The number of the line most recently read
+   */
+  public long lineNumber() {
+    return lineNumber;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null) {
+      next = readQuad();
+    }
+    return next != null;
+  }
+
+  @Override
+  public Quad next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    Quad quad = next;
+    next = null;
+    return quad;
+  }
+
+  /**
+   * Pass each remaining quad to a handler
+   */
+  public void forEachQuad(Consumer<Quad> handler) {
+    while (hasNext()) {
+      handler.accept(next());
+    }
+  }
+
+  /**
+   * The remaining statements as triples. Graph names, which appear only in N-Quads, are ignored.
+   */
+  public Iterator<Triple> triples() {
+    return new Iterator<Triple>() {
+      @Override
+      public boolean hasNext() {
+        return NtriplesReader.this.hasNext();
+      }
+
+      @Override
+      public Triple next() {
+        Quad quad = NtriplesReader.this.next();
+        return new Triple(quad.subject, quad.predicate, quad.object);
+      }
+    };
+  }
+
+  /**
+   * The remaining statements as descriptions, one for each run of consecutive statements with the same subject.
+   * Dumps are usually grouped by subject, so that each description holds all of the statements about its subject, and
+   * only one description is held in memory at a time. Graph names are ignored.
+   */
+  public Iterator<Description> descriptions() {
+    Iterator<Triple> triples = triples();
+    return new Iterator<Description>() {
+      private Triple pending;
+
+      @Override
+      public boolean hasNext() {
+        return pending != null || triples.hasNext();
+      }
+
+      @Override
+      public Description next() {
+        Triple first = pending != null ? pending : triples.next();
+        pending = null;
+        Set<Triple> group = new LinkedHashSet<>();
+        group.add(first);
+        while (triples.hasNext()) {
+          Triple triple = triples.next();
+          if (!triple.subject.equals(first.subject)) {
+            pending = triple;
+            break;
+          }
+          group.add(triple);
+        }
+        return new Description(toNode(first.subject), new Graph(group));
+      }
+    };
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+  private Quad readQuad() {
+    while (nextLine()) {
+      skipWhitespace();
+      if (p == end || buf[p] == '#') {
+        continue;
+      }
+      Resource subject = readResource();
+      skipWhitespace();
+      Iri predicate = readIri();
+      skipWhitespace();
+      Node object = readNode();
+      skipWhitespace();
+      Optional<Iri> graph = Optional.empty();
+      if (p < end && buf[p] == '<') {
+        graph = Optional.of(readIri());
+        skipWhitespace();
+      } else if (p < end && buf[p] == '_') {
+        throw error("blank node graph names are not supported");
+      }
+      expect('.');
+      skipWhitespace();
+      if (p < end && buf[p] != '#') {
+        throw error("unexpected characters after end of statement");
+      }
+      return new Quad(subject, predicate, object, graph);
+    }
+    return null;
+  }
+
+  // Advance to the next complete line, setting p and end to its bounds, or return false at the end of the input
+  private boolean nextLine() {
+    int i = start;
+    while (true) {
+      while (i < limit && buf[i] != '\n') {
+        i++;
+      }
+      if (i < limit) {
+        p = start;
+        end = i > start && buf[i - 1] == '\r' ? i - 1 : i;
+        start = i + 1;
+        lineNumber++;
+        return true;
+      }
+      if (eof) {
+        if (start == limit) {
+          return false;
+        }
+        // A final line without a line break
+        p = start;
+        end = limit;
+        start = limit;
+        lineNumber++;
+        return true;
+      }
+      int scanned = i - start;
+      fill();
+      i = start + scanned;
+    }
+  }
+
+  // Move the unread bytes to the front of the buffer, growing it if it is full, and read more input
+  private void fill() {
+    int remaining = limit - start;
+    if (remaining == buf.length) {
+      buf = Arrays.copyOf(buf, buf.length * 2);
+    } else if (start > 0) {
+      System.arraycopy(buf, start, buf, 0, remaining);
+    }
+    start = 0;
+    limit = remaining;
+    try {
+      int n = in.read(buf, limit, buf.length - limit);
+      if (n < 0) {
+        eof = true;
+      } else {
+        limit += n;
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void skipWhitespace() {
+    while (p < end && (buf[p] == ' ' || buf[p] == '\t')) {
+      p++;
+    }
+  }
+
+  private void expect(char c) {
+    if (p >= end || buf[p] != c) {
+      throw error("expected '" + c + "'");
+    }
+    p++;
+  }
+
+  private Resource readResource() {
+    if (p < end && buf[p] == '_') {
+      return new Resource.Bnode(readBlankNode());
+    }
+    return iris.lookup(buf, p + 1, scanIri()).asResource();
+  }
+
+  private Node readNode() {
+    if (p < end && buf[p] == '"') {
+      return new Node.Literal(readLiteral());
+    } else if (p < end && buf[p] == '_') {
+      return new Node.Bnode(readBlankNode());
+    }
+    return iris.lookup(buf, p + 1, scanIri()).asNode();
+  }
+
+  private Iri readIri() {
+    return iris.lookup(buf, p + 1, scanIri()).iri;
+  }
+
+  // Advance past an IRI reference, returning the position of its closing bracket
+  private int scanIri() {
+    expect('<');
+    while (p < end && buf[p] != '>') {
+      byte b = buf[p];
+      if (b == ' ' || b == '<' || b == '"') {
+        throw error("illegal character in IRI");
+      }
+      p++;
+    }
+    if (p == end) {
+      throw error("unterminated IRI");
+    }
+    return p++;
+  }
+
+  private BlankNode readBlankNode() {
+    expect('_');
+    expect(':');
+    int from = p;
+    while (p < end && buf[p] != ' ' && buf[p] != '\t' && buf[p] != '<' && buf[p] != '"') {
+      p++;
+    }
+    // A label may contain, but not end with, a period; a period at the end terminates the statement
+    while (p > from && buf[p - 1] == '.') {
+      p--;
+    }
+    if (p == from) {
+      throw error("empty blank node label");
+    }
+    return new BlankNode(new String(buf, from, p - from, StandardCharsets.UTF_8));
+  }
+
+  private Literal readLiteral() {
+    expect('"');
+    int from = p;
+    boolean escaped = false;
+    while (p < end && buf[p] != '"') {
+      if (buf[p] == '\\') {
+        escaped = true;
+        p++;
+      }
+      p++;
+    }
+    if (p >= end) {
+      throw error("unterminated string literal");
+    }
+    String lexicalForm = escaped ? unescape(buf, from, p) : new String(buf, from, p - from, StandardCharsets.UTF_8);
+    p++;
+
+    if (p < end && buf[p] == '@') {
+      int tagFrom = ++p;
+      while (p < end && (isAlphanumeric(buf[p]) || buf[p] == '-')) {
+        p++;
+      }
+      if (p == tagFrom) {
+        throw error("empty language tag");
+      }
+      LanguageTag tag = new LanguageTag(new String(buf, tagFrom, p - tagFrom, StandardCharsets.US_ASCII));
+      return new Literal(lexicalForm, rdfLangString, Optional.of(tag));
+    } else if (p + 1 < end && buf[p] == '^' && buf[p + 1] == '^') {
+      p += 2;
+      return new Literal(lexicalForm, readIri(), Optional.empty());
+    } else {
+      return new Literal(lexicalForm, xsdString, Optional.empty());
+    }
+  }
+
+  private static boolean isAlphanumeric(byte b) {
+    return (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z') || (b >= '0' && b <= '9');
+  }
+
+  // Decode a string which contains escape sequences (ECHAR or UCHAR)
+  private String unescape(byte[] bytes, int from, int to) {
+    String raw = new String(bytes, from, to - from, StandardCharsets.UTF_8);
+    StringBuilder sb = new StringBuilder(raw.length());
+    for (int i = 0; i < raw.length(); i++) {
+      char c = raw.charAt(i);
+      if (c != '\\') {
+        sb.append(c);
+        continue;
+      }
+      if (++i == raw.length()) {
+        throw error("incomplete escape sequence");
+      }
+      char e = raw.charAt(i);
+      switch (e) {
+        case 't':
+          sb.append('\t');
+          break;
+        case 'b':
+          sb.append('\b');
+          break;
+        case 'n':
+          sb.append('\n');
+          break;
+        case 'r':
+          sb.append('\r');
+          break;
+        case 'f':
+          sb.append('\f');
+          break;
+        case '"':
+        case '\'':
+        case '\\':
+          sb.append(e);
+          break;
+        case 'u':
+        case 'U':
+          int digits = e == 'u' ? 4 : 8;
+          if (i + digits >= raw.length()) {
+            throw error("incomplete escape sequence");
+          }
+          try {
+            sb.appendCodePoint(Integer.parseInt(raw.substring(i + 1, i + 1 + digits), 16));
+          } catch (IllegalArgumentException ex) {
+            throw error("invalid escape sequence");
+          }
+          i += digits;
+          break;
+        default:
+          throw error("invalid escape sequence: \\" + e);
+      }
+    }
+    return sb.toString();
+  }
+
+  private ParseException error(String message) {
+    return new ParseException(lineNumber, message);
+  }
+
+  private static Resource toResource(Value value) {
+    return value instanceof BNode
+        ? new Resource.Bnode(new BlankNode(((BNode) value).getID()))
+        : new Resource.Iri(new Iri(value.stringValue()));
+  }
+
+  private static Node toNode(Value value) {
+    if (value instanceof org.eclipse.rdf4j.model.Literal) {
+      org.eclipse.rdf4j.model.Literal lit = (org.eclipse.rdf4j.model.Literal) value;
+      return new Node.Literal(new Literal(lit.getLabel(), new Iri(lit.getDatatype().stringValue()),
+          lit.getLanguage().map(LanguageTag::new)));
+    }
+    return toNode(toResource(value));
+  }
+
+  private static Node toNode(Resource resource) {
+    return resource.accept(new Resource.Visitor<Node>() {
+      @Override
+      public Node visit(Resource.Iri instance) {
+        return new Node.Iri(instance.value);
+      }
+
+      @Override
+      public Node visit(Resource.Bnode instance) {
+        return new Node.Bnode(instance.value);
+      }
+    });
+  }
+
+  /**
+   * A syntax error in N-Triples or N-Quads input
+   */
+  public static class ParseException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public final long lineNumber;
+
+    public ParseException(long lineNumber, String message) {
+      super("line " + lineNumber + ": " + message);
+      this.lineNumber = lineNumber;
+    }
+  }
+
+  /**
+   * An open-addressing table of IRIs, keyed by their encoded bytes, so that looking up an IRI which has been seen
+   * before allocates nothing. The table is emptied when it fills up, which bounds its size while keeping the IRIs
+   * which recur most often.
+   */
+  private final class IriTable {
+    private static final int CAPACITY = 1 << 17;
+    private static final int MAX_SIZE = CAPACITY / 2;
+
+    private final Entry[] entries = new Entry[CAPACITY];
+    private int size = 0;
+
+    Entry lookup(byte[] bytes, int from, int to) {
+      int hash = 1;
+      for (int i = from; i < to; i++) {
+        hash = 31 * hash + bytes[i];
+      }
+      int mask = CAPACITY - 1;
+      int i = (hash ^ (hash >>> 16)) & mask;
+      while (true) {
+        Entry e = entries[i];
+        if (e == null) {
+          break;
+        }
+        if (e.hash == hash && Arrays.equals(e.key, 0, e.key.length, bytes, from, to)) {
+          return e;
+        }
+        i = (i + 1) & mask;
+      }
+
+      byte[] key = Arrays.copyOfRange(bytes, from, to);
+      boolean escaped = false;
+      for (byte b : key) {
+        if (b == '\\') {
+          escaped = true;
+          break;
+        }
+      }
+      Entry entry = new Entry(key, hash, new Iri(escaped
+          ? unescape(key, 0, key.length)
+          : new String(key, StandardCharsets.UTF_8)));
+      if (size == MAX_SIZE) {
+        Arrays.fill(entries, null);
+        size = 0;
+        i = (hash ^ (hash >>> 16)) & mask;
+      }
+      entries[i] = entry;
+      size++;
+      return entry;
+    }
+  }
+
+  // An interned IRI, with its node and resource forms, which are created when first needed
+  private static final class Entry {
+    final byte[] key;
+    final int hash;
+    final Iri iri;
+    private Resource resource;
+    private Node node;
+
+    Entry(byte[] key, int hash, Iri iri) {
+      this.key = key;
+      this.hash = hash;
+      this.iri = iri;
+    }
+
+    Resource asResource() {
+      if (resource == null) {
+        resource = new Resource.Iri(iri);
+      }
+      return resource;
+    }
+
+    Node asNode() {
+      if (node == null) {
+        node = new Node.Iri(iri);
+      }
+      return node;
+    }
+  }
+}
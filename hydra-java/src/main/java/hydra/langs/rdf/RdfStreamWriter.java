@@ -0,0 +1,219 @@
+package hydra.langs.rdf;
+
+import hydra.langs.rdf.syntax.Description;
+import hydra.langs.rdf.syntax.Quad;
+import hydra.langs.rdf.syntax.Triple;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFWriter;
+import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.rio.helpers.BasicWriterSettings;
+
+/**
+ * A writer which serializes triples, quads and descriptions one at a time, in any RDF format supported by rio
+ * (N-Triples, N-Quads and Turtle with the dependencies of this project). Nothing is retained between statements apart
+ * from a cache of frequently used IRIs, such as predicates and datatypes, and, for Turtle, rio's bounded buffer of
+ * recent statements, which it groups by subject. A graph of any size may therefore be written in constant memory.
+ * Output is buffered, and passed on to the underlying stream or channel in large chunks.
+ * A writer is not thread-safe. Closing a writer ends the document and flushes the output, but does not close the
+ * underlying stream or channel.
+ */
+public class RdfStreamWriter implements AutoCloseable {
+  /**
+   * The default size, in bytes, of the chunks in which output is written
+   */
+  public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+  // Predicates, datatypes and graph names are drawn from a small vocabulary, so their IRIs are worth keeping.
+  // The cache is bounded in case the vocabulary turns out to be large after all.
+  private static final int MAX_CACHED_IRIS = 1 << 14;
+
+  private final ValueFactory valueFactory = Serde.valueFactory;
+  private final Map<String, IRI> iriCache = new HashMap<>();
+  private final OutputStream out;
+  private final RDFWriter writer;
+  private long count = 0;
+  private boolean closed = false;
+
+  public RdfStreamWriter(OutputStream out, RDFFormat format) {
+    this(out, format, DEFAULT_BUFFER_SIZE);
+  }
+
+  public RdfStreamWriter(OutputStream out, RDFFormat format, int bufferSize) {
+    this.out = new BufferedOutputStream(out, bufferSize);
+    this.writer = Rio.createWriter(format, this.out);
+    // Inlining blank nodes would require Turtle output to be buffered in memory
+    writer.set(BasicWriterSettings.INLINE_BLANK_NODES, false);
+    writer.startRDF();
+  }
+
+  public RdfStreamWriter(WritableByteChannel channel, RDFFormat format) {
+    this(Channels.newOutputStream(channel), format);
+  }
+
+  /**
+   * The number of statements written so far
+   */
+  public long count() {
+    return count;
+  }
+
+  /**
+   * Declare a namespace prefix, for formats which support prefixes. Namespaces should be declared before any
+   * statements which use them.
+   */
+  public void namespace(String prefix, String iri) {
+    writer.handleNamespace(prefix, iri);
+  }
+
+  public void write(Triple triple) {
+    writer.handleStatement(valueFactory.createStatement(
+        resource(triple.subject), cachedIri(triple.predicate), value(triple.object)));
+    count++;
+  }
+
+  /**
+   * Write a quad. Quads without a graph name are written to the default graph; formats without named graphs, such as
+   * N-Triples, ignore graph names.
+   */
+  public void write(Quad quad) {
+    Resource subj = resource(quad.subject);
+    IRI pred = cachedIri(quad.predicate);
+    Value obj = value(quad.object);
+    writer.handleStatement(quad.graph.isPresent()
+        ? valueFactory.createStatement(subj, pred, obj, cachedIri(quad.graph.get()))
+        : valueFactory.createStatement(subj, pred, obj));
+    count++;
+  }
+
+  /**
+   * Write the triples of a description
+   */
+  public void write(Description description) {
+    for (Triple triple : description.graph.value) {
+      write(triple);
+    }
+  }
+
+  /**
+   * Write triples as they are produced by an iterator
+   */
+  public void writeTriples(Iterator<Triple> triples) {
+    while (triples.hasNext()) {
+      write(triples.next());
+    }
+  }
+
+  /**
+   * Write quads as they are produced by an iterator
+   */
+  public void writeQuads(Iterator<Quad> quads) {
+    while (quads.hasNext()) {
+      write(quads.next());
+    }
+  }
+
+  /**
+   * Write descriptions as they are produced by an iterator
+   */
+  public void writeDescriptions(Iterator<Description> descriptions) {
+    while (descriptions.hasNext()) {
+      write(descriptions.next());
+    }
+  }
+
+  /**
+   * Flush all buffered output to the underlying stream
+   */
+  public void flush() {
+    try {
+      out.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (!closed) {
+      closed = true;
+      writer.endRDF();
+      flush();
+    }
+  }
+
+  private IRI cachedIri(hydra.langs.rdf.syntax.Iri iri) {
+    IRI cached = iriCache.get(iri.value);
+    if (cached == null) {
+      cached = valueFactory.createIRI(iri.value);
+      if (iriCache.size() < MAX_CACHED_IRIS) {
+        iriCache.put(iri.value, cached);
+      }
+    }
+    return cached;
+  }
+
+  private Literal literal(hydra.langs.rdf.syntax.Literal lit) {
+    return lit.languageTag.isPresent()
+        ? valueFactory.createLiteral(lit.lexicalForm, lit.languageTag.get().value)
+        : valueFactory.createLiteral(lit.lexicalForm, cachedIri(lit.datatypeIri));
+  }
+
+  // The visitors are allocated once per writer, rather than once per node
+  private final hydra.langs.rdf.syntax.Resource.Visitor<Resource> resourceVisitor
+      = new hydra.langs.rdf.syntax.Resource.Visitor<Resource>() {
+    @Override
+    public Resource visit(hydra.langs.rdf.syntax.Resource.Iri instance) {
+      return valueFactory.createIRI(instance.value.value);
+    }
+
+    @Override
+    public Resource visit(hydra.langs.rdf.syntax.Resource.Bnode instance) {
+      return bnode(instance.value);
+    }
+  };
+
+  private final hydra.langs.rdf.syntax.Node.Visitor<Value> nodeVisitor
+      = new hydra.langs.rdf.syntax.Node.Visitor<Value>() {
+    @Override
+    public Value visit(hydra.langs.rdf.syntax.Node.Iri instance) {
+      return valueFactory.createIRI(instance.value.value);
+    }
+
+    @Override
+    public Value visit(hydra.langs.rdf.syntax.Node.Bnode instance) {
+      return bnode(instance.value);
+    }
+
+    @Override
+    public Value visit(hydra.langs.rdf.syntax.Node.Literal instance) {
+      return literal(instance.value);
+    }
+  };
+
+  private Resource resource(hydra.langs.rdf.syntax.Resource r) {
+    return r.accept(resourceVisitor);
+  }
+
+  private Value value(hydra.langs.rdf.syntax.Node node) {
+    return node.accept(nodeVisitor);
+  }
+
+  private BNode bnode(hydra.langs.rdf.syntax.BlankNode b) {
+    return valueFactory.createBNode(b.value);
+  }
+}
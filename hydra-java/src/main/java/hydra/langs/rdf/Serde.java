@@ -3,11 +3,14 @@ package hydra.langs.rdf;
 import hydra.langs.rdf.syntax.Description;
 import hydra.langs.rdf.syntax.Graph;
 import hydra.langs.rdf.syntax.Node;
+import hydra.langs.rdf.syntax.Quad;
 import hydra.langs.rdf.syntax.Triple;
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
 import org.eclipse.rdf4j.model.BNode;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Literal;
@@ -17,15 +20,14 @@ import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.rio.RDFFormat;
-import org.eclipse.rdf4j.rio.Rio;
 
 public interface Serde {
   ValueFactory valueFactory = SimpleValueFactory.getInstance();
 
   static String toNtriples(List<Description> descriptions) {
-    List<Triple> triples = descriptions.stream().flatMap(
-        description -> description.graph.value.stream()).collect(Collectors.toList());
-    return Serde.toNtriples(triples);
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    writeDescriptions(descriptions.iterator(), bos, RDFFormat.NTRIPLES);
+    return new String(bos.toByteArray(), StandardCharsets.UTF_8);
   }
 
   static String toNtriples(Graph graph) {
@@ -34,10 +36,48 @@ public interface Serde {
 
   static String toNtriples(Collection<Triple> triples) {
     ByteArrayOutputStream bos = new ByteArrayOutputStream();
-    List<Statement> model = triples.stream().map(Serde::tripleToStatement).collect(Collectors.toList());
-    Rio.write(model, bos, RDFFormat.TURTLE);
+    writeNtriples(triples.iterator(), bos);
+    return new String(bos.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Write triples to a stream as N-Triples, as they are produced by an iterator
+   */
+  static long writeNtriples(Iterator<Triple> triples, OutputStream out) {
+    try (RdfStreamWriter writer = new RdfStreamWriter(out, RDFFormat.NTRIPLES)) {
+      writer.writeTriples(triples);
+      return writer.count();
+    }
+  }
+
+  /**
+   * Write quads to a stream as N-Quads, as they are produced by an iterator
+   */
+  static long writeNquads(Iterator<Quad> quads, OutputStream out) {
+    try (RdfStreamWriter writer = new RdfStreamWriter(out, RDFFormat.NQUADS)) {
+      writer.writeQuads(quads);
+      return writer.count();
+    }
+  }
+
+  /**
+   * Write triples to a stream as Turtle, as they are produced by an iterator
+   */
+  static long writeTurtle(Iterator<Triple> triples, OutputStream out) {
+    try (RdfStreamWriter writer = new RdfStreamWriter(out, RDFFormat.TURTLE)) {
+      writer.writeTriples(triples);
+      return writer.count();
+    }
+  }
 
-    return bos.toString();
+  /**
+   * Write the triples of a series of descriptions to a stream in the given format, returning the number of triples
+   */
+  static long writeDescriptions(Iterator<Description> descriptions, OutputStream out, RDFFormat format) {
+    try (RdfStreamWriter writer = new RdfStreamWriter(out, format)) {
+      writer.writeDescriptions(descriptions);
+      return writer.count();
+    }
   }
 
   static BNode bnode(hydra.langs.rdf.syntax.BlankNode r) {
@@ -49,7 +89,9 @@ public interface Serde {
   }
 
   static Literal literal(hydra.langs.rdf.syntax.Literal r) {
-    return valueFactory.createLiteral(r.lexicalForm, iri(r.datatypeIri));
+    return r.languageTag.isPresent()
+        ? valueFactory.createLiteral(r.lexicalForm, r.languageTag.get().value)
+        : valueFactory.createLiteral(r.lexicalForm, iri(r.datatypeIri));
   }
 
   static Resource resource(hydra.langs.rdf.syntax.Resource r) {
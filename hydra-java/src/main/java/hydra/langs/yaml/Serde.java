@@ -0,0 +1,76 @@
+package hydra.langs.yaml;
+
+import hydra.compute.Coder;
+import hydra.compute.Flow;
+import hydra.core.Term;
+import hydra.core.Type;
+import hydra.graph.Graph;
+import hydra.langs.yaml.model.Node;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+import static hydra.Flows.bind;
+import static hydra.Flows.fail;
+import static hydra.Flows.map;
+import static hydra.Flows.pure;
+
+/**
+ * Serialization and deserialization of YAML nodes and typed terms, following Hydra.Langs.Yaml.Serde
+ */
+public interface Serde {
+  static String hydraYamlToString(Node node) {
+    return YamlWriter.toString(node);
+  }
+
+  static byte[] hydraYamlToBytes(Node node) {
+    return YamlWriter.toBytes(node);
+  }
+
+  static <S> Flow<S, Node> stringToHydraYaml(String s) {
+    try {
+      return pure(YamlReader.parse(s));
+    } catch (YamlReader.ParseException e) {
+      return fail("YAML parser failure: " + e.getMessage());
+    }
+  }
+
+  static <S> Flow<S, Node> bytesToHydraYaml(byte[] bytes) {
+    return stringToHydraYaml(new String(bytes, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Write a stream of YAML documents, one document at a time
+   */
+  static void writeDocuments(Iterator<Node> documents, Writer writer) {
+    try (YamlWriter yaml = new YamlWriter(writer)) {
+      yaml.writeAll(documents);
+    }
+  }
+
+  /**
+   * Read a stream of YAML documents lazily, one document at a time, with no limit on the length of the stream
+   */
+  static Iterator<Node> readDocuments(Reader reader) {
+    return new YamlReader(reader, Integer.MAX_VALUE);
+  }
+
+  /**
+   * A coder between terms of the given type and YAML documents in UTF-8
+   */
+  static <A> Flow<Graph<A>, Coder<Graph<A>, Graph<A>, Term<A>, byte[]>> yamlByteStringCoder(Type<A> type) {
+    return map(YamlCoder.yamlCoder(type), coder -> new Coder<>(
+        term -> map(coder.encode.apply(term), YamlWriter::toBytes),
+        bytes -> bind(bytesToHydraYaml(bytes), coder.decode)));
+  }
+
+  /**
+   * A coder between terms of the given type and YAML documents
+   */
+  static <A> Flow<Graph<A>, Coder<Graph<A>, Graph<A>, Term<A>, String>> yamlStringCoder(Type<A> type) {
+    return map(YamlCoder.yamlCoder(type), coder -> new Coder<>(
+        term -> map(coder.encode.apply(term), YamlWriter::toString),
+        s -> bind(stringToHydraYaml(s), coder.decode)));
+  }
+}
@@ -0,0 +1,428 @@
+package hydra.langs.yaml;
+
+import hydra.compute.Coder;
+import hydra.compute.Flow;
+import hydra.core.Field;
+import hydra.core.FieldName;
+import hydra.core.FieldType;
+import hydra.core.FloatType;
+import hydra.core.FloatValue;
+import hydra.core.Injection;
+import hydra.core.IntegerType;
+import hydra.core.IntegerValue;
+import hydra.core.Literal;
+import hydra.core.LiteralType;
+import hydra.core.Name;
+import hydra.core.Nominal;
+import hydra.core.Record;
+import hydra.core.RowType;
+import hydra.core.Term;
+import hydra.core.Type;
+import hydra.graph.Graph;
+import hydra.langs.json.JsonCoder;
+import hydra.langs.yaml.model.Node;
+import hydra.langs.yaml.model.Scalar;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static hydra.Common.stripTerm;
+import static hydra.Common.stripType;
+import static hydra.Flows.fail;
+import static hydra.Flows.map;
+import static hydra.Flows.mapM;
+import static hydra.Flows.pure;
+import static hydra.Flows.unexpected;
+
+/**
+ * Type-directed coders between Hydra terms and YAML nodes, following Hydra.Langs.Yaml.Coder:
+ * literals are encoded as scalars; lists and sets as sequences; optionals as null or as the value itself; maps and
+ * records as mappings; unions as mappings with a single entry; and wrapped terms as the terms they wrap.
+ * Absent optional fields are omitted from records, and when decoding a record, unknown fields are ignored and missing
+ * fields are treated as null.
+ * Since there is no language adapter in Java, each integer and float precision is encoded as an integer or float
+ * scalar directly; integers are also accepted where floats are expected.
+ */
+public class YamlCoder {
+  private static final Node NULL = new Node.Scalar(new Scalar.Null());
+
+  private YamlCoder() {
+  }
+
+  /**
+   * Construct a coder between terms of the given type and YAML nodes
+   */
+  public static <A> Flow<Graph<A>, Coder<Graph<A>, Graph<A>, Term<A>, Node>> yamlCoder(Type<A> type) {
+    return yamlCoder(type, Collections.emptyMap());
+  }
+
+  /**
+   * Construct a coder between terms of the given type and YAML nodes. Type variables which are bound in the given map
+   * are replaced by the types they name, which makes recursive types possible.
+   */
+  public static <A> Flow<Graph<A>, Coder<Graph<A>, Graph<A>, Term<A>, Node>> yamlCoder(
+      Type<A> type, Map<Name, Type<A>> types) {
+    try {
+      return pure(new CoderCompiler<A>(types).termCoder(type));
+    } catch (UnsupportedTypeException e) {
+      return fail(e.getMessage());
+    }
+  }
+
+  /**
+   * Construct a coder between literals of the given type and YAML scalars
+   */
+  public static <S> Flow<S, Coder<S, S, Literal, Scalar>> literalCoder(LiteralType type) {
+    return pure(new Coder<>(lit -> encodeLiteral(type, lit), scalar -> decodeLiteral(type, scalar)));
+  }
+
+  private static <S> Flow<S, Scalar> encodeLiteral(LiteralType type, Literal lit) {
+    if (type instanceof LiteralType.Boolean_ && lit instanceof Literal.Boolean_) {
+      return pure(new Scalar.Bool(((Literal.Boolean_) lit).value));
+    } else if (type instanceof LiteralType.String_ && lit instanceof Literal.String_) {
+      return pure(new Scalar.Str(((Literal.String_) lit).value));
+    } else if (type instanceof LiteralType.Binary && lit instanceof Literal.Binary) {
+      return pure(new Scalar.Str(((Literal.Binary) lit).value));
+    } else if (type instanceof LiteralType.Integer_ && lit instanceof Literal.Integer_) {
+      IntegerValue i = ((Literal.Integer_) lit).value;
+      IntegerType it = ((LiteralType.Integer_) type).value;
+      if (JsonCoder.integerValue(it, BigInteger.ZERO).getClass() == i.getClass()) {
+        return pure(new Scalar.Int(bigintValue(i)));
+      }
+    } else if (type instanceof LiteralType.Float_ && lit instanceof Literal.Float_) {
+      FloatValue f = ((Literal.Float_) lit).value;
+      FloatType ft = ((LiteralType.Float_) type).value;
+      if (JsonCoder.floatValue(ft, 0.0).getClass() == f.getClass()) {
+        return pure(new Scalar.Float_(doubleValue(f)));
+      }
+    }
+    return unexpected("literal of type " + type, lit);
+  }
+
+  private static <S> Flow<S, Literal> decodeLiteral(LiteralType type, Scalar scalar) {
+    if (type instanceof LiteralType.Boolean_) {
+      return scalar instanceof Scalar.Bool
+          ? pure(new Literal.Boolean_(((Scalar.Bool) scalar).value))
+          : unexpected("boolean", scalar);
+    } else if (type instanceof LiteralType.String_) {
+      return scalar instanceof Scalar.Str
+          ? pure(new Literal.String_(((Scalar.Str) scalar).value))
+          : unexpected("string", scalar);
+    } else if (type instanceof LiteralType.Binary) {
+      return scalar instanceof Scalar.Str
+          ? pure(new Literal.Binary(((Scalar.Str) scalar).value))
+          : unexpected("string", scalar);
+    } else if (type instanceof LiteralType.Integer_) {
+      if (!(scalar instanceof Scalar.Int)) {
+        return unexpected("integer", scalar);
+      }
+      BigInteger i = ((Scalar.Int) scalar).value;
+      IntegerValue iv = JsonCoder.integerValue(((LiteralType.Integer_) type).value, i);
+      return iv == null ? fail("integer out of range: " + i) : pure(new Literal.Integer_(iv));
+    } else {
+      FloatType ft = ((LiteralType.Float_) type).value;
+      if (scalar instanceof Scalar.Float_) {
+        return pure(new Literal.Float_(JsonCoder.floatValue(ft, ((Scalar.Float_) scalar).value)));
+      } else if (scalar instanceof Scalar.Int) {
+        return pure(new Literal.Float_(JsonCoder.floatValue(ft, ((Scalar.Int) scalar).value.doubleValue())));
+      } else {
+        return unexpected("floating-point value", scalar);
+      }
+    }
+  }
+
+  private static BigInteger bigintValue(IntegerValue i) {
+    if (i instanceof IntegerValue.Bigint) {
+      return ((IntegerValue.Bigint) i).value;
+    } else if (i instanceof IntegerValue.Uint64) {
+      return ((IntegerValue.Uint64) i).value;
+    } else if (i instanceof IntegerValue.Int32) {
+      return BigInteger.valueOf(((IntegerValue.Int32) i).value);
+    } else if (i instanceof IntegerValue.Int64) {
+      return BigInteger.valueOf(((IntegerValue.Int64) i).value);
+    } else if (i instanceof IntegerValue.Int8) {
+      return BigInteger.valueOf(((IntegerValue.Int8) i).value);
+    } else if (i instanceof IntegerValue.Int16) {
+      return BigInteger.valueOf(((IntegerValue.Int16) i).value);
+    } else if (i instanceof IntegerValue.Uint8) {
+      return BigInteger.valueOf(Byte.toUnsignedInt(((IntegerValue.Uint8) i).value));
+    } else if (i instanceof IntegerValue.Uint16) {
+      return BigInteger.valueOf(((IntegerValue.Uint16) i).value);
+    } else {
+      return BigInteger.valueOf(((IntegerValue.Uint32) i).value);
+    }
+  }
+
+  private static double doubleValue(FloatValue f) {
+    if (f instanceof FloatValue.Float32) {
+      // Go through the decimal representation, so that a float32 does not pick up spurious digits
+      return new BigDecimal(Float.toString(((FloatValue.Float32) f).value)).doubleValue();
+    } else if (f instanceof FloatValue.Float64) {
+      return ((FloatValue.Float64) f).value;
+    } else {
+      return ((FloatValue.Bigfloat) f).value;
+    }
+  }
+
+  private static Node string(String s) {
+    return new Node.Scalar(new Scalar.Str(s));
+  }
+
+  private static class UnsupportedTypeException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    UnsupportedTypeException(String message) {
+      super(message);
+    }
+  }
+
+  /**
+   * Compiles types to coders between terms and YAML nodes
+   */
+  private static class CoderCompiler<A> {
+    private final Map<Name, Type<A>> types;
+    // Coders for named types, which may be referenced recursively before they are complete
+    private final Map<Name, Coder<Graph<A>, Graph<A>, Term<A>, Node>> named = new HashMap<>();
+
+    CoderCompiler(Map<Name, Type<A>> types) {
+      this.types = types;
+    }
+
+    Coder<Graph<A>, Graph<A>, Term<A>, Node> termCoder(Type<A> type) {
+      Type<A> stripped = stripType(type);
+      if (stripped instanceof Type.Literal) {
+        return literalTermCoder(((Type.Literal<A>) stripped).value);
+      } else if (stripped instanceof Type.List) {
+        Coder<Graph<A>, Graph<A>, Term<A>, Node> lc = termCoder(((Type.List<A>) stripped).value);
+        return new Coder<>(
+            term -> {
+              Term<A> t = stripTerm(term);
+              return t instanceof Term.List
+                  ? map(mapM(((Term.List<A>) t).value, lc.encode), Node.Sequence::new)
+                  : unexpected("list", term);
+            },
+            node -> node instanceof Node.Sequence
+                ? map(mapM(((Node.Sequence) node).value, lc.decode), Term.List::new)
+                : unexpected("sequence", node));
+      } else if (stripped instanceof Type.Set) {
+        Coder<Graph<A>, Graph<A>, Term<A>, Node> sc = termCoder(((Type.Set<A>) stripped).value);
+        return new Coder<>(
+            term -> {
+              Term<A> t = stripTerm(term);
+              return t instanceof Term.Set
+                  ? map(mapM(new ArrayList<>(((Term.Set<A>) t).value), sc.encode), Node.Sequence::new)
+                  : unexpected("set", term);
+            },
+            node -> node instanceof Node.Sequence
+                ? map(mapM(((Node.Sequence) node).value, sc.decode), els -> new Term.Set<>(new HashSet<>(els)))
+                : unexpected("sequence", node));
+      } else if (stripped instanceof Type.Optional) {
+        Coder<Graph<A>, Graph<A>, Term<A>, Node> oc = termCoder(((Type.Optional<A>) stripped).value);
+        return new Coder<>(
+            term -> {
+              Term<A> t = stripTerm(term);
+              if (!(t instanceof Term.Optional)) {
+                return unexpected("optional", term);
+              }
+              Optional<Term<A>> inner = ((Term.Optional<A>) t).value;
+              return inner.isPresent() ? oc.encode.apply(inner.get()) : pure(NULL);
+            },
+            node -> isNull(node)
+                ? pure(new Term.Optional<>(Optional.empty()))
+                : map(oc.decode.apply(node), t -> new Term.Optional<>(Optional.of(t))));
+      } else if (stripped instanceof Type.Map) {
+        Type.Map<A> mt = (Type.Map<A>) stripped;
+        Coder<Graph<A>, Graph<A>, Term<A>, Node> kc = termCoder(mt.value.keys);
+        Coder<Graph<A>, Graph<A>, Term<A>, Node> vc = termCoder(mt.value.values);
+        return new Coder<>(
+            term -> {
+              Term<A> t = stripTerm(term);
+              return t instanceof Term.Map
+                  ? map(mapM(((Term.Map<A>) t).value, kc.encode, vc.encode),
+                      m -> new Node.Mapping(new LinkedHashMap<>(m)))
+                  : unexpected("map", term);
+            },
+            node -> node instanceof Node.Mapping
+                ? map(mapM(((Node.Mapping) node).value, kc.decode, vc.decode), Term.Map::new)
+                : unexpected("mapping", node));
+      } else if (stripped instanceof Type.Record) {
+        return recordCoder(((Type.Record<A>) stripped).value);
+      } else if (stripped instanceof Type.Union) {
+        return unionCoder(((Type.Union<A>) stripped).value);
+      } else if (stripped instanceof Type.Wrap) {
+        Nominal<Type<A>> nominal = ((Type.Wrap<A>) stripped).value;
+        Coder<Graph<A>, Graph<A>, Term<A>, Node> wc = termCoder(nominal.object);
+        return new Coder<>(
+            term -> {
+              Term<A> t = stripTerm(term);
+              return t instanceof Term.Wrap
+                  ? wc.encode.apply(((Term.Wrap<A>) t).value.object)
+                  : unexpected("wrapped term", term);
+            },
+            node -> map(wc.decode.apply(node), t -> new Term.Wrap<>(new Nominal<>(nominal.typeName, t))));
+      } else if (stripped instanceof Type.Variable) {
+        return variableCoder(((Type.Variable<A>) stripped).value);
+      } else {
+        throw new UnsupportedTypeException(
+            "unsupported type in YAML: " + stripped.getClass().getSimpleName().toLowerCase());
+      }
+    }
+
+    private Coder<Graph<A>, Graph<A>, Term<A>, Node> literalTermCoder(LiteralType lt) {
+      return new Coder<>(
+          term -> {
+            Term<A> t = stripTerm(term);
+            return t instanceof Term.Literal
+                ? map(encodeLiteral(lt, ((Term.Literal<A>) t).value), Node.Scalar::new)
+                : unexpected("literal", term);
+          },
+          node -> node instanceof Node.Scalar
+              ? map(decodeLiteral(lt, ((Node.Scalar) node).value), Term.Literal::new)
+              : unexpected("scalar node", node));
+    }
+
+    private Coder<Graph<A>, Graph<A>, Term<A>, Node> recordCoder(RowType<A> rt) {
+      List<FieldCoder<A>> coders = fieldCoders(rt);
+      return new Coder<>(
+          term -> {
+            Term<A> t = stripTerm(term);
+            if (!(t instanceof Term.Record)) {
+              return unexpected("record", term);
+            }
+            List<Field<A>> fields = ((Term.Record<A>) t).value.fields;
+            return map(mapM(coders, fc -> fc.encode(fields)), entries -> {
+              Map<Node, Node> m = new LinkedHashMap<>();
+              for (Optional<Map.Entry<Node, Node>> entry : entries) {
+                entry.ifPresent(e -> m.put(e.getKey(), e.getValue()));
+              }
+              return new Node.Mapping(m);
+            });
+          },
+          node -> {
+            if (!(node instanceof Node.Mapping)) {
+              return unexpected("mapping", node);
+            }
+            // Unknown fields are ignored, and missing fields are treated as null
+            Map<Node, Node> m = ((Node.Mapping) node).value;
+            return map(mapM(coders, fc -> map(fc.coder.decode.apply(m.getOrDefault(fc.key, NULL)),
+                    t -> new Field<>(fc.name, t))),
+                fields -> new Term.Record<>(new Record<>(rt.typeName, fields)));
+          });
+    }
+
+    private Coder<Graph<A>, Graph<A>, Term<A>, Node> unionCoder(RowType<A> rt) {
+      Map<Node, FieldCoder<A>> coders = new HashMap<>();
+      for (FieldCoder<A> fc : fieldCoders(rt)) {
+        coders.put(fc.key, fc);
+      }
+      return new Coder<>(
+          term -> {
+            Term<A> t = stripTerm(term);
+            if (!(t instanceof Term.Union)) {
+              return unexpected("union", term);
+            }
+            Field<A> field = ((Term.Union<A>) t).value.field;
+            FieldCoder<A> fc = coders.get(string(field.name.value));
+            return fc == null
+                ? fail("no such field: " + field.name.value)
+                : map(fc.coder.encode.apply(field.term), v -> new Node.Mapping(Collections.singletonMap(fc.key, v)));
+          },
+          node -> {
+            if (!(node instanceof Node.Mapping) || ((Node.Mapping) node).value.size() != 1) {
+              return unexpected("mapping with a single entry", node);
+            }
+            Map.Entry<Node, Node> entry = ((Node.Mapping) node).value.entrySet().iterator().next();
+            FieldCoder<A> fc = coders.get(entry.getKey());
+            return fc == null
+                ? unexpected("a field of " + rt.typeName.value, entry.getKey())
+                : map(fc.coder.decode.apply(entry.getValue()),
+                    t -> new Term.Union<>(new Injection<>(rt.typeName, new Field<>(fc.name, t))));
+          });
+    }
+
+    private Coder<Graph<A>, Graph<A>, Term<A>, Node> variableCoder(Name name) {
+      Coder<Graph<A>, Graph<A>, Term<A>, Node> existing = named.get(name);
+      if (existing != null) {
+        return existing;
+      }
+      Type<A> resolved = types.get(name);
+      if (resolved == null) {
+        return new Coder<>(
+            term -> pure(string(term.toString())),
+            node -> fail("type variable " + name.value + " does not support decoding"));
+      }
+      // Register a forwarding coder before compiling the named type, in case the type refers to itself
+      List<Coder<Graph<A>, Graph<A>, Term<A>, Node>> cell = new ArrayList<>(1);
+      Coder<Graph<A>, Graph<A>, Term<A>, Node> ref = new Coder<>(
+          term -> cell.get(0).encode.apply(term),
+          node -> cell.get(0).decode.apply(node));
+      named.put(name, ref);
+      cell.add(termCoder(resolved));
+      return ref;
+    }
+
+    private List<FieldCoder<A>> fieldCoders(RowType<A> rt) {
+      List<FieldCoder<A>> coders = new ArrayList<>(rt.fields.size());
+      for (int i = 0; i < rt.fields.size(); i++) {
+        FieldType<A> ft = rt.fields.get(i);
+        coders.add(new FieldCoder<>(i, ft.name, stripType(ft.type) instanceof Type.Optional, termCoder(ft.type)));
+      }
+      return coders;
+    }
+  }
+
+  private static boolean isNull(Node node) {
+    return node instanceof Node.Scalar && ((Node.Scalar) node).value instanceof Scalar.Null;
+  }
+
+  private static class FieldCoder<A> {
+    final int index;
+    final FieldName name;
+    final Node key;
+    final boolean optional;
+    final Coder<Graph<A>, Graph<A>, Term<A>, Node> coder;
+
+    FieldCoder(int index, FieldName name, boolean optional, Coder<Graph<A>, Graph<A>, Term<A>, Node> coder) {
+      this.index = index;
+      this.name = name;
+      this.key = string(name.value);
+      this.optional = optional;
+      this.coder = coder;
+    }
+
+    // Encode the corresponding field of a record, if it is present
+    Flow<Graph<A>, Optional<Map.Entry<Node, Node>>> encode(List<Field<A>> fields) {
+      Field<A> field = findField(fields);
+      if (field == null) {
+        return optional ? pure(Optional.empty()) : fail("missing field: " + name.value);
+      }
+      if (optional) {
+        Term<A> t = stripTerm(field.term);
+        if (t instanceof Term.Optional && !((Term.Optional<A>) t).value.isPresent()) {
+          return pure(Optional.empty());
+        }
+      }
+      return map(coder.encode.apply(field.term), v -> Optional.of(Map.entry(key, v)));
+    }
+
+    // The field is usually at the same position as in the record type
+    private Field<A> findField(List<Field<A>> fields) {
+      if (index < fields.size() && fields.get(index).name.equals(name)) {
+        return fields.get(index);
+      }
+      for (Field<A> field : fields) {
+        if (field.name.equals(name)) {
+          return field;
+        }
+      }
+      return null;
+    }
+  }
+}
@@ -0,0 +1,172 @@
+package hydra.langs.yaml;
+
+import hydra.langs.yaml.model.Node;
+import hydra.langs.yaml.model.Scalar;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.nodes.Tag;
+
+/**
+ * A reader for streams of YAML documents, which parses one document at a time, so that a stream of any number of
+ * documents may be processed in constant memory (apart from the largest single document). Parsing is done by
+ * SnakeYAML with its safe constructor; the resulting values are converted to YAML nodes. Timestamps are read as
+ * strings and binary values as base64 strings, since the YAML model has no scalars of those kinds.
+ * Malformed input is reported as a ParseException. A reader is not thread-safe.
+ */
+public class YamlReader implements Iterator<Node>, Closeable {
+  /**
+   * The default limit on the number of characters which may be read from a stream, which is SnakeYAML's own default.
+   * SnakeYAML applies its limit to the stream as a whole, rather than to each document, so a reader of a long stream
+   * of documents may need to pass a larger limit, up to Integer.MAX_VALUE for no limit.
+   */
+  public static final int DEFAULT_MAX_CHARACTERS = new LoaderOptions().getCodePointLimit();
+
+  private final Reader reader;
+  private final Iterator<Object> documents;
+
+  public YamlReader(Reader reader) {
+    this(reader, DEFAULT_MAX_CHARACTERS);
+  }
+
+  public YamlReader(Reader reader, int maxCharacters) {
+    LoaderOptions options = new LoaderOptions();
+    options.setCodePointLimit(maxCharacters);
+    this.reader = reader;
+    this.documents = new Yaml(new Constructor(options)).loadAll(reader).iterator();
+  }
+
+  /**
+   * A reader for UTF-8 encoded text from a byte stream
+   */
+  public YamlReader(InputStream in) {
+    this(new InputStreamReader(in, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Parse a stream which contains exactly one YAML document
+   */
+  public static Node parse(String yaml) {
+    YamlReader reader = new YamlReader(new StringReader(yaml));
+    if (!reader.hasNext()) {
+      throw new ParseException("no YAML document", null);
+    }
+    Node node = reader.next();
+    if (reader.hasNext()) {
+      throw new ParseException("multiple YAML documents", null);
+    }
+    return node;
+  }
+
+  @Override
+  public boolean hasNext() {
+    try {
+      return documents.hasNext();
+    } catch (YAMLException e) {
+      throw new ParseException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Parse the next document in the stream
+   */
+  @Override
+  public Node next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    try {
+      return toNode(documents.next(), Collections.newSetFromMap(new IdentityHashMap<>()));
+    } catch (YAMLException e) {
+      throw new ParseException(e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  // Convert a value to a node, given the collections which are being converted on the path to the value. An alias may
+  // refer to a collection which encloses it, in which case the value is cyclic and cannot be represented as a node.
+  private static Node toNode(Object value, Set<Object> path) {
+    if (value == null) {
+      return new Node.Scalar(new Scalar.Null());
+    } else if (value instanceof String) {
+      return new Node.Scalar(new Scalar.Str((String) value));
+    } else if (value instanceof Boolean) {
+      return new Node.Scalar(new Scalar.Bool((Boolean) value));
+    } else if (value instanceof Integer || value instanceof Long) {
+      return new Node.Scalar(new Scalar.Int(BigInteger.valueOf(((Number) value).longValue())));
+    } else if (value instanceof BigInteger) {
+      return new Node.Scalar(new Scalar.Int((BigInteger) value));
+    } else if (value instanceof Double || value instanceof Float) {
+      return new Node.Scalar(new Scalar.Float_(((Number) value).doubleValue()));
+    } else if (value instanceof Map || value instanceof Collection || value instanceof Object[]) {
+      if (!path.add(value)) {
+        throw new ParseException("recursive YAML value", null);
+      }
+      Node node;
+      if (value instanceof Map) {
+        Map<Node, Node> entries = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+          entries.put(toNode(entry.getKey(), path), toNode(entry.getValue(), path));
+        }
+        node = new Node.Mapping(entries);
+      } else {
+        // Sequences, and also sets (!!set) and pairs (!!pairs)
+        Collection<?> elements = value instanceof Collection ? (Collection<?>) value : Arrays.asList((Object[]) value);
+        List<Node> items = new ArrayList<>(elements.size());
+        for (Object item : elements) {
+          items.add(toNode(item, path));
+        }
+        node = new Node.Sequence(items);
+      }
+      path.remove(value);
+      return node;
+    } else if (value instanceof byte[]) {
+      return new Node.Scalar(new Scalar.Str(Base64.getEncoder().encodeToString((byte[]) value)));
+    } else {
+      throw new ParseException("unsupported YAML value: " + value.getClass().getName(), null);
+    }
+  }
+
+  private static class Constructor extends SafeConstructor {
+    Constructor(LoaderOptions options) {
+      super(options);
+      yamlConstructors.put(Tag.TIMESTAMP, new ConstructYamlStr());
+    }
+  }
+
+  /**
+   * A syntax error in YAML input, or a value which cannot be represented as a YAML node
+   */
+  public static class ParseException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public ParseException(String message, Throwable cause) {
+      super(message, cause);
+    }
+  }
+}
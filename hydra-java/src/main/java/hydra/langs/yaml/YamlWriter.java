@@ -0,0 +1,364 @@
+package hydra.langs.yaml;
+
+import hydra.langs.yaml.model.Node;
+import hydra.langs.yaml.model.Scalar;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An incremental YAML serializer, which writes YAML nodes in block style to a character stream. Each node is written
+ * as it is visited, directly into an output buffer, so that no text is built up for a document or any part of it.
+ * Several documents may be written to the same stream, one at a time, in which case they are separated by "---".
+ * Strings are written as plain scalars where that is unambiguous, and otherwise as double-quoted scalars.
+ * I/O errors are rethrown as UncheckedIOExceptions. A writer is not thread-safe.
+ */
+public class YamlWriter implements Closeable, Flushable {
+  private static final int BUFFER_SIZE = 8192;
+  private static final int INDENT = 2;
+
+  // Longer keys are written as explicit keys, since implicit keys are limited to 1024 characters
+  private static final int MAX_IMPLICIT_KEY_LENGTH = 512;
+
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private final Writer writer;
+  private final char[] buf = new char[BUFFER_SIZE];
+  private int pos = 0;
+  private long documents = 0;
+
+  public YamlWriter(Writer writer) {
+    this.writer = writer;
+  }
+
+  /**
+   * A writer which writes UTF-8 encoded text to a byte stream
+   */
+  public YamlWriter(OutputStream out) {
+    this(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Serialize a YAML node as a document
+   */
+  public static String toString(Node node) {
+    StringWriter sw = new StringWriter();
+    try (YamlWriter writer = new YamlWriter(sw)) {
+      writer.write(node);
+    }
+    return sw.toString();
+  }
+
+  /**
+   * Serialize a YAML node as a document in UTF-8
+   */
+  public static byte[] toBytes(Node node) {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try (YamlWriter writer = new YamlWriter(bos)) {
+      writer.write(node);
+    }
+    return bos.toByteArray();
+  }
+
+  /**
+   * The number of documents written so far
+   */
+  public long documents() {
+    return documents;
+  }
+
+  /**
+   * Write a node as the next document in the stream
+   */
+  public YamlWriter write(Node node) {
+    if (documents++ > 0) {
+      raw("---\n");
+    }
+    if (isNonEmptyMapping(node)) {
+      mapping(((Node.Mapping) node).value, 0, false);
+    } else if (isNonEmptySequence(node)) {
+      sequence(((Node.Sequence) node).value, 0, false);
+    } else {
+      flowLine(node);
+    }
+    return this;
+  }
+
+  /**
+   * Write each node produced by an iterator as a separate document
+   */
+  public YamlWriter writeAll(Iterator<Node> nodes) {
+    while (nodes.hasNext()) {
+      write(nodes.next());
+    }
+    return this;
+  }
+
+  @Override
+  public void flush() {
+    drain();
+    try {
+      writer.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Flush all output. The underlying stream is left open.
+   */
+  @Override
+  public void close() {
+    flush();
+  }
+
+  // Write the entries of a mapping at the given indentation. If firstInline is true, the first entry continues the
+  // current line, as in "- key: value".
+  private void mapping(Map<Node, Node> entries, int indent, boolean firstInline) {
+    boolean first = true;
+    for (Map.Entry<Node, Node> entry : entries.entrySet()) {
+      if (!(first && firstInline)) {
+        spaces(indent);
+      }
+      first = false;
+      Node key = entry.getKey();
+      if (isImplicitKey(key)) {
+        scalar(((Node.Scalar) key).value);
+        append(':');
+        afterKey(entry.getValue(), indent);
+      } else {
+        // An explicit key, such as a sequence or a long string
+        raw("? ");
+        item(key, indent + INDENT);
+        spaces(indent);
+        raw(": ");
+        item(entry.getValue(), indent + INDENT);
+      }
+    }
+  }
+
+  // Write the items of a sequence at the given indentation
+  private void sequence(List<Node> items, int indent, boolean firstInline) {
+    boolean first = true;
+    for (Node item : items) {
+      if (!(first && firstInline)) {
+        spaces(indent);
+      }
+      first = false;
+      raw("- ");
+      item(item, indent + INDENT);
+    }
+  }
+
+  // Write a node which follows "key:"
+  private void afterKey(Node node, int indent) {
+    if (isNonEmptyMapping(node)) {
+      append('\n');
+      mapping(((Node.Mapping) node).value, indent + INDENT, false);
+    } else if (isNonEmptySequence(node)) {
+      append('\n');
+      sequence(((Node.Sequence) node).value, indent + INDENT, false);
+    } else {
+      append(' ');
+      flowLine(node);
+    }
+  }
+
+  // Write a node which follows "- ", "? " or ": ", and whose content is at the given indentation
+  private void item(Node node, int indent) {
+    if (isNonEmptyMapping(node)) {
+      mapping(((Node.Mapping) node).value, indent, true);
+    } else if (isNonEmptySequence(node)) {
+      sequence(((Node.Sequence) node).value, indent, true);
+    } else {
+      flowLine(node);
+    }
+  }
+
+  // Write a scalar or an empty collection, and end the line
+  private void flowLine(Node node) {
+    if (node instanceof Node.Scalar) {
+      scalar(((Node.Scalar) node).value);
+    } else if (node instanceof Node.Mapping) {
+      raw("{}");
+    } else {
+      raw("[]");
+    }
+    append('\n');
+  }
+
+  private void scalar(Scalar scalar) {
+    if (scalar instanceof Scalar.Str) {
+      string(((Scalar.Str) scalar).value);
+    } else if (scalar instanceof Scalar.Int) {
+      raw(((Scalar.Int) scalar).value.toString());
+    } else if (scalar instanceof Scalar.Float_) {
+      double d = ((Scalar.Float_) scalar).value;
+      if (Double.isNaN(d)) {
+        raw(".nan");
+      } else if (Double.isInfinite(d)) {
+        raw(d > 0 ? ".inf" : "-.inf");
+      } else {
+        raw(Double.toString(d));
+      }
+    } else if (scalar instanceof Scalar.Bool) {
+      raw(((Scalar.Bool) scalar).value ? "true" : "false");
+    } else {
+      raw("null");
+    }
+  }
+
+  private void string(String s) {
+    if (isPlain(s)) {
+      copy(s, 0, s.length());
+      return;
+    }
+    append('"');
+    int len = s.length();
+    int run = 0;
+    for (int i = 0; i < len; i++) {
+      char c = s.charAt(i);
+      if (!needsEscape(c) && c != '"' && c != '\\') {
+        continue;
+      }
+      copy(s, run, i);
+      run = i + 1;
+      append('\\');
+      switch (c) {
+        case '"':
+        case '\\':
+          append(c);
+          break;
+        case '\n':
+          append('n');
+          break;
+        case '\t':
+          append('t');
+          break;
+        case '\r':
+          append('r');
+          break;
+        default:
+          append('u');
+          append(HEX[c >> 12]);
+          append(HEX[(c >> 8) & 0xf]);
+          append(HEX[(c >> 4) & 0xf]);
+          append(HEX[c & 0xf]);
+      }
+    }
+    copy(s, run, len);
+    append('"');
+  }
+
+  private static boolean isImplicitKey(Node key) {
+    if (!(key instanceof Node.Scalar)) {
+      return false;
+    }
+    Scalar scalar = ((Node.Scalar) key).value;
+    return !(scalar instanceof Scalar.Str) || ((Scalar.Str) scalar).value.length() <= MAX_IMPLICIT_KEY_LENGTH;
+  }
+
+  private static boolean isNonEmptyMapping(Node node) {
+    return node instanceof Node.Mapping && !((Node.Mapping) node).value.isEmpty();
+  }
+
+  private static boolean isNonEmptySequence(Node node) {
+    return node instanceof Node.Sequence && !((Node.Sequence) node).value.isEmpty();
+  }
+
+  // Whether a string may be written as a plain scalar, i.e. it cannot be mistaken for anything other than the same
+  // string. This is deliberately conservative; for example, any string which starts with a digit is quoted.
+  private static boolean isPlain(String s) {
+    int len = s.length();
+    if (len == 0 || s.charAt(len - 1) == ' ' || s.charAt(len - 1) == ':') {
+      return false;
+    }
+    char first = s.charAt(0);
+    if ("-?:,[]{}#&*!|>'\"%@`<=~+. ".indexOf(first) >= 0 || (first >= '0' && first <= '9')) {
+      return false;
+    }
+    for (int i = 0; i < len; i++) {
+      char c = s.charAt(i);
+      if (needsEscape(c)
+          || (c == ':' && s.charAt(i + 1) == ' ')
+          || (c == '#' && s.charAt(i - 1) == ' ')) {
+        return false;
+      }
+    }
+    return !isReserved(s);
+  }
+
+  // Words which YAML 1.1 and 1.2 resolve to booleans or null
+  private static boolean isReserved(String s) {
+    if (s.length() > 5) {
+      return false;
+    }
+    switch (s.toLowerCase()) {
+      case "null":
+      case "true":
+      case "false":
+      case "yes":
+      case "no":
+      case "on":
+      case "off":
+      case "y":
+      case "n":
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  // Control characters, and other characters which may not appear unescaped in YAML
+  private static boolean needsEscape(char c) {
+    return c < 0x20 || (c >= 0x7f && c <= 0x9f) || c == 0x2028 || c == 0x2029 || c == 0xfeff;
+  }
+
+  private void spaces(int n) {
+    for (int i = 0; i < n; i++) {
+      append(' ');
+    }
+  }
+
+  private void append(char c) {
+    if (pos == buf.length) {
+      drain();
+    }
+    buf[pos++] = c;
+  }
+
+  private void raw(String s) {
+    copy(s, 0, s.length());
+  }
+
+  private void copy(String s, int from, int to) {
+    while (from < to) {
+      if (pos == buf.length) {
+        drain();
+      }
+      int n = Math.min(to - from, buf.length - pos);
+      s.getChars(from, from + n, buf, pos);
+      pos += n;
+      from += n;
+    }
+  }
+
+  private void drain() {
+    try {
+      writer.write(buf, 0, pos);
+      pos = 0;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -146,8 +146,10 @@ public class Libraries {
                 new hydra.lib.math.Mod<>(),
                 new hydra.lib.math.Mul<>(),
                 new hydra.lib.math.Neg<>(),
+                new hydra.lib.math.Product<>(),
                 new hydra.lib.math.Rem<>(),
-                new hydra.lib.math.Sub<>());
+                new hydra.lib.math.Sub<>(),
+                new hydra.lib.math.Sum<>());
     }
 
     private static <A> List<PrimitiveFunction<A>> optionalsPrimitives() {
@@ -26,6 +26,11 @@ public class EqualBoolean<A> extends EqualityFunction<A, Boolean> {
         return Expect.boolean_(term);
     }
 
+    @Override
+    protected Boolean value(Term<A> term) {
+        return Expect.booleanValue(term);
+    }
+
     @Override
     protected boolean checkEqual(Boolean first, Boolean second) {
         return apply(first, second);
@@ -26,6 +26,11 @@ public class EqualFloat32<A> extends EqualityFunction<A, Float> {
         return Expect.float32(term);
     }
 
+    @Override
+    protected Float value(Term<A> term) {
+        return Expect.float32Value(term);
+    }
+
     @Override
     protected boolean checkEqual(Float first, Float second) {
         return apply(first, second);
@@ -26,6 +26,11 @@ public class EqualFloat64<A> extends EqualityFunction<A, Double> {
         return Expect.float64(term);
     }
 
+    @Override
+    protected Double value(Term<A> term) {
+        return Expect.float64Value(term);
+    }
+
     @Override
     protected boolean checkEqual(Double first, Double second) {
         return apply(first, second);
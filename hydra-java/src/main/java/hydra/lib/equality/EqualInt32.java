@@ -26,6 +26,11 @@ public class EqualInt32<A> extends EqualityFunction<A, Integer> {
         return Expect.int32(term);
     }
 
+    @Override
+    protected Integer value(Term<A> term) {
+        return Expect.int32Value(term);
+    }
+
     @Override
     protected boolean checkEqual(Integer first, Integer second) {
         return apply(first, second);
@@ -26,6 +26,11 @@ public class EqualInt64<A> extends EqualityFunction<A, Long> {
         return Expect.int64(term);
     }
 
+    @Override
+    protected Long value(Term<A> term) {
+        return Expect.int64Value(term);
+    }
+
     @Override
     protected boolean checkEqual(Long first, Long second) {
         return apply(first, second);
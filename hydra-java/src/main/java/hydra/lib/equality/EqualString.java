@@ -26,6 +26,11 @@ public class EqualString<A> extends EqualityFunction<A, String> {
         return Expect.string(term);
     }
 
+    @Override
+    protected String value(Term<A> term) {
+        return Expect.stringValue(term);
+    }
+
     @Override
     protected boolean checkEqual(String first, String second) {
         return apply(first, second);
@@ -32,7 +32,7 @@ public class Apply<A> extends PrimitiveFunction<A> {
     //       which would make the mapping function monadic.
     @Override
     protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
-        return args -> map2(Expect.list(Flows::pure, args.get(0)), Expect.list(Flows::pure, args.get(1)), new BiFunction<List<Term<A>>, List<Term<A>>, Term<A>>() {
+        return args -> map2(Expect.list(args.get(0)), Expect.list(args.get(1)), new BiFunction<List<Term<A>>, List<Term<A>>, Term<A>>() {
                 @Override
                 public Term<A> apply(List<Term<A>> functions, List<Term<A>> arguments) {
                     List<Term<A>> apps = new LinkedList<>();
@@ -1,13 +1,16 @@
 package hydra.lib.lists;
 
 import hydra.Flows;
+import hydra.Reduction;
 import hydra.compute.Flow;
 import hydra.core.Name;
+import hydra.core.Stream;
 import hydra.core.Term;
 import hydra.core.Type;
 import hydra.dsl.Expect;
 import hydra.dsl.Terms;
 import hydra.graph.Graph;
+import hydra.tools.LazyStream;
 import hydra.tools.PrimitiveFunction;
 import java.util.List;
 import java.util.function.BiFunction;
@@ -29,8 +32,19 @@ public class Bind<A> extends PrimitiveFunction<A> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
-        return args -> Flows.map(Expect.list(Flows::pure, args.get(0)), argsArg -> {
+        return (Reduction.StrategyAwareImplementation<A>) (strategy, args) -> {
+            Stream<A> stream = Streams.stream(args.get(0));
+            Term<A> mapping = args.get(1);
+            return stream != null
+                ? Concat.concat(strategy, LazyStream.iterator(LazyStream.map(t -> Terms.apply(mapping, t), stream)))
+                : bindList(args);
+        };
+    }
+
+    private static <A> Flow<Graph<A>, Term<A>> bindList(List<Term<A>> args) {
+        return Flows.map(Expect.list(args.get(0)), argsArg -> {
             Term<A> mapping = args.get(1);
             return Terms.apply(
                 Terms.primitive(Concat.NAME),
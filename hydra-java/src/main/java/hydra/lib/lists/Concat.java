@@ -1,16 +1,20 @@
 package hydra.lib.lists;
 
 import hydra.Flows;
+import hydra.Reduction;
 import hydra.compute.Flow;
 import hydra.core.Name;
+import hydra.core.Stream;
 import hydra.core.Term;
 import hydra.core.Type;
 import hydra.dsl.Expect;
 import hydra.dsl.Terms;
 import hydra.graph.Graph;
+import hydra.tools.LazyStream;
 import hydra.tools.PrimitiveFunction;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -30,7 +34,25 @@ public class Concat<A> extends PrimitiveFunction<A> {
 
     @Override
     protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
-        return args -> Flows.map(Expect.list(t -> Expect.list(Flows::pure, t), args.get(0)), l -> Terms.list(apply(l)));
+        return (Reduction.StrategyAwareImplementation<A>) (strategy, args) -> {
+            // A stream of lists, or a list which includes any streams, is concatenated lazily
+            Stream<A> stream = Streams.stream(args.get(0));
+            if (stream != null) {
+                return concat(strategy, LazyStream.iterator(stream));
+            }
+            return Flows.bind(Expect.list(args.get(0)), sublists -> {
+                for (Term<A> sublist : sublists) {
+                    if (Streams.stream(sublist) != null) {
+                        return concat(strategy, sublists.iterator());
+                    }
+                }
+                return Flows.map(Expect.list(t -> Expect.list(t), args.get(0)), l -> Terms.list(apply(l)));
+            });
+        };
+    }
+
+    static <A> Flow<Graph<A>, Term<A>> concat(Reduction.Strategy strategy, Iterator<Term<A>> terms) {
+        return Streams.catching((graph, trace) -> LazyStream.toTerm(Streams.concat(graph, trace, strategy, terms)));
     }
 
     public static <X> List<X> apply(List<List<X>> sublists) {
@@ -8,6 +8,7 @@ import hydra.core.Type;
 import hydra.dsl.Expect;
 import hydra.dsl.Terms;
 import hydra.graph.Graph;
+import hydra.tools.PersistentList;
 import hydra.tools.PrimitiveFunction;
 
 import java.util.ArrayList;
@@ -33,12 +34,16 @@ public class Concat2<A> extends PrimitiveFunction<A> {
     @Override
     protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
         return args -> Flows.map2(
-                Expect.list(Flows::pure, args.get(0)),
-                Expect.list(Flows::pure, args.get(1)),
+                Expect.list(args.get(0)),
+                Expect.list(args.get(1)),
                 (l1, l2) -> Terms.list(Concat2.apply(l1, l2)));
     }
 
     public static <X> List<X> apply(List<X> l1, List<X> l2) {
+        if (l2 instanceof PersistentList) {
+            // Share the second list rather than copying it
+            return ((PersistentList<X>) l2).prependAll(l1);
+        }
         List<X> combined = new ArrayList<>();
         combined.addAll(l1);
         combined.addAll(l2);
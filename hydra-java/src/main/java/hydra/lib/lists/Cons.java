@@ -8,9 +8,9 @@ import hydra.core.Type;
 import hydra.dsl.Expect;
 import hydra.dsl.Terms;
 import hydra.graph.Graph;
+import hydra.tools.PersistentList;
 import hydra.tools.PrimitiveFunction;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 
@@ -33,14 +33,11 @@ public class Cons<A> extends PrimitiveFunction<A> {
     @Override
     protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
         return args -> Flows.map(
-                Expect.list(Flows::pure, args.get(1)),
+                Expect.list(args.get(1)),
                 l -> Terms.list(Cons.apply(args.get(0), l)));
     }
 
     public static <X> List<X> apply(X el, List<X> l) {
-        List<X> combined = new ArrayList<>();
-        combined.add(el);
-        combined.addAll(l);
-        return combined;
+        return PersistentList.from(l).cons(el);
     }
 }
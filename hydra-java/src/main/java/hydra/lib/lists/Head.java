@@ -3,6 +3,7 @@ package hydra.lib.lists;
 import hydra.Flows;
 import hydra.compute.Flow;
 import hydra.core.Name;
+import hydra.core.Stream;
 import hydra.core.Term;
 import hydra.core.Type;
 import hydra.dsl.Expect;
@@ -27,7 +28,10 @@ public class Head<A> extends PrimitiveFunction<A> {
 
     @Override
     protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
-        return args -> map(Expect.list(Flows::pure, args.get(0)), Head::apply);
+        return args -> {
+            Stream<A> stream = Streams.stream(args.get(0));
+            return stream != null ? Flows.pure(stream.first) : map(Expect.list(args.get(0)), Head::apply);
+        };
     }
 
     public static <X> X apply(List<X> list) {
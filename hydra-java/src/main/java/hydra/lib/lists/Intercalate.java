@@ -29,8 +29,8 @@ public class Intercalate<A> extends PrimitiveFunction<A> {
     @Override
     protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
         return args -> Flows.map2(
-            Expect.list(Flows::pure, args.get(0)),
-            Expect.list(t -> Expect.list(Flows::pure, t), args.get(1)),
+            Expect.list(args.get(0)),
+            Expect.list(t -> Expect.list(t), args.get(1)),
             (delim1, sublists1) -> Terms.list(apply(delim1, sublists1)));
     }
 
@@ -28,7 +28,7 @@ public class Intersperse<A> extends PrimitiveFunction<A> {
     @Override
     protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
         return args -> Flows.map(
-            Expect.list(Flows::pure, args.get(1)),
+            Expect.list(args.get(1)),
             list -> Terms.list(apply(args.get(0), list)));
     }
 
@@ -27,7 +27,7 @@ public class Last<A> extends PrimitiveFunction<A> {
 
     @Override
     protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
-        return args -> map(Expect.list(Flows::pure, args.get(0)), Last::apply);
+        return args -> map(Expect.list(args.get(0)), Last::apply);
     }
 
     public static <X> X apply(List<X> list) {
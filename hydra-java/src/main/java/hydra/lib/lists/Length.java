@@ -28,7 +28,7 @@ public class Length<A> extends PrimitiveFunction<A> {
 
     @Override
     protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
-        return args -> map(Expect.list(Flows::pure, args.get(0)), l -> Terms.int32(apply(l)));
+        return args -> map(Expect.list(args.get(0)), l -> Terms.int32(apply(l)));
     }
 
     public static <X> int apply(List<X> list) {
@@ -1,22 +1,40 @@
 package hydra.lib.lists;
 
 import hydra.compute.Flow;
+import hydra.core.Application;
+import hydra.core.Lambda;
 import hydra.core.Name;
+import hydra.core.Stream;
 import hydra.core.Term;
 import hydra.core.Type;
 import hydra.dsl.Expect;
 import hydra.dsl.Terms;
 import hydra.graph.Graph;
+import hydra.lib.equality.EqualInt32;
+import hydra.lib.math.Add;
+import hydra.lib.math.Mul;
+import hydra.lib.math.Sub;
+import hydra.tools.LazyStream;
+import hydra.tools.PackedList;
 import hydra.tools.PrimitiveFunction;
 
+import java.util.ArrayList;
 import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static hydra.Common.stripTerm;
 import static hydra.Flows.*;
 import static hydra.dsl.Types.*;
 
 public class Map<A> extends PrimitiveFunction<A> {
+    private static final Name ADD = new Add<>().name();
+    private static final Name SUB = new Sub<>().name();
+    private static final Name MUL = new Mul<>().name();
+    private static final Name EQUAL_INT32 = new EqualInt32<>().name();
+
     public Name name() {
         return new Name("hydra/lib/lists.map");
     }
@@ -27,9 +45,110 @@ public class Map<A> extends PrimitiveFunction<A> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
-        return args -> bind(Expect.list(instance -> pure(Terms.apply(args.get(0), instance)), args.get(1)),
-            l -> pure(Terms.list(l)));
+        return args -> {
+            Stream<A> stream = Streams.stream(args.get(1));
+            return stream != null
+                ? pure(LazyStream.toTerm(LazyStream.map(t -> Terms.apply(args.get(0), t), stream)))
+                : mapList(args);
+        };
+    }
+
+    private static <A> Flow<Graph<A>, Term<A>> mapList(List<Term<A>> args) {
+        return bind(Expect.list(args.get(1)), terms -> {
+            if (terms instanceof PackedList.Int32s) {
+                Optional<List<Term<A>>> mapped = mapInt32s(args.get(0), ((PackedList.Int32s<A>) terms).values);
+                if (mapped.isPresent()) {
+                    return pure(Terms.list(mapped.get()));
+                }
+            }
+            List<Term<A>> applications = new ArrayList<>(terms.size());
+            for (Term<A> term : terms) {
+                applications.add(Terms.apply(args.get(0), term));
+            }
+            return pure(Terms.list(applications));
+        });
+    }
+
+    /**
+     * Map a function over a packed list of int32 values in a single loop, provided that the function applies an
+     * arithmetic or equality primitive to its argument and an int32 constant, e.g. (add 1) or (\x -> mul x 2)
+     */
+    private static <A> Optional<List<Term<A>>> mapInt32s(Term<A> fun, int[] values) {
+        Term<A> body = stripTerm(fun);
+        Name param = null;
+        if (body instanceof Term.Function
+            && ((Term.Function<A>) body).value instanceof hydra.core.Function.Lambda) {
+            Lambda<A> lambda = ((hydra.core.Function.Lambda<A>) ((Term.Function<A>) body).value).value;
+            param = lambda.parameter;
+            body = stripTerm(lambda.body);
+        }
+
+        // Find the primitive and its arguments; the last argument is implicit unless there is a lambda
+        List<Term<A>> operands = new ArrayList<>();
+        while (body instanceof Term.Application) {
+            Application<A> app = ((Term.Application<A>) body).value;
+            operands.add(0, stripTerm(app.argument));
+            body = stripTerm(app.function);
+        }
+        if (!(body instanceof Term.Function)
+            || !(((Term.Function<A>) body).value instanceof hydra.core.Function.Primitive)
+            || operands.size() != (param == null ? 1 : 2)) {
+            return Optional.empty();
+        }
+        Name prim = ((hydra.core.Function.Primitive<A>) ((Term.Function<A>) body).value).value;
+
+        Integer constant;
+        boolean constantFirst;
+        if (param == null) {
+            constant = Expect.int32Value(operands.get(0));
+            constantFirst = true;
+        } else if (isVariable(operands.get(0), param)) {
+            constant = Expect.int32Value(operands.get(1));
+            constantFirst = false;
+        } else if (isVariable(operands.get(1), param)) {
+            constant = Expect.int32Value(operands.get(0));
+            constantFirst = true;
+        } else {
+            return Optional.empty();
+        }
+        if (constant == null) {
+            return Optional.empty();
+        }
+        int k = constant;
+
+        IntBinaryOperator op;
+        if (prim.equals(ADD)) {
+            op = (x, y) -> x + y;
+        } else if (prim.equals(SUB)) {
+            op = (x, y) -> x - y;
+        } else if (prim.equals(MUL)) {
+            op = (x, y) -> x * y;
+        } else if (prim.equals(EQUAL_INT32)) {
+            List<Term<A>> results = new ArrayList<>(values.length);
+            for (int value : values) {
+                results.add(Terms.boolean_(value == k));
+            }
+            return Optional.of(results);
+        } else {
+            return Optional.empty();
+        }
+        int[] results = new int[values.length];
+        if (constantFirst) {
+            for (int i = 0; i < values.length; i++) {
+                results[i] = op.applyAsInt(k, values[i]);
+            }
+        } else {
+            for (int i = 0; i < values.length; i++) {
+                results[i] = op.applyAsInt(values[i], k);
+            }
+        }
+        return Optional.of(new PackedList.Int32s<>(results));
+    }
+
+    private static <A> boolean isVariable(Term<A> term, Name name) {
+        return term instanceof Term.Variable && ((Term.Variable<A>) term).value.equals(name);
     }
 
     public static <X, Y> Function<List<X>, List<Y>> apply(Function<X, Y> mapping) {
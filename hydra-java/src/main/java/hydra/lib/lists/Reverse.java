@@ -34,13 +34,13 @@ public class Reverse<A> extends PrimitiveFunction<A> {
     @Override
     protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
         return args -> Flows.map(
-                Expect.list(Flows::pure, args.get(0)), l -> Terms.list(Reverse.apply(l)));
+                Expect.list(args.get(0)), l -> Terms.list(Reverse.apply(l)));
     }
 
     public static <X> List<X> apply(List<X> list) {
-        List<X> newList = new ArrayList<>();
-        newList.addAll(list);
-        Collections.reverse(list);
+        // Reverse a copy; the argument may be shared, and must not be modified
+        List<X> newList = new ArrayList<>(list);
+        Collections.reverse(newList);
         return newList;
     }
 }
@@ -0,0 +1,106 @@
+package hydra.lib.lists;
+
+import hydra.Reduction;
+import hydra.compute.Flow;
+import hydra.compute.FlowInterpreter;
+import hydra.compute.FlowState;
+import hydra.compute.Trace;
+import hydra.core.Stream;
+import hydra.core.Term;
+import hydra.dsl.Expect;
+import hydra.graph.Graph;
+import hydra.tools.FlowException;
+import hydra.tools.LazyStream;
+import hydra.tools.TraceLog;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+import static hydra.Common.stripTerm;
+
+
+/**
+ * Support for list primitives which also accept streams. Where a primitive would otherwise produce a list, it produces
+ * a lazy stream, so that pipelines over large or unbounded streams run in constant memory.
+ */
+final class Streams {
+    private Streams() {
+    }
+
+    /**
+     * The stream held by a term, or null if the term is not a stream
+     */
+    static <A> Stream<A> stream(Term<A> term) {
+        Term<A> stripped = stripTerm(term);
+        return stripped instanceof Term.Stream ? ((Term.Stream<A>) stripped).value : null;
+    }
+
+    /**
+     * An iterator over the elements of a term which is, or which reduces to, a list or a stream. Terms are reduced
+     * eagerly with the given strategy, which should be that of the reduction which applied the primitive, and with the
+     * stack and limits of the given trace, which should be that of the flow which applied it.
+     * Since the iterator may be consumed after the primitive which created it has returned, failures are thrown as
+     * FlowExceptions; primitives which consume streams should do so within {@link #catching(BiFunction)}.
+     */
+    static <A> Iterator<Term<A>> elements(Graph<A> graph, Trace trace, Reduction.Strategy strategy, Term<A> term) {
+        Stream<A> stream = stream(term);
+        if (stream != null) {
+            return LazyStream.iterator(stream);
+        }
+        Term<A> stripped = stripTerm(term);
+        if (!(stripped instanceof Term.List)) {
+            stripped = stripTerm(run(graph, trace, Reduction.reduce(strategy, true, term)));
+            stream = stream(stripped);
+            if (stream != null) {
+                return LazyStream.iterator(stream);
+            }
+        }
+        return run(graph, trace, Expect.<Graph<A>, A>list(stripped)).iterator();
+    }
+
+    /**
+     * A lazy stream of the elements of the lists or streams to which a sequence of terms reduce, in order.
+     * Each term is reduced, with the given strategy and trace, only when the elements before it have been consumed.
+     */
+    static <A> Stream<A> concat(Graph<A> graph, Trace trace, Reduction.Strategy strategy, Iterator<Term<A>> terms) {
+        return LazyStream.concat(new Iterator<Iterator<Term<A>>>() {
+            @Override
+            public boolean hasNext() {
+                return terms.hasNext();
+            }
+
+            @Override
+            public Iterator<Term<A>> next() {
+                return elements(graph, trace, strategy, terms.next());
+            }
+        });
+    }
+
+    /**
+     * A flow which computes a result from streams, given the graph and the trace of the flow, and which turns any
+     * failure raised while a stream is forced during the computation into a failed flow. The computation runs when
+     * the flow does, so it sees the failures of all tails which it forces, including tails of streams which were
+     * created earlier.
+     */
+    static <A, X> Flow<Graph<A>, X> catching(BiFunction<Graph<A>, Trace, X> compute) {
+        return new Flow<>(graph -> trace -> {
+            try {
+                return new FlowState<>(Optional.of(compute.apply(graph, trace)), graph, trace);
+            } catch (FlowException e) {
+                return new FlowState<>(Optional.empty(), graph,
+                    trace.withMessages(TraceLog.appendAll(trace.messages, e.trace.messages)));
+            }
+        });
+    }
+
+    // Run a nested flow with the stack and limits of the given trace. Its messages are reported only if it fails,
+    // and then in addition to those of the flow which forces the stream.
+    private static <A, X> X run(Graph<A> graph, Trace trace, Flow<Graph<A>, X> flow) {
+        FlowState<Graph<A>, X> result = FlowInterpreter.run(flow, graph,
+            trace.withMessages(TraceLog.emptyLike(trace.messages)));
+        if (!result.value.isPresent()) {
+            throw new FlowException(result.trace);
+        }
+        return result.value.get();
+    }
+}
@@ -1,13 +1,15 @@
 package hydra.lib.lists;
 
-import hydra.Flows;
 import hydra.compute.Flow;
 import hydra.core.Name;
+import hydra.core.Stream;
 import hydra.core.Term;
 import hydra.core.Type;
 import hydra.dsl.Expect;
 import hydra.dsl.Terms;
 import hydra.graph.Graph;
+import hydra.tools.LazyStream;
+import hydra.tools.PersistentList;
 import hydra.tools.PrimitiveFunction;
 
 import java.util.List;
@@ -30,11 +32,15 @@ public class Tail<A> extends PrimitiveFunction<A> {
 
     @Override
     protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
-        return args -> map(Expect.list(Flows::pure, args.get(0)),
-                (Function<List<Term<A>>, Term<A>>) terms -> Terms.list(apply(terms)));
+        return args -> {
+            Stream<A> stream = Streams.stream(args.get(0));
+            return stream != null
+                ? Streams.<A, Term<A>>catching((graph, trace) -> LazyStream.toTerm(LazyStream.rest(stream)))
+                : map(Expect.list(args.get(0)), (Function<List<Term<A>>, Term<A>>) terms -> Terms.list(apply(terms)));
+        };
     }
 
     public static <X> List<X> apply(List<X> list) {
-        return list.subList(1, list.size());
+        return list instanceof PersistentList ? ((PersistentList<X>) list).tail() : list.subList(1, list.size());
     }
 }
@@ -7,9 +7,9 @@ import hydra.core.Term;
 import hydra.core.Type;
 import hydra.dsl.Terms;
 import hydra.graph.Graph;
+import hydra.tools.PersistentMap;
 import hydra.tools.PrimitiveFunction;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -33,6 +33,6 @@ public class Empty<A> extends PrimitiveFunction<A> {
     }
 
     public static <K, V> Map<K, V> apply() {
-        return Collections.emptyMap();
+        return PersistentMap.empty();
     }
 }
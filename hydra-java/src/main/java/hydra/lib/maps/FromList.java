@@ -8,9 +8,9 @@ import hydra.core.Tuple;
 import hydra.core.Type;
 import hydra.dsl.Expect;
 import hydra.graph.Graph;
+import hydra.tools.PersistentMap;
 import hydra.tools.PrimitiveFunction;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -40,9 +40,9 @@ public class FromList<A> extends PrimitiveFunction<A> {
     }
 
     public static <K, V> Map<K, V> apply(List<Tuple.Tuple2<K, V>> pairs) {
-        Map<K, V> mp = new HashMap<>();
+        PersistentMap<K, V> mp = PersistentMap.empty();
         for (Tuple.Tuple2<K, V> pair : pairs) {
-            mp.put(pair.object1, pair.object2);
+            mp = mp.plus(pair.object1, pair.object2);
         }
         return mp;
     }
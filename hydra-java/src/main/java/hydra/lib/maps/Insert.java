@@ -8,9 +8,9 @@ import hydra.core.Type;
 import hydra.dsl.Expect;
 import hydra.dsl.Terms;
 import hydra.graph.Graph;
+import hydra.tools.PersistentMap;
 import hydra.tools.PrimitiveFunction;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -34,7 +34,7 @@ public class Insert<A> extends PrimitiveFunction<A> {
         return args -> {
             Term<A> key = args.get(0);
             Term<A> value = args.get(1);
-            return Flows.map(Expect.map(Flows::pure, Flows::pure, args.get(2)), before -> Terms.map(apply(key, value, before)));
+            return Flows.map(Expect.map(args.get(2)), before -> Terms.map(apply(key, value, before)));
         };
     }
 
@@ -47,8 +47,6 @@ public class Insert<A> extends PrimitiveFunction<A> {
     }
 
     public static <K, V> Map<K, V> apply(K k, V v, Map<K, V> before) {
-        Map<K, V> after = new HashMap<>(before);
-        before.put(k, v);
-        return after;
+        return PersistentMap.from(before).plus(k, v);
     }
 }
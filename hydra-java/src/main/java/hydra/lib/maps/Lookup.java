@@ -34,7 +34,7 @@ public class Lookup<A> extends PrimitiveFunction<A> {
 
     @Override
     protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
-        return args -> Flows.map(Expect.map(Flows::pure, Flows::pure, args.get(1)),
+        return args -> Flows.map(Expect.map(args.get(1)),
                 (Function<Map<Term<A>, Term<A>>, Term<A>>) mp -> Terms.optional(apply(args.get(0), mp)));
     }
 
@@ -28,14 +28,21 @@ public class Div<A> extends PrimitiveFunction<A> {
 
     @Override
     protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
-        return args -> bind2(Expect.int32(args.get(0)), Expect.int32(args.get(1)),
-            (BiFunction<Integer, Integer, Flow<Graph<A>, Term<A>>>) (arg0, arg1) -> {
-                if (arg1.equals(0)) {
-                    return fail("division by zero");
-                } else {
-                    return pure(Terms.int32(apply(arg0, arg1)));
-                }
-            });
+        return args -> {
+            Integer arg0 = Expect.int32Value(args.get(0));
+            Integer arg1 = Expect.int32Value(args.get(1));
+            if (arg0 != null && arg1 != null && arg1 != 0) {
+                return pure(Terms.int32(apply(arg0, arg1)));
+            }
+            return bind2(Expect.int32(args.get(0)), Expect.int32(args.get(1)),
+                (BiFunction<Integer, Integer, Flow<Graph<A>, Term<A>>>) (a0, a1) -> {
+                    if (a1.equals(0)) {
+                        return fail("division by zero");
+                    } else {
+                        return pure(Terms.int32(apply(a0, a1)));
+                    }
+                });
+        };
     }
 
     public static Function<Integer, Integer> apply(Integer dividend) {
@@ -27,8 +27,15 @@ public class Mul<A> extends PrimitiveFunction<A> {
 
     @Override
     protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
-        return args -> map2(Expect.int32(args.get(0)), Expect.int32(args.get(1)),
-            (arg0, arg1) -> Terms.int32(apply(arg0, arg1)));
+        return args -> {
+            Integer arg0 = Expect.int32Value(args.get(0));
+            Integer arg1 = Expect.int32Value(args.get(1));
+            if (arg0 != null && arg1 != null) {
+                return pure(Terms.int32(apply(arg0, arg1)));
+            }
+            return map2(Expect.int32(args.get(0)), Expect.int32(args.get(1)),
+                (a0, a1) -> Terms.int32(apply(a0, a1)));
+        };
     }
 
     public static Function<Integer, Integer> apply(Integer multiplier) {
@@ -26,8 +26,13 @@ public class Neg<A> extends PrimitiveFunction<A> {
 
     @Override
     protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
-        return args -> map(Expect.int32(args.get(0)),
-            (arg0) -> Terms.int32(apply(arg0)));
+        return args -> {
+            Integer arg0 = Expect.int32Value(args.get(0));
+            if (arg0 != null) {
+                return pure(Terms.int32(apply(arg0)));
+            }
+            return map(Expect.int32(args.get(0)), a0 -> Terms.int32(apply(a0)));
+        };
     }
 
     public static Integer apply(Integer num) {
@@ -0,0 +1,64 @@
+package hydra.lib.math;
+
+import hydra.compute.Flow;
+import hydra.core.Name;
+import hydra.core.Term;
+import hydra.core.Type;
+import hydra.dsl.Expect;
+import hydra.dsl.Terms;
+import hydra.graph.Graph;
+import hydra.tools.PackedList;
+import hydra.tools.PrimitiveFunction;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static hydra.Flows.*;
+import static hydra.dsl.Types.*;
+
+
+public class Product<A> extends PrimitiveFunction<A> {
+    public Name name() {
+        return new Name("hydra/lib/math.product");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Type<A> type() {
+        return function(list(int32()), int32());
+    }
+
+    @Override
+    protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
+        return args -> bind(Expect.list(args.get(0)), terms -> {
+            if (terms instanceof PackedList.Int32s) {
+                return pure(Terms.int32(apply(((PackedList.Int32s<A>) terms).values)));
+            }
+            int product = 1;
+            for (Term<A> term : terms) {
+                Integer value = Expect.int32Value(term);
+                if (value == null) {
+                    return map(Expect.list(Expect::int32, args.get(0)), values -> Terms.int32(apply(values)));
+                }
+                product *= value;
+            }
+            return pure(Terms.int32(product));
+        });
+    }
+
+    public static Integer apply(List<Integer> values) {
+        int product = 1;
+        for (Integer value : values) {
+            product *= value;
+        }
+        return product;
+    }
+
+    public static int apply(int[] values) {
+        int product = 1;
+        for (int value : values) {
+            product *= value;
+        }
+        return product;
+    }
+}
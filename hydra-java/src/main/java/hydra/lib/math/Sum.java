@@ -0,0 +1,64 @@
+package hydra.lib.math;
+
+import hydra.compute.Flow;
+import hydra.core.Name;
+import hydra.core.Term;
+import hydra.core.Type;
+import hydra.dsl.Expect;
+import hydra.dsl.Terms;
+import hydra.graph.Graph;
+import hydra.tools.PackedList;
+import hydra.tools.PrimitiveFunction;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static hydra.Flows.*;
+import static hydra.dsl.Types.*;
+
+
+public class Sum<A> extends PrimitiveFunction<A> {
+    public Name name() {
+        return new Name("hydra/lib/math.sum");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Type<A> type() {
+        return function(list(int32()), int32());
+    }
+
+    @Override
+    protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
+        return args -> bind(Expect.list(args.get(0)), terms -> {
+            if (terms instanceof PackedList.Int32s) {
+                return pure(Terms.int32(apply(((PackedList.Int32s<A>) terms).values)));
+            }
+            int sum = 0;
+            for (Term<A> term : terms) {
+                Integer value = Expect.int32Value(term);
+                if (value == null) {
+                    return map(Expect.list(Expect::int32, args.get(0)), values -> Terms.int32(apply(values)));
+                }
+                sum += value;
+            }
+            return pure(Terms.int32(sum));
+        });
+    }
+
+    public static Integer apply(List<Integer> values) {
+        int sum = 0;
+        for (Integer value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    public static int apply(int[] values) {
+        int sum = 0;
+        for (int value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+}
@@ -27,7 +27,7 @@ public class Contains<A> extends PrimitiveFunction<A> {
 
     @Override
     protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
-        return args -> Flows.map(Expect.set(Flows::pure, args.get(1)),
+        return args -> Flows.map(Expect.set(args.get(1)),
             terms -> Terms.boolean_(apply(args.get(0), terms)));
     }
 
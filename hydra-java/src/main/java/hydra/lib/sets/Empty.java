@@ -7,9 +7,9 @@ import hydra.core.Term;
 import hydra.core.Type;
 import hydra.dsl.Terms;
 import hydra.graph.Graph;
+import hydra.tools.PersistentSet;
 import hydra.tools.PrimitiveFunction;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
@@ -32,6 +32,6 @@ public class Empty<A> extends PrimitiveFunction<A> {
     }
 
     public static <X> Set<X> apply() {
-        return Collections.emptySet();
+        return PersistentSet.empty();
     }
 }
@@ -8,9 +8,9 @@ import hydra.core.Type;
 import hydra.dsl.Expect;
 import hydra.dsl.Terms;
 import hydra.graph.Graph;
+import hydra.tools.PersistentSet;
 import hydra.tools.PrimitiveFunction;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
@@ -29,10 +29,10 @@ public class FromList<A> extends PrimitiveFunction<A> {
 
     @Override
     protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
-        return args -> Flows.map(Expect.list(Flows::pure, args.get(0)), arg -> Terms.set(apply(arg)));
+        return args -> Flows.map(Expect.list(args.get(0)), arg -> Terms.set(apply(arg)));
     }
 
     public static <X> Set<X> apply(List<X> arg) {
-        return new HashSet<>(arg);
+        return PersistentSet.from(arg);
     }
 }
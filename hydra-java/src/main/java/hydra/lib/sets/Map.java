@@ -30,7 +30,7 @@ public class Map<A> extends PrimitiveFunction<A> {
     protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
         return args -> {
             Term<A> mapping = args.get(0);
-            return Flows.map(Expect.set(Flows::pure, args.get(1)),
+            return Flows.map(Expect.set(args.get(1)),
                 arg -> Terms.set(arg.stream().map(e -> Terms.apply(mapping, e)).collect(Collectors.toSet())));
         };
     }
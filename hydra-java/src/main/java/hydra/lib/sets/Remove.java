@@ -8,11 +8,11 @@ import hydra.core.Type;
 import hydra.dsl.Expect;
 import hydra.dsl.Terms;
 import hydra.graph.Graph;
+import hydra.tools.PersistentSet;
 import hydra.tools.PrimitiveFunction;
 
 import java.util.List;
 import java.util.function.Function;
-import java.util.HashSet;
 import java.util.Set;
 import static hydra.dsl.Types.*;
 
@@ -28,7 +28,7 @@ public class Remove<A> extends PrimitiveFunction<A> {
 
     @Override
     protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
-        return args -> Flows.map(Expect.set(Flows::pure, args.get(1)), arg -> Terms.set(apply(args.get(0), arg)));
+        return args -> Flows.map(Expect.set(args.get(1)), arg -> Terms.set(apply(args.get(0), arg)));
     }
 
     public static <X> Function<Set<X>, Set<X>> apply(X elem) {
@@ -36,8 +36,6 @@ public class Remove<A> extends PrimitiveFunction<A> {
     }
 
     public static <X> Set<X> apply(X elem, Set<X> arg) {
-        Set<X> newSet = new HashSet<>(arg);
-        newSet.remove(elem);
-        return newSet;
+        return PersistentSet.from(arg).minus(elem);
     }
 }
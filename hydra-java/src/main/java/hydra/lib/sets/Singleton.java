@@ -7,9 +7,9 @@ import hydra.core.Term;
 import hydra.core.Type;
 import hydra.dsl.Terms;
 import hydra.graph.Graph;
+import hydra.tools.PersistentSet;
 import hydra.tools.PrimitiveFunction;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
@@ -32,8 +32,6 @@ public class Singleton<A> extends PrimitiveFunction<A> {
     }
 
     public static <X> Set<X> apply(X elem) {
-        Set<X> newSet = new HashSet<>();
-        newSet.add(elem);
-        return newSet;
+        return PersistentSet.<X>empty().plus(elem);
     }
 }
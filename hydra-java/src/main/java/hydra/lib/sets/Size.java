@@ -29,7 +29,7 @@ public class Size<A> extends PrimitiveFunction<A> {
 
     @Override
     protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
-        return args -> Flows.map(Expect.set(Flows::pure, args.get(0)), arg -> Terms.int32(apply(arg)));
+        return args -> Flows.map(Expect.set(args.get(0)), arg -> Terms.int32(apply(arg)));
     }
 
     public static <X> Integer apply(Set<X> arg) {
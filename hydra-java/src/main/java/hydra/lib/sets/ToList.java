@@ -29,7 +29,7 @@ public class ToList<A> extends PrimitiveFunction<A> {
 
     @Override
     protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
-        return args -> Flows.map(Expect.set(Flows::pure, args.get(0)), terms -> Terms.list(apply(terms)));
+        return args -> Flows.map(Expect.set(args.get(0)), terms -> Terms.list(apply(terms)));
     }
 
     public static <X> List<X> apply(Set<X> arg) {
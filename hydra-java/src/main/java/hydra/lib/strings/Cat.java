@@ -31,7 +31,10 @@ public class Cat<A> extends PrimitiveFunction<A> {
             strings -> Terms.string(apply(strings)));
     }
 
+    /**
+     * The concatenation of a list of strings, which copies each string once
+     */
     public static String apply(List<String> args) {
-        return String.join("", args);
+        return Intercalate.apply("", args);
     }
 }
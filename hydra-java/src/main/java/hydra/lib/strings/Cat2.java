@@ -34,6 +34,11 @@ public class Cat2<A> extends PrimitiveFunction<A> {
             (l, r) -> Terms.string(Cat2.apply(l, r)));
     }
 
+    /**
+     * The concatenation of two strings. String literals are java.lang.String values, so this copies both arguments;
+     * repeatedly concatenating onto an accumulated string is quadratic, and strings.cat over a list should be used
+     * instead.
+     */
     public static String apply(String left, String right) {
         return left + right;
     }
@@ -8,6 +8,7 @@ import hydra.core.Type;
 import hydra.dsl.Expect;
 import hydra.dsl.Terms;
 import hydra.graph.Graph;
+import hydra.tools.PackedList;
 import hydra.tools.PrimitiveFunction;
 
 import java.util.List;
@@ -30,16 +31,40 @@ public class FromList<A> extends PrimitiveFunction<A> {
 
     @Override
     protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
-        return args -> {
+        return args -> Flows.bind(Expect.list(args.get(0)), terms -> {
+            if (terms instanceof PackedList.Int32s) {
+                int[] codePoints = ((PackedList.Int32s<A>) terms).values;
+                for (int c : codePoints) {
+                    if (!Character.isValidCodePoint(c)) {
+                        return invalid(c);
+                    }
+                }
+                return Flows.pure(Terms.string(new String(codePoints, 0, codePoints.length)));
+            }
             Flow<Graph<A>, List<Integer>> list = Expect.list(Expect::int32, args.get(0));
-            return Flows.map(list, l -> Terms.string(FromList.apply(l)));
-        };
+            return Flows.bind(list, l -> {
+                for (Integer c : l) {
+                    if (!Character.isValidCodePoint(c)) {
+                        return invalid(c);
+                    }
+                }
+                return Flows.pure(Terms.string(FromList.apply(l)));
+            });
+        });
     }
 
+    private static <S, X> Flow<S, X> invalid(int codePoint) {
+        return Flows.fail("invalid code point: " + codePoint);
+    }
+
+    /**
+     * A string from a list of characters, i.e. code points. Throws an IllegalArgumentException for any value which is
+     * not a code point, i.e. which is outside of the range 0 to 0x10FFFF.
+     */
     public static String apply(List<Integer> list) {
-        StringBuilder sb = new StringBuilder();
+        StringBuilder sb = new StringBuilder(list.size());
         for (Integer i : list) {
-            sb.append((char) i.intValue());
+            sb.appendCodePoint(i);
         }
         return sb.toString();
     }
@@ -40,7 +40,12 @@ public class Intercalate<A> extends PrimitiveFunction<A> {
     }
 
     public static String apply(String delim, List<String> strings) {
-        StringBuilder sb = new StringBuilder();
+        // Size the result in advance, so that each input is copied exactly once
+        int length = 0;
+        for (String s : strings) {
+            length += s.length();
+        }
+        StringBuilder sb = new StringBuilder(length + Math.max(0, strings.size() - 1) * delim.length());
         boolean first = true;
         for (String s : strings) {
             if (first) {
@@ -29,7 +29,10 @@ public class Length<A> extends PrimitiveFunction<A> {
         return args -> map(Expect.string(args.get(0)), s -> Terms.int32(apply(s)));
     }
 
+    /**
+     * The number of characters, i.e. code points, in a string
+     */
     public static int apply(String s) {
-        return s.length();
+        return s.codePointCount(0, s.length());
     }
 }
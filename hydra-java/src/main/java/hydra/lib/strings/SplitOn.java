@@ -38,37 +38,26 @@ public class SplitOn<A> extends PrimitiveFunction<A> {
     }
 
     // Note: the delimiter is not interpreted as a regular expression; it is simply a literal string. See Haskell's Data.List.Split.
+    // As in Haskell, an empty delimiter splits the string into characters, i.e. code points.
     public static List<String> apply(String delim, String string) {
         List<String> parts = new ArrayList<>();
 
-        if (delim.length() == 0) {
+        if (delim.isEmpty()) {
             parts.add("");
-            for (int i = 0; i < string.length(); i++) {
-                parts.add(string.substring(i, i+1));
+            for (int i = 0; i < string.length(); ) {
+                int next = string.offsetByCodePoints(i, 1);
+                parts.add(string.substring(i, next));
+                i = next;
             }
         } else {
-            byte[] delimBytes = delim.getBytes();
-            byte[] stringBytes = string.getBytes();
-
+            // Matching whole UTF-16 sequences never splits a surrogate pair, since a well-formed delimiter
+            // cannot begin or end in the middle of one
             int k = 0;
-            for (int i = 0; i <= stringBytes.length - delimBytes.length; i++) {
-                boolean match = true;
-
-                for (int j = 0; j < delimBytes.length; j++) {
-                    if (stringBytes[i + j] != delimBytes[j]) {
-                        match = false;
-                        break;
-                    }
-                }
-
-                if (match) {
-                    parts.add(string.substring(k, i));
-                    i += delimBytes.length;
-                    k = i;
-                    i--;
-                }
+            int i;
+            while ((i = string.indexOf(delim, k)) >= 0) {
+                parts.add(string.substring(k, i));
+                k = i + delim.length();
             }
-
             parts.add(string.substring(k));
         }
 
@@ -8,6 +8,7 @@ import hydra.core.Type;
 import hydra.dsl.Expect;
 import hydra.dsl.Terms;
 import hydra.graph.Graph;
+import hydra.tools.PackedList;
 import hydra.tools.PrimitiveFunction;
 
 import java.util.ArrayList;
@@ -31,21 +32,16 @@ public class ToList<A> extends PrimitiveFunction<A> {
 
     @Override
     protected Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation() {
-        return args -> Flows.map(Expect.string(args.get(0)), (Function<String, Term<A>>) s -> {
-            List<Integer> list = apply(s);
-            List<Term<A>> terms = new ArrayList<>(list.size());
-            for (Integer i : list) {
-                terms.add(Terms.int32(i));
-            }
-            return Terms.list(terms);
-        });
+        return args -> Flows.map(Expect.string(args.get(0)),
+            (Function<String, Term<A>>) s -> Terms.list(new PackedList.Int32s<>(s.codePoints().toArray())));
     }
 
+    /**
+     * The characters, i.e. code points, of a string
+     */
     public static List<Integer> apply(String s) {
         List<Integer> list = new ArrayList<>(s.length());
-        for (char c : s.toCharArray()) {
-            list.add((int) c);
-        }
+        s.codePoints().forEach(list::add);
         return list;
     }
 }
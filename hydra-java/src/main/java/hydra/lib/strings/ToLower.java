@@ -29,7 +29,13 @@ public class ToLower<A> extends PrimitiveFunction<A> {
         return args -> Flows.map(Expect.string(args.get(0)), s -> Terms.string(apply(s)));
     }
 
+    /**
+     * Convert each character to lower case, using the simple, locale-independent case mapping of each code point
+     */
     public static String apply(String upper) {
-        return upper.toLowerCase(); // TODO: Java's built-in behavior may not agree with that of Haskell or other host languages
+        return upper.codePoints()
+            .map(Character::toLowerCase)
+            .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+            .toString();
     }
 }
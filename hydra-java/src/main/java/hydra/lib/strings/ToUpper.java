@@ -30,7 +30,14 @@ public class ToUpper<A> extends PrimitiveFunction<A> {
         return args -> Flows.map(Expect.string(args.get(0)), s -> Terms.string(apply(s)));
     }
 
+    /**
+     * Convert each character to upper case. Like Haskell's Data.Char.toUpper, this uses the simple,
+     * locale-independent case mapping of each code point, so that the number of characters is preserved.
+     */
     public static String apply(String lower) {
-        return lower.toUpperCase(); // TODO: Java's built-in behavior may not agree with that of Haskell or other host languages
+        return lower.codePoints()
+            .map(Character::toUpperCase)
+            .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+            .toString();
     }
 }
@@ -0,0 +1,487 @@
+package hydra.tools;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * A minimal emitter for JVM class files, sufficient for generating small classes of straight-line and branching code
+ * which call into existing classes. Classes are written in version 49 (Java 5) format, so that no stack map frames
+ * are required; the JVM verifies them by type inference.
+ * A class which exceeds any limit of the class file format, such as the size of a method or of the constant pool, or
+ * the range of a branch, is rejected with an IllegalArgumentException.
+ */
+public class ClassFileWriter {
+    public static final int ACC_PUBLIC = 0x0001;
+    public static final int ACC_FINAL = 0x0010;
+    public static final int ACC_SUPER = 0x0020;
+
+    private static final int MAJOR_VERSION = 49;
+    private static final int MAX_CODE_LENGTH = 65535;
+    private static final int MAX_CONSTANTS = 65535;
+
+    private final ConstantPool pool = new ConstantPool();
+    private final int thisClass;
+    private final int superClass;
+    private final List<Integer> interfaces = new ArrayList<>();
+    private final List<byte[]> fields = new ArrayList<>();
+    private final List<Code> methods = new ArrayList<>();
+
+    /**
+     * Begin a public, final class with the given internal name (e.g. "hydra/Foo"), superclass and interfaces
+     */
+    public ClassFileWriter(String name, String superName, String... interfaceNames) {
+        thisClass = pool.classRef(name);
+        superClass = pool.classRef(superName);
+        for (String iface : interfaceNames) {
+            interfaces.add(pool.classRef(iface));
+        }
+    }
+
+    /**
+     * Add a field with the given access flags, name and type descriptor
+     */
+    public void field(int access, String name, String descriptor) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeShort(access);
+            out.writeShort(pool.utf8(name));
+            out.writeShort(pool.utf8(descriptor));
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        fields.add(bytes.toByteArray());
+    }
+
+    /**
+     * Add a method with the given access flags, name and descriptor, returning a builder for its code
+     */
+    public Code method(int access, String name, String descriptor) {
+        Code code = new Code(access, name, descriptor);
+        methods.add(code);
+        return code;
+    }
+
+    /**
+     * Serialize the class
+     */
+    public byte[] toByteArray() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(MAJOR_VERSION);
+            // Method bodies may add constants, so they are serialized before the pool
+            List<byte[]> methodBytes = new ArrayList<>();
+            int codeAttr = pool.utf8("Code");
+            for (Code code : methods) {
+                methodBytes.add(code.toByteArray(codeAttr));
+            }
+            pool.write(out);
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(interfaces.size());
+            for (int iface : interfaces) {
+                out.writeShort(iface);
+            }
+            out.writeShort(fields.size());
+            for (byte[] field : fields) {
+                out.write(field);
+            }
+            out.writeShort(methodBytes.size());
+            for (byte[] method : methodBytes) {
+                out.write(method);
+            }
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * The number of local variable or operand stack slots taken by the arguments of a method descriptor
+     */
+    static int argumentSlots(String descriptor) {
+        int slots = 0;
+        int i = 1;
+        while (descriptor.charAt(i) != ')') {
+            char c = descriptor.charAt(i);
+            if (c == 'J' || c == 'D') {
+                slots += 2;
+                i++;
+            } else {
+                slots++;
+                while (descriptor.charAt(i) == '[') {
+                    i++;
+                }
+                i = descriptor.charAt(i) == 'L' ? descriptor.indexOf(';', i) + 1 : i + 1;
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * The number of operand stack slots taken by the return value of a method descriptor
+     */
+    static int returnSlots(String descriptor) {
+        char c = descriptor.charAt(descriptor.indexOf(')') + 1);
+        return c == 'V' ? 0 : c == 'J' || c == 'D' ? 2 : 1;
+    }
+
+    /**
+     * A position in the code of a method, which may be the target of branches before it is placed
+     */
+    public static class Label {
+        private int position = -1;
+        private int stackDepth = -1;
+        private final List<int[]> references = new ArrayList<>();
+    }
+
+    /**
+     * A builder for the code of a single method.
+     * The maximum stack depth and number of locals are tracked as instructions are added.
+     */
+    public class Code {
+        private final int access;
+        private final int name;
+        private final int descriptor;
+        private final List<Label> labels = new ArrayList<>();
+        private byte[] code = new byte[64];
+        private int length = 0;
+        private int stack = 0;
+        private int maxStack = 0;
+        private int maxLocals;
+
+        private Code(int access, String name, String descriptor) {
+            this.access = access;
+            this.name = pool.utf8(name);
+            this.descriptor = pool.utf8(descriptor);
+            this.maxLocals = argumentSlots(descriptor) + 1;
+        }
+
+        public void aaload() {
+            op(0x32, -1);
+        }
+
+        public void aastore() {
+            op(0x53, -3);
+        }
+
+        public void aload(int index) {
+            local(index);
+            if (index <= 3) {
+                op(0x2A + index, 1);
+            } else {
+                op(0x19, 1);
+                u1(index);
+            }
+        }
+
+        public void anewarray(String className) {
+            op(0xBD, 0);
+            u2(pool.classRef(className));
+        }
+
+        public void areturn() {
+            op(0xB0, -1);
+            stack = -1;
+        }
+
+        public void astore(int index) {
+            local(index);
+            if (index <= 3) {
+                op(0x4B + index, -1);
+            } else {
+                op(0x3A, -1);
+                u1(index);
+            }
+        }
+
+        public void dup() {
+            op(0x59, 1);
+        }
+
+        public void getfield(String owner, String name, String descriptor) {
+            op(0xB4, 0);
+            u2(pool.member(9, owner, name, descriptor));
+        }
+
+        public void goto_(Label label) {
+            int opcode = length;
+            op(0xA7, 0);
+            branch(opcode, label, 2);
+            stack = -1;
+        }
+
+        public void iconst(int value) {
+            if (value >= -1 && value <= 5) {
+                op(0x03 + value, 1);
+            } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+                op(0x10, 1);
+                u1(value);
+            } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+                op(0x11, 1);
+                u2(value);
+            } else {
+                op(0x13, 1);
+                u2(pool.integer(value));
+            }
+        }
+
+        public void invokeinterface(String owner, String name, String descriptor) {
+            op(0xB9, returnSlots(descriptor) - argumentSlots(descriptor) - 1);
+            u2(pool.member(11, owner, name, descriptor));
+            u1(argumentSlots(descriptor) + 1);
+            u1(0);
+        }
+
+        public void invokespecial(String owner, String name, String descriptor) {
+            op(0xB7, returnSlots(descriptor) - argumentSlots(descriptor) - 1);
+            u2(pool.member(10, owner, name, descriptor));
+        }
+
+        public void invokestatic(String owner, String name, String descriptor) {
+            op(0xB8, returnSlots(descriptor) - argumentSlots(descriptor));
+            u2(pool.member(10, owner, name, descriptor));
+        }
+
+        public void invokevirtual(String owner, String name, String descriptor) {
+            op(0xB6, returnSlots(descriptor) - argumentSlots(descriptor) - 1);
+            u2(pool.member(10, owner, name, descriptor));
+        }
+
+        public void putfield(String owner, String name, String descriptor) {
+            op(0xB5, -2);
+            u2(pool.member(9, owner, name, descriptor));
+        }
+
+        public void return_() {
+            op(0xB1, 0);
+            stack = -1;
+        }
+
+        /**
+         * Create a new label for use in this method
+         */
+        public Label newLabel() {
+            Label label = new Label();
+            labels.add(label);
+            return label;
+        }
+
+        /**
+         * Place a label at the current position
+         */
+        public void mark(Label label) {
+            label.position = length;
+            if (stack < 0) {
+                // The label is only reachable by a branch
+                stack = label.stackDepth;
+            }
+        }
+
+        /**
+         * Allocate a fresh local variable slot
+         */
+        public int newLocal() {
+            return maxLocals++;
+        }
+
+        /**
+         * Branch on an int in the range [0, targets.length); any other value branches to the default label
+         */
+        public void tableswitch(Label defaultLabel, Label... targets) {
+            int opcode = length;
+            op(0xAA, -1);
+            while (length % 4 != 0) {
+                u1(0);
+            }
+            branch(opcode, defaultLabel, 4);
+            u4(0);
+            u4(targets.length - 1);
+            for (Label target : targets) {
+                branch(opcode, target, 4);
+            }
+            stack = -1;
+        }
+
+        private void branch(int opcode, Label label, int size) {
+            label.stackDepth = stack;
+            label.references.add(new int[] {opcode, length, size});
+            if (size == 2) {
+                u2(0);
+            } else {
+                u4(0);
+            }
+        }
+
+        private void local(int index) {
+            if (index > 255) {
+                throw new IllegalArgumentException("too many local variables");
+            }
+            maxLocals = Math.max(maxLocals, index + 1);
+        }
+
+        private void op(int opcode, int delta) {
+            u1(opcode);
+            stack += delta;
+            maxStack = Math.max(maxStack, stack);
+        }
+
+        private void u1(int b) {
+            if (length == code.length) {
+                byte[] bigger = new byte[code.length * 2];
+                System.arraycopy(code, 0, bigger, 0, length);
+                code = bigger;
+            }
+            code[length++] = (byte) b;
+        }
+
+        private void u2(int s) {
+            u1(s >> 8);
+            u1(s);
+        }
+
+        private void u4(int i) {
+            u2(i >> 16);
+            u2(i);
+        }
+
+        private byte[] toByteArray(int codeAttr) throws IOException {
+            if (length > MAX_CODE_LENGTH) {
+                throw new IllegalArgumentException("method code too large: " + length + " bytes");
+            }
+            if (maxStack > 0xFFFF) {
+                throw new IllegalArgumentException("operand stack too deep: " + maxStack);
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeShort(access);
+            out.writeShort(name);
+            out.writeShort(descriptor);
+            out.writeShort(1);
+            out.writeShort(codeAttr);
+            out.writeInt(12 + length);
+            out.writeShort(maxStack);
+            out.writeShort(maxLocals);
+            out.writeInt(length);
+            out.write(patched(), 0, length);
+            out.writeShort(0);
+            out.writeShort(0);
+            return bytes.toByteArray();
+        }
+
+        private byte[] patched() {
+            byte[] result = code.clone();
+            for (Label label : labels) {
+                if (label.position < 0) {
+                    throw new IllegalStateException("branch to a label which was never placed");
+                }
+                for (int[] ref : label.references) {
+                    int offset = label.position - ref[0];
+                    int at = ref[1];
+                    if (ref[2] == 2) {
+                        if (offset < Short.MIN_VALUE || offset > Short.MAX_VALUE) {
+                            throw new IllegalArgumentException("branch offset out of range: " + offset);
+                        }
+                        result[at] = (byte) (offset >> 8);
+                        result[at + 1] = (byte) offset;
+                    } else {
+                        result[at] = (byte) (offset >> 24);
+                        result[at + 1] = (byte) (offset >> 16);
+                        result[at + 2] = (byte) (offset >> 8);
+                        result[at + 3] = (byte) offset;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * A constant pool, in which each distinct constant appears once
+     */
+    private static class ConstantPool {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private final Map<String, Integer> indices = new HashMap<>();
+        private int count = 1;
+
+        int classRef(String name) {
+            int utf8 = utf8(name);
+            return entry("C" + name, () -> {
+                out.writeByte(7);
+                out.writeShort(utf8);
+            });
+        }
+
+        int integer(int value) {
+            return entry("I" + value, () -> {
+                out.writeByte(3);
+                out.writeInt(value);
+            });
+        }
+
+        int member(int tag, String owner, String name, String descriptor) {
+            int cls = classRef(owner);
+            int n = utf8(name);
+            int d = utf8(descriptor);
+            int nameAndType = entry("N" + name + ":" + descriptor, () -> {
+                out.writeByte(12);
+                out.writeShort(n);
+                out.writeShort(d);
+            });
+            return entry(tag + owner + "." + name + ":" + descriptor, () -> {
+                out.writeByte(tag);
+                out.writeShort(cls);
+                out.writeShort(nameAndType);
+            });
+        }
+
+        int utf8(String value) {
+            return entry("U" + value, () -> {
+                out.writeByte(1);
+                out.writeUTF(value);
+            });
+        }
+
+        void write(DataOutputStream dest) throws IOException {
+            dest.writeShort(count);
+            dest.write(bytes.toByteArray());
+        }
+
+        private int entry(String key, Writer writer) {
+            Integer index = indices.get(key);
+            if (index == null) {
+                if (count >= MAX_CONSTANTS) {
+                    throw new IllegalArgumentException("too many constants");
+                }
+                try {
+                    writer.write();
+                } catch (UTFDataFormatException e) {
+                    throw new IllegalArgumentException("constant too long", e);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+                index = count++;
+                indices.put(key, index);
+            }
+            return index;
+        }
+
+        private interface Writer {
+            void write() throws IOException;
+        }
+    }
+}
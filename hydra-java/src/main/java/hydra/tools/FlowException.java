@@ -3,14 +3,29 @@ package hydra.tools;
 import hydra.compute.Trace;
 
 
+/**
+ * An exception which carries the trace of a failed flow. The message is constructed from the trace only when it is
+ * first requested, since a flow exception is often caught and discarded without being reported.
+ */
 public class FlowException extends RuntimeException {
   public final Trace trace;
 
+  private volatile String message;
+
   public FlowException(Trace trace) {
-    super(createMessage(trace));
     this.trace = trace;
   }
 
+  @Override
+  public String getMessage() {
+    String m = message;
+    if (m == null) {
+      m = createMessage(trace);
+      message = m;
+    }
+    return m;
+  }
+
   private static String createMessage(Trace trace) {
     StringBuilder sb = new StringBuilder();
     sb.append("Failure at ");
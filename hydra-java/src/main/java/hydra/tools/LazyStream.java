@@ -0,0 +1,161 @@
+package hydra.tools;
+
+import hydra.core.Stream;
+import hydra.core.Term;
+import hydra.dsl.Terms;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+
+/**
+ * A stream whose tail is computed only when it is needed, and then at most once.
+ * Streams are represented as in hydra.core, except that a null tail marks the end of a finite stream, and that the
+ * tail of a lazy cell is read with {@link #rest(Stream)} rather than from the rest field, which is always null.
+ * Once a tail has been forced, the cell no longer refers to the computation which produced it, so a stream may be
+ * traversed in constant memory provided that nothing else holds on to its head.
+ * Lazy streams are compared by identity, since comparing them by value could force an unbounded computation.
+ * If computing a tail fails with an exception, the cell keeps the exception and throws it again whenever the tail is
+ * read, rather than repeating the computation.
+ */
+public final class LazyStream<A> extends Stream<A> {
+    private Supplier<Stream<A>> pending;
+    private Stream<A> forced;
+    private RuntimeException failure;
+
+    private LazyStream(Term<A> first, Supplier<Stream<A>> rest) {
+        super(first, null);
+        this.pending = rest;
+    }
+
+    /**
+     * Construct a lazy stream cell from its first element and a computation of the rest of the stream
+     */
+    public static <A> Stream<A> cons(Term<A> first, Supplier<Stream<A>> rest) {
+        return new LazyStream<>(first, rest);
+    }
+
+    /**
+     * A lazy stream which pulls its elements from an iterator, or null if the iterator is already exhausted.
+     * The iterator is advanced only when the tail of the previous cell is forced.
+     */
+    public static <A> Stream<A> fromIterator(Iterator<Term<A>> elements) {
+        return elements.hasNext() ? new LazyStream<>(elements.next(), () -> fromIterator(elements)) : null;
+    }
+
+    /**
+     * A lazy stream of the elements produced by a sequence of iterators, in order
+     */
+    public static <A> Stream<A> concat(Iterator<Iterator<Term<A>>> groups) {
+        return fromIterator(new Iterator<Term<A>>() {
+            private Iterator<Term<A>> current = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext()) {
+                    if (!groups.hasNext()) {
+                        return false;
+                    }
+                    current = groups.next();
+                }
+                return true;
+            }
+
+            @Override
+            public Term<A> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        });
+    }
+
+    /**
+     * Lazily apply a function to each element of a stream
+     */
+    public static <A, B> Stream<B> map(Function<Term<A>, Term<B>> f, Stream<A> stream) {
+        return stream == null ? null : new LazyStream<>(f.apply(stream.first), () -> map(f, rest(stream)));
+    }
+
+    /**
+     * The remainder of a stream after its first element, or null if there are no more elements.
+     * The tail of a lazy stream is computed if it has not been already.
+     */
+    public static <A> Stream<A> rest(Stream<A> stream) {
+        return stream instanceof LazyStream ? ((LazyStream<A>) stream).force() : stream.rest;
+    }
+
+    /**
+     * Whether a stream cell's tail is computed on demand, as opposed to being stored in its rest field
+     */
+    public static boolean isLazy(Stream<?> stream) {
+        return stream instanceof LazyStream;
+    }
+
+    /**
+     * An iterator over the elements of a stream which computes tails as it advances. The iterator refers only to the
+     * cell it has reached, not to the cells it has passed.
+     */
+    public static <A> Iterator<Term<A>> iterator(Stream<A> stream) {
+        return new StreamIterator<>(stream);
+    }
+
+    /**
+     * A term for a stream; the empty stream is represented as an empty list
+     */
+    public static <A> Term<A> toTerm(Stream<A> stream) {
+        return stream == null ? Terms.list(Collections.emptyList()) : new Term.Stream<>(stream);
+    }
+
+    private synchronized Stream<A> force() {
+        if (pending != null) {
+            try {
+                forced = pending.get();
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+            pending = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return forced;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+
+    // A named class rather than an anonymous one, which would keep the head of the stream reachable
+    private static final class StreamIterator<A> implements Iterator<Term<A>> {
+        private Stream<A> cur;
+
+        StreamIterator(Stream<A> stream) {
+            this.cur = stream;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cur != null;
+        }
+
+        @Override
+        public Term<A> next() {
+            if (cur == null) {
+                throw new NoSuchElementException();
+            }
+            Term<A> el = cur.first;
+            cur = rest(cur);
+            return el;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package hydra.tools;
+
+import hydra.core.Term;
+import hydra.dsl.Expect;
+import hydra.dsl.Terms;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+
+/**
+ * An immutable list of literal terms of a single type, stored as an array of unboxed values.
+ * Elements are materialized as terms only when they are read, so that bulk primitives such as math.sum can run a tight
+ * loop over the array instead of reducing one application per element. A packed list is equal to, and has the same
+ * hash code as, any other list of the same terms.
+ * Packed arrays are never modified, and callers must not modify the arrays they read or pass in.
+ */
+public abstract class PackedList<A> extends AbstractList<Term<A>> implements RandomAccess {
+    /**
+     * Homogeneous lists shorter than this are left unpacked; for small lists, packing costs more than it saves
+     */
+    public static final int MIN_PACKED_SIZE = 32;
+
+    private static final Class<?> ARRAY_LIST_VIEW = Arrays.asList().getClass();
+
+    private PackedList() {
+    }
+
+    /**
+     * A packed equivalent of a list of terms if the list is long enough and consists entirely of int32, int64,
+     * float64, or string literals, or otherwise the list itself.
+     * Only plain array-backed lists, such as an ArrayList or the result of Arrays.asList, are packed. Lists produced
+     * by list primitives, such as persistent lists and sublists, are returned as they are, so that consing onto or
+     * taking the tail of a long list does not copy it.
+     */
+    public static <A> List<Term<A>> pack(List<Term<A>> terms) {
+        if (terms.size() < MIN_PACKED_SIZE || !(terms instanceof ArrayList || terms.getClass() == ARRAY_LIST_VIEW)) {
+            return terms;
+        }
+        Term<A> first = terms.get(0);
+        int i = 0;
+        if (Expect.int32Value(first) != null) {
+            int[] values = new int[terms.size()];
+            for (Term<A> term : terms) {
+                Integer value = Expect.int32Value(term);
+                if (value == null) {
+                    return terms;
+                }
+                values[i++] = value;
+            }
+            return new Int32s<>(values);
+        } else if (Expect.int64Value(first) != null) {
+            long[] values = new long[terms.size()];
+            for (Term<A> term : terms) {
+                Long value = Expect.int64Value(term);
+                if (value == null) {
+                    return terms;
+                }
+                values[i++] = value;
+            }
+            return new Int64s<>(values);
+        } else if (Expect.float64Value(first) != null) {
+            double[] values = new double[terms.size()];
+            for (Term<A> term : terms) {
+                Double value = Expect.float64Value(term);
+                if (value == null) {
+                    return terms;
+                }
+                values[i++] = value;
+            }
+            return new Float64s<>(values);
+        } else if (Expect.stringValue(first) != null) {
+            String[] values = new String[terms.size()];
+            for (Term<A> term : terms) {
+                String value = Expect.stringValue(term);
+                if (value == null) {
+                    return terms;
+                }
+                values[i++] = value;
+            }
+            return new Strings<>(values);
+        } else {
+            return terms;
+        }
+    }
+
+    /**
+     * A packed list of int32 literals
+     */
+    public static final class Int32s<A> extends PackedList<A> {
+        public final int[] values;
+
+        public Int32s(int[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Term<A> get(int index) {
+            return Terms.int32(values[index]);
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Int32s ? Arrays.equals(values, ((Int32s<?>) other).values) : super.equals(other);
+        }
+    }
+
+    /**
+     * A packed list of int64 literals
+     */
+    public static final class Int64s<A> extends PackedList<A> {
+        public final long[] values;
+
+        public Int64s(long[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Term<A> get(int index) {
+            return Terms.int64(values[index]);
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Int64s ? Arrays.equals(values, ((Int64s<?>) other).values) : super.equals(other);
+        }
+    }
+
+    /**
+     * A packed list of float64 literals
+     */
+    public static final class Float64s<A> extends PackedList<A> {
+        public final double[] values;
+
+        public Float64s(double[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Term<A> get(int index) {
+            return Terms.float64(values[index]);
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            // Arrays.equals compares doubles as Double.equals does, which is also how float64 literals are compared
+            return other instanceof Float64s ? Arrays.equals(values, ((Float64s<?>) other).values) : super.equals(other);
+        }
+    }
+
+    /**
+     * A packed list of string literals
+     */
+    public static final class Strings<A> extends PackedList<A> {
+        public final String[] values;
+
+        public Strings(String[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Term<A> get(int index) {
+            return Terms.string(values[index]);
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Strings ? Arrays.equals(values, ((Strings<?>) other).values) : super.equals(other);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package hydra.tools;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+
+/**
+ * An immutable, tail-sharing list which is also a java.util.List. Prepending an element and taking the tail are
+ * constant-time operations, as is finding the size. A persistent list may end in a shared, random-access list rather
+ * than in the empty list (see {@link #from(List)}), so indexed access takes time proportional to the number of
+ * elements prepended in front of that list, not to the index.
+ * Like the other persistent collections, it is equal to, and has the same hash code as, any java.util.List with the
+ * same elements, and it rejects all mutating methods.
+ */
+public final class PersistentList<X> extends AbstractList<X> {
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null, null, null, 0, 0);
+
+    private final X first;
+    private final PersistentList<X> rest;
+    // A random-access list, from the given offset onward, which this list views in place of a chain of cells
+    private final List<X> base;
+    private final int offset;
+    private final int size;
+
+    private PersistentList(X first, PersistentList<X> rest, List<X> base, int offset, int size) {
+        this.first = first;
+        this.rest = rest;
+        this.base = base;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    /**
+     * The empty list
+     */
+    @SuppressWarnings("unchecked")
+    public static <X> PersistentList<X> empty() {
+        return (PersistentList<X>) EMPTY;
+    }
+
+    /**
+     * A persistent list with the same elements as the given list. Persistent lists are returned as they are, and
+     * random-access lists are shared rather than copied, so they must not be modified afterwards.
+     */
+    public static <X> PersistentList<X> from(List<X> list) {
+        if (list instanceof PersistentList) {
+            return (PersistentList<X>) list;
+        }
+        if (list instanceof RandomAccess) {
+            return view(list, 0);
+        }
+        return PersistentList.<X>empty().prependAll(list);
+    }
+
+    private static <X> PersistentList<X> view(List<X> base, int offset) {
+        int size = base.size() - offset;
+        return size == 0 ? empty() : new PersistentList<>(base.get(offset), null, base, offset, size);
+    }
+
+    /**
+     * Prepend an element to this list
+     */
+    public PersistentList<X> cons(X el) {
+        return new PersistentList<>(el, this, null, 0, size + 1);
+    }
+
+    /**
+     * Prepend all of the elements of a list, in order, to this list
+     */
+    public PersistentList<X> prependAll(List<X> list) {
+        PersistentList<X> result = this;
+        for (ListIterator<X> iter = list.listIterator(list.size()); iter.hasPrevious(); ) {
+            result = result.cons(iter.previous());
+        }
+        return result;
+    }
+
+    /**
+     * All elements of this list but the first
+     */
+    public PersistentList<X> tail() {
+        if (size == 0) {
+            throw new NoSuchElementException("tail of an empty list");
+        }
+        return base == null ? rest : view(base, offset + 1);
+    }
+
+    // All elements of this list but the first n, where 0 <= n <= size
+    private PersistentList<X> drop(int n) {
+        PersistentList<X> cur = this;
+        while (n > 0 && cur.base == null) {
+            cur = cur.rest;
+            n--;
+        }
+        return n == 0 ? cur : view(cur.base, cur.offset + n);
+    }
+
+    @Override
+    public X get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + " out of bounds for length " + size);
+        }
+        PersistentList<X> cur = this;
+        while (index > 0 && cur.base == null) {
+            cur = cur.rest;
+            index--;
+        }
+        return cur.base == null ? cur.first : cur.base.get(cur.offset + index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Iterator<X> iterator() {
+        return new Iterator<X>() {
+            private PersistentList<X> cur = PersistentList.this;
+            private int index = offset;
+
+            @Override
+            public boolean hasNext() {
+                return cur.base == null ? cur.size > 0 : index < cur.base.size();
+            }
+
+            @Override
+            public X next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (cur.base != null) {
+                    return cur.base.get(index++);
+                }
+                X el = cur.first;
+                cur = cur.rest;
+                index = cur.offset;
+                return el;
+            }
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ListIterator<X> listIterator(int index) {
+        if (base != null) {
+            return Collections.unmodifiableList(base.subList(offset, base.size())).listIterator(index);
+        }
+        // Bidirectional iteration over prepended elements is supported by copying the elements to an array
+        return Collections.unmodifiableList(Arrays.asList((X[]) toArray())).listIterator(index);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof List)) {
+            return false;
+        }
+        List<?> that = (List<?>) other;
+        if (that.size() != size) {
+            return false;
+        }
+        Iterator<?> iter = that.iterator();
+        for (X el : this) {
+            if (!Objects.equals(el, iter.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    @Override
+    public List<X> subList(int fromIndex, int toIndex) {
+        if (toIndex == size && fromIndex >= 0 && fromIndex <= size) {
+            return drop(fromIndex);
+        }
+        return super.subList(fromIndex, toIndex);
+    }
+}
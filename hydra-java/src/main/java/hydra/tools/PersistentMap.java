@@ -0,0 +1,371 @@
+package hydra.tools;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+
+/**
+ * An immutable hash array mapped trie which is also a java.util.Map. Adding or removing an entry copies only the path
+ * from the root to that entry, in time and space logarithmic in the size of the map; the rest of the trie is shared.
+ * Like the other persistent collections, it is equal to, and has the same hash code as, any java.util.Map with the
+ * same entries, and it rejects all mutating methods. Keys may not be null.
+ */
+public final class PersistentMap<K, V> extends AbstractMap<K, V> {
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final Object NOT_FOUND = new Object();
+    private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(null, 0);
+
+    private final Node root;
+    private final int size;
+    private Set<Entry<K, V>> entrySet;
+
+    private PersistentMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * The empty map
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> empty() {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    /**
+     * A persistent map with the same entries as the given map. Persistent maps are returned as they are.
+     */
+    public static <K, V> PersistentMap<K, V> from(Map<K, V> map) {
+        if (map instanceof PersistentMap) {
+            return (PersistentMap<K, V>) map;
+        }
+        PersistentMap<K, V> result = empty();
+        for (Map.Entry<K, V> e : map.entrySet()) {
+            result = result.plus(e.getKey(), e.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * This map with an additional entry, replacing any existing entry for the same key
+     */
+    public PersistentMap<K, V> plus(K key, V value) {
+        Objects.requireNonNull(key);
+        boolean[] added = new boolean[1];
+        Node newRoot = root == null
+            ? BitmapNode.EMPTY.plus(0, hash(key), key, value, added)
+            : root.plus(0, hash(key), key, value, added);
+        return newRoot == root ? this : new PersistentMap<>(newRoot, added[0] ? size + 1 : size);
+    }
+
+    /**
+     * This map without the entry for the given key, if any
+     */
+    public PersistentMap<K, V> minus(Object key) {
+        if (root == null || key == null) {
+            return this;
+        }
+        Node newRoot = root.minus(0, hash(key), key);
+        return newRoot == root ? this : new PersistentMap<>(newRoot, size - 1);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        Object value = find(key);
+        return value == NOT_FOUND ? null : (V) value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(key) != NOT_FOUND;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Entry<K, V>>() {
+                @Override
+                public Iterator<Entry<K, V>> iterator() {
+                    return new EntryIterator<>(root);
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    private Object find(Object key) {
+        return root == null || key == null ? NOT_FOUND : root.find(0, hash(key), key);
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bitpos(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static Object[] insertPair(Object[] array, int at, Object key, Object value) {
+        Object[] result = new Object[array.length + 2];
+        System.arraycopy(array, 0, result, 0, at);
+        result[at] = key;
+        result[at + 1] = value;
+        System.arraycopy(array, at, result, at + 2, array.length - at);
+        return result;
+    }
+
+    private static Object[] removePair(Object[] array, int at) {
+        Object[] result = new Object[array.length - 2];
+        System.arraycopy(array, 0, result, 0, at);
+        System.arraycopy(array, at + 2, result, at, array.length - at - 2);
+        return result;
+    }
+
+    private static Object[] replace(Object[] array, int at, Object value) {
+        Object[] result = array.clone();
+        result[at] = value;
+        return result;
+    }
+
+    /**
+     * A node of the trie. Entries are stored as alternating keys and values; a null key marks a child node.
+     */
+    private abstract static class Node {
+        final Object[] array;
+
+        Node(Object[] array) {
+            this.array = array;
+        }
+
+        abstract Object find(int shift, int hash, Object key);
+
+        abstract Node plus(int shift, int hash, Object key, Object value, boolean[] added);
+
+        // Returns null if the node becomes empty
+        abstract Node minus(int shift, int hash, Object key);
+    }
+
+    private static final class BitmapNode extends Node {
+        static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        final int bitmap;
+
+        BitmapNode(int bitmap, Object[] array) {
+            super(array);
+            this.bitmap = bitmap;
+        }
+
+        private int index(int bit) {
+            return 2 * Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key) {
+            int bit = bitpos(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return NOT_FOUND;
+            }
+            int i = index(bit);
+            Object k = array[i];
+            if (k == null) {
+                return ((Node) array[i + 1]).find(shift + BITS, hash, key);
+            }
+            return key.equals(k) ? array[i + 1] : NOT_FOUND;
+        }
+
+        @Override
+        Node plus(int shift, int hash, Object key, Object value, boolean[] added) {
+            int bit = bitpos(hash, shift);
+            int i = index(bit);
+            if ((bitmap & bit) == 0) {
+                added[0] = true;
+                return new BitmapNode(bitmap | bit, insertPair(array, i, key, value));
+            }
+            Object k = array[i];
+            Object v = array[i + 1];
+            if (k == null) {
+                Node child = ((Node) v).plus(shift + BITS, hash, key, value, added);
+                return child == v ? this : new BitmapNode(bitmap, replace(array, i + 1, child));
+            }
+            if (key.equals(k)) {
+                return v == value ? this : new BitmapNode(bitmap, replace(array, i + 1, value));
+            }
+            added[0] = true;
+            Object[] result = array.clone();
+            result[i] = null;
+            result[i + 1] = pair(shift + BITS, k, v, hash, key, value);
+            return new BitmapNode(bitmap, result);
+        }
+
+        @Override
+        Node minus(int shift, int hash, Object key) {
+            int bit = bitpos(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int i = index(bit);
+            Object k = array[i];
+            if (k == null) {
+                Node child = (Node) array[i + 1];
+                Node newChild = child.minus(shift + BITS, hash, key);
+                if (newChild == child) {
+                    return this;
+                }
+                if (newChild != null) {
+                    // Pull a lone entry up into this node, keeping the trie as shallow as possible
+                    if (newChild.array.length == 2 && newChild.array[0] != null) {
+                        Object[] result = array.clone();
+                        result[i] = newChild.array[0];
+                        result[i + 1] = newChild.array[1];
+                        return new BitmapNode(bitmap, result);
+                    }
+                    return new BitmapNode(bitmap, replace(array, i + 1, newChild));
+                }
+            } else if (!key.equals(k)) {
+                return this;
+            }
+            return bitmap == bit ? null : new BitmapNode(bitmap ^ bit, removePair(array, i));
+        }
+
+        private static Node pair(int shift, Object k1, Object v1, int h2, Object k2, Object v2) {
+            int h1 = hash(k1);
+            if (h1 == h2) {
+                return new CollisionNode(h1, new Object[] {k1, v1, k2, v2});
+            }
+            boolean[] added = new boolean[1];
+            return EMPTY.plus(shift, h1, k1, v1, added).plus(shift, h2, k2, v2, added);
+        }
+    }
+
+    /**
+     * A node for keys whose hashes are identical
+     */
+    private static final class CollisionNode extends Node {
+        final int hash;
+
+        CollisionNode(int hash, Object[] array) {
+            super(array);
+            this.hash = hash;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key) {
+            int i = hash == this.hash ? indexOf(key) : -1;
+            return i < 0 ? NOT_FOUND : array[i + 1];
+        }
+
+        @Override
+        Node plus(int shift, int hash, Object key, Object value, boolean[] added) {
+            if (hash == this.hash) {
+                int i = indexOf(key);
+                if (i >= 0) {
+                    return array[i + 1] == value ? this : new CollisionNode(hash, replace(array, i + 1, value));
+                }
+                added[0] = true;
+                return new CollisionNode(hash, insertPair(array, array.length, key, value));
+            }
+            // Nest this node in a bitmap node which can also hold the new key
+            return new BitmapNode(bitpos(this.hash, shift), new Object[] {null, this})
+                .plus(shift, hash, key, value, added);
+        }
+
+        @Override
+        Node minus(int shift, int hash, Object key) {
+            int i = hash == this.hash ? indexOf(key) : -1;
+            if (i < 0) {
+                return this;
+            }
+            return array.length == 2 ? null : new CollisionNode(hash, removePair(array, i));
+        }
+    }
+
+    /**
+     * A depth-first iterator over the entries of a trie
+     */
+    private static final class EntryIterator<K, V> implements Iterator<Entry<K, V>> {
+        // The trie is at most seven levels deep above its collision nodes
+        private final Object[][] arrays = new Object[8][];
+        private final int[] positions = new int[8];
+        private int depth;
+        private Entry<K, V> next;
+
+        EntryIterator(Node root) {
+            if (root != null) {
+                arrays[0] = root.array;
+                depth = 1;
+            }
+            advance();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            next = null;
+            while (depth > 0) {
+                int d = depth - 1;
+                Object[] array = arrays[d];
+                int i = positions[d];
+                if (i >= array.length) {
+                    depth--;
+                    positions[d] = 0;
+                    continue;
+                }
+                positions[d] = i + 2;
+                if (array[i] == null) {
+                    arrays[depth] = ((Node) array[i + 1]).array;
+                    positions[depth] = 0;
+                    depth++;
+                } else {
+                    next = new SimpleImmutableEntry<>((K) array[i], (V) array[i + 1]);
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Entry<K, V> result = next;
+            advance();
+            return result;
+        }
+    }
+}
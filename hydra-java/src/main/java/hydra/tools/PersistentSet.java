@@ -0,0 +1,90 @@
+package hydra.tools;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+
+/**
+ * An immutable hash set which is also a java.util.Set, backed by a PersistentMap. Adding or removing an element takes
+ * time and space logarithmic in the size of the set, sharing structure with the original.
+ */
+public final class PersistentSet<X> extends AbstractSet<X> {
+    private static final PersistentSet<?> EMPTY = new PersistentSet<>(PersistentMap.empty());
+
+    private final PersistentMap<X, Boolean> map;
+
+    private PersistentSet(PersistentMap<X, Boolean> map) {
+        this.map = map;
+    }
+
+    /**
+     * The empty set
+     */
+    @SuppressWarnings("unchecked")
+    public static <X> PersistentSet<X> empty() {
+        return (PersistentSet<X>) EMPTY;
+    }
+
+    /**
+     * A persistent set with the same elements as the given collection. Persistent sets are returned as they are.
+     */
+    public static <X> PersistentSet<X> from(Collection<X> elements) {
+        if (elements instanceof PersistentSet) {
+            return (PersistentSet<X>) elements;
+        }
+        PersistentSet<X> result = empty();
+        for (X el : elements) {
+            result = result.plus(el);
+        }
+        return result;
+    }
+
+    /**
+     * This set with an additional element
+     */
+    public PersistentSet<X> plus(X el) {
+        PersistentMap<X, Boolean> newMap = map.plus(el, Boolean.TRUE);
+        return newMap == map ? this : new PersistentSet<>(newMap);
+    }
+
+    /**
+     * This set without the given element
+     */
+    public PersistentSet<X> minus(Object el) {
+        PersistentMap<X, Boolean> newMap = map.minus(el);
+        return newMap == map ? this : new PersistentSet<>(newMap);
+    }
+
+    @Override
+    public boolean contains(Object el) {
+        return map.containsKey(el);
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public Iterator<X> iterator() {
+        Iterator<Map.Entry<X, Boolean>> entries = map.entrySet().iterator();
+        return new Iterator<X>() {
+            @Override
+            public boolean hasNext() {
+                return entries.hasNext();
+            }
+
+            @Override
+            public X next() {
+                return entries.next().getKey();
+            }
+        };
+    }
+}
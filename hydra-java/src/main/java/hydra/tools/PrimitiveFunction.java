@@ -1,5 +1,6 @@
 package hydra.tools;
 
+import hydra.Symbols;
 import hydra.compute.Flow;
 import hydra.core.Name;
 import hydra.core.Term;
@@ -19,10 +20,10 @@ public abstract class PrimitiveFunction<A> {
     protected abstract Function<List<Term<A>>, Flow<Graph<A>, Term<A>>> implementation();
 
     public Term<A> term() {
-        return Terms.primitive(name());
+        return Terms.primitive(Symbols.name(name()));
     }
 
     public Primitive<A> toNative() {
-        return new Primitive<>(name(), type(), implementation());
+        return new Primitive<>(Symbols.name(name()), type(), implementation());
     }
 }
@@ -0,0 +1,213 @@
+package hydra.tools;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.function.Supplier;
+
+
+/**
+ * A persistent, append-only list of strings, used for the stack and the messages of a trace.
+ * Appending to a log produces a new log which shares every entry of the old one, and leaves the old one as it was, so
+ * that appending costs a single cell however long the log is. In particular, a flow which fails and is then abandoned
+ * in favor of an alternative costs almost nothing, and restoring the stack on leaving a traced flow costs nothing at
+ * all. Entries may be given as suppliers, which are called only when the entry is first read; a message which quotes
+ * a large term is therefore not printed unless somebody reads it.
+ * A log may be limited to a maximum number of entries. Entries appended to a full log are counted, but not kept, and
+ * the log ends with a note of how many were omitted.
+ * Logs are immutable, and may be shared among threads.
+ */
+public final class TraceLog extends AbstractList<String> {
+    /**
+     * The limit of a log which may grow without bound
+     */
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private static final Object[] NO_ENTRIES = new Object[0];
+
+    // The log this one extends, or null for a root log
+    private final TraceLog parent;
+    // The last entry (a String or a Message), or, for a root log, an array of initial entries
+    private final Object entry;
+    private final int kept;
+    private final int omitted;
+    private final int limit;
+    // The entries as strings, computed on the first read
+    private volatile String[] strings;
+
+    private TraceLog(TraceLog parent, Object entry, int kept, int omitted, int limit) {
+        this.parent = parent;
+        this.entry = entry;
+        this.kept = kept;
+        this.omitted = omitted;
+        this.limit = limit;
+    }
+
+    /**
+     * An empty log which keeps at most the given number of entries
+     */
+    public static TraceLog empty(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("negative limit: " + limit);
+        }
+        return new TraceLog(null, NO_ENTRIES, 0, 0, limit);
+    }
+
+    /**
+     * An empty log with the same limit as the given list; see limit(List)
+     */
+    public static TraceLog emptyLike(List<String> list) {
+        return list instanceof TraceLog && list.isEmpty() ? (TraceLog) list : empty(limit(list));
+    }
+
+    /**
+     * A log of the entries of the given list, appended in order. A list which is already a log is returned as it is.
+     */
+    public static TraceLog of(List<String> list) {
+        if (list instanceof TraceLog) {
+            return (TraceLog) list;
+        }
+        Object[] entries = list.toArray();
+        return new TraceLog(null, entries, entries.length, 0, UNLIMITED);
+    }
+
+    /**
+     * Append an entry to a list, which is converted to a log if it is not one already
+     */
+    public static TraceLog append(List<String> list, String entry) {
+        return of(list).plus(entry);
+    }
+
+    /**
+     * Append an entry to a list, which is converted to a log if it is not one already. The supplier is called at most
+     * once, when the entry is first read, and must not return null.
+     */
+    public static TraceLog append(List<String> list, Supplier<String> entry) {
+        return of(list).plus(new Message(entry));
+    }
+
+    /**
+     * Append all of the entries of one list to another; unread entries of a log remain unread
+     */
+    public static TraceLog appendAll(List<String> list, List<String> entries) {
+        TraceLog log = of(list);
+        if (entries instanceof TraceLog) {
+            TraceLog other = (TraceLog) entries;
+            for (Object e : other.entries()) {
+                log = log.plus(e);
+            }
+            if (other.omitted > 0) {
+                log = log.kept >= log.limit
+                    ? new TraceLog(log.parent, log.entry, log.kept, log.omitted + other.omitted, log.limit)
+                    : log.plus(omissionNote(other.omitted));
+            }
+        } else {
+            for (String e : entries) {
+                log = log.plus(e);
+            }
+        }
+        return log;
+    }
+
+    /**
+     * Whether a list is a log which has reached its limit
+     */
+    public static boolean isFull(List<String> list) {
+        return list instanceof TraceLog && ((TraceLog) list).kept >= ((TraceLog) list).limit;
+    }
+
+    /**
+     * The maximum number of entries kept by a list if it is a log, or otherwise UNLIMITED
+     */
+    public static int limit(List<String> list) {
+        return list instanceof TraceLog ? ((TraceLog) list).limit : UNLIMITED;
+    }
+
+    /**
+     * The number of entries which were appended to a list after it reached its limit, and which it does not contain
+     */
+    public static int omitted(List<String> list) {
+        return list instanceof TraceLog ? ((TraceLog) list).omitted : 0;
+    }
+
+    @Override
+    public String get(int index) {
+        return strings()[index];
+    }
+
+    @Override
+    public int size() {
+        return omitted > 0 ? kept + 1 : kept;
+    }
+
+    private TraceLog plus(Object e) {
+        return kept >= limit
+            ? new TraceLog(parent, entry, kept, omitted + 1, limit)
+            : new TraceLog(this, e, kept + 1, 0, limit);
+    }
+
+    // The kept entries, in order, without formatting them
+    private Object[] entries() {
+        Object[] result = new Object[kept];
+        TraceLog log = this;
+        while (log.parent != null) {
+            result[log.kept - 1] = log.entry;
+            log = log.parent;
+        }
+        Object[] initial = (Object[]) log.entry;
+        System.arraycopy(initial, 0, result, 0, initial.length);
+        return result;
+    }
+
+    private String[] strings() {
+        String[] result = strings;
+        if (result == null) {
+            result = new String[size()];
+            TraceLog log = this;
+            // Entries which have already been formatted by an ancestor are copied rather than visited one by one
+            while (log.parent != null && log.strings == null) {
+                result[log.kept - 1] = format(log.entry);
+                log = log.parent;
+            }
+            if (log.parent == null) {
+                Object[] initial = (Object[]) log.entry;
+                for (int i = 0; i < initial.length; i++) {
+                    result[i] = format(initial[i]);
+                }
+            } else {
+                System.arraycopy(log.strings, 0, result, 0, log.kept);
+            }
+            if (omitted > 0) {
+                result[kept] = omissionNote(omitted);
+            }
+            strings = result;
+        }
+        return result;
+    }
+
+    private static String omissionNote(int omitted) {
+        return "(" + omitted + " more " + (omitted == 1 ? "entry" : "entries") + " omitted)";
+    }
+
+    private static String format(Object entry) {
+        return entry instanceof Message ? ((Message) entry).get() : (String) entry;
+    }
+
+    // An entry whose text is computed on demand, and then at most once. Since a message may be shared by many logs,
+    // the text is kept here rather than in each of them.
+    private static final class Message {
+        private Supplier<String> supplier;
+        private String text;
+
+        Message(Supplier<String> supplier) {
+            this.supplier = supplier;
+        }
+
+        synchronized String get() {
+            if (supplier != null) {
+                text = supplier.get();
+                supplier = null;
+            }
+            return text;
+        }
+    }
+}
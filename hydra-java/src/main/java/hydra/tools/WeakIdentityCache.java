@@ -0,0 +1,74 @@
+package hydra.tools;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+
+/**
+ * A thread-safe cache of values derived from objects which are compared by identity, and which does not prevent those
+ * objects from being garbage collected. Entries are dropped once their keys become unreachable; a value must not refer
+ * to its own key, or it will keep the entry alive.
+ */
+public class WeakIdentityCache<K, V> {
+    private final Map<Key<K>, V> entries = new ConcurrentHashMap<>();
+    private final ReferenceQueue<K> stale = new ReferenceQueue<>();
+
+    /**
+     * Find the cached value for a key, computing and caching it if absent
+     */
+    public V get(K key, Function<K, V> compute) {
+        V value = entries.get(new Key<>(key, null));
+        if (value == null) {
+            expungeStaleEntries();
+            value = entries.computeIfAbsent(new Key<>(key, stale), k -> compute.apply(key));
+        }
+        return value;
+    }
+
+    /**
+     * The number of live entries in the cache
+     */
+    public int size() {
+        expungeStaleEntries();
+        return entries.size();
+    }
+
+    private void expungeStaleEntries() {
+        Object key;
+        while ((key = stale.poll()) != null) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * A weak reference which is compared by the identity of its referent
+     */
+    private static final class Key<K> extends WeakReference<K> {
+        private final int hash;
+
+        Key(K key, ReferenceQueue<K> queue) {
+            super(key, queue);
+            this.hash = System.identityHashCode(key);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Object key = get();
+            return key != null && key == ((Key<?>) other).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -1,10 +1,19 @@
 package hydra;
 
 import hydra.compute.Flow;
+import hydra.compute.FlowInterpreter;
 import hydra.compute.FlowState;
+import hydra.tools.FlowException;
+import hydra.tools.TraceLog;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import org.junit.jupiter.api.Test;
 
@@ -50,4 +59,208 @@ public class FlowsTest {
         assertEquals("foo;42", result3.state);
         assertEquals(Optional.of(43), result3.value);
     }
+
+    @Test
+    public void checkDeepBindsAreStackSafe() {
+        int n = 1000000;
+
+        // Left-nested binds
+        Flow<Integer, Integer> left = pure(0);
+        for (int i = 0; i < n; i++) {
+            left = bind(left, x -> pure(x + 1));
+        }
+        assertEquals(Optional.of(n), left.value.apply(0).apply(EMPTY_TRACE).value);
+
+        // Right-nested binds, with the state threaded through each step
+        Flow<Integer, Integer> right = countDown(n);
+        FlowState<Integer, Integer> result = right.value.apply(0).apply(EMPTY_TRACE);
+        assertEquals(Optional.of(n), result.value);
+        assertEquals(n, result.state);
+
+        // Long chains of maps
+        Flow<Integer, Integer> mapped = pure(0);
+        for (int i = 0; i < n; i++) {
+            mapped = map(mapped, x -> x + 1);
+        }
+        assertEquals(Optional.of(n), mapped.value.apply(0).apply(EMPTY_TRACE).value);
+    }
+
+    @Test
+    public void checkFailureShortCircuits() {
+        int[] calls = {0};
+        Flow<Integer, Integer> flow = bind(Flows.<Integer, Integer>fail("first"), x -> {
+            calls[0]++;
+            return pure(x);
+        });
+        for (int i = 0; i < 1000; i++) {
+            flow = bind(flow, x -> {
+                calls[0]++;
+                return pure(x);
+            });
+        }
+        FlowState<Integer, Integer> result = flow.value.apply(0).apply(EMPTY_TRACE);
+        assertFalse(result.value.isPresent());
+        assertEquals(0, calls[0]);
+        assertEquals(1, result.trace.messages.size());
+    }
+
+    @Test
+    public void checkFailureMessagesAreFormattedLazily() {
+        int[] formatted = {0};
+        Object expensive = new Object() {
+            @Override
+            public String toString() {
+                formatted[0]++;
+                return "a large term";
+            }
+        };
+        FlowState<Void, Integer> result = Flows.<Void, Integer>unexpected("string", expensive).value.apply(null)
+            .apply(EMPTY_TRACE);
+        assertFalse(result.value.isPresent());
+        assertEquals(0, formatted[0]);
+        assertEquals("Error: expected string but found: a large term", result.trace.messages.get(0));
+        assertEquals("Error: expected string but found: a large term", result.trace.messages.get(0));
+        assertEquals(1, formatted[0]);
+
+        // Appending to a trace leaves the original trace unchanged
+        assertTrue(EMPTY_TRACE.messages.isEmpty());
+
+        // The message of a failure step can still be read directly
+        assertEquals("oops", new FlowInterpreter.Fail<Void, Integer>("oops").message());
+        assertEquals("a large term", new FlowInterpreter.Fail<Void, Integer>(expensive::toString).message());
+        assertEquals(2, formatted[0]);
+    }
+
+    @Test
+    public void checkTraceLimits() {
+        Flow<Void, Integer> traced = withTrace("outer", withTrace("inner", pure(42)));
+        FlowState<Void, Integer> success = traced.value.apply(null).apply(EMPTY_TRACE);
+        assertEquals(42, success.value.get());
+        assertTrue(success.trace.stack.isEmpty());
+
+        // A failure leaves its frames on the stack
+        FlowState<Void, Integer> failure = withTrace("outer", withTrace("inner", Flows.<Void, Integer>fail("oops")))
+            .value.apply(null).apply(EMPTY_TRACE);
+        assertEquals(Arrays.asList("outer", "inner"), failure.trace.stack);
+        assertEquals("Failure at inner > outer: Error: oops", new FlowException(failure.trace).getMessage());
+
+        // Nesting beyond the maximum depth fails rather than overflowing
+        FlowState<Void, Integer> tooDeep = nested(5).value.apply(null).apply(emptyTrace(3, 10));
+        assertFalse(tooDeep.value.isPresent());
+        assertEquals(3, tooDeep.trace.stack.size());
+        assertEquals(FlowInterpreter.TRACE_DEPTH_EXCEEDED, tooDeep.trace.messages.get(0));
+        assertEquals(5, nested(5).value.apply(null).apply(emptyTrace(5, 10)).value.get());
+
+        // Messages beyond the maximum are counted, but not kept
+        List<String> messages = emptyTrace(3, 2).messages;
+        for (int i = 0; i < 5; i++) {
+            messages = TraceLog.append(messages, "message " + i);
+        }
+        assertEquals(Arrays.asList("message 0", "message 1", "(3 more entries omitted)"), messages);
+    }
+
+    @Test
+    public void checkMapMOverCollections() {
+        List<Integer> ints = new ArrayList<>();
+        for (int i = 0; i < 50000; i++) {
+            ints.add(i);
+        }
+        Function<Integer, Flow<Integer, Integer>> addState = i -> map(getState(), s -> i + s);
+
+        Flow<Integer, List<Integer>> listFlow = mapM(ints, addState);
+        FlowState<Integer, List<Integer>> listResult = listFlow.value.apply(1).apply(EMPTY_TRACE);
+        assertEquals(50000, listResult.value.get().size());
+        assertEquals(50000, listResult.value.get().get(49999));
+        // Running the same flow again produces a fresh result
+        assertEquals(listResult.value, listFlow.value.apply(1).apply(EMPTY_TRACE).value);
+
+        Set<Integer> set = new HashSet<>(Arrays.asList(1, 2, 3));
+        FlowState<Integer, Set<Integer>> setResult = mapM(set, addState).value.apply(10).apply(EMPTY_TRACE);
+        assertEquals(new HashSet<>(Arrays.asList(11, 12, 13)), setResult.value.get());
+
+        Map<String, Integer> map = new HashMap<>();
+        map.put("one", 1);
+        map.put("three", 3);
+        FlowState<Integer, Map<Integer, Integer>> mapResult = mapM(map, k -> pure(k.length()), addState)
+            .value.apply(10).apply(EMPTY_TRACE);
+        Map<Integer, Integer> expected = new HashMap<>();
+        expected.put(3, 11);
+        expected.put(5, 13);
+        assertEquals(expected, mapResult.value.get());
+
+        FlowState<Integer, Integer> sumResult = Flows.<Integer, Integer, Integer, Integer, Integer>map3(
+            pure(1), getState(), pure(3), (a, b, c) -> a + b + c)
+            .value.apply(2).apply(EMPTY_TRACE);
+        assertEquals(Optional.of(6), sumResult.value);
+    }
+
+    @Test
+    public void checkMapMStopsAtFirstFailure() {
+        int[] calls = {0};
+        Function<Integer, Flow<Void, Integer>> f = i -> {
+            calls[0]++;
+            return i == 2 ? Flows.fail("two") : pure(i);
+        };
+        FlowState<Void, List<Integer>> result = mapM(Arrays.asList(0, 1, 2, 3, 4), f).value.apply(null)
+            .apply(EMPTY_TRACE);
+        assertFalse(result.value.isPresent());
+        assertEquals(3, calls[0]);
+        assertEquals(Arrays.asList("Error: two"), result.trace.messages);
+    }
+
+    @Test
+    public void checkParallelMapMMatchesMapM() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<Integer> ints = new ArrayList<>();
+            for (int i = 0; i < 5000; i++) {
+                ints.add(i);
+            }
+
+            // Every element logs a message, so that the order of the messages can be checked
+            Function<Integer, Flow<String, Integer>> logged = i -> log("visited " + i, 2 * i);
+            assertParallelMapMMatchesMapM(pool, ints, logged, "");
+
+            // The first failure in list order determines the outcome, regardless of which branch finishes first
+            Function<Integer, Flow<String, Integer>> failing = i -> i % 1000 == 999
+                ? Flows.fail("failed at " + i) : logged.apply(i);
+            assertParallelMapMMatchesMapM(pool, ints, failing, "");
+
+            // Flows which change the state are run sequentially
+            Function<Integer, Flow<String, Integer>> stateful = i -> i % 100 == 0
+                ? bind(getState(), s -> bind(putState(s + "."), ignored -> pure(i)))
+                : map(getState(), s -> i + s.length());
+            assertParallelMapMMatchesMapM(pool, ints, stateful, "");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static <X> Flow<String, X> log(String message, X value) {
+        return new Flow<>(s -> t -> {
+            List<String> messages = new ArrayList<>(t.messages);
+            messages.add(message);
+            return new FlowState<>(Optional.of(value), s, t.withMessages(messages));
+        });
+    }
+
+    private static <X, Y> void assertParallelMapMMatchesMapM(ForkJoinPool pool, List<X> xs,
+        Function<X, Flow<String, Y>> f, String state) {
+        FlowState<String, List<Y>> expected = mapM(xs, f).value.apply(state).apply(EMPTY_TRACE);
+        FlowState<String, List<Y>> actual = parallelMapM(pool, xs, f).value.apply(state).apply(EMPTY_TRACE);
+        assertEquals(expected.value, actual.value);
+        assertEquals(expected.state, actual.state);
+        assertEquals(expected.trace.stack, actual.trace.stack);
+        assertEquals(expected.trace.messages, actual.trace.messages);
+    }
+
+    private static Flow<Void, Integer> nested(int depth) {
+        return depth == 0 ? pure(0) : withTrace("level " + depth, map(nested(depth - 1), n -> n + 1));
+    }
+
+    private static Flow<Integer, Integer> countDown(int n) {
+        return n == 0
+            ? getState()
+            : bind(getState(), s -> bind(putState(s + 1), ignored -> countDown(n - 1)));
+    }
 }
@@ -0,0 +1,126 @@
+package hydra;
+
+import hydra.compute.FlowState;
+import hydra.compute.Kv;
+import hydra.core.Name;
+import hydra.core.Term;
+import hydra.dsl.Terms;
+import hydra.graph.Element;
+import hydra.graph.Graph;
+import hydra.lib.lists.Reverse;
+import hydra.lib.literals.ShowInt32;
+import hydra.lib.maps.Insert;
+import hydra.lib.maps.Lookup;
+import hydra.lib.strings.Cat2;
+import hydra.lib.strings.ToUpper;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+import static hydra.Flows.EMPTY_TRACE;
+import static hydra.dsl.Terms.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class GraphsTest extends HydraTestBase {
+    @Test
+    public void checkFrozenGraphsAreImmutable() {
+        Map<Name, Element<Kv>> elements = new HashMap<>();
+        Name greeting = new Name("greeting");
+        elements.put(greeting, new Element<>(greeting, string("hello")));
+        Graph<Kv> graph = HydraTestBase.<Kv>emptyGraph().withElements(elements);
+
+        Graph<Kv> frozen = Graphs.freeze(graph);
+        assertTrue(Graphs.isFrozen(frozen));
+        assertFalse(Graphs.isFrozen(graph));
+        assertSame(frozen, Graphs.freeze(frozen));
+        assertEquals(graph.elements, frozen.elements);
+        assertEquals(graph.primitives.keySet(), frozen.primitives.keySet());
+
+        assertThrows(UnsupportedOperationException.class, () -> frozen.elements.remove(greeting));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.primitives.clear());
+
+        // The snapshot is not affected by changes to the original graph
+        elements.clear();
+        assertEquals(string("hello"), frozen.elements.get(greeting).data);
+    }
+
+    @Test
+    public void checkConcurrentEvaluationOnASharedGraph() throws InterruptedException {
+        Map<Name, Element<Kv>> elements = new HashMap<>();
+        Name greeting = new Name("greeting");
+        elements.put(greeting, new Element<>(greeting, string("hello")));
+        Graph<Kv> graph = HydraTestBase.<Kv>emptyGraph().withElements(elements);
+
+        // Inputs which are shared by all of the requests
+        Map<Term<Kv>, Term<Kv>> entries = new HashMap<>();
+        List<Term<Kv>> strings = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            entries.put(int32(i), string("value" + i));
+            strings.add(string("s" + i));
+        }
+        Term<Kv> sharedMap = Terms.map(entries);
+        // The mutable list itself is shared, rather than a packed copy of it
+        Term<Kv> sharedList = new Term.List<>(strings);
+        assertSame(strings, ((Term.List<Kv>) sharedList).value);
+        Map<Term<Kv>, Term<Kv>> entriesBefore = new HashMap<>(entries);
+        List<Term<Kv>> stringsBefore = new ArrayList<>(strings);
+        List<Term<Kv>> reversed = new ArrayList<>(strings);
+        Collections.reverse(reversed);
+
+        List<Term<Kv>> requests = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            switch (i % 3) {
+                case 0:
+                    requests.add(apply(new Lookup<Kv>().term(), int32(i),
+                        apply(new Insert<Kv>().term(), int32(i), string("new" + i), sharedMap)));
+                    break;
+                case 1:
+                    requests.add(apply(new Reverse<Kv>().term(), sharedList));
+                    break;
+                default:
+                    requests.add(apply(new ToUpper<Kv>().term(),
+                        apply(new Cat2<Kv>().term(), variable("greeting"), apply(new ShowInt32<Kv>().term(), int32(i)))));
+            }
+        }
+
+        List<Term<Kv>> expected = new ArrayList<>();
+        for (Term<Kv> request : requests) {
+            FlowState<Graph<Kv>, Term<Kv>> result = Reduction.reduce(Reduction.Strategy.ENVIRONMENT, true, request)
+                .value.apply(graph).apply(EMPTY_TRACE);
+            expected.add(result.value.get());
+        }
+        for (int i = 1; i < expected.size(); i += 3) {
+            assertEquals(list(reversed), expected.get(i));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int round = 0; round < 3; round++) {
+                List<FlowState<Graph<Kv>, Term<Kv>>> results = Graphs.reduceConcurrently(graph, requests, executor);
+                assertEquals(requests.size(), results.size());
+                for (int i = 0; i < results.size(); i++) {
+                    assertEquals(expected.get(i), results.get(i).value.get());
+                    if (i % 3 == 1) {
+                        assertEquals(list(reversed), results.get(i).value.get());
+                    }
+                    assertTrue(Graphs.isFrozen(results.get(i).state));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // None of the requests modified the shared inputs
+        assertEquals(entriesBefore, entries);
+        assertEquals(stringsBefore, strings);
+        assertEquals(optional(Optional.of(string("new0"))), expected.get(0));
+        assertEquals(string("HELLO2"), expected.get(2));
+    }
+}
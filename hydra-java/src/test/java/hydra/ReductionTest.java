@@ -1,11 +1,52 @@
 package hydra;
 
+import hydra.compute.Flow;
+import hydra.compute.FlowState;
+import hydra.compute.Trace;
 import hydra.compute.Kv;
+import hydra.core.CaseStatement;
+import hydra.core.Elimination;
+import hydra.core.Field;
+import hydra.core.FieldName;
+import hydra.core.Let;
+import hydra.core.Name;
+import hydra.core.Record;
 import hydra.core.Term;
+import hydra.dsl.Terms;
+import hydra.graph.Element;
+import hydra.graph.Graph;
+import hydra.graph.Primitive;
+import hydra.lib.equality.EqualInt32;
+import hydra.lib.math.Add;
+import hydra.lib.math.Mul;
+import hydra.lib.math.Product;
+import hydra.lib.math.Sum;
+import hydra.lib.strings.Cat2;
+import hydra.lib.strings.Length;
 import hydra.lib.strings.SplitOn;
+import hydra.lib.strings.ToUpper;
+import hydra.tools.FlowException;
+import hydra.tools.LazyStream;
+import hydra.tools.PackedList;
+import hydra.tools.TraceLog;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import org.junit.jupiter.api.Test;
 
+import static hydra.Flows.EMPTY_TRACE;
 import static hydra.dsl.Terms.*;
+import static org.junit.jupiter.api.Assertions.*;
 
 
 /**
@@ -38,7 +79,506 @@ public class ReductionTest extends HydraTestBase {
             apply(int32(42), int32(42)));
     }
 
+    @Test
+    public void checkEnvironmentBasedReduction() {
+        int i = 0;
+        // Curried application
+        checkEnvironment(++i,
+            apply(lambda("x", lambda("y", apply((new SplitOn<Kv>()).term(), variable("x"), variable("y")))),
+                string("ss"), string("Mississippi")),
+            list(string("Mi"), string("i"), string("ippi")));
+        // Shadowing
+        checkEnvironment(++i,
+            apply(lambda("x", apply(lambda("x", variable("x")), int32(2))), int32(1)),
+            int32(2));
+        // A partially applied lambda escapes as a closed term
+        checkEnvironment(++i,
+            apply(lambda("x", lambda("y", list(variable("x"), variable("y")))), int32(1)),
+            lambda("y", list(int32(1), variable("y"))));
+        // Let-bound variables are dereferenced
+        Map<Name, Term<Kv>> bindings = new HashMap<>();
+        bindings.put(new Name("sep"), string("ss"));
+        checkEnvironment(++i,
+            new Term.Let<>(new Let<>(bindings,
+                apply((new SplitOn<Kv>()).term(), variable("sep"), string("Mississippi")))),
+            list(string("Mi"), string("i"), string("ippi")));
+        // Free variables are left alone
+        checkEnvironment(++i,
+            apply(lambda("x", list(variable("x"), variable("z"))), int32(1)),
+            list(int32(1), variable("z")));
+    }
+
+    @Test
+    public void checkAnnotationsOnApplicationsAreKept() {
+        Kv kv = new Kv(Collections.singletonMap("comment", string("sum")));
+        List<Term<Kv>> inputs = Arrays.asList(
+            annot(kv, apply(lambda("x", variable("x")), int32(1))),
+            annot(kv, apply(new Add<Kv>().term(), int32(1), int32(2))),
+            list(annot(kv, apply(lambda("x", list(variable("x"))), string("a")))));
+        List<Term<Kv>> outputs = Arrays.asList(
+            annot(kv, int32(1)),
+            annot(kv, int32(3)),
+            list(annot(kv, list(string("a")))));
+
+        for (int i = 0; i < inputs.size(); i++) {
+            // Both strategies, and both compilers, agree with substitution
+            Term<Kv> substituted = Reduction.reduce(Reduction.Strategy.SUBSTITUTION, true, inputs.get(i))
+                .value.apply(emptyGraph()).apply(EMPTY_TRACE).value.get();
+            assertEquals(outputs.get(i), substituted);
+            checkEager(i + 1, inputs.get(i), outputs.get(i));
+            TestSuiteRunner.runBytecodeTestCase("" + (i + 1), inputs.get(i), outputs.get(i));
+        }
+    }
+
+    @Test
+    public void checkCompiledProgramsAreReusable() {
+        // \r -> case r.shape of circle -> \x -> [x]; square -> \x -> [x, x]
+        Term<Kv> program = lambda("r", apply(
+            cases(new Name("Shape"), Optional.empty(),
+                field("circle", lambda("x", list(variable("x")))),
+                field("square", lambda("x", list(variable("x"), variable("x"))))),
+            apply(projection("Figure", "shape"), variable("r"))));
+        Compiler.Program<Kv> compiled = Compiler.compile(emptyGraph(), program);
+
+        assertEquals(list(string("a")),
+            compiled.apply(figure(inject("Shape", field("circle", string("a"))))));
+        assertEquals(list(string("b"), string("b")),
+            compiled.apply(figure(inject("Shape", field("square", string("b"))))));
+
+        // Failures are reported with the same messages as in reduction
+        FlowException e = assertThrows(FlowException.class,
+            () -> compiled.apply(figure(inject("Shape", field("triangle", string("c"))))));
+        assertTrue(e.trace.messages.get(0).contains("no such field"));
+    }
+
+    @Test
+    public void checkCompiledProgramsAreThreadSafe() throws Exception {
+        // Elements which refer to each other, and which are compiled on first use
+        Map<Name, Element<Kv>> elements = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            Name name = new Name("twice" + i);
+            Term<Kv> doubled = apply(new Cat2<Kv>().term(), variable("x"), variable("x"));
+            Term<Kv> body = i == 0 ? doubled : apply(variable("twice" + (i - 1)), doubled);
+            elements.put(name, new Element<>(name, lambda("x", body)));
+        }
+        Graph<Kv> graph = Graphs.freeze(HydraTestBase.<Kv>emptyGraph().withElements(elements));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int round = 0; round < 20; round++) {
+                Compiler.Program<Kv> compiled = Compiler.compile(graph,
+                    lambda("s", apply(new Length<Kv>().term(), apply(variable("twice9"), variable("s")))));
+                List<Future<Term<Kv>>> results = new ArrayList<>();
+                for (int i = 0; i < 16; i++) {
+                    // The argument is not a closed data term, and is evaluated before the program is applied
+                    Term<Kv> arg = apply(new ToUpper<Kv>().term(), string("ab"));
+                    results.add(executor.submit(() -> compiled.apply(arg)));
+                }
+                for (Future<Term<Kv>> result : results) {
+                    assertEquals(int32(2 << 10), result.get());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void checkBytecodeCompilation() {
+        BytecodeCompiler<Kv> compiler = new BytecodeCompiler<>(emptyGraph());
+
+        // \r -> {label = toUpper (case r.shape of circle -> \x -> x; square -> \x -> cat2 x x), size = length ...}
+        Term<Kv> program = lambda("r", apply(lambda("s", record("Label",
+            field("label", apply(new ToUpper<Kv>().term(), variable("s"))),
+            field("size", apply(new Length<Kv>().term(), variable("s"))))),
+            apply(cases(new Name("Shape"), Optional.empty(),
+                    field("circle", lambda("x", variable("x"))),
+                    field("square", lambda("x", apply(new Cat2<Kv>().term(), variable("x"), variable("x"))))),
+                apply(projection("Figure", "shape"), variable("r")))));
+        Function<Term<Kv>, Term<Kv>> compiled = compiler.compile(program);
+        assertTrue(BytecodeCompiler.isGenerated(compiled));
+        assertSame(compiled, compiler.compile(program));
+
+        Term<Kv> square = figure(inject("Shape", field("square", string("ab"))));
+        assertEquals(record("Label", field("label", string("ABAB")), field("size", int32(4))),
+            compiled.apply(square));
+        TestSuiteRunner.runReductionTestCase(Reduction.Strategy.ENVIRONMENT, true, "bytecode",
+            apply(program, square), compiled.apply(square));
+
+        FlowException e = assertThrows(FlowException.class,
+            () -> compiled.apply(figure(inject("Shape", field("triangle", string("c"))))));
+        assertTrue(e.trace.messages.get(0).contains("no such field"));
+
+        // Unsupported subterms, such as lets, are interpreted
+        Map<Name, Term<Kv>> bindings = new HashMap<>();
+        bindings.put(new Name("y"), apply(new Add<Kv>().term(), variable("x"), int32(1)));
+        Term<Kv> withLet = lambda("x", list(variable("x"),
+            new Term.Let<>(new Let<>(bindings, apply(new Mul<Kv>().term(), variable("y"), variable("y"))))));
+        assertEquals(list(int32(2), int32(9)), compiler.compile(withLet).apply(int32(2)));
+    }
+
+    @Test
+    public void checkOversizedBytecodeFallsBackToClosures() {
+        BytecodeCompiler<Kv> compiler = new BytecodeCompiler<>(emptyGraph());
+
+        // A balanced tree of 2^15 concatenations of x, whose code exceeds the 64KB limit on the size of a method
+        Term<Kv> body = variable("x");
+        for (int i = 0; i < 15; i++) {
+            body = apply(new Cat2<Kv>().term(), body, body);
+        }
+        Function<Term<Kv>, Term<Kv>> compiled = compiler.compile(lambda("x", body));
+        assertFalse(BytecodeCompiler.isGenerated(compiled));
+        Term<Kv> result = compiled.apply(string("a"));
+        assertEquals(string(String.join("", Collections.nCopies(1 << 15, "a"))), result);
+    }
+
+    @Test
+    public void checkProjectionAndCaseDispatchOnWideTypes() {
+        int width = 3 * FieldIndex.LINEAR_SCAN_MAX;
+        List<Field<Kv>> fields = new ArrayList<>();
+        List<Field<Kv>> handlers = new ArrayList<>();
+        for (int i = 0; i < width; i++) {
+            fields.add(field("f" + i, int32(i)));
+            handlers.add(field("f" + i, lambda("x", list(int32(i), variable("x")))));
+        }
+        Term<Kv> wide = new Term.Record<>(new Record<>(new Name("Wide"), fields));
+        Term<Kv> dispatch = new Term.Function<>(new hydra.core.Function.Elimination<>(new Elimination.Union<>(
+            new CaseStatement<>(new Name("Wide"), Optional.of(list()), handlers))));
+
+        for (int i : new int[] {0, 1, width / 2, width - 1}) {
+            checkEager(i, apply(projection("Wide", "f" + i), wide), int32(i));
+            checkEager(i, apply(dispatch, inject("Wide", field("f" + i, string("a")))),
+                list(int32(i), string("a")));
+            TestSuiteRunner.runBytecodeTestCase("" + i, apply(projection("Wide", "f" + i), wide), int32(i));
+            TestSuiteRunner.runBytecodeTestCase("" + i, apply(dispatch, inject("Wide", field("f" + i, string("a")))),
+                list(int32(i), string("a")));
+        }
+        checkEager(width, apply(dispatch, inject("Wide", field("other", string("a")))), list());
+
+        // Lookups do not depend on names being canonical
+        Record<Kv> record = ((Term.Record<Kv>) wide).value;
+        assertEquals(Optional.of(int32(7)), FieldIndex.field(record, new FieldName("f7")));
+        assertEquals(Optional.empty(), FieldIndex.field(record, new FieldName("f" + width)));
+        assertSame(FieldIndex.of(handlers), FieldIndex.of(handlers));
+
+        // Records of the same type share an index, even where their fields are listed in a different order
+        List<Field<Kv>> reversed = new ArrayList<>(fields);
+        Collections.reverse(reversed);
+        Record<Kv> decoded = new Record<>(record.typeName, new ArrayList<>(fields));
+        Record<Kv> reordered = new Record<>(record.typeName, reversed);
+        assertSame(FieldIndex.of(record.typeName, record.fields), FieldIndex.of(decoded.typeName, decoded.fields));
+        for (int i = 0; i < width; i++) {
+            FieldName name = new FieldName("f" + i);
+            assertEquals(Optional.of(int32(i)), FieldIndex.field(decoded, name));
+            assertEquals(Optional.of(int32(i)), FieldIndex.field(reordered, name));
+        }
+        assertEquals(Optional.empty(), FieldIndex.field(reordered, new FieldName("f" + width)));
+    }
+
+    @Test
+    public void checkPrimitiveResolutionIsCached() {
+        Graph<Kv> graph = emptyGraph();
+        Name length = new Length<Kv>().name();
+        Lexical.ResolvedPrimitive<Kv> resolved = Lexical.resolvePrimitive(graph, length).get();
+        assertEquals(1, resolved.arity);
+        assertSame(resolved, Lexical.resolvePrimitive(graph.withElements(graph.elements), length).get());
+        assertFalse(Lexical.resolvePrimitive(graph, new Name("hydra/lib/strings.noSuchPrimitive")).isPresent());
+
+        // Replacing the primitives invalidates the cache
+        Map<Name, Primitive<Kv>> primitives = new HashMap<>(graph.primitives);
+        primitives.put(length, new ToUpper<Kv>().toNative());
+        Graph<Kv> modified = graph.withPrimitives(primitives);
+        assertSame(primitives.get(length), Lexical.resolvePrimitive(modified, length).get().primitive);
+        Term<Kv> term = apply(new Length<Kv>().term(), string("abc"));
+        FlowState<Graph<Kv>, Term<Kv>> result = Reduction.reduce(Reduction.Strategy.ENVIRONMENT, true, term)
+            .value.apply(modified).apply(EMPTY_TRACE);
+        assertEquals(Optional.of(string("ABC")), result.value);
+
+        // So does modifying the same map and installing it again
+        primitives.put(length, new Length<Kv>().toNative());
+        Graph<Kv> restored = modified.withPrimitives(primitives);
+        assertSame(primitives.get(length), Lexical.resolvePrimitive(restored, length).get().primitive);
+        result = Reduction.reduce(Reduction.Strategy.ENVIRONMENT, true, term).value.apply(restored).apply(EMPTY_TRACE);
+        assertEquals(Optional.of(int32(3)), result.value);
+        assertEquals(int32(3), Compiler.compile(restored, term).evaluate());
+    }
+
+    @Test
+    public void checkLetBindingsAreNotSharedBetweenRuns() {
+        Name greeting = new Name("greeting");
+        Map<Name, Element<Kv>> hello = new HashMap<>();
+        hello.put(greeting, new Element<>(greeting, string("hello")));
+        Map<Name, Element<Kv>> goodbye = new HashMap<>();
+        goodbye.put(greeting, new Element<>(greeting, string("goodbye")));
+
+        // The same flow is run against two graphs. The lambda body looks x up while the flow runs, so it would see a
+        // value memoized by the first run if the bindings were shared.
+        Term<Kv> term = let("x", variable("greeting"), apply(lambda("y", variable("x")), int32(1)));
+        Flow<Graph<Kv>, Term<Kv>> flow = Reduction.reduce(Reduction.Strategy.ENVIRONMENT, true, term);
+        Graph<Kv> first = HydraTestBase.<Kv>emptyGraph().withElements(hello);
+        Graph<Kv> second = HydraTestBase.<Kv>emptyGraph().withElements(goodbye);
+        FlowState<Graph<Kv>, Term<Kv>> result = flow.value.apply(first).apply(EMPTY_TRACE);
+        assertEquals(Optional.of(string("hello")), result.value);
+        result = flow.value.apply(second).apply(EMPTY_TRACE);
+        assertEquals(Optional.of(string("goodbye")), result.value);
+    }
+
+    @Test
+    public void checkPackedListPrimitives() {
+        int size = 2 * PackedList.MIN_PACKED_SIZE;
+        List<Term<Kv>> elements = new ArrayList<>();
+        List<Term<Kv>> incremented = new ArrayList<>();
+        List<Term<Kv>> doubled = new ArrayList<>();
+        List<Term<Kv>> fives = new ArrayList<>();
+        int sum = 0;
+        for (int i = 0; i < size; i++) {
+            elements.add(int32(i));
+            incremented.add(int32(i + 1));
+            doubled.add(int32(2 * i));
+            fives.add(boolean_(i == 5));
+            sum += i;
+        }
+        Term<Kv> packed = list(elements);
+        assertTrue(((Term.List<Kv>) packed).value instanceof PackedList.Int32s);
+        assertFalse(((Term.List<Kv>) Terms.<Kv>list(int32(1), int32(2))).value instanceof PackedList);
+        assertEquals(new Term.List<>(elements), packed);
+
+        int i = 0;
+        checkEager(++i, apply(new Sum<Kv>().term(), packed), int32(sum));
+        checkEager(++i, apply(new Product<Kv>().term(), list(int32(2), int32(3), int32(7))), int32(42));
+        checkEager(++i, apply(new hydra.lib.lists.Map<Kv>().term(),
+            apply(new Add<Kv>().term(), int32(1)), packed), list(incremented));
+        checkEager(++i, apply(new hydra.lib.lists.Map<Kv>().term(),
+            lambda("x", apply(new Mul<Kv>().term(), variable("x"), int32(2))), packed), list(doubled));
+        checkEager(++i, apply(new hydra.lib.lists.Map<Kv>().term(),
+            apply(new EqualInt32<Kv>().term(), int32(5)), packed), list(fives));
+
+        // Functions which are not recognized are applied element by element
+        checkEager(++i, apply(new Sum<Kv>().term(), apply(new hydra.lib.lists.Map<Kv>().term(),
+            lambda("x", apply(new Add<Kv>().term(), variable("x"), variable("x"))), packed)), int32(2 * sum));
+    }
+
+    @Test
+    public void checkConsingOntoLongListsIsLinear() {
+        Primitive<Kv> cons = new hydra.lib.lists.Cons<Kv>().toNative();
+
+        // Consing shares the list it is applied to, rather than copying (and repacking) it
+        Term<Kv> list = Flows.fromFlow(cons.implementation.apply(Arrays.asList(int32(-1), list())));
+        for (int i = 0; i < 2 * PackedList.MIN_PACKED_SIZE; i++) {
+            Term<Kv> longer = Flows.fromFlow(cons.implementation.apply(Arrays.asList(int32(i), list)));
+            List<Term<Kv>> elements = ((Term.List<Kv>) longer).value;
+            assertFalse(elements instanceof PackedList);
+            assertSame(((Term.List<Kv>) list).value, elements.subList(1, elements.size()));
+            list = longer;
+        }
+
+        // Building a list four times as long takes roughly four times as long, not sixteen or more
+        consInt32s(cons, 4000);
+        long shortTime = consInt32s(cons, 4000);
+        long longTime = consInt32s(cons, 16000);
+        assertTrue(longTime < 10 * Math.max(shortTime, 1000000),
+            "consing 16000 elements took " + longTime + "ns, against " + shortTime + "ns for 4000");
+    }
+
+    @Test
+    public void checkConsingOntoArrayListsSharesThem() {
+        Primitive<Kv> cons = new hydra.lib.lists.Cons<Kv>().toNative();
+        List<Term<Kv>> elements = new ArrayList<>();
+        for (int i = 0; i < 2 * PackedList.MIN_PACKED_SIZE; i++) {
+            elements.add(int32(i));
+        }
+
+        Term<Kv> once = Flows.fromFlow(cons.implementation.apply(Arrays.asList(int32(-1), new Term.List<>(elements))));
+        Term<Kv> twice = Flows.fromFlow(cons.implementation.apply(Arrays.asList(int32(-2), once)));
+        List<Term<Kv>> consed = ((Term.List<Kv>) twice).value;
+        assertEquals(elements.size() + 2, consed.size());
+        assertEquals(int32(-2), consed.get(0));
+        assertEquals(int32(-1), consed.get(1));
+        for (int i = 0; i < elements.size(); i++) {
+            assertEquals(elements.get(i), consed.get(i + 2));
+        }
+        assertEquals(elements, consed.subList(2, consed.size()));
+        assertEquals(elements.subList(5, elements.size()), consed.subList(7, consed.size()));
+
+        // The original list is viewed in place, not copied
+        elements.set(0, int32(100));
+        assertEquals(int32(100), consed.get(2));
+    }
+
+    @Test
+    public void checkStreamsAreEvaluatedLazily() {
+        // An unbounded stream of the natural numbers, which counts the elements pulled from it
+        int[] pulled = {0};
+        Iterator<Term<Kv>> naturals = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Term<Kv> next() {
+                return int32(pulled[0]++);
+            }
+        };
+        Term<Kv> stream = LazyStream.toTerm(LazyStream.fromIterator(naturals));
+        Term<Kv> head = new hydra.lib.lists.Head<Kv>().term();
+        Term<Kv> tail = new hydra.lib.lists.Tail<Kv>().term();
+        Term<Kv> map = new hydra.lib.lists.Map<Kv>().term();
+        Term<Kv> concat = new hydra.lib.lists.Concat<Kv>().term();
+        Term<Kv> bind = new hydra.lib.lists.Bind<Kv>().term();
+
+        int i = 0;
+        checkEager(++i, apply(head, apply(tail, apply(tail, apply(map, apply(new Add<Kv>().term(), int32(1)), stream)))),
+            int32(3));
+        checkEager(++i, apply(head, apply(tail, apply(tail, apply(tail,
+            apply(bind, stream, lambda("x", list(variable("x"), variable("x")))))))), int32(1));
+        checkEager(++i, apply(head, apply(tail, apply(concat, list(list(int32(42)), stream)))), int32(0));
+        checkEager(++i, apply(head, apply(tail, apply(concat,
+            apply(map, lambda("x", list(variable("x"), int32(42))), stream)))), int32(42));
+        assertEquals(3, pulled[0]);
+
+        // The tail of the last element of a finite stream is an empty list
+        Term<Kv> single = LazyStream.toTerm(LazyStream.fromIterator(Collections.singletonList(Terms.<Kv>string("a")).iterator()));
+        checkEager(++i, apply(tail, single), list());
+    }
+
+    @Test
+    public void checkAnnotatedStreamsAreEvaluatedLazily() {
+        int[] pulled = {0};
+        Iterator<Term<Kv>> naturals = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Term<Kv> next() {
+                return int32(pulled[0]++);
+            }
+        };
+        Term<Kv> stream = annot(new Kv(Collections.singletonMap("label", string("naturals"))),
+            LazyStream.toTerm(LazyStream.fromIterator(naturals)));
+        Term<Kv> head = new hydra.lib.lists.Head<Kv>().term();
+        Term<Kv> tail = new hydra.lib.lists.Tail<Kv>().term();
+        Term<Kv> concat = new hydra.lib.lists.Concat<Kv>().term();
+
+        int i = 0;
+        checkEager(++i, stream, stream);
+        checkEager(++i, list(stream), list(stream));
+        checkEager(++i, apply(head, apply(tail, stream)), int32(1));
+        checkEager(++i, apply(head, apply(tail, apply(concat, list(list(int32(42)), stream)))), int32(0));
+
+        // An annotated stream is not traversed when deciding whether to fork
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            Term<Kv> streams = list(stream, apply(head, stream), stream);
+            FlowState<Graph<Kv>, Term<Kv>> result = Reduction.reduce(new Reduction.Parallelism(pool, 2), streams)
+                .value.apply(emptyGraph()).apply(EMPTY_TRACE);
+            assertEquals(Optional.of(list(stream, int32(0), stream)), result.value);
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(2, pulled[0]);
+    }
+
+    @Test
+    public void checkFailuresInStreamsAreReturnedAsFailedFlows() {
+        Term<Kv> head = new hydra.lib.lists.Head<Kv>().term();
+        Term<Kv> tail = new hydra.lib.lists.Tail<Kv>().term();
+        Term<Kv> concat = new hydra.lib.lists.Concat<Kv>().term();
+        Term<Kv> bind = new hydra.lib.lists.Bind<Kv>().term();
+
+        // The second group of elements is not a list, which is discovered only when the stream reaches it
+        Term<Kv> groups = LazyStream.toTerm(LazyStream.fromIterator(
+            Arrays.<Term<Kv>>asList(list(int32(1)), int32(2)).iterator()));
+        List<Term<Kv>> terms = Arrays.asList(
+            apply(head, apply(tail, apply(concat, groups))),
+            apply(head, apply(tail, apply(bind, groups, lambda("x", variable("x"))))),
+            apply(concat, LazyStream.toTerm(LazyStream.fromIterator(Collections.<Term<Kv>>singletonList(int32(2)).iterator()))));
+        for (Term<Kv> term : terms) {
+            for (Reduction.Strategy strategy : Reduction.Strategy.values()) {
+                FlowState<Graph<Kv>, Term<Kv>> result = Reduction.reduce(strategy, true, term)
+                    .value.apply(emptyGraph()).apply(EMPTY_TRACE);
+                assertFalse(result.value.isPresent(), strategy + ": " + term);
+                assertFalse(result.trace.messages.isEmpty());
+            }
+        }
+
+        // The elements before the failure are still available
+        checkEager(1, apply(head, apply(concat, groups)), int32(1));
+
+        // A failure in a tail which is forced after the stream was created is kept in the stream, and is added to the
+        // trace of the flow which forces the tail
+        FlowState<Graph<Kv>, Term<Kv>> concatenated = Reduction.reduce(Reduction.Strategy.ENVIRONMENT, true,
+            apply(concat, groups)).value.apply(emptyGraph()).apply(EMPTY_TRACE);
+        hydra.core.Stream<Kv> stream = ((Term.Stream<Kv>) concatenated.value.get()).value;
+        FlowException first = assertThrows(FlowException.class, () -> LazyStream.rest(stream));
+        assertSame(first, assertThrows(FlowException.class, () -> LazyStream.rest(stream)));
+        Trace outer = EMPTY_TRACE.withMessages(TraceLog.append(EMPTY_TRACE.messages, "outer"));
+        FlowState<Graph<Kv>, Term<Kv>> forced = Reduction.reduce(Reduction.Strategy.ENVIRONMENT, true,
+            apply(tail, new Term.Stream<>(stream))).value.apply(emptyGraph()).apply(outer);
+        assertFalse(forced.value.isPresent());
+        assertEquals("outer", forced.trace.messages.get(0));
+        assertEquals(first.trace.messages, forced.trace.messages.subList(1, forced.trace.messages.size()));
+    }
+
+    @Test
+    public void checkParallelReduction() {
+        Graph<Kv> graph = emptyGraph();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // A low threshold, so that even small groups of subterms are forked
+            Reduction.Parallelism parallelism = new Reduction.Parallelism(pool, 4);
+            Term<Kv> square = lambda("x", record("Point",
+                field("x", variable("x")), field("y", apply(new Mul<Kv>().term(), variable("x"), variable("x")))));
+            List<Term<Kv>> ints = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                ints.add(int32(i));
+            }
+            Term<Kv> points = apply(new hydra.lib.lists.Map<Kv>().term(), square, list(ints));
+            Term<Kv> sums = apply(new Add<Kv>().term(), apply(new Sum<Kv>().term(), list(ints)),
+                apply(new Length<Kv>().term(), string("abc")));
+            Term<Kv> labeled = apply(new hydra.lib.lists.Map<Kv>().term(),
+                lambda("p", apply(projection("Point", "z"), variable("p"))), points);
+
+            for (Term<Kv> term : Arrays.asList(points, sums, list(points, sums), labeled)) {
+                FlowState<Graph<Kv>, Term<Kv>> expected = Reduction.reduce(Reduction.Strategy.ENVIRONMENT, true, term)
+                    .value.apply(graph).apply(EMPTY_TRACE);
+                FlowState<Graph<Kv>, Term<Kv>> actual = Reduction.reduce(parallelism, term)
+                    .value.apply(graph).apply(EMPTY_TRACE);
+                assertEquals(expected.value, actual.value);
+                assertEquals(expected.trace.stack, actual.trace.stack);
+                assertEquals(expected.trace.messages, actual.trace.messages);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static Term<Kv> figure(Term<Kv> shape) {
+        return record("Figure", field("shape", shape));
+    }
+
+    // Build a list of int32 values by applying lists.cons once per element, returning the elapsed time in nanoseconds
+    private static long consInt32s(Primitive<Kv> cons, int size) {
+        long start = System.nanoTime();
+        Term<Kv> list = list();
+        for (int i = 0; i < size; i++) {
+            list = Flows.fromFlow(cons.implementation.apply(Arrays.asList(int32(i), list)));
+        }
+        long elapsed = System.nanoTime() - start;
+        assertEquals(size, ((Term.List<Kv>) list).value.size());
+        return elapsed;
+    }
+
     private static void checkEager(int idx, Term<Kv> input, Term<Kv> output) {
         TestSuiteRunner.runReductionTestCase(true, "" + idx, input, output);
+        TestSuiteRunner.runReductionTestCase(Reduction.Strategy.ENVIRONMENT, true, "" + idx, input, output);
+        TestSuiteRunner.runCompiledTestCase("" + idx, input, output);
+    }
+
+    private static void checkEnvironment(int idx, Term<Kv> input, Term<Kv> output) {
+        TestSuiteRunner.runReductionTestCase(Reduction.Strategy.ENVIRONMENT, true, "" + idx, input, output);
+        TestSuiteRunner.runCompiledTestCase("" + idx, input, output);
     }
 }
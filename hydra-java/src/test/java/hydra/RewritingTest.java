@@ -2,11 +2,16 @@ package hydra;
 
 import hydra.compute.Flow;
 import hydra.compute.FlowState;
+import hydra.compute.Kv;
 import hydra.core.Field;
 import hydra.core.Name;
 import hydra.core.Record;
 import hydra.core.Term;
+import hydra.tools.LazyStream;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import org.junit.jupiter.api.Test;
@@ -75,6 +80,112 @@ public class RewritingTest {
         assertEquals(Integer.valueOf(totalFields), resultState.state);
     }
 
+    @Test
+    public void checkPureRewritingSharesUnchangedSubterms() {
+        // An identity rewrite returns the original term
+        Term<String> same = rewriteTerm(recurse -> recurse, a -> a, listOfStates);
+        assertSame(listOfStates, same);
+
+        // Replace the annotated longitude of Sacramento; everything outside of that path is shared
+        Term<String> rewritten = rewriteTerm(recurse -> t -> t instanceof Term.Annotated
+            && ((Term.Annotated<String>) t).value.annotation.equals("fail here")
+            ? float32(0.0f) : recurse.apply(t), a -> a, caGeom);
+        assertNotSame(caGeom, rewritten);
+        Term<String> state = ((Term.Annotated<String>) rewritten).value.subject;
+        List<Field<String>> fields = ((Term.Record<String>) state).value.fields;
+        assertSame(caBbox, fields.get(0).term);
+        Term<String> capital = ((Term.Annotated<String>) fields.get(1).term).value.subject;
+        List<Field<String>> capitalFields = ((Term.Record<String>) capital).value.fields;
+        assertSame(((Term.Record<String>) ((Term.Annotated<String>) caCapital).value.subject).value.fields.get(0),
+            capitalFields.get(0));
+        assertEquals(float32(0.0f), capitalFields.get(1).term);
+    }
+
+    @Test
+    public void checkInterningSharesEqualSubterms() {
+        TermInterner<String> interner = new TermInterner<>();
+        Term<String> point1 = interner.intern(
+            record(geoPointName, field("lat", float32(38.5816f)), field("lon", float32(38.5816f))));
+        Term<String> point2 = interner.intern(
+            record(geoPointName, field("lat", float32(38.5816f)), field("lon", float32(38.5816f))));
+        assertSame(point1, point2);
+
+        // Equal subterms share one instance, both within and across terms
+        List<Field<String>> fields = ((Term.Record<String>) point1).value.fields;
+        assertSame(fields.get(0).term, fields.get(1).term);
+        Term<String> list = interner.intern(list(float32(38.5816f), point2));
+        assertSame(fields.get(0).term, ((Term.List<String>) list).value.get(0));
+        assertEquals(3, interner.size());
+
+        // Deeply nested terms are interned without recursion
+        Term<String> deep1 = string("bottom");
+        Term<String> deep2 = string("bottom");
+        for (int i = 0; i < 100000; i++) {
+            deep1 = list(int32(i), deep1);
+            deep2 = list(int32(i), deep2);
+        }
+        Term<String> interned = interner.intern(deep1);
+        assertSame(interned, interner.intern(deep2));
+        assertEquals(200004, interner.size());
+    }
+
+    @Test
+    public void checkStreamsAreRewrittenLazily() {
+        // A stream with one stored cell, followed by an unbounded, lazily computed tail
+        int[] pulled = {0};
+        Iterator<Term<String>> capitals = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Term<String> next() {
+                pulled[0]++;
+                return caCapital;
+            }
+        };
+        Term<String> stream = new Term.Stream<>(new hydra.core.Stream<>(caCapital, LazyStream.fromIterator(capitals)));
+        assertEquals(1, pulled[0]);
+
+        FlowState<Integer, Term<String>> resultState = applyCapitalizeFieldNames(stream);
+        assertTrue(resultState.value.isPresent());
+        assertEquals(1, pulled[0]);
+        // Only the fields of the stored element have been counted
+        assertEquals(2, resultState.state);
+
+        // Elements of the tail are rewritten as they are pulled
+        hydra.core.Stream<String> rewritten = ((Term.Stream<String>) resultState.value.get()).value;
+        Term<String> third = LazyStream.rest(LazyStream.rest(rewritten)).first;
+        assertEquals(2, pulled[0]);
+        Term<String> capital = ((Term.Annotated<String>) third).value.subject;
+        assertEquals("LAT", ((Term.Record<String>) capital).value.fields.get(0).name.value);
+
+        Term<String> same = rewriteTerm(recurse -> recurse, a -> a, stream);
+        assertEquals(2, pulled[0]);
+        assertSame(caCapital, ((Term.Stream<String>) same).value.first);
+    }
+
+    @Test
+    public void checkZeroHashCodesAreMemoized() {
+        // A hash code which sums to zero is memoized like any other, rather than recomputed on every call.
+        // The hash code of an empty map is zero; this one counts how often it is computed.
+        int[] computed = {0};
+        Map<String, Term<Kv>> annotations = new HashMap<>() {
+            @Override
+            public int hashCode() {
+                computed[0]++;
+                return super.hashCode();
+            }
+        };
+        Kv kv = new Kv(annotations);
+        int hash = kv.hashCode();
+        assertNotEquals(0, hash);
+        assertEquals(hash, kv.hashCode());
+        assertEquals(1, computed[0]);
+        assertEquals(new Kv(new HashMap<>()), kv);
+    }
+
     // Capitalizes record field names, and also counts the number of fields mutated
     private static <A> Flow<Integer, Term<A>> capitalizeFieldNames(
         Function<Term<A>, Flow<Integer, Term<A>>> recurse,
@@ -4,13 +4,16 @@ import hydra.compute.Flow;
 import hydra.compute.FlowState;
 import hydra.compute.Kv;
 import hydra.core.Term;
+import hydra.dsl.Terms;
 import hydra.graph.Graph;
 import hydra.test.testSuite.TestSuite;
 import hydra.testing.TestCase;
 import hydra.testing.TestGroup;
+import hydra.tools.FlowException;
 import hydra.tools.PrettyPrinter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -30,11 +33,34 @@ public class TestSuiteRunner extends HydraTestBase {
         runReductionTestCase(true, name, input, output);
     }
 
+    @ParameterizedTest
+    @MethodSource("provideTestCases")
+    void runParameterizedTestCaseWithEnvironment(String name, Term<Kv> input, Term<Kv> output) {
+        runReductionTestCase(Reduction.Strategy.ENVIRONMENT, true, name, input, output);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestCases")
+    void runParameterizedTestCaseCompiled(String name, Term<Kv> input, Term<Kv> output) {
+        runCompiledTestCase(name, input, output);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestCases")
+    void runParameterizedTestCaseWithBytecode(String name, Term<Kv> input, Term<Kv> output) {
+        runBytecodeTestCase(name, input, output);
+    }
+
     public static void runReductionTestCase(boolean eager, String name, Term<Kv> input, Term<Kv> output) {
+        runReductionTestCase(Reduction.Strategy.SUBSTITUTION, eager, name, input, output);
+    }
+
+    public static void runReductionTestCase(Reduction.Strategy strategy, boolean eager, String name, Term<Kv> input,
+        Term<Kv> output) {
         Graph<Kv> graph = emptyGraph();
         String suffix = " (" + name + ")";
 
-        Flow<Graph<Kv>, Term<Kv>> reduced = Reduction.reduce(eager, input);
+        Flow<Graph<Kv>, Term<Kv>> reduced = Reduction.reduce(strategy, eager, input);
         FlowState<Graph<Kv>, Term<Kv>> result = reduced.value.apply(graph).apply(EMPTY_TRACE);
         if (result.value.isPresent()) {
             if (!result.value.get().equals(output)) {
@@ -52,6 +78,31 @@ public class TestSuiteRunner extends HydraTestBase {
         }
     }
 
+    public static void runCompiledTestCase(String name, Term<Kv> input, Term<Kv> output) {
+        checkCompiledResult(name, () -> Compiler.compile(emptyGraph(), input).evaluate(), output);
+    }
+
+    public static void runBytecodeTestCase(String name, Term<Kv> input, Term<Kv> output) {
+        // The input is compiled as the body of a constant function
+        checkCompiledResult(name,
+            () -> new BytecodeCompiler<Kv>(emptyGraph()).compile(Terms.lambda("_", input)).apply(Terms.unit()), output);
+    }
+
+    private static void checkCompiledResult(String name, Supplier<Term<Kv>> evaluate, Term<Kv> output) {
+        String suffix = " (" + name + ")";
+        Term<Kv> result;
+        try {
+            result = evaluate.get();
+        } catch (FlowException e) {
+            Assertions.fail("Compiled evaluation failed: " + e.getMessage() + suffix);
+            return;
+        }
+        if (!result.equals(output)) {
+            assertEquals(print(output), print(result), "Compiled term does not evaluate to expected term" + suffix);
+            assertEquals(output, result, "Compiled term does not evaluate to expected term" + suffix);
+        }
+    }
+
     private static <A> String print(Term<A> term) {
         return PrettyPrinter.printTerm(term);
     }
@@ -0,0 +1,105 @@
+package hydra.compute;
+
+import hydra.Flows;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static hydra.Flows.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class FlowExecutorTest {
+    @Test
+    public void checkBatchesOfFlows() throws Exception {
+        for (boolean preferVirtualThreads : new boolean[] {true, false}) {
+            try (FlowExecutor executor = new FlowExecutor(4, preferVirtualThreads)) {
+                List<FlowExecutor.Job<Integer, Integer>> jobs = new ArrayList<>();
+                for (int i = 0; i < 2000; i++) {
+                    jobs.add(new FlowExecutor.Job<>(sumTo(i), i));
+                }
+                List<FlowState<Integer, Integer>> results
+                    = FlowExecutor.collect(executor.submitAll(jobs)).get(30, TimeUnit.SECONDS);
+                assertEquals(jobs.size(), results.size());
+                for (int i = 0; i < results.size(); i++) {
+                    assertEquals(i * (i + 1) / 2 + i, results.get(i).value.get());
+                    assertEquals(i, results.get(i).state);
+                }
+
+                // A failing flow completes normally, with its error in the trace
+                FlowState<Integer, Integer> failed = executor.submit(Flows.<Integer, Integer>fail("oops"), 0).get();
+                assertFalse(failed.value.isPresent());
+                assertEquals("Error: oops", failed.trace.messages.get(0));
+            }
+        }
+    }
+
+    @Test
+    public void checkConcurrencyIsBounded() throws Exception {
+        for (boolean preferVirtualThreads : new boolean[] {true, false}) {
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            Flow<Integer, Integer> flow = new Flow<>(s -> t -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                return new FlowState<>(Optional.of(s), s, t);
+            });
+            try (FlowExecutor executor = new FlowExecutor(3, preferVirtualThreads)) {
+                List<CompletableFuture<FlowState<Integer, Integer>>> futures = new ArrayList<>();
+                for (int i = 0; i < 200; i++) {
+                    futures.add(executor.submit(flow, i));
+                }
+                FlowExecutor.collect(futures).get(30, TimeUnit.SECONDS);
+            }
+            assertTrue(maxRunning.get() <= 3);
+        }
+    }
+
+    @Test
+    public void checkTimeoutsAndCancellation() throws Exception {
+        try (FlowExecutor executor = new FlowExecutor(1, false)) {
+            CompletableFuture<FlowState<Integer, Integer>> timedOut
+                = executor.submit(loop(), 0, Duration.ofMillis(50));
+            ExecutionException e = assertThrows(ExecutionException.class, () -> timedOut.get(30, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof TimeoutException);
+
+            CompletableFuture<FlowState<Integer, Integer>> cancelled = executor.submit(loop(), 0);
+            assertTrue(cancelled.cancel(true));
+            assertThrows(CancellationException.class, cancelled::join);
+
+            // Neither of the unbounded flows still occupies the only worker
+            assertEquals(42, executor.submit(pure(42), 0).get(30, TimeUnit.SECONDS).value.get());
+        }
+
+        // The interpreter itself stops a flow once it has been cancelled
+        FlowState<Integer, Integer> result = FlowInterpreter.run(loop(), 0, EMPTY_TRACE, () -> true);
+        assertFalse(result.value.isPresent());
+        assertEquals(FlowInterpreter.CANCELLED, result.trace.messages.get(0));
+    }
+
+    private static Flow<Integer, Integer> sumTo(int n) {
+        Flow<Integer, Integer> flow = getState();
+        for (int i = 1; i <= n; i++) {
+            int k = i;
+            flow = map(flow, x -> x + k);
+        }
+        return flow;
+    }
+
+    private static Flow<Integer, Integer> loop() {
+        return bind(pure(1), x -> loop());
+    }
+}
@@ -1,10 +1,12 @@
 package hydra.dsl;
 
+import hydra.Symbols;
 import hydra.core.Elimination;
 import hydra.core.Function;
 import hydra.core.Term;
 import hydra.dsl.prims.Strings;
 import hydra.core.Name;
+import hydra.module.Namespace;
 import org.junit.jupiter.api.Test;
 
 import static hydra.dsl.Core.*;
@@ -107,6 +109,38 @@ public class TermsTest {
     assertEquals(longitude, ((Term.Annotated<String>) longitudeAnnotated).value.subject);
   }
 
+  @Test
+  public void namesAreCanonical() {
+    // Names constructed through the DSL are shared, so that equality is a reference comparison
+    assertSame(name("LatLon"), ((Term.Record<String>) bayAreaLatLon).value.typeName);
+    assertSame(fieldName("lon"), ((Term.Record<String>) bayAreaLatLon).value.fields.get(1).name);
+    assertSame(((Term.Variable<String>) Terms.<String>variable("s1")).value, name("s1"));
+    assertSame(Symbols.name(new Name("s1")), name("s1"));
+    assertEquals(Symbols.id(name("s1")), Symbols.id(fieldName("s1")));
+    assertNotEquals(Symbols.id(name("s1")), Symbols.id(name("s2")));
+
+    assertEquals("length", Symbols.localName(name("hydra/lib/strings.length")));
+    assertEquals(new Namespace("hydra/lib/strings"), Symbols.namespace(name("hydra/lib/strings.length")).get());
+    assertFalse(Symbols.namespace(name("s1")).isPresent());
+  }
+
+  @Test
+  public void commonLiteralsAreShared() {
+    assertSame(int32(42), int32(42));
+    assertSame(int64(-1), int64(-1));
+    assertSame(boolean_(true), boolean_(true));
+    assertNotSame(int32(1 << 20), int32(1 << 20));
+    assertEquals(int32(1 << 20), int32(1 << 20));
+    assertNotEquals(int32(42), int64(42));
+
+    assertEquals(Integer.valueOf(42), Expect.int32Value(int32(42)));
+    assertEquals(Long.valueOf(42), Expect.int64Value(int64(42)));
+    assertNull(Expect.int32Value(int64(42)));
+    assertNull(Expect.int32Value(string("42")));
+    assertEquals("42", Expect.stringValue(string("42")));
+    assertEquals(Boolean.TRUE, Expect.booleanValue(boolean_(true)));
+  }
+
   @Test
   public void demonstrateVisitor() {
     assertEquals(0, bayAreaLatLon.accept(countBoundVariables()));
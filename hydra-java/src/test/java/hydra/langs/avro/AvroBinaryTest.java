@@ -0,0 +1,364 @@
+package hydra.langs.avro;
+
+import hydra.Flows;
+import hydra.HydraTestBase;
+import hydra.compute.Coder;
+import hydra.core.Term;
+import hydra.dsl.Terms;
+import hydra.graph.Graph;
+import hydra.langs.avro.schema.Schema;
+import hydra.langs.json.JsonReader;
+import hydra.tools.FlowException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class AvroBinaryTest extends HydraTestBase {
+    private static final String PERSON_SCHEMA = "{\"type\":\"record\",\"name\":\"Person\",\"namespace\":\"com.example\","
+        + "\"fields\":["
+        + "{\"name\":\"name\",\"type\":\"string\"},"
+        + "{\"name\":\"age\",\"type\":\"int\"},"
+        + "{\"name\":\"email\",\"type\":[\"null\",\"string\"],\"default\":null},"
+        + "{\"name\":\"id\",\"type\":\"long\"},"
+        + "{\"name\":\"height\",\"type\":\"float\"},"
+        + "{\"name\":\"score\",\"type\":\"double\"},"
+        + "{\"name\":\"active\",\"type\":\"boolean\"},"
+        + "{\"name\":\"photo\",\"type\":\"bytes\"},"
+        + "{\"name\":\"tags\",\"type\":{\"type\":\"array\",\"items\":\"string\"}},"
+        + "{\"name\":\"scores\",\"type\":{\"type\":\"map\",\"values\":\"double\"}},"
+        + "{\"name\":\"status\",\"type\":{\"type\":\"enum\",\"name\":\"Status\",\"symbols\":[\"ACTIVE\",\"RETIRED\"]}},"
+        + "{\"name\":\"hash\",\"type\":{\"type\":\"fixed\",\"name\":\"Hash\",\"size\":4}},"
+        + "{\"name\":\"previous\",\"type\":[\"null\",\"Status\"]}"
+        + "]}";
+
+    @Test
+    public void checkValuesAreEncodedAsInTheSpecification() {
+        BinaryEncoder encoder = new BinaryEncoder();
+        for (long l : new long[] {0, -1, 1, -2, 2, -64, 64}) {
+            encoder.writeLong(l);
+        }
+        encoder.writeInt(Integer.MIN_VALUE);
+        encoder.writeString("foo");
+        encoder.writeString("café");
+        encoder.writeDouble(1.0);
+        encoder.writeFloat(-2.5f);
+        encoder.writeBoolean(true);
+        byte[] bytes = encoder.toByteArray();
+        assertArrayEquals(new byte[] {
+            0x00, 0x01, 0x02, 0x03, 0x04, 0x7f, (byte) 0x80, 0x01,
+            (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x0f,
+            0x06, 'f', 'o', 'o',
+            0x0a, 'c', 'a', 'f', (byte) 0xc3, (byte) 0xa9,
+            0, 0, 0, 0, 0, 0, (byte) 0xf0, 0x3f,
+            0, 0, 0x20, (byte) 0xc0,
+            0x01}, bytes);
+
+        BinaryDecoder decoder = new BinaryDecoder(bytes);
+        for (long l : new long[] {0, -1, 1, -2, 2, -64, 64}) {
+            assertEquals(l, decoder.readLong());
+        }
+        assertEquals(Integer.MIN_VALUE, decoder.readInt());
+        assertEquals("foo", decoder.readString());
+        assertEquals("café", decoder.readString());
+        assertEquals(1.0, decoder.readDouble());
+        assertEquals(-2.5f, decoder.readFloat());
+        assertTrue(decoder.readBoolean());
+        assertTrue(decoder.isEnd());
+        assertThrows(BinaryDecoder.ParseException.class, decoder::readLong);
+
+        // Extreme values, and the same values read through a stream in small pieces
+        BinaryEncoder extremes = new BinaryEncoder();
+        long[] longs = {Long.MIN_VALUE, Long.MAX_VALUE, Integer.MIN_VALUE - 1L, 1L << 40};
+        for (long l : longs) {
+            extremes.writeLong(l);
+        }
+        extremes.writeInt(Integer.MAX_VALUE);
+        BinaryDecoder streamed = new BinaryDecoder(new SlowInputStream(extremes.toByteArray()));
+        for (long l : longs) {
+            assertEquals(l, streamed.readLong());
+        }
+        assertEquals(Integer.MAX_VALUE, streamed.readInt());
+        assertTrue(streamed.isEnd());
+
+        // An int which is too long is rejected
+        assertThrows(BinaryDecoder.ParseException.class,
+            () -> new BinaryDecoder(new byte[] {(byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff,
+                0x01, 0, 0, 0, 0}).readInt());
+    }
+
+    @Test
+    public void checkBlocksWithByteSizesAreReadAndSkipped() {
+        // Two arrays, each with a block of two ints written with a negative count and a size in bytes, then a block
+        // of one int written with a positive count
+        BinaryEncoder encoder = new BinaryEncoder();
+        for (int i = 0; i < 2; i++) {
+            encoder.writeLong(-2);
+            encoder.writeLong(3);
+            encoder.writeInt(1000);
+            encoder.writeInt(7);
+            encoder.writeLong(1);
+            encoder.writeInt(8);
+            encoder.writeLong(0);
+        }
+        encoder.writeString("end");
+
+        BinaryDecoder decoder = new BinaryDecoder(encoder.toByteArray());
+        assertEquals(2, decoder.readCount());
+        assertEquals(1000, decoder.readInt());
+        assertEquals(7, decoder.readInt());
+        assertEquals(1, decoder.readCount());
+        assertEquals(8, decoder.readInt());
+        assertEquals(0, decoder.readCount());
+
+        // The sized block is skipped without decoding its items; the other block is skipped item by item
+        int[] skipped = {0};
+        decoder.skipBlocks(() -> {
+            decoder.readInt();
+            skipped[0]++;
+        });
+        assertEquals(1, skipped[0]);
+        assertEquals("end", decoder.readString());
+        assertTrue(decoder.isEnd());
+    }
+
+    @Test
+    public void checkCorruptLengthsAreRejectedBeforeAllocating() throws Exception {
+        // A string which claims to be almost 2GB long, followed by a few bytes
+        BinaryEncoder encoder = new BinaryEncoder();
+        encoder.writeLong(Integer.MAX_VALUE - 8);
+        encoder.writeFixed(new byte[] {'a', 'b', 'c'});
+        byte[] bytes = encoder.toByteArray();
+        assertThrows(BinaryDecoder.ParseException.class, () -> new BinaryDecoder(bytes).readString());
+        assertThrows(BinaryDecoder.ParseException.class, () -> new BinaryDecoder(bytes).readBytes());
+        assertThrows(BinaryDecoder.ParseException.class,
+            () -> new BinaryDecoder(new SlowInputStream(bytes)).readString());
+        assertThrows(BinaryDecoder.ParseException.class,
+            () -> new BinaryDecoder(new SlowInputStream(bytes)).readBytes());
+
+        // A container file whose only block claims to be almost 2GB long
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        new DataFileWriter<String>(schema(PERSON_SCHEMA), bos, DataFileWriter.Codec.NULL, 4096).close();
+        BinaryEncoder block = new BinaryEncoder();
+        block.writeLong(1);
+        block.writeLong(Integer.MAX_VALUE - 8);
+        block.writeFixed(new byte[] {'a', 'b', 'c'});
+        bos.write(block.toByteArray());
+        try (DataFileReader<String> reader = new DataFileReader<>(new ByteArrayInputStream(bos.toByteArray()))) {
+            assertThrows(BinaryDecoder.ParseException.class, reader::hasNext);
+        }
+    }
+
+    @Test
+    public void checkSchemasAreReadAndWrittenAsJson() {
+        Schema schema = schema(PERSON_SCHEMA);
+        Coder<Void, Void, Schema, String> coder = SchemaJson.avroSchemaStringCoder();
+        String json = Flows.fromFlow(coder.encode.apply(schema));
+        assertEquals(schema, Flows.fromFlow(coder.decode.apply(json)));
+        assertTrue(json.startsWith("{\"type\":\"record\",\"name\":\"Person\",\"namespace\":\"com.example\""));
+
+        assertFails(coder.decode.apply("{\"type\":\"record\",\"name\":\"R\"}"));
+        assertFails(coder.decode.apply("{\"type\":\"enum\",\"name\":\"E\",\"symbols\":[1]}"));
+        assertFails(coder.decode.apply("[\"null\""));
+    }
+
+    @Test
+    public void checkRecordsAreEncodedAndDecoded() {
+        Graph<String> graph = emptyGraph();
+        Schema schema = schema(PERSON_SCHEMA);
+        Coder<Graph<String>, Graph<String>, Term<String>, byte[]> coder = Flows.fromFlow(AvroCoder.avroCoder(schema));
+
+        Term<String> person = person(0);
+        assertRoundTripIsNoop(coder, graph, person);
+        assertRoundTripIsNoop(coder, graph, person(1));
+
+        // Terms which do not match the schema are rejected
+        assertFails(coder.encode.apply(Terms.string("Ada")), graph);
+        AvroCoder.Encoder<String> encoder = Flows.fromFlow(AvroCoder.avroEncoder(schema));
+        assertThrows(FlowException.class, () -> encoder.toBytes(Terms.record("com.example.Person",
+            Terms.field("name", Terms.string("Ada")))));
+
+        // Truncated or overlong data is rejected
+        byte[] bytes = encoder.toBytes(person);
+        assertFails(coder.decode.apply(Arrays.copyOf(bytes, bytes.length - 1)), graph);
+        assertFails(coder.decode.apply(Arrays.copyOf(bytes, bytes.length + 1)), graph);
+
+        // Unsupported unions are rejected when the coder is constructed
+        assertFails(AvroCoder.avroCoder(schema("[\"null\",\"string\",\"int\"]")));
+    }
+
+    @Test
+    public void checkRecursiveSchemas() {
+        Schema schema = schema("{\"type\":\"record\",\"name\":\"List\",\"fields\":["
+            + "{\"name\":\"value\",\"type\":\"int\"},"
+            + "{\"name\":\"next\",\"type\":[\"null\",\"List\"]}]}");
+        Term<String> term = Terms.optional(Optional.empty());
+        for (int i = 0; i < 100; i++) {
+            term = Terms.optional(Optional.of(Terms.record("List",
+                Terms.field("value", Terms.int32(i)), Terms.field("next", term))));
+        }
+        Term<String> list = ((Term.Optional<String>) term).value.get();
+
+        AvroCoder.Encoder<String> encoder = Flows.fromFlow(AvroCoder.avroEncoder(schema));
+        AvroCoder.Decoder<String> decoder = Flows.fromFlow(AvroCoder.avroDecoder(schema));
+        assertEquals(list, decoder.fromBytes(encoder.toBytes(list)));
+    }
+
+    @Test
+    public void checkSchemasAreResolved() {
+        String writerSchema = "{\"type\":\"record\",\"name\":\"Event\",\"fields\":["
+            + "{\"name\":\"id\",\"type\":\"int\"},"
+            + "{\"name\":\"legacy\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"map\",\"values\":\"string\"}}},"
+            + "{\"name\":\"kind\",\"type\":{\"type\":\"enum\",\"name\":\"Kind\",\"symbols\":[\"A\",\"B\",\"C\"]}},"
+            + "{\"name\":\"amount\",\"type\":\"float\"},"
+            + "{\"name\":\"label\",\"type\":\"string\"},"
+            + "{\"name\":\"note\",\"type\":[\"null\",\"string\"]}]}";
+        // Fields are reordered, renamed (by alias), removed, added with defaults, and promoted
+        String readerSchema = "{\"type\":\"record\",\"name\":\"Event\",\"fields\":["
+            + "{\"name\":\"amount\",\"type\":\"double\"},"
+            + "{\"name\":\"identifier\",\"aliases\":[\"id\"],\"type\":\"long\"},"
+            + "{\"name\":\"kind\",\"type\":{\"type\":\"enum\",\"name\":\"Kind\",\"symbols\":[\"A\",\"B\",\"OTHER\"],"
+            + "\"default\":\"OTHER\"}},"
+            + "{\"name\":\"label\",\"type\":\"bytes\"},"
+            + "{\"name\":\"note\",\"type\":\"string\"},"
+            + "{\"name\":\"priority\",\"type\":[\"int\",\"null\"],\"default\":3},"
+            + "{\"name\":\"origin\",\"type\":{\"type\":\"record\",\"name\":\"Origin\",\"fields\":["
+            + "{\"name\":\"host\",\"type\":\"string\",\"default\":\"localhost\"}]},\"default\":{}}]}";
+
+        AvroCoder.Encoder<String> encoder = Flows.fromFlow(AvroCoder.avroEncoder(schema(writerSchema)));
+        AvroCoder.Decoder<String> decoder = Flows.fromFlow(
+            AvroCoder.avroDecoder(schema(writerSchema), schema(readerSchema)));
+
+        Map<Term<String>, Term<String>> legacy = new LinkedHashMap<>();
+        legacy.put(Terms.string("k"), Terms.string("v"));
+        Term<String> event = Terms.record("Event",
+            Terms.field("id", Terms.int32(7)),
+            Terms.field("legacy", Terms.list(Terms.map(legacy), Terms.map(Collections.emptyMap()))),
+            Terms.field("kind", Terms.inject("Kind", Terms.field("C", Terms.unit()))),
+            Terms.field("amount", Terms.float32(1.5f)),
+            Terms.field("label", Terms.string("é")),
+            Terms.field("note", Terms.optional(Optional.of(Terms.string("hello")))));
+        Term<String> expected = Terms.record("Event",
+            Terms.field("amount", Terms.float64(1.5)),
+            Terms.field("identifier", Terms.int64(7L)),
+            Terms.field("kind", Terms.inject("Kind", Terms.field("OTHER", Terms.unit()))),
+            Terms.field("label", Terms.binary("Ã©")),
+            Terms.field("note", Terms.string("hello")),
+            Terms.field("priority", Terms.optional(Optional.of(Terms.int32(3)))),
+            Terms.field("origin", Terms.record("Origin", Terms.field("host", Terms.string("localhost")))));
+        assertEquals(expected, decoder.fromBytes(encoder.toBytes(event)));
+
+        // A branch of a union which the reader cannot read is rejected when it is encountered
+        Term<String> noNote = Terms.record("Event",
+            Terms.field("id", Terms.int32(7)),
+            Terms.field("legacy", Terms.list()),
+            Terms.field("kind", Terms.inject("Kind", Terms.field("A", Terms.unit()))),
+            Terms.field("amount", Terms.float32(1.5f)),
+            Terms.field("label", Terms.string("x")),
+            Terms.field("note", Terms.optional(Optional.empty())));
+        assertThrows(BinaryDecoder.ParseException.class, () -> decoder.fromBytes(encoder.toBytes(noNote)));
+
+        // Schemas which cannot be resolved are rejected when the decoder is constructed
+        assertFails(AvroCoder.avroDecoder(schema(writerSchema), schema("{\"type\":\"record\",\"name\":\"Event\","
+            + "\"fields\":[{\"name\":\"missing\",\"type\":\"int\"}]}")));
+        assertFails(AvroCoder.avroDecoder(schema("\"long\""), schema("\"int\"")));
+        assertFails(AvroCoder.avroDecoder(schema(writerSchema), schema("{\"type\":\"record\",\"name\":\"Other\","
+            + "\"fields\":[]}")));
+    }
+
+    @Test
+    public void checkContainerFilesAreWrittenAndRead() throws Exception {
+        Schema schema = schema(PERSON_SCHEMA);
+        List<Term<String>> people = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            people.add(person(i));
+        }
+
+        for (DataFileWriter.Codec codec : DataFileWriter.Codec.values()) {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            try (DataFileWriter<String> writer = new DataFileWriter<>(schema, bos, codec, 4096)) {
+                for (Term<String> person : people) {
+                    writer.append(person);
+                }
+                // A term which does not match the schema is not written
+                assertThrows(FlowException.class, () -> writer.append(Terms.string("Ada")));
+            }
+            byte[] file = bos.toByteArray();
+
+            List<Term<String>> read = new ArrayList<>();
+            try (DataFileReader<String> reader = new DataFileReader<>(new SlowInputStream(file))) {
+                assertEquals(schema, reader.schema());
+                assertEquals(codec.name, new String(reader.metadata().get("avro.codec"), "UTF-8"));
+                reader.forEachRemaining(read::add);
+            }
+            assertEquals(people, read);
+
+            // A reader's schema which projects a single field
+            Schema projection = schema("{\"type\":\"record\",\"name\":\"com.example.Person\",\"fields\":["
+                + "{\"name\":\"id\",\"type\":\"double\"}]}");
+            try (DataFileReader<String> reader = new DataFileReader<>(new ByteArrayInputStream(file), projection)) {
+                for (int i = 0; i < people.size(); i++) {
+                    assertEquals(Terms.record("com.example.Person", Terms.field("id", Terms.float64(i * 1000.0))),
+                        reader.next());
+                }
+                assertFalse(reader.hasNext());
+            }
+
+            // A corrupt sync marker is detected
+            file[file.length - 1] ^= 1;
+            DataFileReader<String> corrupt = new DataFileReader<>(new ByteArrayInputStream(file));
+            assertThrows(BinaryDecoder.ParseException.class, () -> corrupt.forEachRemaining(t -> { }));
+        }
+
+        assertThrows(BinaryDecoder.ParseException.class,
+            () -> new DataFileReader<String>(new ByteArrayInputStream("{}".getBytes("UTF-8"))));
+    }
+
+    private static Schema schema(String json) {
+        return SchemaJson.decodeSchema(JsonReader.parse(json));
+    }
+
+    private static Term<String> person(int i) {
+        Map<Term<String>, Term<String>> scores = new LinkedHashMap<>();
+        scores.put(Terms.string("chess"), Terms.float64(0.5 + i));
+        scores.put(Terms.string("go"), Terms.float64(-i));
+        return Terms.record("com.example.Person",
+            Terms.field("name", Terms.string("Ada " + i)),
+            Terms.field("age", Terms.int32(36 + i)),
+            Terms.field("email", Terms.optional(i % 2 == 0
+                ? Optional.empty() : Optional.of(Terms.string("ada" + i + "@example.org")))),
+            Terms.field("id", Terms.int64(i * 1000L)),
+            Terms.field("height", Terms.float32(1.5f + i)),
+            Terms.field("score", Terms.float64(i / 3.0)),
+            Terms.field("active", Terms.boolean_(i % 3 == 0)),
+            Terms.field("photo", Terms.binary("\u0000ÿ\u0080" + i)),
+            Terms.field("tags", i % 4 == 0 ? Terms.list() : Terms.list(Terms.string("math"), Terms.string("code"))),
+            Terms.field("scores", Terms.map(scores)),
+            Terms.field("status", Terms.inject("com.example.Status",
+                Terms.field(i % 2 == 0 ? "ACTIVE" : "RETIRED", Terms.unit()))),
+            Terms.field("hash", Terms.binary(String.format("%04d", i % 10000))),
+            Terms.field("previous", Terms.optional(i % 5 == 0 ? Optional.empty() : Optional.of(
+                Terms.inject("com.example.Status", Terms.field("ACTIVE", Terms.unit()))))));
+    }
+
+    // A stream which returns at most three bytes at a time
+    private static class SlowInputStream extends ByteArrayInputStream {
+        SlowInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, 3));
+        }
+    }
+}
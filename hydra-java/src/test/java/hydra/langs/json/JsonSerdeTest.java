@@ -0,0 +1,291 @@
+package hydra.langs.json;
+
+import hydra.Flows;
+import hydra.HydraTestBase;
+import hydra.compute.Coder;
+import hydra.core.IntegerValue;
+import hydra.core.Literal;
+import hydra.core.Name;
+import hydra.core.Term;
+import hydra.core.Type;
+import hydra.dsl.Terms;
+import hydra.dsl.Types;
+import hydra.graph.Graph;
+import hydra.langs.json.model.Value;
+import hydra.tools.FlowException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+import static hydra.dsl.Types.field;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class JsonSerdeTest extends HydraTestBase {
+    private static final Type<String> PERSON = Types.record("Person",
+        field("name", Types.string()),
+        field("age", Types.int32()),
+        field("email", Types.optional(Types.string())),
+        field("tags", Types.list(Types.string())),
+        field("scores", Types.map(Types.string(), Types.float64())));
+
+    @Test
+    public void checkValuesAreWrittenCompactly() {
+        Map<String, Value> fields = new LinkedHashMap<>();
+        fields.put("a", new Value.Array(Arrays.asList(
+            new Value.Number_(1.0), new Value.Number_(-2.5), new Value.Boolean_(true), new Value.Null())));
+        fields.put("quote\"d", new Value.String_("tab\there\nand \\ \u0001 café 😀"));
+        fields.put("empty", new Value.Object_(Collections.emptyMap()));
+        Value value = new Value.Object_(fields);
+
+        String expected = "{\"a\":[1,-2.5,true,null],"
+            + "\"quote\\\"d\":\"tab\\there\\nand \\\\ \\u0001 café 😀\",\"empty\":{}}";
+        assertEquals(expected, JsonWriter.toString(value));
+        assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8), JsonWriter.toBytes(value));
+
+        assertEquals(value, JsonReader.parse(expected));
+        assertEquals(value, JsonReader.parse(expected.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void checkLargeInputIsReadIncrementally() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            sb.append("{\"id\":").append(i).append(",\"name\":\"item ").append(i).append("\"}\n");
+        }
+        JsonReader.Names names = new JsonReader.Names("id", "name");
+        JsonReader reader = new JsonReader(new StringReader(sb.toString()));
+        int count = 0;
+        while (reader.peek() != JsonReader.Token.END_DOCUMENT) {
+            reader.beginObject();
+            assertEquals("id", reader.nextName());
+            assertEquals(count, reader.nextInt());
+            assertEquals(1, reader.nextName(names));
+            assertEquals("item " + count, reader.nextString());
+            reader.endObject();
+            count++;
+        }
+        assertEquals(5000, count);
+    }
+
+    @Test
+    public void checkNumbers() {
+        JsonReader reader = new JsonReader("[0, -7, 12345678901234567890, 1.5e3, -0.25]");
+        reader.beginArray();
+        assertEquals(0, reader.nextLong());
+        assertEquals(-7, reader.nextLong());
+        assertEquals(new BigInteger("12345678901234567890"), reader.nextBigInteger());
+        assertEquals(1500.0, reader.nextDouble());
+        assertEquals(-0.25, reader.nextDouble());
+        reader.endArray();
+        assertEquals(JsonReader.Token.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    public void checkTopLevelNumbersAreReadFromStreams() {
+        for (String text : new String[] {"42", "  42", "\n\t-1.5e3 ", "  12345678901234567890"}) {
+            JsonReader reader = new JsonReader(new StringReader(text));
+            assertEquals(JsonReader.parse(text), reader.readValue(), text);
+            assertEquals(JsonReader.Token.END_DOCUMENT, reader.peek());
+
+            JsonReader bytes = new JsonReader(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+            assertEquals(JsonReader.parse(text), bytes.readValue(), text);
+        }
+    }
+
+    @Test
+    public void checkMalformedInputIsRejected() {
+        for (String bad : new String[] {"{\"a\" 1}", "[1,]", "[01]", "\"unterminated", "tru", "{} x", "[1 2]"}) {
+            assertThrows(JsonReader.ParseException.class, () -> JsonReader.parse(bad));
+        }
+
+        // Unescaped control characters are rejected in strings and names, whether or not they are read in place
+        for (String bad : new String[] {"\"a\u0001b\"", "[\"tab\there\"]", "{\"new\nline\":1}"}) {
+            assertThrows(JsonReader.ParseException.class, () -> JsonReader.parse(bad));
+            assertThrows(JsonReader.ParseException.class, () -> new JsonReader(new StringReader(bad)).readValue());
+        }
+        JsonReader names = new JsonReader("{\"a\u0001\":1}");
+        names.beginObject();
+        assertThrows(JsonReader.ParseException.class, () -> names.nextName(new JsonReader.Names("a")));
+        assertFails(Serde.stringToJsonValue("[1,"));
+    }
+
+    @Test
+    public void checkWriterRejectsMisuse() {
+        JsonWriter writer = new JsonWriter(new ByteArrayOutputStream());
+        writer.beginObject();
+        assertThrows(IllegalStateException.class, () -> writer.value(1));
+        writer.name("x").value(1);
+        assertThrows(IllegalStateException.class, writer::endArray);
+        assertThrows(IllegalStateException.class, writer::close);
+        assertThrows(IllegalArgumentException.class,
+            () -> new JsonWriter(new ByteArrayOutputStream()).value(Double.NaN));
+    }
+
+    @Test
+    public void checkLargeNumbers() throws Exception {
+        // A number longer than the writer's buffer
+        BigInteger big = BigInteger.TEN.pow(9000);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        JsonWriter writer = new JsonWriter(bos);
+        writer.beginArray().value(big).value(big.negate()).endArray().close();
+        assertEquals("[" + big + ",-" + big + "]", bos.toString("UTF-8"));
+
+        // Integers which a double cannot hold exactly are rejected by the coder, and written exactly by the encoder
+        Graph<String> graph = emptyGraph();
+        Coder<Graph<String>, Graph<String>, Term<String>, Value> coder
+            = Flows.fromFlow(JsonCoder.jsonCoder(Types.int64()));
+        JsonCoder.Encoder<String> encoder = Flows.fromFlow(JsonCoder.jsonEncoder(Types.int64()));
+        long exact = 1L << 60;
+        long inexact = (1L << 53) + 1;
+        assertSucceedsWith(new Value.Number_((double) exact), coder.encode.apply(Terms.int64(exact)), graph);
+        assertFails(coder.encode.apply(Terms.int64(inexact)), graph);
+        assertFails(coder.encode.apply(Terms.int64(-inexact)), graph);
+        assertEquals("" + inexact, new String(encoder.toBytes(Terms.int64(inexact)), StandardCharsets.UTF_8));
+
+        // The untyped encoding rounds them instead
+        assertEquals(new Value.Number_((double) inexact),
+            JsonCoder.literalToJson(new Literal.Integer_(new IntegerValue.Int64(inexact))));
+    }
+
+    @Test
+    public void checkRecordsAreEncodedAndDecoded() {
+        Graph<String> graph = emptyGraph();
+        Coder<Graph<String>, Graph<String>, Term<String>, Value> coder
+            = Flows.fromFlow(JsonCoder.jsonCoder(PERSON));
+
+        Term<String> person = person(Optional.empty());
+        Map<String, Value> fields = new LinkedHashMap<>();
+        fields.put("name", new Value.String_("Ada"));
+        fields.put("age", new Value.Number_(36.0));
+        fields.put("tags", new Value.Array(Arrays.asList(new Value.String_("math"), new Value.String_("code"))));
+        fields.put("scores", new Value.Object_(Collections.singletonMap("chess", new Value.Number_(0.5))));
+        Value json = new Value.Object_(fields);
+
+        assertSucceedsWith(json, coder.encode.apply(person), graph);
+        assertRoundTripIsNoop(coder, graph, person);
+        assertRoundTripIsNoop(coder, graph, person(Optional.of(Terms.string("ada@example.org"))));
+
+        // Unknown fields are ignored
+        Map<String, Value> extended = new LinkedHashMap<>(fields);
+        extended.put("nickname", new Value.String_("Countess"));
+        assertSucceedsWith(person, coder.decode.apply(new Value.Object_(extended)), graph);
+
+        // Terms which do not match the type are rejected
+        assertFails(coder.encode.apply(Terms.string("Ada")), graph);
+        assertFails(coder.decode.apply(new Value.Object_(Collections.singletonMap("age", new Value.Number_(1.5)))),
+            graph);
+    }
+
+    @Test
+    public void checkStreamingEncoderAgreesWithCoder() {
+        Graph<String> graph = emptyGraph();
+        JsonCoder.Encoder<String> encoder = Flows.fromFlow(JsonCoder.jsonEncoder(PERSON));
+        Coder<Graph<String>, Graph<String>, Term<String>, byte[]> serde
+            = Flows.fromFlow(Serde.jsonByteStringCoder(PERSON));
+
+        Term<String> person = person(Optional.of(Terms.string("ada@example.org")));
+        String expected = "{\"name\":\"Ada\",\"age\":36,\"email\":\"ada@example.org\",\"tags\":[\"math\",\"code\"],"
+            + "\"scores\":{\"chess\":0.5}}";
+        assertEquals(expected, new String(encoder.toBytes(person), StandardCharsets.UTF_8));
+        assertSucceedsWith(person, serde.decode.apply(expected.getBytes(StandardCharsets.UTF_8)), graph);
+
+        assertThrows(FlowException.class, () -> encoder.toBytes(Terms.int32(42)));
+        assertFails(serde.encode.apply(Terms.int32(42)), graph);
+        assertFails(serde.decode.apply("{\"name\":".getBytes(StandardCharsets.UTF_8)), graph);
+    }
+
+    @Test
+    public void checkUnionsAndRecursiveTypes() {
+        Graph<String> graph = emptyGraph();
+        Name treeName = new Name("Tree");
+        Type<String> tree = Types.union(treeName,
+            field("leaf", Types.int32()),
+            field("node", Types.list(Types.variable("Tree"))));
+        Map<Name, Type<String>> types = new HashMap<>();
+        types.put(treeName, tree);
+
+        Term<String> term = Terms.inject(treeName, Terms.field("node", Terms.list(
+            Terms.inject(treeName, Terms.field("leaf", Terms.int32(1))),
+            Terms.inject(treeName, Terms.field("node", Terms.list())))));
+        String expected = "{\"node\":[{\"leaf\":1},{\"node\":[]}]}";
+
+        Coder<Graph<String>, Graph<String>, Term<String>, Value> coder
+            = Flows.fromFlow(JsonCoder.jsonCoder(tree, types));
+        JsonCoder.Encoder<String> encoder = Flows.fromFlow(JsonCoder.jsonEncoder(tree, types));
+        assertEquals(expected, new String(encoder.toBytes(term), StandardCharsets.UTF_8));
+        JsonCoder.Decoder<String> decoder = Flows.fromFlow(JsonCoder.jsonDecoder(tree, types));
+        assertEquals(term, decoder.fromString(expected));
+        assertSucceedsWith(term, coder.decode.apply(new JsonReader(ByteBuffer.wrap(
+            expected.getBytes(StandardCharsets.UTF_8))).readValue()), graph);
+    }
+
+    @Test
+    public void checkCompiledDecoderAgreesWithCoder() {
+        Graph<String> graph = emptyGraph();
+        Type<String> type = Types.record("Team",
+            field("lead", PERSON),
+            field("members", Types.list(PERSON)),
+            field("size", Types.uint8()),
+            field("budget", Types.optional(Types.bigint())));
+        Coder<Graph<String>, Graph<String>, Term<String>, Value> coder = Flows.fromFlow(JsonCoder.jsonCoder(type));
+        JsonCoder.Decoder<String> decoder = Flows.fromFlow(JsonCoder.jsonDecoder(type));
+
+        String[] documents = {
+            "{\"lead\":{\"name\":\"Ada\",\"age\":36,\"tags\":[],\"scores\":{}},\"members\":[],\"size\":200}",
+            // Fields in a different order, with escapes, unknown fields and explicit nulls
+            "{\"size\":1,\"extra\":{\"deep\":[1,{\"x\":null}]},\"budget\":1234567,"
+                + "\"members\":[{\"age\":1.0,\"n\\u0061me\":\"B\\u00e9\",\"email\":null,\"tags\":[\"a\"],"
+                + "\"scores\":{\"x\":1e-3}}],\"lead\":{\"name\":\"C\",\"age\":-5,\"tags\":[],\"scores\":{}}}"};
+        for (String doc : documents) {
+            Term<String> expected = Flows.fromFlow(Flows.bind(Serde.stringToJsonValue(doc), coder.decode));
+            assertEquals(expected, decoder.fromString(doc));
+            assertEquals(expected, decoder.fromBytes(doc.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        // The value of a missing optional field is decoded once, and shared
+        Term<String> first = fieldTerm(fieldTerm(decoder.fromString(documents[0]), 0), 2);
+        assertEquals(Terms.optional(Optional.empty()), first);
+        assertSame(first, fieldTerm(fieldTerm(decoder.fromString(documents[0]), 0), 2));
+
+        // Integers beyond the precision of a double are decoded exactly
+        String big = "123456789012345678901234567890";
+        Term<String> decoded = decoder.fromString("{\"lead\":{\"name\":\"A\",\"age\":1,\"tags\":[],\"scores\":{}},"
+            + "\"members\":[],\"size\":1,\"budget\":" + big + "}");
+        assertEquals(Terms.optional(Optional.of(Terms.bigint(new BigInteger(big)))),
+            ((Term.Record<String>) decoded).value.fields.get(3).term);
+
+        // Missing required fields, out-of-range integers and mismatched values are rejected
+        for (String bad : new String[] {
+            "{\"members\":[],\"size\":1}",
+            "{\"lead\":{\"name\":\"A\",\"age\":1,\"tags\":[],\"scores\":{}},\"members\":[],\"size\":256}",
+            "{\"lead\":{\"name\":\"A\",\"age\":1.5,\"tags\":[],\"scores\":{}},\"members\":[],\"size\":1}",
+            "{\"lead\":[],\"members\":[],\"size\":1}"}) {
+            assertThrows(JsonReader.ParseException.class, () -> decoder.fromString(bad));
+            assertFails(JsonCoder.decodeFromString(decoder, bad), graph);
+        }
+    }
+
+    private static Term<String> fieldTerm(Term<String> record, int index) {
+        return ((Term.Record<String>) record).value.fields.get(index).term;
+    }
+
+    private static Term<String> person(Optional<Term<String>> email) {
+        return Terms.record("Person",
+            Terms.field("name", Terms.string("Ada")),
+            Terms.field("age", Terms.int32(36)),
+            Terms.field("email", Terms.optional(email)),
+            Terms.field("tags", Terms.list(Terms.string("math"), Terms.string("code"))),
+            Terms.field("scores", Terms.map(Collections.singletonMap(Terms.string("chess"), Terms.float64(0.5)))));
+    }
+}
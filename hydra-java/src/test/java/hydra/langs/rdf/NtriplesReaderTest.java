@@ -0,0 +1,123 @@
+package hydra.langs.rdf;
+
+import hydra.langs.rdf.syntax.BlankNode;
+import hydra.langs.rdf.syntax.Description;
+import hydra.langs.rdf.syntax.Iri;
+import hydra.langs.rdf.syntax.LanguageTag;
+import hydra.langs.rdf.syntax.Literal;
+import hydra.langs.rdf.syntax.Node;
+import hydra.langs.rdf.syntax.Quad;
+import hydra.langs.rdf.syntax.Resource;
+import hydra.langs.rdf.syntax.Triple;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class NtriplesReaderTest {
+    private static final String EX = "http://example.org/";
+
+    @Test
+    public void checkStatements() {
+        String input = "# a comment\n"
+            + "<http://example.org/s> <http://example.org/p> <http://example.org/o> .\n"
+            + "\n"
+            + "_:b1 <http://example.org/p> \"plain\" .\r\n"
+            + "<http://example.org/s> <http://example.org/p> \"chat\"@fr .\n"
+            + "<http://example.org/s> <http://example.org/p> \"42\"^^<http://www.w3.org/2001/XMLSchema#int> .\n"
+            + "<http://example.org/s> <http://example.org/p> \"tab\\there \\\"quoted\\\" caf\\u00E9 é\" . # end\n"
+            + "<http://example.org/s> <http://example.org/p> _:b2 <http://example.org/g> .";
+        List<Quad> quads = readAll(input, 64);
+        assertEquals(6, quads.size());
+
+        assertEquals(new Quad(iri("s"), new Iri(EX + "p"), new Node.Iri(new Iri(EX + "o")), Optional.empty()),
+            quads.get(0));
+        assertEquals(new Resource.Bnode(new BlankNode("b1")), quads.get(1).subject);
+        assertEquals(literal("plain", "http://www.w3.org/2001/XMLSchema#string", null), quads.get(1).object);
+        assertEquals(literal("chat", "http://www.w3.org/1999/02/22-rdf-syntax-ns#langString", "fr"),
+            quads.get(2).object);
+        assertEquals(literal("42", "http://www.w3.org/2001/XMLSchema#int", null), quads.get(3).object);
+        assertEquals(literal("tab\there \"quoted\" café é", "http://www.w3.org/2001/XMLSchema#string", null),
+            quads.get(4).object);
+        assertEquals(new Node.Bnode(new BlankNode("b2")), quads.get(5).object);
+        assertEquals(Optional.of(new Iri(EX + "g")), quads.get(5).graph);
+
+        // Repeated IRIs are interned
+        assertSame(quads.get(0).predicate, quads.get(3).predicate);
+        assertSame(quads.get(0).subject, quads.get(2).subject);
+    }
+
+    @Test
+    public void checkSyntaxErrorsAreReportedWithLineNumbers() {
+        NtriplesReader.ParseException e = assertThrows(NtriplesReader.ParseException.class,
+            () -> readAll("<http://example.org/s> <http://example.org/p> <http://example.org/o> .\n"
+                + "<http://example.org/s> <http://example.org/p> \"unterminated .\n", 1024));
+        assertEquals(2, e.lineNumber);
+    }
+
+    @Test
+    public void checkDescriptionsAndFiles() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            for (int j = 0; j < 3; j++) {
+                sb.append("<http://example.org/s").append(i).append("> <http://example.org/p").append(j)
+                    .append("> \"value ").append(i).append(' ').append(j).append("\" .\n");
+            }
+        }
+        Path file = Files.createTempFile("hydra", ".nt");
+        try {
+            Files.write(file, sb.toString().getBytes(StandardCharsets.UTF_8));
+            try (NtriplesReader reader = NtriplesReader.open(file)) {
+                Iterator<Description> descriptions = reader.descriptions();
+                int count = 0;
+                while (descriptions.hasNext()) {
+                    Description d = descriptions.next();
+                    assertEquals(new Node.Iri(new Iri(EX + "s" + count)), d.subject);
+                    assertEquals(3, d.graph.value.size());
+                    count++;
+                }
+                assertEquals(1000, count);
+                assertEquals(3000, reader.lineNumber());
+            }
+        } finally {
+            Files.delete(file);
+        }
+
+        // The same statements, read through a small buffer and as triples
+        NtriplesReader reader = new NtriplesReader(
+            new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8)), 16);
+        Iterator<Triple> triples = reader.triples();
+        int count = 0;
+        while (triples.hasNext()) {
+            triples.next();
+            count++;
+        }
+        assertEquals(3000, count);
+    }
+
+    private static List<Quad> readAll(String input, int bufferSize) {
+        NtriplesReader reader = new NtriplesReader(
+            new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), bufferSize);
+        List<Quad> quads = new ArrayList<>();
+        reader.forEachQuad(quads::add);
+        return quads;
+    }
+
+    private static Resource iri(String local) {
+        return new Resource.Iri(new Iri(EX + local));
+    }
+
+    private static Node literal(String lexicalForm, String datatype, String lang) {
+        return new Node.Literal(new Literal(lexicalForm, new Iri(datatype),
+            Optional.ofNullable(lang).map(LanguageTag::new)));
+    }
+}
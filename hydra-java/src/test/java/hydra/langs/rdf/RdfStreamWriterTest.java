@@ -0,0 +1,175 @@
+package hydra.langs.rdf;
+
+import hydra.langs.rdf.syntax.BlankNode;
+import hydra.langs.rdf.syntax.Description;
+import hydra.langs.rdf.syntax.Graph;
+import hydra.langs.rdf.syntax.Iri;
+import hydra.langs.rdf.syntax.LanguageTag;
+import hydra.langs.rdf.syntax.Literal;
+import hydra.langs.rdf.syntax.Node;
+import hydra.langs.rdf.syntax.Quad;
+import hydra.langs.rdf.syntax.Resource;
+import hydra.langs.rdf.syntax.Triple;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class RdfStreamWriterTest {
+    private static final String EX = "http://example.org/";
+    private static final String XSD = "http://www.w3.org/2001/XMLSchema#";
+    private static final String LANG_STRING = "http://www.w3.org/1999/02/22-rdf-syntax-ns#langString";
+
+    private static final List<Triple> TRIPLES = Arrays.asList(
+        new Triple(iri("s"), new Iri(EX + "p"), new Node.Iri(new Iri(EX + "o"))),
+        new Triple(iri("s"), new Iri(EX + "p"), new Node.Bnode(new BlankNode("b1"))),
+        new Triple(bnode("b1"), new Iri(EX + "name"), literal("plain", XSD + "string", null)),
+        new Triple(bnode("b1"), new Iri(EX + "name"), literal("chat", LANG_STRING, "fr")),
+        new Triple(bnode("b1"), new Iri(EX + "name"), literal("colour", LANG_STRING, "en-GB")),
+        new Triple(iri("s"), new Iri(EX + "age"), literal("42", XSD + "int", null)),
+        new Triple(iri("s"), new Iri(EX + "when"), literal("2024-01-01", XSD + "date", null)),
+        new Triple(iri("s"), new Iri(EX + "note"),
+            literal("tab\there\nnew line \"quoted\" back\\slash café 😀", XSD + "string", null)),
+        new Triple(iri("caf%C3%A9?q=1#frag"), new Iri(EX + "p"), new Node.Iri(new Iri(EX + "o"))));
+
+    @Test
+    public void checkTriplesRoundTripThroughNtriples() {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        assertEquals(TRIPLES.size(), Serde.writeNtriples(TRIPLES.iterator(), bos));
+        assertEquals(TRIPLES, readTriples(bos.toByteArray()));
+
+        // Each triple is written on its own line, with its literal escaped
+        String text = new String(bos.toByteArray(), StandardCharsets.UTF_8);
+        assertEquals(TRIPLES.size(), text.split("\n").length);
+        assertTrue(text.startsWith("<http://example.org/s> <http://example.org/p> <http://example.org/o> .\n"));
+        assertTrue(text.contains("\"chat\"@fr"));
+        assertTrue(text.contains("\"42\"^^<http://www.w3.org/2001/XMLSchema#int>"));
+        assertTrue(text.contains("\\t") && text.contains("\\n") && text.contains("\\\"") && text.contains("\\\\"));
+    }
+
+    @Test
+    public void checkQuadsRoundTripThroughNquads() {
+        List<Quad> quads = new ArrayList<>();
+        for (int i = 0; i < TRIPLES.size(); i++) {
+            Triple t = TRIPLES.get(i);
+            quads.add(new Quad(t.subject, t.predicate, t.object,
+                i % 2 == 0 ? Optional.empty() : Optional.of(new Iri(EX + "g" + i))));
+        }
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        assertEquals(quads.size(), Serde.writeNquads(quads.iterator(), bos));
+
+        NtriplesReader reader = new NtriplesReader(new ByteArrayInputStream(bos.toByteArray()));
+        List<Quad> read = new ArrayList<>();
+        reader.forEachQuad(read::add);
+        assertEquals(quads, read);
+    }
+
+    @Test
+    public void checkTriplesRoundTripThroughTurtle() throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (RdfStreamWriter writer = new RdfStreamWriter(bos, RDFFormat.TURTLE)) {
+            writer.namespace("ex", EX);
+            writer.writeTriples(TRIPLES.iterator());
+        }
+        assertTrue(new String(bos.toByteArray(), StandardCharsets.UTF_8).startsWith("@prefix ex: <" + EX + "> ."));
+
+        List<Triple> read = new ArrayList<>();
+        NtriplesReader.parse(new ByteArrayInputStream(bos.toByteArray()), RDFFormat.TURTLE,
+            q -> read.add(new Triple(q.subject, q.predicate, q.object)));
+        // Statements are grouped by subject, and blank nodes are relabeled by the Turtle parser
+        assertEquals(TRIPLES.size(), read.size());
+        assertEquals(withoutBnodes(TRIPLES), withoutBnodes(read));
+        Set<Node> linked = new HashSet<>();
+        Set<Node> described = new HashSet<>();
+        for (Triple t : read) {
+            if (t.object instanceof Node.Bnode) {
+                linked.add(t.object);
+            }
+            if (t.subject instanceof Resource.Bnode) {
+                described.add(new Node.Bnode(((Resource.Bnode) t.subject).value));
+            }
+        }
+        assertEquals(1, linked.size());
+        assertEquals(linked, described);
+    }
+
+    @Test
+    public void checkToNtriplesWritesNtriples() {
+        Description description = new Description(new Node.Iri(new Iri(EX + "s")), new Graph(new LinkedHashSet<>(
+            TRIPLES.subList(0, 2))));
+        String expected = "<http://example.org/s> <http://example.org/p> <http://example.org/o> .\n"
+            + "<http://example.org/s> <http://example.org/p> _:b1 .\n";
+        assertEquals(expected, Serde.toNtriples(Collections.singletonList(description)));
+        assertEquals(expected, Serde.toNtriples(description.graph));
+        assertEquals(TRIPLES, readTriples(Serde.toNtriples(TRIPLES).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void checkOutputIsBufferedAndFlushed() {
+        List<Triple> triples = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            triples.add(new Triple(iri("s" + i), new Iri(EX + "p" + (i % 3)), literal("value " + i, XSD + "string", null)));
+        }
+
+        // Many statements through a small buffer, which is passed on as it fills
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        RdfStreamWriter writer = new RdfStreamWriter(bos, RDFFormat.NTRIPLES, 64);
+        writer.writeTriples(triples.subList(0, 500).iterator());
+        assertTrue(bos.size() > 0);
+        writer.writeTriples(triples.subList(500, 1000).iterator());
+        assertEquals(1000, writer.count());
+        writer.close();
+        writer.close();
+        assertEquals(triples, readTriples(bos.toByteArray()));
+
+        // The same statements, to a channel
+        ByteArrayOutputStream channel = new ByteArrayOutputStream();
+        try (RdfStreamWriter channelWriter = new RdfStreamWriter(Channels.newChannel(channel), RDFFormat.NTRIPLES)) {
+            channelWriter.writeTriples(triples.iterator());
+        }
+        assertArrayEquals(bos.toByteArray(), channel.toByteArray());
+    }
+
+    private static Set<Triple> withoutBnodes(List<Triple> triples) {
+        Set<Triple> result = new HashSet<>();
+        for (Triple t : triples) {
+            if (!(t.subject instanceof Resource.Bnode) && !(t.object instanceof Node.Bnode)) {
+                result.add(t);
+            }
+        }
+        return result;
+    }
+
+    private static List<Triple> readTriples(byte[] bytes) {
+        List<Triple> triples = new ArrayList<>();
+        new NtriplesReader(new ByteArrayInputStream(bytes)).triples().forEachRemaining(triples::add);
+        return triples;
+    }
+
+    private static Resource iri(String local) {
+        return new Resource.Iri(new Iri(EX + local));
+    }
+
+    private static Resource bnode(String label) {
+        return new Resource.Bnode(new BlankNode(label));
+    }
+
+    private static Node literal(String lexicalForm, String datatype, String lang) {
+        return new Node.Literal(new Literal(lexicalForm, new Iri(datatype),
+            Optional.ofNullable(lang).map(LanguageTag::new)));
+    }
+}
@@ -0,0 +1,223 @@
+package hydra.langs.yaml;
+
+import hydra.Flows;
+import hydra.HydraTestBase;
+import hydra.compute.Coder;
+import hydra.core.Name;
+import hydra.core.Term;
+import hydra.core.Type;
+import hydra.dsl.Terms;
+import hydra.dsl.Types;
+import hydra.graph.Graph;
+import hydra.langs.yaml.model.Node;
+import hydra.langs.yaml.model.Scalar;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+import static hydra.dsl.Types.field;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class YamlSerdeTest extends HydraTestBase {
+    private static final Type<String> PERSON = Types.record("Person",
+        field("name", Types.string()),
+        field("age", Types.int32()),
+        field("email", Types.optional(Types.string())),
+        field("tags", Types.list(Types.string())),
+        field("scores", Types.map(Types.string(), Types.float64())));
+
+    @Test
+    public void checkNodesAreWrittenInBlockStyle() {
+        Map<Node, Node> inner = new LinkedHashMap<>();
+        inner.put(str("x"), integer(1));
+        inner.put(str("z"), new Node.Sequence(Collections.emptyList()));
+        Map<Node, Node> entries = new LinkedHashMap<>();
+        entries.put(str("name"), str("Ada Lovelace"));
+        entries.put(str("tags"), new Node.Sequence(Arrays.asList(str("math"), new Node.Mapping(inner))));
+        entries.put(str("nested"), new Node.Mapping(inner));
+        entries.put(str("none"), new Node.Scalar(new Scalar.Null()));
+        entries.put(str("empty"), new Node.Mapping(Collections.emptyMap()));
+        Node node = new Node.Mapping(entries);
+
+        String expected = "name: Ada Lovelace\n"
+            + "tags:\n"
+            + "  - math\n"
+            + "  - x: 1\n"
+            + "    z: []\n"
+            + "nested:\n"
+            + "  x: 1\n"
+            + "  z: []\n"
+            + "none: null\n"
+            + "empty: {}\n";
+        assertEquals(expected, Serde.hydraYamlToString(node));
+        assertEquals(node, YamlReader.parse(expected));
+    }
+
+    @Test
+    public void checkAmbiguousScalarsRoundTrip() {
+        List<Node> items = new ArrayList<>();
+        for (String s : new String[] {
+            "", "yes", "No", "null", "~", "123", "1.5", "0x1f", "-", "- item", "a: b", "a:b", "trailing:", "x #y",
+            "#comment", " padded ", "line\nbreak", "tab\there", "quote\"d", "back\\slash", "'single'", "{braces}",
+            "[brackets]", "*alias", "&anchor", "!tag", "%directive", "@at", "café 😀", "\u0001\u007f ",
+            "2001-12-14"}) {
+            items.add(str(s));
+        }
+        items.add(integer(-42));
+        items.add(new Node.Scalar(new Scalar.Int(new BigInteger("123456789012345678901234567890"))));
+        items.add(new Node.Scalar(new Scalar.Float_(2.5)));
+        items.add(new Node.Scalar(new Scalar.Float_(1e-300)));
+        items.add(new Node.Scalar(new Scalar.Float_(Double.NaN)));
+        items.add(new Node.Scalar(new Scalar.Float_(Double.NEGATIVE_INFINITY)));
+        items.add(new Node.Scalar(new Scalar.Bool(false)));
+
+        // Non-scalar and very long keys are written as explicit keys
+        Map<Node, Node> entries = new LinkedHashMap<>();
+        entries.put(new Node.Sequence(Arrays.asList(integer(1), integer(2))), str("pair"));
+        entries.put(str(String.join("", Collections.nCopies(100, "long key "))), integer(3));
+        entries.put(integer(4), new Node.Sequence(Arrays.asList(new Node.Sequence(Arrays.asList(str("a"))))));
+        items.add(new Node.Mapping(entries));
+
+        Node node = new Node.Sequence(items);
+        assertEquals(node, YamlReader.parse(Serde.hydraYamlToString(node)));
+        assertEquals(node, Flows.fromFlow(Serde.bytesToHydraYaml(Serde.hydraYamlToBytes(node))));
+    }
+
+    @Test
+    public void checkDocumentsAreStreamedOneAtATime() {
+        List<Node> documents = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            documents.add(new Node.Mapping(Collections.singletonMap(str("id"), integer(i))));
+        }
+        documents.add(str("last"));
+
+        StringWriter sw = new StringWriter();
+        Serde.writeDocuments(documents.iterator(), sw);
+        String yaml = sw.toString();
+        assertTrue(yaml.startsWith("id: 0\n---\nid: 1\n"));
+
+        Iterator<Node> reader = Serde.readDocuments(new StringReader(yaml));
+        List<Node> read = new ArrayList<>();
+        reader.forEachRemaining(read::add);
+        assertEquals(documents, read);
+
+        // Documents before a syntax error are still read
+        Iterator<Node> partial = Serde.readDocuments(new StringReader("a: 1\n---\nb: [\n"));
+        assertEquals(new Node.Mapping(Collections.singletonMap(str("a"), integer(1))), partial.next());
+        assertThrows(YamlReader.ParseException.class, partial::next);
+
+        assertThrows(YamlReader.ParseException.class, () -> YamlReader.parse("a: 1\n---\nb: 2\n"));
+        assertFails(Serde.stringToHydraYaml("a: [1, 2"));
+    }
+
+    @Test
+    public void checkAliases() {
+        // An alias to an earlier node is read as a copy of that node
+        Node shared = YamlReader.parse("a: &x [1, 2]\nb: *x\n");
+        Node items = new Node.Sequence(Arrays.asList(integer(1), integer(2)));
+        Map<Node, Node> entries = new LinkedHashMap<>();
+        entries.put(str("a"), items);
+        entries.put(str("b"), items);
+        assertEquals(new Node.Mapping(entries), shared);
+
+        // An alias to an enclosing node is rejected
+        assertThrows(YamlReader.ParseException.class, () -> YamlReader.parse("&a [*a]"));
+        assertThrows(YamlReader.ParseException.class, () -> YamlReader.parse("&a {x: [1, *a]}"));
+    }
+
+    @Test
+    public void checkInputIsLimitedByDefault() {
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() <= YamlReader.DEFAULT_MAX_CHARACTERS) {
+            sb.append("- 0123456789\n");
+        }
+        String yaml = sb.toString();
+        assertThrows(YamlReader.ParseException.class, () -> YamlReader.parse(yaml));
+        assertTrue(new YamlReader(new StringReader(yaml), Integer.MAX_VALUE).next() instanceof Node.Sequence);
+    }
+
+    @Test
+    public void checkRecordsAreEncodedAndDecoded() {
+        Graph<String> graph = emptyGraph();
+        Coder<Graph<String>, Graph<String>, Term<String>, String> coder
+            = Flows.fromFlow(Serde.yamlStringCoder(PERSON));
+
+        Term<String> person = person(Optional.empty());
+        String expected = "name: Ada\n"
+            + "age: 36\n"
+            + "tags:\n"
+            + "  - math\n"
+            + "  - code\n"
+            + "scores:\n"
+            + "  chess: 0.5\n";
+        assertSucceedsWith(expected, coder.encode.apply(person), graph);
+        assertRoundTripIsNoop(coder, graph, person);
+        assertRoundTripIsNoop(coder, graph, person(Optional.of(Terms.string("ada@example.org"))));
+
+        // Unknown fields are ignored
+        assertSucceedsWith(person, coder.decode.apply(expected + "nickname: Countess\n"), graph);
+
+        // Integers are accepted as floats
+        Coder<Graph<String>, Graph<String>, Term<String>, Node> floats
+            = Flows.fromFlow(YamlCoder.yamlCoder(Types.float64()));
+        assertSucceedsWith(Terms.float64(1.0), floats.decode.apply(integer(1)), graph);
+
+        // Terms and documents which do not match the type are rejected
+        assertFails(coder.encode.apply(Terms.string("Ada")), graph);
+        assertFails(coder.decode.apply("age: 1.5\n"), graph);
+        assertFails(coder.decode.apply("name: Ada\nage: 3000000000\ntags: []\nscores: {}\n"), graph);
+    }
+
+    @Test
+    public void checkUnionsAndRecursiveTypes() {
+        Graph<String> graph = emptyGraph();
+        Name treeName = new Name("Tree");
+        Type<String> tree = Types.union(treeName,
+            field("leaf", Types.uint8()),
+            field("node", Types.list(Types.variable("Tree"))));
+        Map<Name, Type<String>> types = new HashMap<>();
+        types.put(treeName, tree);
+
+        Term<String> term = Terms.inject(treeName, Terms.field("node", Terms.list(
+            Terms.inject(treeName, Terms.field("leaf", Terms.uint8((byte) 200))),
+            Terms.inject(treeName, Terms.field("node", Terms.list())))));
+        Node node = new Node.Mapping(Collections.singletonMap(str("node"), new Node.Sequence(Arrays.asList(
+            new Node.Mapping(Collections.singletonMap(str("leaf"), integer(200))),
+            new Node.Mapping(Collections.singletonMap(str("node"), new Node.Sequence(Collections.emptyList())))))));
+
+        Coder<Graph<String>, Graph<String>, Term<String>, Node> coder
+            = Flows.fromFlow(YamlCoder.yamlCoder(tree, types));
+        assertSucceedsWith(node, coder.encode.apply(term), graph);
+        assertRoundTripIsNoop(coder, graph, term);
+        assertFails(coder.decode.apply(new Node.Mapping(Collections.singletonMap(str("leaf"), integer(256)))), graph);
+        assertFails(coder.decode.apply(new Node.Mapping(Collections.singletonMap(str("branch"), integer(1)))), graph);
+    }
+
+    private static Node str(String s) {
+        return new Node.Scalar(new Scalar.Str(s));
+    }
+
+    private static Node integer(int i) {
+        return new Node.Scalar(new Scalar.Int(BigInteger.valueOf(i)));
+    }
+
+    private static Term<String> person(Optional<Term<String>> email) {
+        return Terms.record("Person",
+            Terms.field("name", Terms.string("Ada")),
+            Terms.field("age", Terms.int32(36)),
+            Terms.field("email", Terms.optional(email)),
+            Terms.field("tags", Terms.list(Terms.string("math"), Terms.string("code"))),
+            Terms.field("scores", Terms.map(Collections.singletonMap(Terms.string("chess"), Terms.float64(0.5)))));
+    }
+}
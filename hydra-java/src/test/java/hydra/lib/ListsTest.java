@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 
 import hydra.lib.strings.ToUpper;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -11,6 +12,7 @@ import java.util.function.Function;
 
 import hydra.lib.lists.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class ListsTest {
@@ -35,6 +37,34 @@ public class ListsTest {
         assertEquals(Collections.emptyList(), Concat.apply(Collections.emptyList()));
     }
 
+    @Test
+    public void reverseIsCorrect() {
+        List<Integer> list = Collections.unmodifiableList(Arrays.asList(1, 2, 3));
+        assertEquals(Arrays.asList(3, 2, 1), Reverse.apply(list));
+        assertEquals(Arrays.asList(1, 2, 3), list);
+        assertEquals(Collections.emptyList(), Reverse.apply(Collections.emptyList()));
+    }
+
+    @Test
+    public void consIsCorrect() {
+        List<Integer> original = Arrays.asList(2, 3);
+        assertEquals(Arrays.asList(1, 2, 3), Cons.apply(1, original));
+        assertEquals(Arrays.asList(2, 3), original);
+
+        // Consing onto a list, and taking its tail, share the rest of the list
+        List<Integer> list = Collections.emptyList();
+        for (int i = 9999; i >= 0; i--) {
+            list = Cons.apply(i, list);
+        }
+        assertEquals(10000, Length.apply(list));
+        assertEquals(0, Head.apply(list));
+        assertSame(list, Tail.apply(Cons.apply(-1, list)));
+        assertEquals(Arrays.asList(9998, 9999), Tail.apply(list).subList(9997, 9999));
+        assertEquals(list.hashCode(), new ArrayList<>(list).hashCode());
+        assertEquals(new ArrayList<>(list), list);
+        assertEquals(list, new ArrayList<>(list));
+    }
+
     @Test
     public void headIsCorrect() {
         assertEquals(1, Head.apply(Arrays.asList(1, 2, 3)));
@@ -0,0 +1,76 @@
+package hydra.lib;
+
+import org.junit.jupiter.api.Test;
+
+import hydra.core.Tuple;
+import hydra.tools.PersistentMap;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import hydra.lib.maps.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MapsTest {
+    @Test
+    public void emptyIsCorrect() {
+        assertEquals(true, Empty.apply().isEmpty());
+    }
+
+    @Test
+    public void fromListIsCorrect() {
+        Map<String, Integer> testMap = FromList.apply(Arrays.asList(
+                new Tuple.Tuple2<>("one", 1), new Tuple.Tuple2<>("two", 2), new Tuple.Tuple2<>("one", 3)));
+        Map<String, Integer> comparisonMap = new HashMap<>();
+        comparisonMap.put("one", 3);
+        comparisonMap.put("two", 2);
+
+        assertEquals(comparisonMap, testMap);
+    }
+
+    @Test
+    public void insertIsCorrect() {
+        Map<String, Integer> testMap = new HashMap<>();
+        testMap.put("one", 1);
+        Map<String, Integer> newMap = Insert.apply("two", 2, testMap);
+        Map<String, Integer> comparisonMap = new HashMap<>(testMap);
+        comparisonMap.put("two", 2);
+
+        assertEquals(1, testMap.size());
+        assertEquals(comparisonMap, newMap);
+        assertEquals(Optional.of(1), Lookup.apply("one", Insert.apply("two", 3, newMap)));
+        assertEquals(Optional.of(3), Lookup.apply("two", Insert.apply("two", 3, newMap)));
+        assertEquals(Optional.of(2), Lookup.apply("two", newMap));
+    }
+
+    @Test
+    public void insertAndRemoveManyEntries() {
+        Map<String, Integer> map = Empty.apply();
+        Map<String, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 10000; i++) {
+            map = Insert.apply("k" + i, i, map);
+            expected.put("k" + i, i);
+        }
+        // "Aa" and "BB" have the same hash code
+        map = Insert.apply("BB", -2, Insert.apply("Aa", -1, map));
+        expected.put("Aa", -1);
+        expected.put("BB", -2);
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+
+        PersistentMap<String, Integer> pmap = (PersistentMap<String, Integer>) map;
+        for (int i = 0; i < 10000; i += 2) {
+            pmap = pmap.minus("k" + i);
+            expected.remove("k" + i);
+        }
+        pmap = pmap.minus("Aa").minus("missing");
+        expected.remove("Aa");
+        assertEquals(expected, pmap);
+        assertEquals(Optional.of(0), Lookup.apply("k0", map));
+        assertEquals(Optional.empty(), Lookup.apply("k0", pmap));
+        assertEquals(Optional.of(-2), Lookup.apply("BB", pmap));
+    }
+}
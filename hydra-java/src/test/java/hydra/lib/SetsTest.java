@@ -43,6 +43,36 @@ public class SetsTest {
         assertEquals(newSet, new HashSet(Arrays.asList(1, 2, 3)));
     }
 
+    @Test
+    public void insertAndRemoveManyElements() {
+        Set<String> set = Empty.apply();
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < 10000; i++) {
+            set = Insert.apply("s" + i, set);
+            expected.add("s" + i);
+        }
+        // "Aa" and "BB" have the same hash code
+        set = Insert.apply("BB", Insert.apply("Aa", set));
+        expected.add("Aa");
+        expected.add("BB");
+        Set<String> before = set;
+        for (int i = 0; i < 10000; i += 2) {
+            set = Remove.apply("s" + i, set);
+            expected.remove("s" + i);
+        }
+        set = Remove.apply("Aa", set);
+        expected.remove("Aa");
+
+        assertEquals(expected, set);
+        assertEquals(set, expected);
+        assertEquals(expected.hashCode(), set.hashCode());
+        assertEquals(10002, before.size());
+        assertEquals(true, Contains.apply("s0", before));
+        assertEquals(false, Contains.apply("s0", set));
+        assertEquals(true, Contains.apply("BB", set));
+        assertEquals(false, Contains.apply("Aa", set));
+    }
+
     @Test
     public void isEmptyIsCorrect() {
         HashSet<Integer> emptySet = new HashSet();
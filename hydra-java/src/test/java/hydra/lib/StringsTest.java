@@ -1,13 +1,23 @@
 package hydra.lib;
 
+import hydra.Flows;
+import hydra.compute.Flow;
+import hydra.core.Term;
+import hydra.dsl.Terms;
+import hydra.graph.Graph;
+import hydra.tools.FlowException;
+import hydra.tools.PackedList;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 // import static hydra.dsl.prims.Strings.*;
 import hydra.lib.strings.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class StringsTest {
     @Test
@@ -22,6 +32,9 @@ public class StringsTest {
         assertEquals(0, Length.apply(""));
         assertEquals(1, Length.apply("a"));
         assertEquals(3, Length.apply("one"));
+
+        // Characters outside of the Basic Multilingual Plane count once, although Java stores them as surrogate pairs
+        assertEquals(3, Length.apply("a\uD83D\uDE00b"));
     }
 
     @Test
@@ -40,19 +53,42 @@ public class StringsTest {
 
         assertEquals(Arrays.asList("", "a", "b", "c"), SplitOn.apply("", "abc"));
         assertEquals(Collections.singletonList(""), SplitOn.apply("", ""));
+
+        assertEquals(Arrays.asList("caf", " cr", "me"), SplitOn.apply("\u00e9", "caf\u00e9 cr\u00e9me"));
+        assertEquals(Arrays.asList("", "a", "\uD83D\uDE00", "b"), SplitOn.apply("", "a\uD83D\uDE00b"));
+    }
+
+    @Test
+    public void toListAndFromListAreInverses() {
+        String s = "a\u00e9\uD83D\uDE00";
+        assertEquals(Arrays.asList(97, 0xe9, 0x1F600), ToList.apply(s));
+        assertEquals(s, FromList.apply(ToList.apply(s)));
+
+        // Values outside of the range of code points are rejected, whether or not the list is packed
+        for (int c : new int[] {-1, 0x110000}) {
+            for (int size : new int[] {2, 2 * PackedList.MIN_PACKED_SIZE}) {
+                List<Term<Void>> codePoints = new ArrayList<>(Collections.nCopies(size - 1, Terms.int32(97)));
+                codePoints.add(Terms.int32(c));
+                Flow<Graph<Void>, Term<Void>> flow = new FromList<Void>().toNative().implementation.apply(
+                    Collections.singletonList(Terms.list(codePoints)));
+                assertThrows(FlowException.class, () -> Flows.fromFlow(flow));
+            }
+        }
     }
 
     @Test
-    // TODO: test the behavior of toLower for extended characters. Currently, the implementation just inherits Java's String.toLower()
     public void toLowerIsCorrect() {
         assertEquals("one two three", ToLower.apply("One TWO threE"));
         assertEquals("abc123", ToLower.apply("AbC123"));
+        assertEquals("\u00e9t\u00e9", ToLower.apply("\u00c9T\u00c9"));
     }
 
     @Test
-    // TODO: test the behavior of toUpper for extended characters. Currently, the implementation just inherits Java's String.toUpper()
     public void toUpperIsCorrect() {
         assertEquals("ONE TWO THREE", ToUpper.apply("One TWO threE"));
         assertEquals("ABC123", ToUpper.apply("AbC123"));
+
+        // Case mapping is per character, so the length never changes (String.toUpperCase would give "SS")
+        assertEquals("\u00df", ToUpper.apply("\u00df"));
     }
 }